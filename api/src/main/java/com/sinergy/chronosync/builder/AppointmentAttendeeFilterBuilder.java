@@ -0,0 +1,48 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.appointment.AppointmentAttendee;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link AppointmentAttendee} entities.
+ *
+ * <p>This class extends the {@link BaseFilterBuilder} and implements the
+ * filter criteria for the group session and the customer of attendees.</p>
+ */
+@Builder
+public class AppointmentAttendeeFilterBuilder extends BaseFilterBuilder<AppointmentAttendee> {
+
+	private static final String ID = "id";
+	private static final String APPOINTMENT = "appointment";
+	private static final String CUSTOMER = "customer";
+
+	private Long appointmentId;
+	private Long customerId;
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link AppointmentAttendee} entities.
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link AppointmentAttendee} entities
+	 */
+	@Override
+	public Specification<AppointmentAttendee> toSpecification() {
+		return (root, query, criteriaBuilder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			if (appointmentId != null) {
+				predicates.add(criteriaBuilder.equal(root.get(APPOINTMENT).get(ID), appointmentId));
+			}
+			if (customerId != null) {
+				predicates.add(criteriaBuilder.equal(root.get(CUSTOMER).get(ID), customerId));
+			}
+
+			return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
@@ -0,0 +1,106 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link Appointment} entities.
+ *
+ * <p>This class extends the {@link BaseFilterBuilder} and implements the
+ * filter criteria for appointment attributes such as firm, employees, customer, appointment type,
+ * status and time range.</p>
+ *
+ * <p>The time range selects appointments overlapping {@code [from, to)}. Besides the
+ * overlap condition, the start time is bounded from below by {@code from} minus
+ * {@link Appointment#MAX_DURATION}, so a calendar for many employees is answered by
+ * range scans of the {@code (firm_id, employee_id, start_time)} index.
+ * {@code modifiedAfter} selects appointments changed after that time.</p>
+ */
+@Builder
+public class AppointmentFilterBuilder extends BaseFilterBuilder<Appointment> {
+
+	private static final String ID = "id";
+	private static final String FIRM = "firm";
+	private static final String EMPLOYEE = "employee";
+	private static final String CUSTOMER = "customer";
+	private static final String APPOINTMENT_TYPE = "appointmentType";
+	private static final String STATUS = "status";
+	private static final String START_TIME = "startTime";
+	private static final String END_TIME = "endTime";
+	private static final String MODIFIED_AT = "modifiedAt";
+
+	private Long id;
+	private Long firmId;
+	private Collection<Long> employeeIds;
+	private Long customerId;
+	private Long appointmentTypeId;
+	private AppointmentStatus status;
+	private Instant from;
+	private Instant to;
+	private Instant modifiedAfter;
+	private boolean fetchAppointmentType;
+
+	public List<Predicate> buildPredicates(CriteriaBuilder criteriaBuilder, Root<Appointment> root) {
+		List<Predicate> predicates = new ArrayList<>();
+
+		addEqualPredicate(predicates, root, criteriaBuilder, ID, id);
+		if (firmId != null) {
+			predicates.add(criteriaBuilder.equal(root.get(FIRM).get(ID), firmId));
+		}
+		if (employeeIds != null && !employeeIds.isEmpty()) {
+			predicates.add(root.get(EMPLOYEE).get(ID).in(employeeIds));
+		}
+		if (customerId != null) {
+			predicates.add(criteriaBuilder.equal(root.get(CUSTOMER).get(ID), customerId));
+		}
+		if (appointmentTypeId != null) {
+			predicates.add(criteriaBuilder.equal(root.get(APPOINTMENT_TYPE).get(ID), appointmentTypeId));
+		}
+		addEqualPredicate(predicates, root, criteriaBuilder, STATUS, status);
+
+		Path<Instant> startTime = root.get(START_TIME);
+		if (from != null) {
+			predicates.add(criteriaBuilder.greaterThan(root.get(END_TIME), from));
+			predicates.add(criteriaBuilder.greaterThanOrEqualTo(startTime, from.minus(Appointment.MAX_DURATION)));
+		}
+		if (to != null) {
+			predicates.add(criteriaBuilder.lessThan(startTime, to));
+		}
+		if (modifiedAfter != null) {
+			predicates.add(criteriaBuilder.greaterThan(root.get(MODIFIED_AT), modifiedAfter));
+		}
+		return predicates;
+	}
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link Appointment} entities.
+	 *
+	 * <p>The method constructs a conjunction of predicates based on the
+	 * filter values set in this builder. The appointment type is fetched in the
+	 * same statement only when {@code fetchAppointmentType} is set.</p>
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link Appointment} entities
+	 */
+	@Override
+	public Specification<Appointment> toSpecification() {
+		return (root, query, criteriaBuilder) -> {
+			if (fetchAppointmentType) {
+				addFetch(root, query, APPOINTMENT_TYPE);
+			}
+
+			return criteriaBuilder.and(buildPredicates(criteriaBuilder, root).toArray(new Predicate[0]));
+		};
+	}
+}
@@ -0,0 +1,70 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentResource;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link AppointmentResource} entities.
+ *
+ * <p>This class extends the {@link BaseFilterBuilder} and implements the
+ * filter criteria for the appointment, the resources and the time range of reservations.</p>
+ *
+ * <p>The time range selects reservations overlapping {@code [from, to)}. As for appointments,
+ * the start time is also bounded from below by {@code from} minus {@link Appointment#MAX_DURATION},
+ * so the occupancy of many resources is answered by range scans of the
+ * {@code (resource_id, start_time)} index.</p>
+ */
+@Builder
+public class AppointmentResourceFilterBuilder extends BaseFilterBuilder<AppointmentResource> {
+
+	private static final String ID = "id";
+	private static final String APPOINTMENT = "appointment";
+	private static final String RESOURCE = "resource";
+	private static final String START_TIME = "startTime";
+	private static final String END_TIME = "endTime";
+
+	private Long appointmentId;
+	private Collection<Long> resourceIds;
+	private Instant from;
+	private Instant to;
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link AppointmentResource} entities.
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link AppointmentResource} entities
+	 */
+	@Override
+	public Specification<AppointmentResource> toSpecification() {
+		return (root, query, criteriaBuilder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			if (appointmentId != null) {
+				predicates.add(criteriaBuilder.equal(root.get(APPOINTMENT).get(ID), appointmentId));
+			}
+			if (resourceIds != null) {
+				predicates.add(root.get(RESOURCE).get(ID).in(resourceIds));
+			}
+
+			Path<Instant> startTime = root.get(START_TIME);
+			if (from != null) {
+				predicates.add(criteriaBuilder.greaterThan(root.get(END_TIME), from));
+				predicates.add(criteriaBuilder.greaterThanOrEqualTo(startTime, from.minus(Appointment.MAX_DURATION)));
+			}
+			if (to != null) {
+				predicates.add(criteriaBuilder.lessThan(startTime, to));
+			}
+
+			return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
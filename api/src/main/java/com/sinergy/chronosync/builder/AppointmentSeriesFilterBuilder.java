@@ -0,0 +1,72 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.appointment.AppointmentSeries;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link AppointmentSeries} entities.
+ *
+ * <p>This class extends the {@link BaseFilterBuilder} and implements the
+ * filter criteria for series attributes such as firm, employees, status and time range.</p>
+ *
+ * <p>The time range selects series that may have occurrences overlapping {@code [from, to)}:
+ * series starting before {@code to} that are endless or end after {@code from}.</p>
+ */
+@Builder
+public class AppointmentSeriesFilterBuilder extends BaseFilterBuilder<AppointmentSeries> {
+
+	private static final String ID = "id";
+	private static final String FIRM = "firm";
+	private static final String EMPLOYEE = "employee";
+	private static final String STATUS = "status";
+	private static final String START_TIME = "startTime";
+	private static final String UNTIL_TIME = "untilTime";
+
+	private Long id;
+	private Long firmId;
+	private Collection<Long> employeeIds;
+	private AppointmentStatus status;
+	private Instant from;
+	private Instant to;
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link AppointmentSeries} entities.
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link AppointmentSeries} entities
+	 */
+	@Override
+	public Specification<AppointmentSeries> toSpecification() {
+		return (root, query, criteriaBuilder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			addEqualPredicate(predicates, root, criteriaBuilder, ID, id);
+			if (firmId != null) {
+				predicates.add(criteriaBuilder.equal(root.get(FIRM).get(ID), firmId));
+			}
+			if (employeeIds != null && !employeeIds.isEmpty()) {
+				predicates.add(root.get(EMPLOYEE).get(ID).in(employeeIds));
+			}
+			addEqualPredicate(predicates, root, criteriaBuilder, STATUS, status);
+			if (from != null) {
+				predicates.add(criteriaBuilder.or(
+					criteriaBuilder.isNull(root.get(UNTIL_TIME)),
+					criteriaBuilder.greaterThan(root.get(UNTIL_TIME), from)
+				));
+			}
+			if (to != null) {
+				predicates.add(criteriaBuilder.lessThan(root.get(START_TIME), to));
+			}
+
+			return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
@@ -0,0 +1,48 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.appointment.AppointmentSeriesOverride;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link AppointmentSeriesOverride} entities.
+ *
+ * <p>This class extends the {@link BaseFilterBuilder} and implements the
+ * filter criteria for the series and the original start time of the overridden occurrence.</p>
+ */
+@Builder
+public class AppointmentSeriesOverrideFilterBuilder extends BaseFilterBuilder<AppointmentSeriesOverride> {
+
+	private static final String ID = "id";
+	private static final String SERIES = "series";
+	private static final String ORIGINAL_START_TIME = "originalStartTime";
+
+	private Collection<Long> seriesIds;
+	private Instant originalStartTime;
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link AppointmentSeriesOverride} entities.
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link AppointmentSeriesOverride} entities
+	 */
+	@Override
+	public Specification<AppointmentSeriesOverride> toSpecification() {
+		return (root, query, criteriaBuilder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			if (seriesIds != null && !seriesIds.isEmpty()) {
+				predicates.add(root.get(SERIES).get(ID).in(seriesIds));
+			}
+			addEqualPredicate(predicates, root, criteriaBuilder, ORIGINAL_START_TIME, originalStartTime);
+
+			return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
@@ -23,18 +23,25 @@ import java.util.List;
 @Builder
 public class AppointmentTypeFilterBuilder extends BaseFilterBuilder<AppointmentType> {
 
+	private static final String FIRM = "firm";
+
 	private String name;
 	private Long firmId;
+	private Boolean qualificationRequired;
+	private boolean fetchFirm;
 
 	public List<Predicate> buildPredicates(CriteriaBuilder criteriaBuilder, Root<AppointmentType> root) {
 		List<Predicate> predicates = new ArrayList<>();
 
 		if (firmId != null) {
-			predicates.add(criteriaBuilder.equal(root.get("firm").get("id"), firmId));
+			predicates.add(criteriaBuilder.equal(root.get(FIRM).get("id"), firmId));
 		}
 		if (name != null && !name.isEmpty()) {
 			predicates.add(criteriaBuilder.like(root.get("name"), "%" + name + "%"));
 		}
+		if (qualificationRequired != null) {
+			predicates.add(criteriaBuilder.equal(root.get("qualificationRequired"), qualificationRequired));
+		}
 		return predicates;
 	}
 
@@ -43,14 +50,19 @@ public class AppointmentTypeFilterBuilder extends BaseFilterBuilder<AppointmentT
 	 * {@link Specification} for querying {@link AppointmentType} entities.
 	 *
 	 * <p>The method constructs a conjunction of predicates based on the
-	 * filter values set in this builder.</p>
+	 * filter values set in this builder. The firm is fetched in the same
+	 * statement only when {@code fetchFirm} is set.</p>
 	 *
 	 * @return a {@link Specification} that can be used to filter {@link AppointmentType} entities
 	 */
 	@Override
 	public Specification<AppointmentType> toSpecification() {
-		return (root, query, criteriaBuilder) -> criteriaBuilder.and(
-			buildPredicates(criteriaBuilder, root).toArray(new Predicate[0])
-		);
+		return (root, query, criteriaBuilder) -> {
+			if (fetchFirm) {
+				addFetch(root, query, FIRM);
+			}
+
+			return criteriaBuilder.and(buildPredicates(criteriaBuilder, root).toArray(new Predicate[0]));
+		};
 	}
 }
\ No newline at end of file
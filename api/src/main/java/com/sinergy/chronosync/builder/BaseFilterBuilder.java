@@ -1,6 +1,8 @@
 package com.sinergy.chronosync.builder;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import org.springframework.data.domain.PageRequest;
@@ -107,4 +109,23 @@ public abstract class BaseFilterBuilder<T> implements FilterBuilder<T> {
 			predicates.add(criteriaBuilder.like(root.get(attributeName), "%" + value + "%"));
 		}
 	}
+
+	/**
+	 * Adds a fetch join for the given association to the query.
+	 * <p>
+	 * Associations are mapped as lazy, so use cases that actually read the associated
+	 * entity can fetch it in the same statement instead of triggering an additional select.
+	 * The fetch is skipped for count queries used by pagination and for queries that are
+	 * not selects, since fetch joins are not allowed there.
+	 * </p>
+	 *
+	 * @param root          {@link Root<T>} the root of the query, representing the entity type
+	 * @param query         {@link CriteriaQuery} the query being built, may be {@code null}
+	 * @param attributeName {@link String} the name of the association to fetch
+	 */
+	void addFetch(Root<T> root, CriteriaQuery<?> query, String attributeName) {
+		if (query != null && !Long.class.equals(query.getResultType())) {
+			root.fetch(attributeName, JoinType.LEFT);
+		}
+	}
 }
@@ -0,0 +1,62 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.calendar.CalendarDay;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link CalendarDay} entities.
+ *
+ * <p>This class extends the {@link BaseFilterBuilder} and implements the
+ * filter criteria for the firm, the employees and an inclusive range of days. All criteria
+ * are columns of the primary key.</p>
+ */
+@Builder
+public class CalendarDayFilterBuilder extends BaseFilterBuilder<CalendarDay> {
+
+	private static final String ID = "id";
+	private static final String FIRM_ID = "firmId";
+	private static final String DAY = "day";
+	private static final String EMPLOYEE_ID = "employeeId";
+
+	private Long firmId;
+	private Collection<Long> employeeIds;
+	private LocalDate fromDay;
+	private LocalDate toDay;
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link CalendarDay} entities.
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link CalendarDay} entities
+	 */
+	@Override
+	public Specification<CalendarDay> toSpecification() {
+		return (root, query, criteriaBuilder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+			Path<Object> id = root.get(ID);
+
+			if (firmId != null) {
+				predicates.add(criteriaBuilder.equal(id.get(FIRM_ID), firmId));
+			}
+			if (employeeIds != null && !employeeIds.isEmpty()) {
+				predicates.add(id.get(EMPLOYEE_ID).in(employeeIds));
+			}
+			if (fromDay != null) {
+				predicates.add(criteriaBuilder.greaterThanOrEqualTo(id.get(DAY), fromDay));
+			}
+			if (toDay != null) {
+				predicates.add(criteriaBuilder.lessThanOrEqualTo(id.get(DAY), toDay));
+			}
+
+			return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
@@ -0,0 +1,55 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.user.EmployeeQualification;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link EmployeeQualification} entities.
+ *
+ * <p>This class extends the {@link BaseFilterBuilder} and implements the
+ * filter criteria for the firm, the employee and the appointment type of qualifications.</p>
+ */
+@Builder
+public class EmployeeQualificationFilterBuilder extends BaseFilterBuilder<EmployeeQualification> {
+
+	private static final String ID = "id";
+	private static final String FIRM = "firm";
+	private static final String EMPLOYEE = "employee";
+	private static final String APPOINTMENT_TYPE = "appointmentType";
+
+	private Long id;
+	private Long firmId;
+	private Long employeeId;
+	private Long appointmentTypeId;
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link EmployeeQualification} entities.
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link EmployeeQualification} entities
+	 */
+	@Override
+	public Specification<EmployeeQualification> toSpecification() {
+		return (root, query, criteriaBuilder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			addEqualPredicate(predicates, root, criteriaBuilder, ID, id);
+			if (firmId != null) {
+				predicates.add(criteriaBuilder.equal(root.get(FIRM).get(ID), firmId));
+			}
+			if (employeeId != null) {
+				predicates.add(criteriaBuilder.equal(root.get(EMPLOYEE).get(ID), employeeId));
+			}
+			if (appointmentTypeId != null) {
+				predicates.add(criteriaBuilder.equal(root.get(APPOINTMENT_TYPE).get(ID), appointmentTypeId));
+			}
+
+			return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
@@ -0,0 +1,60 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.firm.FirmClosure;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link FirmClosure} entities.
+ *
+ * <p>This class extends the {@link BaseFilterBuilder} and implements the
+ * filter criteria for the firm, the holiday calendar and the dates of the closures. The date range
+ * {@code [from, to]} selects closures covering at least one of its days.</p>
+ */
+@Builder
+public class FirmClosureFilterBuilder extends BaseFilterBuilder<FirmClosure> {
+
+	private static final String ID = "id";
+	private static final String FIRM = "firm";
+	private static final String START_DATE = "startDate";
+	private static final String END_DATE = "endDate";
+	private static final String CALENDAR = "calendar";
+
+	private Long id;
+	private Long firmId;
+	private String calendar;
+	private LocalDate from;
+	private LocalDate to;
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link FirmClosure} entities.
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link FirmClosure} entities
+	 */
+	@Override
+	public Specification<FirmClosure> toSpecification() {
+		return (root, query, criteriaBuilder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			addEqualPredicate(predicates, root, criteriaBuilder, ID, id);
+			if (firmId != null) {
+				predicates.add(criteriaBuilder.equal(root.get(FIRM).get(ID), firmId));
+			}
+			addEqualPredicate(predicates, root, criteriaBuilder, CALENDAR, calendar);
+			if (from != null) {
+				predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get(END_DATE), from));
+			}
+			if (to != null) {
+				predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get(START_DATE), to));
+			}
+
+			return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
@@ -0,0 +1,57 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.idempotency.IdempotencyRecord;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link IdempotencyRecord} entities.
+ *
+ * <p>This class extends the {@link BaseFilterBuilder} and implements the
+ * filter criteria for the owner and the key of a stored response, whether the response is
+ * still pending, and for its expiry.</p>
+ */
+@Builder
+public class IdempotencyRecordFilterBuilder extends BaseFilterBuilder<IdempotencyRecord> {
+
+	private static final String USERNAME = "username";
+	private static final String IDEMPOTENCY_KEY = "idempotencyKey";
+	private static final String EXPIRES_AT = "expiresAt";
+	private static final String RESPONSE_STATUS = "responseStatus";
+
+	private String username;
+	private String idempotencyKey;
+	private Boolean pending;
+	private Instant expiredBefore;
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link IdempotencyRecord} entities.
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link IdempotencyRecord} entities
+	 */
+	@Override
+	public Specification<IdempotencyRecord> toSpecification() {
+		return (root, query, criteriaBuilder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			addEqualPredicate(predicates, root, criteriaBuilder, USERNAME, username);
+			addEqualPredicate(predicates, root, criteriaBuilder, IDEMPOTENCY_KEY, idempotencyKey);
+			if (pending != null) {
+				predicates.add(pending
+					? criteriaBuilder.isNull(root.get(RESPONSE_STATUS))
+					: criteriaBuilder.isNotNull(root.get(RESPONSE_STATUS)));
+			}
+			if (expiredBefore != null) {
+				predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get(EXPIRES_AT), expiredBefore));
+			}
+
+			return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
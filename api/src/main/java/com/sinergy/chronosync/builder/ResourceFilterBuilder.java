@@ -0,0 +1,55 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.resource.Resource;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link Resource} entities.
+ *
+ * <p>This class extends the {@link BaseFilterBuilder} and implements the
+ * filter criteria for the firm, the IDs and the kinds of the resources.</p>
+ */
+@Builder
+public class ResourceFilterBuilder extends BaseFilterBuilder<Resource> {
+
+	private static final String ID = "id";
+	private static final String FIRM = "firm";
+	private static final String KIND = "kind";
+
+	private Long id;
+	private Long firmId;
+	private Collection<Long> ids;
+	private Collection<String> kinds;
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link Resource} entities.
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link Resource} entities
+	 */
+	@Override
+	public Specification<Resource> toSpecification() {
+		return (root, query, criteriaBuilder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			addEqualPredicate(predicates, root, criteriaBuilder, ID, id);
+			if (firmId != null) {
+				predicates.add(criteriaBuilder.equal(root.get(FIRM).get(ID), firmId));
+			}
+			if (ids != null) {
+				predicates.add(root.get(ID).in(ids));
+			}
+			if (kinds != null) {
+				predicates.add(root.get(KIND).in(kinds));
+			}
+
+			return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
@@ -14,7 +14,7 @@ import java.util.List;
  *
  * <p>This class extends the {@link BaseFilterBuilder} and implements the
  * filter criteria for user attributes such as ID, first name, last name,
- * identification number, address, phone, email, username, and user role.</p>
+ * identification number, address, phone, email, username, user role and firm.</p>
  *
  * <p>The builder uses the {@link Specification} interface to dynamically
  * create predicates based on the provided filter values. If a filter value is
@@ -32,6 +32,7 @@ public class UserFilterBuilder extends BaseFilterBuilder<User> {
 	private static final String EMAIL = "email";
 	private static final String USERNAME = "username";
 	private static final String ROLE = "role";
+	private static final String FIRM = "firm";
 
 	private Long id;
 	private String firstName;
@@ -42,6 +43,8 @@ public class UserFilterBuilder extends BaseFilterBuilder<User> {
 	private String email;
 	private String username;
 	private UserRole role;
+	private Long firmId;
+	private boolean fetchFirm;
 
 	/**
 	 * Converts the filter criteria defined in this builder into a
@@ -50,7 +53,10 @@ public class UserFilterBuilder extends BaseFilterBuilder<User> {
 	 * <p>The method constructs a conjunction of predicates based on the
 	 * filter values set in this builder. Each non-null and non-empty filter
 	 * value will create a corresponding predicate using the LIKE operator for
-	 * string fields and the EQUAL operator for the ID and role fields.</p>
+	 * string fields and the EQUAL operator for the ID, username and role fields.
+	 * Username is matched exactly, since it identifies the user and its lookup
+	 * is served by the username index. The firm is fetched in the same statement
+	 * only when {@code fetchFirm} is set.</p>
 	 *
 	 * @return a {@link Specification} that can be used to filter {@link User} entities
 	 */
@@ -58,6 +64,10 @@ public class UserFilterBuilder extends BaseFilterBuilder<User> {
 		return (root, query, criteriaBuilder) -> {
 			List<Predicate> predicates = new ArrayList<>();
 
+			if (fetchFirm) {
+				addFetch(root, query, FIRM);
+			}
+
 			addEqualPredicate(predicates, root, criteriaBuilder, ID, id);
 			addLikePredicate(predicates, root, criteriaBuilder, FIRST_NAME, firstName);
 			addLikePredicate(predicates, root, criteriaBuilder, LAST_NAME, lastName);
@@ -65,8 +75,11 @@ public class UserFilterBuilder extends BaseFilterBuilder<User> {
 			addLikePredicate(predicates, root, criteriaBuilder, ADDRESS, address);
 			addLikePredicate(predicates, root, criteriaBuilder, PHONE, phone);
 			addLikePredicate(predicates, root, criteriaBuilder, EMAIL, email);
-			addLikePredicate(predicates, root, criteriaBuilder, USERNAME, username);
+			addEqualPredicate(predicates, root, criteriaBuilder, USERNAME, username);
 			addEqualPredicate(predicates, root, criteriaBuilder, ROLE, role != null ? role.name() : null);
+			if (firmId != null) {
+				predicates.add(criteriaBuilder.equal(root.get(FIRM).get(ID), firmId));
+			}
 
 			return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
 		};
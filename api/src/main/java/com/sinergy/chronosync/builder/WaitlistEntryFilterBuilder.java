@@ -0,0 +1,75 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.waitlist.WaitlistEntry;
+import com.sinergy.chronosync.model.waitlist.WaitlistEntryStatus;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link WaitlistEntry} entities.
+ *
+ * <p>This class extends the {@link BaseFilterBuilder} and implements the
+ * filter criteria for the firm, the customer, the appointment type, the status and the hold of
+ * waitlist entries. {@code windowEndAfter} selects entries whose window has not ended at that time,
+ * {@code offerExpiresBefore} entries whose offered hold expired before that time.</p>
+ */
+@Builder
+public class WaitlistEntryFilterBuilder extends BaseFilterBuilder<WaitlistEntry> {
+
+	private static final String ID = "id";
+	private static final String FIRM = "firm";
+	private static final String CUSTOMER = "customer";
+	private static final String APPOINTMENT_TYPE = "appointmentType";
+	private static final String STATUS = "status";
+	private static final String HOLD_ID = "holdId";
+	private static final String WINDOW_END = "windowEnd";
+	private static final String OFFER_EXPIRES_AT = "offerExpiresAt";
+
+	private Long id;
+	private Long firmId;
+	private Long customerId;
+	private Long appointmentTypeId;
+	private WaitlistEntryStatus status;
+	private String holdId;
+	private Instant windowEndAfter;
+	private Instant offerExpiresBefore;
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link WaitlistEntry} entities.
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link WaitlistEntry} entities
+	 */
+	@Override
+	public Specification<WaitlistEntry> toSpecification() {
+		return (root, query, criteriaBuilder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			addEqualPredicate(predicates, root, criteriaBuilder, ID, id);
+			if (firmId != null) {
+				predicates.add(criteriaBuilder.equal(root.get(FIRM).get(ID), firmId));
+			}
+			if (customerId != null) {
+				predicates.add(criteriaBuilder.equal(root.get(CUSTOMER).get(ID), customerId));
+			}
+			if (appointmentTypeId != null) {
+				predicates.add(criteriaBuilder.equal(root.get(APPOINTMENT_TYPE).get(ID), appointmentTypeId));
+			}
+			addEqualPredicate(predicates, root, criteriaBuilder, STATUS, status);
+			addEqualPredicate(predicates, root, criteriaBuilder, HOLD_ID, holdId);
+			if (windowEndAfter != null) {
+				predicates.add(criteriaBuilder.greaterThan(root.get(WINDOW_END), windowEndAfter));
+			}
+			if (offerExpiresBefore != null) {
+				predicates.add(criteriaBuilder.lessThan(root.get(OFFER_EXPIRES_AT), offerExpiresBefore));
+			}
+
+			return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
@@ -0,0 +1,55 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.workingHours.WorkingHoursOverride;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link WorkingHoursOverride} entities.
+ *
+ * <p>This class extends the {@link BaseFilterBuilder} and implements the
+ * filter criteria for the employees and the dates of the overrides. The date range
+ * {@code [from, to]} includes both ends.</p>
+ */
+@Builder
+public class WorkingHoursOverrideFilterBuilder extends BaseFilterBuilder<WorkingHoursOverride> {
+
+	private static final String ID = "id";
+	private static final String EMPLOYEE = "employee";
+	private static final String WORK_DATE = "workDate";
+
+	private Collection<Long> employeeIds;
+	private LocalDate from;
+	private LocalDate to;
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link WorkingHoursOverride} entities.
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link WorkingHoursOverride} entities
+	 */
+	@Override
+	public Specification<WorkingHoursOverride> toSpecification() {
+		return (root, query, criteriaBuilder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			if (employeeIds != null && !employeeIds.isEmpty()) {
+				predicates.add(root.get(EMPLOYEE).get(ID).in(employeeIds));
+			}
+			if (from != null) {
+				predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get(WORK_DATE), from));
+			}
+			if (to != null) {
+				predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get(WORK_DATE), to));
+			}
+
+			return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
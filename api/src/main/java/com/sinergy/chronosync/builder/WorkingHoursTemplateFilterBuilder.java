@@ -0,0 +1,44 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.workingHours.WorkingHoursTemplate;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Builder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Filter builder for creating specifications to query {@link WorkingHoursTemplate} entities.
+ *
+ * <p>This class extends the {@link BaseFilterBuilder} and implements the
+ * filter criteria for the employees the working hours belong to.</p>
+ */
+@Builder
+public class WorkingHoursTemplateFilterBuilder extends BaseFilterBuilder<WorkingHoursTemplate> {
+
+	private static final String ID = "id";
+	private static final String EMPLOYEE = "employee";
+
+	private Collection<Long> employeeIds;
+
+	/**
+	 * Converts the filter criteria defined in this builder into a
+	 * {@link Specification} for querying {@link WorkingHoursTemplate} entities.
+	 *
+	 * @return a {@link Specification} that can be used to filter {@link WorkingHoursTemplate} entities
+	 */
+	@Override
+	public Specification<WorkingHoursTemplate> toSpecification() {
+		return (root, query, criteriaBuilder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			if (employeeIds != null && !employeeIds.isEmpty()) {
+				predicates.add(root.get(EMPLOYEE).get(ID).in(employeeIds));
+			}
+
+			return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
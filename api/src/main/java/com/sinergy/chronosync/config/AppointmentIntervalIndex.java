@@ -0,0 +1,191 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.builder.AppointmentFilterBuilder;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.util.IntervalIndex;
+import com.sinergy.chronosync.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process index of the upcoming booked appointments of every employee.
+ *
+ * <p>Answers "is the employee free" without a database round-trip. The index is loaded
+ * once the application is ready and kept current by the booking write path, which
+ * registers appointments after their transaction commits. Appointments are indexed
+ * in epoch minutes, rounded outwards, and pruned once they have ended.</p>
+ *
+ * <p>The index is local to this instance, so it misses bookings made by other instances and
+ * keeps bookings they cancelled or moved, until it is reloaded periodically. A conflict found
+ * in the index is therefore only a hint and is confirmed with a query before it is reported;
+ * a free employee is answered without a query. Bookings missing from the index are rejected
+ * by the exclusion constraint of the appointments table, which stays the source of truth.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AppointmentIntervalIndex {
+
+	private final AppointmentRepository appointmentRepository;
+	private final Map<Long, Long> employeeFirms = new ConcurrentHashMap<>();
+	private volatile IntervalIndex index = new IntervalIndex();
+	private volatile IntervalIndex loading;
+	private volatile boolean ready;
+
+	/**
+	 * Loads the booked appointments that have not ended yet.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		long started = System.nanoTime();
+		load();
+		ready = true;
+		log.info("Loaded {} booked appointments into the interval index in {} ms",
+			index.size(), (System.nanoTime() - started) / 1_000_000);
+	}
+
+	/**
+	 * Reloads the booked appointments that have not ended yet, picking up the bookings changed
+	 * by other instances. Appointments registered or removed while loading are applied to the
+	 * loaded index as well.
+	 */
+	@Scheduled(
+		initialDelayString = "${appointments.interval-index.reload-interval:PT5M}",
+		fixedDelayString = "${appointments.interval-index.reload-interval:PT5M}"
+	)
+	public void reload() {
+		if (!ready) {
+			return;
+		}
+		long started = System.nanoTime();
+		load();
+		log.debug("Reloaded {} booked appointments into the interval index in {} ms",
+			index.size(), (System.nanoTime() - started) / 1_000_000);
+	}
+
+	/**
+	 * Returns whether the index has been loaded and can answer availability checks.
+	 *
+	 * @return {@code true} once the index is loaded
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * Returns whether a booked appointment of the employee overlaps the given time range.
+	 *
+	 * <p>An overlap found in the index is confirmed with a query, since the indexed appointment
+	 * may have been cancelled or moved by another instance, or overlap only once rounded.</p>
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param startTime  {@link Instant} start of the range, inclusive
+	 * @param endTime    {@link Instant} end of the range, exclusive
+	 * @return {@code true} if the employee is booked within the range
+	 */
+	public boolean hasConflict(Long employeeId, Instant startTime, Instant endTime) {
+		if (!index.overlaps(employeeId, toStartMinute(startTime), toEndMinute(endTime))) {
+			return false;
+		}
+		AppointmentFilterBuilder filterBuilder = AppointmentFilterBuilder.builder()
+			.employeeIds(List.of(employeeId))
+			.status(AppointmentStatus.BOOKED)
+			.from(startTime)
+			.to(endTime)
+			.build();
+		return appointmentRepository.exists(filterBuilder.toSpecification());
+	}
+
+	/**
+	 * Returns whether the employee is known to belong to another firm than the given one.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param firmId     {@link Long} ID of the firm
+	 * @return {@code true} if the index holds appointments of the employee for another firm
+	 */
+	public boolean belongsToOtherFirm(Long employeeId, Long firmId) {
+		Long employeeFirmId = employeeFirms.get(employeeId);
+		return employeeFirmId != null && !employeeFirmId.equals(firmId);
+	}
+
+	/**
+	 * Adds a booked appointment once the current transaction commits.
+	 *
+	 * @param appointment booked {@link Appointment}
+	 */
+	public void register(Appointment appointment) {
+		long id = appointment.getId();
+		long firmId = appointment.getFirm().getId();
+		long employeeId = appointment.getEmployee().getId();
+		long start = toStartMinute(appointment.getStartTime());
+		long end = toEndMinute(appointment.getEndTime());
+
+		TransactionUtils.afterCommit(() -> {
+			employeeFirms.put(employeeId, firmId);
+			index.add(employeeId, id, start, end);
+			IntervalIndex next = loading;
+			if (next != null) {
+				next.add(employeeId, id, start, end);
+			}
+		});
+	}
+
+	/**
+	 * Removes a cancelled appointment once the current transaction commits.
+	 *
+	 * @param id {@link Long} ID of the cancelled appointment
+	 */
+	public void unregister(Long id) {
+		TransactionUtils.afterCommit(() -> {
+			index.remove(id);
+			IntervalIndex next = loading;
+			if (next != null) {
+				next.remove(id);
+			}
+		});
+	}
+
+	/**
+	 * Removes appointments that have ended.
+	 */
+	@Scheduled(fixedDelayString = "${appointments.interval-index.prune-interval:PT1H}")
+	public void prune() {
+		int removed = index.removeEndedBefore(toStartMinute(Instant.now()));
+		if (removed > 0) {
+			log.debug("Pruned {} ended appointments from the interval index", removed);
+		}
+	}
+
+	private synchronized void load() {
+		IntervalIndex next = new IntervalIndex();
+		loading = next;
+		try {
+			appointmentRepository.forEachBookedInterval(Instant.now(), (id, firmId, employeeId, startTime, endTime) -> {
+				employeeFirms.put(employeeId, firmId);
+				next.add(employeeId, id, toStartMinute(startTime), toEndMinute(endTime));
+			});
+			index = next;
+		} finally {
+			loading = null;
+		}
+	}
+
+	private static long toStartMinute(Instant time) {
+		return Math.floorDiv(time.getEpochSecond(), 60);
+	}
+
+	private static long toEndMinute(Instant time) {
+		return Math.ceilDiv(time.getEpochSecond() + (time.getNano() > 0 ? 1 : 0), 60);
+	}
+}
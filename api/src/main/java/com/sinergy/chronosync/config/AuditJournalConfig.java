@@ -0,0 +1,71 @@
+package com.sinergy.chronosync.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinergy.chronosync.model.audit.AuditJournalExportTarget;
+import com.sinergy.chronosync.repository.AuditLogRepository;
+import com.sinergy.chronosync.util.AuditJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration class for the memory-mapped audit journal.
+ *
+ * <p>Active when {@code audit.sink} is set to {@code journal}. Audit entries are then appended
+ * to segment files in {@code audit.journal.directory} and exported in the background.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "audit.sink", havingValue = "journal")
+public class AuditJournalConfig {
+
+	@Value("${audit.journal.directory}")
+	private Path directory;
+
+	@Value("${audit.journal.segment-size}")
+	private DataSize segmentSize;
+
+	@Value("${audit.journal.export-target}")
+	private AuditJournalExportTarget exportTarget;
+
+	@Value("${audit.journal.export-batch-size}")
+	private int exportBatchSize;
+
+	@Value("${audit.journal.ndjson-directory}")
+	private Path ndjsonDirectory;
+
+	@Value("${audit.journal.delete-exported}")
+	private boolean deleteExported;
+
+	/**
+	 * Opens the audit journal, which continues in a new segment.
+	 *
+	 * @return {@link AuditJournal} audit journal
+	 */
+	@Bean
+	public AuditJournal auditJournal() {
+		return new AuditJournal(directory, segmentSize.toBytes());
+	}
+
+	/**
+	 * Provides the exporter that tails the audit journal.
+	 *
+	 * @param auditJournal       {@link AuditJournal} audit journal
+	 * @param auditLogRepository {@link AuditLogRepository} used for the database export
+	 * @param objectMapper       {@link ObjectMapper} used for the NDJSON export
+	 * @return {@link AuditJournalExporter} audit journal exporter
+	 */
+	@Bean
+	public AuditJournalExporter auditJournalExporter(
+		AuditJournal auditJournal,
+		AuditLogRepository auditLogRepository,
+		ObjectMapper objectMapper
+	) {
+		return new AuditJournalExporter(
+			auditJournal, exportTarget, auditLogRepository, objectMapper, ndjsonDirectory, exportBatchSize, deleteExported
+		);
+	}
+}
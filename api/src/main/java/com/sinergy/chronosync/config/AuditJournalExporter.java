@@ -0,0 +1,188 @@
+package com.sinergy.chronosync.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinergy.chronosync.model.audit.AuditJournalExportTarget;
+import com.sinergy.chronosync.model.audit.AuditLog;
+import com.sinergy.chronosync.repository.AuditLogRepository;
+import com.sinergy.chronosync.util.AuditJournal;
+import com.sinergy.chronosync.util.AuditJournalReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Periodically exports the audit journal to the database or to NDJSON files.
+ *
+ * <p>The exporter tails the journal from a checkpoint stored next to the segments and moves it
+ * forward after every exported batch. Delivery is at least once: entries exported right before
+ * a crash may be exported again after restart. Segments that are sealed and completely exported
+ * are deleted, unless disabled.</p>
+ */
+@Slf4j
+public class AuditJournalExporter {
+
+	static final String CHECKPOINT_FILE = "export.checkpoint";
+
+	private final AuditJournal journal;
+	private final AuditJournalExportTarget target;
+	private final AuditLogRepository auditLogRepository;
+	private final ObjectMapper objectMapper;
+	private final Path ndjsonDirectory;
+	private final int batchSize;
+	private final boolean deleteExported;
+	private final Path checkpointPath;
+	private final AuditJournalReader reader;
+
+	public AuditJournalExporter(
+		AuditJournal journal,
+		AuditJournalExportTarget target,
+		AuditLogRepository auditLogRepository,
+		ObjectMapper objectMapper,
+		Path ndjsonDirectory,
+		int batchSize,
+		boolean deleteExported
+	) {
+		this.journal = journal;
+		this.target = target;
+		this.auditLogRepository = auditLogRepository;
+		this.objectMapper = objectMapper;
+		this.ndjsonDirectory = ndjsonDirectory;
+		this.batchSize = batchSize;
+		this.deleteExported = deleteExported;
+		this.checkpointPath = journal.getDirectory().resolve(CHECKPOINT_FILE);
+
+		long[] checkpoint = loadCheckpoint();
+		this.reader = new AuditJournalReader(journal, checkpoint[0], (int) checkpoint[1]);
+	}
+
+	/**
+	 * Exports all records committed since the last checkpoint.
+	 *
+	 * <p>If a batch cannot be delivered, the reader is moved back to the last checkpoint and
+	 * the batch is retried on the next run.</p>
+	 */
+	@Scheduled(fixedDelayString = "${audit.journal.export-interval:PT5S}")
+	public synchronized void export() {
+		List<AuditLog> batch = new ArrayList<>(batchSize);
+
+		try {
+			while (reader.read(batchSize, batch) > 0) {
+				deliver(batch);
+				saveCheckpoint(reader.getSegment(), reader.getOffset());
+				batch.clear();
+			}
+		} catch (DataAccessException | UncheckedIOException e) {
+			log.warn("Audit journal export failed, retrying from the last checkpoint.", e);
+			long[] checkpoint = loadCheckpoint();
+			reader.seek(checkpoint[0], (int) checkpoint[1]);
+			return;
+		}
+
+		if (deleteExported) {
+			deleteExportedSegments();
+		}
+	}
+
+	private void deliver(List<AuditLog> batch) {
+		switch (target) {
+			case DATABASE -> auditLogRepository.insertBatch(batch);
+			case NDJSON -> writeNdjson(batch);
+		}
+	}
+
+	/**
+	 * Appends the entries to one file per day of occurrence (UTC).
+	 */
+	private void writeNdjson(List<AuditLog> batch) {
+		Map<LocalDate, List<AuditLog>> entriesByDay = new TreeMap<>();
+		for (AuditLog entry : batch) {
+			entriesByDay
+				.computeIfAbsent(LocalDate.ofInstant(entry.getOccurredAt(), ZoneOffset.UTC), day -> new ArrayList<>())
+				.add(entry);
+		}
+
+		try {
+			Files.createDirectories(ndjsonDirectory);
+			for (Map.Entry<LocalDate, List<AuditLog>> day : entriesByDay.entrySet()) {
+				Path file = ndjsonDirectory.resolve("audit-" + day.getKey() + ".ndjson");
+				try (BufferedWriter writer = Files.newBufferedWriter(
+					file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND
+				)) {
+					for (AuditLog entry : day.getValue()) {
+						writer.write(objectMapper.writeValueAsString(toJson(entry)));
+						writer.newLine();
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot write audit export to " + ndjsonDirectory, e);
+		}
+	}
+
+	private static Map<String, Object> toJson(AuditLog entry) {
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("occurredAt", entry.getOccurredAt().toString());
+		json.put("username", entry.getUsername());
+		json.put("action", entry.getAction().name());
+		json.put("entityType", entry.getEntityType());
+		json.put("entityId", entry.getEntityId());
+		return json;
+	}
+
+	private void deleteExportedSegments() {
+		for (Long index : AuditJournal.segmentIndexes(journal.getDirectory())) {
+			if (index >= reader.getSegment() || !journal.isSealed(index)) {
+				break;
+			}
+			try {
+				Files.deleteIfExists(AuditJournal.segmentPath(journal.getDirectory(), index));
+			} catch (IOException e) {
+				log.warn("Cannot delete exported audit journal segment {}.", index, e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the stored checkpoint as segment index and offset, or the start of the oldest
+	 * segment if there is none yet.
+	 */
+	private long[] loadCheckpoint() {
+		try {
+			if (Files.exists(checkpointPath)) {
+				String[] parts = Files.readString(checkpointPath).trim().split(" ");
+				return new long[] {Long.parseLong(parts[0]), Long.parseLong(parts[1])};
+			}
+		} catch (IOException | RuntimeException e) {
+			log.warn("Cannot read audit journal checkpoint, exporting from the oldest segment.", e);
+		}
+
+		List<Long> segments = AuditJournal.segmentIndexes(journal.getDirectory());
+		return new long[] {segments.isEmpty() ? journal.currentSegmentIndex() : segments.getFirst(), 0};
+	}
+
+	private void saveCheckpoint(long segment, int offset) {
+		Path temporary = checkpointPath.resolveSibling(CHECKPOINT_FILE + ".tmp");
+		try {
+			Files.writeString(temporary, segment + " " + offset);
+			Files.move(temporary, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot write audit journal checkpoint " + checkpointPath, e);
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.util.SqlStateUtils;
+import com.sinergy.chronosync.util.StripedLocks;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes bookings of the same employee or resource while other bookings run in parallel.
+ *
+ * <p>The booking write path locks the booked employees before checking for conflicts and holds
+ * the locks until its transaction ends, so the check and the insert cannot interleave with another
+ * booking of the same employee. Within this instance the locks are taken from a fixed array of
+ * {@link StripedLocks}; across instances a PostgreSQL transaction-scoped advisory lock is taken
+ * per employee, after the local lock, so only one transaction per instance waits on the database.
+ * Both waits are bounded by the same timeout, so a transaction stuck on another instance cannot
+ * hold up request threads, and the stripes they hold, indefinitely.</p>
+ *
+ * <p>A booking locks all its entities, e.g. the employee and the reserved resources, in a single
+ * call. Their keys are sorted, scope first and ID second, and the stripes and advisory locks are
+ * acquired in that canonical order, so two bookings sharing several entities cannot deadlock.</p>
+ *
+ * <p>This also covers occurrences of recurring series, which the exclusion constraint of the
+ * appointments table cannot see.</p>
+ */
+@Component
+public class BookingLockCoordinator {
+
+	private static final String LOCK_TIMEOUT_MESSAGE = "Another booking of the same employee or resource is in progress, please try again.";
+
+	/**
+	 * Kinds of lockable entities. The namespace keeps the advisory lock keys of different kinds apart.
+	 */
+	@Getter
+	public enum Scope {
+		EMPLOYEE(1),
+		RESOURCE(2);
+
+		private final long namespace;
+
+		Scope(long namespace) {
+			this.namespace = namespace;
+		}
+	}
+
+	private final AppointmentRepository appointmentRepository;
+	private final StripedLocks locks;
+	private final boolean advisoryLocks;
+	private final Duration timeout;
+
+	public BookingLockCoordinator(
+		AppointmentRepository appointmentRepository,
+		@Value("${appointments.locking.stripes:1024}") int stripes,
+		@Value("${appointments.locking.advisory-locks:true}") boolean advisoryLocks,
+		@Value("${appointments.locking.timeout:PT5S}") Duration timeout
+	) {
+		this.appointmentRepository = appointmentRepository;
+		this.locks = new StripedLocks(stripes);
+		this.advisoryLocks = advisoryLocks;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Locks the given entities until the current transaction ends.
+	 *
+	 * @param scope kind of the entities
+	 * @param ids   {@link Collection} of entity IDs
+	 * @throws BookingConflictException if the local or advisory locks are not acquired within the timeout.
+	 * @throws IllegalStateException    if no transaction is active.
+	 */
+	public void lock(Scope scope, Collection<Long> ids) {
+		lock(Map.of(scope, ids));
+	}
+
+	/**
+	 * Locks entities of several kinds together until the current transaction ends.
+	 *
+	 * @param ids {@link Map} of kind to {@link Collection} of entity IDs
+	 * @throws BookingConflictException if the local or advisory locks are not acquired within the timeout.
+	 * @throws IllegalStateException    if no transaction is active.
+	 */
+	public void lock(Map<Scope, ? extends Collection<Long>> ids) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			throw new IllegalStateException("Booking locks can only be taken within a transaction.");
+		}
+
+		long[] keys = ids.entrySet().stream()
+			.flatMapToLong(entry -> entry.getValue().stream().mapToLong(id -> toKey(entry.getKey(), id)))
+			.sorted()
+			.distinct()
+			.toArray();
+		int[] stripes = locks.stripesOf(keys);
+		try {
+			if (!locks.tryLock(stripes, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+				throw new BookingConflictException(LOCK_TIMEOUT_MESSAGE);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BookingConflictException(LOCK_TIMEOUT_MESSAGE);
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				locks.unlock(stripes);
+			}
+		});
+
+		if (advisoryLocks) {
+			try {
+				appointmentRepository.lockTransactionScoped(keys, timeout);
+			} catch (DataAccessException e) {
+				if (SqlStateUtils.hasSqlState(e, SqlStateUtils.LOCK_NOT_AVAILABLE)) {
+					throw new BookingConflictException(LOCK_TIMEOUT_MESSAGE);
+				}
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the local lock of an entity is currently held by any thread.
+	 *
+	 * @param scope kind of the entity
+	 * @param id    {@link Long} ID of the entity
+	 * @return {@code true} if the entity, or another entity sharing its stripe, is locked
+	 */
+	public boolean isLocked(Scope scope, Long id) {
+		return locks.isLocked(toKey(scope, id));
+	}
+
+	/**
+	 * Builds the lock key of an entity, with the namespace in the top 16 bits.
+	 */
+	private static long toKey(Scope scope, long id) {
+		return scope.getNamespace() << 48 | id;
+	}
+}
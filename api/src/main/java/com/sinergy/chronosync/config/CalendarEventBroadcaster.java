@@ -0,0 +1,228 @@
+package com.sinergy.chronosync.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-process broadcaster of Server-Sent Events to the subscribers of firms.
+ *
+ * <p>Every subscriber has a bounded buffer of events. Publishing serializes the event once and
+ * only adds it to the buffers of the firm's subscribers, so it never waits for a connection.
+ * A sender on a virtual thread is started when a buffer receives an event and ends once it has
+ * written the buffer out, so idle subscribers hold no thread. A subscriber whose buffer is full
+ * is not keeping up and is evicted: its connection is completed and the client reconnects and
+ * reloads its view. Heartbeats are sent periodically through the same buffers, so broken
+ * connections are detected and evicted as well.</p>
+ *
+ * <p>Subscribers are local to this instance, which only receives the changes committed by
+ * itself.</p>
+ */
+@Component
+public class CalendarEventBroadcaster {
+
+	private final ObjectMapper objectMapper;
+	private final int bufferSize;
+	private final Duration timeout;
+	private final Map<Long, Set<Subscriber>> firms = new ConcurrentHashMap<>();
+	private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final Counter sentCounter;
+	private final Counter evictedCounter;
+
+	/**
+	 * Creates the broadcaster.
+	 *
+	 * @param objectMapper  {@link ObjectMapper} serializing event data
+	 * @param meterRegistry {@link MeterRegistry} to publish the broadcaster metrics to
+	 * @param bufferSize    number of events buffered per subscriber before it is evicted
+	 * @param timeout       time after which subscriptions are completed and clients reconnect
+	 */
+	public CalendarEventBroadcaster(
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${calendar.events.buffer-size:64}") int bufferSize,
+		@Value("${calendar.events.timeout:PT30M}") Duration timeout
+	) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("Calendar event buffer size must be positive.");
+		}
+		this.objectMapper = objectMapper;
+		this.bufferSize = bufferSize;
+		this.timeout = timeout;
+
+		this.sentCounter = meterRegistry.counter("calendar.events.sent");
+		this.evictedCounter = meterRegistry.counter("calendar.events.evicted");
+		Gauge.builder("calendar.events.subscribers", this, CalendarEventBroadcaster::size).register(meterRegistry);
+	}
+
+	/**
+	 * Subscribes to the events of a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @return {@link SseEmitter} streaming the events of the firm
+	 */
+	public SseEmitter subscribe(Long firmId) {
+		SseEmitter emitter = new SseEmitter(timeout.toMillis());
+		register(firmId, emitter);
+		return emitter;
+	}
+
+	/**
+	 * Publishes an event to the subscribers of a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param name   name of the event
+	 * @param data   data of the event, serialized as JSON
+	 */
+	public void publish(Long firmId, String name, Object data) {
+		Set<Subscriber> subscribers = firms.get(firmId);
+		if (subscribers == null || subscribers.isEmpty()) {
+			return;
+		}
+
+		String json;
+		try {
+			json = objectMapper.writeValueAsString(data);
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+		Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event()
+			.name(name)
+			.data(json, MediaType.APPLICATION_JSON)
+			.build();
+		subscribers.forEach(subscriber -> offer(subscriber, event));
+	}
+
+	/**
+	 * Sends a heartbeat comment to every subscriber.
+	 */
+	@Scheduled(fixedDelayString = "${calendar.events.heartbeat-interval:PT30S}")
+	public void heartbeat() {
+		Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+		firms.values().forEach(subscribers -> subscribers.forEach(subscriber -> offer(subscriber, heartbeat)));
+	}
+
+	/**
+	 * Returns the number of subscribers.
+	 *
+	 * @return number of subscribers of all firms
+	 */
+	public int size() {
+		return firms.values().stream().mapToInt(Set::size).sum();
+	}
+
+	/**
+	 * Completes every subscription and stops the senders.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		firms.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.getEmitter().complete()));
+		firms.clear();
+		senders.shutdownNow();
+	}
+
+	/**
+	 * Registers an emitter as a subscriber of a firm and sends it a first comment, so the
+	 * response is committed and the client sees the stream open.
+	 */
+	void register(Long firmId, SseEmitter emitter) {
+		Subscriber subscriber = new Subscriber(firmId, emitter, new LinkedBlockingQueue<>(bufferSize));
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onTimeout(() -> remove(subscriber));
+		emitter.onError(e -> remove(subscriber));
+		firms.compute(firmId, (id, subscribers) -> {
+			Set<Subscriber> firmSubscribers = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+			firmSubscribers.add(subscriber);
+			return firmSubscribers;
+		});
+		offer(subscriber, SseEmitter.event().comment("subscribed").build());
+	}
+
+	private void offer(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+		if (!subscriber.getBuffer().offer(event)) {
+			evict(subscriber);
+			return;
+		}
+		if (subscriber.getSending().compareAndSet(false, true)) {
+			senders.execute(() -> send(subscriber));
+		}
+	}
+
+	/**
+	 * Writes the buffer of the subscriber out. The sender stops when the buffer is empty; an
+	 * event buffered while it stops starts it again.
+	 */
+	private void send(Subscriber subscriber) {
+		do {
+			Set<ResponseBodyEmitter.DataWithMediaType> event;
+			while ((event = subscriber.getBuffer().poll()) != null) {
+				try {
+					subscriber.getEmitter().send(event);
+					sentCounter.increment();
+				} catch (IOException | IllegalStateException e) {
+					remove(subscriber);
+					subscriber.getBuffer().clear();
+					return;
+				}
+			}
+			subscriber.getSending().set(false);
+		} while (!subscriber.getBuffer().isEmpty() && subscriber.getSending().compareAndSet(false, true));
+	}
+
+	/**
+	 * Evicts a subscriber that does not keep up. Its connection is completed on a virtual thread,
+	 * since completing waits for a write in progress.
+	 */
+	private void evict(Subscriber subscriber) {
+		if (remove(subscriber)) {
+			evictedCounter.increment();
+			senders.execute(() -> subscriber.getEmitter().complete());
+		}
+	}
+
+	private boolean remove(Subscriber subscriber) {
+		boolean[] removed = {false};
+		firms.computeIfPresent(subscriber.getFirmId(), (id, subscribers) -> {
+			removed[0] = subscribers.remove(subscriber);
+			return subscribers.isEmpty() ? null : subscribers;
+		});
+		return removed[0];
+	}
+
+	/**
+	 * Subscriber of a firm with its buffered events.
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	private static final class Subscriber {
+
+		private final Long firmId;
+		private final SseEmitter emitter;
+		private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+		private final AtomicBoolean sending = new AtomicBoolean();
+	}
+}
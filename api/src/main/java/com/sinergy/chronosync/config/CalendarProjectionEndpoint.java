@@ -0,0 +1,48 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.service.CalendarProjectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Management endpoint of the calendar projection.
+ *
+ * <p>Available at {@code /actuator/calendarprojection}. Reading it reports the number of queued
+ * changes and the lag of the oldest one; posting to it rebuilds the projection from scratch.</p>
+ */
+@Component
+@Endpoint(id = "calendarprojection")
+@RequiredArgsConstructor
+public class CalendarProjectionEndpoint {
+
+	private final CalendarProjectionService calendarProjectionService;
+
+	/**
+	 * Returns the state of the projection.
+	 *
+	 * @return {@link Map} containing the number of pending changes and the lag in milliseconds
+	 */
+	@ReadOperation
+	public Map<String, Object> state() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("pending", calendarProjectionService.getPending());
+		result.put("lagMillis", calendarProjectionService.getLag().toMillis());
+		return result;
+	}
+
+	/**
+	 * Rebuilds the projection from the appointments.
+	 *
+	 * @return {@link Map} containing the number of projected days
+	 */
+	@WriteOperation
+	public Map<String, Object> rebuild() {
+		return Map.of("days", calendarProjectionService.rebuild());
+	}
+}
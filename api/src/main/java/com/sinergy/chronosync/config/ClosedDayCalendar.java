@@ -0,0 +1,197 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.builder.FirmClosureFilterBuilder;
+import com.sinergy.chronosync.model.firm.FirmClosure;
+import com.sinergy.chronosync.repository.FirmClosureRepository;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process calendar of the days on which firms are closed.
+ *
+ * <p>The closures of a firm, manual ones and those imported from holiday calendars, are compiled
+ * into one {@link BitSet} per firm and year, indexed by the day of the year, so that checking a
+ * date is a single bit test. A year is compiled with one query the first time it is needed.
+ * New closures set their bits incrementally; removed closures drop the affected years, which
+ * are compiled again on the next lookup since other closures may overlap the removed days.</p>
+ *
+ * <p>Compiled years are never modified in place, so lookups need no locking. The calendar is
+ * local to this instance: closures changed by other instances are picked up once compiled
+ * years expire.</p>
+ */
+@Component
+public class ClosedDayCalendar {
+
+	private final FirmClosureRepository closureRepository;
+	private final Duration ttl;
+	private final Map<YearKey, CompiledYear> years = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * Creates the calendar.
+	 *
+	 * @param closureRepository {@link FirmClosureRepository} to read firm closures from
+	 * @param ttl               time after which compiled years are compiled again
+	 */
+	public ClosedDayCalendar(
+		FirmClosureRepository closureRepository,
+		@Value("${holidays.cache.ttl:PT5M}") Duration ttl
+	) {
+		this.closureRepository = closureRepository;
+		this.ttl = ttl;
+	}
+
+	/**
+	 * Returns whether the firm is closed on the date.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param date   {@link LocalDate} date to check
+	 * @return {@code true} if a closure of the firm covers the date
+	 */
+	public boolean isClosed(Long firmId, LocalDate date) {
+		return year(firmId, date.getYear()).get(date.getDayOfYear() - 1);
+	}
+
+	/**
+	 * Returns the days of a year on which the firm is closed.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param year   year to return
+	 * @return {@link List} of closed {@link LocalDate} in ascending order
+	 */
+	public List<LocalDate> getClosedDays(Long firmId, int year) {
+		BitSet days = year(firmId, year);
+		List<LocalDate> dates = new ArrayList<>(days.cardinality());
+		for (int day = days.nextSetBit(0); day >= 0; day = days.nextSetBit(day + 1)) {
+			dates.add(LocalDate.ofYearDay(year, day + 1));
+		}
+		return dates;
+	}
+
+	/**
+	 * Marks the days of a committed closure as closed in the compiled years of the firm.
+	 * Years that are not compiled yet will include the closure when they are.
+	 *
+	 * @param firmId    {@link Long} ID of the firm
+	 * @param startDate {@link LocalDate} first day of the closure
+	 * @param endDate   {@link LocalDate} last day of the closure, inclusive
+	 */
+	public void closed(Long firmId, LocalDate startDate, LocalDate endDate) {
+		generation.incrementAndGet();
+		for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+			int firstDay = dayIndex(startDate, year);
+			int lastDay = lastDayIndex(endDate, year);
+			years.computeIfPresent(new YearKey(firmId, year), (key, compiled) -> {
+				BitSet days = (BitSet) compiled.getDays().clone();
+				days.set(firstDay, lastDay + 1);
+				return new CompiledYear(days, compiled.getCompiledAt());
+			});
+		}
+	}
+
+	/**
+	 * Drops the compiled years of the firm covering the days of a removed closure.
+	 *
+	 * @param firmId    {@link Long} ID of the firm
+	 * @param startDate {@link LocalDate} first day of the closure
+	 * @param endDate   {@link LocalDate} last day of the closure, inclusive
+	 */
+	public void reopened(Long firmId, LocalDate startDate, LocalDate endDate) {
+		generation.incrementAndGet();
+		for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+			years.remove(new YearKey(firmId, year));
+		}
+	}
+
+	/**
+	 * Returns the number of compiled firm years.
+	 *
+	 * @return number of compiled years
+	 */
+	public int size() {
+		return years.size();
+	}
+
+	/**
+	 * Returns the compiled year, compiling it if it is missing or expired. A compiled year is
+	 * kept only if no closure changed while it was read, since it might miss the change.
+	 */
+	private BitSet year(Long firmId, int year) {
+		YearKey key = new YearKey(firmId, year);
+		Instant now = Instant.now();
+		CompiledYear compiled = years.get(key);
+		if (compiled != null && !compiled.getCompiledAt().plus(ttl).isBefore(now)) {
+			return compiled.getDays();
+		}
+
+		long compileGeneration = generation.get();
+		BitSet days = compile(firmId, year);
+		if (generation.get() == compileGeneration) {
+			years.put(key, new CompiledYear(days, now));
+		}
+		return days;
+	}
+
+	private BitSet compile(Long firmId, int year) {
+		LocalDate first = LocalDate.ofYearDay(year, 1);
+		LocalDate last = first.plusYears(1).minusDays(1);
+		List<FirmClosure> closures = closureRepository.findAll(
+			FirmClosureFilterBuilder.builder().firmId(firmId).from(first).to(last).build().toSpecification()
+		);
+
+		BitSet days = new BitSet(366);
+		for (FirmClosure closure : closures) {
+			days.set(dayIndex(closure.getStartDate(), year), lastDayIndex(closure.getEndDate(), year) + 1);
+		}
+		return days;
+	}
+
+	/**
+	 * Index of the first day of a closure starting on {@code date} within {@code year}.
+	 */
+	private static int dayIndex(LocalDate date, int year) {
+		return date.getYear() < year ? 0 : date.getDayOfYear() - 1;
+	}
+
+	/**
+	 * Index of the last day of a closure ending on {@code date} within {@code year}.
+	 */
+	private static int lastDayIndex(LocalDate date, int year) {
+		return date.getYear() > year ? LocalDate.ofYearDay(year, 1).lengthOfYear() - 1 : date.getDayOfYear() - 1;
+	}
+
+	/**
+	 * Key of the closed days of a firm in a year.
+	 */
+	@EqualsAndHashCode
+	@AllArgsConstructor
+	private static final class YearKey {
+
+		private final long firmId;
+		private final int year;
+	}
+
+	/**
+	 * Closed days of a year, with the time they were compiled.
+	 */
+	@Getter
+	@AllArgsConstructor
+	private static final class CompiledYear {
+
+		private final BitSet days;
+		private final Instant compiledAt;
+	}
+}
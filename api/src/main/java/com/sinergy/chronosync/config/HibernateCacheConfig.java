@@ -0,0 +1,108 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.firm.Firm;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration class for the Hibernate second-level cache.
+ *
+ * <p>Creates an in-process JCache {@link CacheManager} backed by Ehcache and hands it to
+ * Hibernate. Every cache region is created up front with a bounded heap size and a
+ * time to live taken from the {@code cache.hibernate.*} properties.</p>
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+	/**
+	 * Read-mostly entities stored in the second-level cache.
+	 */
+	public static final List<Class<?>> CACHED_ENTITIES = List.of(
+		Firm.class,
+		AppointmentType.class
+	);
+
+	@Value("${cache.hibernate.entity-max-entries:10000}")
+	private long entityMaxEntries;
+
+	@Value("${cache.hibernate.entity-ttl:PT1H}")
+	private Duration entityTtl;
+
+	@Value("${cache.hibernate.query-max-entries:1000}")
+	private long queryMaxEntries;
+
+	@Value("${cache.hibernate.query-ttl:PT10M}")
+	private Duration queryTtl;
+
+	/**
+	 * Provides the JCache manager used by Hibernate.
+	 *
+	 * <p>Entity regions and the query results region expire after their configured time to live.
+	 * The update timestamps region never expires, since Hibernate relies on it to detect stale
+	 * query results.</p>
+	 *
+	 * @return {@link CacheManager} with all second-level cache regions created
+	 */
+	@Bean(destroyMethod = "close")
+	public CacheManager hibernateCacheManager() {
+		CacheManager cacheManager = Caching
+			.getCachingProvider(EhcacheCachingProvider.class.getName())
+			.getCacheManager();
+
+		CACHED_ENTITIES.forEach(entity -> createCache(cacheManager, entity.getName(), entityMaxEntries, entityTtl));
+		createCache(
+			cacheManager,
+			RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+			queryMaxEntries,
+			queryTtl
+		);
+		createCache(
+			cacheManager,
+			RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+			entityMaxEntries,
+			null
+		);
+
+		return cacheManager;
+	}
+
+	/**
+	 * Registers the JCache manager with Hibernate.
+	 *
+	 * @param hibernateCacheManager {@link CacheManager} holding the second-level cache regions
+	 * @return {@link HibernatePropertiesCustomizer} setting the cache manager property
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+		return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+	}
+
+	private void createCache(CacheManager cacheManager, String name, long maxEntries, Duration ttl) {
+		if (cacheManager.getCache(name) != null) {
+			cacheManager.destroyCache(name);
+		}
+
+		CacheConfigurationBuilder<Object, Object> configuration = CacheConfigurationBuilder
+			.newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+			.withExpiry(ttl != null
+				? ExpiryPolicyBuilder.timeToLiveExpiration(ttl)
+				: ExpiryPolicyBuilder.noExpiration());
+
+		cacheManager.createCache(name, Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+	}
+}
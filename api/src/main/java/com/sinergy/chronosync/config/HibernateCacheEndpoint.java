@@ -0,0 +1,73 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.dto.response.CacheRegionStatisticsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Management endpoint exposing Hibernate second-level cache statistics.
+ *
+ * <p>Available at {@code /actuator/hibernatecache}. Reports hit, miss and put counts for
+ * every cache region configured in {@link HibernateCacheConfig}, together with the
+ * overall query cache counters.</p>
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+@RequiredArgsConstructor
+public class HibernateCacheEndpoint {
+
+	private final EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * Returns current second-level cache statistics.
+	 *
+	 * @return {@link Map} containing per-region statistics and query cache counters
+	 */
+	@ReadOperation
+	public Map<String, Object> cacheStatistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		List<String> regionNames = new ArrayList<>();
+		HibernateCacheConfig.CACHED_ENTITIES.forEach(entity -> regionNames.add(entity.getName()));
+		regionNames.add(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+		regionNames.add(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+		result.put("regions", regionNames.stream()
+			.map(regionName -> toDto(regionName, statistics.getCacheRegionStatistics(regionName)))
+			.filter(Objects::nonNull)
+			.toList());
+		result.put("queryCacheHitCount", statistics.getQueryCacheHitCount());
+		result.put("queryCacheMissCount", statistics.getQueryCacheMissCount());
+		result.put("queryCachePutCount", statistics.getQueryCachePutCount());
+
+		return result;
+	}
+
+	private CacheRegionStatisticsDTO toDto(String regionName, CacheRegionStatistics regionStatistics) {
+		if (regionStatistics == null) {
+			return null;
+		}
+
+		return CacheRegionStatisticsDTO.builder()
+			.regionName(regionName)
+			.hitCount(regionStatistics.getHitCount())
+			.missCount(regionStatistics.getMissCount())
+			.putCount(regionStatistics.getPutCount())
+			.build();
+	}
+}
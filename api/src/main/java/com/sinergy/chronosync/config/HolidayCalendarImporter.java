@@ -0,0 +1,100 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.service.HolidayCalendarService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Imports holiday calendars from iCalendar files on disk once the application is ready.
+ *
+ * <p>Active when {@code holidays.directory} is set. Every file {@code <firm ID>/<name>.ics} in the
+ * directory is imported as the holiday calendar {@code name} of the firm, replacing the closures
+ * imported from it before, so changed files are picked up on the next start. Files that cannot be
+ * imported are logged and skipped.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "holidays.directory")
+public class HolidayCalendarImporter {
+
+	private static final String EXTENSION = ".ics";
+
+	private final HolidayCalendarService holidayCalendarService;
+	private final Path directory;
+
+	/**
+	 * Creates the importer.
+	 *
+	 * @param holidayCalendarService {@link HolidayCalendarService} importing the calendars
+	 * @param directory              {@link Path} directory holding one subdirectory per firm
+	 */
+	public HolidayCalendarImporter(
+		HolidayCalendarService holidayCalendarService,
+		@Value("${holidays.directory}") Path directory
+	) {
+		this.holidayCalendarService = holidayCalendarService;
+		this.directory = directory;
+	}
+
+	/**
+	 * Imports all holiday calendars in the directory.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void importCalendars() {
+		if (!Files.isDirectory(directory)) {
+			log.warn("Holiday calendar directory {} does not exist", directory);
+			return;
+		}
+
+		int imported = 0;
+		try (DirectoryStream<Path> firms = Files.newDirectoryStream(directory, Files::isDirectory)) {
+			for (Path firm : firms) {
+				Long firmId = parseFirmId(firm);
+				if (firmId == null) {
+					continue;
+				}
+				try (DirectoryStream<Path> files = Files.newDirectoryStream(firm, "*" + EXTENSION)) {
+					for (Path file : files) {
+						if (importCalendar(firmId, file)) {
+							imported++;
+						}
+					}
+				}
+			}
+		} catch (IOException e) {
+			log.error("Failed to read holiday calendar directory {}", directory, e);
+		}
+		log.info("Imported {} holiday calendars from {}", imported, directory);
+	}
+
+	private boolean importCalendar(Long firmId, Path file) {
+		String fileName = file.getFileName().toString();
+		String name = fileName.substring(0, fileName.length() - EXTENSION.length());
+		try {
+			holidayCalendarService.importCalendar(firmId, name, Files.readString(file, StandardCharsets.UTF_8));
+			return true;
+		} catch (IOException | RuntimeException e) {
+			log.error("Failed to import holiday calendar {}", file, e);
+			return false;
+		}
+	}
+
+	private static Long parseFirmId(Path firm) {
+		try {
+			return Long.valueOf(firm.getFileName().toString());
+		} catch (NumberFormatException e) {
+			log.warn("Skipping holiday calendar directory {}, which is not named after a firm ID", firm);
+			return null;
+		}
+	}
+}
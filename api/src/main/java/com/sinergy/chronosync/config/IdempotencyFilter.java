@@ -0,0 +1,256 @@
+package com.sinergy.chronosync.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Filter making create requests idempotent with an {@code Idempotency-Key} header.
+ *
+ * <p>For the configured endpoints, the first successful response to a key of the authenticated user
+ * is stored in the {@link IdempotencyStore}; a retry with the same key returns the stored response
+ * without running the request again. Unsuccessful responses are not stored, so the request can be
+ * retried. Reusing a key for a different request, or while the original request is still being
+ * processed by this or another instance, is rejected. The key is reserved before the request runs
+ * and the stored response is looked up again once it is reserved, so a retry racing with the
+ * completion of the original request is replayed rather than run twice.</p>
+ *
+ * <p>Runs in the security filter chain after authorization, so only authorized requests are stored.</p>
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+	/**
+	 * Header carrying the client-generated idempotency key.
+	 */
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	/**
+	 * Header added to responses that are replayed from the store.
+	 */
+	public static final String IDEMPOTENT_REPLAY_HEADER = "Idempotent-Replayed";
+
+	private static final int MAX_KEY_LENGTH = 255;
+
+	private final IdempotencyStore idempotencyStore;
+	private final Set<String> paths;
+
+	public IdempotencyFilter(
+		IdempotencyStore idempotencyStore,
+		@Value("${idempotency.paths:/api/v1/appointment-type/create,/api/v1/user/create}") List<String> paths
+	) {
+		this.idempotencyStore = idempotencyStore;
+		this.paths = Set.copyOf(paths);
+	}
+
+	/**
+	 * Skips requests that are not {@code POST} requests to one of the configured endpoints
+	 * or carry no idempotency key.
+	 *
+	 * @param request {@link HttpServletRequest} HTTP request
+	 * @return {@code true} if the request is not handled by this filter
+	 */
+	@Override
+	protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+		return !HttpMethod.POST.matches(request.getMethod())
+			|| request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+			|| !paths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+	}
+
+	/**
+	 * Replays the stored response of the idempotency key, or runs the request and stores its response.
+	 *
+	 * @param request     {@link HttpServletRequest} HTTP request
+	 * @param response    {@link HttpServletResponse} HTTP response
+	 * @param filterChain {@link FilterChain} filter chain to continue processing
+	 * @throws ServletException {@link ServletException} if a servlet-related error occurs
+	 * @throws IOException      {@link IOException} if an I/O error occurs
+	 */
+	@Override
+	protected void doFilterInternal(
+		@NonNull HttpServletRequest request,
+		@NonNull HttpServletResponse response,
+		@NonNull FilterChain filterChain
+	) throws ServletException, IOException {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+		if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+			writeError(response, HttpStatus.BAD_REQUEST, "Idempotency key must be between 1 and " + MAX_KEY_LENGTH + " characters.");
+			return;
+		}
+
+		String username = authentication.getName();
+		CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+		String requestHash = hash(request, cachedRequest.body);
+
+		IdempotencyStore.StoredResponse stored = idempotencyStore.find(username, key);
+		if (stored != null) {
+			replay(stored, requestHash, response);
+			return;
+		}
+		if (!idempotencyStore.reserve(username, key, requestHash)) {
+			// The original request may have completed since the response was looked up.
+			stored = idempotencyStore.find(username, key);
+			if (stored != null) {
+				replay(stored, requestHash, response);
+			} else {
+				writeError(response, HttpStatus.CONFLICT, "A request with the same idempotency key is in progress.");
+			}
+			return;
+		}
+		// The original request may have completed between the lookup and the reservation.
+		stored = idempotencyStore.find(username, key);
+		if (stored != null) {
+			idempotencyStore.release(username, key);
+			replay(stored, requestHash, response);
+			return;
+		}
+
+		ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+		boolean completed = false;
+		try {
+			filterChain.doFilter(cachedRequest, cachedResponse);
+			if (HttpStatus.valueOf(cachedResponse.getStatus()).is2xxSuccessful()) {
+				idempotencyStore.complete(
+					username,
+					key,
+					requestHash,
+					cachedResponse.getStatus(),
+					cachedResponse.getContentType(),
+					cachedResponse.getContentAsByteArray()
+				);
+				completed = true;
+			}
+		} finally {
+			if (!completed) {
+				idempotencyStore.release(username, key);
+			}
+			cachedResponse.copyBodyToResponse();
+		}
+	}
+
+	private static void replay(IdempotencyStore.StoredResponse stored, String requestHash, HttpServletResponse response) throws IOException {
+		if (!stored.getRequestHash().equals(requestHash)) {
+			writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency key was already used for a different request.");
+			return;
+		}
+		response.setStatus(stored.getStatus());
+		response.setHeader(IDEMPOTENT_REPLAY_HEADER, "true");
+		if (stored.getContentType() != null) {
+			response.setContentType(stored.getContentType());
+		}
+		if (stored.getBody() != null) {
+			response.setContentLength(stored.getBody().length);
+			response.getOutputStream().write(stored.getBody());
+		}
+	}
+
+	private static void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+		response.setStatus(status.value());
+		response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.getWriter().write(message);
+	}
+
+	/**
+	 * Hashes the method, path, query and body, so a key cannot be reused for a different request.
+	 */
+	private static String hash(HttpServletRequest request, byte[] body) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) ' ');
+			digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+			if (request.getQueryString() != null) {
+				digest.update((byte) '?');
+				digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+			}
+			digest.update((byte) '\n');
+			digest.update(body);
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Request reading its body upfront, so it can be hashed and still be read by the controller.
+	 */
+	private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+		private final byte[] body;
+
+		CachedBodyRequest(HttpServletRequest request) throws IOException {
+			super(request);
+			this.body = request.getInputStream().readAllBytes();
+		}
+
+		@Override
+		public ServletInputStream getInputStream() {
+			ByteArrayInputStream input = new ByteArrayInputStream(body);
+			return new ServletInputStream() {
+				@Override
+				public boolean isFinished() {
+					return input.available() == 0;
+				}
+
+				@Override
+				public boolean isReady() {
+					return true;
+				}
+
+				@Override
+				public void setReadListener(ReadListener readListener) {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				public int read() {
+					return input.read();
+				}
+
+				@Override
+				public int read(@NonNull byte[] buffer, int offset, int length) {
+					return input.read(buffer, offset, length);
+				}
+			};
+		}
+
+		@Override
+		public BufferedReader getReader() {
+			String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+			return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+		}
+	}
+}
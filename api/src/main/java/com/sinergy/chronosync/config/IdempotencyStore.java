@@ -0,0 +1,276 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.builder.IdempotencyRecordFilterBuilder;
+import com.sinergy.chronosync.model.idempotency.IdempotencyRecord;
+import com.sinergy.chronosync.repository.IdempotencyRecordRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores the responses of requests made with an idempotency key, per user and key.
+ *
+ * <p>Recent responses are kept in a bounded, least-recently-used in-memory cache. When persistence
+ * is enabled, responses are also written to the database, so retries are answered after a restart
+ * or by another instance; the database is only read on a cache miss. Responses are kept for the
+ * configured retention and purged periodically.</p>
+ *
+ * <p>Keys of requests that are still being processed are reserved, so a retry arriving before the
+ * original request has finished is rejected instead of running the write twice. With persistence
+ * enabled, a key is reserved by inserting a pending row, whose unique constraint rejects the
+ * reservation of the same key by any instance; the pending row is completed with the response, or
+ * deleted if the request fails. Pending rows expire after the pending timeout, so the key of a
+ * request whose instance crashed can be reserved again.</p>
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+	private final IdempotencyRecordRepository idempotencyRecordRepository;
+	private final Duration retention;
+	private final Duration pendingTimeout;
+	private final boolean persistent;
+	private final Map<String, StoredResponse> cache;
+	private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+	private final Map<String, IdempotencyRecord> claims = new ConcurrentHashMap<>();
+
+	public IdempotencyStore(
+		IdempotencyRecordRepository idempotencyRecordRepository,
+		@Value("${idempotency.retention:PT24H}") Duration retention,
+		@Value("${idempotency.pending-timeout:PT5M}") Duration pendingTimeout,
+		@Value("${idempotency.cache-size:10000}") int cacheSize,
+		@Value("${idempotency.persistent:true}") boolean persistent
+	) {
+		this.idempotencyRecordRepository = idempotencyRecordRepository;
+		this.retention = retention;
+		this.pendingTimeout = pendingTimeout;
+		this.persistent = persistent;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * Finds the unexpired response stored for a key of a user.
+	 *
+	 * @param username {@link String} user who sent the request
+	 * @param key      {@link String} idempotency key
+	 * @return {@link StoredResponse}, or {@code null} if none is stored
+	 */
+	public StoredResponse find(String username, String key) {
+		String scope = scope(username, key);
+		Instant now = Instant.now();
+		StoredResponse response;
+		synchronized (cache) {
+			response = cache.get(scope);
+		}
+		if (response != null && !response.isExpired(now)) {
+			return response;
+		}
+		if (!persistent) {
+			return null;
+		}
+
+		IdempotencyRecordFilterBuilder filterBuilder = IdempotencyRecordFilterBuilder.builder()
+			.username(username)
+			.idempotencyKey(key)
+			.build();
+		response = idempotencyRecordRepository.findOne(filterBuilder.toSpecification())
+			.filter(record -> !record.isPending())
+			.map(StoredResponse::fromRecord)
+			.filter(stored -> !stored.isExpired(now))
+			.orElse(null);
+		if (response != null) {
+			synchronized (cache) {
+				cache.put(scope, response);
+			}
+		}
+		return response;
+	}
+
+	/**
+	 * Reserves a key of a user for a request about to be processed.
+	 *
+	 * <p>With persistence enabled, a pending row is inserted for the key. A row left pending by a
+	 * request whose reservation has expired is replaced.</p>
+	 *
+	 * @param username    {@link String} user who sent the request
+	 * @param key         {@link String} idempotency key
+	 * @param requestHash {@link String} hash identifying the request
+	 * @return {@code true} if reserved, {@code false} if a request with the same key is in progress
+	 * or has already completed
+	 */
+	public boolean reserve(String username, String key, String requestHash) {
+		String scope = scope(username, key);
+		if (!inFlight.add(scope)) {
+			return false;
+		}
+		if (!persistent) {
+			return true;
+		}
+
+		try {
+			Instant now = Instant.now();
+			IdempotencyRecord claim = IdempotencyRecord.builder()
+				.username(username)
+				.idempotencyKey(key)
+				.requestHash(requestHash)
+				.createdAt(now)
+				.expiresAt(now.plus(pendingTimeout))
+				.build();
+			try {
+				claims.put(scope, idempotencyRecordRepository.save(claim));
+				return true;
+			} catch (DataIntegrityViolationException e) {
+				log.debug("Idempotency key {} is already reserved", key);
+			}
+
+			IdempotencyRecordFilterBuilder expiredFilter = IdempotencyRecordFilterBuilder.builder()
+				.username(username)
+				.idempotencyKey(key)
+				.pending(true)
+				.expiredBefore(now)
+				.build();
+			if (idempotencyRecordRepository.delete(expiredFilter.toSpecification()) > 0) {
+				claims.put(scope, idempotencyRecordRepository.save(claim));
+				return true;
+			}
+		} catch (DataIntegrityViolationException e) {
+			log.debug("Idempotency key {} was reserved again by another request", key);
+		} catch (RuntimeException e) {
+			inFlight.remove(scope);
+			throw e;
+		}
+		inFlight.remove(scope);
+		return false;
+	}
+
+	/**
+	 * Releases a reserved key without storing a response, so the request can be retried.
+	 *
+	 * @param username {@link String} user who sent the request
+	 * @param key      {@link String} idempotency key
+	 */
+	public void release(String username, String key) {
+		String scope = scope(username, key);
+		try {
+			IdempotencyRecord claim = claims.remove(scope);
+			if (claim != null) {
+				idempotencyRecordRepository.deleteById(claim.getId());
+			}
+		} finally {
+			inFlight.remove(scope);
+		}
+	}
+
+	/**
+	 * Stores the response of a request and releases its key.
+	 *
+	 * <p>With persistence enabled, the pending row of the key is completed with the response.</p>
+	 *
+	 * @param username    {@link String} user who sent the request
+	 * @param key         {@link String} idempotency key
+	 * @param requestHash {@link String} hash identifying the request
+	 * @param status      HTTP status of the response
+	 * @param contentType {@link String} content type of the response
+	 * @param body        response body
+	 */
+	public void complete(String username, String key, String requestHash, int status, String contentType, byte[] body) {
+		String scope = scope(username, key);
+		try {
+			Instant now = Instant.now();
+			StoredResponse response = new StoredResponse(requestHash, status, contentType, body, now.plus(retention));
+			synchronized (cache) {
+				cache.put(scope, response);
+			}
+			if (persistent) {
+				IdempotencyRecord record = claims.remove(scope);
+				if (record == null) {
+					record = IdempotencyRecord.builder()
+						.username(username)
+						.idempotencyKey(key)
+						.createdAt(now)
+						.build();
+				}
+				record.setRequestHash(requestHash);
+				record.setResponseStatus(status);
+				record.setContentType(contentType);
+				record.setResponseBody(body);
+				record.setExpiresAt(response.getExpiresAt());
+				try {
+					idempotencyRecordRepository.save(record);
+				} catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+					log.warn("Response for idempotency key {} could not be stored, its reservation was taken over", key);
+				}
+			}
+		} finally {
+			inFlight.remove(scope);
+		}
+	}
+
+	/**
+	 * Removes expired responses and reservations from the cache and the database.
+	 */
+	@Scheduled(fixedDelayString = "${idempotency.purge-interval:PT1H}")
+	public void purge() {
+		Instant now = Instant.now();
+		synchronized (cache) {
+			cache.values().removeIf(response -> response.isExpired(now));
+		}
+		if (persistent) {
+			long removed = idempotencyRecordRepository.delete(
+				IdempotencyRecordFilterBuilder.builder().expiredBefore(now).build().toSpecification()
+			);
+			if (removed > 0) {
+				log.debug("Purged {} expired idempotency keys", removed);
+			}
+		}
+	}
+
+	private static String scope(String username, String key) {
+		return username + '\u0000' + key;
+	}
+
+	/**
+	 * Response stored for an idempotency key.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class StoredResponse {
+
+		private final String requestHash;
+		private final int status;
+		private final String contentType;
+		private final byte[] body;
+		private final Instant expiresAt;
+
+		private boolean isExpired(Instant now) {
+			return !now.isBefore(expiresAt);
+		}
+
+		private static StoredResponse fromRecord(IdempotencyRecord record) {
+			return new StoredResponse(
+				record.getRequestHash(),
+				record.getResponseStatus(),
+				record.getContentType(),
+				record.getResponseBody(),
+				record.getExpiresAt()
+			);
+		}
+	}
+}
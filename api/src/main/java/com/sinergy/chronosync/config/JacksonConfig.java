@@ -0,0 +1,44 @@
+package com.sinergy.chronosync.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Configuration class for JSON and CBOR serialization.
+ */
+@Configuration
+public class JacksonConfig {
+
+	/**
+	 * Provides a Jackson module that understands Hibernate lazy associations.
+	 *
+	 * <p>Uninitialized lazy associations are serialized as an object containing only
+	 * the identifier, e.g. {@code "firm": {"id": 1}}, instead of being loaded
+	 * from the database while the response is written.</p>
+	 *
+	 * @return {@link Hibernate6Module} registered with the application object mapper
+	 */
+	@Bean
+	public Hibernate6Module hibernate6Module() {
+		return new Hibernate6Module()
+			.configure(Hibernate6Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS, true);
+	}
+
+	/**
+	 * Provides the converter of CBOR responses, negotiated with {@code Accept: application/cbor}.
+	 *
+	 * <p>The object mapper is built from the application's Jackson settings, so CBOR responses
+	 * contain the same properties and date formats as JSON responses. JSON stays the default.</p>
+	 *
+	 * @param builder {@link Jackson2ObjectMapperBuilder} configured with the application's Jackson settings
+	 * @return {@link MappingJackson2CborHttpMessageConverter} replacing the default CBOR converter
+	 */
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+	}
+}
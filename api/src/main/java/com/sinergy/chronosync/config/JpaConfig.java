@@ -0,0 +1,20 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.repository.BaseRepositoryImpl;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * JPA configuration class.
+ *
+ * <p>Registers {@link BaseRepositoryImpl} as the base class for all repositories,
+ * so every repository exposes the operations declared in
+ * {@link com.sinergy.chronosync.repository.BaseRepository}.</p>
+ */
+@Configuration
+@EnableJpaRepositories(
+	basePackages = "com.sinergy.chronosync.repository",
+	repositoryBaseClass = BaseRepositoryImpl.class
+)
+public class JpaConfig {
+}
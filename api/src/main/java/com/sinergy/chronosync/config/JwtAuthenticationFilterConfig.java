@@ -3,6 +3,7 @@ package com.sinergy.chronosync.config;
 import com.sinergy.chronosync.builder.TokenFilterBuilder;
 import com.sinergy.chronosync.repository.TokenRepository;
 import com.sinergy.chronosync.util.JwtUtils;
+import com.sinergy.chronosync.util.ReplicaRoutingContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +16,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -29,12 +32,15 @@ public class JwtAuthenticationFilterConfig extends OncePerRequestFilter {
 	private final JwtUtils jwtUtils;
 	private final UserDetailsService userDetailsService;
 	private final TokenRepository tokenRepository;
+	private final PlatformTransactionManager transactionManager;
 
 	/**
 	 * Filters incoming requests to authenticate users based on JWT tokens.
 	 * </br> </br>
 	 * <i>Extracts the JWT from the Authorization header, validates it,
-	 * and sets the authentication in the security context if valid.</i>
+	 * and sets the authentication in the security context if valid.
+	 * User and token lookups run in a single read-only transaction, so they
+	 * can be served by the read replica.</i>
 	 *
 	 * @param request     {@link HttpServletRequest} HTTP request
 	 * @param response    {@link HttpServletResponse} HTTP response
@@ -48,12 +54,20 @@ public class JwtAuthenticationFilterConfig extends OncePerRequestFilter {
 		@NonNull HttpServletResponse response,
 		@NonNull FilterChain filterChain
 	) throws ServletException, IOException {
+		try {
+			authenticate(request);
+			filterChain.doFilter(request, response);
+		} finally {
+			ReplicaRoutingContext.clear();
+		}
+	}
+
+	private void authenticate(HttpServletRequest request) {
 		final String authHeader = request.getHeader("Authorization");
 		final String jwt;
 		final String username;
 
 		if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-			filterChain.doFilter(request, response);
 			return;
 		}
 
@@ -61,13 +75,22 @@ public class JwtAuthenticationFilterConfig extends OncePerRequestFilter {
 		username = jwtUtils.extractUsername(jwt);
 
 		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-			UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-			Boolean isTokenValid = tokenRepository
-				.findOne(TokenFilterBuilder.builder().jwtString(jwt).build().toSpecification())
-				.map(t -> jwtUtils.isTokenValid(t.jwtString, userDetails))
-				.orElse(false);
+			ReplicaRoutingContext.setClient(username);
+
+			TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+			readOnlyTransaction.setReadOnly(true);
+
+			UserDetails userDetails = readOnlyTransaction.execute(status -> {
+				UserDetails user = this.userDetailsService.loadUserByUsername(username);
+				Boolean isTokenValid = tokenRepository
+					.findOne(TokenFilterBuilder.builder().jwtString(jwt).build().toSpecification())
+					.map(t -> jwtUtils.isTokenValid(t.jwtString, user))
+					.orElse(false);
+
+				return jwtUtils.isTokenValid(jwt, user) && isTokenValid ? user : null;
+			});
 
-			if (jwtUtils.isTokenValid(jwt, userDetails) && isTokenValid) {
+			if (userDetails != null) {
 				UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
 					userDetails,
 					null,
@@ -77,6 +100,5 @@ public class JwtAuthenticationFilterConfig extends OncePerRequestFilter {
 				SecurityContextHolder.getContext().setAuthentication(authToken);
 			}
 		}
-		filterChain.doFilter(request, response);
 	}
 }
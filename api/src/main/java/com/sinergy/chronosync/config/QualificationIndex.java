@@ -0,0 +1,188 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.builder.AppointmentTypeFilterBuilder;
+import com.sinergy.chronosync.builder.EmployeeQualificationFilterBuilder;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.user.EmployeeQualification;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.EmployeeQualificationRepository;
+import com.sinergy.chronosync.util.QualificationMatrix;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process qualification matrices of firms.
+ *
+ * <p>The qualifications of a firm are compiled into a {@link QualificationMatrix} with two queries
+ * the first time they are needed, so availability and assignment queries filter employees by
+ * appointment type in memory instead of joining the qualifications. Types requiring a
+ * qualification are restricted even if nobody is qualified for them. Granted and revoked
+ * qualifications update the compiled matrix incrementally once they commit.</p>
+ *
+ * <p>Matrices are never modified in place, so lookups need no locking. The matrices are local
+ * to this instance: qualifications changed by other instances are picked up once compiled
+ * matrices expire.</p>
+ */
+@Component
+public class QualificationIndex {
+
+	private final EmployeeQualificationRepository qualificationRepository;
+	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final Duration ttl;
+	private final Map<Long, CompiledMatrix> firms = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * Creates the index.
+	 *
+	 * @param qualificationRepository   {@link EmployeeQualificationRepository} to read qualifications from
+	 * @param appointmentTypeRepository {@link AppointmentTypeRepository} to read the types requiring a qualification from
+	 * @param ttl                       time after which compiled matrices are compiled again
+	 */
+	public QualificationIndex(
+		EmployeeQualificationRepository qualificationRepository,
+		AppointmentTypeRepository appointmentTypeRepository,
+		@Value("${qualifications.cache.ttl:PT5M}") Duration ttl
+	) {
+		this.qualificationRepository = qualificationRepository;
+		this.appointmentTypeRepository = appointmentTypeRepository;
+		this.ttl = ttl;
+	}
+
+	/**
+	 * Returns whether the employee can perform the appointment type.
+	 *
+	 * @param firmId            {@link Long} ID of the firm
+	 * @param appointmentTypeId {@link Long} ID of the appointment type
+	 * @param employeeId        {@link Long} ID of the employee
+	 * @return {@code true} if the type is not restricted or the employee is qualified for it
+	 */
+	public boolean isQualified(Long firmId, Long appointmentTypeId, Long employeeId) {
+		return matrix(firmId).isQualified(appointmentTypeId, employeeId);
+	}
+
+	/**
+	 * Returns the candidates that can perform the appointment type.
+	 *
+	 * @param firmId            {@link Long} ID of the firm
+	 * @param appointmentTypeId {@link Long} ID of the appointment type
+	 * @param employeeIds       {@link Collection} of candidate employee IDs
+	 * @return {@link List} of qualified employee IDs in ascending order
+	 */
+	public List<Long> filter(Long firmId, Long appointmentTypeId, Collection<Long> employeeIds) {
+		return matrix(firmId).filter(List.of(appointmentTypeId), employeeIds);
+	}
+
+	/**
+	 * Returns the qualification matrix of the firm, compiling it if it is missing or expired.
+	 * A compiled matrix is kept only if no qualification changed while it was read, since it
+	 * might miss the change.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @return {@link QualificationMatrix} of the firm
+	 */
+	public QualificationMatrix matrix(Long firmId) {
+		Instant now = Instant.now();
+		CompiledMatrix compiled = firms.get(firmId);
+		if (compiled != null && !compiled.getCompiledAt().plus(ttl).isBefore(now)) {
+			return compiled.getMatrix();
+		}
+
+		long compileGeneration = generation.get();
+		QualificationMatrix matrix = compile(firmId);
+		if (generation.get() == compileGeneration) {
+			firms.put(firmId, new CompiledMatrix(matrix, now));
+		}
+		return matrix;
+	}
+
+	/**
+	 * Adds a committed qualification to the compiled matrix of the firm. A matrix that is not
+	 * compiled yet will include it when it is.
+	 *
+	 * @param firmId            {@link Long} ID of the firm
+	 * @param appointmentTypeId {@link Long} ID of the appointment type
+	 * @param employeeId        {@link Long} ID of the employee
+	 */
+	public void granted(Long firmId, Long appointmentTypeId, Long employeeId) {
+		generation.incrementAndGet();
+		firms.computeIfPresent(firmId, (id, compiled) ->
+			new CompiledMatrix(compiled.getMatrix().with(appointmentTypeId, employeeId), compiled.getCompiledAt()));
+	}
+
+	/**
+	 * Removes a committed qualification from the compiled matrix of the firm.
+	 *
+	 * @param firmId            {@link Long} ID of the firm
+	 * @param appointmentTypeId {@link Long} ID of the appointment type
+	 * @param employeeId        {@link Long} ID of the employee
+	 */
+	public void revoked(Long firmId, Long appointmentTypeId, Long employeeId) {
+		generation.incrementAndGet();
+		firms.computeIfPresent(firmId, (id, compiled) ->
+			new CompiledMatrix(compiled.getMatrix().without(appointmentTypeId, employeeId), compiled.getCompiledAt()));
+	}
+
+	/**
+	 * Applies a committed change of whether an appointment type requires a qualification to the
+	 * compiled matrix of the firm. A type with qualifications stays restricted either way.
+	 *
+	 * @param firmId                {@link Long} ID of the firm
+	 * @param appointmentTypeId     {@link Long} ID of the appointment type
+	 * @param qualificationRequired whether the type requires a qualification
+	 */
+	public void requirementChanged(Long firmId, Long appointmentTypeId, boolean qualificationRequired) {
+		generation.incrementAndGet();
+		firms.computeIfPresent(firmId, (id, compiled) -> new CompiledMatrix(
+			qualificationRequired
+				? compiled.getMatrix().restricted(appointmentTypeId)
+				: compiled.getMatrix().unrestricted(appointmentTypeId),
+			compiled.getCompiledAt()
+		));
+	}
+
+	/**
+	 * Returns the number of compiled matrices.
+	 *
+	 * @return number of firms
+	 */
+	public int size() {
+		return firms.size();
+	}
+
+	private QualificationMatrix compile(Long firmId) {
+		List<EmployeeQualification> qualifications = qualificationRepository.findAll(
+			EmployeeQualificationFilterBuilder.builder().firmId(firmId).build().toSpecification()
+		);
+		List<AppointmentType> restrictedTypes = appointmentTypeRepository.findAll(
+			AppointmentTypeFilterBuilder.builder().firmId(firmId).qualificationRequired(true).build().toSpecification()
+		);
+		return QualificationMatrix.of(
+			qualifications.stream()
+				.map(qualification -> new long[]{qualification.getAppointmentType().getId(), qualification.getEmployee().getId()})
+				.toList(),
+			restrictedTypes.stream().map(AppointmentType::getId).toList()
+		);
+	}
+
+	/**
+	 * Qualification matrix of a firm, with the time it was compiled.
+	 */
+	@Getter
+	@AllArgsConstructor
+	private static final class CompiledMatrix {
+
+		private final QualificationMatrix matrix;
+		private final Instant compiledAt;
+	}
+}
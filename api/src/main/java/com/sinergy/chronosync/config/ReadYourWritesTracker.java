@@ -0,0 +1,80 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.util.ReplicaRoutingContext;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks recent writes per client to provide read-your-writes consistency.
+ *
+ * <p>Registered as a {@link TransactionExecutionListener}, it records the time of every
+ * committed read-write transaction for the client in {@link ReplicaRoutingContext}.
+ * For the configured window afterwards, read-only transactions of that client are kept
+ * on the primary database, so the client never reads stale data from a lagging replica.</p>
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+	private final Map<String, Instant> lastWrites = new ConcurrentHashMap<>();
+	private final Duration window;
+	private final Clock clock;
+
+	public ReadYourWritesTracker(Duration window, Clock clock) {
+		this.window = window;
+		this.clock = clock;
+	}
+
+	/**
+	 * Records a write for the current client after a read-write transaction commits.
+	 *
+	 * @param transaction   {@link TransactionExecution} the committed transaction
+	 * @param commitFailure {@link Throwable} commit failure, or {@code null} if the commit succeeded
+	 */
+	@Override
+	public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+		if (commitFailure == null && !transaction.isReadOnly()) {
+			recordWrite(ReplicaRoutingContext.getClient());
+		}
+	}
+
+	/**
+	 * Records a write for the given client.
+	 *
+	 * @param client {@link String} client key, ignored if {@code null}
+	 */
+	public void recordWrite(String client) {
+		if (client != null) {
+			lastWrites.put(client, clock.instant());
+		}
+	}
+
+	/**
+	 * Checks whether the given client wrote within the read-your-writes window.
+	 *
+	 * @param client {@link String} client key
+	 * @return {@code true} if reads of the client must go to the primary database
+	 */
+	public boolean isSticky(String client) {
+		if (client == null) {
+			return false;
+		}
+
+		Instant lastWrite = lastWrites.get(client);
+		return lastWrite != null && lastWrite.plus(window).isAfter(clock.instant());
+	}
+
+	/**
+	 * Removes clients whose read-your-writes window has passed.
+	 */
+	@Scheduled(fixedDelayString = "${datasource.routing.read-your-writes-window:PT10S}")
+	public void purgeExpired() {
+		Instant threshold = clock.instant().minus(window);
+		lastWrites.values().removeIf(lastWrite -> lastWrite.isBefore(threshold));
+	}
+}
@@ -0,0 +1,132 @@
+package com.sinergy.chronosync.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Configuration class for read replica routing.
+ *
+ * <p>Active only when {@code spring.datasource.replica.url} is set. The primary pool is built
+ * from the regular {@code spring.datasource.*} properties, the replica pool from
+ * {@code spring.datasource.replica.*}. The application data source routes read-only
+ * transactions ({@code @Transactional(readOnly = true)}) to the replica, see
+ * {@link ReplicaRoutingDataSource}.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+
+	@Value("${spring.datasource.replica.url}")
+	private String replicaUrl;
+
+	@Value("${spring.datasource.replica.username:}")
+	private String replicaUsername;
+
+	@Value("${spring.datasource.replica.password:}")
+	private String replicaPassword;
+
+	@Value("${spring.datasource.replica.maximum-pool-size:10}")
+	private int replicaMaximumPoolSize;
+
+	@Value("${datasource.routing.max-replication-lag:PT5S}")
+	private Duration maxReplicationLag;
+
+	@Value("${datasource.routing.read-your-writes-window:PT10S}")
+	private Duration readYourWritesWindow;
+
+	@Value("${datasource.routing.lag-query:"
+		+ "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+		+ "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END}")
+	private String lagQuery;
+
+	/**
+	 * Provides the connection pool of the primary database.
+	 *
+	 * @param dataSourceProperties {@link DataSourceProperties} regular data source properties
+	 * @return {@link DataSource} primary connection pool
+	 */
+	@Bean(destroyMethod = "close")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	/**
+	 * Provides the connection pool of the read replica.
+	 *
+	 * @param dataSourceProperties {@link DataSourceProperties} regular data source properties
+	 * @return {@link DataSource} replica connection pool, opened in read-only mode
+	 */
+	@Bean(destroyMethod = "close")
+	public HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl(replicaUrl);
+		dataSource.setUsername(replicaUsername);
+		dataSource.setPassword(replicaPassword);
+		dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+		dataSource.setMaximumPoolSize(replicaMaximumPoolSize);
+		dataSource.setReadOnly(true);
+		dataSource.setPoolName("replica");
+
+		return dataSource;
+	}
+
+	/**
+	 * Provides the replication lag monitor of the read replica.
+	 *
+	 * @param replicaDataSource {@link DataSource} replica connection pool
+	 * @return {@link ReplicaLagMonitor} lag monitor
+	 */
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource) {
+		ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(replicaDataSource, lagQuery, maxReplicationLag);
+		replicaLagMonitor.checkLag();
+
+		return replicaLagMonitor;
+	}
+
+	/**
+	 * Provides the read-your-writes tracker, registered as transaction execution listener.
+	 *
+	 * @return {@link ReadYourWritesTracker} tracker of recent client writes
+	 */
+	@Bean
+	public ReadYourWritesTracker readYourWritesTracker() {
+		return new ReadYourWritesTracker(readYourWritesWindow, Clock.systemUTC());
+	}
+
+	/**
+	 * Provides the application data source routing between primary and replica.
+	 *
+	 * @param primaryDataSource     {@link DataSource} primary connection pool
+	 * @param replicaDataSource     {@link DataSource} replica connection pool
+	 * @param replicaLagMonitor     {@link ReplicaLagMonitor} lag monitor
+	 * @param readYourWritesTracker {@link ReadYourWritesTracker} tracker of recent client writes
+	 * @return {@link DataSource} lazily connecting routing data source
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(
+		@Qualifier("primaryDataSource") DataSource primaryDataSource,
+		@Qualifier("replicaDataSource") DataSource replicaDataSource,
+		ReplicaLagMonitor replicaLagMonitor,
+		ReadYourWritesTracker readYourWritesTracker
+	) {
+		return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+			primaryDataSource,
+			replicaDataSource,
+			replicaLagMonitor,
+			readYourWritesTracker
+		));
+	}
+}
@@ -0,0 +1,62 @@
+package com.sinergy.chronosync.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Periodically measures the replication lag of the read replica.
+ *
+ * <p>The replica is considered usable while its lag stays within the configured tolerance.
+ * If the lag grows beyond it, or the replica cannot be queried at all, read-only
+ * transactions fall back to the primary database until the next successful check.</p>
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+	private final JdbcTemplate replicaJdbcTemplate;
+	private final String lagQuery;
+	private final Duration maxLag;
+
+	private volatile boolean replicaUsable;
+
+	public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, Duration maxLag) {
+		this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		this.lagQuery = lagQuery;
+		this.maxLag = maxLag;
+	}
+
+	/**
+	 * Returns whether read-only work may currently be routed to the replica.
+	 *
+	 * @return {@code true} if the replica lag is within tolerance
+	 */
+	public boolean isReplicaUsable() {
+		return replicaUsable;
+	}
+
+	/**
+	 * Queries the replica for its current lag in seconds and updates its usability.
+	 */
+	@Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:PT2S}")
+	public void checkLag() {
+		try {
+			Double lagSeconds = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+			boolean usable = lagSeconds != null && lagSeconds * 1000 <= maxLag.toMillis();
+
+			if (usable != replicaUsable) {
+				log.info("Read replica is now {} (lag {} s).", usable ? "in use" : "bypassed", lagSeconds);
+			}
+			replicaUsable = usable;
+		} catch (DataAccessException e) {
+			if (replicaUsable) {
+				log.warn("Read replica lag check failed, routing reads to primary.", e);
+			}
+			replicaUsable = false;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.util.ReplicaRoutingContext;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Data source that routes read-only transactions to a read replica.
+ *
+ * <p>Work runs on the replica only when the current transaction is read-only, the replica
+ * lag is within tolerance and the current client has not written recently. Everything else,
+ * including work outside transactions, goes to the primary database.</p>
+ *
+ * <p>Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * so the physical connection is obtained after the transaction read-only flag is known.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	/**
+	 * Lookup keys of the routed data sources.
+	 */
+	public enum DataSourceType {
+		PRIMARY,
+		REPLICA
+	}
+
+	private final ReplicaLagMonitor replicaLagMonitor;
+	private final ReadYourWritesTracker readYourWritesTracker;
+
+	public ReplicaRoutingDataSource(
+		DataSource primary,
+		DataSource replica,
+		ReplicaLagMonitor replicaLagMonitor,
+		ReadYourWritesTracker readYourWritesTracker
+	) {
+		this.replicaLagMonitor = replicaLagMonitor;
+		this.readYourWritesTracker = readYourWritesTracker;
+
+		setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	/**
+	 * Determines the data source for the current connection request.
+	 *
+	 * @return {@link DataSourceType} lookup key of the data source to use
+	 */
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+			&& replicaLagMonitor.isReplicaUsable()
+			&& !readYourWritesTracker.isSticky(ReplicaRoutingContext.getClient())) {
+			return DataSourceType.REPLICA;
+		}
+
+		return DataSourceType.PRIMARY;
+	}
+}
@@ -0,0 +1,12 @@
+package com.sinergy.chronosync.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling scheduled background tasks.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
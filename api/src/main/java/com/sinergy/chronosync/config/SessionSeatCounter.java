@@ -0,0 +1,141 @@
+package com.sinergy.chronosync.config;
+
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process counters of the seats left of group sessions.
+ *
+ * <p>Signups take a seat from the counter with a compare-and-set before they touch the database,
+ * so once a session is full further signups are rejected without waiting for its row. Signups that
+ * got a seat still take it with a conditional update in the database, which stays authoritative:
+ * a seat taken here is given back when its transaction rolls back, and a counter that let a signup
+ * through although the database had no seat left is dropped.</p>
+ *
+ * <p>A counter is seeded from the seats left read by the first signup of the session. Counters
+ * are local to this instance, so seats returned on other instances are only picked up when an
+ * exhausted counter is older than the refresh interval and is seeded again. At most
+ * {@code maxSessions} sessions are counted; beyond that the counters are dropped and seeded again.</p>
+ */
+@Component
+public class SessionSeatCounter {
+
+	private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+	private final Duration refreshInterval;
+	private final int maxSessions;
+
+	/**
+	 * Creates the counters.
+	 *
+	 * @param refreshInterval time after which an exhausted counter is seeded again
+	 * @param maxSessions     largest number of sessions counted at once
+	 */
+	public SessionSeatCounter(
+		@Value("${appointments.seats.refresh-interval:PT10S}") Duration refreshInterval,
+		@Value("${appointments.seats.max-sessions:10000}") int maxSessions
+	) {
+		this.refreshInterval = refreshInterval;
+		this.maxSessions = maxSessions;
+	}
+
+	/**
+	 * Takes one seat of a session.
+	 *
+	 * @param appointmentId {@link Long} ID of the group session
+	 * @param seatsLeft     seats left as read from the database, seeding the counter if needed
+	 * @return the taken {@link Seat}, or {@code null} if no seat is left
+	 */
+	public Seat tryTake(Long appointmentId, int seatsLeft) {
+		Counter counter = counters.get(appointmentId);
+		if (counter == null) {
+			if (counters.size() >= maxSessions) {
+				counters.clear();
+			}
+			counter = counters.computeIfAbsent(appointmentId, id -> new Counter(new AtomicInteger(seatsLeft), Instant.now()));
+		}
+
+		if (take(counter.seats)) {
+			return new Seat(counter.seats);
+		}
+		if (seatsLeft <= 0 || counter.seededAt.plus(refreshInterval).isAfter(Instant.now())) {
+			return null;
+		}
+
+		// Another signup may have seeded the counter again in the meantime.
+		counter = counters.merge(appointmentId, new Counter(new AtomicInteger(seatsLeft), Instant.now()),
+			(current, seeded) -> current.seats.get() > 0 ? current : seeded);
+		return take(counter.seats) ? new Seat(counter.seats) : null;
+	}
+
+	/**
+	 * Gives a seat back to a session after a signup was cancelled.
+	 *
+	 * @param appointmentId {@link Long} ID of the group session
+	 */
+	public void returned(Long appointmentId) {
+		Counter counter = counters.get(appointmentId);
+		if (counter != null) {
+			counter.seats.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Drops the counter of a session, so that it is seeded again by the next signup.
+	 *
+	 * @param appointmentId {@link Long} ID of the group session
+	 */
+	public void evict(Long appointmentId) {
+		counters.remove(appointmentId);
+	}
+
+	/**
+	 * Returns the number of counted sessions.
+	 *
+	 * @return number of sessions
+	 */
+	public int size() {
+		return counters.size();
+	}
+
+	private static boolean take(AtomicInteger seats) {
+		int left;
+		do {
+			left = seats.get();
+			if (left <= 0) {
+				return false;
+			}
+		} while (!seats.compareAndSet(left, left - 1));
+		return true;
+	}
+
+	/**
+	 * Seat taken from a counter. Releasing it gives it back to the same counter, so a release
+	 * after the counter was dropped or seeded again does not change the new count.
+	 */
+	@AllArgsConstructor
+	public static final class Seat {
+
+		private final AtomicInteger seats;
+
+		/**
+		 * Gives the seat back.
+		 */
+		public void release() {
+			seats.incrementAndGet();
+		}
+	}
+
+	@AllArgsConstructor
+	private static final class Counter {
+
+		private final AtomicInteger seats;
+		private final Instant seededAt;
+	}
+}
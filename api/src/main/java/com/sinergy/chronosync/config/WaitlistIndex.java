@@ -0,0 +1,309 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.builder.AppointmentTypeFilterBuilder;
+import com.sinergy.chronosync.builder.WaitlistEntryFilterBuilder;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.waitlist.WaitlistEntry;
+import com.sinergy.chronosync.model.waitlist.WaitlistEntryStatus;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.WaitlistEntryRepository;
+import com.sinergy.chronosync.util.WindowQueue;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-process priority queues of the waiting waitlist entries of every firm.
+ *
+ * <p>The entries of a firm are kept in one {@link WindowQueue} per appointment type and preferred
+ * employee, entries without a preferred employee in a queue of their own. A window is indexed by
+ * the minutes a slot of the appointment type may start at, so finding the best entry accepting a
+ * freed slot takes two logarithmic lookups, however long the waitlist is. Slots are matched at
+ * minute precision, and against the duration of the appointment type when the entry was indexed.</p>
+ *
+ * <p>The queues of a firm are loaded with two queries the first time they are needed, and kept
+ * up to date by the waitlist service once its changes commit. Access to the queues of a firm is
+ * serialized, so an entry is never taken twice. The queues are local to this instance: entries
+ * changed by other instances are picked up once the loaded queues expire and are loaded again.</p>
+ */
+@Slf4j
+@Component
+public class WaitlistIndex {
+
+	private final WaitlistEntryRepository entryRepository;
+	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final Duration ttl;
+	private final Map<Long, FirmQueues> firms = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the index.
+	 *
+	 * @param entryRepository           {@link WaitlistEntryRepository} to load waiting entries from
+	 * @param appointmentTypeRepository {@link AppointmentTypeRepository} to read appointment type durations from
+	 * @param ttl                       time after which loaded queues are loaded again
+	 */
+	public WaitlistIndex(
+		WaitlistEntryRepository entryRepository,
+		AppointmentTypeRepository appointmentTypeRepository,
+		@Value("${waitlist.index.ttl:PT5M}") Duration ttl
+	) {
+		this.entryRepository = entryRepository;
+		this.appointmentTypeRepository = appointmentTypeRepository;
+		this.ttl = ttl;
+	}
+
+	/**
+	 * Queues a committed waiting entry.
+	 *
+	 * @param entry           {@link WaitlistEntry} waiting entry
+	 * @param durationMinutes duration of the entry's appointment type
+	 */
+	public void added(WaitlistEntry entry, int durationMinutes) {
+		Queued queued = queued(entry, durationMinutes);
+		FirmQueues queues = queues(entry.getFirm().getId());
+		synchronized (queues) {
+			if (queued != null && queues.loaded) {
+				queues.add(queued);
+			}
+		}
+	}
+
+	/**
+	 * Removes a committed entry that is no longer waiting.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param id     {@link Long} ID of the entry
+	 */
+	public void removed(Long firmId, Long id) {
+		FirmQueues queues = queues(firmId);
+		synchronized (queues) {
+			queues.remove(id);
+		}
+	}
+
+	/**
+	 * Takes the best waiting entry accepting a freed slot out of the queues. Entries preferring
+	 * the slot's employee compete with entries accepting any employee.
+	 *
+	 * @param firmId            {@link Long} ID of the firm
+	 * @param appointmentTypeId {@link Long} ID of the appointment type of the slot
+	 * @param employeeId        {@link Long} ID of the employee of the slot
+	 * @param startTime         {@link Instant} start of the slot
+	 * @return {@link Queued} taken entry, {@code null} if no entry accepts the slot
+	 */
+	public Queued poll(Long firmId, Long appointmentTypeId, Long employeeId, Instant startTime) {
+		long minute = Math.floorDiv(startTime.getEpochSecond(), 60);
+		FirmQueues queues = queues(firmId);
+		synchronized (queues) {
+			load(firmId, queues);
+			Queued preferred = queues.peek(new QueueKey(appointmentTypeId, employeeId), minute);
+			Queued any = queues.peek(new QueueKey(appointmentTypeId, null), minute);
+			Queued best = preferred == null || (any != null && any.ranks(preferred)) ? any : preferred;
+			if (best != null) {
+				queues.remove(best.getId());
+			}
+			return best;
+		}
+	}
+
+	/**
+	 * Puts an entry taken with {@link #poll} back, e.g. because the freed slot could not be held.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @param queued {@link Queued} taken entry
+	 */
+	public void restore(Long firmId, Queued queued) {
+		FirmQueues queues = queues(firmId);
+		synchronized (queues) {
+			if (queues.loaded) {
+				queues.add(queued);
+			}
+		}
+	}
+
+	/**
+	 * Removes entries whose window has ended.
+	 */
+	@Scheduled(fixedDelayString = "${waitlist.prune-interval:PT1H}")
+	public void prune() {
+		long minute = Math.floorDiv(Instant.now().getEpochSecond(), 60);
+		int removed = 0;
+		for (FirmQueues queues : firms.values()) {
+			synchronized (queues) {
+				removed += queues.removeEndedBefore(minute);
+			}
+		}
+		if (removed > 0) {
+			log.debug("Pruned {} ended entries from the waitlist index", removed);
+		}
+	}
+
+	/**
+	 * Returns the number of queued entries of a firm, without loading them.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @return number of entries
+	 */
+	public int size(Long firmId) {
+		FirmQueues queues = firms.get(firmId);
+		if (queues == null) {
+			return 0;
+		}
+		synchronized (queues) {
+			return queues.entries.size();
+		}
+	}
+
+	private FirmQueues queues(Long firmId) {
+		return firms.computeIfAbsent(firmId, id -> new FirmQueues());
+	}
+
+	/**
+	 * Loads the waiting entries of the firm whose window has not ended, unless loaded before
+	 * they expire. Entries added while loading are queued again by {@link #added}, which
+	 * replaces them.
+	 */
+	private void load(Long firmId, FirmQueues queues) {
+		Instant now = Instant.now();
+		if (queues.loaded && now.isBefore(queues.loadedAt.plus(ttl))) {
+			return;
+		}
+		queues.clear();
+		Map<Long, Integer> durations = appointmentTypeRepository.findAll(
+			AppointmentTypeFilterBuilder.builder().firmId(firmId).build().toSpecification()
+		).stream().collect(Collectors.toMap(AppointmentType::getId, AppointmentType::getDurationMinutes));
+
+		for (WaitlistEntry entry : entryRepository.findAll(WaitlistEntryFilterBuilder.builder()
+			.firmId(firmId)
+			.status(WaitlistEntryStatus.WAITING)
+			.windowEndAfter(now)
+			.build()
+			.toSpecification())) {
+			Integer duration = durations.get(entry.getAppointmentType().getId());
+			Queued queued = duration != null ? queued(entry, duration) : null;
+			if (queued != null) {
+				queues.add(queued);
+			}
+		}
+		queues.loaded = true;
+		queues.loadedAt = now;
+		log.debug("Loaded {} waitlist entries of firm {}", queues.entries.size(), firmId);
+	}
+
+	/**
+	 * Returns the queued form of the entry, or {@code null} if no slot of the given duration
+	 * fits its window.
+	 */
+	private static Queued queued(WaitlistEntry entry, int durationMinutes) {
+		long from = Math.floorDiv(entry.getWindowStart().getEpochSecond() + 59, 60);
+		long to = Math.floorDiv(entry.getWindowEnd().getEpochSecond(), 60) - durationMinutes;
+		if (from > to || from < 0) {
+			return null;
+		}
+		return new Queued(
+			entry.getId(),
+			entry.getAppointmentType().getId(),
+			entry.getEmployee() != null ? entry.getEmployee().getId() : null,
+			-entry.getPriority(),
+			from,
+			to
+		);
+	}
+
+	/**
+	 * Waiting entry as kept in the queues. Lower ranks are offered slots first.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static final class Queued {
+
+		private final Long id;
+		private final Long appointmentTypeId;
+		private final Long employeeId;
+		private final long rank;
+		private final long from;
+		private final long to;
+
+		private boolean ranks(Queued other) {
+			return rank < other.rank || (rank == other.rank && id < other.id);
+		}
+	}
+
+	/**
+	 * Queue of the entries of an appointment type preferring an employee, or any employee.
+	 */
+	@EqualsAndHashCode
+	@AllArgsConstructor
+	private static final class QueueKey {
+
+		private final Long appointmentTypeId;
+		private final Long employeeId;
+	}
+
+	/**
+	 * Queues of a firm with their entries by ID.
+	 */
+	private static final class FirmQueues {
+
+		private final Map<QueueKey, WindowQueue> queues = new HashMap<>();
+		private final Map<Long, Queued> entries = new HashMap<>();
+		private boolean loaded;
+		private Instant loadedAt;
+
+		private void add(Queued queued) {
+			remove(queued.getId());
+			queues.computeIfAbsent(key(queued), key -> new WindowQueue())
+				.add(queued.getId(), queued.getRank(), queued.getFrom(), queued.getTo());
+			entries.put(queued.getId(), queued);
+		}
+
+		private void remove(Long id) {
+			Queued queued = entries.remove(id);
+			if (queued == null) {
+				return;
+			}
+			QueueKey key = key(queued);
+			WindowQueue queue = queues.get(key);
+			queue.remove(id);
+			if (queue.size() == 0) {
+				queues.remove(key);
+			}
+		}
+
+		private void clear() {
+			queues.clear();
+			entries.clear();
+		}
+
+		private Queued peek(QueueKey key, long minute) {
+			WindowQueue queue = queues.get(key);
+			OptionalLong id = queue != null ? queue.peek(minute) : OptionalLong.empty();
+			return id.isPresent() ? entries.get(id.getAsLong()) : null;
+		}
+
+		private int removeEndedBefore(long minute) {
+			int removed = 0;
+			for (Queued queued : entries.values().stream().filter(q -> q.getTo() < minute).toList()) {
+				remove(queued.getId());
+				removed++;
+			}
+			return removed;
+		}
+
+		private static QueueKey key(Queued queued) {
+			return new QueueKey(queued.getAppointmentTypeId(), queued.getEmployeeId());
+		}
+	}
+}
@@ -2,7 +2,9 @@ package com.sinergy.chronosync.config;
 
 import com.sinergy.chronosync.model.user.UserRole;
 import com.sinergy.chronosync.util.CollectionUtils;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -12,6 +14,7 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 
@@ -32,6 +35,7 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 public class WebSecurityConfig {
 
 	private final JwtAuthenticationFilterConfig jwtAuthenticationFilterConfig;
+	private final IdempotencyFilter idempotencyFilter;
 	private final AuthenticationProvider authenticationProvider;
 	private final LogoutHandler logoutHandler;
 	private final CorsConfig corsConfig;
@@ -45,9 +49,19 @@ public class WebSecurityConfig {
 	private static final List<String> MANAGER_LIST_URL = CollectionUtils.concat(
 		EMPLOYEE_LIST_URL,
 		List.of(
+			"/api/v1/user",
 			"/api/v1/user/create",
 			"/api/v1/test/test-manager",
-			"/api/v1/appointment-type/**"
+			"/api/v1/appointment-type/**",
+			"/api/v1/appointment/**",
+			"/api/v1/appointment-series/**",
+			"/api/v1/working-hours/**",
+			"/api/v1/resource/**",
+			"/api/v1/group-session/**",
+			"/api/v1/waitlist/**",
+			"/api/v1/reschedule/**",
+			"/api/v1/qualification/**",
+			"/api/v1/calendar/**"
 		)
 	);
 
@@ -55,6 +69,8 @@ public class WebSecurityConfig {
 		MANAGER_LIST_URL,
 		List.of(
 			"/api/v1/user/enable",
+			"/actuator/hibernatecache",
+			"/actuator/calendarprojection",
 			"/api/v1/test/test-manager"
 		)
 	);
@@ -64,7 +80,9 @@ public class WebSecurityConfig {
 	 *
 	 * <p> Sets up HTTP security configurations such as disabling CSRF protection,
 	 * allowing unauthenticated access to specific URL patterns,\ managing session creation policy,
-	 * adding filters for JWT authentication and logout handling.</p>
+	 * adding filters for JWT authentication, idempotency keys and logout handling. Async dispatches,
+	 * which complete streamed responses such as calendar events, were authorized by their request
+	 * and are not authenticated again.</p>
 	 *
 	 * @param http {@link HttpSecurity} http object to configure security settings
 	 * @return {@link SecurityFilterChain} object that contains the security filter configuration
@@ -75,6 +93,7 @@ public class WebSecurityConfig {
 		return http
 			.csrf(AbstractHttpConfigurer::disable)
 			.authorizeHttpRequests(req -> req
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 				.requestMatchers(WHITE_LIST_URL.toArray(String[]::new)).permitAll()
 				.requestMatchers(ADMIN_LIST_URL.toArray(String[]::new)).hasRole(UserRole.ADMINISTRATOR.name())
 				.requestMatchers(MANAGER_LIST_URL.toArray(String[]::new)).hasRole(UserRole.MANAGER.name())
@@ -84,10 +103,25 @@ public class WebSecurityConfig {
 			.sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
 			.authenticationProvider(authenticationProvider)
 			.addFilterBefore(jwtAuthenticationFilterConfig, UsernamePasswordAuthenticationFilter.class)
+			.addFilterAfter(idempotencyFilter, AuthorizationFilter.class)
 			.logout(logout ->
 				logout.logoutUrl("/api/v1/auth/logout")
 					.addLogoutHandler(logoutHandler)
 					.logoutSuccessHandler((request, response, authentication) -> SecurityContextHolder.clearContext())
 			).build();
 	}
+
+	/**
+	 * Keeps the {@link IdempotencyFilter} out of the servlet filter chain. It runs in the security
+	 * filter chain only, after the user is authenticated and authorized.
+	 *
+	 * @param idempotencyFilter {@link IdempotencyFilter} filter bean
+	 * @return disabled {@link FilterRegistrationBean}
+	 */
+	@Bean
+	FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter idempotencyFilter) {
+		FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(idempotencyFilter);
+		registration.setEnabled(false);
+		return registration;
+	}
 }
@@ -0,0 +1,171 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.AppointmentRangeRequestDTO;
+import com.sinergy.chronosync.dto.request.AppointmentRequestDTO;
+import com.sinergy.chronosync.dto.request.SlotAvailabilityRequestDTO;
+import com.sinergy.chronosync.dto.request.SlotHoldConfirmRequestDTO;
+import com.sinergy.chronosync.dto.request.SlotHoldRequestDTO;
+import com.sinergy.chronosync.dto.request.SlotSearchRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentResponseDTO;
+import com.sinergy.chronosync.dto.response.AvailableSlotDTO;
+import com.sinergy.chronosync.dto.response.CalendarViewDTO;
+import com.sinergy.chronosync.dto.response.SlotHoldResponseDTO;
+import com.sinergy.chronosync.service.AppointmentService;
+import com.sinergy.chronosync.service.SlotHoldService;
+import com.sinergy.chronosync.service.SlotSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for managing appointments.
+ * <p>
+ * This controller provides endpoints for retrieving appointments of a time range, calendar views, searching free slots, checking availability, holding slots, booking and cancelling appointments.
+ * </p>
+ */
+@RestController
+@RequestMapping(path = "api/v1/appointment")
+@RequiredArgsConstructor
+public class AppointmentController {
+
+	private final AppointmentService appointmentService;
+	private final SlotSearchService slotSearchService;
+	private final SlotHoldService slotHoldService;
+
+	/**
+	 * Retrieves the appointments of the current user's firm overlapping the requested time range.
+	 *
+	 * <p>Intended for calendar views: a week for any number of employees is returned
+	 * by a single request, ordered by start time.</p>
+	 *
+	 * @param request {@link AppointmentRangeRequestDTO} time range, employees and status to filter by
+	 * @return {@link List} of {@link AppointmentResponseDTO} with HTTP status 200 (OK)
+	 */
+	@PostMapping("/get")
+	public ResponseEntity<List<AppointmentResponseDTO>> getAppointments(
+		@RequestBody AppointmentRangeRequestDTO request
+	) {
+		return ResponseEntity.ok(appointmentService.getAppointments(request));
+	}
+
+	/**
+	 * Retrieves the appointments of the current user's firm overlapping the requested time range
+	 * in columnar form, for calendar views of many employees.
+	 *
+	 * <p>JSON is returned by default, CBOR if requested with {@code Accept: application/cbor}.</p>
+	 *
+	 * @param request {@link AppointmentRangeRequestDTO} time range, employees and status to filter by
+	 * @return {@link CalendarViewDTO} with HTTP status 200 (OK)
+	 */
+	@PostMapping(path = "/calendar", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+	public ResponseEntity<CalendarViewDTO> getCalendar(
+		@RequestBody AppointmentRangeRequestDTO request
+	) {
+		return ResponseEntity.ok(appointmentService.getCalendar(request));
+	}
+
+	/**
+	 * Searches the free slots of an appointment type across the employees of the current user's firm.
+	 *
+	 * <p>Slots are ordered by start time. The pagination details are provided in the request body,
+	 * default values are used if not specified.</p>
+	 *
+	 * @param request {@link SlotSearchRequestDTO} appointment type, time window, employees and pagination
+	 * @return {@link Page} of {@link AvailableSlotDTO} with HTTP status 200 (OK)
+	 */
+	@PostMapping("/slots")
+	public ResponseEntity<Page<AvailableSlotDTO>> findAvailableSlots(
+		@RequestBody SlotSearchRequestDTO request
+	) {
+		PageRequest pageRequest = PageRequest.of(request.getPage(), request.getPageSize());
+		return ResponseEntity.ok(slotSearchService.findAvailableSlots(request, pageRequest));
+	}
+
+	/**
+	 * Checks whether an employee is free within a time range.
+	 *
+	 * <p>Answered from memory, intended for interactive checks while a booking is being entered.</p>
+	 *
+	 * @param request {@link SlotAvailabilityRequestDTO} employee and time range to check
+	 * @return {@link Boolean} availability with HTTP status 200 (OK)
+	 */
+	@PostMapping("/available")
+	public ResponseEntity<Boolean> isEmployeeAvailable(
+		@RequestBody SlotAvailabilityRequestDTO request
+	) {
+		return ResponseEntity.ok(appointmentService.isEmployeeAvailable(request));
+	}
+
+	/**
+	 * Holds a free slot for a few minutes while the booking is being completed.
+	 *
+	 * @param request {@link SlotHoldRequestDTO} employee, appointment type and start time to hold
+	 * @return {@link SlotHoldResponseDTO} hold with its expiry time and HTTP status 201 (Created)
+	 */
+	@PostMapping("/hold")
+	public ResponseEntity<SlotHoldResponseDTO> holdSlot(
+		@RequestBody SlotHoldRequestDTO request
+	) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(slotHoldService.holdSlot(request));
+	}
+
+	/**
+	 * Books the appointment held by a slot hold and releases the hold.
+	 *
+	 * @param request {@link SlotHoldConfirmRequestDTO} hold to convert and the customer
+	 * @return booked {@link AppointmentResponseDTO} along with an HTTP status of 201 (Created)
+	 */
+	@PostMapping("/confirm-hold")
+	public ResponseEntity<AppointmentResponseDTO> confirmHold(
+		@RequestBody SlotHoldConfirmRequestDTO request
+	) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(appointmentService.confirmHold(request));
+	}
+
+	/**
+	 * Releases a slot hold before it expires.
+	 *
+	 * @param id {@link String} ID of the hold to release
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@PutMapping("/release-hold")
+	public ResponseEntity<Void> releaseHold(
+		@RequestParam String id
+	) {
+		slotHoldService.releaseHold(id);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Books a new appointment.
+	 *
+	 * @param request {@link AppointmentRequestDTO} containing the details of the appointment
+	 * @return booked {@link AppointmentResponseDTO} along with an HTTP status of 201 (Created)
+	 */
+	@PostMapping("/create")
+	public ResponseEntity<AppointmentResponseDTO> createAppointment(
+		@RequestBody AppointmentRequestDTO request
+	) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(appointmentService.createAppointment(request));
+	}
+
+	/**
+	 * Cancels a booked appointment by its ID.
+	 *
+	 * @param id {@link Long} ID of the appointment to cancel
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@PutMapping("/cancel")
+	public ResponseEntity<Void> cancelAppointment(
+		@RequestParam Long id
+	) {
+		appointmentService.cancelAppointment(id);
+		return ResponseEntity.noContent().build();
+	}
+}
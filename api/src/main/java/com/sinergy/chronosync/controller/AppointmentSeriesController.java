@@ -0,0 +1,96 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.AppointmentOccurrenceRequestDTO;
+import com.sinergy.chronosync.dto.request.AppointmentRangeRequestDTO;
+import com.sinergy.chronosync.dto.request.AppointmentSeriesRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentOccurrenceDTO;
+import com.sinergy.chronosync.dto.response.AppointmentSeriesResponseDTO;
+import com.sinergy.chronosync.service.AppointmentSeriesService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for managing recurring appointment series.
+ * <p>
+ * This controller provides endpoints for retrieving the occurrences of a time range, booking
+ * and cancelling series, and cancelling or moving single occurrences.
+ * </p>
+ */
+@RestController
+@RequestMapping(path = "api/v1/appointment-series")
+@RequiredArgsConstructor
+public class AppointmentSeriesController {
+
+	private final AppointmentSeriesService appointmentSeriesService;
+
+	/**
+	 * Retrieves the occurrences of the current user's firm's series overlapping the requested time range.
+	 *
+	 * @param request {@link AppointmentRangeRequestDTO} time range and employees to filter by
+	 * @return {@link List} of {@link AppointmentOccurrenceDTO} with HTTP status 200 (OK)
+	 */
+	@PostMapping("/get")
+	public ResponseEntity<List<AppointmentOccurrenceDTO>> getOccurrences(
+		@RequestBody AppointmentRangeRequestDTO request
+	) {
+		return ResponseEntity.ok(appointmentSeriesService.getOccurrences(request));
+	}
+
+	/**
+	 * Books a new recurring appointment series.
+	 *
+	 * @param request {@link AppointmentSeriesRequestDTO} containing the details of the series
+	 * @return booked {@link AppointmentSeriesResponseDTO} along with an HTTP status of 201 (Created)
+	 */
+	@PostMapping("/create")
+	public ResponseEntity<AppointmentSeriesResponseDTO> createSeries(
+		@RequestBody AppointmentSeriesRequestDTO request
+	) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(appointmentSeriesService.createSeries(request));
+	}
+
+	/**
+	 * Cancels a series with all its occurrences.
+	 *
+	 * @param id {@link Long} ID of the series to cancel
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@PutMapping("/cancel")
+	public ResponseEntity<Void> cancelSeries(
+		@RequestParam Long id
+	) {
+		appointmentSeriesService.cancelSeries(id);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Cancels a single occurrence of a series.
+	 *
+	 * @param request {@link AppointmentOccurrenceRequestDTO} occurrence to cancel
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@PutMapping("/cancel-occurrence")
+	public ResponseEntity<Void> cancelOccurrence(
+		@RequestBody AppointmentOccurrenceRequestDTO request
+	) {
+		appointmentSeriesService.cancelOccurrence(request);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Moves a single occurrence of a series to a new start time.
+	 *
+	 * @param request {@link AppointmentOccurrenceRequestDTO} occurrence to move and its new start time
+	 * @return moved {@link AppointmentOccurrenceDTO} with HTTP status 200 (OK)
+	 */
+	@PutMapping("/reschedule-occurrence")
+	public ResponseEntity<AppointmentOccurrenceDTO> rescheduleOccurrence(
+		@RequestBody AppointmentOccurrenceRequestDTO request
+	) {
+		return ResponseEntity.ok(appointmentSeriesService.rescheduleOccurrence(request));
+	}
+}
@@ -1,13 +1,16 @@
 package com.sinergy.chronosync.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.sinergy.chronosync.dto.request.AppointmentTypeRequestDTO;
 import com.sinergy.chronosync.dto.request.BasePaginationRequest;
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
 import com.sinergy.chronosync.service.impl.AppointmentTypeServiceImpl;
+import com.sinergy.chronosync.util.MergePatchUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -75,6 +78,25 @@ public class AppointmentTypeController {
 		return ResponseEntity.ok(updatedAppointmentType);
 	}
 
+	/**
+	 * Partially updates an appointment type identified by its ID.
+	 *
+	 * <p>The request body is a JSON Merge Patch document (RFC 7396) containing only the fields
+	 * that should change, e.g. {@code {"colorCode": "#00FF00"}}.</p>
+	 *
+	 * @param id    {@link Long} ID of the appointment type to patch
+	 * @param patch {@link JsonNode} merge patch document
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@PatchMapping(consumes = {MergePatchUtils.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+	public ResponseEntity<Void> patchAppointmentType(
+		@RequestParam Long id,
+		@RequestBody JsonNode patch
+	) {
+		appointmentTypeService.patchAppointmentType(id, patch);
+		return ResponseEntity.noContent().build();
+	}
+
 	/**
 	 * Deletes an appointment type by its ID.
 	 *
@@ -0,0 +1,37 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.service.CalendarEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controller streaming calendar changes.
+ * <p>
+ * This controller provides a Server-Sent Events stream of the booking and appointment type
+ * changes of the current user's firm, so clients keep their views up to date without polling.
+ * </p>
+ */
+@RestController
+@RequestMapping(path = "api/v1/calendar")
+@RequiredArgsConstructor
+public class CalendarEventController {
+
+	private final CalendarEventService calendarEventService;
+
+	/**
+	 * Subscribes to the calendar events of the current user's firm.
+	 *
+	 * <p>The stream ends after the configured timeout or when the client falls behind; clients
+	 * reconnect and reload their views then.</p>
+	 *
+	 * @return {@link SseEmitter} streaming {@code appointment} and {@code appointment-type} events
+	 */
+	@GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter subscribe() {
+		return calendarEventService.subscribe();
+	}
+}
@@ -0,0 +1,67 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.GroupSessionSignupRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentAttendeeDTO;
+import com.sinergy.chronosync.service.GroupSessionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for signing customers up to group sessions.
+ * <p>
+ * Group sessions are booked as appointments of appointment types with a capacity above one.
+ * This controller provides endpoints for signing customers up, cancelling signups and
+ * retrieving the attendees of a session.
+ * </p>
+ */
+@RestController
+@RequestMapping(path = "api/v1/group-session")
+@RequiredArgsConstructor
+public class GroupSessionController {
+
+	private final GroupSessionService groupSessionService;
+
+	/**
+	 * Signs a customer up to a group session.
+	 *
+	 * @param request {@link GroupSessionSignupRequestDTO} session and customer
+	 * @return created {@link AppointmentAttendeeDTO} along with an HTTP status of 201 (Created)
+	 */
+	@PostMapping("/signup")
+	public ResponseEntity<AppointmentAttendeeDTO> signUp(
+		@RequestBody GroupSessionSignupRequestDTO request
+	) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(groupSessionService.signUp(request));
+	}
+
+	/**
+	 * Cancels the signup of a customer to a group session.
+	 *
+	 * @param request {@link GroupSessionSignupRequestDTO} session and customer
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@PutMapping("/cancel-signup")
+	public ResponseEntity<Void> cancelSignup(
+		@RequestBody GroupSessionSignupRequestDTO request
+	) {
+		groupSessionService.cancelSignup(request);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Retrieves the attendees of a group session.
+	 *
+	 * @param id {@link Long} ID of the group session
+	 * @return {@link List} of {@link AppointmentAttendeeDTO} with HTTP status 200 (OK)
+	 */
+	@PostMapping("/attendees")
+	public ResponseEntity<List<AppointmentAttendeeDTO>> getAttendees(
+		@RequestParam Long id
+	) {
+		return ResponseEntity.ok(groupSessionService.getAttendees(id));
+	}
+}
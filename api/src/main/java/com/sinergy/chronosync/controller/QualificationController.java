@@ -0,0 +1,66 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.EmployeeQualificationRequestDTO;
+import com.sinergy.chronosync.dto.response.EmployeeQualificationResponseDTO;
+import com.sinergy.chronosync.service.QualificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for managing the qualifications of employees to perform appointment types.
+ * <p>
+ * This controller provides endpoints for retrieving, granting and revoking qualifications.
+ * Appointment types without qualifications can be performed by every employee.
+ * </p>
+ */
+@RestController
+@RequestMapping(path = "api/v1/qualification")
+@RequiredArgsConstructor
+public class QualificationController {
+
+	private final QualificationService qualificationService;
+
+	/**
+	 * Retrieves the qualifications of the current user's firm.
+	 *
+	 * @param filter {@link EmployeeQualificationRequestDTO} employee and appointment type to filter by
+	 * @return {@link List} of {@link EmployeeQualificationResponseDTO} with HTTP status 200 (OK)
+	 */
+	@PostMapping("/get")
+	public ResponseEntity<List<EmployeeQualificationResponseDTO>> getQualifications(
+		@RequestBody EmployeeQualificationRequestDTO filter
+	) {
+		return ResponseEntity.ok(qualificationService.getQualifications(filter));
+	}
+
+	/**
+	 * Qualifies an employee for an appointment type.
+	 *
+	 * @param request {@link EmployeeQualificationRequestDTO} employee and appointment type
+	 * @return created {@link EmployeeQualificationResponseDTO} along with an HTTP status of 201 (Created)
+	 */
+	@PostMapping("/create")
+	public ResponseEntity<EmployeeQualificationResponseDTO> grantQualification(
+		@RequestBody EmployeeQualificationRequestDTO request
+	) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(qualificationService.grantQualification(request));
+	}
+
+	/**
+	 * Revokes a qualification.
+	 *
+	 * @param id {@link Long} ID of the qualification
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@DeleteMapping
+	public ResponseEntity<Void> revokeQualification(
+		@RequestParam Long id
+	) {
+		qualificationService.revokeQualification(id);
+		return ResponseEntity.noContent().build();
+	}
+}
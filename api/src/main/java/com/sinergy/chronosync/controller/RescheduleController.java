@@ -0,0 +1,52 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.AbsenceRescheduleRequestDTO;
+import com.sinergy.chronosync.dto.response.ReschedulePlanDTO;
+import com.sinergy.chronosync.service.RescheduleService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for moving the bookings of absent employees.
+ * <p>
+ * This controller provides endpoints for previewing how the bookings of an employee who is absent
+ * would be moved to colleagues or other times, and for applying the moves.
+ * </p>
+ */
+@RestController
+@RequestMapping(path = "api/v1/reschedule")
+@RequiredArgsConstructor
+public class RescheduleController {
+
+	private final RescheduleService rescheduleService;
+
+	/**
+	 * Computes how the bookings of an absent employee would be moved, without changing them.
+	 *
+	 * @param request {@link AbsenceRescheduleRequestDTO} absent employee, absence and colleagues to consider
+	 * @return {@link ReschedulePlanDTO} planned moves with HTTP status 200 (OK)
+	 */
+	@PostMapping("/plan")
+	public ResponseEntity<ReschedulePlanDTO> planAbsence(
+		@RequestBody AbsenceRescheduleRequestDTO request
+	) {
+		return ResponseEntity.ok(rescheduleService.planAbsence(request));
+	}
+
+	/**
+	 * Moves the bookings of an absent employee to colleagues or other times.
+	 *
+	 * @param request {@link AbsenceRescheduleRequestDTO} absent employee, absence and colleagues to consider
+	 * @return {@link ReschedulePlanDTO} applied moves with HTTP status 200 (OK)
+	 */
+	@PostMapping("/apply")
+	public ResponseEntity<ReschedulePlanDTO> rescheduleAbsence(
+		@RequestBody AbsenceRescheduleRequestDTO request
+	) {
+		return ResponseEntity.ok(rescheduleService.rescheduleAbsence(request));
+	}
+}
@@ -0,0 +1,91 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.ResourceRequestDTO;
+import com.sinergy.chronosync.dto.request.ResourceReservationRangeRequestDTO;
+import com.sinergy.chronosync.dto.response.ResourceReservationDTO;
+import com.sinergy.chronosync.dto.response.ResourceResponseDTO;
+import com.sinergy.chronosync.service.ResourceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for managing resources of firms.
+ * <p>
+ * This controller provides endpoints for retrieving, creating, updating and deleting resources,
+ * and for retrieving their reservations within a time range.
+ * </p>
+ */
+@RestController
+@RequestMapping(path = "api/v1/resource")
+@RequiredArgsConstructor
+public class ResourceController {
+
+	private final ResourceService resourceService;
+
+	/**
+	 * Retrieves the resources of the current user's firm.
+	 *
+	 * @return {@link List} of {@link ResourceResponseDTO} with HTTP status 200 (OK)
+	 */
+	@PostMapping("/get")
+	public ResponseEntity<List<ResourceResponseDTO>> getResources() {
+		return ResponseEntity.ok(resourceService.getResources());
+	}
+
+	/**
+	 * Creates a new resource.
+	 *
+	 * @param request {@link ResourceRequestDTO} name and kind of the resource
+	 * @return created {@link ResourceResponseDTO} along with an HTTP status of 201 (Created)
+	 */
+	@PostMapping("/create")
+	public ResponseEntity<ResourceResponseDTO> createResource(
+		@RequestBody ResourceRequestDTO request
+	) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(resourceService.createResource(request));
+	}
+
+	/**
+	 * Updates an existing resource.
+	 *
+	 * @param request {@link ResourceRequestDTO} ID, name and kind of the resource
+	 * @return updated {@link ResourceResponseDTO} with HTTP status 200 (OK)
+	 */
+	@PutMapping
+	public ResponseEntity<ResourceResponseDTO> updateResource(
+		@RequestBody ResourceRequestDTO request
+	) {
+		return ResponseEntity.ok(resourceService.updateResource(request));
+	}
+
+	/**
+	 * Deletes a resource that has never been reserved.
+	 *
+	 * @param id {@link Long} ID of the resource to delete
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@DeleteMapping
+	public ResponseEntity<Void> deleteResource(
+		@RequestParam Long id
+	) {
+		resourceService.deleteResource(id);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Retrieves the reservations of resources overlapping the requested time range.
+	 *
+	 * @param request {@link ResourceReservationRangeRequestDTO} time range and resources
+	 * @return {@link List} of {@link ResourceReservationDTO} with HTTP status 200 (OK)
+	 */
+	@PostMapping("/reservations")
+	public ResponseEntity<List<ResourceReservationDTO>> getReservations(
+		@RequestBody ResourceReservationRangeRequestDTO request
+	) {
+		return ResponseEntity.ok(resourceService.getReservations(request));
+	}
+}
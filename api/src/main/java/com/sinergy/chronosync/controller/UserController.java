@@ -1,15 +1,15 @@
 package com.sinergy.chronosync.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.sinergy.chronosync.dto.request.UserRequestDTO;
 import com.sinergy.chronosync.dto.response.UserResponseDTO;
 import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.service.UserService;
+import com.sinergy.chronosync.util.MergePatchUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 /**
  * User controller class.
@@ -33,4 +33,23 @@ public class UserController {
 	) {
 		return ResponseEntity.ok(userService.create(request));
 	}
+
+	/**
+	 * Partially updates user identified by its ID.
+	 *
+	 * <p>The request body is a JSON Merge Patch document (RFC 7396) containing only the fields
+	 * that should change, e.g. {@code {"phone": "555-1234"}}.</p>
+	 *
+	 * @param id    {@link Long} ID of the user to patch
+	 * @param patch {@link JsonNode} merge patch document
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@PatchMapping(consumes = {MergePatchUtils.MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+	public ResponseEntity<Void> patch(
+		@RequestParam Long id,
+		@RequestBody JsonNode patch
+	) {
+		userService.patch(id, patch);
+		return ResponseEntity.noContent().build();
+	}
 }
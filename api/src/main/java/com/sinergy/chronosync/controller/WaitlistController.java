@@ -0,0 +1,80 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.WaitlistEntryRequestDTO;
+import com.sinergy.chronosync.dto.response.WaitlistEntryResponseDTO;
+import com.sinergy.chronosync.service.WaitlistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for the waitlist of customers waiting for a free slot.
+ * <p>
+ * Slots freed by cancelled appointments are held for the best waiting entry automatically.
+ * This controller provides endpoints for retrieving, adding and removing entries, and for
+ * putting an entry whose customer declined the offered slot back on the waitlist.
+ * </p>
+ */
+@RestController
+@RequestMapping(path = "api/v1/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+	private final WaitlistService waitlistService;
+
+	/**
+	 * Retrieves the waitlist entries of the current user's firm.
+	 *
+	 * @param filter {@link WaitlistEntryRequestDTO} appointment type and customer to filter by
+	 * @return {@link List} of {@link WaitlistEntryResponseDTO} with HTTP status 200 (OK)
+	 */
+	@PostMapping("/get")
+	public ResponseEntity<List<WaitlistEntryResponseDTO>> getEntries(
+		@RequestBody WaitlistEntryRequestDTO filter
+	) {
+		return ResponseEntity.ok(waitlistService.getEntries(filter));
+	}
+
+	/**
+	 * Adds a customer to the waitlist.
+	 *
+	 * @param request {@link WaitlistEntryRequestDTO} appointment type, customer, window and priority
+	 * @return created {@link WaitlistEntryResponseDTO} along with an HTTP status of 201 (Created)
+	 */
+	@PostMapping("/create")
+	public ResponseEntity<WaitlistEntryResponseDTO> addEntry(
+		@RequestBody WaitlistEntryRequestDTO request
+	) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(waitlistService.addEntry(request));
+	}
+
+	/**
+	 * Puts an offered entry back on the waitlist.
+	 *
+	 * @param id {@link Long} ID of the entry
+	 * @return waiting {@link WaitlistEntryResponseDTO} with HTTP status 200 (OK)
+	 */
+	@PutMapping("/requeue")
+	public ResponseEntity<WaitlistEntryResponseDTO> requeueEntry(
+		@RequestParam Long id
+	) {
+		return ResponseEntity.ok(waitlistService.requeueEntry(id));
+	}
+
+	/**
+	 * Removes an entry from the waitlist.
+	 *
+	 * @param id {@link Long} ID of the entry
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@DeleteMapping
+	public ResponseEntity<Void> deleteEntry(
+		@RequestParam Long id
+	) {
+		waitlistService.deleteEntry(id);
+		return ResponseEntity.noContent().build();
+	}
+}
@@ -0,0 +1,185 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.FirmClosureRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursOverrideRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRangeRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRequestDTO;
+import com.sinergy.chronosync.dto.response.FirmClosureResponseDTO;
+import com.sinergy.chronosync.dto.response.WorkingHoursResponseDTO;
+import com.sinergy.chronosync.dto.response.WorkingIntervalDTO;
+import com.sinergy.chronosync.service.HolidayCalendarService;
+import com.sinergy.chronosync.service.WorkingHoursService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Controller for managing working hours.
+ * <p>
+ * This controller provides endpoints for the weekly working hours of employees, their working hours
+ * on single dates, closures and holiday calendars of the firm and the resulting working time within
+ * a time range.
+ * </p>
+ */
+@RestController
+@RequestMapping(path = "api/v1/working-hours")
+@RequiredArgsConstructor
+public class WorkingHoursController {
+
+	private final WorkingHoursService workingHoursService;
+	private final HolidayCalendarService holidayCalendarService;
+
+	/**
+	 * Retrieves the weekly working hours of an employee.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @return {@link WorkingHoursResponseDTO} with HTTP status 200 (OK)
+	 */
+	@PostMapping("/get")
+	public ResponseEntity<WorkingHoursResponseDTO> getWorkingHours(
+		@RequestParam Long employeeId
+	) {
+		return ResponseEntity.ok(workingHoursService.getWorkingHours(employeeId));
+	}
+
+	/**
+	 * Replaces the weekly working hours of an employee.
+	 *
+	 * @param request {@link WorkingHoursRequestDTO} employee and working time per day of the week
+	 * @return updated {@link WorkingHoursResponseDTO} with HTTP status 200 (OK)
+	 */
+	@PutMapping
+	public ResponseEntity<WorkingHoursResponseDTO> updateWorkingHours(
+		@RequestBody WorkingHoursRequestDTO request
+	) {
+		return ResponseEntity.ok(workingHoursService.updateWorkingHours(request));
+	}
+
+	/**
+	 * Sets the working hours of an employee on a single date.
+	 *
+	 * @param request {@link WorkingHoursOverrideRequestDTO} employee, date and working time
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@PutMapping("/override")
+	public ResponseEntity<Void> setOverride(
+		@RequestBody WorkingHoursOverrideRequestDTO request
+	) {
+		workingHoursService.setOverride(request);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Removes the working hours of an employee on a single date.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param date       {@link LocalDate} date of the override
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@PutMapping("/remove-override")
+	public ResponseEntity<Void> removeOverride(
+		@RequestParam Long employeeId,
+		@RequestParam LocalDate date
+	) {
+		workingHoursService.removeOverride(employeeId, date);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Retrieves the intervals in which employees work within a time range.
+	 *
+	 * @param request {@link WorkingHoursRangeRequestDTO} time range and employees
+	 * @return {@link List} of {@link WorkingIntervalDTO} with HTTP status 200 (OK)
+	 */
+	@PostMapping("/intervals")
+	public ResponseEntity<List<WorkingIntervalDTO>> getWorkingIntervals(
+		@RequestBody WorkingHoursRangeRequestDTO request
+	) {
+		return ResponseEntity.ok(workingHoursService.getWorkingIntervals(request));
+	}
+
+	/**
+	 * Retrieves the closures of the firm that have not ended yet.
+	 *
+	 * @return {@link List} of {@link FirmClosureResponseDTO} with HTTP status 200 (OK)
+	 */
+	@PostMapping("/closure/get")
+	public ResponseEntity<List<FirmClosureResponseDTO>> getClosures() {
+		return ResponseEntity.ok(workingHoursService.getClosures());
+	}
+
+	/**
+	 * Closes the firm on whole days.
+	 *
+	 * @param request {@link FirmClosureRequestDTO} days of the closure
+	 * @return created {@link FirmClosureResponseDTO} along with an HTTP status of 201 (Created)
+	 */
+	@PostMapping("/closure/create")
+	public ResponseEntity<FirmClosureResponseDTO> createClosure(
+		@RequestBody FirmClosureRequestDTO request
+	) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(workingHoursService.createClosure(request));
+	}
+
+	/**
+	 * Deletes a closure of the firm.
+	 *
+	 * @param id {@link Long} ID of the closure
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@DeleteMapping("/closure")
+	public ResponseEntity<Void> deleteClosure(
+		@RequestParam Long id
+	) {
+		workingHoursService.deleteClosure(id);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Imports an iCalendar file as a holiday calendar of the firm, replacing the closures
+	 * imported from the calendar before.
+	 *
+	 * @param name    {@link String} name of the calendar
+	 * @param content {@link String} content of the iCalendar file
+	 * @return {@link List} of {@link FirmClosureResponseDTO} of the calendar with HTTP status 200 (OK)
+	 */
+	@PostMapping(path = "/holiday-calendar/import", consumes = {"text/calendar", MediaType.TEXT_PLAIN_VALUE})
+	public ResponseEntity<List<FirmClosureResponseDTO>> importHolidayCalendar(
+		@RequestParam String name,
+		@RequestBody String content
+	) {
+		return ResponseEntity.ok(holidayCalendarService.importCalendar(name, content));
+	}
+
+	/**
+	 * Deletes a holiday calendar of the firm with all of its closures.
+	 *
+	 * @param name {@link String} name of the calendar
+	 * @return {@link ResponseEntity} with HTTP status 204 (No Content)
+	 */
+	@DeleteMapping("/holiday-calendar")
+	public ResponseEntity<Void> deleteHolidayCalendar(
+		@RequestParam String name
+	) {
+		holidayCalendarService.deleteCalendar(name);
+		return ResponseEntity.noContent().build();
+	}
+
+	/**
+	 * Retrieves the days of a year on which the firm is closed.
+	 *
+	 * @param year year to retrieve
+	 * @return {@link List} of closed {@link LocalDate} with HTTP status 200 (OK)
+	 */
+	@PostMapping("/closed-days")
+	public ResponseEntity<List<LocalDate>> getClosedDays(
+		@RequestParam int year
+	) {
+		return ResponseEntity.ok(holidayCalendarService.getClosedDays(year));
+	}
+}
@@ -0,0 +1,29 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for moving the bookings of an absent employee to colleagues or other times.
+ * <p>Without employee IDs, all colleagues of the firm are considered. Bookings that no colleague
+ * can take at the same time are moved to the earliest free time within the given number of days
+ * after the absence; without a number of days, the configured default is used, and zero keeps
+ * every booking at its time.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AbsenceRescheduleRequestDTO {
+
+	private Long employeeId;
+	private Instant from;
+	private Instant to;
+	private List<Long> employeeIds;
+	private Integer days;
+}
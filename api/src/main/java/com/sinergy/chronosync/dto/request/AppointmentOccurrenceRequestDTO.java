@@ -0,0 +1,24 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO for cancelling or moving a single occurrence of a recurring appointment series.
+ * <p>The occurrence is identified by its start time given by the recurrence rule. The start
+ * time is the new start of a moved occurrence.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentOccurrenceRequestDTO {
+
+	private Long seriesId;
+	private Instant originalStartTime;
+	private Instant startTime;
+}
@@ -0,0 +1,27 @@
+package com.sinergy.chronosync.dto.request;
+
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for retrieving the appointments of a time range, e.g. a calendar week.
+ * <p>Without employee IDs, appointments of all employees of the firm are returned.
+ * Without a status, appointments of all statuses are returned.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentRangeRequestDTO {
+
+	private Instant from;
+	private Instant to;
+	private List<Long> employeeIds;
+	private AppointmentStatus status;
+}
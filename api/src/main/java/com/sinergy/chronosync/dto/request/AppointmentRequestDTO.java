@@ -0,0 +1,27 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for booking an appointment.
+ * <p>The end time is derived from the duration of the appointment type. Resources required by the
+ * appointment type that are not chosen in {@code resourceIds} are picked among the free ones.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentRequestDTO {
+
+	private Long employeeId;
+	private Long appointmentTypeId;
+	private Long customerId;
+	private Instant startTime;
+	private List<Long> resourceIds;
+}
@@ -0,0 +1,28 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO for booking a recurring appointment series.
+ * <p>The start time is the first occurrence. The recurrence rule uses the iCalendar syntax,
+ * e.g. {@code FREQ=WEEKLY;BYDAY=MO,TH;COUNT=20}, and is evaluated in the given time zone,
+ * UTC if none is given.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentSeriesRequestDTO {
+
+	private Long employeeId;
+	private Long appointmentTypeId;
+	private Long customerId;
+	private Instant startTime;
+	private String timeZone;
+	private String recurrenceRule;
+}
@@ -8,6 +8,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Set;
+
 /**
  * DTO for creating or updating an appointment type.
  */
@@ -23,6 +25,8 @@ public class AppointmentTypeRequestDTO {
 	private Double price;
 	private Currency currency;
 	private String colorCode;
+	private Set<String> resourceKinds;
+	private Integer capacity;
 	private Firm firm;
 
 	/**
@@ -37,6 +41,8 @@ public class AppointmentTypeRequestDTO {
 			.price(price)
 			.currency(currency)
 			.colorCode(colorCode)
+			.resourceKinds(resourceKinds)
+			.capacity(capacity)
 			.firm(firm)
 			.build();
 	}
@@ -0,0 +1,20 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for qualifying an employee for an appointment type, or filtering qualifications by
+ * employee and appointment type.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeQualificationRequestDTO {
+
+	private Long employeeId;
+	private Long appointmentTypeId;
+}
@@ -0,0 +1,22 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for closing the firm on whole days, from the start date to the end date inclusive.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FirmClosureRequestDTO {
+
+	private LocalDate startDate;
+	private LocalDate endDate;
+	private String description;
+}
@@ -0,0 +1,19 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for signing a customer up to a group session or cancelling the signup.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupSessionSignupRequestDTO {
+
+	private Long appointmentId;
+	private Long customerId;
+}
@@ -0,0 +1,24 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for retrieving the reservations of resources within a time range.
+ * <p>Without resource IDs, the reservations of all resources of the firm are returned.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceReservationRangeRequestDTO {
+
+	private Instant from;
+	private Instant to;
+	private List<Long> resourceIds;
+}
@@ -0,0 +1,22 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO for checking whether an employee is free within a time range.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotAvailabilityRequestDTO {
+
+	private Long employeeId;
+	private Instant startTime;
+	private Instant endTime;
+}
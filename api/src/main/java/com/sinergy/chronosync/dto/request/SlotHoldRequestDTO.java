@@ -0,0 +1,23 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO for holding a slot while a booking is being completed.
+ * <p>The end time is derived from the duration of the appointment type.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotHoldRequestDTO {
+
+	private Long employeeId;
+	private Long appointmentTypeId;
+	private Instant startTime;
+}
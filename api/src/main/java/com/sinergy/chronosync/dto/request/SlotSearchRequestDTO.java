@@ -0,0 +1,22 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for searching free slots of an appointment type.
+ * <p>Without a start, the search starts now. Without a number of days, the configured default
+ * is used. Without employee IDs, all employees of the firm are searched.</p>
+ */
+@Setter
+@Getter
+public class SlotSearchRequestDTO extends BasePaginationRequest {
+
+	private Long appointmentTypeId;
+	private Instant from;
+	private Integer days;
+	private List<Long> employeeIds;
+}
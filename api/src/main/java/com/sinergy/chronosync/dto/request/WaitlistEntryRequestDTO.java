@@ -0,0 +1,27 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO for adding a customer to the waitlist, or filtering waitlist entries by appointment type and customer.
+ * <p>The employee is optional, without one the customer accepts a slot of any employee. The
+ * priority defaults to zero.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistEntryRequestDTO {
+
+	private Long appointmentTypeId;
+	private Long customerId;
+	private Long employeeId;
+	private Instant windowStart;
+	private Instant windowEnd;
+	private Integer priority;
+}
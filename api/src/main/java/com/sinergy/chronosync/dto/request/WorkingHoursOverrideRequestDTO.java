@@ -0,0 +1,24 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for setting the working hours of an employee on a single date.
+ * <p>Without ranges the employee is off on that date.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingHoursOverrideRequestDTO {
+
+	private Long employeeId;
+	private LocalDate date;
+	private List<WorkingTimeRangeDTO> ranges;
+}
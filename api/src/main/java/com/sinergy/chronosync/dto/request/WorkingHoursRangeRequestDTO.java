@@ -0,0 +1,24 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for retrieving the working time of employees within a time range.
+ * <p>Without employee IDs, the working time of all employees of the firm is returned.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingHoursRangeRequestDTO {
+
+	private Instant from;
+	private Instant to;
+	private List<Long> employeeIds;
+}
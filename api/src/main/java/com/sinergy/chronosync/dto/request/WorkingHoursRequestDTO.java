@@ -0,0 +1,24 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for setting the weekly working hours of an employee.
+ * <p>Replaces the whole week. Days without ranges are days off.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingHoursRequestDTO {
+
+	private Long employeeId;
+	private Map<DayOfWeek, List<WorkingTimeRangeDTO>> days;
+}
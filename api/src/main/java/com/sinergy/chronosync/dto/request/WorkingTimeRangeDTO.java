@@ -0,0 +1,22 @@
+package com.sinergy.chronosync.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+/**
+ * DTO for a range of working time within a day, in the local time of the working hours.
+ * <p>Both times are multiples of five minutes. An end time of {@code 00:00} is the end of the day.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingTimeRangeDTO {
+
+	private LocalTime startTime;
+	private LocalTime endTime;
+}
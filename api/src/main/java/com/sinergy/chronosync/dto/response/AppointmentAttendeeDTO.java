@@ -0,0 +1,36 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.appointment.AppointmentAttendee;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Signup of a customer to a group session.
+ * <p>The session and the customer are referenced by ID only, so building the response does not load them.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentAttendeeDTO {
+
+	private Long id;
+	private Long appointmentId;
+	private Long customerId;
+
+	/**
+	 * Creates response DTO from the attendee model.
+	 *
+	 * @param attendee {@link AppointmentAttendee} attendee model
+	 * @return {@link AppointmentAttendeeDTO} attendee response
+	 */
+	public static AppointmentAttendeeDTO fromModel(AppointmentAttendee attendee) {
+		return AppointmentAttendeeDTO.builder()
+			.id(attendee.getId())
+			.appointmentId(attendee.getAppointment().getId())
+			.customerId(attendee.getCustomer().getId())
+			.build();
+	}
+}
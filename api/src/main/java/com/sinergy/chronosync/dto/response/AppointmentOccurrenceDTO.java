@@ -0,0 +1,28 @@
+package com.sinergy.chronosync.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Single occurrence of a recurring appointment series, expanded from its recurrence rule.
+ * <p>The original start time identifies the occurrence when cancelling or moving it.
+ * It differs from the start time for moved occurrences.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentOccurrenceDTO {
+
+	private Long seriesId;
+	private Long employeeId;
+	private Long appointmentTypeId;
+	private Long customerId;
+	private Instant originalStartTime;
+	private Instant startTime;
+	private Instant endTime;
+}
@@ -0,0 +1,53 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Appointment response data transfer object.
+ * <p>Associations are referenced by ID only, so building the response does not load them.
+ * Reserved resources are only included in the response to a booking. Seats left are only set
+ * for group sessions.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentResponseDTO {
+
+	private Long id;
+	private Long employeeId;
+	private Long appointmentTypeId;
+	private Long customerId;
+	private Instant startTime;
+	private Instant endTime;
+	private AppointmentStatus status;
+	private Integer seatsLeft;
+	private List<Long> resourceIds;
+
+	/**
+	 * Creates response DTO from the appointment model.
+	 *
+	 * @param appointment {@link Appointment} appointment model
+	 * @return {@link AppointmentResponseDTO} appointment response
+	 */
+	public static AppointmentResponseDTO fromModel(Appointment appointment) {
+		return AppointmentResponseDTO.builder()
+			.id(appointment.getId())
+			.employeeId(appointment.getEmployee().getId())
+			.appointmentTypeId(appointment.getAppointmentType().getId())
+			.customerId(appointment.getCustomer() != null ? appointment.getCustomer().getId() : null)
+			.startTime(appointment.getStartTime())
+			.endTime(appointment.getEndTime())
+			.status(appointment.getStatus())
+			.seatsLeft(appointment.getSeatsLeft())
+			.build();
+	}
+}
@@ -0,0 +1,53 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.appointment.AppointmentSeries;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Recurring appointment series response data transfer object.
+ * <p>Associations are referenced by ID only, so building the response does not load them.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentSeriesResponseDTO {
+
+	private Long id;
+	private Long employeeId;
+	private Long appointmentTypeId;
+	private Long customerId;
+	private Instant startTime;
+	private Instant untilTime;
+	private String timeZone;
+	private Integer durationMinutes;
+	private String recurrenceRule;
+	private AppointmentStatus status;
+
+	/**
+	 * Creates response DTO from the series model.
+	 *
+	 * @param series {@link AppointmentSeries} series model
+	 * @return {@link AppointmentSeriesResponseDTO} series response
+	 */
+	public static AppointmentSeriesResponseDTO fromModel(AppointmentSeries series) {
+		return AppointmentSeriesResponseDTO.builder()
+			.id(series.getId())
+			.employeeId(series.getEmployee().getId())
+			.appointmentTypeId(series.getAppointmentType().getId())
+			.customerId(series.getCustomer() != null ? series.getCustomer().getId() : null)
+			.startTime(series.getStartTime())
+			.untilTime(series.getUntilTime())
+			.timeZone(series.getTimeZone())
+			.durationMinutes(series.getDurationMinutes())
+			.recurrenceRule(series.getRecurrenceRule())
+			.status(series.getStatus())
+			.build();
+	}
+}
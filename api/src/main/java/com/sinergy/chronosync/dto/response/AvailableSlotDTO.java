@@ -0,0 +1,22 @@
+package com.sinergy.chronosync.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Free slot in which an appointment can be booked with the employee.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableSlotDTO {
+
+	private Long employeeId;
+	private Instant startTime;
+	private Instant endTime;
+}
@@ -0,0 +1,21 @@
+package com.sinergy.chronosync.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Statistics of a single second-level cache region.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheRegionStatisticsDTO {
+
+	private String regionName;
+	private long hitCount;
+	private long missCount;
+	private long putCount;
+}
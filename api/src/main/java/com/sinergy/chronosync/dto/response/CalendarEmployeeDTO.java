@@ -0,0 +1,20 @@
+package com.sinergy.chronosync.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Employee entry of the lookup table of a {@link CalendarViewDTO}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarEmployeeDTO {
+
+	private Long id;
+	private String firstName;
+	private String lastName;
+}
@@ -0,0 +1,70 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import com.sinergy.chronosync.event.AppointmentTypeChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Data of a calendar event streamed to the subscribers of a firm.
+ *
+ * <p>Appointment events carry the appointment and, unless it was cancelled, its employee and
+ * time; moves also carry the employee and start time before the move. Changes of occurrences of
+ * recurring series are appointment events without an appointment; they carry the series and the
+ * original start time of the occurrence, and always its employee and time. Appointment type events
+ * carry the appointment type only.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarEventDTO {
+
+	private String change;
+	private Long appointmentId;
+	private Long appointmentTypeId;
+	private Long employeeId;
+	private Instant startTime;
+	private Instant endTime;
+	private Long previousEmployeeId;
+	private Instant previousStartTime;
+	private Long seriesId;
+	private Instant originalStartTime;
+
+	/**
+	 * Converts an {@link AppointmentChangedEvent} to the event data.
+	 *
+	 * @param event {@link AppointmentChangedEvent} committed change
+	 * @return {@link CalendarEventDTO} event data
+	 */
+	public static CalendarEventDTO fromEvent(AppointmentChangedEvent event) {
+		return CalendarEventDTO.builder()
+			.change(event.getChange().name())
+			.appointmentId(event.getAppointmentId())
+			.employeeId(event.getEmployeeId())
+			.startTime(event.getStartTime())
+			.endTime(event.getEndTime())
+			.previousEmployeeId(event.getPreviousEmployeeId())
+			.previousStartTime(event.getPreviousStartTime())
+			.seriesId(event.getSeriesId())
+			.originalStartTime(event.getOriginalStartTime())
+			.build();
+	}
+
+	/**
+	 * Converts an {@link AppointmentTypeChangedEvent} to the event data.
+	 *
+	 * @param event {@link AppointmentTypeChangedEvent} committed change
+	 * @return {@link CalendarEventDTO} event data
+	 */
+	public static CalendarEventDTO fromEvent(AppointmentTypeChangedEvent event) {
+		return CalendarEventDTO.builder()
+			.change(event.getChange().name())
+			.appointmentTypeId(event.getAppointmentTypeId())
+			.build();
+	}
+}
@@ -0,0 +1,20 @@
+package com.sinergy.chronosync.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Appointment type entry of the lookup table of a {@link CalendarViewDTO}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarTypeDTO {
+
+	private Long id;
+	private String name;
+	private String colorCode;
+}
@@ -0,0 +1,40 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Calendar view response data transfer object in columnar form.
+ * <p>The appointments of the range are parallel arrays, one element per appointment in start
+ * order. Employees, types and statuses are listed once in lookup tables and referenced by their
+ * index in the table, and times are minutes relative to the start of the range, so a week for
+ * dozens of employees stays small in JSON as well as in CBOR.</p>
+ * <p>Occurrences of recurring series are listed like appointments, with ID 0; they are
+ * identified by their series ID and original start minute instead, both 0 for appointments.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarViewDTO {
+
+	private Instant from;
+	private Instant to;
+	private List<CalendarEmployeeDTO> employees;
+	private List<CalendarTypeDTO> types;
+	private List<AppointmentStatus> statuses;
+	private long[] ids;
+	private int[] employeeIndexes;
+	private int[] startMinutes;
+	private int[] durationMinutes;
+	private int[] typeIndexes;
+	private int[] statusIndexes;
+	private long[] seriesIds;
+	private int[] originalStartMinutes;
+}
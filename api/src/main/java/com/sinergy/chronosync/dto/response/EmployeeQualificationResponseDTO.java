@@ -0,0 +1,37 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.user.EmployeeQualification;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Qualification of an employee for an appointment type.
+ * <p>The employee and the appointment type are referenced by ID only, so building the response
+ * does not load them.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeQualificationResponseDTO {
+
+	private Long id;
+	private Long employeeId;
+	private Long appointmentTypeId;
+
+	/**
+	 * Creates response DTO from the qualification model.
+	 *
+	 * @param qualification {@link EmployeeQualification} qualification model
+	 * @return {@link EmployeeQualificationResponseDTO} qualification response
+	 */
+	public static EmployeeQualificationResponseDTO fromModel(EmployeeQualification qualification) {
+		return EmployeeQualificationResponseDTO.builder()
+			.id(qualification.getId())
+			.employeeId(qualification.getEmployee().getId())
+			.appointmentTypeId(qualification.getAppointmentType().getId())
+			.build();
+	}
+}
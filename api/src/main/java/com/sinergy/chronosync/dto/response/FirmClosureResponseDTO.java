@@ -0,0 +1,41 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.firm.FirmClosure;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Firm closure response data transfer object.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FirmClosureResponseDTO {
+
+	private Long id;
+	private LocalDate startDate;
+	private LocalDate endDate;
+	private String description;
+	private String calendar;
+
+	/**
+	 * Creates response DTO from the firm closure model.
+	 *
+	 * @param closure {@link FirmClosure} firm closure model
+	 * @return {@link FirmClosureResponseDTO} firm closure response
+	 */
+	public static FirmClosureResponseDTO fromModel(FirmClosure closure) {
+		return FirmClosureResponseDTO.builder()
+			.id(closure.getId())
+			.startDate(closure.getStartDate())
+			.endDate(closure.getEndDate())
+			.description(closure.getDescription())
+			.calendar(closure.getCalendar())
+			.build();
+	}
+}
@@ -0,0 +1,25 @@
+package com.sinergy.chronosync.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Move of a booking of an absent employee to a colleague, another time, or both.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescheduleMoveDTO {
+
+	private Long appointmentId;
+	private Long fromEmployeeId;
+	private Long toEmployeeId;
+	private Instant originalStartTime;
+	private Instant startTime;
+	private Instant endTime;
+}
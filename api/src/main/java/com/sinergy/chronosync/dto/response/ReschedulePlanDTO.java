@@ -0,0 +1,24 @@
+package com.sinergy.chronosync.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Plan moving the bookings of an absent employee.
+ * <p>Moves and unplaced bookings are ordered by the original start time. {@code applied} tells
+ * whether the moves have been carried out or only computed.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReschedulePlanDTO {
+
+	private List<RescheduleMoveDTO> moves;
+	private List<UnplacedAppointmentDTO> unplaced;
+	private boolean applied;
+}
@@ -0,0 +1,40 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.appointment.AppointmentResource;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Reservation of a resource by a booked appointment.
+ * <p>The resource and the appointment are referenced by ID only, so building the response does not load them.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceReservationDTO {
+
+	private Long resourceId;
+	private Long appointmentId;
+	private Instant startTime;
+	private Instant endTime;
+
+	/**
+	 * Creates response DTO from the reservation model.
+	 *
+	 * @param reservation {@link AppointmentResource} reservation model
+	 * @return {@link ResourceReservationDTO} reservation response
+	 */
+	public static ResourceReservationDTO fromModel(AppointmentResource reservation) {
+		return ResourceReservationDTO.builder()
+			.resourceId(reservation.getResource().getId())
+			.appointmentId(reservation.getAppointment().getId())
+			.startTime(reservation.getStartTime())
+			.endTime(reservation.getEndTime())
+			.build();
+	}
+}
@@ -0,0 +1,35 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.resource.Resource;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resource response data transfer object.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceResponseDTO {
+
+	private Long id;
+	private String name;
+	private String kind;
+
+	/**
+	 * Creates response DTO from the resource model.
+	 *
+	 * @param resource {@link Resource} resource model
+	 * @return {@link ResourceResponseDTO} resource response
+	 */
+	public static ResourceResponseDTO fromModel(Resource resource) {
+		return ResourceResponseDTO.builder()
+			.id(resource.getId())
+			.name(resource.getName())
+			.kind(resource.getKind())
+			.build();
+	}
+}
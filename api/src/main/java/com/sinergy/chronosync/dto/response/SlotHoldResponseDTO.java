@@ -0,0 +1,43 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.appointment.SlotHold;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Slot hold response data transfer object.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotHoldResponseDTO {
+
+	private String id;
+	private Long employeeId;
+	private Long appointmentTypeId;
+	private Instant startTime;
+	private Instant endTime;
+	private Instant expiresAt;
+
+	/**
+	 * Creates response DTO from the slot hold model.
+	 *
+	 * @param hold {@link SlotHold} slot hold model
+	 * @return {@link SlotHoldResponseDTO} slot hold response
+	 */
+	public static SlotHoldResponseDTO fromModel(SlotHold hold) {
+		return SlotHoldResponseDTO.builder()
+			.id(hold.getId())
+			.employeeId(hold.getEmployeeId())
+			.appointmentTypeId(hold.getAppointmentTypeId())
+			.startTime(hold.getStartTime())
+			.endTime(hold.getEndTime())
+			.expiresAt(hold.getExpiresAt())
+			.build();
+	}
+}
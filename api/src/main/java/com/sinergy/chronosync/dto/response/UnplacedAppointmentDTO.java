@@ -0,0 +1,26 @@
+package com.sinergy.chronosync.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Booking of an absent employee that could not be moved, with the reason.
+ * <p>Occurrences of recurring series have no appointment ID; they carry the series ID and the
+ * original start time identifying the occurrence instead.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnplacedAppointmentDTO {
+
+	private Long appointmentId;
+	private Instant startTime;
+	private String reason;
+	private Long seriesId;
+	private Instant originalStartTime;
+}
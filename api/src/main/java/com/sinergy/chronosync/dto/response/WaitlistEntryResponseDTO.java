@@ -0,0 +1,58 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.model.waitlist.WaitlistEntry;
+import com.sinergy.chronosync.model.waitlist.WaitlistEntryStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Waitlist entry of a customer.
+ * <p>The associations are referenced by ID only, so building the response does not load them.
+ * Offered entries carry the hold of the offered slot, which is confirmed like any other hold.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistEntryResponseDTO {
+
+	private Long id;
+	private Long appointmentTypeId;
+	private Long customerId;
+	private Long employeeId;
+	private Instant windowStart;
+	private Instant windowEnd;
+	private int priority;
+	private WaitlistEntryStatus status;
+	private String holdId;
+	private Long offerEmployeeId;
+	private Instant offerStartTime;
+	private Instant offerExpiresAt;
+
+	/**
+	 * Creates response DTO from the waitlist entry model.
+	 *
+	 * @param entry {@link WaitlistEntry} waitlist entry model
+	 * @return {@link WaitlistEntryResponseDTO} waitlist entry response
+	 */
+	public static WaitlistEntryResponseDTO fromModel(WaitlistEntry entry) {
+		return WaitlistEntryResponseDTO.builder()
+			.id(entry.getId())
+			.appointmentTypeId(entry.getAppointmentType().getId())
+			.customerId(entry.getCustomer().getId())
+			.employeeId(entry.getEmployee() != null ? entry.getEmployee().getId() : null)
+			.windowStart(entry.getWindowStart())
+			.windowEnd(entry.getWindowEnd())
+			.priority(entry.getPriority())
+			.status(entry.getStatus())
+			.holdId(entry.getHoldId())
+			.offerEmployeeId(entry.getOfferEmployee() != null ? entry.getOfferEmployee().getId() : null)
+			.offerStartTime(entry.getOfferStartTime())
+			.offerExpiresAt(entry.getOfferExpiresAt())
+			.build();
+	}
+}
@@ -0,0 +1,27 @@
+package com.sinergy.chronosync.dto.response;
+
+import com.sinergy.chronosync.dto.request.WorkingTimeRangeDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weekly working hours response data transfer object.
+ * <p>{@code defaultHours} is set when the employee has no working hours of their own
+ * and the default working hours apply.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingHoursResponseDTO {
+
+	private Long employeeId;
+	private boolean defaultHours;
+	private Map<DayOfWeek, List<WorkingTimeRangeDTO>> days;
+}
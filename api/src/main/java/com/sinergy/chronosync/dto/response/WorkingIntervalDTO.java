@@ -0,0 +1,22 @@
+package com.sinergy.chronosync.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Interval in which the employee works, after overrides and firm closures are applied.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingIntervalDTO {
+
+	private Long employeeId;
+	private Instant startTime;
+	private Instant endTime;
+}
@@ -0,0 +1,135 @@
+package com.sinergy.chronosync.event;
+
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentSeries;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Domain event published when an appointment is booked, cancelled or moved.
+ *
+ * <p>Published within the writing transaction; listeners interested in committed changes only
+ * receive it after the commit. The employee and time are those after the change, and are not
+ * set for cancellations, which change the status without loading the appointment. Moves also
+ * carry the employee and start time before the move.</p>
+ *
+ * <p>Occurrences of recurring series have no appointment ID; they carry the series ID and the
+ * original start time identifying the occurrence instead, and always carry the employee and time,
+ * including cancellations. The previous start time of a moved occurrence is not set if it was
+ * cancelled before the move.</p>
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AppointmentChangedEvent {
+
+	private final Long firmId;
+	private final Long appointmentId;
+	private final Change change;
+	private final Long employeeId;
+	private final Instant startTime;
+	private final Instant endTime;
+	private final Long previousEmployeeId;
+	private final Instant previousStartTime;
+	private final Long seriesId;
+	private final Instant originalStartTime;
+
+	/**
+	 * Creates the event of a booked appointment.
+	 *
+	 * @param appointment {@link Appointment} booked appointment
+	 * @return {@link AppointmentChangedEvent} event of the booking
+	 */
+	public static AppointmentChangedEvent booked(Appointment appointment) {
+		return AppointmentChangedEvent.builder()
+			.firmId(appointment.getFirm().getId())
+			.appointmentId(appointment.getId())
+			.change(Change.BOOKED)
+			.employeeId(appointment.getEmployee().getId())
+			.startTime(appointment.getStartTime())
+			.endTime(appointment.getEndTime())
+			.build();
+	}
+
+	/**
+	 * Creates the event of a cancelled appointment.
+	 *
+	 * @param firmId        {@link Long} ID of the firm
+	 * @param appointmentId {@link Long} ID of the cancelled appointment
+	 * @return {@link AppointmentChangedEvent} event of the cancellation
+	 */
+	public static AppointmentChangedEvent cancelled(Long firmId, Long appointmentId) {
+		return AppointmentChangedEvent.builder()
+			.firmId(firmId)
+			.appointmentId(appointmentId)
+			.change(Change.CANCELLED)
+			.build();
+	}
+
+	/**
+	 * Creates the event of a booked or cancelled occurrence of a series.
+	 *
+	 * @param series            {@link AppointmentSeries} series of the occurrence
+	 * @param change            {@link Change} made to the occurrence
+	 * @param originalStartTime {@link Instant} original start time identifying the occurrence
+	 * @param startTime         {@link Instant} start time of the occurrence
+	 * @return {@link AppointmentChangedEvent} event of the occurrence
+	 */
+	public static AppointmentChangedEvent occurrence(
+		AppointmentSeries series,
+		Change change,
+		Instant originalStartTime,
+		Instant startTime
+	) {
+		return AppointmentChangedEvent.builder()
+			.firmId(series.getFirm().getId())
+			.change(change)
+			.employeeId(series.getEmployee().getId())
+			.startTime(startTime)
+			.endTime(startTime.plus(Duration.ofMinutes(series.getDurationMinutes())))
+			.seriesId(series.getId())
+			.originalStartTime(originalStartTime)
+			.build();
+	}
+
+	/**
+	 * Creates the event of a moved occurrence of a series.
+	 *
+	 * @param series            {@link AppointmentSeries} series of the occurrence
+	 * @param originalStartTime {@link Instant} original start time identifying the occurrence
+	 * @param startTime         {@link Instant} start time after the move
+	 * @param previousStartTime {@link Instant} start time before the move, or {@code null} if it was cancelled
+	 * @return {@link AppointmentChangedEvent} event of the move
+	 */
+	public static AppointmentChangedEvent occurrenceMoved(
+		AppointmentSeries series,
+		Instant originalStartTime,
+		Instant startTime,
+		Instant previousStartTime
+	) {
+		return AppointmentChangedEvent.builder()
+			.firmId(series.getFirm().getId())
+			.change(Change.MOVED)
+			.employeeId(series.getEmployee().getId())
+			.startTime(startTime)
+			.endTime(startTime.plus(Duration.ofMinutes(series.getDurationMinutes())))
+			.previousEmployeeId(previousStartTime != null ? series.getEmployee().getId() : null)
+			.previousStartTime(previousStartTime)
+			.seriesId(series.getId())
+			.originalStartTime(originalStartTime)
+			.build();
+	}
+
+	/**
+	 * Kind of change made to the appointment.
+	 */
+	public enum Change {
+		BOOKED,
+		CANCELLED,
+		MOVED
+	}
+}
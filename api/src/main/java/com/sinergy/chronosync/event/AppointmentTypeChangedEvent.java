@@ -0,0 +1,25 @@
+package com.sinergy.chronosync.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Domain event published when an appointment type is created, updated or deleted.
+ */
+@Getter
+@AllArgsConstructor
+public class AppointmentTypeChangedEvent {
+
+	private final Long firmId;
+	private final Long appointmentTypeId;
+	private final Change change;
+
+	/**
+	 * Kind of change made to the appointment type.
+	 */
+	public enum Change {
+		CREATED,
+		UPDATED,
+		DELETED
+	}
+}
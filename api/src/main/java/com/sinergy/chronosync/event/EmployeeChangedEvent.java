@@ -0,0 +1,14 @@
+package com.sinergy.chronosync.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Domain event published when the personal data of a user is changed.
+ */
+@Getter
+@AllArgsConstructor
+public class EmployeeChangedEvent {
+
+	private final Long employeeId;
+}
@@ -0,0 +1,10 @@
+package com.sinergy.chronosync.exception;
+
+/**
+ * Exception thrown when a booking overlaps an existing booking of the same employee.
+ */
+public class BookingConflictException extends RuntimeException {
+	public BookingConflictException(String message) {
+		super(message);
+	}
+}
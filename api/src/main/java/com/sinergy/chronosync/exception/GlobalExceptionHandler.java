@@ -44,4 +44,15 @@ public class GlobalExceptionHandler {
 	public ResponseEntity<String> handleUserNotFoundException(UserNotFoundException e) {
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
 	}
+
+	/**
+	 * Handles BookingConflictException globally and returns a 409 Conflict response with the exception message.
+	 *
+	 * @param e the exception to handle
+	 * @return a 409 Conflict response with the exception message
+	 */
+	@ExceptionHandler(BookingConflictException.class)
+	public ResponseEntity<String> handleBookingConflictException(BookingConflictException e) {
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+	}
 }
@@ -4,11 +4,16 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.io.Serializable;
+import java.time.Instant;
 
 /**
  * Base entity abstract class.
+ * <p>Carries the identifier and the creation and last modification timestamps,
+ * which are maintained by Hibernate.</p>
  */
 @MappedSuperclass
 @Getter
@@ -20,4 +25,12 @@ public abstract class BaseEntity implements Serializable {
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column(name = "id", updatable = false, nullable = false)
 	private Long id;
+
+	@CreationTimestamp
+	@Column(name = "created_at", updatable = false)
+	private Instant createdAt;
+
+	@UpdateTimestamp
+	@Column(name = "modified_at")
+	private Instant modifiedAt;
 }
@@ -0,0 +1,67 @@
+package com.sinergy.chronosync.model.appointment;
+
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.customer.Customer;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Appointment model class.
+ * <p>An appointment books an employee for an appointment type within the time range
+ * {@code [startTime, endTime)}. All associations are lazy, so reading appointments for a
+ * calendar only touches the appointments table.</p>
+ *
+ * <p>A group session counts the seats left for signups in {@code seatsLeft}, which is
+ * {@code null} for other appointments. Its attendees are stored as {@link AppointmentAttendee}.</p>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(name = "appointments")
+@DynamicUpdate
+public class Appointment extends BaseEntity {
+
+	/**
+	 * Upper bound of an appointment's length. Lets range queries put a lower bound on
+	 * the start time, so they can be answered by an index range scan.
+	 */
+	public static final Duration MAX_DURATION = Duration.ofHours(24);
+
+	@Column(nullable = false)
+	private Instant startTime;
+
+	@Column(nullable = false)
+	private Instant endTime;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 32)
+	private AppointmentStatus status;
+
+	private Integer seatsLeft;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "employee_id")
+	private User employee;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "appointment_type_id")
+	private AppointmentType appointmentType;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "customer_id")
+	private Customer customer;
+}
@@ -0,0 +1,32 @@
+package com.sinergy.chronosync.model.appointment;
+
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.customer.Customer;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Signup of a customer to a group session.
+ * <p>Every signup takes one of the seats counted by {@link Appointment#getSeatsLeft()}, and a
+ * customer can sign up to a session only once.</p>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(
+	name = "appointmentAttendees",
+	uniqueConstraints = @UniqueConstraint(columnNames = {"appointment_id", "customer_id"})
+)
+public class AppointmentAttendee extends BaseEntity {
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "appointment_id")
+	private Appointment appointment;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "customer_id")
+	private Customer customer;
+}
@@ -0,0 +1,38 @@
+package com.sinergy.chronosync.model.appointment;
+
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.resource.Resource;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Reservation of a resource by a booked appointment.
+ * <p>Copies the time range of the appointment, so that the occupancy of resources is read from
+ * this table alone and overlapping reservations of a resource are rejected by its exclusion
+ * constraint. Reservations are deleted when their appointment is cancelled.</p>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(name = "appointmentResources")
+public class AppointmentResource extends BaseEntity {
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "appointment_id")
+	private Appointment appointment;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "resource_id")
+	private Resource resource;
+
+	@Column(nullable = false)
+	private Instant startTime;
+
+	@Column(nullable = false)
+	private Instant endTime;
+}
@@ -0,0 +1,70 @@
+package com.sinergy.chronosync.model.appointment;
+
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.customer.Customer;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.Instant;
+
+/**
+ * Recurring appointment series model class.
+ * <p>A series is stored as its first occurrence and an iCalendar recurrence rule, plus
+ * {@link AppointmentSeriesOverride}s for cancelled or moved occurrences, instead of a row per
+ * occurrence. Occurrences are expanded at query time in the series' time zone.</p>
+ *
+ * <p>{@code untilTime} is the end of the last occurrence, or {@code null} for an endless series,
+ * so range queries can skip series that have ended. {@code revision} is incremented on every
+ * edit of the series or its overrides and identifies cached expansions.</p>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(name = "appointmentSeries")
+@DynamicUpdate
+public class AppointmentSeries extends BaseEntity {
+
+	@Column(nullable = false)
+	private Instant startTime;
+
+	private Instant untilTime;
+
+	@Column(nullable = false, length = 64)
+	private String timeZone;
+
+	@Column(nullable = false)
+	private Integer durationMinutes;
+
+	@Column(nullable = false)
+	private String recurrenceRule;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 32)
+	private AppointmentStatus status;
+
+	@Column(nullable = false)
+	private Integer revision;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "employee_id")
+	private User employee;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "appointment_type_id")
+	private AppointmentType appointmentType;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "customer_id")
+	private Customer customer;
+}
@@ -0,0 +1,40 @@
+package com.sinergy.chronosync.model.appointment;
+
+import com.sinergy.chronosync.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Exception to the recurrence rule of an {@link AppointmentSeries}.
+ * <p>Identifies an occurrence by the start time given by the rule. Without a start time the
+ * occurrence is cancelled, otherwise it is moved to that start time.</p>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(name = "appointmentSeriesOverrides")
+public class AppointmentSeriesOverride extends BaseEntity {
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "series_id")
+	private AppointmentSeries series;
+
+	@Column(nullable = false)
+	private Instant originalStartTime;
+
+	private Instant startTime;
+
+	/**
+	 * Returns whether the occurrence is cancelled.
+	 *
+	 * @return {@code true} if the occurrence is cancelled
+	 */
+	public boolean isCancelled() {
+		return startTime == null;
+	}
+}
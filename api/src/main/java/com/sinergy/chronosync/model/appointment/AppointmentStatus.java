@@ -0,0 +1,9 @@
+package com.sinergy.chronosync.model.appointment;
+
+/**
+ * Enum of appointment statuses.
+ */
+public enum AppointmentStatus {
+	BOOKED,
+	CANCELLED
+}
@@ -0,0 +1,48 @@
+package com.sinergy.chronosync.model.appointment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Temporary hold of an employee's time slot while a booking is being completed.
+ *
+ * <p>Holds are kept in memory only and are never persisted. They expire on their own,
+ * or are released when converted into an appointment.</p>
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class SlotHold {
+
+	private final String id;
+	private final Long firmId;
+	private final Long employeeId;
+	private final Long appointmentTypeId;
+	private final Instant startTime;
+	private final Instant endTime;
+	private final Instant expiresAt;
+
+	/**
+	 * Returns whether the hold overlaps the given time range.
+	 *
+	 * @param from {@link Instant} start of the range, inclusive
+	 * @param to   {@link Instant} end of the range, exclusive
+	 * @return {@code true} if the hold and the range share time
+	 */
+	public boolean overlaps(Instant from, Instant to) {
+		return startTime.isBefore(to) && from.isBefore(endTime);
+	}
+
+	/**
+	 * Returns whether the hold has expired at the given time.
+	 *
+	 * @param now {@link Instant} current time
+	 * @return {@code true} if the hold is no longer valid
+	 */
+	public boolean isExpired(Instant now) {
+		return !now.isBefore(expiresAt);
+	}
+}
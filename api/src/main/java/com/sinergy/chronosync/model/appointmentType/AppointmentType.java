@@ -2,11 +2,22 @@ package com.sinergy.chronosync.model.appointmentType;
 
 import com.sinergy.chronosync.model.BaseEntity;
 import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.resource.ResourceKindsConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.util.Set;
 
 /**
  * Appointment type model class.
+ * <p>Appointments of a type reserve one resource of each of its {@code resourceKinds}.
+ * Appointments of a type with a {@code capacity} above one are group sessions, which customers
+ * sign up to until all seats are taken. A missing capacity means one. A type with
+ * {@code qualificationRequired} can only be performed by qualified employees, even if no
+ * employee is qualified for it any more.</p>
  */
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,16 +26,28 @@ import lombok.*;
 @Entity
 @Builder
 @Table(name = "appointmentTypes")
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class AppointmentType extends BaseEntity {
 
+	/**
+	 * Largest allowed capacity of a group session.
+	 */
+	public static final int MAX_CAPACITY = 1000;
+
 	private String name;
 	private Integer durationMinutes;
 	private Double price;
 	private String colorCode;
 	@Enumerated(EnumType.STRING)
 	private Currency currency;
+	@Convert(converter = ResourceKindsConverter.class)
+	private Set<String> resourceKinds;
+	private Integer capacity;
+	private boolean qualificationRequired;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "firm_id")
 	private Firm firm;
 
@@ -0,0 +1,14 @@
+package com.sinergy.chronosync.model.audit;
+
+/**
+ * Enum of actions recorded in the audit log.
+ * <p>The audit journal stores actions by ordinal, so new actions must be appended.</p>
+ */
+public enum AuditAction {
+	CREATE,
+	UPDATE,
+	DELETE,
+	LOGIN,
+	LOGOUT,
+	CANCEL
+}
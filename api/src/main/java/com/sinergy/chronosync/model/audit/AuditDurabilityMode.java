@@ -0,0 +1,25 @@
+package com.sinergy.chronosync.model.audit;
+
+/**
+ * Enum of durability modes of the audit log pipeline.
+ */
+public enum AuditDurabilityMode {
+
+	/**
+	 * Events are buffered and written in the background. When the buffer is full,
+	 * new events are dropped so that requests are never slowed down by auditing.
+	 */
+	ASYNC,
+
+	/**
+	 * Events are buffered and written in the background. When the buffer is full,
+	 * the publishing thread waits for free space up to the configured timeout
+	 * before the event is dropped.
+	 */
+	BLOCKING,
+
+	/**
+	 * Events are written on the publishing thread, bypassing the buffer.
+	 */
+	SYNC
+}
@@ -0,0 +1,9 @@
+package com.sinergy.chronosync.model.audit;
+
+/**
+ * Enum of destinations the audit journal is exported to.
+ */
+public enum AuditJournalExportTarget {
+	DATABASE,
+	NDJSON
+}
@@ -0,0 +1,41 @@
+package com.sinergy.chronosync.model.audit;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Audit log model class.
+ * <p>Rows are appended in batches by the audit writer and are never updated.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "auditLog")
+public class AuditLog {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id", updatable = false, nullable = false)
+	private Long id;
+
+	@Column(nullable = false)
+	private Instant occurredAt;
+
+	private String username;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 32)
+	private AuditAction action;
+
+	@Column(length = 64)
+	private String entityType;
+
+	private Long entityId;
+}
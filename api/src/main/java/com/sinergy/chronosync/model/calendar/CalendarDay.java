@@ -0,0 +1,46 @@
+package com.sinergy.chronosync.model.calendar;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Calendar projection model class.
+ * <p>One row holds the appointments of an employee starting on a day (UTC), denormalized with
+ * the employee's name and the names and colors of the appointment types, so that calendar views
+ * are read from this table alone. Rows are derived from the appointments by the
+ * {@link com.sinergy.chronosync.service.CalendarProjectionService} and can be rebuilt from
+ * scratch at any time.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "calendarDays")
+public class CalendarDay {
+
+	/**
+	 * Largest size of the serialized entries of a day.
+	 */
+	public static final int MAX_ENTRIES_BYTES = 1 << 20;
+
+	@EmbeddedId
+	private CalendarDayId id;
+
+	private String firstName;
+
+	private String lastName;
+
+	@Convert(converter = CalendarDayEntriesConverter.class)
+	@Column(nullable = false, length = MAX_ENTRIES_BYTES)
+	private List<CalendarDayEntry> entries;
+
+	@Column(nullable = false)
+	private Instant projectedAt;
+}
@@ -0,0 +1,80 @@
+package com.sinergy.chronosync.model.calendar;
+
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Stores the appointments of a calendar day as one binary column: the number of entries,
+ * followed by the fields of every entry in declaration order. Strings are written in modified
+ * UTF-8 and a missing color code as an empty string. The original start time is written in
+ * epoch seconds, and a missing series ID and original start time as zero.
+ */
+@Converter
+public class CalendarDayEntriesConverter implements AttributeConverter<List<CalendarDayEntry>, byte[]> {
+
+	private static final AppointmentStatus[] STATUSES = AppointmentStatus.values();
+
+	@Override
+	public byte[] convertToDatabaseColumn(List<CalendarDayEntry> entries) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(8 + entries.size() * 48);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(entries.size());
+			for (CalendarDayEntry entry : entries) {
+				out.writeLong(entry.getId());
+				out.writeShort(entry.getStartMinute());
+				out.writeInt(entry.getDurationMinutes());
+				out.writeLong(entry.getAppointmentTypeId());
+				out.writeUTF(entry.getTypeName() != null ? entry.getTypeName() : "");
+				out.writeUTF(entry.getColorCode() != null ? entry.getColorCode() : "");
+				out.writeByte(entry.getStatus().ordinal());
+				out.writeLong(entry.getSeriesId() != null ? entry.getSeriesId() : 0);
+				out.writeLong(entry.getOriginalStartTime() != null ? entry.getOriginalStartTime().getEpochSecond() : 0);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public List<CalendarDayEntry> convertToEntityAttribute(byte[] column) {
+		if (column == null || column.length == 0) {
+			return Collections.emptyList();
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(column))) {
+			int size = in.readInt();
+			List<CalendarDayEntry> entries = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				CalendarDayEntry entry = new CalendarDayEntry();
+				entry.setId(in.readLong());
+				entry.setStartMinute(in.readShort());
+				entry.setDurationMinutes(in.readInt());
+				entry.setAppointmentTypeId(in.readLong());
+				entry.setTypeName(in.readUTF());
+				String colorCode = in.readUTF();
+				entry.setColorCode(colorCode.isEmpty() ? null : colorCode);
+				entry.setStatus(STATUSES[in.readByte()]);
+				long seriesId = in.readLong();
+				entry.setSeriesId(seriesId != 0 ? seriesId : null);
+				long originalStartTime = in.readLong();
+				entry.setOriginalStartTime(originalStartTime != 0 ? Instant.ofEpochSecond(originalStartTime) : null);
+				entries.add(entry);
+			}
+			return entries;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
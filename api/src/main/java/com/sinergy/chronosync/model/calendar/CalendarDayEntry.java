@@ -0,0 +1,32 @@
+package com.sinergy.chronosync.model.calendar;
+
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Appointment of a {@link CalendarDay}, denormalized with the name and color of its type.
+ * <p>The start is given in minutes since the start of the day.</p>
+ * <p>Occurrences of recurring series have no appointment ID; they carry the series ID and the
+ * original start time identifying the occurrence instead.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarDayEntry {
+
+	private long id;
+	private int startMinute;
+	private int durationMinutes;
+	private long appointmentTypeId;
+	private String typeName;
+	private String colorCode;
+	private AppointmentStatus status;
+	private Long seriesId;
+	private Instant originalStartTime;
+}
@@ -0,0 +1,27 @@
+package com.sinergy.chronosync.model.calendar;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Primary key of a {@link CalendarDay}: the firm first, so the days of a firm are a range of
+ * the primary key index. The day is stored as {@code calendar_day}, since {@code day} is a
+ * reserved word in some databases.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class CalendarDayId implements Serializable {
+
+	private Long firmId;
+	@Column(name = "calendarDay")
+	private LocalDate day;
+	private Long employeeId;
+}
@@ -0,0 +1,30 @@
+package com.sinergy.chronosync.model.customer;
+
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.Person;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Customer model class.
+ * <p>Customers are the persons appointments are booked for. Every customer belongs to one firm.</p>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "customers")
+public class Customer extends Person {
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+}
@@ -0,0 +1,49 @@
+package com.sinergy.chronosync.model.firm;
+
+import com.sinergy.chronosync.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Closure of a firm, e.g. a holiday or a company event.
+ * <p>Covers the whole days from {@code startDate} to {@code endDate}, both inclusive.
+ * No employee of the firm works on these days, regardless of their working hours.</p>
+ * <p>Closures imported from a holiday calendar carry the name of the calendar, manually
+ * created closures have none.</p>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(name = "firmClosures")
+public class FirmClosure extends BaseEntity {
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+
+	@Column(nullable = false)
+	private LocalDate startDate;
+
+	@Column(nullable = false)
+	private LocalDate endDate;
+
+	private String description;
+
+	@Column(length = 64)
+	private String calendar;
+
+	/**
+	 * Returns whether the firm is closed on the date.
+	 *
+	 * @param date {@link LocalDate} date to check
+	 * @return {@code true} if the date lies within the closure
+	 */
+	public boolean covers(LocalDate date) {
+		return !date.isBefore(startDate) && !date.isAfter(endDate);
+	}
+}
@@ -0,0 +1,67 @@
+package com.sinergy.chronosync.model.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Idempotency key model class.
+ * <p>Stores the response of a create request made with an {@code Idempotency-Key} header,
+ * so that a retry of the request returns the same response. A row is inserted without a response
+ * when the key is claimed, before the request runs, and is updated with the response once the
+ * request succeeds or deleted if it fails. Rows are deleted once they expire; a pending row
+ * expires shortly, so a key claimed by a crashed instance can be claimed again.</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(
+	name = "idempotencyKeys",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_idempotency_keys_username_idempotency_key",
+		columnNames = {"username", "idempotencyKey"}
+	)
+)
+public class IdempotencyRecord {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id", updatable = false, nullable = false)
+	private Long id;
+
+	@Column(nullable = false)
+	private String username;
+
+	@Column(nullable = false)
+	private String idempotencyKey;
+
+	@Column(nullable = false, length = 64)
+	private String requestHash;
+
+	private Integer responseStatus;
+
+	private String contentType;
+
+	private byte[] responseBody;
+
+	@Column(nullable = false)
+	private Instant createdAt;
+
+	@Column(nullable = false)
+	private Instant expiresAt;
+
+	/**
+	 * Returns whether the key is claimed by a request that has not completed yet.
+	 *
+	 * @return {@code true} if no response is stored yet
+	 */
+	public boolean isPending() {
+		return responseStatus == null;
+	}
+}
@@ -0,0 +1,36 @@
+package com.sinergy.chronosync.model.resource;
+
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.firm.Firm;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Bookable resource of a firm, e.g. a room or a device.
+ * <p>Resources of the same kind are interchangeable. Appointment types list the kinds of
+ * resources they require, and booking reserves one free resource of every required kind.</p>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(name = "resources")
+public class Resource extends BaseEntity {
+
+	/**
+	 * Longest allowed kind of a resource.
+	 */
+	public static final int MAX_KIND_LENGTH = 64;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+
+	@Column(nullable = false)
+	private String name;
+
+	@Column(nullable = false, length = MAX_KIND_LENGTH)
+	private String kind;
+}
@@ -0,0 +1,30 @@
+package com.sinergy.chronosync.model.resource;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Stores a set of resource kinds as one comma-separated column, sorted, so that reading the
+ * required kinds of an appointment type does not need another query.
+ */
+@Converter
+public class ResourceKindsConverter implements AttributeConverter<Set<String>, String> {
+
+	@Override
+	public String convertToDatabaseColumn(Set<String> kinds) {
+		return kinds == null || kinds.isEmpty() ? null : String.join(",", new TreeSet<>(kinds));
+	}
+
+	@Override
+	public Set<String> convertToEntityAttribute(String column) {
+		if (column == null || column.isEmpty()) {
+			return Collections.emptySortedSet();
+		}
+		return Collections.unmodifiableSortedSet(new TreeSet<>(Arrays.asList(column.split(","))));
+	}
+}
@@ -0,0 +1,41 @@
+package com.sinergy.chronosync.model.user;
+
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.firm.Firm;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Qualification of an employee to perform appointments of a type.
+ * <p>An appointment type without any qualification can be performed by every employee of the
+ * firm. Once an employee is qualified for it, only qualified employees can perform it. The firm
+ * is copied from the employee, so that the qualifications of a firm are read with one query.</p>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(
+	name = "employeeQualifications",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_employee_qualifications_employee_type",
+		columnNames = {"employee_id", "appointment_type_id"}
+	)
+)
+public class EmployeeQualification extends BaseEntity {
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "employee_id")
+	private User employee;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "appointment_type_id")
+	private AppointmentType appointmentType;
+}
@@ -2,6 +2,7 @@ package com.sinergy.chronosync.model.user;
 
 import com.sinergy.chronosync.model.firm.Firm;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -9,6 +10,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -25,12 +27,9 @@ import java.util.List;
 @Setter
 @Entity
 @Table(name = "users")
+@DynamicUpdate
 public class User extends Person implements UserDetails {
 
-	//TODO: Add date created, modified (for every entity).
-	//TODO: Add datetime of logging in, and datetime of logging out.
-	//TODO: Implement global logger for user actions and system actions.
-
 	private String username;
 	private String password;
 	private UserRole role;
@@ -87,7 +86,7 @@ public class User extends Person implements UserDetails {
 		return this.isEnabled;
 	}
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "firm_id")
 	private Firm firm;
 }
@@ -0,0 +1,74 @@
+package com.sinergy.chronosync.model.waitlist;
+
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.customer.Customer;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Customer waiting for a free slot of an appointment type within a time window.
+ * <p>The slot has to lie within {@code [windowStart, windowEnd)}. An entry with an employee
+ * only accepts slots of that employee. Entries with a higher {@code priority} are offered
+ * slots first, entries of equal priority in the order they were created.</p>
+ * <p>When a booked slot that fits is cancelled, it is held for the customer and the entry
+ * is {@link WaitlistEntryStatus#OFFERED} the hold until the hold is confirmed.</p>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(name = "waitlistEntries")
+public class WaitlistEntry extends BaseEntity {
+
+	/**
+	 * Highest allowed priority of an entry.
+	 */
+	public static final int MAX_PRIORITY = 100;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "firm_id")
+	private Firm firm;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "appointment_type_id")
+	private AppointmentType appointmentType;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "customer_id")
+	private Customer customer;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "employee_id")
+	private User employee;
+
+	@Column(nullable = false)
+	private Instant windowStart;
+
+	@Column(nullable = false)
+	private Instant windowEnd;
+
+	@Column(nullable = false)
+	private int priority;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 32)
+	private WaitlistEntryStatus status;
+
+	@Column(length = 36)
+	private String holdId;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "offer_employee_id")
+	private User offerEmployee;
+
+	private Instant offerStartTime;
+
+	private Instant offerExpiresAt;
+}
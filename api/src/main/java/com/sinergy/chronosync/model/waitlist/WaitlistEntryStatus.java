@@ -0,0 +1,10 @@
+package com.sinergy.chronosync.model.waitlist;
+
+/**
+ * Enum of waitlist entry statuses.
+ */
+public enum WaitlistEntryStatus {
+	WAITING,
+	OFFERED,
+	BOOKED
+}
@@ -0,0 +1,44 @@
+package com.sinergy.chronosync.model.workingHours;
+
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Working hours of an employee on a single date, replacing the {@link WorkingHoursTemplate}.
+ * <p>The day is stored as a bitmap of {@link WorkingHoursTemplate#SLOTS_PER_DAY} five-minute slots
+ * with the bits of working slots set. Without set bits the employee is off on that date.</p>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(
+	name = "workingHoursOverrides",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_working_hours_overrides_employee_work_date",
+		columnNames = {"employee_id", "workDate"}
+	)
+)
+public class WorkingHoursOverride extends BaseEntity {
+
+	/**
+	 * Length of the stored bitmap in bytes.
+	 */
+	public static final int BYTES = WorkingHoursTemplate.SLOTS_PER_DAY / 8;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "employee_id")
+	private User employee;
+
+	@Column(nullable = false)
+	private LocalDate workDate;
+
+	@Column(nullable = false, length = BYTES)
+	private byte[] slots;
+}
@@ -0,0 +1,47 @@
+package com.sinergy.chronosync.model.workingHours;
+
+import com.sinergy.chronosync.model.BaseEntity;
+import com.sinergy.chronosync.model.user.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Weekly working hours of an employee.
+ * <p>The week is stored as a bitmap of five-minute slots in the local time of the working hours,
+ * {@link #SLOTS_PER_DAY} slots per day from Monday to Sunday, with the bits of working slots set.
+ * A week fits into {@link #BYTES} bytes instead of a row per day and time range.</p>
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Builder
+@Table(
+	name = "workingHoursTemplates",
+	uniqueConstraints = @UniqueConstraint(name = "uk_working_hours_templates_employee", columnNames = "employee_id")
+)
+public class WorkingHoursTemplate extends BaseEntity {
+
+	/**
+	 * Number of five-minute slots per day.
+	 */
+	public static final int SLOTS_PER_DAY = 288;
+
+	/**
+	 * Number of five-minute slots per week.
+	 */
+	public static final int SLOTS_PER_WEEK = 7 * SLOTS_PER_DAY;
+
+	/**
+	 * Length of the stored bitmap in bytes.
+	 */
+	public static final int BYTES = SLOTS_PER_WEEK / 8;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "employee_id")
+	private User employee;
+
+	@Column(nullable = false, length = BYTES)
+	private byte[] slots;
+}
@@ -0,0 +1,34 @@
+package com.sinergy.chronosync.repository;
+
+import java.time.Duration;
+
+/**
+ * Repository fragment for taking PostgreSQL transaction-scoped advisory locks.
+ */
+public interface AdvisoryLockRepository {
+
+	/**
+	 * Takes an exclusive advisory lock on each key, in the given order, waiting at most the
+	 * timeout for each. The locks are held by the current transaction and released when it ends.
+	 *
+	 * @param keys    lock keys, sorted so concurrent transactions acquire them in the same order
+	 * @param timeout {@link Duration} how long to wait for each lock
+	 * @throws org.springframework.dao.DataAccessException with SQL state
+	 *                                                     {@link com.sinergy.chronosync.util.SqlStateUtils#LOCK_NOT_AVAILABLE}
+	 *                                                     if a lock is not acquired within the timeout.
+	 */
+	void lockTransactionScoped(long[] keys, Duration timeout);
+
+	/**
+	 * Takes a shared advisory lock on each key, in the given order, waiting at most the timeout
+	 * for each. Shared locks on a key are held together, but exclude an exclusive lock on it.
+	 * The locks are held by the current transaction and released when it ends.
+	 *
+	 * @param keys    lock keys, sorted so concurrent transactions acquire them in the same order
+	 * @param timeout {@link Duration} how long to wait for each lock
+	 * @throws org.springframework.dao.DataAccessException with SQL state
+	 *                                                     {@link com.sinergy.chronosync.util.SqlStateUtils#LOCK_NOT_AVAILABLE}
+	 *                                                     if a lock is not acquired within the timeout.
+	 */
+	void lockSharedTransactionScoped(long[] keys, Duration timeout);
+}
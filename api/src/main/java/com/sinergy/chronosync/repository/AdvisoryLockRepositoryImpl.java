@@ -0,0 +1,61 @@
+package com.sinergy.chronosync.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * JDBC implementation of {@link AdvisoryLockRepository}.
+ *
+ * <p>The statements run on the connection of the current transaction, so the locks are
+ * released by its commit or rollback and never leak into the connection pool. The wait is
+ * bounded by setting {@code lock_timeout} for the transaction while the locks are taken; it is
+ * reset afterwards, so the statements of the booking itself keep the configured timeout. A lock
+ * not acquired in time aborts the transaction.</p>
+ */
+@RequiredArgsConstructor
+public class AdvisoryLockRepositoryImpl implements AdvisoryLockRepository {
+
+	private static final String SET_TIMEOUT_STATEMENT = "select set_config('lock_timeout', ?, true)";
+	private static final String LOCK_STATEMENT = "select pg_advisory_xact_lock(?)";
+	private static final String LOCK_SHARED_STATEMENT = "select pg_advisory_xact_lock_shared(?)";
+	private static final String RESET_TIMEOUT_STATEMENT = "set local lock_timeout to default";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Takes an exclusive advisory lock on each key, in the given order, waiting at most the
+	 * timeout for each.
+	 *
+	 * @param keys    lock keys, sorted so concurrent transactions acquire them in the same order
+	 * @param timeout {@link Duration} how long to wait for each lock
+	 */
+	@Override
+	public void lockTransactionScoped(long[] keys, Duration timeout) {
+		lock(LOCK_STATEMENT, keys, timeout);
+	}
+
+	/**
+	 * Takes a shared advisory lock on each key, in the given order, waiting at most the timeout
+	 * for each.
+	 *
+	 * @param keys    lock keys, sorted so concurrent transactions acquire them in the same order
+	 * @param timeout {@link Duration} how long to wait for each lock
+	 */
+	@Override
+	public void lockSharedTransactionScoped(long[] keys, Duration timeout) {
+		lock(LOCK_SHARED_STATEMENT, keys, timeout);
+	}
+
+	private void lock(String statement, long[] keys, Duration timeout) {
+		if (keys.length == 0) {
+			return;
+		}
+		jdbcTemplate.query(SET_TIMEOUT_STATEMENT, resultSet -> null, Math.max(timeout.toMillis(), 1) + "ms");
+		for (long key : keys) {
+			jdbcTemplate.query(statement, resultSet -> null, key);
+		}
+		jdbcTemplate.execute(RESET_TIMEOUT_STATEMENT);
+	}
+}
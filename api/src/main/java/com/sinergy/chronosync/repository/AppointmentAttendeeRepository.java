@@ -0,0 +1,11 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.appointment.AppointmentAttendee;
+
+/**
+ * Repository class for attendees of group sessions.
+ * <p>Attendees are queried with {@link com.sinergy.chronosync.builder.AppointmentAttendeeFilterBuilder}.</p>
+ */
+public interface AppointmentAttendeeRepository extends BaseRepository<AppointmentAttendee, Long> {
+
+}
@@ -0,0 +1,52 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+
+/**
+ * Repository fragment reading the appointments of calendar views together with the names of
+ * their employees and types.
+ */
+public interface AppointmentCalendarRepository {
+
+	/**
+	 * Passes every appointment matching the specification to the handler in start order,
+	 * reading the appointments, employees and types with a single streamed query and without
+	 * loading entities into the persistence context.
+	 *
+	 * @param specification {@link Specification} selecting the appointments
+	 * @param handler       {@link CalendarEntryHandler} receiving the appointments
+	 */
+	void forEachCalendarEntry(Specification<Appointment> specification, CalendarEntryHandler handler);
+
+	/**
+	 * Receives an appointment of a calendar view.
+	 */
+	@FunctionalInterface
+	interface CalendarEntryHandler {
+
+		/**
+		 * Handles one appointment.
+		 *
+		 * @param id                ID of the appointment
+		 * @param firmId            ID of the firm
+		 * @param employeeId        ID of the employee
+		 * @param firstName         first name of the employee
+		 * @param lastName          last name of the employee
+		 * @param appointmentTypeId ID of the appointment type
+		 * @param typeName          name of the appointment type
+		 * @param colorCode         color code of the appointment type
+		 * @param startTime         start of the appointment
+		 * @param endTime           end of the appointment
+		 * @param status            status of the appointment
+		 */
+		void handle(
+			long id, long firmId, long employeeId, String firstName, String lastName,
+			long appointmentTypeId, String typeName, String colorCode,
+			Instant startTime, Instant endTime, AppointmentStatus status
+		);
+	}
+}
@@ -0,0 +1,81 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.user.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+/**
+ * JPA implementation of {@link AppointmentCalendarRepository}.
+ *
+ * <p>The specification is applied to a tuple query joining the employee and the appointment type,
+ * so only the columns of the calendar view are read. Rows are streamed with a fetch size of
+ * {@value #FETCH_SIZE}, so reading the appointments of many days does not hold the whole result
+ * in memory.</p>
+ */
+@RequiredArgsConstructor
+public class AppointmentCalendarRepositoryImpl implements AppointmentCalendarRepository {
+
+	static final int FETCH_SIZE = 1000;
+
+	private final EntityManager entityManager;
+
+	/**
+	 * Passes every appointment matching the specification to the handler in start order.
+	 *
+	 * @param specification {@link Specification} selecting the appointments
+	 * @param handler       {@link CalendarEntryHandler} receiving the appointments
+	 */
+	@Override
+	public void forEachCalendarEntry(Specification<Appointment> specification, CalendarEntryHandler handler) {
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+		Root<Appointment> root = query.from(Appointment.class);
+		Join<Appointment, User> employee = root.join("employee");
+		Join<Appointment, AppointmentType> appointmentType = root.join("appointmentType");
+
+		query.multiselect(
+				root.get("id"),
+				root.get("firm").get("id"),
+				employee.get("id"),
+				employee.get("firstName"),
+				employee.get("lastName"),
+				appointmentType.get("id"),
+				appointmentType.get("name"),
+				appointmentType.get("colorCode"),
+				root.get("startTime"),
+				root.get("endTime"),
+				root.get("status")
+			)
+			.where(specification.toPredicate(root, query, criteriaBuilder))
+			.orderBy(criteriaBuilder.asc(root.get("startTime")), criteriaBuilder.asc(root.get("id")));
+
+		try (Stream<Tuple> rows = entityManager.createQuery(query).setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE).getResultStream()) {
+			rows.forEach(row -> handler.handle(
+				row.get(0, Long.class),
+				row.get(1, Long.class),
+				row.get(2, Long.class),
+				row.get(3, String.class),
+				row.get(4, String.class),
+				row.get(5, Long.class),
+				row.get(6, String.class),
+				row.get(7, String.class),
+				row.get(8, Instant.class),
+				row.get(9, Instant.class),
+				row.get(10, AppointmentStatus.class)
+			));
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.sinergy.chronosync.repository;
+
+import java.time.Instant;
+
+/**
+ * Repository fragment streaming the time intervals of booked appointments.
+ */
+public interface AppointmentIntervalRepository {
+
+	/**
+	 * Passes every booked appointment ending after the given time to the handler,
+	 * without loading entities into the persistence context.
+	 *
+	 * @param endAfter time after which the appointments end
+	 * @param handler  {@link BookedIntervalHandler} receiving the appointments
+	 */
+	void forEachBookedInterval(Instant endAfter, BookedIntervalHandler handler);
+
+	/**
+	 * Receives the time interval of a booked appointment.
+	 */
+	@FunctionalInterface
+	interface BookedIntervalHandler {
+
+		/**
+		 * Handles one booked appointment.
+		 *
+		 * @param id         ID of the appointment
+		 * @param firmId     ID of the firm
+		 * @param employeeId ID of the employee
+		 * @param startTime  start of the appointment
+		 * @param endTime    end of the appointment
+		 */
+		void handle(long id, long firmId, long employeeId, Instant startTime, Instant endTime);
+	}
+}
@@ -0,0 +1,52 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * JDBC implementation of {@link AppointmentIntervalRepository}.
+ *
+ * <p>Rows are streamed with a fetch size of {@value #FETCH_SIZE}, so reading all upcoming
+ * bookings does not hold the whole result in memory.</p>
+ */
+@RequiredArgsConstructor
+public class AppointmentIntervalRepositoryImpl implements AppointmentIntervalRepository {
+
+	static final int FETCH_SIZE = 1000;
+
+	private static final String SELECT_BOOKED =
+		"select id, firm_id, employee_id, start_time, end_time from appointments where status = ? and end_time > ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Passes every booked appointment ending after the given time to the handler.
+	 *
+	 * @param endAfter time after which the appointments end
+	 * @param handler  {@link BookedIntervalHandler} receiving the appointments
+	 */
+	@Override
+	public void forEachBookedInterval(Instant endAfter, BookedIntervalHandler handler) {
+		jdbcTemplate.query(
+			connection -> {
+				var statement = connection.prepareStatement(SELECT_BOOKED);
+				statement.setFetchSize(FETCH_SIZE);
+				statement.setString(1, AppointmentStatus.BOOKED.name());
+				statement.setTimestamp(2, Timestamp.from(endAfter));
+				return statement;
+			},
+			(RowCallbackHandler) resultSet -> handler.handle(
+				resultSet.getLong(1),
+				resultSet.getLong(2),
+				resultSet.getLong(3),
+				resultSet.getTimestamp(4).toInstant(),
+				resultSet.getTimestamp(5).toInstant()
+			)
+		);
+	}
+}
@@ -0,0 +1,16 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.appointment.Appointment;
+
+/**
+ * Repository class for appointment management.
+ * <p>Range queries are built with {@link com.sinergy.chronosync.builder.AppointmentFilterBuilder}.
+ * Advisory locks serializing bookings across instances are taken through {@link AdvisoryLockRepository}.
+ * Seats of group sessions are taken and returned through {@link AppointmentSeatRepository}.
+ * Calendar views are read through {@link AppointmentCalendarRepository}.</p>
+ */
+public interface AppointmentRepository
+	extends BaseRepository<Appointment, Long>, AppointmentIntervalRepository, AdvisoryLockRepository, AppointmentSeatRepository,
+	AppointmentCalendarRepository {
+
+}
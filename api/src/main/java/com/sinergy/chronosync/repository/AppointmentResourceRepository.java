@@ -0,0 +1,11 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.appointment.AppointmentResource;
+
+/**
+ * Repository class for resource reservations of appointments.
+ * <p>Reservations are queried with {@link com.sinergy.chronosync.builder.AppointmentResourceFilterBuilder}.</p>
+ */
+public interface AppointmentResourceRepository extends BaseRepository<AppointmentResource, Long> {
+
+}
@@ -0,0 +1,22 @@
+package com.sinergy.chronosync.repository;
+
+/**
+ * Repository fragment for counting the seats left of group sessions with conditional updates.
+ */
+public interface AppointmentSeatRepository {
+
+	/**
+	 * Takes one seat of a booked group session, unless none is left.
+	 *
+	 * @param appointmentId ID of the group session
+	 * @return {@code true} if a seat was taken
+	 */
+	boolean takeSeat(long appointmentId);
+
+	/**
+	 * Returns one seat to a group session.
+	 *
+	 * @param appointmentId ID of the group session
+	 */
+	void returnSeat(long appointmentId);
+}
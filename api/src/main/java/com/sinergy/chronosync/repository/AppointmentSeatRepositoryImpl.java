@@ -0,0 +1,48 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * JDBC implementation of {@link AppointmentSeatRepository}.
+ *
+ * <p>Each change is a single {@code UPDATE} whose condition is checked against the current row,
+ * so concurrent signups cannot take more seats than left without reading the row first. The row
+ * stays locked until the transaction ends, so callers issue the update last.</p>
+ */
+@RequiredArgsConstructor
+public class AppointmentSeatRepositoryImpl implements AppointmentSeatRepository {
+
+	private static final String TAKE_SEAT = "update appointments set seats_left = seats_left - 1, modified_at = ? "
+		+ "where id = ? and status = ? and seats_left > 0";
+
+	private static final String RETURN_SEAT = "update appointments set seats_left = seats_left + 1, modified_at = ? "
+		+ "where id = ? and seats_left is not null";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Takes one seat of a booked group session, unless none is left.
+	 *
+	 * @param appointmentId ID of the group session
+	 * @return {@code true} if a seat was taken
+	 */
+	@Override
+	public boolean takeSeat(long appointmentId) {
+		return jdbcTemplate.update(TAKE_SEAT, Timestamp.from(Instant.now()), appointmentId, AppointmentStatus.BOOKED.name()) > 0;
+	}
+
+	/**
+	 * Returns one seat to a group session.
+	 *
+	 * @param appointmentId ID of the group session
+	 */
+	@Override
+	public void returnSeat(long appointmentId) {
+		jdbcTemplate.update(RETURN_SEAT, Timestamp.from(Instant.now()), appointmentId);
+	}
+}
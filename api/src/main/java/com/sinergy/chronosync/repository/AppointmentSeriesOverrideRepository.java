@@ -0,0 +1,11 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.appointment.AppointmentSeriesOverride;
+
+/**
+ * Repository class for overrides of single occurrences of recurring appointment series.
+ * <p>Overrides are queried with {@link com.sinergy.chronosync.builder.AppointmentSeriesOverrideFilterBuilder}.</p>
+ */
+public interface AppointmentSeriesOverrideRepository extends BaseRepository<AppointmentSeriesOverride, Long> {
+
+}
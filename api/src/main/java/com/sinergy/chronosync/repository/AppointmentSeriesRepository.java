@@ -0,0 +1,12 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.appointment.AppointmentSeries;
+
+/**
+ * Repository class for recurring appointment series management.
+ * <p>Series active in a time range are queried with
+ * {@link com.sinergy.chronosync.builder.AppointmentSeriesFilterBuilder}.</p>
+ */
+public interface AppointmentSeriesRepository extends BaseRepository<AppointmentSeries, Long> {
+
+}
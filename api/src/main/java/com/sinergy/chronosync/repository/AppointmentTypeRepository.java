@@ -1,8 +1,13 @@
 package com.sinergy.chronosync.repository;
 
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -11,7 +16,19 @@ import org.springframework.stereotype.Repository;
  * This interface extends {@link JpaRepository} to provide CRUD operations for {@link AppointmentType} entities.
  */
 @Repository
-public interface AppointmentTypeRepository
-	extends JpaRepository<AppointmentType, Long>, JpaSpecificationExecutor<AppointmentType> {
-}
+public interface AppointmentTypeRepository extends BaseRepository<AppointmentType, Long> {
 
+	/**
+	 * Returns a page of appointment types matching the given specification.
+	 *
+	 * <p>Results are stored in the query cache, so repeated reads of the per-firm list are
+	 * served from the second-level cache until an appointment type changes.</p>
+	 *
+	 * @param spec     {@link Specification} filter criteria
+	 * @param pageable {@link Pageable} pagination information
+	 * @return {@link Page} of matching appointment types
+	 */
+	@Override
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	Page<AppointmentType> findAll(Specification<AppointmentType> spec, Pageable pageable);
+}
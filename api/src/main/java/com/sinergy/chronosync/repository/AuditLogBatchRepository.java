@@ -0,0 +1,19 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.audit.AuditLog;
+
+import java.util.List;
+
+/**
+ * Repository fragment for appending audit log rows in bulk.
+ */
+public interface AuditLogBatchRepository {
+
+	/**
+	 * Inserts the given audit log entries using multi-row {@code INSERT} statements.
+	 *
+	 * @param entries {@link List} of {@link AuditLog} entries to insert
+	 * @return number of inserted rows
+	 */
+	int insertBatch(List<AuditLog> entries);
+}
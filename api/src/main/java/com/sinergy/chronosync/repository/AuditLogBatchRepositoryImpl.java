@@ -0,0 +1,70 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.audit.AuditLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link AuditLogBatchRepository}.
+ *
+ * <p>Entries are written with plain JDBC instead of the entity manager, so a batch costs
+ * one round-trip per {@value #MAX_ROWS_PER_STATEMENT} rows and never touches the persistence context.</p>
+ */
+@RequiredArgsConstructor
+public class AuditLogBatchRepositoryImpl implements AuditLogBatchRepository {
+
+	/**
+	 * Keeps the number of bind parameters per statement well below the PostgreSQL limit of 65535.
+	 */
+	static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+	private static final String INSERT_PREFIX =
+		"insert into audit_log (occurred_at, username, action, entity_type, entity_id) values ";
+	private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Inserts the given audit log entries using multi-row {@code INSERT} statements.
+	 *
+	 * @param entries {@link List} of {@link AuditLog} entries to insert
+	 * @return number of inserted rows
+	 */
+	@Override
+	public int insertBatch(List<AuditLog> entries) {
+		int inserted = 0;
+		for (int from = 0; from < entries.size(); from += MAX_ROWS_PER_STATEMENT) {
+			List<AuditLog> chunk = entries.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, entries.size()));
+			inserted += jdbcTemplate.update(insertStatement(chunk.size()), bindValues(chunk));
+		}
+		return inserted;
+	}
+
+	private static String insertStatement(int rows) {
+		StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2));
+		sql.append(INSERT_PREFIX);
+		for (int i = 0; i < rows; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append(ROW_PLACEHOLDER);
+		}
+		return sql.toString();
+	}
+
+	private static Object[] bindValues(List<AuditLog> entries) {
+		List<Object> values = new ArrayList<>(entries.size() * 5);
+		for (AuditLog entry : entries) {
+			values.add(Timestamp.from(entry.getOccurredAt()));
+			values.add(entry.getUsername());
+			values.add(entry.getAction().name());
+			values.add(entry.getEntityType());
+			values.add(entry.getEntityId());
+		}
+		return values.toArray();
+	}
+}
@@ -0,0 +1,10 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.audit.AuditLog;
+
+/**
+ * Repository class for audit log management.
+ */
+public interface AuditLogRepository extends BaseRepository<AuditLog, Long>, AuditLogBatchRepository {
+
+}
@@ -0,0 +1,36 @@
+package com.sinergy.chronosync.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.Map;
+
+/**
+ * Base repository interface shared by entity repositories.
+ *
+ * <p>Extends {@link JpaRepository} and {@link JpaSpecificationExecutor} with operations
+ * that are not covered by Spring Data out of the box, such as partial updates.</p>
+ *
+ * @param <T>  the type of the entity
+ * @param <ID> the type of the entity identifier
+ */
+@NoRepositoryBean
+public interface BaseRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
+
+	/**
+	 * Updates only the given attributes of the entity identified by its ID.
+	 *
+	 * <p>The update is executed as a single {@code UPDATE} statement that sets only the
+	 * changed columns, without loading the entity first. The optional scope specification
+	 * is added to the {@code WHERE} clause, which allows ownership checks to be part of
+	 * the same statement.</p>
+	 *
+	 * @param id      {@link ID} identifier of the entity to update
+	 * @param changes {@link Map} of attribute names to their new values
+	 * @param scope   {@link Specification} additional restriction, may be {@code null}
+	 * @return number of updated rows
+	 */
+	int patch(ID id, Map<String, Object> changes, Specification<T> scope);
+}
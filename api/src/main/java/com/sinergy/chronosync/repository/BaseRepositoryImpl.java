@@ -0,0 +1,74 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.BaseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Default implementation of {@link BaseRepository}, used as repository base class
+ * for all repositories in the application.
+ *
+ * @param <T>  the type of the entity
+ * @param <ID> the type of the entity identifier
+ */
+public class BaseRepositoryImpl<T, ID extends Serializable>
+	extends SimpleJpaRepository<T, ID> implements BaseRepository<T, ID> {
+
+	private final JpaEntityInformation<T, ?> entityInformation;
+	private final EntityManager entityManager;
+
+	public BaseRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+		super(entityInformation, entityManager);
+		this.entityInformation = entityInformation;
+		this.entityManager = entityManager;
+	}
+
+	/**
+	 * Updates only the given attributes of the entity identified by its ID.
+	 *
+	 * <p>Builds a {@link CriteriaUpdate} that sets each changed attribute and restricts
+	 * the statement to the given ID and scope. An empty change set does not hit the database.
+	 * For {@link BaseEntity} subclasses the modification timestamp is set as well, because
+	 * bulk updates bypass Hibernate's {@code @UpdateTimestamp} handling.</p>
+	 *
+	 * @param id      {@link ID} identifier of the entity to update
+	 * @param changes {@link Map} of attribute names to their new values
+	 * @param scope   {@link Specification} additional restriction, may be {@code null}
+	 * @return number of updated rows
+	 */
+	@Override
+	@Transactional
+	public int patch(ID id, Map<String, Object> changes, Specification<T> scope) {
+		if (changes.isEmpty()) {
+			return 0;
+		}
+
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaUpdate<T> update = criteriaBuilder.createCriteriaUpdate(getDomainClass());
+		Root<T> root = update.from(getDomainClass());
+
+		changes.forEach(update::set);
+		if (BaseEntity.class.isAssignableFrom(getDomainClass())) {
+			update.set(root.<Instant>get("modifiedAt"), Instant.now());
+		}
+
+		Predicate predicate = criteriaBuilder.equal(root.get(entityInformation.getIdAttribute().getName()), id);
+		if (scope != null) {
+			predicate = criteriaBuilder.and(predicate, scope.toPredicate(root, null, criteriaBuilder));
+		}
+		update.where(predicate);
+
+		return entityManager.createQuery(update).executeUpdate();
+	}
+}
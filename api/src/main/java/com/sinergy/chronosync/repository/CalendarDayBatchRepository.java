@@ -0,0 +1,36 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.calendar.CalendarDay;
+import com.sinergy.chronosync.model.calendar.CalendarDayId;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository fragment for replacing calendar projection rows in bulk.
+ */
+public interface CalendarDayBatchRepository {
+
+	/**
+	 * Deletes the calendar days with the given keys, if they exist.
+	 *
+	 * @param ids {@link Collection} of {@link CalendarDayId} keys to delete
+	 */
+	void deleteDays(Collection<CalendarDayId> ids);
+
+	/**
+	 * Inserts the given calendar days using multi-row {@code INSERT} statements.
+	 *
+	 * @param days {@link List} of {@link CalendarDay} rows to insert
+	 * @return number of inserted rows
+	 */
+	int insertDays(List<CalendarDay> days);
+
+	/**
+	 * Deletes every calendar day of a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @return number of deleted rows
+	 */
+	int deleteFirmDays(Long firmId);
+}
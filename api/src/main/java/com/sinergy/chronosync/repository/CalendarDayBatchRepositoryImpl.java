@@ -0,0 +1,106 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.calendar.CalendarDay;
+import com.sinergy.chronosync.model.calendar.CalendarDayEntriesConverter;
+import com.sinergy.chronosync.model.calendar.CalendarDayId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link CalendarDayBatchRepository}.
+ *
+ * <p>Rows are written with plain JDBC instead of the entity manager, so replacing the days touched
+ * by a batch of changes costs a few round-trips and never touches the persistence context.</p>
+ */
+@RequiredArgsConstructor
+public class CalendarDayBatchRepositoryImpl implements CalendarDayBatchRepository {
+
+	/**
+	 * Keeps the number of bind parameters per statement well below the PostgreSQL limit of 65535.
+	 */
+	static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+	private static final String DELETE = "delete from calendar_days where firm_id = ? and calendar_day = ? and employee_id = ?";
+	private static final String DELETE_FIRM = "delete from calendar_days where firm_id = ?";
+	private static final String INSERT_PREFIX =
+		"insert into calendar_days (firm_id, calendar_day, employee_id, first_name, last_name, entries, projected_at) values ";
+	private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+
+	private static final CalendarDayEntriesConverter ENTRIES_CONVERTER = new CalendarDayEntriesConverter();
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Deletes the calendar days with the given keys with a batch of {@code DELETE} statements.
+	 *
+	 * @param ids {@link Collection} of {@link CalendarDayId} keys to delete
+	 */
+	@Override
+	public void deleteDays(Collection<CalendarDayId> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(DELETE, ids.stream()
+			.map(id -> new Object[]{id.getFirmId(), Date.valueOf(id.getDay()), id.getEmployeeId()})
+			.toList());
+	}
+
+	/**
+	 * Inserts the given calendar days using multi-row {@code INSERT} statements.
+	 *
+	 * @param days {@link List} of {@link CalendarDay} rows to insert
+	 * @return number of inserted rows
+	 */
+	@Override
+	public int insertDays(List<CalendarDay> days) {
+		int inserted = 0;
+		for (int from = 0; from < days.size(); from += MAX_ROWS_PER_STATEMENT) {
+			List<CalendarDay> chunk = days.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, days.size()));
+			inserted += jdbcTemplate.update(insertStatement(chunk.size()), bindValues(chunk));
+		}
+		return inserted;
+	}
+
+	/**
+	 * Deletes every calendar day of a firm.
+	 *
+	 * @param firmId {@link Long} ID of the firm
+	 * @return number of deleted rows
+	 */
+	@Override
+	public int deleteFirmDays(Long firmId) {
+		return jdbcTemplate.update(DELETE_FIRM, firmId);
+	}
+
+	private static String insertStatement(int rows) {
+		StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2));
+		sql.append(INSERT_PREFIX);
+		for (int i = 0; i < rows; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append(ROW_PLACEHOLDER);
+		}
+		return sql.toString();
+	}
+
+	private static Object[] bindValues(List<CalendarDay> days) {
+		List<Object> values = new ArrayList<>(days.size() * 7);
+		for (CalendarDay day : days) {
+			values.add(day.getId().getFirmId());
+			values.add(Date.valueOf(day.getId().getDay()));
+			values.add(day.getId().getEmployeeId());
+			values.add(day.getFirstName());
+			values.add(day.getLastName());
+			values.add(ENTRIES_CONVERTER.convertToDatabaseColumn(day.getEntries()));
+			values.add(Timestamp.from(day.getProjectedAt()));
+		}
+		return values.toArray();
+	}
+}
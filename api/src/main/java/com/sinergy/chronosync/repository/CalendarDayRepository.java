@@ -0,0 +1,13 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.calendar.CalendarDay;
+import com.sinergy.chronosync.model.calendar.CalendarDayId;
+
+/**
+ * Repository class for the calendar projection.
+ * <p>Days are read with {@link com.sinergy.chronosync.builder.CalendarDayFilterBuilder} and
+ * written in bulk through {@link CalendarDayBatchRepository}.</p>
+ */
+public interface CalendarDayRepository extends BaseRepository<CalendarDay, CalendarDayId>, CalendarDayBatchRepository {
+
+}
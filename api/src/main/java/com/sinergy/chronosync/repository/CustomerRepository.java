@@ -0,0 +1,10 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.customer.Customer;
+
+/**
+ * Repository class for customer management.
+ */
+public interface CustomerRepository extends BaseRepository<Customer, Long> {
+
+}
@@ -0,0 +1,11 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.user.EmployeeQualification;
+
+/**
+ * Repository class for qualifications of employees.
+ * <p>Qualifications are queried with {@link com.sinergy.chronosync.builder.EmployeeQualificationFilterBuilder}.</p>
+ */
+public interface EmployeeQualificationRepository extends BaseRepository<EmployeeQualification, Long> {
+
+}
@@ -0,0 +1,11 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.firm.FirmClosure;
+
+/**
+ * Repository class for closures of firms.
+ * <p>Closures are queried with {@link com.sinergy.chronosync.builder.FirmClosureFilterBuilder}.</p>
+ */
+public interface FirmClosureRepository extends BaseRepository<FirmClosure, Long> {
+
+}
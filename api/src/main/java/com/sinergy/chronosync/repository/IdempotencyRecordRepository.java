@@ -0,0 +1,10 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.idempotency.IdempotencyRecord;
+
+/**
+ * Repository class for idempotency key management.
+ */
+public interface IdempotencyRecordRepository extends BaseRepository<IdempotencyRecord, Long> {
+
+}
@@ -0,0 +1,11 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.resource.Resource;
+
+/**
+ * Repository class for resources of firms.
+ * <p>Resources are queried with {@link com.sinergy.chronosync.builder.ResourceFilterBuilder}.</p>
+ */
+public interface ResourceRepository extends BaseRepository<Resource, Long> {
+
+}
@@ -0,0 +1,11 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.waitlist.WaitlistEntry;
+
+/**
+ * Repository class for waitlist entries.
+ * <p>Waitlist entries are queried with {@link com.sinergy.chronosync.builder.WaitlistEntryFilterBuilder}.</p>
+ */
+public interface WaitlistEntryRepository extends BaseRepository<WaitlistEntry, Long> {
+
+}
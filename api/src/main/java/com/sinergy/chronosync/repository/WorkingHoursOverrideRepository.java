@@ -0,0 +1,11 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.workingHours.WorkingHoursOverride;
+
+/**
+ * Repository class for working hours of employees on single dates.
+ * <p>Overrides are queried with {@link com.sinergy.chronosync.builder.WorkingHoursOverrideFilterBuilder}.</p>
+ */
+public interface WorkingHoursOverrideRepository extends BaseRepository<WorkingHoursOverride, Long> {
+
+}
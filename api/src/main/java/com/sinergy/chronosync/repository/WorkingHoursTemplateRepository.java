@@ -0,0 +1,11 @@
+package com.sinergy.chronosync.repository;
+
+import com.sinergy.chronosync.model.workingHours.WorkingHoursTemplate;
+
+/**
+ * Repository class for weekly working hours of employees.
+ * <p>Working hours are queried with {@link com.sinergy.chronosync.builder.WorkingHoursTemplateFilterBuilder}.</p>
+ */
+public interface WorkingHoursTemplateRepository extends BaseRepository<WorkingHoursTemplate, Long> {
+
+}
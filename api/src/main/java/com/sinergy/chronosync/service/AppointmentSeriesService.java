@@ -0,0 +1,77 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.AppointmentOccurrenceRequestDTO;
+import com.sinergy.chronosync.dto.request.AppointmentRangeRequestDTO;
+import com.sinergy.chronosync.dto.request.AppointmentSeriesRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentOccurrenceDTO;
+import com.sinergy.chronosync.dto.response.AppointmentSeriesResponseDTO;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service interface for managing recurring appointment series.
+ */
+public interface AppointmentSeriesService {
+
+	/**
+	 * Retrieves the occurrences of the current user's firm's series overlapping the requested time range.
+	 *
+	 * @param request {@link AppointmentRangeRequestDTO} time range and employees to filter by
+	 * @return {@link List} of {@link AppointmentOccurrenceDTO} ordered by start time
+	 */
+	List<AppointmentOccurrenceDTO> getOccurrences(AppointmentRangeRequestDTO request);
+
+	/**
+	 * Expands the occurrences of booked series of the firm overlapping {@code [from, to)}.
+	 *
+	 * @param firmId      {@link Long} ID of the firm
+	 * @param employeeIds {@link Collection} of employee IDs, all employees if empty
+	 * @param from        {@link Instant} start of the time range, inclusive
+	 * @param to          {@link Instant} end of the time range, exclusive
+	 * @return {@link List} of {@link AppointmentOccurrenceDTO} ordered by start time
+	 */
+	List<AppointmentOccurrenceDTO> findOccurrences(Long firmId, Collection<Long> employeeIds, Instant from, Instant to);
+
+	/**
+	 * Returns whether an occurrence of a booked series of the employee overlaps the time range.
+	 *
+	 * @param firmId     {@link Long} ID of the firm
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param startTime  {@link Instant} start of the time range, inclusive
+	 * @param endTime    {@link Instant} end of the time range, exclusive
+	 * @return {@code true} if the employee has an occurrence within the range
+	 */
+	boolean hasConflict(Long firmId, Long employeeId, Instant startTime, Instant endTime);
+
+	/**
+	 * Books a new recurring appointment series.
+	 *
+	 * @param request {@link AppointmentSeriesRequestDTO} series details
+	 * @return {@link AppointmentSeriesResponseDTO} booked series
+	 */
+	AppointmentSeriesResponseDTO createSeries(AppointmentSeriesRequestDTO request);
+
+	/**
+	 * Cancels a series with all its occurrences.
+	 *
+	 * @param id {@link Long} ID of the series to cancel
+	 */
+	void cancelSeries(Long id);
+
+	/**
+	 * Cancels a single occurrence of a series.
+	 *
+	 * @param request {@link AppointmentOccurrenceRequestDTO} occurrence to cancel
+	 */
+	void cancelOccurrence(AppointmentOccurrenceRequestDTO request);
+
+	/**
+	 * Moves a single occurrence of a series to a new start time.
+	 *
+	 * @param request {@link AppointmentOccurrenceRequestDTO} occurrence to move and its new start time
+	 * @return moved {@link AppointmentOccurrenceDTO}
+	 */
+	AppointmentOccurrenceDTO rescheduleOccurrence(AppointmentOccurrenceRequestDTO request);
+}
@@ -0,0 +1,64 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.AppointmentRangeRequestDTO;
+import com.sinergy.chronosync.dto.request.AppointmentRequestDTO;
+import com.sinergy.chronosync.dto.request.SlotAvailabilityRequestDTO;
+import com.sinergy.chronosync.dto.request.SlotHoldConfirmRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentResponseDTO;
+import com.sinergy.chronosync.dto.response.CalendarViewDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for managing appointments.
+ */
+public interface AppointmentService {
+
+	/**
+	 * Retrieves the appointments of the current user's firm overlapping the requested time range.
+	 *
+	 * @param request {@link AppointmentRangeRequestDTO} time range, employees and status to filter by
+	 * @return {@link List} of {@link AppointmentResponseDTO} ordered by start time
+	 */
+	List<AppointmentResponseDTO> getAppointments(AppointmentRangeRequestDTO request);
+
+	/**
+	 * Retrieves the appointments of the current user's firm overlapping the requested time range
+	 * in the columnar form of calendar views.
+	 *
+	 * @param request {@link AppointmentRangeRequestDTO} time range, employees and status to filter by
+	 * @return {@link CalendarViewDTO} appointments of the range with their employees and types
+	 */
+	CalendarViewDTO getCalendar(AppointmentRangeRequestDTO request);
+
+	/**
+	 * Checks whether an employee of the current user's firm is free within a time range.
+	 *
+	 * @param request {@link SlotAvailabilityRequestDTO} employee and time range to check
+	 * @return {@code true} if the employee has no booked appointment within the range
+	 */
+	boolean isEmployeeAvailable(SlotAvailabilityRequestDTO request);
+
+	/**
+	 * Books a new appointment.
+	 *
+	 * @param request {@link AppointmentRequestDTO} appointment details
+	 * @return {@link AppointmentResponseDTO} booked appointment
+	 */
+	AppointmentResponseDTO createAppointment(AppointmentRequestDTO request);
+
+	/**
+	 * Books the appointment held by a slot hold and releases the hold.
+	 *
+	 * @param request {@link SlotHoldConfirmRequestDTO} hold to convert and the customer
+	 * @return {@link AppointmentResponseDTO} booked appointment
+	 */
+	AppointmentResponseDTO confirmHold(SlotHoldConfirmRequestDTO request);
+
+	/**
+	 * Cancels a booked appointment.
+	 *
+	 * @param id {@link Long} ID of the appointment to cancel
+	 */
+	void cancelAppointment(Long id);
+}
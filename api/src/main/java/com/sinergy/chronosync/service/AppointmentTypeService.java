@@ -1,5 +1,6 @@
 package com.sinergy.chronosync.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.sinergy.chronosync.dto.request.AppointmentTypeRequestDTO;
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
 import org.springframework.data.domain.Page;
@@ -33,6 +34,14 @@ public interface AppointmentTypeService {
 	 */
 	AppointmentType updateAppointmentType(AppointmentTypeRequestDTO requestDto);
 
+	/**
+	 * Partially updates an existing appointment type using a JSON Merge Patch document.
+	 *
+	 * @param id    {@link Long} ID of the appointment type to patch
+	 * @param patch {@link JsonNode} merge patch document containing only the changed fields
+	 */
+	void patchAppointmentType(Long id, JsonNode patch);
+
 	/**
 	 * Deletes an appointment type by its ID.
 	 *
@@ -0,0 +1,29 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.audit.AuditLog;
+
+/**
+ * Service interface for recording user and system actions in the audit log.
+ */
+public interface AuditService {
+
+	/**
+	 * Records an action performed by the currently authenticated user on the given entity.
+	 *
+	 * @param action     {@link AuditAction} performed action
+	 * @param entityType {@link Class} type of the affected entity
+	 * @param entityId   {@link Long} ID of the affected entity, may be {@code null}
+	 */
+	void publish(AuditAction action, Class<?> entityType, Long entityId);
+
+	/**
+	 * Records the given audit log entry.
+	 *
+	 * <p>If called within a transaction, the entry is recorded only after the transaction
+	 * commits, so rolled back changes never appear in the audit log.</p>
+	 *
+	 * @param entry {@link AuditLog} entry to record
+	 */
+	void publish(AuditLog entry);
+}
@@ -0,0 +1,32 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import com.sinergy.chronosync.event.AppointmentTypeChangedEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Service interface for streaming calendar changes to the users of a firm.
+ */
+public interface CalendarEventService {
+
+	/**
+	 * Subscribes to the calendar events of the current user's firm.
+	 *
+	 * @return {@link SseEmitter} streaming the events
+	 */
+	SseEmitter subscribe();
+
+	/**
+	 * Streams a committed appointment change to the subscribers of its firm.
+	 *
+	 * @param event {@link AppointmentChangedEvent} committed change
+	 */
+	void appointmentChanged(AppointmentChangedEvent event);
+
+	/**
+	 * Streams a committed appointment type change to the subscribers of its firm.
+	 *
+	 * @param event {@link AppointmentTypeChangedEvent} committed change
+	 */
+	void appointmentTypeChanged(AppointmentTypeChangedEvent event);
+}
@@ -0,0 +1,77 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import com.sinergy.chronosync.event.AppointmentTypeChangedEvent;
+import com.sinergy.chronosync.event.EmployeeChangedEvent;
+import com.sinergy.chronosync.model.calendar.CalendarDay;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service interface for the calendar projection, the read model of calendar views.
+ */
+public interface CalendarProjectionService {
+
+	/**
+	 * Retrieves the projected calendar days of a firm.
+	 *
+	 * @param firmId      {@link Long} ID of the firm
+	 * @param employeeIds {@link Collection} of employee IDs to filter by, all employees if empty
+	 * @param fromDay     {@link LocalDate} first day, inclusive
+	 * @param toDay       {@link LocalDate} last day, inclusive
+	 * @return {@link List} of {@link CalendarDay} ordered by day and employee
+	 */
+	List<CalendarDay> getDays(Long firmId, Collection<Long> employeeIds, LocalDate fromDay, LocalDate toDay);
+
+	/**
+	 * Queues the days touched by a committed appointment change for projection.
+	 *
+	 * @param event {@link AppointmentChangedEvent} committed change
+	 */
+	void appointmentChanged(AppointmentChangedEvent event);
+
+	/**
+	 * Queues the days with appointments of a committed appointment type change for projection.
+	 *
+	 * @param event {@link AppointmentTypeChangedEvent} committed change
+	 */
+	void appointmentTypeChanged(AppointmentTypeChangedEvent event);
+
+	/**
+	 * Queues the days of an employee whose personal data changed for projection.
+	 *
+	 * @param event {@link EmployeeChangedEvent} committed change
+	 */
+	void employeeChanged(EmployeeChangedEvent event);
+
+	/**
+	 * Projects the queued changes.
+	 *
+	 * @return number of projected changes
+	 */
+	int project();
+
+	/**
+	 * Rebuilds the projection from scratch from the appointments.
+	 *
+	 * @return number of projected days
+	 */
+	int rebuild();
+
+	/**
+	 * Returns the number of changes waiting to be projected.
+	 *
+	 * @return number of queued changes
+	 */
+	int getPending();
+
+	/**
+	 * Returns how long the oldest queued change has been waiting to be projected.
+	 *
+	 * @return {@link Duration} lag of the projection, zero if nothing is queued
+	 */
+	Duration getLag();
+}
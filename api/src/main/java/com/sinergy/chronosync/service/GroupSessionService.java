@@ -0,0 +1,35 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.GroupSessionSignupRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentAttendeeDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for signing customers up to group sessions.
+ */
+public interface GroupSessionService {
+
+	/**
+	 * Signs a customer up to a group session of the current user's firm, taking one of its seats.
+	 *
+	 * @param request {@link GroupSessionSignupRequestDTO} session and customer
+	 * @return {@link AppointmentAttendeeDTO} created signup
+	 */
+	AppointmentAttendeeDTO signUp(GroupSessionSignupRequestDTO request);
+
+	/**
+	 * Cancels the signup of a customer to a group session of the current user's firm, returning its seat.
+	 *
+	 * @param request {@link GroupSessionSignupRequestDTO} session and customer
+	 */
+	void cancelSignup(GroupSessionSignupRequestDTO request);
+
+	/**
+	 * Retrieves the attendees of a group session of the current user's firm.
+	 *
+	 * @param appointmentId {@link Long} ID of the group session
+	 * @return {@link List} of {@link AppointmentAttendeeDTO} in signup order
+	 */
+	List<AppointmentAttendeeDTO> getAttendees(Long appointmentId);
+}
@@ -0,0 +1,48 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.response.FirmClosureResponseDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for managing holiday calendars of firms.
+ */
+public interface HolidayCalendarService {
+
+	/**
+	 * Imports an iCalendar file as a holiday calendar of the current user's firm, replacing
+	 * the calendar's closures imported before.
+	 *
+	 * @param name    {@link String} name of the calendar
+	 * @param content {@link String} content of the iCalendar file
+	 * @return {@link List} of {@link FirmClosureResponseDTO} of the calendar ordered by start date
+	 */
+	List<FirmClosureResponseDTO> importCalendar(String name, String content);
+
+	/**
+	 * Imports an iCalendar file as a holiday calendar of a firm, replacing the calendar's
+	 * closures imported before.
+	 *
+	 * @param firmId  {@link Long} ID of the firm
+	 * @param name    {@link String} name of the calendar
+	 * @param content {@link String} content of the iCalendar file
+	 * @return {@link List} of {@link FirmClosureResponseDTO} of the calendar ordered by start date
+	 */
+	List<FirmClosureResponseDTO> importCalendar(Long firmId, String name, String content);
+
+	/**
+	 * Deletes a holiday calendar of the current user's firm with all of its closures.
+	 *
+	 * @param name {@link String} name of the calendar
+	 */
+	void deleteCalendar(String name);
+
+	/**
+	 * Retrieves the days of a year on which the current user's firm is closed.
+	 *
+	 * @param year year to retrieve
+	 * @return {@link List} of closed {@link LocalDate} in ascending order
+	 */
+	List<LocalDate> getClosedDays(int year);
+}
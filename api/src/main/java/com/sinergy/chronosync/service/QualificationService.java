@@ -0,0 +1,35 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.EmployeeQualificationRequestDTO;
+import com.sinergy.chronosync.dto.response.EmployeeQualificationResponseDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for managing the qualifications of employees to perform appointment types.
+ */
+public interface QualificationService {
+
+	/**
+	 * Retrieves the qualifications of the current user's firm.
+	 *
+	 * @param filter {@link EmployeeQualificationRequestDTO} employee and appointment type to filter by
+	 * @return {@link List} of {@link EmployeeQualificationResponseDTO} ordered by ID
+	 */
+	List<EmployeeQualificationResponseDTO> getQualifications(EmployeeQualificationRequestDTO filter);
+
+	/**
+	 * Qualifies an employee of the current user's firm for an appointment type.
+	 *
+	 * @param request {@link EmployeeQualificationRequestDTO} employee and appointment type
+	 * @return {@link EmployeeQualificationResponseDTO} created qualification
+	 */
+	EmployeeQualificationResponseDTO grantQualification(EmployeeQualificationRequestDTO request);
+
+	/**
+	 * Removes a qualification of the current user's firm.
+	 *
+	 * @param id {@link Long} ID of the qualification
+	 */
+	void revokeQualification(Long id);
+}
@@ -0,0 +1,28 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.AbsenceRescheduleRequestDTO;
+import com.sinergy.chronosync.dto.response.ReschedulePlanDTO;
+
+/**
+ * Service interface for moving the bookings of absent employees.
+ */
+public interface RescheduleService {
+
+	/**
+	 * Computes how the bookings of an absent employee of the current user's firm would be moved,
+	 * without changing them.
+	 *
+	 * @param request {@link AbsenceRescheduleRequestDTO} absent employee, absence and colleagues to consider
+	 * @return {@link ReschedulePlanDTO} planned moves and bookings that cannot be moved
+	 */
+	ReschedulePlanDTO planAbsence(AbsenceRescheduleRequestDTO request);
+
+	/**
+	 * Moves the bookings of an absent employee of the current user's firm to colleagues or other
+	 * times, all of them or none.
+	 *
+	 * @param request {@link AbsenceRescheduleRequestDTO} absent employee, absence and colleagues to consider
+	 * @return {@link ReschedulePlanDTO} applied moves and bookings that could not be moved
+	 */
+	ReschedulePlanDTO rescheduleAbsence(AbsenceRescheduleRequestDTO request);
+}
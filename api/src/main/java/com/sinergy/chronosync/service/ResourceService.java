@@ -0,0 +1,111 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.ResourceRequestDTO;
+import com.sinergy.chronosync.dto.request.ResourceReservationRangeRequestDTO;
+import com.sinergy.chronosync.dto.response.ResourceReservationDTO;
+import com.sinergy.chronosync.dto.response.ResourceResponseDTO;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.util.SlotBitmap;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service interface for managing resources of firms and their reservations by appointments.
+ */
+public interface ResourceService {
+
+	/**
+	 * Retrieves the resources of the current user's firm.
+	 *
+	 * @return {@link List} of {@link ResourceResponseDTO} ordered by kind and name
+	 */
+	List<ResourceResponseDTO> getResources();
+
+	/**
+	 * Creates a resource of the current user's firm.
+	 *
+	 * @param request {@link ResourceRequestDTO} name and kind of the resource
+	 * @return {@link ResourceResponseDTO} created resource
+	 */
+	ResourceResponseDTO createResource(ResourceRequestDTO request);
+
+	/**
+	 * Updates the name and kind of a resource of the current user's firm.
+	 *
+	 * @param request {@link ResourceRequestDTO} ID, name and kind of the resource
+	 * @return {@link ResourceResponseDTO} updated resource
+	 */
+	ResourceResponseDTO updateResource(ResourceRequestDTO request);
+
+	/**
+	 * Deletes a resource of the current user's firm that has never been reserved.
+	 *
+	 * @param id {@link Long} ID of the resource
+	 */
+	void deleteResource(Long id);
+
+	/**
+	 * Retrieves the reservations of resources of the current user's firm within a time range.
+	 *
+	 * @param request {@link ResourceReservationRangeRequestDTO} time range and resources
+	 * @return {@link List} of {@link ResourceReservationDTO} ordered by start time
+	 */
+	List<ResourceReservationDTO> getReservations(ResourceReservationRangeRequestDTO request);
+
+	/**
+	 * Materializes the slots of a time range in which a booking requiring the given resource
+	 * kinds cannot reserve one free resource of every kind.
+	 *
+	 * <p>Slot {@code 0} of the bitmap starts at {@code from}.</p>
+	 *
+	 * @param firmId {@link Long} ID of the firm the resources belong to
+	 * @param kinds  {@link Collection} of required resource kinds
+	 * @param from   {@link Instant} start of the time range
+	 * @param to     {@link Instant} end of the time range
+	 * @return {@link SlotBitmap} of {@code (to - from) / 5 minutes} slots, occupied where a kind has no free resource
+	 */
+	SlotBitmap getOccupancy(Long firmId, Collection<String> kinds, Instant from, Instant to);
+
+	/**
+	 * Returns the resources a booking may reserve, to be locked before they are allocated: the
+	 * requested resources, and every resource of the required kinds not covered by them.
+	 *
+	 * @param firmId       {@link Long} ID of the firm the resources belong to
+	 * @param kinds        {@link Collection} of required resource kinds
+	 * @param requestedIds {@link Collection} of resource IDs chosen by the client, may be {@code null}
+	 * @return {@link List} of candidate resource IDs in ascending order
+	 */
+	List<Long> findCandidateResources(Long firmId, Collection<String> kinds, Collection<Long> requestedIds);
+
+	/**
+	 * Chooses one resource of every required kind for a booking: the requested resources first,
+	 * then the free resource with the lowest ID for the remaining kinds. The candidate resources
+	 * must be locked by the caller, so concurrent bookings do not choose the same free resource.
+	 *
+	 * @param firmId       {@link Long} ID of the firm the resources belong to
+	 * @param kinds        {@link Collection} of required resource kinds
+	 * @param requestedIds {@link Collection} of resource IDs chosen by the client, may be {@code null}
+	 * @param startTime    {@link Instant} start of the booking
+	 * @param endTime      {@link Instant} end of the booking
+	 * @return {@link List} of chosen resource IDs in ascending order
+	 */
+	List<Long> allocateResources(Long firmId, Collection<String> kinds, Collection<Long> requestedIds,
+		Instant startTime, Instant endTime);
+
+	/**
+	 * Reserves resources for a booked appointment. The resources must be locked by the caller.
+	 *
+	 * @param appointment {@link Appointment} booked appointment
+	 * @param resourceIds {@link Collection} of resource IDs returned by {@link #allocateResources}
+	 */
+	void reserveResources(Appointment appointment, Collection<Long> resourceIds);
+
+	/**
+	 * Releases the resources reserved by an appointment.
+	 *
+	 * @param appointmentId {@link Long} ID of the cancelled appointment
+	 */
+	void releaseResources(Long appointmentId);
+}
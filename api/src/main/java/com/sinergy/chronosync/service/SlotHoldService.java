@@ -0,0 +1,70 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.SlotHoldRequestDTO;
+import com.sinergy.chronosync.dto.response.SlotHoldResponseDTO;
+import com.sinergy.chronosync.model.appointment.SlotHold;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service interface for temporarily holding slots while bookings are being completed.
+ */
+public interface SlotHoldService {
+
+	/**
+	 * Holds a free slot of an employee of the current user's firm.
+	 *
+	 * @param request {@link SlotHoldRequestDTO} employee, appointment type and start time to hold
+	 * @return {@link SlotHoldResponseDTO} hold with its expiry time
+	 */
+	SlotHoldResponseDTO holdSlot(SlotHoldRequestDTO request);
+
+	/**
+	 * Holds a free slot of an employee of a firm for the given time, on behalf of the firm
+	 * rather than the current user.
+	 *
+	 * @param firmId   {@link Long} ID of the firm
+	 * @param request  {@link SlotHoldRequestDTO} employee, appointment type and start time to hold
+	 * @param duration {@link Duration} how long the slot stays held
+	 * @return {@link SlotHoldResponseDTO} hold with its expiry time
+	 */
+	SlotHoldResponseDTO holdSlot(Long firmId, SlotHoldRequestDTO request, Duration duration);
+
+	/**
+	 * Retrieves an unexpired hold of the current user's firm.
+	 *
+	 * @param id {@link String} ID of the hold
+	 * @return {@link SlotHold} hold
+	 */
+	SlotHold getHold(String id);
+
+	/**
+	 * Releases a hold of the current user's firm.
+	 *
+	 * @param id {@link String} ID of the hold
+	 */
+	void releaseHold(String id);
+
+	/**
+	 * Returns whether an unexpired hold of the employee overlaps the given time range.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param startTime  {@link Instant} start of the range, inclusive
+	 * @param endTime    {@link Instant} end of the range, exclusive
+	 * @return {@code true} if the range is held
+	 */
+	boolean isHeld(Long employeeId, Instant startTime, Instant endTime);
+
+	/**
+	 * Retrieves the unexpired holds of the given employees overlapping a time range.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param from        {@link Instant} start of the range, inclusive
+	 * @param to          {@link Instant} end of the range, exclusive
+	 * @return {@link List} of {@link SlotHold}
+	 */
+	List<SlotHold> findHolds(Collection<Long> employeeIds, Instant from, Instant to);
+}
@@ -0,0 +1,21 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.SlotSearchRequestDTO;
+import com.sinergy.chronosync.dto.response.AvailableSlotDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Service interface for searching free appointment slots.
+ */
+public interface SlotSearchService {
+
+	/**
+	 * Searches the free slots of an appointment type across the employees of the current user's firm.
+	 *
+	 * @param request     {@link SlotSearchRequestDTO} appointment type, time window and employees to search
+	 * @param pageRequest {@link PageRequest} pagination information
+	 * @return {@link Page} of {@link AvailableSlotDTO} ordered by start time
+	 */
+	Page<AvailableSlotDTO> findAvailableSlots(SlotSearchRequestDTO request, PageRequest pageRequest);
+}
@@ -1,6 +1,8 @@
 package com.sinergy.chronosync.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.sinergy.chronosync.dto.request.UserRequestDTO;
+import com.sinergy.chronosync.model.firm.Firm;
 import com.sinergy.chronosync.model.user.User;
 
 /**
@@ -15,4 +17,19 @@ public interface UserService {
 	 * @return {@link User} user create response
 	 */
 	User create(UserRequestDTO request);
+
+	/**
+	 * Partially updates an existing user using a JSON Merge Patch document.
+	 *
+	 * @param id    {@link Long} ID of the user to patch
+	 * @param patch {@link JsonNode} merge patch document containing only the changed fields
+	 */
+	void patch(Long id, JsonNode patch);
+
+	/**
+	 * Returns the firm of the currently authenticated user.
+	 *
+	 * @return {@link Firm} firm of the current user
+	 */
+	Firm getAuthUserFirm();
 }
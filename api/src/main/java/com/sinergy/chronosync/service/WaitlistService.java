@@ -0,0 +1,58 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.WaitlistEntryRequestDTO;
+import com.sinergy.chronosync.dto.response.WaitlistEntryResponseDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for the waitlist of customers waiting for a free slot.
+ */
+public interface WaitlistService {
+
+	/**
+	 * Retrieves the waitlist entries of the current user's firm.
+	 *
+	 * @param filter {@link WaitlistEntryRequestDTO} appointment type and customer to filter by
+	 * @return {@link List} of {@link WaitlistEntryResponseDTO} in the order they are offered slots
+	 */
+	List<WaitlistEntryResponseDTO> getEntries(WaitlistEntryRequestDTO filter);
+
+	/**
+	 * Adds a customer of the current user's firm to the waitlist.
+	 *
+	 * @param request {@link WaitlistEntryRequestDTO} appointment type, customer, window and priority
+	 * @return {@link WaitlistEntryResponseDTO} created entry
+	 */
+	WaitlistEntryResponseDTO addEntry(WaitlistEntryRequestDTO request);
+
+	/**
+	 * Puts an offered entry of the current user's firm back on the waitlist, e.g. because the
+	 * customer declined the offered slot.
+	 *
+	 * @param id {@link Long} ID of the entry
+	 * @return {@link WaitlistEntryResponseDTO} waiting entry
+	 */
+	WaitlistEntryResponseDTO requeueEntry(Long id);
+
+	/**
+	 * Removes an entry of the current user's firm from the waitlist.
+	 *
+	 * @param id {@link Long} ID of the entry
+	 */
+	void deleteEntry(Long id);
+
+	/**
+	 * Offers the slot of a cancelled appointment to the waitlist once the cancellation commits.
+	 *
+	 * @param appointmentId {@link Long} ID of the cancelled appointment
+	 */
+	void appointmentCancelled(Long appointmentId);
+
+	/**
+	 * Marks the entry offered a hold as booked, if any.
+	 *
+	 * @param holdId {@link String} ID of the confirmed hold
+	 */
+	void holdConfirmed(String holdId);
+}
@@ -0,0 +1,109 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.request.FirmClosureRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursOverrideRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRangeRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRequestDTO;
+import com.sinergy.chronosync.dto.response.FirmClosureResponseDTO;
+import com.sinergy.chronosync.dto.response.WorkingHoursResponseDTO;
+import com.sinergy.chronosync.dto.response.WorkingIntervalDTO;
+import com.sinergy.chronosync.util.SlotBitmap;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service interface for managing working hours of employees and closures of firms.
+ */
+public interface WorkingHoursService {
+
+	/**
+	 * Retrieves the weekly working hours of an employee of the current user's firm.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @return {@link WorkingHoursResponseDTO} weekly working hours
+	 */
+	WorkingHoursResponseDTO getWorkingHours(Long employeeId);
+
+	/**
+	 * Replaces the weekly working hours of an employee of the current user's firm.
+	 *
+	 * @param request {@link WorkingHoursRequestDTO} employee and working time per day of the week
+	 * @return {@link WorkingHoursResponseDTO} updated weekly working hours
+	 */
+	WorkingHoursResponseDTO updateWorkingHours(WorkingHoursRequestDTO request);
+
+	/**
+	 * Sets the working hours of an employee of the current user's firm on a single date.
+	 *
+	 * @param request {@link WorkingHoursOverrideRequestDTO} employee, date and working time
+	 */
+	void setOverride(WorkingHoursOverrideRequestDTO request);
+
+	/**
+	 * Removes the working hours of an employee of the current user's firm on a single date,
+	 * so that the weekly working hours apply again.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param date       {@link LocalDate} date of the override
+	 */
+	void removeOverride(Long employeeId, LocalDate date);
+
+	/**
+	 * Retrieves the closures of the current user's firm that have not ended yet.
+	 *
+	 * @return {@link List} of {@link FirmClosureResponseDTO} ordered by start date
+	 */
+	List<FirmClosureResponseDTO> getClosures();
+
+	/**
+	 * Closes the current user's firm on whole days.
+	 *
+	 * @param request {@link FirmClosureRequestDTO} days of the closure
+	 * @return {@link FirmClosureResponseDTO} created closure
+	 */
+	FirmClosureResponseDTO createClosure(FirmClosureRequestDTO request);
+
+	/**
+	 * Deletes a closure of the current user's firm.
+	 *
+	 * @param id {@link Long} ID of the closure
+	 */
+	void deleteClosure(Long id);
+
+	/**
+	 * Retrieves the intervals in which employees of the current user's firm work within a time range.
+	 *
+	 * @param request {@link WorkingHoursRangeRequestDTO} time range and employees
+	 * @return {@link List} of {@link WorkingIntervalDTO} ordered by employee and start time
+	 */
+	List<WorkingIntervalDTO> getWorkingIntervals(WorkingHoursRangeRequestDTO request);
+
+	/**
+	 * Materializes the availability of employees of a firm within a time range.
+	 *
+	 * <p>Slot {@code 0} of every bitmap starts at {@code from}. Slots in which the employee
+	 * works are free, all other slots are occupied.</p>
+	 *
+	 * @param firmId      {@link Long} ID of the firm the employees belong to
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param from        {@link Instant} start of the time range
+	 * @param to          {@link Instant} end of the time range
+	 * @return {@link Map} of employee ID to {@link SlotBitmap} of {@code (to - from) / 5 minutes} slots
+	 */
+	Map<Long, SlotBitmap> getAvailability(Long firmId, Collection<Long> employeeIds, Instant from, Instant to);
+
+	/**
+	 * Checks that a booking of an employee lies within the employee's working time,
+	 * unless the check is disabled.
+	 *
+	 * @param firmId     {@link Long} ID of the firm the employee belongs to
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param startTime  {@link Instant} start of the booking
+	 * @param endTime    {@link Instant} end of the booking
+	 */
+	void validateWorkingTime(Long firmId, Long employeeId, Instant startTime, Instant endTime);
+}
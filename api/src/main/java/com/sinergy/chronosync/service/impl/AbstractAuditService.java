@@ -0,0 +1,59 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.audit.AuditLog;
+import com.sinergy.chronosync.service.AuditService;
+import com.sinergy.chronosync.util.TransactionUtils;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+
+/**
+ * Base class of audit service implementations.
+ *
+ * <p>Completes audit log entries with the current user and time, and defers entries published
+ * within a transaction until it commits. Implementations only decide where entries are recorded.</p>
+ */
+public abstract class AbstractAuditService implements AuditService {
+
+	/**
+	 * Records an action performed by the currently authenticated user on the given entity.
+	 *
+	 * @param action     {@link AuditAction} performed action
+	 * @param entityType {@link Class} type of the affected entity
+	 * @param entityId   {@link Long} ID of the affected entity, may be {@code null}
+	 */
+	@Override
+	public void publish(AuditAction action, Class<?> entityType, Long entityId) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+		publish(AuditLog.builder()
+			.action(action)
+			.entityType(entityType.getSimpleName())
+			.entityId(entityId)
+			.username(authentication != null ? authentication.getName() : null)
+			.build());
+	}
+
+	/**
+	 * Records the given audit log entry, deferring it until commit when a transaction is active.
+	 *
+	 * @param entry {@link AuditLog} entry to record
+	 */
+	@Override
+	public void publish(AuditLog entry) {
+		if (entry.getOccurredAt() == null) {
+			entry.setOccurredAt(Instant.now());
+		}
+
+		TransactionUtils.afterCommit(() -> record(entry));
+	}
+
+	/**
+	 * Records a completed audit log entry.
+	 *
+	 * @param entry {@link AuditLog} entry to record
+	 */
+	protected abstract void record(AuditLog entry);
+}
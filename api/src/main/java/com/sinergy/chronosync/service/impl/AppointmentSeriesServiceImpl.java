@@ -0,0 +1,731 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.AppointmentFilterBuilder;
+import com.sinergy.chronosync.builder.AppointmentSeriesFilterBuilder;
+import com.sinergy.chronosync.builder.AppointmentSeriesOverrideFilterBuilder;
+import com.sinergy.chronosync.builder.UserFilterBuilder;
+import com.sinergy.chronosync.config.BookingLockCoordinator;
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.dto.request.AppointmentOccurrenceRequestDTO;
+import com.sinergy.chronosync.dto.request.AppointmentRangeRequestDTO;
+import com.sinergy.chronosync.dto.request.AppointmentSeriesRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentOccurrenceDTO;
+import com.sinergy.chronosync.dto.response.AppointmentSeriesResponseDTO;
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentSeries;
+import com.sinergy.chronosync.model.appointment.AppointmentSeriesOverride;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointment.SlotHold;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.customer.Customer;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentSeriesOverrideRepository;
+import com.sinergy.chronosync.repository.AppointmentSeriesRepository;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.CustomerRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AppointmentSeriesService;
+import com.sinergy.chronosync.service.AuditService;
+import com.sinergy.chronosync.service.SlotHoldService;
+import com.sinergy.chronosync.service.UserService;
+import com.sinergy.chronosync.service.WorkingHoursService;
+import com.sinergy.chronosync.util.OccurrenceWindowCache;
+import com.sinergy.chronosync.util.RecurrenceRule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * Service implementation for managing recurring appointment series.
+ *
+ * <p>A series is stored as a recurrence rule plus overrides of single occurrences, so booking,
+ * cancelling or editing a series is a constant number of writes regardless of its length.
+ * Occurrences are expanded lazily, one week-long window at a time, and only for the requested
+ * time range. Expanded windows are cached per series and revision; every edit increments the
+ * revision, which invalidates the cached windows of the series on all instances.</p>
+ *
+ * <p>New series and moved occurrences follow the rules of single bookings: every occurrence,
+ * up to the configured conflict horizon for endless series, must lie within the employee's
+ * working time according to the {@link WorkingHoursService}, and is checked for conflicts with
+ * booked appointments, other series of the employee and slots held through the
+ * {@link SlotHoldService}. The employee is locked through the {@link BookingLockCoordinator} for
+ * the conflict check and the write. Occurrences do not reserve resources or seats, so appointment
+ * types requiring resources or with a capacity above one cannot be booked as series.</p>
+ *
+ * <p>Every write publishes an {@link AppointmentChangedEvent} per occurrence it books, cancels
+ * or moves, carrying the series and the original start time of the occurrence, so calendar
+ * views and subscribers see occurrences like appointments. Booking or cancelling a series covers
+ * its occurrences up to its end, or up to the conflict horizon from now for endless series.</p>
+ */
+@Service
+public class AppointmentSeriesServiceImpl implements AppointmentSeriesService {
+
+	/**
+	 * Most occurrences a bounded series may have.
+	 */
+	static final int MAX_OCCURRENCES = 5000;
+
+	private static final long WINDOW_SECONDS = Duration.ofDays(7).getSeconds();
+
+	private final AppointmentSeriesRepository seriesRepository;
+	private final AppointmentSeriesOverrideRepository overrideRepository;
+	private final AppointmentRepository appointmentRepository;
+	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final CustomerRepository customerRepository;
+	private final UserRepository userRepository;
+	private final UserService userService;
+	private final AuditService auditService;
+	private final BookingLockCoordinator lockCoordinator;
+	private final QualificationIndex qualificationIndex;
+	private final WorkingHoursService workingHoursService;
+	private final SlotHoldService slotHoldService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Duration conflictHorizon;
+	private final OccurrenceWindowCache cache;
+
+	/**
+	 * Creates the service.
+	 *
+	 * @param seriesRepository          {@link AppointmentSeriesRepository} storing series
+	 * @param overrideRepository        {@link AppointmentSeriesOverrideRepository} storing overrides of occurrences
+	 * @param appointmentRepository     {@link AppointmentRepository} to check conflicts with appointments
+	 * @param appointmentTypeRepository {@link AppointmentTypeRepository} to read appointment types from
+	 * @param customerRepository        {@link CustomerRepository} to read customers from
+	 * @param userRepository            {@link UserRepository} to read employees from
+	 * @param userService               {@link UserService} resolving the current user's firm
+	 * @param auditService              {@link AuditService} recording changes
+	 * @param lockCoordinator           {@link BookingLockCoordinator} serializing bookings of an employee
+	 * @param qualificationIndex        {@link QualificationIndex} checking the qualifications of employees
+	 * @param workingHoursService       {@link WorkingHoursService} checking the working time of employees
+	 * @param slotHoldService           {@link SlotHoldService} of held slots, injected lazily since it
+	 *                                  checks holds against the occurrences of this service
+	 * @param eventPublisher            {@link ApplicationEventPublisher} publishing changes of occurrences
+	 * @param conflictHorizon           how far ahead occurrences of endless series are checked for conflicts
+	 * @param cacheMaxSeries            maximum number of series with cached windows
+	 * @param cacheMaxWindowsPerSeries  maximum number of cached windows per series
+	 */
+	public AppointmentSeriesServiceImpl(
+		AppointmentSeriesRepository seriesRepository,
+		AppointmentSeriesOverrideRepository overrideRepository,
+		AppointmentRepository appointmentRepository,
+		AppointmentTypeRepository appointmentTypeRepository,
+		CustomerRepository customerRepository,
+		UserRepository userRepository,
+		UserService userService,
+		AuditService auditService,
+		BookingLockCoordinator lockCoordinator,
+		QualificationIndex qualificationIndex,
+		WorkingHoursService workingHoursService,
+		@Lazy SlotHoldService slotHoldService,
+		ApplicationEventPublisher eventPublisher,
+		@Value("${appointments.series.conflict-horizon:P365D}") Duration conflictHorizon,
+		@Value("${appointments.series.cache.max-series:10000}") int cacheMaxSeries,
+		@Value("${appointments.series.cache.max-windows-per-series:64}") int cacheMaxWindowsPerSeries
+	) {
+		this.seriesRepository = seriesRepository;
+		this.overrideRepository = overrideRepository;
+		this.appointmentRepository = appointmentRepository;
+		this.appointmentTypeRepository = appointmentTypeRepository;
+		this.customerRepository = customerRepository;
+		this.userRepository = userRepository;
+		this.userService = userService;
+		this.auditService = auditService;
+		this.lockCoordinator = lockCoordinator;
+		this.qualificationIndex = qualificationIndex;
+		this.workingHoursService = workingHoursService;
+		this.slotHoldService = slotHoldService;
+		this.eventPublisher = eventPublisher;
+		this.conflictHorizon = conflictHorizon;
+		this.cache = new OccurrenceWindowCache(cacheMaxSeries, cacheMaxWindowsPerSeries);
+	}
+
+	/**
+	 * Retrieves the occurrences of the current user's firm's series overlapping the requested time range.
+	 *
+	 * @param request {@link AppointmentRangeRequestDTO} time range and employees to filter by
+	 * @return {@link List} of {@link AppointmentOccurrenceDTO} ordered by start time
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the time range is missing, inverted or too long.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<AppointmentOccurrenceDTO> getOccurrences(AppointmentRangeRequestDTO request) {
+		AppointmentServiceImpl.validateRange(request.getFrom(), request.getTo());
+
+		return findOccurrences(
+			userService.getAuthUserFirm().getId(),
+			request.getEmployeeIds(),
+			request.getFrom(),
+			request.getTo()
+		);
+	}
+
+	/**
+	 * Expands the occurrences of booked series of the firm overlapping {@code [from, to)}.
+	 *
+	 * <p>The series are read with a single query. Overrides are read with a single query as well,
+	 * only for series with windows missing from the cache.</p>
+	 *
+	 * @param firmId      {@link Long} ID of the firm
+	 * @param employeeIds {@link Collection} of employee IDs, all employees if empty
+	 * @param from        {@link Instant} start of the time range, inclusive
+	 * @param to          {@link Instant} end of the time range, exclusive
+	 * @return {@link List} of {@link AppointmentOccurrenceDTO} ordered by start time
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<AppointmentOccurrenceDTO> findOccurrences(
+		Long firmId,
+		Collection<Long> employeeIds,
+		Instant from,
+		Instant to
+	) {
+		AppointmentSeriesFilterBuilder filterBuilder = AppointmentSeriesFilterBuilder.builder()
+			.firmId(firmId)
+			.employeeIds(employeeIds)
+			.status(AppointmentStatus.BOOKED)
+			.from(from)
+			.to(to)
+			.build();
+		return expand(seriesRepository.findAll(filterBuilder.toSpecification()), from, to);
+	}
+
+	/**
+	 * Returns whether an occurrence of a booked series of the employee overlaps the time range.
+	 *
+	 * @param firmId     {@link Long} ID of the firm
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param startTime  {@link Instant} start of the time range, inclusive
+	 * @param endTime    {@link Instant} end of the time range, exclusive
+	 * @return {@code true} if the employee has an occurrence within the range
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public boolean hasConflict(Long firmId, Long employeeId, Instant startTime, Instant endTime) {
+		return !findOccurrences(firmId, List.of(employeeId), startTime, endTime).isEmpty();
+	}
+
+	/**
+	 * Expands the occurrences of the series overlapping {@code [from, to)}, ordered by start time.
+	 * Only the windows between the start and the end of each series are expanded.
+	 */
+	private List<AppointmentOccurrenceDTO> expand(List<AppointmentSeries> seriesList, Instant from, Instant to) {
+		List<AppointmentSeries> uncached = seriesList.stream()
+			.filter(series -> !isCached(series, from, to))
+			.toList();
+		Map<Long, Map<Instant, AppointmentSeriesOverride>> overrides = findOverrides(uncached);
+
+		List<AppointmentOccurrenceDTO> occurrences = new ArrayList<>();
+		for (AppointmentSeries series : seriesList) {
+			Duration duration = Duration.ofMinutes(series.getDurationMinutes());
+			for (long window = firstWindow(series, from); window <= lastWindow(series, to); window++) {
+				long[] starts = cache.get(series.getId(), series.getRevision(), window);
+				if (starts == null) {
+					starts = expand(series, overrides.getOrDefault(series.getId(), Map.of()), window);
+					cache.put(series.getId(), series.getRevision(), window, starts);
+				}
+				for (int i = 0; i < starts.length; i += 2) {
+					Instant startTime = Instant.ofEpochSecond(starts[i]);
+					Instant endTime = startTime.plus(duration);
+					if (startTime.isBefore(to) && endTime.isAfter(from)) {
+						occurrences.add(toOccurrence(series, Instant.ofEpochSecond(starts[i + 1]), startTime, endTime));
+					}
+				}
+			}
+		}
+		occurrences.sort(Comparator.comparing(AppointmentOccurrenceDTO::getStartTime));
+		return occurrences;
+	}
+
+	/**
+	 * Books a new recurring appointment series for an employee of the current user's firm.
+	 *
+	 * <p>Occurrences are checked against the working time of the employee and for conflicts up
+	 * to the end of the series, or up to the conflict horizon for endless series.</p>
+	 *
+	 * @param request {@link AppointmentSeriesRequestDTO} series details
+	 * @return {@link AppointmentSeriesResponseDTO} booked series
+	 * @throws UserNotFoundException    if the user is not found.
+	 * @throws InvalidStateException    if the request is incomplete, the recurrence rule or time zone
+	 *                                  is invalid, or it references an employee, appointment type or
+	 *                                  customer outside the current user's firm, the employee
+	 *                                  is not qualified for the appointment type, the appointment
+	 *                                  type requires resources or has a capacity above one, or an
+	 *                                  occurrence lies outside the employee's working time.
+	 * @throws BookingConflictException if an occurrence overlaps a booking or a held slot of the employee.
+	 */
+	@Override
+	@Transactional
+	public AppointmentSeriesResponseDTO createSeries(AppointmentSeriesRequestDTO request) {
+		if (request.getStartTime() == null || request.getEmployeeId() == null
+			|| request.getAppointmentTypeId() == null || request.getRecurrenceRule() == null) {
+			throw new InvalidStateException("Employee, appointment type, start time and recurrence rule are required.");
+		}
+
+		Firm firm = userService.getAuthUserFirm();
+
+		User employee = userRepository
+			.findOne(UserFilterBuilder.builder().id(request.getEmployeeId()).firmId(firm.getId()).build().toSpecification())
+			.orElseThrow(() -> new InvalidStateException("Employee with ID " + request.getEmployeeId() + " does not exist."));
+
+		AppointmentType appointmentType = appointmentTypeRepository.findById(request.getAppointmentTypeId())
+			.filter(type -> type.getFirm().getId().equals(firm.getId()))
+			.orElseThrow(() -> new InvalidStateException(
+				"Appointment type with ID " + request.getAppointmentTypeId() + " does not exist."
+			));
+		if (!qualificationIndex.isQualified(firm.getId(), appointmentType.getId(), employee.getId())) {
+			throw new InvalidStateException("Employee with ID " + employee.getId() + " is not qualified for the appointment type.");
+		}
+
+		Customer customer = null;
+		if (request.getCustomerId() != null) {
+			customer = customerRepository.findById(request.getCustomerId())
+				.filter(c -> c.getFirm().getId().equals(firm.getId()))
+				.orElseThrow(() -> new InvalidStateException(
+					"Customer with ID " + request.getCustomerId() + " does not exist."
+				));
+		}
+
+		Duration duration = Duration.ofMinutes(appointmentType.getDurationMinutes());
+		if (duration.isNegative() || duration.isZero() || duration.compareTo(Appointment.MAX_DURATION) > 0) {
+			throw new InvalidStateException("Appointment type duration is not supported.");
+		}
+		if (appointmentType.getResourceKinds() != null && !appointmentType.getResourceKinds().isEmpty()
+			|| appointmentType.getCapacity() != null && appointmentType.getCapacity() > 1) {
+			throw new InvalidStateException(
+				"Appointment types requiring resources or with a capacity above one cannot be booked as series."
+			);
+		}
+
+		ZoneId timeZone = parseTimeZone(request.getTimeZone());
+		RecurrenceRule rule = parseRule(request.getRecurrenceRule());
+		ZonedDateTime start = request.getStartTime().atZone(timeZone);
+		if (!rule.matchesStart(start)) {
+			throw new InvalidStateException("The start time does not match the recurrence rule.");
+		}
+		Instant untilTime = lastEnd(rule, start, duration);
+
+		Instant horizon = request.getStartTime().plus(conflictHorizon);
+		Instant checkedUntil = untilTime != null && untilTime.isBefore(horizon) ? untilTime : horizon;
+		List<Instant> starts = new ArrayList<>();
+		for (Iterator<ZonedDateTime> iterator = rule.iterator(start); iterator.hasNext(); ) {
+			Instant occurrence = iterator.next().toInstant();
+			if (!occurrence.isBefore(checkedUntil)) {
+				break;
+			}
+			starts.add(occurrence);
+		}
+		validateWorkingTime(firm.getId(), employee.getId(), starts, duration);
+		lockCoordinator.lock(BookingLockCoordinator.Scope.EMPLOYEE, List.of(employee.getId()));
+		checkConflicts(firm.getId(), employee.getId(), starts, duration, null, null);
+
+		AppointmentSeries series = seriesRepository.save(AppointmentSeries.builder()
+			.firm(firm)
+			.employee(employee)
+			.appointmentType(appointmentType)
+			.customer(customer)
+			.startTime(request.getStartTime())
+			.untilTime(untilTime)
+			.timeZone(timeZone.getId())
+			.durationMinutes(appointmentType.getDurationMinutes())
+			.recurrenceRule(rule.toString())
+			.status(AppointmentStatus.BOOKED)
+			.revision(0)
+			.build());
+		for (AppointmentOccurrenceDTO occurrence : publishedOccurrences(series)) {
+			eventPublisher.publishEvent(AppointmentChangedEvent.occurrence(
+				series, AppointmentChangedEvent.Change.BOOKED, occurrence.getOriginalStartTime(), occurrence.getStartTime()
+			));
+		}
+		auditService.publish(AuditAction.CREATE, AppointmentSeries.class, series.getId());
+
+		return AppointmentSeriesResponseDTO.fromModel(series);
+	}
+
+	/**
+	 * Cancels a booked series of the current user's firm with all its occurrences.
+	 *
+	 * @param id {@link Long} ID of the series to cancel
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the series does not exist or is not booked.
+	 */
+	@Override
+	@Transactional
+	public void cancelSeries(Long id) {
+		AppointmentSeries series = findBookedSeries(id);
+		List<AppointmentOccurrenceDTO> occurrences = publishedOccurrences(series);
+		series.setStatus(AppointmentStatus.CANCELLED);
+		edited(series);
+		for (AppointmentOccurrenceDTO occurrence : occurrences) {
+			eventPublisher.publishEvent(AppointmentChangedEvent.occurrence(
+				series, AppointmentChangedEvent.Change.CANCELLED, occurrence.getOriginalStartTime(), occurrence.getStartTime()
+			));
+		}
+		auditService.publish(AuditAction.CANCEL, AppointmentSeries.class, id);
+	}
+
+	/**
+	 * Cancels a single occurrence of a booked series of the current user's firm.
+	 *
+	 * @param request {@link AppointmentOccurrenceRequestDTO} occurrence to cancel
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the series or the occurrence does not exist.
+	 */
+	@Override
+	@Transactional
+	public void cancelOccurrence(AppointmentOccurrenceRequestDTO request) {
+		AppointmentSeries series = findBookedSeries(request.getSeriesId());
+		AppointmentSeriesOverride override = findOverride(series, request.getOriginalStartTime());
+		Instant startTime = currentStartTime(override);
+		override.setStartTime(null);
+		overrideRepository.save(override);
+		edited(series);
+		if (startTime != null) {
+			eventPublisher.publishEvent(AppointmentChangedEvent.occurrence(
+				series, AppointmentChangedEvent.Change.CANCELLED, request.getOriginalStartTime(), startTime
+			));
+		}
+		auditService.publish(AuditAction.UPDATE, AppointmentSeries.class, series.getId());
+	}
+
+	/**
+	 * Moves a single occurrence of a booked series of the current user's firm to a new start time.
+	 *
+	 * @param request {@link AppointmentOccurrenceRequestDTO} occurrence to move and its new start time
+	 * @return moved {@link AppointmentOccurrenceDTO}
+	 * @throws UserNotFoundException    if the user is not found.
+	 * @throws InvalidStateException    if the series or the occurrence does not exist, or the new
+	 *                                  start time is missing, before the start of the series or
+	 *                                  outside the employee's working time.
+	 * @throws BookingConflictException if the moved occurrence overlaps a booking or a held slot of the employee.
+	 */
+	@Override
+	@Transactional
+	public AppointmentOccurrenceDTO rescheduleOccurrence(AppointmentOccurrenceRequestDTO request) {
+		AppointmentSeries series = findBookedSeries(request.getSeriesId());
+		if (request.getStartTime() == null || request.getStartTime().isBefore(series.getStartTime())) {
+			throw new InvalidStateException("New start time is required and cannot be before the start of the series.");
+		}
+		AppointmentSeriesOverride override = findOverride(series, request.getOriginalStartTime());
+
+		Duration duration = Duration.ofMinutes(series.getDurationMinutes());
+		validateWorkingTime(series.getFirm().getId(), series.getEmployee().getId(), List.of(request.getStartTime()), duration);
+		lockCoordinator.lock(BookingLockCoordinator.Scope.EMPLOYEE, List.of(series.getEmployee().getId()));
+		checkConflicts(
+			series.getFirm().getId(),
+			series.getEmployee().getId(),
+			List.of(request.getStartTime()),
+			duration,
+			series.getId(),
+			request.getOriginalStartTime()
+		);
+
+		Instant previousStartTime = currentStartTime(override);
+		override.setStartTime(request.getStartTime());
+		overrideRepository.save(override);
+
+		Instant endTime = request.getStartTime().plus(duration);
+		if (series.getUntilTime() != null && endTime.isAfter(series.getUntilTime())) {
+			series.setUntilTime(endTime);
+		}
+		edited(series);
+		eventPublisher.publishEvent(AppointmentChangedEvent.occurrenceMoved(
+			series, request.getOriginalStartTime(), request.getStartTime(), previousStartTime
+		));
+		auditService.publish(AuditAction.UPDATE, AppointmentSeries.class, series.getId());
+
+		return toOccurrence(series, request.getOriginalStartTime(), request.getStartTime(), endTime);
+	}
+
+	/**
+	 * Checks that every occurrence lies within the working time of the employee.
+	 */
+	private void validateWorkingTime(Long firmId, Long employeeId, List<Instant> starts, Duration duration) {
+		for (Instant start : starts) {
+			try {
+				workingHoursService.validateWorkingTime(firmId, employeeId, start, start.plus(duration));
+			} catch (InvalidStateException e) {
+				throw new InvalidStateException("Employee does not work at " + start + ".");
+			}
+		}
+	}
+
+	/**
+	 * Checks occurrences, given by their ascending start times, against the booked appointments,
+	 * the occurrences of other series and the held slots of the employee.
+	 *
+	 * <p>All are read once for the whole time span and walked together with the occurrences,
+	 * keeping the latest end of the bookings started so far.</p>
+	 */
+	private void checkConflicts(
+		Long firmId,
+		Long employeeId,
+		List<Instant> starts,
+		Duration duration,
+		Long excludedSeriesId,
+		Instant excludedOriginalStartTime
+	) {
+		if (starts.isEmpty()) {
+			return;
+		}
+		Instant from = starts.getFirst();
+		Instant to = starts.getLast().plus(duration);
+
+		List<Instant[]> bookings = new ArrayList<>();
+		AppointmentFilterBuilder filterBuilder = AppointmentFilterBuilder.builder()
+			.firmId(firmId)
+			.employeeIds(List.of(employeeId))
+			.status(AppointmentStatus.BOOKED)
+			.from(from)
+			.to(to)
+			.build();
+		for (Appointment appointment : appointmentRepository.findAll(filterBuilder.toSpecification())) {
+			bookings.add(new Instant[]{appointment.getStartTime(), appointment.getEndTime()});
+		}
+		for (AppointmentOccurrenceDTO occurrence : findOccurrences(firmId, List.of(employeeId), from, to)) {
+			if (!(occurrence.getSeriesId().equals(excludedSeriesId)
+				&& occurrence.getOriginalStartTime().equals(excludedOriginalStartTime))) {
+				bookings.add(new Instant[]{occurrence.getStartTime(), occurrence.getEndTime()});
+			}
+		}
+		for (SlotHold hold : slotHoldService.findHolds(List.of(employeeId), from, to)) {
+			bookings.add(new Instant[]{hold.getStartTime(), hold.getEndTime()});
+		}
+		bookings.sort(Comparator.comparing(booking -> booking[0]));
+
+		int next = 0;
+		Instant latestEnd = Instant.MIN;
+		for (Instant start : starts) {
+			Instant end = start.plus(duration);
+			while (next < bookings.size() && bookings.get(next)[0].isBefore(end)) {
+				if (bookings.get(next)[1].isAfter(latestEnd)) {
+					latestEnd = bookings.get(next)[1];
+				}
+				next++;
+			}
+			if (latestEnd.isAfter(start)) {
+				throw new BookingConflictException("Employee is already booked at " + start + ".");
+			}
+		}
+	}
+
+	/**
+	 * Expands the occurrences of a series starting within a window, as pairs of
+	 * start and original start in epoch seconds, ordered by start.
+	 */
+	private long[] expand(AppointmentSeries series, Map<Instant, AppointmentSeriesOverride> overrides, long window) {
+		Instant windowStart = Instant.ofEpochSecond(window * WINDOW_SECONDS);
+		Instant windowEnd = windowStart.plusSeconds(WINDOW_SECONDS);
+		RecurrenceRule rule = RecurrenceRule.parse(series.getRecurrenceRule());
+		ZonedDateTime start = series.getStartTime().atZone(ZoneId.of(series.getTimeZone()));
+
+		List<long[]> occurrences = new ArrayList<>();
+		for (Iterator<ZonedDateTime> iterator = rule.iterator(start, windowStart); iterator.hasNext(); ) {
+			Instant occurrence = iterator.next().toInstant();
+			if (!occurrence.isBefore(windowEnd)) {
+				break;
+			}
+			if (!overrides.containsKey(occurrence)) {
+				occurrences.add(new long[]{occurrence.getEpochSecond(), occurrence.getEpochSecond()});
+			}
+		}
+		for (AppointmentSeriesOverride override : overrides.values()) {
+			if (!override.isCancelled()
+				&& !override.getStartTime().isBefore(windowStart) && override.getStartTime().isBefore(windowEnd)) {
+				occurrences.add(new long[]{override.getStartTime().getEpochSecond(), override.getOriginalStartTime().getEpochSecond()});
+			}
+		}
+		occurrences.sort(Comparator.comparingLong(occurrence -> occurrence[0]));
+
+		long[] result = new long[occurrences.size() * 2];
+		for (int i = 0; i < occurrences.size(); i++) {
+			result[2 * i] = occurrences.get(i)[0];
+			result[2 * i + 1] = occurrences.get(i)[1];
+		}
+		return result;
+	}
+
+	private boolean isCached(AppointmentSeries series, Instant from, Instant to) {
+		for (long window = firstWindow(series, from); window <= lastWindow(series, to); window++) {
+			if (cache.get(series.getId(), series.getRevision(), window) == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Map<Long, Map<Instant, AppointmentSeriesOverride>> findOverrides(List<AppointmentSeries> seriesList) {
+		if (seriesList.isEmpty()) {
+			return Map.of();
+		}
+		AppointmentSeriesOverrideFilterBuilder filterBuilder = AppointmentSeriesOverrideFilterBuilder.builder()
+			.seriesIds(seriesList.stream().map(AppointmentSeries::getId).toList())
+			.build();
+
+		Map<Long, Map<Instant, AppointmentSeriesOverride>> overrides = new HashMap<>();
+		for (AppointmentSeriesOverride override : overrideRepository.findAll(filterBuilder.toSpecification())) {
+			overrides
+				.computeIfAbsent(override.getSeries().getId(), id -> new HashMap<>())
+				.put(override.getOriginalStartTime(), override);
+		}
+		return overrides;
+	}
+
+	/**
+	 * Returns the override of an occurrence, or a new one if the occurrence exists but is not overridden yet.
+	 */
+	private AppointmentSeriesOverride findOverride(AppointmentSeries series, Instant originalStartTime) {
+		if (originalStartTime == null) {
+			throw new InvalidStateException("Original start time of the occurrence is required.");
+		}
+		AppointmentSeriesOverrideFilterBuilder filterBuilder = AppointmentSeriesOverrideFilterBuilder.builder()
+			.seriesIds(List.of(series.getId()))
+			.originalStartTime(originalStartTime)
+			.build();
+
+		return overrideRepository.findOne(filterBuilder.toSpecification()).orElseGet(() -> {
+			ZonedDateTime start = series.getStartTime().atZone(ZoneId.of(series.getTimeZone()));
+			Iterator<ZonedDateTime> iterator = RecurrenceRule.parse(series.getRecurrenceRule()).iterator(start, originalStartTime);
+			if (!iterator.hasNext() || !iterator.next().toInstant().equals(originalStartTime)) {
+				throw new InvalidStateException("Series with ID " + series.getId() + " has no occurrence at " + originalStartTime + ".");
+			}
+			return AppointmentSeriesOverride.builder().series(series).originalStartTime(originalStartTime).build();
+		});
+	}
+
+	/**
+	 * Returns the occurrences of a series whose changes are published: those up to the end of the
+	 * series, or up to the conflict horizon from now for endless series.
+	 */
+	private List<AppointmentOccurrenceDTO> publishedOccurrences(AppointmentSeries series) {
+		Instant to = Instant.now().plus(conflictHorizon);
+		if (series.getUntilTime() != null && series.getUntilTime().isBefore(to)) {
+			to = series.getUntilTime();
+		}
+		if (!series.getStartTime().isBefore(to)) {
+			return List.of();
+		}
+		return expand(List.of(series), series.getStartTime(), to);
+	}
+
+	/**
+	 * Returns the start time of an occurrence before its override is changed, or {@code null} if it is cancelled.
+	 */
+	private static Instant currentStartTime(AppointmentSeriesOverride override) {
+		return override.getId() == null ? override.getOriginalStartTime() : override.getStartTime();
+	}
+
+	private AppointmentSeries findBookedSeries(Long id) {
+		AppointmentSeriesFilterBuilder filterBuilder = AppointmentSeriesFilterBuilder.builder()
+			.id(id)
+			.firmId(userService.getAuthUserFirm().getId())
+			.status(AppointmentStatus.BOOKED)
+			.build();
+
+		return seriesRepository.findOne(filterBuilder.toSpecification())
+			.orElseThrow(() -> new InvalidStateException("Booked series with ID " + id + " does not exist."));
+	}
+
+	/**
+	 * Increments the revision of an edited series and drops its cached windows.
+	 */
+	private void edited(AppointmentSeries series) {
+		series.setRevision(series.getRevision() + 1);
+		seriesRepository.save(series);
+		cache.invalidate(series.getId());
+	}
+
+	/**
+	 * Returns the end of the last occurrence of a bounded rule, or {@code null} for an endless rule.
+	 */
+	private static Instant lastEnd(RecurrenceRule rule, ZonedDateTime start, Duration duration) {
+		if (!rule.isBounded()) {
+			return null;
+		}
+		ZonedDateTime last = null;
+		int occurrences = 0;
+		for (Iterator<ZonedDateTime> iterator = rule.iterator(start); iterator.hasNext(); ) {
+			last = iterator.next();
+			if (++occurrences > MAX_OCCURRENCES) {
+				throw new InvalidStateException("Series cannot have more than " + MAX_OCCURRENCES + " occurrences.");
+			}
+		}
+		if (last == null) {
+			throw new InvalidStateException("Recurrence rule has no occurrences.");
+		}
+		return last.toInstant().plus(duration);
+	}
+
+	private static RecurrenceRule parseRule(String recurrenceRule) {
+		try {
+			return RecurrenceRule.parse(recurrenceRule);
+		} catch (IllegalArgumentException e) {
+			throw new InvalidStateException(e.getMessage());
+		}
+	}
+
+	private static ZoneId parseTimeZone(String timeZone) {
+		if (timeZone == null || timeZone.isBlank()) {
+			return ZoneId.of("UTC");
+		}
+		try {
+			return ZoneId.of(timeZone);
+		} catch (DateTimeException e) {
+			throw new InvalidStateException("Time zone " + timeZone + " is not supported.");
+		}
+	}
+
+	/**
+	 * Returns the first window to expand for occurrences overlapping a range starting at {@code from}.
+	 * Occurrences never start before the series, not even when moved.
+	 */
+	private static long firstWindow(AppointmentSeries series, Instant from) {
+		Instant start = from.minus(Duration.ofMinutes(series.getDurationMinutes()));
+		if (series.getStartTime().isAfter(start)) {
+			start = series.getStartTime();
+		}
+		return Math.floorDiv(start.getEpochSecond(), WINDOW_SECONDS);
+	}
+
+	/**
+	 * Returns the last window to expand for occurrences overlapping a range ending at {@code to}.
+	 * Occurrences of bounded series never end after the series, not even when moved.
+	 */
+	private static long lastWindow(AppointmentSeries series, Instant to) {
+		Instant end = series.getUntilTime() != null && series.getUntilTime().isBefore(to) ? series.getUntilTime() : to;
+		return Math.floorDiv(end.getEpochSecond() - 1, WINDOW_SECONDS);
+	}
+
+	private static AppointmentOccurrenceDTO toOccurrence(
+		AppointmentSeries series,
+		Instant originalStartTime,
+		Instant startTime,
+		Instant endTime
+	) {
+		return AppointmentOccurrenceDTO.builder()
+			.seriesId(series.getId())
+			.employeeId(series.getEmployee().getId())
+			.appointmentTypeId(series.getAppointmentType().getId())
+			.customerId(series.getCustomer() != null ? series.getCustomer().getId() : null)
+			.originalStartTime(originalStartTime)
+			.startTime(startTime)
+			.endTime(endTime)
+			.build();
+	}
+}
@@ -0,0 +1,572 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.AppointmentFilterBuilder;
+import com.sinergy.chronosync.builder.UserFilterBuilder;
+import com.sinergy.chronosync.config.AppointmentIntervalIndex;
+import com.sinergy.chronosync.config.BookingLockCoordinator;
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.dto.request.AppointmentRangeRequestDTO;
+import com.sinergy.chronosync.dto.request.AppointmentRequestDTO;
+import com.sinergy.chronosync.dto.request.SlotAvailabilityRequestDTO;
+import com.sinergy.chronosync.dto.request.SlotHoldConfirmRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentResponseDTO;
+import com.sinergy.chronosync.dto.response.CalendarEmployeeDTO;
+import com.sinergy.chronosync.dto.response.CalendarTypeDTO;
+import com.sinergy.chronosync.dto.response.CalendarViewDTO;
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointment.SlotHold;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.calendar.CalendarDay;
+import com.sinergy.chronosync.model.calendar.CalendarDayEntry;
+import com.sinergy.chronosync.model.customer.Customer;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.CustomerRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AppointmentSeriesService;
+import com.sinergy.chronosync.service.AppointmentService;
+import com.sinergy.chronosync.service.AuditService;
+import com.sinergy.chronosync.service.CalendarProjectionService;
+import com.sinergy.chronosync.service.ResourceService;
+import com.sinergy.chronosync.service.SlotHoldService;
+import com.sinergy.chronosync.service.UserService;
+import com.sinergy.chronosync.service.WaitlistService;
+import com.sinergy.chronosync.service.WorkingHoursService;
+import com.sinergy.chronosync.util.SqlStateUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service implementation for managing appointments.
+ * <p>This service handles retrieving appointments for calendar views, availability checks,
+ * booking and cancelling appointments. All operations are restricted to the current user's firm.</p>
+ *
+ * <p>Availability checks and conflicting bookings are answered by the {@link AppointmentIntervalIndex},
+ * without a database round-trip unless it finds a conflict, which it confirms with a query.
+ * Bookings that pass it are still checked by the database.
+ * Occurrences of recurring series are not stored as appointments, so they are checked
+ * by the {@link AppointmentSeriesService}. Bookings lock the employee through the
+ * {@link BookingLockCoordinator} first, so same-employee bookings are checked and inserted
+ * one at a time while bookings of other employees proceed in parallel. Slots held through the
+ * {@link SlotHoldService} are treated as booked, except by the confirmation of the hold itself.
+ * Bookings outside the employee's working time are rejected by the {@link WorkingHoursService}.
+ * Bookings of appointment types requiring resources lock every candidate resource of the required
+ * kinds, then choose and reserve one free resource of every kind through the {@link ResourceService}
+ * in the same transaction, so either the appointment and all of its resources are booked or nothing
+ * is, and concurrent bookings choose different resources. Appointments of types with a
+ * capacity above one are group sessions, booked with all seats left and without a customer;
+ * customers sign up to them through the {@link com.sinergy.chronosync.service.GroupSessionService}.</p>
+ */
+@Service
+@AllArgsConstructor
+public class AppointmentServiceImpl implements AppointmentService {
+
+	/**
+	 * Longest time range that can be retrieved at once.
+	 */
+	static final Duration MAX_RANGE = Duration.ofDays(42);
+
+	private static final String BOOKING_CONFLICT_MESSAGE = "Employee is already booked at the requested time.";
+
+	private final AppointmentRepository appointmentRepository;
+	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final CustomerRepository customerRepository;
+	private final UserRepository userRepository;
+	private final UserService userService;
+	private final AuditService auditService;
+	private final AppointmentIntervalIndex intervalIndex;
+	private final AppointmentSeriesService appointmentSeriesService;
+	private final BookingLockCoordinator lockCoordinator;
+	private final SlotHoldService slotHoldService;
+	private final WorkingHoursService workingHoursService;
+	private final ResourceService resourceService;
+	private final WaitlistService waitlistService;
+	private final QualificationIndex qualificationIndex;
+	private final CalendarProjectionService calendarProjectionService;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * Retrieves the appointments of the current user's firm overlapping the requested time range.
+	 *
+	 * <p>All requested employees are read with a single query. The associations are not loaded,
+	 * the response references them by ID.</p>
+	 *
+	 * @param request {@link AppointmentRangeRequestDTO} time range, employees and status to filter by
+	 * @return {@link List} of {@link AppointmentResponseDTO} ordered by start time
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the time range is missing, inverted or too long.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<AppointmentResponseDTO> getAppointments(AppointmentRangeRequestDTO request) {
+		validateRange(request.getFrom(), request.getTo());
+
+		AppointmentFilterBuilder filterBuilder = AppointmentFilterBuilder.builder()
+			.firmId(userService.getAuthUserFirm().getId())
+			.employeeIds(request.getEmployeeIds())
+			.status(request.getStatus())
+			.from(request.getFrom())
+			.to(request.getTo())
+			.build();
+
+		return appointmentRepository
+			.findAll(filterBuilder.toSpecification(), Sort.by("startTime", "id"))
+			.stream()
+			.map(AppointmentResponseDTO::fromModel)
+			.toList();
+	}
+
+	/**
+	 * Retrieves the appointments of the current user's firm overlapping the requested time range
+	 * in the columnar form of calendar views.
+	 *
+	 * <p>The appointments are read from the calendar projection of the
+	 * {@link CalendarProjectionService} with a single range scan of its primary key, so the view
+	 * lags behind bookings by up to the projection interval. The projection stores the
+	 * appointments by start day, so the scan starts one longest appointment before the range.
+	 * Every employee and type is written once to the lookup tables of the response and referenced
+	 * by index. Occurrences of recurring series are projected with the appointments, so they are
+	 * listed with their series and original start time.</p>
+	 *
+	 * @param request {@link AppointmentRangeRequestDTO} time range, employees and status to filter by
+	 * @return {@link CalendarViewDTO} appointments of the range with their employees and types
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the time range is missing, inverted or too long.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public CalendarViewDTO getCalendar(AppointmentRangeRequestDTO request) {
+		validateRange(request.getFrom(), request.getTo());
+
+		List<CalendarDay> days = calendarProjectionService.getDays(
+			userService.getAuthUserFirm().getId(),
+			request.getEmployeeIds(),
+			LocalDate.ofInstant(request.getFrom().minus(Appointment.MAX_DURATION), ZoneOffset.UTC),
+			LocalDate.ofInstant(request.getTo().minusNanos(1), ZoneOffset.UTC)
+		);
+
+		List<ProjectedEntry> entries = new ArrayList<>();
+		for (CalendarDay day : days) {
+			Instant dayStart = day.getId().getDay().atStartOfDay(ZoneOffset.UTC).toInstant();
+			for (CalendarDayEntry entry : day.getEntries()) {
+				Instant startTime = dayStart.plus(Duration.ofMinutes(entry.getStartMinute()));
+				Instant endTime = startTime.plus(Duration.ofMinutes(entry.getDurationMinutes()));
+				if (startTime.isBefore(request.getTo()) && endTime.isAfter(request.getFrom())
+					&& (request.getStatus() == null || request.getStatus() == entry.getStatus())) {
+					entries.add(new ProjectedEntry(day, entry, startTime, endTime));
+				}
+			}
+		}
+		entries.sort(Comparator.comparing(ProjectedEntry::getStartTime).thenComparingLong(e -> e.getEntry().getId()));
+
+		CalendarColumns columns = new CalendarColumns(request.getFrom());
+		for (ProjectedEntry projected : entries) {
+			CalendarDay day = projected.getDay();
+			CalendarDayEntry entry = projected.getEntry();
+			columns.add(
+				entry.getId(), day.getId().getEmployeeId(), day.getFirstName(), day.getLastName(),
+				entry.getAppointmentTypeId(), entry.getTypeName(), entry.getColorCode(),
+				projected.getStartTime(), projected.getEndTime(), entry.getStatus(),
+				entry.getSeriesId(), entry.getOriginalStartTime()
+			);
+		}
+		return columns.toView(request.getTo());
+	}
+
+	/**
+	 * Checks whether an employee of the current user's firm is free within a time range.
+	 *
+	 * <p>Answered from the {@link AppointmentIntervalIndex}, or with a query until the index is loaded.
+	 * Conflicts found in the index are confirmed with a query, since it may still hold bookings
+	 * cancelled or moved by other instances.</p>
+	 *
+	 * @param request {@link SlotAvailabilityRequestDTO} employee and time range to check
+	 * @return {@code true} if the employee has no booked appointment or held slot within the range
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the request is incomplete, the time range is invalid
+	 *                               or the employee belongs to another firm.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public boolean isEmployeeAvailable(SlotAvailabilityRequestDTO request) {
+		if (request.getEmployeeId() == null) {
+			throw new InvalidStateException("Employee is required.");
+		}
+		validateRange(request.getStartTime(), request.getEndTime());
+
+		Long firmId = userService.getAuthUserFirm().getId();
+
+		boolean booked;
+		if (intervalIndex.isReady()) {
+			if (intervalIndex.belongsToOtherFirm(request.getEmployeeId(), firmId)) {
+				throw new InvalidStateException("Employee with ID " + request.getEmployeeId() + " does not exist.");
+			}
+			booked = intervalIndex.hasConflict(request.getEmployeeId(), request.getStartTime(), request.getEndTime());
+		} else {
+			AppointmentFilterBuilder filterBuilder = AppointmentFilterBuilder.builder()
+				.firmId(firmId)
+				.employeeIds(List.of(request.getEmployeeId()))
+				.status(AppointmentStatus.BOOKED)
+				.from(request.getStartTime())
+				.to(request.getEndTime())
+				.build();
+			booked = appointmentRepository.exists(filterBuilder.toSpecification());
+		}
+		return !booked
+			&& !slotHoldService.isHeld(request.getEmployeeId(), request.getStartTime(), request.getEndTime())
+			&& !appointmentSeriesService.hasConflict(firmId, request.getEmployeeId(), request.getStartTime(), request.getEndTime());
+	}
+
+	/**
+	 * Books a new appointment for an employee of the current user's firm.
+	 *
+	 * <p>The end time is the start time plus the duration of the appointment type.</p>
+	 *
+	 * @param request {@link AppointmentRequestDTO} appointment details
+	 * @return {@link AppointmentResponseDTO} booked appointment
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException    if the request is incomplete, references an employee,
+	 *                                  appointment type or customer outside the current user's firm,
+	 *                                  names an employee not qualified for the appointment type or
+	 *                                  a customer for a group session, or lies outside the
+	 *                                  employee's working time.
+	 * @throws BookingConflictException if the employee or a requested resource is already booked at
+	 *                                  the requested time, or a required kind of resource has no free resource.
+	 */
+	@Override
+	@Transactional
+	public AppointmentResponseDTO createAppointment(AppointmentRequestDTO request) {
+		if (request.getStartTime() == null || request.getEmployeeId() == null || request.getAppointmentTypeId() == null) {
+			throw new InvalidStateException("Employee, appointment type and start time are required.");
+		}
+
+		Firm firm = userService.getAuthUserFirm();
+
+		User employee = userRepository
+			.findOne(UserFilterBuilder.builder().id(request.getEmployeeId()).firmId(firm.getId()).build().toSpecification())
+			.orElseThrow(() -> new InvalidStateException("Employee with ID " + request.getEmployeeId() + " does not exist."));
+
+		AppointmentType appointmentType = appointmentTypeRepository.findById(request.getAppointmentTypeId())
+			.filter(type -> type.getFirm().getId().equals(firm.getId()))
+			.orElseThrow(() -> new InvalidStateException(
+				"Appointment type with ID " + request.getAppointmentTypeId() + " does not exist."
+			));
+		if (!qualificationIndex.isQualified(firm.getId(), appointmentType.getId(), employee.getId())) {
+			throw new InvalidStateException("Employee with ID " + employee.getId() + " is not qualified for the appointment type.");
+		}
+
+		Customer customer = findCustomer(firm, request.getCustomerId());
+		Integer seatsLeft = seatsOf(appointmentType, customer);
+
+		Duration duration = Duration.ofMinutes(appointmentType.getDurationMinutes());
+		if (duration.isNegative() || duration.isZero() || duration.compareTo(Appointment.MAX_DURATION) > 0) {
+			throw new InvalidStateException("Appointment type duration is not supported.");
+		}
+		Instant endTime = request.getStartTime().plus(duration);
+		workingHoursService.validateWorkingTime(firm.getId(), employee.getId(), request.getStartTime(), endTime);
+		lockCoordinator.lock(Map.of(
+			BookingLockCoordinator.Scope.EMPLOYEE, List.of(employee.getId()),
+			BookingLockCoordinator.Scope.RESOURCE, resourceService.findCandidateResources(
+				firm.getId(), appointmentType.getResourceKinds(), request.getResourceIds()
+			)
+		));
+		List<Long> resourceIds = resourceService.allocateResources(
+			firm.getId(), appointmentType.getResourceKinds(), request.getResourceIds(), request.getStartTime(), endTime
+		);
+		if (intervalIndex.hasConflict(employee.getId(), request.getStartTime(), endTime)
+			|| slotHoldService.isHeld(employee.getId(), request.getStartTime(), endTime)
+			|| appointmentSeriesService.hasConflict(firm.getId(), employee.getId(), request.getStartTime(), endTime)) {
+			throw new BookingConflictException(BOOKING_CONFLICT_MESSAGE);
+		}
+
+		Appointment appointment = book(Appointment.builder()
+			.firm(firm)
+			.employee(employee)
+			.appointmentType(appointmentType)
+			.customer(customer)
+			.startTime(request.getStartTime())
+			.endTime(endTime)
+			.status(AppointmentStatus.BOOKED)
+			.seatsLeft(seatsLeft)
+			.build());
+		resourceService.reserveResources(appointment, resourceIds);
+		intervalIndex.register(appointment);
+		eventPublisher.publishEvent(AppointmentChangedEvent.booked(appointment));
+		auditService.publish(AuditAction.CREATE, Appointment.class, appointment.getId());
+
+		AppointmentResponseDTO response = AppointmentResponseDTO.fromModel(appointment);
+		response.setResourceIds(resourceIds);
+		return response;
+	}
+
+	/**
+	 * Books the appointment held by a slot hold of the current user's firm and releases the hold.
+	 *
+	 * <p>The employee is locked and checked for bookings made since the hold was taken, e.g. by a
+	 * concurrent confirmation of the same hold. The hold is released only when the booking commits.
+	 * Holds do not reserve resources, so the resources required by the appointment type are
+	 * allocated when the hold is confirmed.</p>
+	 *
+	 * @param request {@link SlotHoldConfirmRequestDTO} hold to convert and the customer
+	 * @return {@link AppointmentResponseDTO} booked appointment
+	 * @throws UserNotFoundException    if the user is not found.
+	 * @throws InvalidStateException    if the hold does not exist or has expired, the customer
+	 *                                  is outside the current user's firm or named for a group
+	 *                                  session, or the working time of the employee has changed
+	 *                                  since the hold was taken.
+	 * @throws BookingConflictException if the held slot has been booked in the meantime, or a
+	 *                                  required kind of resource has no free resource.
+	 */
+	@Override
+	@Transactional
+	public AppointmentResponseDTO confirmHold(SlotHoldConfirmRequestDTO request) {
+		SlotHold hold = slotHoldService.getHold(request.getHoldId());
+		Firm firm = userService.getAuthUserFirm();
+		Customer customer = findCustomer(firm, request.getCustomerId());
+		workingHoursService.validateWorkingTime(firm.getId(), hold.getEmployeeId(), hold.getStartTime(), hold.getEndTime());
+		AppointmentType appointmentType = appointmentTypeRepository.getReferenceById(hold.getAppointmentTypeId());
+		Integer seatsLeft = seatsOf(appointmentType, customer);
+
+		lockCoordinator.lock(Map.of(
+			BookingLockCoordinator.Scope.EMPLOYEE, List.of(hold.getEmployeeId()),
+			BookingLockCoordinator.Scope.RESOURCE, resourceService.findCandidateResources(
+				firm.getId(), appointmentType.getResourceKinds(), null
+			)
+		));
+		List<Long> resourceIds = resourceService.allocateResources(
+			firm.getId(), appointmentType.getResourceKinds(), null, hold.getStartTime(), hold.getEndTime()
+		);
+		if (intervalIndex.hasConflict(hold.getEmployeeId(), hold.getStartTime(), hold.getEndTime())
+			|| appointmentSeriesService.hasConflict(firm.getId(), hold.getEmployeeId(), hold.getStartTime(), hold.getEndTime())) {
+			throw new BookingConflictException(BOOKING_CONFLICT_MESSAGE);
+		}
+
+		Appointment appointment = book(Appointment.builder()
+			.firm(firm)
+			.employee(userRepository.getReferenceById(hold.getEmployeeId()))
+			.appointmentType(appointmentType)
+			.customer(customer)
+			.startTime(hold.getStartTime())
+			.endTime(hold.getEndTime())
+			.status(AppointmentStatus.BOOKED)
+			.seatsLeft(seatsLeft)
+			.build());
+		resourceService.reserveResources(appointment, resourceIds);
+		intervalIndex.register(appointment);
+		slotHoldService.releaseHold(hold.getId());
+		waitlistService.holdConfirmed(hold.getId());
+		eventPublisher.publishEvent(AppointmentChangedEvent.booked(appointment));
+		auditService.publish(AuditAction.CREATE, Appointment.class, appointment.getId());
+
+		AppointmentResponseDTO response = AppointmentResponseDTO.fromModel(appointment);
+		response.setResourceIds(resourceIds);
+		return response;
+	}
+
+	/**
+	 * Cancels a booked appointment of the current user's firm.
+	 *
+	 * <p>The status is changed with a single update restricted to booked appointments
+	 * of the firm, so the appointment is not loaded first. Its resource reservations are deleted
+	 * with a second statement. The freed slot is offered to the waitlist by the
+	 * {@link WaitlistService} after the cancellation commits.</p>
+	 *
+	 * @param id {@link Long} ID of the appointment to cancel
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the appointment does not exist or is not booked.
+	 */
+	@Override
+	@Transactional
+	public void cancelAppointment(Long id) {
+		Long firmId = userService.getAuthUserFirm().getId();
+		AppointmentFilterBuilder filterBuilder = AppointmentFilterBuilder.builder()
+			.firmId(firmId)
+			.status(AppointmentStatus.BOOKED)
+			.build();
+
+		if (appointmentRepository.patch(id, Map.of("status", AppointmentStatus.CANCELLED), filterBuilder.toSpecification()) == 0) {
+			throw new InvalidStateException("Booked appointment with ID " + id + " does not exist.");
+		}
+		resourceService.releaseResources(id);
+		intervalIndex.unregister(id);
+		waitlistService.appointmentCancelled(id);
+		eventPublisher.publishEvent(AppointmentChangedEvent.cancelled(firmId, id));
+		auditService.publish(AuditAction.CANCEL, Appointment.class, id);
+	}
+
+	/**
+	 * Inserts the appointment, relying on the exclusion constraint of the appointments table
+	 * to reject overlapping bookings of the same employee.
+	 *
+	 * <p>Two transactions inserting overlapping bookings at the same time may each wait for the
+	 * other's constraint check. PostgreSQL then aborts one of them with a deadlock, which is
+	 * reported as a conflict as well, since the other booking proceeds.</p>
+	 */
+	private Appointment book(Appointment appointment) {
+		try {
+			return appointmentRepository.saveAndFlush(appointment);
+		} catch (DataIntegrityViolationException | CannotAcquireLockException e) {
+			if (SqlStateUtils.hasSqlState(e, SqlStateUtils.EXCLUSION_VIOLATION)
+				|| SqlStateUtils.hasSqlState(e, SqlStateUtils.DEADLOCK_DETECTED)) {
+				throw new BookingConflictException(BOOKING_CONFLICT_MESSAGE);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the seats of a new group session, or {@code null} for appointment types with a capacity of one.
+	 */
+	private static Integer seatsOf(AppointmentType appointmentType, Customer customer) {
+		Integer capacity = appointmentType.getCapacity();
+		if (capacity == null || capacity <= 1) {
+			return null;
+		}
+		if (customer != null) {
+			throw new InvalidStateException("Customers sign up to group sessions separately.");
+		}
+		return capacity;
+	}
+
+	private Customer findCustomer(Firm firm, Long customerId) {
+		if (customerId == null) {
+			return null;
+		}
+		return customerRepository.findById(customerId)
+			.filter(c -> c.getFirm().getId().equals(firm.getId()))
+			.orElseThrow(() -> new InvalidStateException("Customer with ID " + customerId + " does not exist."));
+	}
+
+	static void validateRange(Instant from, Instant to) {
+		if (from == null || to == null) {
+			throw new InvalidStateException("Time range start and end are required.");
+		}
+		if (!from.isBefore(to)) {
+			throw new InvalidStateException("Time range start must be before its end.");
+		}
+		if (Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+			throw new InvalidStateException("Time range cannot be longer than " + MAX_RANGE.toDays() + " days.");
+		}
+	}
+
+	/**
+	 * Projected appointment of a calendar view, with its start and end time.
+	 */
+	@Getter
+	@AllArgsConstructor
+	private static final class ProjectedEntry {
+
+		private final CalendarDay day;
+		private final CalendarDayEntry entry;
+		private final Instant startTime;
+		private final Instant endTime;
+	}
+
+	/**
+	 * Collects the appointments of a calendar view into parallel arrays and lookup tables.
+	 */
+	private static final class CalendarColumns {
+
+		private final Instant from;
+		private final Map<Long, Integer> employeeIndexes = new HashMap<>();
+		private final Map<Long, Integer> typeIndexes = new HashMap<>();
+		private final Map<AppointmentStatus, Integer> statusIndexes = new HashMap<>();
+		private final List<CalendarEmployeeDTO> employees = new ArrayList<>();
+		private final List<CalendarTypeDTO> types = new ArrayList<>();
+		private final List<AppointmentStatus> statuses = new ArrayList<>();
+		private long[] ids = new long[64];
+		private int[] employeeColumn = new int[64];
+		private int[] startColumn = new int[64];
+		private int[] durationColumn = new int[64];
+		private int[] typeColumn = new int[64];
+		private int[] statusColumn = new int[64];
+		private long[] seriesColumn = new long[64];
+		private int[] originalStartColumn = new int[64];
+		private int size;
+
+		private CalendarColumns(Instant from) {
+			this.from = from;
+		}
+
+		private void add(
+			long id, long employeeId, String firstName, String lastName,
+			long appointmentTypeId, String typeName, String colorCode,
+			Instant startTime, Instant endTime, AppointmentStatus status,
+			Long seriesId, Instant originalStartTime
+		) {
+			if (size == ids.length) {
+				int capacity = size * 2;
+				ids = Arrays.copyOf(ids, capacity);
+				employeeColumn = Arrays.copyOf(employeeColumn, capacity);
+				startColumn = Arrays.copyOf(startColumn, capacity);
+				durationColumn = Arrays.copyOf(durationColumn, capacity);
+				typeColumn = Arrays.copyOf(typeColumn, capacity);
+				statusColumn = Arrays.copyOf(statusColumn, capacity);
+				seriesColumn = Arrays.copyOf(seriesColumn, capacity);
+				originalStartColumn = Arrays.copyOf(originalStartColumn, capacity);
+			}
+
+			ids[size] = id;
+			employeeColumn[size] = employeeIndexes.computeIfAbsent(employeeId, key -> {
+				employees.add(CalendarEmployeeDTO.builder().id(key).firstName(firstName).lastName(lastName).build());
+				return employees.size() - 1;
+			});
+			startColumn[size] = (int) Duration.between(from, startTime).toMinutes();
+			durationColumn[size] = (int) Duration.between(startTime, endTime).toMinutes();
+			typeColumn[size] = typeIndexes.computeIfAbsent(appointmentTypeId, key -> {
+				types.add(CalendarTypeDTO.builder().id(key).name(typeName).colorCode(colorCode).build());
+				return types.size() - 1;
+			});
+			statusColumn[size] = statusIndexes.computeIfAbsent(status, key -> {
+				statuses.add(key);
+				return statuses.size() - 1;
+			});
+			seriesColumn[size] = seriesId != null ? seriesId : 0;
+			originalStartColumn[size] = originalStartTime != null ? (int) Duration.between(from, originalStartTime).toMinutes() : 0;
+			size++;
+		}
+
+		private CalendarViewDTO toView(Instant to) {
+			return CalendarViewDTO.builder()
+				.from(from)
+				.to(to)
+				.employees(employees)
+				.types(types)
+				.statuses(statuses)
+				.ids(Arrays.copyOf(ids, size))
+				.employeeIndexes(Arrays.copyOf(employeeColumn, size))
+				.startMinutes(Arrays.copyOf(startColumn, size))
+				.durationMinutes(Arrays.copyOf(durationColumn, size))
+				.typeIndexes(Arrays.copyOf(typeColumn, size))
+				.statusIndexes(Arrays.copyOf(statusColumn, size))
+				.seriesIds(Arrays.copyOf(seriesColumn, size))
+				.originalStartMinutes(Arrays.copyOf(originalStartColumn, size))
+				.build();
+		}
+	}
+}
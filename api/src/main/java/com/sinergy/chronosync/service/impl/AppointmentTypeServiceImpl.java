@@ -1,21 +1,36 @@
 package com.sinergy.chronosync.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.sinergy.chronosync.builder.AppointmentTypeFilterBuilder;
 import com.sinergy.chronosync.builder.UserFilterBuilder;
+import com.sinergy.chronosync.config.QualificationIndex;
 import com.sinergy.chronosync.dto.request.AppointmentTypeRequestDTO;
+import com.sinergy.chronosync.event.AppointmentTypeChangedEvent;
 import com.sinergy.chronosync.exception.InvalidStateException;
 import com.sinergy.chronosync.exception.UserNotFoundException;
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import com.sinergy.chronosync.model.audit.AuditAction;
 import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.resource.Resource;
 import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.repository.AppointmentTypeRepository;
 import com.sinergy.chronosync.repository.UserRepository;
 import com.sinergy.chronosync.service.AppointmentTypeService;
+import com.sinergy.chronosync.service.AuditService;
+import com.sinergy.chronosync.util.MergePatchUtils;
+import com.sinergy.chronosync.util.TransactionUtils;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * Service implementation for managing appointment types.
@@ -26,8 +41,23 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class AppointmentTypeServiceImpl implements AppointmentTypeService {
 
+	private static final Map<String, Class<?>> PATCHABLE_FIELDS = Map.of(
+		"name", String.class,
+		"durationMinutes", Integer.class,
+		"price", Double.class,
+		"currency", Currency.class,
+		"colorCode", String.class,
+		"capacity", Integer.class,
+		"qualificationRequired", Boolean.class
+	);
+
+	private static final Pattern COLOR_CODE_PATTERN = Pattern.compile("^#[0-9A-Fa-f]{6}$");
+
 	private final AppointmentTypeRepository appointmentTypeRepository;
 	private final UserRepository userRepository;
+	private final AuditService auditService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final QualificationIndex qualificationIndex;
 
 	/**
 	 * Retrieves all appointment types associated with the current user's firm.
@@ -39,6 +69,8 @@ public class AppointmentTypeServiceImpl implements AppointmentTypeService {
 	 * @throws UserNotFoundException if the user is not found.
 	 * @throws InvalidStateException if the user is not assigned to a firm.
 	 */
+	@Override
+	@Transactional(readOnly = true)
 	public Page<AppointmentType> getAppointmentTypes(PageRequest pageRequest) {
 		AppointmentTypeFilterBuilder filterBuilder = AppointmentTypeFilterBuilder.builder()
 			.firmId(getAuthUserFirm().getId())
@@ -55,14 +87,24 @@ public class AppointmentTypeServiceImpl implements AppointmentTypeService {
 	 * @param requestDto {@link AppointmentTypeRequestDTO} containing appointment type details.
 	 * @return {@link AppointmentType} representing the saved appointment type.
 	 * @throws UserNotFoundException if the user is not found.
-	 * @throws InvalidStateException if the user is not associated with a firm.
+	 * @throws InvalidStateException if the user is not associated with a firm, or a resource kind or
+	 *                               the capacity is invalid.
 	 */
 	@Override
+	@Transactional
 	public AppointmentType createAppointmentType(AppointmentTypeRequestDTO requestDto) {
+		validateResourceKinds(requestDto.getResourceKinds());
+		validateCapacity(requestDto.getCapacity());
 		AppointmentType appointmentType = requestDto.toModel();
 		appointmentType.setFirm(getAuthUserFirm());
 
-		return appointmentTypeRepository.save(appointmentType);
+		AppointmentType createdAppointmentType = appointmentTypeRepository.save(appointmentType);
+		eventPublisher.publishEvent(new AppointmentTypeChangedEvent(
+			appointmentType.getFirm().getId(), createdAppointmentType.getId(), AppointmentTypeChangedEvent.Change.CREATED
+		));
+		auditService.publish(AuditAction.CREATE, AppointmentType.class, createdAppointmentType.getId());
+
+		return createdAppointmentType;
 	}
 
 	/**
@@ -71,10 +113,14 @@ public class AppointmentTypeServiceImpl implements AppointmentTypeService {
 	 * @param requestDto {@link AppointmentTypeRequestDTO} containing appointment type details
 	 * @return {@link AppointmentType} representing the updated or newly created appointment type
 	 * @throws UserNotFoundException if the user cannot be found.
-	 * @throws InvalidStateException if the appointment type cannot be found for update.
+	 * @throws InvalidStateException if the appointment type cannot be found for update, or a resource
+	 *                               kind or the capacity is invalid.
 	 */
 	@Override
+	@Transactional
 	public AppointmentType updateAppointmentType(AppointmentTypeRequestDTO requestDto) {
+		validateResourceKinds(requestDto.getResourceKinds());
+		validateCapacity(requestDto.getCapacity());
 		AppointmentType existingAppointmentType = appointmentTypeRepository.findById(requestDto.getId())
 			.orElseThrow(
 				() -> new InvalidStateException("Appointment type with ID " + requestDto.getId() + " does not exist.")
@@ -84,7 +130,51 @@ public class AppointmentTypeServiceImpl implements AppointmentTypeService {
 			throw new InvalidStateException("Appointment type does not belong to the current user's firm.");
 		}
 
-		return appointmentTypeRepository.save(requestDto.toModel());
+		AppointmentType updatedAppointmentType = appointmentTypeRepository.save(requestDto.toModel());
+		eventPublisher.publishEvent(new AppointmentTypeChangedEvent(
+			existingAppointmentType.getFirm().getId(), requestDto.getId(), AppointmentTypeChangedEvent.Change.UPDATED
+		));
+		auditService.publish(AuditAction.UPDATE, AppointmentType.class, requestDto.getId());
+
+		return updatedAppointmentType;
+	}
+
+	/**
+	 * Partially updates an existing appointment type using a JSON Merge Patch document.
+	 *
+	 * <p>Only the fields present in the patch are written. The update is executed as a single
+	 * statement restricted to the current user's firm, so the appointment type is not loaded
+	 * before it is changed.</p>
+	 *
+	 * @param id    {@link Long} ID of the appointment type to patch
+	 * @param patch {@link JsonNode} merge patch document containing only the changed fields
+	 * @throws UserNotFoundException if the user cannot be found.
+	 * @throws InvalidStateException if the patch is invalid or the appointment type cannot be found
+	 *                               within the current user's firm.
+	 */
+	@Override
+	@Transactional
+	public void patchAppointmentType(Long id, JsonNode patch) {
+		Map<String, Object> changes = MergePatchUtils.toChanges(patch, PATCHABLE_FIELDS);
+		validatePatch(changes);
+
+		if (changes.isEmpty()) {
+			return;
+		}
+
+		Long firmId = getAuthUserFirm().getId();
+		AppointmentTypeFilterBuilder filterBuilder = AppointmentTypeFilterBuilder.builder()
+			.firmId(firmId)
+			.build();
+
+		if (appointmentTypeRepository.patch(id, changes, filterBuilder.toSpecification()) == 0) {
+			throw new InvalidStateException("Appointment type with ID " + id + " does not exist.");
+		}
+		if (changes.get("qualificationRequired") instanceof Boolean qualificationRequired) {
+			TransactionUtils.afterCommit(() -> qualificationIndex.requirementChanged(firmId, id, qualificationRequired));
+		}
+		eventPublisher.publishEvent(new AppointmentTypeChangedEvent(firmId, id, AppointmentTypeChangedEvent.Change.UPDATED));
+		auditService.publish(AuditAction.UPDATE, AppointmentType.class, id);
 	}
 
 	/**
@@ -94,11 +184,15 @@ public class AppointmentTypeServiceImpl implements AppointmentTypeService {
 	 * @throws InvalidStateException if deletion fails or the appointment type does not exist
 	 */
 	@Override
+	@Transactional
 	public void deleteAppointmentType(Long id) {
-		if (!appointmentTypeRepository.existsById(id)) {
-			throw new InvalidStateException("Appointment type does not exist.");
-		}
+		AppointmentType appointmentType = appointmentTypeRepository.findById(id)
+			.orElseThrow(() -> new InvalidStateException("Appointment type does not exist."));
 		appointmentTypeRepository.deleteById(id);
+		eventPublisher.publishEvent(new AppointmentTypeChangedEvent(
+			appointmentType.getFirm().getId(), id, AppointmentTypeChangedEvent.Change.DELETED
+		));
+		auditService.publish(AuditAction.DELETE, AppointmentType.class, id);
 	}
 
 	private Firm getAuthUserFirm() {
@@ -116,4 +210,53 @@ public class AppointmentTypeServiceImpl implements AppointmentTypeService {
 
 		return firm;
 	}
+
+	/**
+	 * Resource kinds are stored comma-separated, see {@link com.sinergy.chronosync.model.resource.ResourceKindsConverter}.
+	 */
+	private static void validateResourceKinds(Set<String> kinds) {
+		if (kinds == null) {
+			return;
+		}
+		for (String kind : kinds) {
+			if (kind == null || kind.isBlank() || kind.length() > Resource.MAX_KIND_LENGTH || kind.contains(",")) {
+				throw new InvalidStateException("Resource kinds must be non-empty, without commas and at most "
+					+ Resource.MAX_KIND_LENGTH + " characters long.");
+			}
+		}
+	}
+
+	/**
+	 * A missing capacity means one; existing group sessions keep the seats they were booked with.
+	 */
+	private static void validateCapacity(Integer capacity) {
+		if (capacity != null && (capacity < 1 || capacity > AppointmentType.MAX_CAPACITY)) {
+			throw new InvalidStateException("Appointment type capacity must be between 1 and "
+				+ AppointmentType.MAX_CAPACITY + ".");
+		}
+	}
+
+	private void validatePatch(Map<String, Object> changes) {
+		changes.forEach((field, value) -> {
+			if (value == null && !"colorCode".equals(field)) {
+				throw new InvalidStateException("Field '" + field + "' cannot be null.");
+			}
+		});
+
+		if (changes.get("name") instanceof String name && name.isBlank()) {
+			throw new InvalidStateException("Appointment type name cannot be empty.");
+		}
+		if (changes.get("durationMinutes") instanceof Integer durationMinutes && durationMinutes <= 0) {
+			throw new InvalidStateException("Appointment type duration must be positive.");
+		}
+		if (changes.get("capacity") instanceof Integer capacity) {
+			validateCapacity(capacity);
+		}
+		if (changes.get("price") instanceof Double price && price < 0) {
+			throw new InvalidStateException("Appointment type price cannot be negative.");
+		}
+		if (changes.get("colorCode") instanceof String colorCode && !COLOR_CODE_PATTERN.matcher(colorCode).matches()) {
+			throw new InvalidStateException("Appointment type color code must be in #RRGGBB format.");
+		}
+	}
 }
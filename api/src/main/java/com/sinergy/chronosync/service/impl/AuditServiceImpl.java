@@ -0,0 +1,207 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.model.audit.AuditDurabilityMode;
+import com.sinergy.chronosync.model.audit.AuditLog;
+import com.sinergy.chronosync.repository.AuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Audit service implementation backed by a bounded in-memory buffer.
+ *
+ * <p>Request threads only enqueue entries. A single background writer drains the buffer
+ * and appends the entries to the database in multi-row inserts of up to the configured
+ * batch size, waiting at most the flush interval for a batch to fill up. Behaviour on a
+ * full buffer is controlled by the {@link AuditDurabilityMode}.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "audit.sink", havingValue = "database", matchIfMissing = true)
+public class AuditServiceImpl extends AbstractAuditService implements SmartLifecycle {
+
+	private final AuditLogRepository auditLogRepository;
+	private final AuditDurabilityMode durabilityMode;
+	private final int batchSize;
+	private final Duration flushInterval;
+	private final Duration blockingTimeout;
+	private final BlockingQueue<AuditLog> buffer;
+
+	private final Counter publishedCounter;
+	private final Counter writtenCounter;
+	private final Counter overflowCounter;
+	private final Counter writeFailureCounter;
+	private final DistributionSummary batchSizeSummary;
+
+	private volatile boolean running;
+	private Thread writerThread;
+
+	public AuditServiceImpl(
+		AuditLogRepository auditLogRepository,
+		MeterRegistry meterRegistry,
+		@Value("${audit.durability-mode}") AuditDurabilityMode durabilityMode,
+		@Value("${audit.buffer-capacity}") int bufferCapacity,
+		@Value("${audit.batch-size}") int batchSize,
+		@Value("${audit.flush-interval}") Duration flushInterval,
+		@Value("${audit.blocking-timeout}") Duration blockingTimeout
+	) {
+		this.auditLogRepository = auditLogRepository;
+		this.durabilityMode = durabilityMode;
+		this.batchSize = batchSize;
+		this.flushInterval = flushInterval;
+		this.blockingTimeout = blockingTimeout;
+		this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+
+		this.publishedCounter = meterRegistry.counter("audit.events.published");
+		this.writtenCounter = meterRegistry.counter("audit.events.written");
+		this.overflowCounter = meterRegistry.counter("audit.events.dropped", "reason", "overflow");
+		this.writeFailureCounter = meterRegistry.counter("audit.events.dropped", "reason", "write_failure");
+		this.batchSizeSummary = meterRegistry.summary("audit.batch.size");
+		Gauge.builder("audit.buffer.size", buffer, BlockingQueue::size).register(meterRegistry);
+	}
+
+	/**
+	 * Adds the entry to the buffer, or writes it immediately in synchronous mode.
+	 *
+	 * @param entry {@link AuditLog} entry to record
+	 */
+	@Override
+	protected void record(AuditLog entry) {
+		publishedCounter.increment();
+
+		switch (durabilityMode) {
+			case SYNC -> write(List.of(entry));
+			case ASYNC -> {
+				if (!buffer.offer(entry)) {
+					overflowCounter.increment();
+				}
+			}
+			case BLOCKING -> {
+				try {
+					if (!buffer.offer(entry, blockingTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+						overflowCounter.increment();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					overflowCounter.increment();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Starts the background writer, unless entries are written synchronously.
+	 */
+	@Override
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		running = true;
+
+		if (durabilityMode != AuditDurabilityMode.SYNC) {
+			writerThread = Thread.ofPlatform().name("audit-writer").daemon().start(this::drainLoop);
+		}
+	}
+
+	/**
+	 * Stops the background writer after the buffered entries have been written.
+	 */
+	@Override
+	public synchronized void stop() {
+		if (!running) {
+			return;
+		}
+		running = false;
+
+		if (writerThread != null) {
+			try {
+				writerThread.join(flushInterval.multipliedBy(2).plusSeconds(10).toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			writerThread = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void drainLoop() {
+		List<AuditLog> batch = new ArrayList<>(batchSize);
+
+		while (running || !buffer.isEmpty()) {
+			try {
+				fillBatch(batch);
+				if (!batch.isEmpty()) {
+					write(batch);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				buffer.drainTo(batch);
+				write(batch);
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * Waits for the first entry, then keeps collecting entries until the batch is full
+	 * or the flush interval since the first entry has elapsed.
+	 */
+	private void fillBatch(List<AuditLog> batch) throws InterruptedException {
+		AuditLog first = buffer.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+		if (first == null) {
+			return;
+		}
+		batch.add(first);
+
+		long deadline = System.nanoTime() + flushInterval.toNanos();
+		while (batch.size() < batchSize) {
+			buffer.drainTo(batch, batchSize - batch.size());
+
+			long remaining = deadline - System.nanoTime();
+			if (batch.size() >= batchSize || remaining <= 0 || !running) {
+				return;
+			}
+
+			AuditLog next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				return;
+			}
+			batch.add(next);
+		}
+	}
+
+	private void write(List<AuditLog> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		try {
+			auditLogRepository.insertBatch(batch);
+			writtenCounter.increment(batch.size());
+			batchSizeSummary.record(batch.size());
+		} catch (RuntimeException e) {
+			writeFailureCounter.increment(batch.size());
+			log.warn("Failed to write {} audit log entries.", batch.size(), e);
+		}
+	}
+}
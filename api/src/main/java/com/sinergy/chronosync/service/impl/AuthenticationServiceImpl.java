@@ -5,17 +5,22 @@ import com.sinergy.chronosync.builder.UserFilterBuilder;
 import com.sinergy.chronosync.dto.request.LoginRequestDTO;
 import com.sinergy.chronosync.dto.response.AuthenticationResponse;
 import com.sinergy.chronosync.model.Token;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.audit.AuditLog;
 import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.repository.TokenRepository;
 import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AuditService;
 import com.sinergy.chronosync.service.AuthenticationService;
 import com.sinergy.chronosync.util.JwtUtils;
+import com.sinergy.chronosync.util.ReplicaRoutingContext;
 import lombok.AllArgsConstructor;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Authentication service interface implementation.
@@ -28,6 +33,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 	private final TokenRepository tokenRepository;
 	private final AuthenticationManager authenticationManager;
 	private final JwtUtils jwtUtils;
+	private final AuditService auditService;
 
 	/**
 	 * Authenticates provided user with username and password.
@@ -36,7 +42,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 	 * @return {@link AuthenticationResponse} JSON web token
 	 */
 	@Override
+	@Transactional
 	public AuthenticationResponse authenticate(LoginRequestDTO request) {
+		ReplicaRoutingContext.setClient(request.getUsername());
+
 		try {
 			authenticationManager.authenticate(
 				new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
@@ -58,6 +67,13 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 		token.setJwtString(jwt);
 		tokenRepository.save(token);
 
+		auditService.publish(AuditLog.builder()
+			.action(AuditAction.LOGIN)
+			.entityType(User.class.getSimpleName())
+			.entityId(user.getId())
+			.username(user.getUsername())
+			.build());
+
 		return AuthenticationResponse.builder().jwtString(jwt).build();
 	}
 }
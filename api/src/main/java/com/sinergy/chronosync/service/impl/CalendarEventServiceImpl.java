@@ -0,0 +1,69 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.config.CalendarEventBroadcaster;
+import com.sinergy.chronosync.dto.response.CalendarEventDTO;
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import com.sinergy.chronosync.event.AppointmentTypeChangedEvent;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.service.CalendarEventService;
+import com.sinergy.chronosync.service.UserService;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Service implementation streaming calendar changes to the users of a firm as Server-Sent Events.
+ *
+ * <p>Committed booking and appointment type changes are fanned out to the subscribers of their
+ * firm by the {@link CalendarEventBroadcaster}, so clients update their views from the stream
+ * instead of polling. Appointment changes are sent as {@code appointment} events and appointment
+ * type changes as {@code appointment-type} events, both with a {@link CalendarEventDTO}.</p>
+ */
+@Service
+@AllArgsConstructor
+public class CalendarEventServiceImpl implements CalendarEventService {
+
+	static final String APPOINTMENT_EVENT = "appointment";
+	static final String APPOINTMENT_TYPE_EVENT = "appointment-type";
+
+	private final UserService userService;
+	private final CalendarEventBroadcaster broadcaster;
+
+	/**
+	 * Subscribes to the calendar events of the current user's firm.
+	 *
+	 * @return {@link SseEmitter} streaming the events
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the user is not associated with a firm.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public SseEmitter subscribe() {
+		return broadcaster.subscribe(userService.getAuthUserFirm().getId());
+	}
+
+	/**
+	 * Streams a committed appointment change to the subscribers of its firm.
+	 *
+	 * @param event {@link AppointmentChangedEvent} committed change
+	 */
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void appointmentChanged(AppointmentChangedEvent event) {
+		broadcaster.publish(event.getFirmId(), APPOINTMENT_EVENT, CalendarEventDTO.fromEvent(event));
+	}
+
+	/**
+	 * Streams a committed appointment type change to the subscribers of its firm.
+	 *
+	 * @param event {@link AppointmentTypeChangedEvent} committed change
+	 */
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void appointmentTypeChanged(AppointmentTypeChangedEvent event) {
+		broadcaster.publish(event.getFirmId(), APPOINTMENT_TYPE_EVENT, CalendarEventDTO.fromEvent(event));
+	}
+}
@@ -0,0 +1,733 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.AppointmentFilterBuilder;
+import com.sinergy.chronosync.builder.CalendarDayFilterBuilder;
+import com.sinergy.chronosync.dto.response.AppointmentOccurrenceDTO;
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import com.sinergy.chronosync.event.AppointmentTypeChangedEvent;
+import com.sinergy.chronosync.event.EmployeeChangedEvent;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.calendar.CalendarDay;
+import com.sinergy.chronosync.model.calendar.CalendarDayEntry;
+import com.sinergy.chronosync.model.calendar.CalendarDayId;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.CalendarDayRepository;
+import com.sinergy.chronosync.repository.FirmRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AppointmentSeriesService;
+import com.sinergy.chronosync.service.CalendarProjectionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation maintaining the calendar projection.
+ *
+ * <p>Booking writes publish domain events. Once their transaction commits, the days they touch
+ * are queued, and a background run projects the queue in batches: the appointments of every
+ * touched day of an employee are read again with one query per firm and day, and the rows of
+ * those days are replaced. Rows are always recomputed from the appointments, so projecting a
+ * change twice, or out of order, gives the same rows, and a failed batch is simply retried with
+ * the next run.</p>
+ *
+ * <p>The queue is local to this instance: every instance projects the changes it commits itself
+ * into the shared table. Before reading the appointments of a batch, a PostgreSQL
+ * transaction-scoped advisory lock is taken per firm and day, so an instance cannot write back
+ * rows read before another instance projected a later change of the same day. Batches also hold
+ * a shared lock per firm, which a rebuild of the firm takes exclusively, so rows of a batch are
+ * never written over a rebuild running on another instance.</p>
+ *
+ * <p>Changes queued when an instance stops are lost. On startup the projection is built if it is
+ * empty, and otherwise the days with appointments changed within the reconcile window after the
+ * day was projected are projected again. The day an appointment was moved away from is not
+ * known then, so a full rebuild can be requested through the
+ * {@link com.sinergy.chronosync.config.CalendarProjectionEndpoint}. The number of queued changes,
+ * the lag of the oldest one and the delay from commit to projection are published as metrics.</p>
+ *
+ * <p>Days also hold the occurrences of recurring series, expanded through the
+ * {@link AppointmentSeriesService} when a day is projected. Series writes publish a change per
+ * occurrence, like appointments. Endless series have occurrences on every day, so occurrences
+ * are only projected up to the series horizon from now; every run projects the days the horizon
+ * has moved past since the previous one. Series changes are not reconciled on startup.</p>
+ */
+@Slf4j
+@Service
+public class CalendarProjectionServiceImpl implements CalendarProjectionService {
+
+	/**
+	 * Advisory lock namespace of firm days, next to the booking lock scopes.
+	 */
+	private static final long LOCK_NAMESPACE = 3;
+
+	/**
+	 * Advisory lock namespace of firms, shared by batches and taken exclusively by rebuilds.
+	 */
+	private static final long FIRM_LOCK_NAMESPACE = 4;
+
+	private final CalendarDayRepository calendarDayRepository;
+	private final AppointmentRepository appointmentRepository;
+	private final AppointmentSeriesService appointmentSeriesService;
+	private final UserRepository userRepository;
+	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final FirmRepository firmRepository;
+	private final TransactionTemplate transaction;
+	private final int batchSize;
+	private final boolean advisoryLocks;
+	private final Duration lockTimeout;
+	private final Duration reconcileWindow;
+	private final Duration seriesHorizon;
+	private final Queue<QueuedChange> queue = new ConcurrentLinkedQueue<>();
+	private LocalDate horizonDay;
+
+	private final Counter projectedCounter;
+	private final Counter writtenCounter;
+	private final Counter failureCounter;
+	private final Timer delayTimer;
+	private final Timer rebuildTimer;
+
+	/**
+	 * Creates the service.
+	 *
+	 * @param calendarDayRepository {@link CalendarDayRepository} to store the projection in
+	 * @param appointmentRepository {@link AppointmentRepository} to read appointments from
+	 * @param appointmentSeriesService {@link AppointmentSeriesService} to expand occurrences of series with
+	 * @param userRepository        {@link UserRepository} to read the names of employees with occurrences from
+	 * @param appointmentTypeRepository {@link AppointmentTypeRepository} to read the types of occurrences from
+	 * @param firmRepository        {@link FirmRepository} to rebuild the projection firm by firm
+	 * @param transactionManager    {@link PlatformTransactionManager} for projecting batches one by one
+	 * @param meterRegistry         {@link MeterRegistry} to publish the projection metrics to
+	 * @param batchSize             largest number of changes projected in one transaction
+	 * @param advisoryLocks         whether days are locked across instances before they are projected
+	 * @param lockTimeout           how long to wait for the lock of a day before the batch is retried
+	 * @param reconcileWindow       how far back changed appointments are compared with their days on startup
+	 * @param seriesHorizon         how far ahead occurrences of series are projected
+	 */
+	public CalendarProjectionServiceImpl(
+		CalendarDayRepository calendarDayRepository,
+		AppointmentRepository appointmentRepository,
+		AppointmentSeriesService appointmentSeriesService,
+		UserRepository userRepository,
+		AppointmentTypeRepository appointmentTypeRepository,
+		FirmRepository firmRepository,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${calendar.projection.batch-size:500}") int batchSize,
+		@Value("${appointments.locking.advisory-locks:true}") boolean advisoryLocks,
+		@Value("${appointments.locking.timeout:PT5S}") Duration lockTimeout,
+		@Value("${calendar.projection.reconcile-window:P7D}") Duration reconcileWindow,
+		@Value("${appointments.series.conflict-horizon:P365D}") Duration seriesHorizon
+	) {
+		this.calendarDayRepository = calendarDayRepository;
+		this.appointmentRepository = appointmentRepository;
+		this.appointmentSeriesService = appointmentSeriesService;
+		this.userRepository = userRepository;
+		this.appointmentTypeRepository = appointmentTypeRepository;
+		this.firmRepository = firmRepository;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.advisoryLocks = advisoryLocks;
+		this.lockTimeout = lockTimeout;
+		this.reconcileWindow = reconcileWindow;
+		this.seriesHorizon = seriesHorizon;
+		this.horizonDay = horizonDay(Instant.now().minus(reconcileWindow));
+
+		this.projectedCounter = meterRegistry.counter("calendar.projection.changes.projected");
+		this.writtenCounter = meterRegistry.counter("calendar.projection.days.written");
+		this.failureCounter = meterRegistry.counter("calendar.projection.failures");
+		this.delayTimer = meterRegistry.timer("calendar.projection.delay");
+		this.rebuildTimer = meterRegistry.timer("calendar.projection.rebuild");
+		Gauge.builder("calendar.projection.pending", queue, Queue::size).register(meterRegistry);
+		TimeGauge.builder("calendar.projection.lag", this, TimeUnit.MILLISECONDS, service -> service.getLag().toMillis())
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Retrieves the projected calendar days of a firm with a range scan of the primary key.
+	 *
+	 * @param firmId      {@link Long} ID of the firm
+	 * @param employeeIds {@link Collection} of employee IDs to filter by, all employees if empty
+	 * @param fromDay     {@link LocalDate} first day, inclusive
+	 * @param toDay       {@link LocalDate} last day, inclusive
+	 * @return {@link List} of {@link CalendarDay} ordered by day and employee
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<CalendarDay> getDays(Long firmId, Collection<Long> employeeIds, LocalDate fromDay, LocalDate toDay) {
+		CalendarDayFilterBuilder filterBuilder = CalendarDayFilterBuilder.builder()
+			.firmId(firmId)
+			.employeeIds(employeeIds)
+			.fromDay(fromDay)
+			.toDay(toDay)
+			.build();
+		return calendarDayRepository.findAll(filterBuilder.toSpecification(), Sort.by("id.day", "id.employeeId"));
+	}
+
+	/**
+	 * Queues the days touched by a committed appointment change for projection.
+	 *
+	 * @param event {@link AppointmentChangedEvent} committed change
+	 */
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void appointmentChanged(AppointmentChangedEvent event) {
+		queue.add(new QueuedChange(event, Instant.now()));
+	}
+
+	/**
+	 * Queues the days with appointments of a committed appointment type change for projection.
+	 * Only updated types change projected days.
+	 *
+	 * @param event {@link AppointmentTypeChangedEvent} committed change
+	 */
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void appointmentTypeChanged(AppointmentTypeChangedEvent event) {
+		if (event.getChange() == AppointmentTypeChangedEvent.Change.UPDATED) {
+			queue.add(new QueuedChange(event, Instant.now()));
+		}
+	}
+
+	/**
+	 * Queues the days of an employee whose personal data changed for projection.
+	 *
+	 * @param event {@link EmployeeChangedEvent} committed change
+	 */
+	@Override
+	@TransactionalEventListener(fallbackExecution = true)
+	public void employeeChanged(EmployeeChangedEvent event) {
+		queue.add(new QueuedChange(event, Instant.now()));
+	}
+
+	/**
+	 * Builds the projection once the application is ready, or reconciles it if it has been
+	 * built before.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (calendarDayRepository.count() == 0) {
+			rebuild();
+		} else {
+			reconcile();
+		}
+	}
+
+	/**
+	 * Projects again the days of the appointments changed within the reconcile window whose row
+	 * is missing or was projected before the change, e.g. because the instance that queued the
+	 * change stopped before projecting it.
+	 *
+	 * @return number of projected days
+	 */
+	public synchronized int reconcile() {
+		Instant since = Instant.now().minus(reconcileWindow);
+		Integer written = transaction.execute(status -> {
+			Map<CalendarDayId, Instant> changed = new HashMap<>();
+			for (Appointment appointment : appointmentRepository.findAll(
+				AppointmentFilterBuilder.builder().modifiedAfter(since).build().toSpecification()
+			)) {
+				changed.merge(
+					new CalendarDayId(appointment.getFirm().getId(), dayOf(appointment.getStartTime()), appointment.getEmployee().getId()),
+					appointment.getModifiedAt(),
+					(first, second) -> first.isAfter(second) ? first : second
+				);
+			}
+
+			Set<CalendarDayId> stale = new HashSet<>(changed.keySet());
+			Map<Long, List<CalendarDayId>> changedByFirm = new HashMap<>();
+			changed.keySet().forEach(id -> changedByFirm.computeIfAbsent(id.getFirmId(), key -> new ArrayList<>()).add(id));
+			changedByFirm.forEach((firmId, ids) -> calendarDayRepository.findAll(CalendarDayFilterBuilder.builder()
+					.firmId(firmId)
+					.employeeIds(ids.stream().map(CalendarDayId::getEmployeeId).collect(Collectors.toSet()))
+					.fromDay(ids.stream().map(CalendarDayId::getDay).min(Comparator.naturalOrder()).orElseThrow())
+					.toDay(ids.stream().map(CalendarDayId::getDay).max(Comparator.naturalOrder()).orElseThrow())
+					.build()
+					.toSpecification())
+				.forEach(day -> {
+					Instant modifiedAt = changed.get(day.getId());
+					if (modifiedAt != null && !day.getProjectedAt().isBefore(modifiedAt)) {
+						stale.remove(day.getId());
+					}
+				}));
+			return stale.isEmpty() ? 0 : replace(stale);
+		});
+
+		int rows = written != null ? written : 0;
+		writtenCounter.increment(rows);
+		if (rows > 0) {
+			log.info("Reconciled {} stale calendar days", rows);
+		}
+		return rows;
+	}
+
+	/**
+	 * Projects the changes queued before this run in batches, and the occurrences of the days the
+	 * series horizon has moved past. A failed batch is queued again and retried with the next run.
+	 *
+	 * @return number of projected changes
+	 */
+	@Override
+	@Scheduled(fixedDelayString = "${calendar.projection.interval:PT1S}")
+	public synchronized int project() {
+		extendHorizon();
+		int projected = 0;
+		List<QueuedChange> batch = new ArrayList<>();
+		for (int queued = queue.size(); queued > 0; queued--) {
+			QueuedChange change = queue.poll();
+			if (change == null) {
+				break;
+			}
+			batch.add(change);
+			if (batch.size() == batchSize) {
+				projected += project(batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			projected += project(batch);
+		}
+		return projected;
+	}
+
+	/**
+	 * Rebuilds the projection from scratch, one firm per transaction. The appointments of a firm
+	 * are streamed in start order and the rows of a day are inserted once the stream has passed
+	 * it, so only one day of appointments is held in memory next to the occurrences of the firm
+	 * within the series horizon.
+	 *
+	 * @return number of projected days
+	 */
+	@Override
+	public synchronized int rebuild() {
+		long started = System.nanoTime();
+		Instant projectedAt = Instant.now();
+		LocalDate horizon = horizonDay(projectedAt);
+		int rows = 0;
+		for (Firm firm : firmRepository.findAll()) {
+			Integer written = transaction.execute(status -> rebuild(firm.getId(), projectedAt, horizon));
+			rows += written != null ? written : 0;
+		}
+		horizonDay = horizon;
+
+		rebuildTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+		writtenCounter.increment(rows);
+		log.info("Rebuilt {} calendar days in {} ms", rows, (System.nanoTime() - started) / 1_000_000);
+		return rows;
+	}
+
+	/**
+	 * Rebuilds the rows of a firm while holding the firm lock exclusively, so no batch projects
+	 * a day of the firm until the transaction ends.
+	 */
+	private int rebuild(Long firmId, Instant projectedAt, LocalDate horizon) {
+		if (advisoryLocks) {
+			appointmentRepository.lockTransactionScoped(new long[]{firmLockKey(firmId)}, lockTimeout);
+		}
+		calendarDayRepository.deleteFirmDays(firmId);
+
+		TreeMap<LocalDate, Map<CalendarDayId, CalendarDay>> occurrenceDays = new TreeMap<>();
+		addOccurrences(
+			firmId,
+			appointmentSeriesService.findOccurrences(firmId, List.of(), Instant.EPOCH, startOf(horizon)),
+			projectedAt,
+			id -> true,
+			day -> occurrenceDays.computeIfAbsent(day, key -> new LinkedHashMap<>())
+		);
+
+		int[] inserted = {0};
+		LocalDate[] currentDay = {null};
+		Map<CalendarDayId, CalendarDay> days = new LinkedHashMap<>();
+		appointmentRepository.forEachCalendarEntry(
+			AppointmentFilterBuilder.builder().firmId(firmId).build().toSpecification(),
+			(id, entryFirmId, employeeId, firstName, lastName, appointmentTypeId, typeName, colorCode, startTime, endTime, status) -> {
+				LocalDate day = dayOf(startTime);
+				if (!day.equals(currentDay[0])) {
+					inserted[0] += flush(days, currentDay[0], day, occurrenceDays);
+					currentDay[0] = day;
+				}
+				add(days, projectedAt, id, entryFirmId, employeeId, firstName, lastName, appointmentTypeId, typeName, colorCode,
+					startTime, endTime, status, null, null);
+			}
+		);
+		return inserted[0] + flush(days, currentDay[0], null, occurrenceDays);
+	}
+
+	/**
+	 * Inserts the rows of a day together with the occurrences of that day, followed by the rows
+	 * of the days with occurrences only before the next day, or of all remaining days at the end.
+	 */
+	private int flush(
+		Map<CalendarDayId, CalendarDay> days, LocalDate day, LocalDate nextDay,
+		TreeMap<LocalDate, Map<CalendarDayId, CalendarDay>> occurrenceDays
+	) {
+		if (day != null) {
+			occurrenceDays.getOrDefault(day, Map.of()).forEach((id, occurrences) -> days.merge(id, occurrences, (existing, added) -> {
+				existing.getEntries().addAll(added.getEntries());
+				return existing;
+			}));
+			occurrenceDays.remove(day);
+		}
+		int inserted = insert(days.values());
+		days.clear();
+
+		Map<LocalDate, Map<CalendarDayId, CalendarDay>> passed = nextDay != null ? occurrenceDays.headMap(nextDay) : occurrenceDays;
+		for (Map<CalendarDayId, CalendarDay> occurrences : passed.values()) {
+			inserted += insert(occurrences.values());
+		}
+		passed.clear();
+		return inserted;
+	}
+
+	/**
+	 * Projects the occurrences of the days the series horizon has moved past since the previous
+	 * run, with one query per firm. The horizon only moves on once they are projected.
+	 */
+	private void extendHorizon() {
+		LocalDate from = horizonDay;
+		LocalDate to = horizonDay(Instant.now());
+		if (!to.isAfter(from)) {
+			return;
+		}
+		try {
+			Set<CalendarDayId> days = new HashSet<>();
+			for (Firm firm : firmRepository.findAll()) {
+				for (AppointmentOccurrenceDTO occurrence : appointmentSeriesService.findOccurrences(
+					firm.getId(), List.of(), startOf(from), startOf(to)
+				)) {
+					LocalDate day = dayOf(occurrence.getStartTime());
+					if (!day.isBefore(from)) {
+						days.add(new CalendarDayId(firm.getId(), day, occurrence.getEmployeeId()));
+					}
+				}
+			}
+			if (!days.isEmpty()) {
+				Integer written = transaction.execute(status -> replace(days));
+				writtenCounter.increment(written != null ? written : 0);
+			}
+			horizonDay = to;
+		} catch (RuntimeException e) {
+			failureCounter.increment();
+			log.warn("Failed to project series occurrences up to {}, retrying with the next run.", to, e);
+		}
+	}
+
+	/**
+	 * Returns the number of changes waiting to be projected.
+	 *
+	 * @return number of queued changes
+	 */
+	@Override
+	public int getPending() {
+		return queue.size();
+	}
+
+	/**
+	 * Returns how long the oldest queued change has been waiting to be projected.
+	 *
+	 * @return {@link Duration} lag of the projection, zero if nothing is queued
+	 */
+	@Override
+	public Duration getLag() {
+		QueuedChange oldest = queue.peek();
+		return oldest == null ? Duration.ZERO : Duration.between(oldest.getQueuedAt(), Instant.now());
+	}
+
+	private int project(List<QueuedChange> batch) {
+		try {
+			Integer written = transaction.execute(status -> replace(touchedDays(batch)));
+			Instant now = Instant.now();
+			batch.forEach(change -> delayTimer.record(Duration.between(change.getQueuedAt(), now)));
+			projectedCounter.increment(batch.size());
+			writtenCounter.increment(written != null ? written : 0);
+			return batch.size();
+		} catch (RuntimeException e) {
+			failureCounter.increment();
+			queue.addAll(batch);
+			log.warn("Failed to project {} calendar changes, retrying with the next run.", batch.size(), e);
+			return 0;
+		}
+	}
+
+	/**
+	 * Resolves the days touched by the changes. Cancellations do not carry the employee and time
+	 * of the appointment, so the cancelled appointments are read with one query.
+	 */
+	private Set<CalendarDayId> touchedDays(List<QueuedChange> batch) {
+		Set<CalendarDayId> days = new HashSet<>();
+		List<Long> unresolved = new ArrayList<>();
+
+		for (QueuedChange change : batch) {
+			if (change.getEvent() instanceof AppointmentChangedEvent event) {
+				if (event.getEmployeeId() != null) {
+					days.add(new CalendarDayId(event.getFirmId(), dayOf(event.getStartTime()), event.getEmployeeId()));
+				} else {
+					unresolved.add(event.getAppointmentId());
+				}
+				if (event.getPreviousEmployeeId() != null) {
+					days.add(new CalendarDayId(event.getFirmId(), dayOf(event.getPreviousStartTime()), event.getPreviousEmployeeId()));
+				}
+			} else if (change.getEvent() instanceof AppointmentTypeChangedEvent event) {
+				appointmentRepository.forEachCalendarEntry(
+					AppointmentFilterBuilder.builder()
+						.firmId(event.getFirmId())
+						.appointmentTypeId(event.getAppointmentTypeId())
+						.build()
+						.toSpecification(),
+					(id, firmId, employeeId, firstName, lastName, appointmentTypeId, typeName, colorCode, startTime, endTime, status) ->
+						days.add(new CalendarDayId(firmId, dayOf(startTime), employeeId))
+				);
+				appointmentSeriesService.findOccurrences(event.getFirmId(), List.of(), Instant.EPOCH, startOf(horizonDay(Instant.now())))
+					.stream()
+					.filter(occurrence -> event.getAppointmentTypeId().equals(occurrence.getAppointmentTypeId()))
+					.forEach(occurrence -> days.add(
+						new CalendarDayId(event.getFirmId(), dayOf(occurrence.getStartTime()), occurrence.getEmployeeId())
+					));
+			} else if (change.getEvent() instanceof EmployeeChangedEvent event) {
+				calendarDayRepository.findAll(CalendarDayFilterBuilder.builder()
+						.employeeIds(List.of(event.getEmployeeId()))
+						.build()
+						.toSpecification())
+					.forEach(day -> days.add(day.getId()));
+			}
+		}
+
+		if (!unresolved.isEmpty()) {
+			for (Appointment appointment : appointmentRepository.findAllById(unresolved)) {
+				days.add(new CalendarDayId(
+					appointment.getFirm().getId(), dayOf(appointment.getStartTime()), appointment.getEmployee().getId()
+				));
+			}
+		}
+		return days;
+	}
+
+	/**
+	 * Recomputes the given days from the appointments, with one query per firm and day, and from
+	 * the occurrences of series within the horizon, with one query per firm, and replaces their
+	 * rows. Days without appointments are deleted. The firms are locked shared and then the firm
+	 * days exclusively, in key order, before they are read, and stay locked until the transaction ends.
+	 */
+	private int replace(Set<CalendarDayId> touched) {
+		Map<CalendarDayId, Set<Long>> employeesByFirmDay = new HashMap<>();
+		for (CalendarDayId id : touched) {
+			employeesByFirmDay.computeIfAbsent(new CalendarDayId(id.getFirmId(), id.getDay(), null), key -> new HashSet<>())
+				.add(id.getEmployeeId());
+		}
+		if (advisoryLocks) {
+			appointmentRepository.lockSharedTransactionScoped(touched.stream()
+				.mapToLong(id -> firmLockKey(id.getFirmId()))
+				.sorted()
+				.distinct()
+				.toArray(), lockTimeout);
+			appointmentRepository.lockTransactionScoped(employeesByFirmDay.keySet().stream()
+				.mapToLong(CalendarProjectionServiceImpl::lockKey)
+				.sorted()
+				.distinct()
+				.toArray(), lockTimeout);
+		}
+
+		Instant projectedAt = Instant.now();
+		Map<CalendarDayId, CalendarDay> days = new LinkedHashMap<>();
+		employeesByFirmDay.forEach((firmDay, employeeIds) -> {
+			Instant dayStart = firmDay.getDay().atStartOfDay(ZoneOffset.UTC).toInstant();
+			appointmentRepository.forEachCalendarEntry(
+				AppointmentFilterBuilder.builder()
+					.firmId(firmDay.getFirmId())
+					.employeeIds(employeeIds)
+					.from(dayStart)
+					.to(dayStart.plus(Duration.ofDays(1)))
+					.build()
+					.toSpecification(),
+				(id, firmId, employeeId, firstName, lastName, appointmentTypeId, typeName, colorCode, startTime, endTime, status) -> {
+					if (!startTime.isBefore(dayStart)) {
+						add(days, projectedAt, id, firmId, employeeId, firstName, lastName, appointmentTypeId, typeName, colorCode,
+							startTime, endTime, status, null, null);
+					}
+				}
+			);
+		});
+
+		LocalDate horizon = horizonDay(projectedAt);
+		Map<Long, List<CalendarDayId>> touchedByFirm = new HashMap<>();
+		touched.stream()
+			.filter(id -> id.getDay().isBefore(horizon))
+			.forEach(id -> touchedByFirm.computeIfAbsent(id.getFirmId(), key -> new ArrayList<>()).add(id));
+		touchedByFirm.forEach((firmId, ids) -> addOccurrences(
+			firmId,
+			appointmentSeriesService.findOccurrences(
+				firmId,
+				ids.stream().map(CalendarDayId::getEmployeeId).collect(Collectors.toSet()),
+				startOf(ids.stream().map(CalendarDayId::getDay).min(Comparator.naturalOrder()).orElseThrow()),
+				startOf(ids.stream().map(CalendarDayId::getDay).max(Comparator.naturalOrder()).orElseThrow().plusDays(1))
+			),
+			projectedAt,
+			touched::contains,
+			day -> days
+		));
+
+		calendarDayRepository.deleteDays(touched);
+		return insert(days.values());
+	}
+
+	/**
+	 * Adds the occurrences of a firm starting on accepted days to the rows returned for their day,
+	 * with the names of the employees and types read with one query each.
+	 */
+	private void addOccurrences(
+		Long firmId,
+		List<AppointmentOccurrenceDTO> occurrences,
+		Instant projectedAt,
+		Predicate<CalendarDayId> accepted,
+		Function<LocalDate, Map<CalendarDayId, CalendarDay>> daysOf
+	) {
+		List<AppointmentOccurrenceDTO> added = occurrences.stream()
+			.filter(occurrence -> accepted.test(
+				new CalendarDayId(firmId, dayOf(occurrence.getStartTime()), occurrence.getEmployeeId())
+			))
+			.toList();
+		if (added.isEmpty()) {
+			return;
+		}
+		Map<Long, User> employees = userRepository.findAllById(
+			added.stream().map(AppointmentOccurrenceDTO::getEmployeeId).collect(Collectors.toSet())
+		).stream().collect(Collectors.toMap(User::getId, Function.identity()));
+		Map<Long, AppointmentType> types = appointmentTypeRepository.findAllById(
+			added.stream().map(AppointmentOccurrenceDTO::getAppointmentTypeId).collect(Collectors.toSet())
+		).stream().collect(Collectors.toMap(AppointmentType::getId, Function.identity()));
+
+		for (AppointmentOccurrenceDTO occurrence : added) {
+			User employee = employees.get(occurrence.getEmployeeId());
+			AppointmentType type = types.get(occurrence.getAppointmentTypeId());
+			add(
+				daysOf.apply(dayOf(occurrence.getStartTime())), projectedAt,
+				0, firmId, occurrence.getEmployeeId(),
+				employee != null ? employee.getFirstName() : null,
+				employee != null ? employee.getLastName() : null,
+				occurrence.getAppointmentTypeId(),
+				type != null ? type.getName() : null,
+				type != null ? type.getColorCode() : null,
+				occurrence.getStartTime(), occurrence.getEndTime(), AppointmentStatus.BOOKED,
+				occurrence.getSeriesId(), occurrence.getOriginalStartTime()
+			);
+		}
+	}
+
+	/**
+	 * Inserts the given rows with their entries in start order, since occurrences are added after
+	 * the appointments of a day.
+	 */
+	private int insert(Collection<CalendarDay> days) {
+		days.forEach(day -> day.getEntries().sort(Comparator.comparingInt(CalendarDayEntry::getStartMinute)));
+		return days.isEmpty() ? 0 : calendarDayRepository.insertDays(new ArrayList<>(days));
+	}
+
+	private static void add(
+		Map<CalendarDayId, CalendarDay> days, Instant projectedAt,
+		long id, long firmId, long employeeId, String firstName, String lastName,
+		long appointmentTypeId, String typeName, String colorCode,
+		Instant startTime, Instant endTime, AppointmentStatus status,
+		Long seriesId, Instant originalStartTime
+	) {
+		LocalDate day = dayOf(startTime);
+		CalendarDay calendarDay = days.computeIfAbsent(new CalendarDayId(firmId, day, employeeId), key -> CalendarDay.builder()
+			.id(key)
+			.firstName(firstName)
+			.lastName(lastName)
+			.entries(new ArrayList<>())
+			.projectedAt(projectedAt)
+			.build());
+		calendarDay.getEntries().add(CalendarDayEntry.builder()
+			.id(id)
+			.startMinute((int) Duration.between(day.atStartOfDay(ZoneOffset.UTC).toInstant(), startTime).toMinutes())
+			.durationMinutes((int) Duration.between(startTime, endTime).toMinutes())
+			.appointmentTypeId(appointmentTypeId)
+			.typeName(typeName)
+			.colorCode(colorCode)
+			.status(status)
+			.seriesId(seriesId)
+			.originalStartTime(originalStartTime)
+			.build());
+	}
+
+	/**
+	 * Returns the first day whose occurrences are not projected yet at the given time.
+	 */
+	private LocalDate horizonDay(Instant time) {
+		return dayOf(time.plus(seriesHorizon));
+	}
+
+	private static LocalDate dayOf(Instant time) {
+		return LocalDate.ofInstant(time, ZoneOffset.UTC);
+	}
+
+	private static Instant startOf(LocalDate day) {
+		return day.atStartOfDay(ZoneOffset.UTC).toInstant();
+	}
+
+	/**
+	 * Builds the advisory lock key of a firm day, with the namespace in the top 16 bits like the
+	 * keys of the {@link com.sinergy.chronosync.config.BookingLockCoordinator}. Firm days sharing
+	 * a key are merely projected one after the other.
+	 */
+	private static long lockKey(CalendarDayId firmDay) {
+		return LOCK_NAMESPACE << 48 | (firmDay.getFirmId() * 31 + firmDay.getDay().toEpochDay()) & 0xFFFF_FFFF_FFFFL;
+	}
+
+	/**
+	 * Builds the advisory lock key of a firm, with the namespace in the top 16 bits.
+	 */
+	private static long firmLockKey(long firmId) {
+		return FIRM_LOCK_NAMESPACE << 48 | firmId & 0xFFFF_FFFF_FFFFL;
+	}
+
+	/**
+	 * Committed change waiting to be projected, with the time it was queued.
+	 */
+	@Getter
+	@AllArgsConstructor
+	private static final class QueuedChange {
+
+		private final Object event;
+		private final Instant queuedAt;
+	}
+}
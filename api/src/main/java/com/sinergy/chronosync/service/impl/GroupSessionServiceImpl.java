@@ -0,0 +1,191 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.AppointmentAttendeeFilterBuilder;
+import com.sinergy.chronosync.builder.AppointmentFilterBuilder;
+import com.sinergy.chronosync.config.SessionSeatCounter;
+import com.sinergy.chronosync.dto.request.GroupSessionSignupRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentAttendeeDTO;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentAttendee;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.customer.Customer;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.repository.AppointmentAttendeeRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.CustomerRepository;
+import com.sinergy.chronosync.service.AuditService;
+import com.sinergy.chronosync.service.GroupSessionService;
+import com.sinergy.chronosync.service.UserService;
+import com.sinergy.chronosync.util.SqlStateUtils;
+import com.sinergy.chronosync.util.TransactionUtils;
+import lombok.AllArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Service implementation for signing customers up to group sessions.
+ *
+ * <p>A group session is an appointment of a type with a capacity above one, which counts its
+ * seats left. A signup first takes a seat from the {@link SessionSeatCounter}, so signups to a
+ * full session are rejected in memory. It then inserts the attendee and takes the seat in the
+ * database with a single conditional update as its last statement, so the session row is locked
+ * only from that update until the commit and the seats left never drop below zero.</p>
+ */
+@Service
+@AllArgsConstructor
+public class GroupSessionServiceImpl implements GroupSessionService {
+
+	private static final String SESSION_FULL_MESSAGE = "Group session is fully booked.";
+
+	private final AppointmentRepository appointmentRepository;
+	private final AppointmentAttendeeRepository attendeeRepository;
+	private final CustomerRepository customerRepository;
+	private final UserService userService;
+	private final AuditService auditService;
+	private final SessionSeatCounter seatCounter;
+
+	/**
+	 * Signs a customer up to a booked group session of the current user's firm.
+	 *
+	 * @param request {@link GroupSessionSignupRequestDTO} session and customer
+	 * @return {@link AppointmentAttendeeDTO} created signup
+	 * @throws UserNotFoundException    if the user is not found.
+	 * @throws InvalidStateException    if the session or the customer is missing or outside the
+	 *                                  current user's firm, or the appointment is not a booked group session.
+	 * @throws BookingConflictException if no seat is left or the customer is already signed up.
+	 */
+	@Override
+	@Transactional
+	public AppointmentAttendeeDTO signUp(GroupSessionSignupRequestDTO request) {
+		if (request.getAppointmentId() == null || request.getCustomerId() == null) {
+			throw new InvalidStateException("Group session and customer are required.");
+		}
+
+		Firm firm = userService.getAuthUserFirm();
+		Appointment session = findSession(firm, request.getAppointmentId(), AppointmentStatus.BOOKED);
+		Customer customer = customerRepository.findById(request.getCustomerId())
+			.filter(c -> c.getFirm().getId().equals(firm.getId()))
+			.orElseThrow(() -> new InvalidStateException("Customer with ID " + request.getCustomerId() + " does not exist."));
+
+		SessionSeatCounter.Seat seat = seatCounter.tryTake(session.getId(), session.getSeatsLeft());
+		if (seat == null) {
+			throw new BookingConflictException(SESSION_FULL_MESSAGE);
+		}
+		releaseOnRollback(seat);
+
+		AppointmentAttendee attendee;
+		try {
+			attendee = attendeeRepository.saveAndFlush(AppointmentAttendee.builder()
+				.appointment(session)
+				.customer(customer)
+				.build());
+		} catch (DataIntegrityViolationException e) {
+			if (SqlStateUtils.hasSqlState(e, SqlStateUtils.UNIQUE_VIOLATION)) {
+				throw new BookingConflictException("Customer is already signed up for the group session.");
+			}
+			throw e;
+		}
+
+		if (!appointmentRepository.takeSeat(session.getId())) {
+			seatCounter.evict(session.getId());
+			throw new BookingConflictException(SESSION_FULL_MESSAGE);
+		}
+		auditService.publish(AuditAction.CREATE, AppointmentAttendee.class, attendee.getId());
+
+		return AppointmentAttendeeDTO.fromModel(attendee);
+	}
+
+	/**
+	 * Cancels the signup of a customer to a group session of the current user's firm. The seat is
+	 * returned to the counter once the cancellation commits.
+	 *
+	 * @param request {@link GroupSessionSignupRequestDTO} session and customer
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the session does not exist or the customer is not signed up.
+	 */
+	@Override
+	@Transactional
+	public void cancelSignup(GroupSessionSignupRequestDTO request) {
+		Appointment session = findSession(userService.getAuthUserFirm(), request.getAppointmentId(), null);
+		AppointmentAttendeeFilterBuilder filterBuilder = AppointmentAttendeeFilterBuilder.builder()
+			.appointmentId(session.getId())
+			.customerId(request.getCustomerId())
+			.build();
+		AppointmentAttendee attendee = attendeeRepository.findOne(filterBuilder.toSpecification())
+			.orElse(null);
+
+		// Deleted with a statement of its own, so a concurrent cancellation returns the seat only once.
+		if (attendee == null || attendeeRepository.delete(filterBuilder.toSpecification()) == 0) {
+			throw new InvalidStateException(
+				"Customer with ID " + request.getCustomerId() + " is not signed up for the group session."
+			);
+		}
+		appointmentRepository.returnSeat(session.getId());
+
+		TransactionUtils.afterCommit(() -> seatCounter.returned(session.getId()));
+		auditService.publish(AuditAction.DELETE, AppointmentAttendee.class, attendee.getId());
+	}
+
+	/**
+	 * Retrieves the attendees of a group session of the current user's firm.
+	 *
+	 * @param appointmentId {@link Long} ID of the group session
+	 * @return {@link List} of {@link AppointmentAttendeeDTO} in signup order
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the session does not exist.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<AppointmentAttendeeDTO> getAttendees(Long appointmentId) {
+		Appointment session = findSession(userService.getAuthUserFirm(), appointmentId, null);
+		return attendeeRepository
+			.findAll(
+				AppointmentAttendeeFilterBuilder.builder().appointmentId(session.getId()).build().toSpecification(),
+				Sort.by("id")
+			)
+			.stream()
+			.map(AppointmentAttendeeDTO::fromModel)
+			.toList();
+	}
+
+	private Appointment findSession(Firm firm, Long appointmentId, AppointmentStatus status) {
+		return appointmentRepository
+			.findOne(AppointmentFilterBuilder.builder()
+				.id(appointmentId)
+				.firmId(firm.getId())
+				.status(status)
+				.build()
+				.toSpecification())
+			.filter(appointment -> appointment.getSeatsLeft() != null)
+			.orElseThrow(() -> new InvalidStateException(
+				(status == AppointmentStatus.BOOKED ? "Booked group session" : "Group session")
+					+ " with ID " + appointmentId + " does not exist."
+			));
+	}
+
+	/**
+	 * Gives the seat back to its counter unless the signup commits.
+	 */
+	private static void releaseOnRollback(SessionSeatCounter.Seat seat) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						seat.release();
+					}
+				}
+			});
+		}
+	}
+}
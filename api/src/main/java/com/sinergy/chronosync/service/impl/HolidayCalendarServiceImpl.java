@@ -0,0 +1,282 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.FirmClosureFilterBuilder;
+import com.sinergy.chronosync.config.ClosedDayCalendar;
+import com.sinergy.chronosync.dto.response.FirmClosureResponseDTO;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.firm.FirmClosure;
+import com.sinergy.chronosync.repository.FirmClosureRepository;
+import com.sinergy.chronosync.repository.FirmRepository;
+import com.sinergy.chronosync.service.AuditService;
+import com.sinergy.chronosync.service.HolidayCalendarService;
+import com.sinergy.chronosync.service.UserService;
+import com.sinergy.chronosync.util.ICalendarParser;
+import com.sinergy.chronosync.util.RecurrenceRule;
+import com.sinergy.chronosync.util.TransactionUtils;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Service implementation for managing holiday calendars of firms.
+ *
+ * <p>A holiday calendar is an iCalendar file of all-day events. Importing it stores every event
+ * as a {@link FirmClosure} tagged with the name of the calendar, recurring events expanded from
+ * the previous year up to the configured number of years ahead. Re-importing a calendar only
+ * deletes the closures that are no longer in the file and inserts the new ones, so unchanged
+ * holidays keep their IDs. Closed days are looked up in the {@link ClosedDayCalendar}, which is
+ * updated once the import commits.</p>
+ */
+@Service
+public class HolidayCalendarServiceImpl implements HolidayCalendarService {
+
+	/**
+	 * Longest allowed name of a holiday calendar.
+	 */
+	static final int MAX_NAME_LENGTH = 64;
+
+	/**
+	 * Largest number of closures a single calendar may expand to.
+	 */
+	static final int MAX_CLOSURES = 5000;
+
+	private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+	private final FirmClosureRepository closureRepository;
+	private final FirmRepository firmRepository;
+	private final UserService userService;
+	private final AuditService auditService;
+	private final ClosedDayCalendar closedDays;
+	private final int importYears;
+
+	/**
+	 * Creates the service.
+	 *
+	 * @param closureRepository {@link FirmClosureRepository} to store imported closures in
+	 * @param firmRepository    {@link FirmRepository} to read firms from
+	 * @param userService       {@link UserService} resolving the current user's firm
+	 * @param auditService      {@link AuditService} recording imported and deleted closures
+	 * @param closedDays        {@link ClosedDayCalendar} of the days firms are closed on
+	 * @param importYears       number of years after the current one recurring holidays are expanded to
+	 */
+	public HolidayCalendarServiceImpl(
+		FirmClosureRepository closureRepository,
+		FirmRepository firmRepository,
+		UserService userService,
+		AuditService auditService,
+		ClosedDayCalendar closedDays,
+		@Value("${holidays.import-years:5}") int importYears
+	) {
+		this.closureRepository = closureRepository;
+		this.firmRepository = firmRepository;
+		this.userService = userService;
+		this.auditService = auditService;
+		this.closedDays = closedDays;
+		this.importYears = importYears;
+	}
+
+	/**
+	 * Imports an iCalendar file as a holiday calendar of the current user's firm.
+	 *
+	 * @param name    {@link String} name of the calendar
+	 * @param content {@link String} content of the iCalendar file
+	 * @return {@link List} of {@link FirmClosureResponseDTO} of the calendar ordered by start date
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the name is invalid or the file cannot be read.
+	 */
+	@Override
+	@Transactional
+	public List<FirmClosureResponseDTO> importCalendar(String name, String content) {
+		return importCalendar(userService.getAuthUserFirm(), name, content);
+	}
+
+	/**
+	 * Imports an iCalendar file as a holiday calendar of a firm.
+	 *
+	 * @param firmId  {@link Long} ID of the firm
+	 * @param name    {@link String} name of the calendar
+	 * @param content {@link String} content of the iCalendar file
+	 * @return {@link List} of {@link FirmClosureResponseDTO} of the calendar ordered by start date
+	 * @throws InvalidStateException if the firm does not exist, the name is invalid or the file
+	 *                               cannot be read.
+	 */
+	@Override
+	@Transactional
+	public List<FirmClosureResponseDTO> importCalendar(Long firmId, String name, String content) {
+		Firm firm = firmRepository.findById(firmId)
+			.orElseThrow(() -> new InvalidStateException("Firm with ID " + firmId + " does not exist."));
+		return importCalendar(firm, name, content);
+	}
+
+	/**
+	 * Deletes a holiday calendar of the current user's firm with all of its closures.
+	 *
+	 * @param name {@link String} name of the calendar
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the calendar does not exist.
+	 */
+	@Override
+	@Transactional
+	public void deleteCalendar(String name) {
+		Firm firm = userService.getAuthUserFirm();
+		List<FirmClosure> closures = findCalendar(firm.getId(), name);
+		if (closures.isEmpty()) {
+			throw new InvalidStateException("Holiday calendar " + name + " does not exist.");
+		}
+		closureRepository.deleteAll(closures);
+
+		TransactionUtils.afterCommit(() -> closures.forEach(closure ->
+			closedDays.reopened(firm.getId(), closure.getStartDate(), closure.getEndDate())));
+		closures.forEach(closure -> auditService.publish(AuditAction.DELETE, FirmClosure.class, closure.getId()));
+	}
+
+	/**
+	 * Retrieves the days of a year on which the current user's firm is closed, from manual
+	 * closures and holiday calendars.
+	 *
+	 * @param year year to retrieve
+	 * @return {@link List} of closed {@link LocalDate} in ascending order
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the year is out of range.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<LocalDate> getClosedDays(int year) {
+		if (year < 1 || year > 9999) {
+			throw new InvalidStateException("Year must be between 1 and 9999.");
+		}
+		return closedDays.getClosedDays(userService.getAuthUserFirm().getId(), year);
+	}
+
+	/**
+	 * Replaces the closures of the calendar with the events of the file, keeping closures
+	 * with the same days and description.
+	 */
+	private List<FirmClosureResponseDTO> importCalendar(Firm firm, String name, String content) {
+		if (name == null || name.isBlank() || name.length() > MAX_NAME_LENGTH) {
+			throw new InvalidStateException("Holiday calendar name is required and cannot be longer than "
+				+ MAX_NAME_LENGTH + " characters.");
+		}
+
+		Set<ClosureKey> imported = expand(content);
+		List<FirmClosure> kept = new ArrayList<>();
+		List<FirmClosure> removed = new ArrayList<>();
+		for (FirmClosure closure : findCalendar(firm.getId(), name)) {
+			if (imported.remove(new ClosureKey(closure.getStartDate(), closure.getEndDate(), closure.getDescription()))) {
+				kept.add(closure);
+			} else {
+				removed.add(closure);
+			}
+		}
+		closureRepository.deleteAll(removed);
+
+		List<FirmClosure> added = closureRepository.saveAll(imported.stream()
+			.map(key -> FirmClosure.builder()
+				.firm(firm)
+				.startDate(key.startDate)
+				.endDate(key.endDate)
+				.description(key.description)
+				.calendar(name)
+				.build())
+			.toList());
+
+		TransactionUtils.afterCommit(() -> {
+			removed.forEach(closure -> closedDays.reopened(firm.getId(), closure.getStartDate(), closure.getEndDate()));
+			added.forEach(closure -> closedDays.closed(firm.getId(), closure.getStartDate(), closure.getEndDate()));
+		});
+		removed.forEach(closure -> auditService.publish(AuditAction.DELETE, FirmClosure.class, closure.getId()));
+		added.forEach(closure -> auditService.publish(AuditAction.CREATE, FirmClosure.class, closure.getId()));
+
+		List<FirmClosure> closures = new ArrayList<>(kept);
+		closures.addAll(added);
+		return closures.stream()
+			.sorted(Comparator.comparing(FirmClosure::getStartDate).thenComparing(FirmClosure::getId))
+			.map(FirmClosureResponseDTO::fromModel)
+			.toList();
+	}
+
+	/**
+	 * Reads the closures of the file. Occurrences of recurring events are expanded from the
+	 * start of the previous year to the end of the last imported year.
+	 */
+	private Set<ClosureKey> expand(String content) {
+		List<ICalendarParser.Event> events;
+		try {
+			events = ICalendarParser.parse(content);
+		} catch (IllegalArgumentException e) {
+			throw new InvalidStateException("Holiday calendar cannot be read: " + e.getMessage());
+		}
+
+		int currentYear = LocalDate.now(ZoneOffset.UTC).getYear();
+		LocalDate first = LocalDate.of(currentYear - 1, 1, 1);
+		LocalDate last = LocalDate.of(currentYear + importYears, 12, 31);
+
+		Set<ClosureKey> closures = new LinkedHashSet<>();
+		for (ICalendarParser.Event event : events) {
+			if (event.getRecurrenceRule() == null) {
+				add(closures, new ClosureKey(event.getStartDate(), event.getEndDate(), description(event)));
+				continue;
+			}
+
+			RecurrenceRule rule;
+			try {
+				rule = RecurrenceRule.parse(event.getRecurrenceRule());
+			} catch (IllegalArgumentException e) {
+				throw new InvalidStateException("Holiday calendar event " + event.getUid() + " has an invalid recurrence: "
+					+ e.getMessage());
+			}
+			long days = ChronoUnit.DAYS.between(event.getStartDate(), event.getEndDate());
+			ZonedDateTime start = event.getStartDate().atStartOfDay(ZoneOffset.UTC);
+			Iterator<ZonedDateTime> occurrences = rule.iterator(start, first.minusDays(days).atStartOfDay(ZoneOffset.UTC).toInstant());
+			while (occurrences.hasNext()) {
+				LocalDate date = occurrences.next().toLocalDate();
+				if (date.isAfter(last)) {
+					break;
+				}
+				add(closures, new ClosureKey(date, date.plusDays(days), description(event)));
+			}
+		}
+		return closures;
+	}
+
+	private static String description(ICalendarParser.Event event) {
+		String summary = event.getSummary();
+		return summary != null && summary.length() > MAX_DESCRIPTION_LENGTH ? summary.substring(0, MAX_DESCRIPTION_LENGTH) : summary;
+	}
+
+	private static void add(Set<ClosureKey> closures, ClosureKey closure) {
+		closures.add(closure);
+		if (closures.size() > MAX_CLOSURES) {
+			throw new InvalidStateException("Holiday calendar cannot have more than " + MAX_CLOSURES + " closures.");
+		}
+	}
+
+	private List<FirmClosure> findCalendar(Long firmId, String name) {
+		return closureRepository.findAll(
+			FirmClosureFilterBuilder.builder().firmId(firmId).calendar(name).build().toSpecification()
+		);
+	}
+
+	/**
+	 * Days and description identifying an imported closure.
+	 */
+	@EqualsAndHashCode
+	@AllArgsConstructor
+	private static final class ClosureKey {
+
+		private final LocalDate startDate;
+		private final LocalDate endDate;
+		private final String description;
+	}
+}
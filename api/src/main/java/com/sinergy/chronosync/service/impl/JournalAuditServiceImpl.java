@@ -0,0 +1,38 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.model.audit.AuditLog;
+import com.sinergy.chronosync.util.AuditJournal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Audit service implementation that appends entries to the memory-mapped {@link AuditJournal}.
+ *
+ * <p>Recording an entry is a copy into mapped memory on the publishing thread. The entries
+ * reach the database or NDJSON files through the journal exporter.</p>
+ */
+@Service
+@ConditionalOnProperty(name = "audit.sink", havingValue = "journal")
+public class JournalAuditServiceImpl extends AbstractAuditService {
+
+	private final AuditJournal auditJournal;
+	private final Counter publishedCounter;
+
+	public JournalAuditServiceImpl(AuditJournal auditJournal, MeterRegistry meterRegistry) {
+		this.auditJournal = auditJournal;
+		this.publishedCounter = meterRegistry.counter("audit.events.published");
+	}
+
+	/**
+	 * Appends the entry to the journal.
+	 *
+	 * @param entry {@link AuditLog} entry to record
+	 */
+	@Override
+	protected void record(AuditLog entry) {
+		publishedCounter.increment();
+		auditJournal.append(entry);
+	}
+}
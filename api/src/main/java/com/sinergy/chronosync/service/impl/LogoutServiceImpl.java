@@ -2,7 +2,10 @@ package com.sinergy.chronosync.service.impl;
 
 import com.sinergy.chronosync.builder.TokenFilterBuilder;
 import com.sinergy.chronosync.model.Token;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.repository.TokenRepository;
+import com.sinergy.chronosync.service.AuditService;
 import com.sinergy.chronosync.service.LogoutService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -12,6 +15,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Logout service implementation with logout handler.
@@ -21,6 +25,7 @@ import org.springframework.stereotype.Service;
 public class LogoutServiceImpl implements LogoutService, LogoutHandler {
 
 	private final TokenRepository tokenRepository;
+	private final AuditService auditService;
 
 	/**
 	 * <p> Extracts the JWT token from the {@code Authorization} header of the
@@ -32,6 +37,7 @@ public class LogoutServiceImpl implements LogoutService, LogoutHandler {
 	 * @param authentication {@link Authentication} object containing authentication
 	 */
 	@Override
+	@Transactional
 	public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
 		String authHeader = request.getHeader("Authorization");
 		String jwt;
@@ -46,6 +52,7 @@ public class LogoutServiceImpl implements LogoutService, LogoutHandler {
 			.orElseThrow(() -> new ServiceException("Invalid JWT token"));
 
 		tokenRepository.delete(storedToken);
+		auditService.publish(AuditAction.LOGOUT, User.class, storedToken.getUser().getId());
 		SecurityContextHolder.clearContext();
 	}
 }
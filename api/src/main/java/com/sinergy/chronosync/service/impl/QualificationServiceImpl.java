@@ -0,0 +1,145 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.EmployeeQualificationFilterBuilder;
+import com.sinergy.chronosync.builder.UserFilterBuilder;
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.dto.request.EmployeeQualificationRequestDTO;
+import com.sinergy.chronosync.dto.response.EmployeeQualificationResponseDTO;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.EmployeeQualification;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.EmployeeQualificationRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AuditService;
+import com.sinergy.chronosync.service.QualificationService;
+import com.sinergy.chronosync.service.UserService;
+import com.sinergy.chronosync.util.SqlStateUtils;
+import com.sinergy.chronosync.util.TransactionUtils;
+import lombok.AllArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Service implementation for managing the qualifications of employees to perform appointment types.
+ *
+ * <p>Qualifications are stored as rows of a join table and served from the per-firm matrices of
+ * the {@link QualificationIndex}, which is updated once a change commits.</p>
+ */
+@Service
+@AllArgsConstructor
+public class QualificationServiceImpl implements QualificationService {
+
+	private final EmployeeQualificationRepository qualificationRepository;
+	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final UserRepository userRepository;
+	private final UserService userService;
+	private final AuditService auditService;
+	private final QualificationIndex qualificationIndex;
+
+	/**
+	 * Retrieves the qualifications of the current user's firm.
+	 *
+	 * @param filter {@link EmployeeQualificationRequestDTO} employee and appointment type to filter by
+	 * @return {@link List} of {@link EmployeeQualificationResponseDTO} ordered by ID
+	 * @throws UserNotFoundException if the user is not found.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<EmployeeQualificationResponseDTO> getQualifications(EmployeeQualificationRequestDTO filter) {
+		EmployeeQualificationFilterBuilder filterBuilder = EmployeeQualificationFilterBuilder.builder()
+			.firmId(userService.getAuthUserFirm().getId())
+			.employeeId(filter.getEmployeeId())
+			.appointmentTypeId(filter.getAppointmentTypeId())
+			.build();
+		return qualificationRepository.findAll(filterBuilder.toSpecification(), Sort.by("id"))
+			.stream()
+			.map(EmployeeQualificationResponseDTO::fromModel)
+			.toList();
+	}
+
+	/**
+	 * Qualifies an employee of the current user's firm for an appointment type. The first
+	 * qualification of a type restricts it to qualified employees, which it stays until the
+	 * restriction is lifted on the appointment type.
+	 *
+	 * @param request {@link EmployeeQualificationRequestDTO} employee and appointment type
+	 * @return {@link EmployeeQualificationResponseDTO} created qualification
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the request is incomplete, references an employee or
+	 *                               appointment type outside the current user's firm, or the
+	 *                               employee is already qualified for the type.
+	 */
+	@Override
+	@Transactional
+	public EmployeeQualificationResponseDTO grantQualification(EmployeeQualificationRequestDTO request) {
+		if (request.getEmployeeId() == null || request.getAppointmentTypeId() == null) {
+			throw new InvalidStateException("Employee and appointment type are required.");
+		}
+
+		Firm firm = userService.getAuthUserFirm();
+		AppointmentType appointmentType = appointmentTypeRepository.findById(request.getAppointmentTypeId())
+			.filter(type -> type.getFirm().getId().equals(firm.getId()))
+			.orElseThrow(() -> new InvalidStateException(
+				"Appointment type with ID " + request.getAppointmentTypeId() + " does not exist."
+			));
+		if (!userRepository.exists(UserFilterBuilder.builder().id(request.getEmployeeId()).firmId(firm.getId()).build().toSpecification())) {
+			throw new InvalidStateException("Employee with ID " + request.getEmployeeId() + " does not exist.");
+		}
+
+		appointmentType.setQualificationRequired(true);
+
+		EmployeeQualification qualification;
+		try {
+			qualification = qualificationRepository.saveAndFlush(EmployeeQualification.builder()
+				.firm(firm)
+				.employee(userRepository.getReferenceById(request.getEmployeeId()))
+				.appointmentType(appointmentType)
+				.build());
+		} catch (DataIntegrityViolationException e) {
+			if (SqlStateUtils.hasSqlState(e, SqlStateUtils.UNIQUE_VIOLATION)) {
+				throw new InvalidStateException("Employee is already qualified for the appointment type.");
+			}
+			throw e;
+		}
+
+		TransactionUtils.afterCommit(() -> qualificationIndex.granted(firm.getId(), request.getAppointmentTypeId(), request.getEmployeeId()));
+		auditService.publish(AuditAction.CREATE, EmployeeQualification.class, qualification.getId());
+
+		return EmployeeQualificationResponseDTO.fromModel(qualification);
+	}
+
+	/**
+	 * Removes a qualification of the current user's firm. Removing the last qualification of a
+	 * type leaves it restricted, so no employee can perform it until one is qualified again or
+	 * the restriction is lifted on the appointment type.
+	 *
+	 * @param id {@link Long} ID of the qualification
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the qualification does not exist.
+	 */
+	@Override
+	@Transactional
+	public void revokeQualification(Long id) {
+		Long firmId = userService.getAuthUserFirm().getId();
+		EmployeeQualification qualification = qualificationRepository.findOne(EmployeeQualificationFilterBuilder.builder()
+				.id(id)
+				.firmId(firmId)
+				.build()
+				.toSpecification())
+			.orElseThrow(() -> new InvalidStateException("Qualification with ID " + id + " does not exist."));
+		qualificationRepository.delete(qualification);
+
+		Long appointmentTypeId = qualification.getAppointmentType().getId();
+		Long employeeId = qualification.getEmployee().getId();
+		TransactionUtils.afterCommit(() -> qualificationIndex.revoked(firmId, appointmentTypeId, employeeId));
+		auditService.publish(AuditAction.DELETE, EmployeeQualification.class, id);
+	}
+}
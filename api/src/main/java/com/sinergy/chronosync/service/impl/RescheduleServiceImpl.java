@@ -0,0 +1,517 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.AppointmentFilterBuilder;
+import com.sinergy.chronosync.builder.UserFilterBuilder;
+import com.sinergy.chronosync.config.AppointmentIntervalIndex;
+import com.sinergy.chronosync.config.BookingLockCoordinator;
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.dto.request.AbsenceRescheduleRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentOccurrenceDTO;
+import com.sinergy.chronosync.dto.response.RescheduleMoveDTO;
+import com.sinergy.chronosync.dto.response.ReschedulePlanDTO;
+import com.sinergy.chronosync.dto.response.UnplacedAppointmentDTO;
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointment.SlotHold;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AppointmentSeriesService;
+import com.sinergy.chronosync.service.AuditService;
+import com.sinergy.chronosync.service.RescheduleService;
+import com.sinergy.chronosync.service.SlotHoldService;
+import com.sinergy.chronosync.service.UserService;
+import com.sinergy.chronosync.service.WorkingHoursService;
+import com.sinergy.chronosync.util.QualificationMatrix;
+import com.sinergy.chronosync.util.SlotBitmap;
+import com.sinergy.chronosync.util.SqlStateUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Service implementation for moving the bookings of absent employees.
+ *
+ * <p>The bookings of the absent employee and of the colleagues considered are read with a single
+ * range query covering the absence and the days searched after it; series occurrences and held
+ * slots are added as in the slot search. The occupancy of every employee is then built in memory
+ * as a {@link SlotBitmap}, starting from the availability materialized by the
+ * {@link WorkingHoursService}, and the absence is marked as occupied for the absent employee.</p>
+ *
+ * <p>The bookings starting within the absence are placed one by one in order of their start time.
+ * A booking is handed to the least booked colleague who is free at the same time and qualified
+ * for its appointment type, as told by the {@link QualificationIndex}. Otherwise it is moved to
+ * the earliest free start, aligned to the slot step, at or after its original start and before
+ * the end of the searched days, with any qualified colleague or with the absent employee after
+ * the absence. Bookings with reserved resources or attendees keep their time, since the resources
+ * and attendees are booked for it. Every placement is marked in the occupancy of its employee,
+ * so later bookings see it, and bookings that cannot be placed are reported. Occurrences of
+ * recurring series are not moved, since they belong to their series; those of the absent employee
+ * starting within the absence are reported as unplaced, to be moved or cancelled one by one.</p>
+ *
+ * <p>Applying a plan locks the absent employee and the colleagues, computes the plan again under
+ * the locks and updates all moved bookings in one transaction, so either every move is applied
+ * or none is.</p>
+ */
+@Service
+public class RescheduleServiceImpl implements RescheduleService {
+
+	/**
+	 * Largest number of days searched for another time after the absence.
+	 */
+	static final int MAX_DAYS = 31;
+
+	private static final long SLOT_SECONDS = SlotBitmap.SLOT_MINUTES * 60L;
+	private static final String BOOKING_CONFLICT_MESSAGE = "A planned move conflicts with another booking, please try again.";
+	private static final String OCCURRENCE_REASON =
+		"Occurrences of recurring series are not moved, please move or cancel the occurrence itself.";
+
+	private final AppointmentRepository appointmentRepository;
+	private final UserRepository userRepository;
+	private final UserService userService;
+	private final AuditService auditService;
+	private final AppointmentSeriesService appointmentSeriesService;
+	private final SlotHoldService slotHoldService;
+	private final WorkingHoursService workingHoursService;
+	private final AppointmentIntervalIndex intervalIndex;
+	private final BookingLockCoordinator lockCoordinator;
+	private final QualificationIndex qualificationIndex;
+	private final ApplicationEventPublisher eventPublisher;
+	private final int stepMinutes;
+	private final int defaultDays;
+
+	/**
+	 * Creates the service.
+	 *
+	 * @param appointmentRepository    {@link AppointmentRepository} to read and update bookings
+	 * @param userRepository           {@link UserRepository} to read employees from
+	 * @param userService              {@link UserService} resolving the current user's firm
+	 * @param auditService             {@link AuditService} recording moved bookings
+	 * @param appointmentSeriesService {@link AppointmentSeriesService} expanding recurring series
+	 * @param slotHoldService          {@link SlotHoldService} providing held slots
+	 * @param workingHoursService      {@link WorkingHoursService} providing the working time of employees
+	 * @param intervalIndex            {@link AppointmentIntervalIndex} updated with moved bookings
+	 * @param lockCoordinator          {@link BookingLockCoordinator} serializing bookings of the employees
+	 * @param qualificationIndex       {@link QualificationIndex} telling which colleagues can take a booking
+	 * @param eventPublisher           {@link ApplicationEventPublisher} publishing the moved bookings
+	 * @param stepMinutes              alignment of moved start times in minutes, a multiple of five
+	 * @param defaultDays              number of days searched when the request does not specify it
+	 */
+	public RescheduleServiceImpl(
+		AppointmentRepository appointmentRepository,
+		UserRepository userRepository,
+		UserService userService,
+		AuditService auditService,
+		AppointmentSeriesService appointmentSeriesService,
+		SlotHoldService slotHoldService,
+		WorkingHoursService workingHoursService,
+		AppointmentIntervalIndex intervalIndex,
+		BookingLockCoordinator lockCoordinator,
+		QualificationIndex qualificationIndex,
+		ApplicationEventPublisher eventPublisher,
+		@Value("${slots.step-minutes:15}") int stepMinutes,
+		@Value("${reschedule.search-days:7}") int defaultDays
+	) {
+		if (stepMinutes <= 0 || stepMinutes % SlotBitmap.SLOT_MINUTES != 0) {
+			throw new IllegalArgumentException("Slot step must be a positive multiple of " + SlotBitmap.SLOT_MINUTES + " minutes.");
+		}
+		this.appointmentRepository = appointmentRepository;
+		this.userRepository = userRepository;
+		this.userService = userService;
+		this.auditService = auditService;
+		this.appointmentSeriesService = appointmentSeriesService;
+		this.slotHoldService = slotHoldService;
+		this.workingHoursService = workingHoursService;
+		this.intervalIndex = intervalIndex;
+		this.lockCoordinator = lockCoordinator;
+		this.qualificationIndex = qualificationIndex;
+		this.eventPublisher = eventPublisher;
+		this.stepMinutes = stepMinutes;
+		this.defaultDays = defaultDays;
+	}
+
+	/**
+	 * Computes how the bookings of an absent employee of the current user's firm would be moved,
+	 * without changing them. Bookings that have already started are not moved.
+	 *
+	 * @param request {@link AbsenceRescheduleRequestDTO} absent employee, absence and colleagues to consider
+	 * @return {@link ReschedulePlanDTO} planned moves and bookings that cannot be moved
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the employee is missing or not found, the absence is invalid
+	 *                               or too long, or the number of days is out of range.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public ReschedulePlanDTO planAbsence(AbsenceRescheduleRequestDTO request) {
+		Firm firm = userService.getAuthUserFirm();
+		return toResponse(plan(firm, absence(firm, request)), false);
+	}
+
+	/**
+	 * Moves the bookings of an absent employee of the current user's firm to colleagues or other
+	 * times, all of them or none. The plan is computed while the employees are locked.
+	 *
+	 * @param request {@link AbsenceRescheduleRequestDTO} absent employee, absence and colleagues to consider
+	 * @return {@link ReschedulePlanDTO} applied moves and bookings that could not be moved
+	 * @throws UserNotFoundException    if the user is not found.
+	 * @throws InvalidStateException    if the employee is missing or not found, the absence is invalid
+	 *                                  or too long, or the number of days is out of range.
+	 * @throws BookingConflictException if a move conflicts with a booking made on another instance.
+	 */
+	@Override
+	@Transactional
+	public ReschedulePlanDTO rescheduleAbsence(AbsenceRescheduleRequestDTO request) {
+		Firm firm = userService.getAuthUserFirm();
+		Absence absence = absence(firm, request);
+		lockCoordinator.lock(BookingLockCoordinator.Scope.EMPLOYEE, absence.employeeIds());
+
+		Plan plan = plan(firm, absence);
+		List<Appointment> moved = new ArrayList<>(plan.getMoves().size());
+		for (Move move : plan.getMoves()) {
+			Appointment appointment = move.getAppointment();
+			appointment.setEmployee(userRepository.getReferenceById(move.getResponse().getToEmployeeId()));
+			appointment.setStartTime(move.getResponse().getStartTime());
+			appointment.setEndTime(move.getResponse().getEndTime());
+			moved.add(appointment);
+		}
+		save(moved);
+
+		for (Move move : plan.getMoves()) {
+			Appointment appointment = move.getAppointment();
+			intervalIndex.unregister(appointment.getId());
+			intervalIndex.register(appointment);
+			eventPublisher.publishEvent(AppointmentChangedEvent.builder()
+				.firmId(firm.getId())
+				.appointmentId(appointment.getId())
+				.change(AppointmentChangedEvent.Change.MOVED)
+				.employeeId(move.getResponse().getToEmployeeId())
+				.startTime(appointment.getStartTime())
+				.endTime(appointment.getEndTime())
+				.previousEmployeeId(move.getResponse().getFromEmployeeId())
+				.previousStartTime(move.getResponse().getOriginalStartTime())
+				.build());
+			auditService.publish(AuditAction.UPDATE, Appointment.class, appointment.getId());
+		}
+		return toResponse(plan, true);
+	}
+
+	/**
+	 * Validates the request and resolves the colleagues to consider, in ascending order of their IDs.
+	 */
+	private Absence absence(Firm firm, AbsenceRescheduleRequestDTO request) {
+		if (request.getEmployeeId() == null) {
+			throw new InvalidStateException("Employee is required.");
+		}
+		AppointmentServiceImpl.validateRange(request.getFrom(), request.getTo());
+		int days = request.getDays() != null ? request.getDays() : defaultDays;
+		if (days < 0 || days > MAX_DAYS) {
+			throw new InvalidStateException("Number of days must be between 0 and " + MAX_DAYS + ".");
+		}
+
+		List<Long> firmEmployeeIds = userRepository
+			.findAll(UserFilterBuilder.builder().firmId(firm.getId()).build().toSpecification())
+			.stream()
+			.map(User::getId)
+			.sorted()
+			.toList();
+		if (!firmEmployeeIds.contains(request.getEmployeeId())) {
+			throw new InvalidStateException("Employee with ID " + request.getEmployeeId() + " does not exist.");
+		}
+		List<Long> requestedIds = request.getEmployeeIds();
+		List<Long> colleagueIds = firmEmployeeIds.stream()
+			.filter(id -> !id.equals(request.getEmployeeId()))
+			.filter(id -> requestedIds == null || requestedIds.isEmpty() || requestedIds.contains(id))
+			.toList();
+
+		return new Absence(request.getEmployeeId(), request.getFrom(), request.getTo(), days, colleagueIds);
+	}
+
+	/**
+	 * Builds the occupancy of the employees and places the bookings of the absence one by one.
+	 */
+	private Plan plan(Firm firm, Absence absence) {
+		Instant now = Instant.now();
+		long stepSeconds = stepMinutes * 60L;
+		Instant origin = Instant.ofEpochSecond(Math.floorDiv(absence.getFrom().getEpochSecond(), stepSeconds) * stepSeconds);
+		Instant horizon = absence.getTo().plus(Duration.ofDays(absence.getDays()));
+		Instant end = horizon.plus(Appointment.MAX_DURATION);
+		List<Long> employeeIds = absence.employeeIds();
+		QualificationMatrix qualifications = qualificationIndex.matrix(firm.getId());
+
+		List<Appointment> booked = appointmentRepository.findAll(AppointmentFilterBuilder.builder()
+			.firmId(firm.getId())
+			.employeeIds(employeeIds)
+			.status(AppointmentStatus.BOOKED)
+			.from(origin)
+			.to(end)
+			.build()
+			.toSpecification());
+
+		Map<Long, SlotBitmap> availability = workingHoursService.getAvailability(firm.getId(), employeeIds, origin, end);
+		Map<Long, Occupancy> occupancies = new HashMap<>();
+		for (Long employeeId : employeeIds) {
+			occupancies.put(employeeId, new Occupancy(employeeId, new SlotBitmap(availability.get(employeeId))));
+		}
+		for (Appointment appointment : booked) {
+			occupancies.get(appointment.getEmployee().getId()).getSlots()
+				.occupy(slotFloor(origin, appointment.getStartTime()), slotCeil(origin, appointment.getEndTime()));
+		}
+		List<AppointmentOccurrenceDTO> occurrences = appointmentSeriesService.findOccurrences(firm.getId(), employeeIds, origin, end);
+		for (AppointmentOccurrenceDTO occurrence : occurrences) {
+			occupancies.get(occurrence.getEmployeeId()).getSlots()
+				.occupy(slotFloor(origin, occurrence.getStartTime()), slotCeil(origin, occurrence.getEndTime()));
+		}
+		for (SlotHold hold : slotHoldService.findHolds(employeeIds, origin, end)) {
+			occupancies.get(hold.getEmployeeId()).getSlots()
+				.occupy(slotFloor(origin, hold.getStartTime()), slotCeil(origin, hold.getEndTime()));
+		}
+		for (Long employeeId : employeeIds) {
+			Occupancy occupancy = occupancies.get(employeeId);
+			occupancy.bookedSlots = occupancy.getSlots().countOccupied() - availability.get(employeeId).countOccupied();
+		}
+		// The bookings being moved stay occupied too, so no move lands where a booking still is.
+		Occupancy absent = occupancies.get(absence.getEmployeeId());
+		absent.getSlots().occupy(slotFloor(origin, absence.getFrom()), slotCeil(origin, absence.getTo()));
+
+		List<Occupancy> colleagues = absence.getColleagueIds().stream().map(occupancies::get).toList();
+
+		int step = stepMinutes / SlotBitmap.SLOT_MINUTES;
+		int earliest = Math.max(0, slotCeil(origin, now));
+		int limit = slotFloor(origin, horizon);
+
+		Plan plan = new Plan(new ArrayList<>(), new ArrayList<>());
+		for (Appointment appointment : toMove(booked, absence, now)) {
+			int start = slotFloor(origin, appointment.getStartTime());
+			int length = slotCeil(origin, appointment.getEndTime()) - start;
+			long appointmentTypeId = appointment.getAppointmentType().getId();
+			List<Occupancy> qualified = colleagues.stream()
+				.filter(occupancy -> qualifications.isQualified(appointmentTypeId, occupancy.getEmployeeId()))
+				.toList();
+
+			Occupancy target = sameTime(qualified, start, length);
+			int targetStart = start;
+			String reason = null;
+			if (target == null && !keepsTime(appointment) && absence.getDays() > 0) {
+				int from = Math.max(start, earliest);
+				List<Occupancy> everyone = new ArrayList<>(qualified);
+				everyone.add(absent);
+				for (Occupancy occupancy : everyone) {
+					int candidate = earliestStart(occupancy.getSlots(), from, limit, length, step);
+					if (candidate >= 0 && (target == null || candidate < targetStart
+						|| (candidate == targetStart && occupancy.ranks(target)))) {
+						target = occupancy;
+						targetStart = candidate;
+					}
+				}
+				reason = "No qualified colleague is free at the same time, and no free time was found within "
+					+ absence.getDays() + " days after the absence.";
+			} else if (target == null) {
+				reason = keepsTime(appointment)
+					? "No qualified colleague is free at the same time, and bookings with resources or attendees keep their time."
+					: "No qualified colleague is free at the same time.";
+			}
+
+			if (target == null) {
+				plan.getUnplaced().add(UnplacedAppointmentDTO.builder()
+					.appointmentId(appointment.getId())
+					.startTime(appointment.getStartTime())
+					.reason(reason)
+					.build());
+				continue;
+			}
+
+			target.getSlots().occupy(targetStart, targetStart + length);
+			target.bookedSlots += length;
+			Instant startTime = targetStart == start
+				? appointment.getStartTime()
+				: origin.plusSeconds(targetStart * SLOT_SECONDS);
+			plan.getMoves().add(new Move(appointment, RescheduleMoveDTO.builder()
+				.appointmentId(appointment.getId())
+				.fromEmployeeId(absence.getEmployeeId())
+				.toEmployeeId(target.getEmployeeId())
+				.originalStartTime(appointment.getStartTime())
+				.startTime(startTime)
+				.endTime(startTime.plus(Duration.between(appointment.getStartTime(), appointment.getEndTime())))
+				.build()));
+		}
+
+		for (AppointmentOccurrenceDTO occurrence : occurrences) {
+			if (occurrence.getEmployeeId().equals(absence.getEmployeeId()) && starts(occurrence.getStartTime(), absence, now)) {
+				plan.getUnplaced().add(UnplacedAppointmentDTO.builder()
+					.startTime(occurrence.getStartTime())
+					.reason(OCCURRENCE_REASON)
+					.seriesId(occurrence.getSeriesId())
+					.originalStartTime(occurrence.getOriginalStartTime())
+					.build());
+			}
+		}
+		plan.getUnplaced().sort(Comparator.comparing(UnplacedAppointmentDTO::getStartTime));
+		return plan;
+	}
+
+	/**
+	 * Returns the bookings of the absent employee starting within the absence and not yet started,
+	 * ordered by start time.
+	 */
+	private static List<Appointment> toMove(List<Appointment> booked, Absence absence, Instant now) {
+		return booked.stream()
+			.filter(appointment -> appointment.getEmployee().getId().equals(absence.getEmployeeId()))
+			.filter(appointment -> starts(appointment.getStartTime(), absence, now))
+			.sorted(Comparator.comparing(Appointment::getStartTime).thenComparing(Appointment::getId))
+			.toList();
+	}
+
+	/**
+	 * Returns whether a booking starting at the given time starts within the absence and has not started yet.
+	 */
+	private static boolean starts(Instant startTime, Absence absence, Instant now) {
+		return !startTime.isBefore(absence.getFrom()) && startTime.isBefore(absence.getTo()) && !startTime.isBefore(now);
+	}
+
+	/**
+	 * Returns the least booked colleague free during the slots, or {@code null} if none is.
+	 */
+	private static Occupancy sameTime(List<Occupancy> colleagues, int start, int length) {
+		Occupancy best = null;
+		for (Occupancy occupancy : colleagues) {
+			if (occupancy.getSlots().isFree(start, start + length) && (best == null || occupancy.ranks(best))) {
+				best = occupancy;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Returns the first start at or after {@code from} and before {@code limit}, aligned to the step,
+	 * of a free range of {@code length} slots, or {@code -1} if there is none. Occupied runs are
+	 * skipped as a whole.
+	 */
+	private static int earliestStart(SlotBitmap slots, int from, int limit, int length, int step) {
+		int start = Math.ceilDiv(from, step) * step;
+		while (start < limit) {
+			int occupied = slots.nextOccupied(start);
+			if (occupied >= start + length) {
+				return start + length <= slots.size() ? start : -1;
+			}
+			start = Math.ceilDiv(slots.nextFree(occupied), step) * step;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns whether the booking has reserved resources or attendees, which are booked for its time.
+	 */
+	private static boolean keepsTime(Appointment appointment) {
+		Set<String> resourceKinds = appointment.getAppointmentType().getResourceKinds();
+		return appointment.getSeatsLeft() != null || (resourceKinds != null && !resourceKinds.isEmpty());
+	}
+
+	/**
+	 * Flushes the moved bookings, relying on the exclusion constraint of the appointments table to
+	 * reject moves overlapping bookings made on other instances.
+	 */
+	private void save(List<Appointment> appointments) {
+		try {
+			appointmentRepository.saveAllAndFlush(appointments);
+		} catch (DataIntegrityViolationException | CannotAcquireLockException e) {
+			if (SqlStateUtils.hasSqlState(e, SqlStateUtils.EXCLUSION_VIOLATION)
+				|| SqlStateUtils.hasSqlState(e, SqlStateUtils.DEADLOCK_DETECTED)) {
+				throw new BookingConflictException(BOOKING_CONFLICT_MESSAGE);
+			}
+			throw e;
+		}
+	}
+
+	private static ReschedulePlanDTO toResponse(Plan plan, boolean applied) {
+		return ReschedulePlanDTO.builder()
+			.moves(plan.getMoves().stream().map(Move::getResponse).toList())
+			.unplaced(plan.getUnplaced())
+			.applied(applied)
+			.build();
+	}
+
+	private static int slotFloor(Instant from, Instant time) {
+		return (int) Math.floorDiv(Duration.between(from, time).getSeconds(), SLOT_SECONDS);
+	}
+
+	private static int slotCeil(Instant from, Instant time) {
+		return (int) Math.ceilDiv(Duration.between(from, time).getSeconds(), SLOT_SECONDS);
+	}
+
+	/**
+	 * Validated absence with the colleagues to consider.
+	 */
+	@Getter
+	@AllArgsConstructor
+	private static final class Absence {
+
+		private final Long employeeId;
+		private final Instant from;
+		private final Instant to;
+		private final int days;
+		private final List<Long> colleagueIds;
+
+		private List<Long> employeeIds() {
+			List<Long> ids = new ArrayList<>(colleagueIds);
+			ids.add(employeeId);
+			return ids;
+		}
+	}
+
+	/**
+	 * Occupancy of an employee with the number of booked slots, which ranks employees.
+	 */
+	@Getter
+	private static final class Occupancy {
+
+		private final Long employeeId;
+		private final SlotBitmap slots;
+		private int bookedSlots;
+
+		private Occupancy(Long employeeId, SlotBitmap slots) {
+			this.employeeId = employeeId;
+			this.slots = slots;
+		}
+
+		private boolean ranks(Occupancy other) {
+			return bookedSlots < other.bookedSlots || (bookedSlots == other.bookedSlots && employeeId < other.employeeId);
+		}
+	}
+
+	/**
+	 * Planned move of a loaded booking.
+	 */
+	@Getter
+	@AllArgsConstructor
+	private static final class Move {
+
+		private final Appointment appointment;
+		private final RescheduleMoveDTO response;
+	}
+
+	/**
+	 * Planned moves and bookings that cannot be moved.
+	 */
+	@Getter
+	@AllArgsConstructor
+	private static final class Plan {
+
+		private final List<Move> moves;
+		private final List<UnplacedAppointmentDTO> unplaced;
+	}
+}
@@ -0,0 +1,414 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.AppointmentResourceFilterBuilder;
+import com.sinergy.chronosync.builder.ResourceFilterBuilder;
+import com.sinergy.chronosync.config.BookingLockCoordinator;
+import com.sinergy.chronosync.dto.request.ResourceRequestDTO;
+import com.sinergy.chronosync.dto.request.ResourceReservationRangeRequestDTO;
+import com.sinergy.chronosync.dto.response.ResourceReservationDTO;
+import com.sinergy.chronosync.dto.response.ResourceResponseDTO;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentResource;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.resource.Resource;
+import com.sinergy.chronosync.repository.AppointmentResourceRepository;
+import com.sinergy.chronosync.repository.ResourceRepository;
+import com.sinergy.chronosync.service.AuditService;
+import com.sinergy.chronosync.service.ResourceService;
+import com.sinergy.chronosync.service.UserService;
+import com.sinergy.chronosync.util.SlotBitmap;
+import com.sinergy.chronosync.util.SqlStateUtils;
+import lombok.AllArgsConstructor;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Service implementation for managing resources of firms and their reservations.
+ *
+ * <p>Every booked appointment whose type requires resources reserves one resource of every
+ * required kind for its time range. Reservations are stored separately from appointments, so the
+ * occupancy of all resources in a window is read with a single range query, and overlapping
+ * reservations of a resource are rejected by the exclusion constraint of their table.</p>
+ *
+ * <p>Resources of a kind are interchangeable, so a kind is occupied in a slot only when all of its
+ * resources are. The occupancy of a set of kinds is the union of the occupancy of each kind, which
+ * is the intersection of the occupancy of its resources.</p>
+ */
+@Service
+@AllArgsConstructor
+public class ResourceServiceImpl implements ResourceService {
+
+	private static final long SLOT_SECONDS = SlotBitmap.SLOT_MINUTES * 60L;
+
+	private static final String RESOURCE_CONFLICT_MESSAGE = "Resource is already booked at the requested time.";
+
+	private final ResourceRepository resourceRepository;
+	private final AppointmentResourceRepository appointmentResourceRepository;
+	private final UserService userService;
+	private final AuditService auditService;
+
+	/**
+	 * Retrieves the resources of the current user's firm.
+	 *
+	 * @return {@link List} of {@link ResourceResponseDTO} ordered by kind and name
+	 * @throws UserNotFoundException if the user is not found.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<ResourceResponseDTO> getResources() {
+		return resourceRepository
+			.findAll(
+				ResourceFilterBuilder.builder().firmId(userService.getAuthUserFirm().getId()).build().toSpecification(),
+				Sort.by("kind", "name", "id")
+			)
+			.stream()
+			.map(ResourceResponseDTO::fromModel)
+			.toList();
+	}
+
+	/**
+	 * Creates a resource of the current user's firm.
+	 *
+	 * @param request {@link ResourceRequestDTO} name and kind of the resource
+	 * @return {@link ResourceResponseDTO} created resource
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the name or kind is invalid.
+	 */
+	@Override
+	@Transactional
+	public ResourceResponseDTO createResource(ResourceRequestDTO request) {
+		validate(request);
+		Resource resource = resourceRepository.save(Resource.builder()
+			.firm(userService.getAuthUserFirm())
+			.name(request.getName())
+			.kind(request.getKind())
+			.build());
+		auditService.publish(AuditAction.CREATE, Resource.class, resource.getId());
+		return ResourceResponseDTO.fromModel(resource);
+	}
+
+	/**
+	 * Updates the name and kind of a resource of the current user's firm. Existing reservations
+	 * of the resource are kept.
+	 *
+	 * @param request {@link ResourceRequestDTO} ID, name and kind of the resource
+	 * @return {@link ResourceResponseDTO} updated resource
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the resource does not exist, or the name or kind is invalid.
+	 */
+	@Override
+	@Transactional
+	public ResourceResponseDTO updateResource(ResourceRequestDTO request) {
+		validate(request);
+		Resource resource = findResource(request.getId());
+		resource.setName(request.getName());
+		resource.setKind(request.getKind());
+		resource = resourceRepository.save(resource);
+		auditService.publish(AuditAction.UPDATE, Resource.class, resource.getId());
+		return ResourceResponseDTO.fromModel(resource);
+	}
+
+	/**
+	 * Deletes a resource of the current user's firm that has never been reserved. Reserved
+	 * resources are kept, so the history of reservations stays intact.
+	 *
+	 * @param id {@link Long} ID of the resource
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the resource does not exist or has reservations.
+	 */
+	@Override
+	@Transactional
+	public void deleteResource(Long id) {
+		Resource resource = findResource(id);
+		if (appointmentResourceRepository.exists(
+			AppointmentResourceFilterBuilder.builder().resourceIds(List.of(id)).build().toSpecification()
+		)) {
+			throw new InvalidStateException("Resource with ID " + id + " has reservations and cannot be deleted.");
+		}
+		resourceRepository.delete(resource);
+		auditService.publish(AuditAction.DELETE, Resource.class, id);
+	}
+
+	/**
+	 * Retrieves the reservations of resources of the current user's firm overlapping the
+	 * requested time range.
+	 *
+	 * @param request {@link ResourceReservationRangeRequestDTO} time range and resources
+	 * @return {@link List} of {@link ResourceReservationDTO} ordered by start time
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the time range is missing, inverted or too long.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<ResourceReservationDTO> getReservations(ResourceReservationRangeRequestDTO request) {
+		AppointmentServiceImpl.validateRange(request.getFrom(), request.getTo());
+
+		List<Long> resourceIds = resourceRepository
+			.findAll(ResourceFilterBuilder.builder()
+				.firmId(userService.getAuthUserFirm().getId())
+				.ids(request.getResourceIds() == null || request.getResourceIds().isEmpty() ? null : request.getResourceIds())
+				.build()
+				.toSpecification())
+			.stream()
+			.map(Resource::getId)
+			.toList();
+		if (resourceIds.isEmpty()) {
+			return List.of();
+		}
+
+		return appointmentResourceRepository
+			.findAll(
+				AppointmentResourceFilterBuilder.builder()
+					.resourceIds(resourceIds)
+					.from(request.getFrom())
+					.to(request.getTo())
+					.build()
+					.toSpecification(),
+				Sort.by("startTime", "id")
+			)
+			.stream()
+			.map(ResourceReservationDTO::fromModel)
+			.toList();
+	}
+
+	/**
+	 * Materializes the slots in which a booking requiring the given resource kinds cannot reserve
+	 * one free resource of every kind. Reads the resources of the kinds and their reservations in
+	 * the window with one query each. A kind without resources is occupied in every slot.
+	 *
+	 * @param firmId {@link Long} ID of the firm the resources belong to
+	 * @param kinds  {@link Collection} of required resource kinds
+	 * @param from   {@link Instant} start of the time range
+	 * @param to     {@link Instant} end of the time range
+	 * @return {@link SlotBitmap} occupied where a kind has no free resource
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public SlotBitmap getOccupancy(Long firmId, Collection<String> kinds, Instant from, Instant to) {
+		SlotBitmap occupancy = new SlotBitmap((int) (Duration.between(from, to).getSeconds() / SLOT_SECONDS));
+		if (kinds == null || kinds.isEmpty()) {
+			return occupancy;
+		}
+
+		Map<String, List<Long>> resourcesByKind = findResourcesByKind(firmId, kinds);
+		Map<Long, SlotBitmap> resourceOccupancy = new HashMap<>();
+		resourcesByKind.values().forEach(ids -> ids.forEach(id -> resourceOccupancy.put(id, new SlotBitmap(occupancy.size()))));
+		if (!resourceOccupancy.isEmpty()) {
+			for (AppointmentResource reservation : findReservations(resourceOccupancy.keySet(), from, to)) {
+				resourceOccupancy.get(reservation.getResource().getId()).occupy(
+					(int) Math.floorDiv(Duration.between(from, reservation.getStartTime()).getSeconds(), SLOT_SECONDS),
+					(int) Math.ceilDiv(Duration.between(from, reservation.getEndTime()).getSeconds(), SLOT_SECONDS)
+				);
+			}
+		}
+
+		for (String kind : kinds) {
+			List<Long> ids = resourcesByKind.getOrDefault(kind, List.of());
+			if (ids.isEmpty()) {
+				occupancy.occupy(0, occupancy.size());
+				break;
+			}
+			SlotBitmap kindOccupancy = new SlotBitmap(resourceOccupancy.get(ids.get(0)));
+			for (int i = 1; i < ids.size(); i++) {
+				kindOccupancy.and(resourceOccupancy.get(ids.get(i)));
+			}
+			occupancy.or(kindOccupancy);
+		}
+		return occupancy;
+	}
+
+	/**
+	 * Returns the resources a booking may reserve, to be locked before they are allocated: the
+	 * requested resources, and every resource of the required kinds not covered by them.
+	 *
+	 * @param firmId       {@link Long} ID of the firm the resources belong to
+	 * @param kinds        {@link Collection} of required resource kinds
+	 * @param requestedIds {@link Collection} of resource IDs chosen by the client, may be {@code null}
+	 * @return {@link List} of candidate resource IDs in ascending order
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<Long> findCandidateResources(Long firmId, Collection<String> kinds, Collection<Long> requestedIds) {
+		Collection<String> required = kinds != null ? kinds : Set.of();
+		Collection<Long> requested = requestedIds != null ? requestedIds : List.of();
+		if (required.isEmpty()) {
+			return requested.stream().distinct().sorted().toList();
+		}
+
+		Set<Long> candidates = new TreeSet<>(requested);
+		findResourcesByKind(firmId, required).values().stream()
+			.filter(ids -> ids.stream().noneMatch(requested::contains))
+			.forEach(candidates::addAll);
+		return List.copyOf(candidates);
+	}
+
+	/**
+	 * Chooses one resource of every required kind for a booking. Requested resources must belong
+	 * to the firm and be of a distinct required kind. Every other kind gets its free resource with
+	 * the lowest ID, determined with a single range query over the candidates. The candidates must
+	 * be locked by the caller, as returned by {@link #findCandidateResources}, so that concurrent
+	 * bookings see each other's reservations and do not choose the same free resource.
+	 *
+	 * @param firmId       {@link Long} ID of the firm the resources belong to
+	 * @param kinds        {@link Collection} of required resource kinds
+	 * @param requestedIds {@link Collection} of resource IDs chosen by the client, may be {@code null}
+	 * @param startTime    {@link Instant} start of the booking
+	 * @param endTime      {@link Instant} end of the booking
+	 * @return {@link List} of chosen resource IDs in ascending order
+	 * @throws InvalidStateException    if a requested resource does not exist, is of a kind not
+	 *                                  required, or two requested resources are of the same kind.
+	 * @throws BookingConflictException if a kind has no free resource at the requested time.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<Long> allocateResources(Long firmId, Collection<String> kinds, Collection<Long> requestedIds,
+		Instant startTime, Instant endTime) {
+		Collection<String> required = kinds != null ? kinds : Set.of();
+		Collection<Long> requested = requestedIds != null ? requestedIds : List.of();
+		if (required.isEmpty() && requested.isEmpty()) {
+			return List.of();
+		}
+
+		Map<String, List<Long>> resourcesByKind = findResourcesByKind(firmId, required);
+		Map<Long, String> kindById = new HashMap<>();
+		resourcesByKind.forEach((kind, ids) -> ids.forEach(id -> kindById.put(id, kind)));
+
+		Map<String, Long> chosen = new HashMap<>();
+		for (Long id : requested) {
+			String kind = kindById.get(id);
+			if (kind == null) {
+				throw new InvalidStateException("Resource with ID " + id + " does not exist or is not required by the appointment type.");
+			}
+			if (chosen.putIfAbsent(kind, id) != null) {
+				throw new InvalidStateException("Only one resource of kind " + kind + " can be reserved.");
+			}
+		}
+
+		List<String> missing = required.stream().filter(kind -> !chosen.containsKey(kind)).sorted().toList();
+		if (!missing.isEmpty()) {
+			List<Long> candidates = missing.stream()
+				.flatMap(kind -> resourcesByKind.getOrDefault(kind, List.of()).stream())
+				.toList();
+			Set<Long> reserved = new HashSet<>();
+			if (!candidates.isEmpty()) {
+				findReservations(candidates, startTime, endTime)
+					.forEach(reservation -> reserved.add(reservation.getResource().getId()));
+			}
+			for (String kind : missing) {
+				Long free = resourcesByKind.getOrDefault(kind, List.of()).stream()
+					.filter(id -> !reserved.contains(id))
+					.findFirst()
+					.orElseThrow(() -> new BookingConflictException("No resource of kind " + kind + " is free at the requested time."));
+				chosen.put(kind, free);
+			}
+		}
+
+		return chosen.values().stream().sorted().toList();
+	}
+
+	/**
+	 * Reserves resources for a booked appointment. The resources must be locked through the
+	 * {@link BookingLockCoordinator} by the caller, so no reservation can be inserted between the
+	 * check and the insert by this instance. Reservations inserted concurrently by other instances
+	 * are rejected by the exclusion constraint.
+	 *
+	 * @param appointment {@link Appointment} booked appointment
+	 * @param resourceIds {@link Collection} of resource IDs returned by {@link #allocateResources}
+	 * @throws BookingConflictException if a resource is already booked at the time of the appointment.
+	 */
+	@Override
+	@Transactional
+	public void reserveResources(Appointment appointment, Collection<Long> resourceIds) {
+		if (resourceIds == null || resourceIds.isEmpty()) {
+			return;
+		}
+		if (appointmentResourceRepository.exists(AppointmentResourceFilterBuilder.builder()
+			.resourceIds(resourceIds)
+			.from(appointment.getStartTime())
+			.to(appointment.getEndTime())
+			.build()
+			.toSpecification())) {
+			throw new BookingConflictException(RESOURCE_CONFLICT_MESSAGE);
+		}
+
+		List<AppointmentResource> reservations = resourceIds.stream()
+			.map(id -> AppointmentResource.builder()
+				.appointment(appointment)
+				.resource(resourceRepository.getReferenceById(id))
+				.startTime(appointment.getStartTime())
+				.endTime(appointment.getEndTime())
+				.build())
+			.toList();
+		try {
+			appointmentResourceRepository.saveAllAndFlush(reservations);
+		} catch (DataIntegrityViolationException | CannotAcquireLockException e) {
+			if (SqlStateUtils.hasSqlState(e, SqlStateUtils.EXCLUSION_VIOLATION)
+				|| SqlStateUtils.hasSqlState(e, SqlStateUtils.DEADLOCK_DETECTED)) {
+				throw new BookingConflictException(RESOURCE_CONFLICT_MESSAGE);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Releases the resources reserved by an appointment with a single delete.
+	 *
+	 * @param appointmentId {@link Long} ID of the cancelled appointment
+	 */
+	@Override
+	@Transactional
+	public void releaseResources(Long appointmentId) {
+		appointmentResourceRepository.delete(
+			AppointmentResourceFilterBuilder.builder().appointmentId(appointmentId).build().toSpecification()
+		);
+	}
+
+	/**
+	 * Returns the IDs of the firm's resources of the given kinds, grouped by kind in ascending order.
+	 */
+	private Map<String, List<Long>> findResourcesByKind(Long firmId, Collection<String> kinds) {
+		Map<String, List<Long>> resourcesByKind = new HashMap<>();
+		for (Resource resource : resourceRepository.findAll(
+			ResourceFilterBuilder.builder().firmId(firmId).kinds(kinds).build().toSpecification(),
+			Sort.by("id")
+		)) {
+			resourcesByKind.computeIfAbsent(resource.getKind(), kind -> new ArrayList<>()).add(resource.getId());
+		}
+		return resourcesByKind;
+	}
+
+	private List<AppointmentResource> findReservations(Collection<Long> resourceIds, Instant from, Instant to) {
+		return appointmentResourceRepository.findAll(
+			AppointmentResourceFilterBuilder.builder().resourceIds(resourceIds).from(from).to(to).build().toSpecification()
+		);
+	}
+
+	private Resource findResource(Long id) {
+		Firm firm = userService.getAuthUserFirm();
+		return resourceRepository
+			.findOne(ResourceFilterBuilder.builder().id(id).firmId(firm.getId()).build().toSpecification())
+			.orElseThrow(() -> new InvalidStateException("Resource with ID " + id + " does not exist."));
+	}
+
+	private static void validate(ResourceRequestDTO request) {
+		if (request.getName() == null || request.getName().isBlank()) {
+			throw new InvalidStateException("Resource name is required.");
+		}
+		String kind = request.getKind();
+		if (kind == null || kind.isBlank() || kind.length() > Resource.MAX_KIND_LENGTH || kind.contains(",")) {
+			throw new InvalidStateException("Resource kind must be non-empty, without commas and at most "
+				+ Resource.MAX_KIND_LENGTH + " characters long.");
+		}
+	}
+}
@@ -0,0 +1,337 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.UserFilterBuilder;
+import com.sinergy.chronosync.config.AppointmentIntervalIndex;
+import com.sinergy.chronosync.config.BookingLockCoordinator;
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.dto.request.SlotHoldRequestDTO;
+import com.sinergy.chronosync.dto.response.SlotHoldResponseDTO;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.SlotHold;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AppointmentSeriesService;
+import com.sinergy.chronosync.service.SlotHoldService;
+import com.sinergy.chronosync.service.UserService;
+import com.sinergy.chronosync.service.WorkingHoursService;
+import com.sinergy.chronosync.util.TimingWheel;
+import com.sinergy.chronosync.util.TransactionUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service implementation for temporarily holding slots while bookings are being completed.
+ *
+ * <p>Holds live in memory only, so holding a slot costs no database writes and nothing has to be
+ * cleaned up when a customer abandons the booking. Every hold is scheduled on a {@link TimingWheel}
+ * that is advanced once per tick and drops expired holds; holds are also treated as gone as soon
+ * as their expiry time passes, so the tick only bounds how long they occupy memory.</p>
+ *
+ * <p>Holds are honoured by bookings, availability checks and the slot search, and can be converted
+ * into an appointment with {@link com.sinergy.chronosync.service.AppointmentService#confirmHold}.
+ * They are local to this instance, so clients holding a slot must keep talking to the same instance.</p>
+ */
+@Slf4j
+@Service
+public class SlotHoldServiceImpl implements SlotHoldService {
+
+	private static final String HOLD_CONFLICT_MESSAGE = "The requested time is not available.";
+
+	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final UserRepository userRepository;
+	private final UserService userService;
+	private final AppointmentIntervalIndex intervalIndex;
+	private final AppointmentSeriesService appointmentSeriesService;
+	private final BookingLockCoordinator lockCoordinator;
+	private final WorkingHoursService workingHoursService;
+	private final QualificationIndex qualificationIndex;
+	private final Duration holdDuration;
+	private final Duration tickDuration;
+	private final TimingWheel<String> wheel;
+	private final Map<String, HeldSlot> holds = new ConcurrentHashMap<>();
+	private final Map<Long, List<SlotHold>> employeeHolds = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the service.
+	 *
+	 * @param appointmentTypeRepository {@link AppointmentTypeRepository} to read appointment types from
+	 * @param userRepository            {@link UserRepository} to read employees from
+	 * @param userService               {@link UserService} resolving the current user's firm
+	 * @param intervalIndex             {@link AppointmentIntervalIndex} of booked appointments
+	 * @param appointmentSeriesService  {@link AppointmentSeriesService} checking recurring series
+	 * @param lockCoordinator           {@link BookingLockCoordinator} serializing bookings of an employee
+	 * @param workingHoursService       {@link WorkingHoursService} checking the working time of employees
+	 * @param qualificationIndex        {@link QualificationIndex} checking the qualifications of employees
+	 * @param holdDuration              how long a slot stays held
+	 * @param tickDuration              interval at which expired holds are dropped
+	 * @param wheelSize                 number of buckets of the timing wheel
+	 */
+	public SlotHoldServiceImpl(
+		AppointmentTypeRepository appointmentTypeRepository,
+		UserRepository userRepository,
+		UserService userService,
+		AppointmentIntervalIndex intervalIndex,
+		AppointmentSeriesService appointmentSeriesService,
+		BookingLockCoordinator lockCoordinator,
+		WorkingHoursService workingHoursService,
+		QualificationIndex qualificationIndex,
+		@Value("${appointments.holds.duration:PT5M}") Duration holdDuration,
+		@Value("${appointments.holds.tick-duration:PT1S}") Duration tickDuration,
+		@Value("${appointments.holds.wheel-size:512}") int wheelSize
+	) {
+		this.appointmentTypeRepository = appointmentTypeRepository;
+		this.userRepository = userRepository;
+		this.userService = userService;
+		this.intervalIndex = intervalIndex;
+		this.appointmentSeriesService = appointmentSeriesService;
+		this.lockCoordinator = lockCoordinator;
+		this.workingHoursService = workingHoursService;
+		this.qualificationIndex = qualificationIndex;
+		this.holdDuration = holdDuration;
+		this.tickDuration = tickDuration;
+		this.wheel = new TimingWheel<>(wheelSize);
+	}
+
+	/**
+	 * Holds a free slot of an employee of the current user's firm.
+	 *
+	 * <p>The employee is locked for the check, so a hold cannot overlap a booking or another hold
+	 * made at the same time.</p>
+	 *
+	 * @param request {@link SlotHoldRequestDTO} employee, appointment type and start time to hold
+	 * @return {@link SlotHoldResponseDTO} hold with its expiry time
+	 * @throws UserNotFoundException    if the user is not found.
+	 * @throws InvalidStateException    if the request is incomplete, references an employee or
+	 *                                  appointment type outside the current user's firm, names an
+	 *                                  employee not qualified for the appointment type, or lies
+	 *                                  outside the employee's working time.
+	 * @throws BookingConflictException if the slot is booked or held.
+	 */
+	@Override
+	@Transactional
+	public SlotHoldResponseDTO holdSlot(SlotHoldRequestDTO request) {
+		return holdSlot(userService.getAuthUserFirm().getId(), request, holdDuration);
+	}
+
+	/**
+	 * Holds a free slot of an employee of a firm for the given time, e.g. a slot offered to a
+	 * waitlisted customer. The slot is checked and locked like a slot held by a user.
+	 *
+	 * @param firmId   {@link Long} ID of the firm
+	 * @param request  {@link SlotHoldRequestDTO} employee, appointment type and start time to hold
+	 * @param duration {@link Duration} how long the slot stays held
+	 * @return {@link SlotHoldResponseDTO} hold with its expiry time
+	 * @throws InvalidStateException    if the request is incomplete, references an employee or
+	 *                                  appointment type outside the firm, names an employee not
+	 *                                  qualified for the appointment type, or lies outside the
+	 *                                  employee's working time.
+	 * @throws BookingConflictException if the slot is booked or held.
+	 */
+	@Override
+	@Transactional
+	public SlotHoldResponseDTO holdSlot(Long firmId, SlotHoldRequestDTO request, Duration duration) {
+		if (request.getStartTime() == null || request.getEmployeeId() == null || request.getAppointmentTypeId() == null) {
+			throw new InvalidStateException("Employee, appointment type and start time are required.");
+		}
+
+		if (!userRepository.exists(UserFilterBuilder.builder().id(request.getEmployeeId()).firmId(firmId).build().toSpecification())) {
+			throw new InvalidStateException("Employee with ID " + request.getEmployeeId() + " does not exist.");
+		}
+
+		AppointmentType appointmentType = appointmentTypeRepository.findById(request.getAppointmentTypeId())
+			.filter(type -> type.getFirm().getId().equals(firmId))
+			.orElseThrow(() -> new InvalidStateException(
+				"Appointment type with ID " + request.getAppointmentTypeId() + " does not exist."
+			));
+		if (!qualificationIndex.isQualified(firmId, appointmentType.getId(), request.getEmployeeId())) {
+			throw new InvalidStateException("Employee with ID " + request.getEmployeeId() + " is not qualified for the appointment type.");
+		}
+
+		Duration appointmentDuration = Duration.ofMinutes(appointmentType.getDurationMinutes());
+		if (appointmentDuration.isNegative() || appointmentDuration.isZero() || appointmentDuration.compareTo(Appointment.MAX_DURATION) > 0) {
+			throw new InvalidStateException("Appointment type duration is not supported.");
+		}
+		Instant endTime = request.getStartTime().plus(appointmentDuration);
+		workingHoursService.validateWorkingTime(firmId, request.getEmployeeId(), request.getStartTime(), endTime);
+
+		lockCoordinator.lock(BookingLockCoordinator.Scope.EMPLOYEE, List.of(request.getEmployeeId()));
+		if (intervalIndex.hasConflict(request.getEmployeeId(), request.getStartTime(), endTime)
+			|| appointmentSeriesService.hasConflict(firmId, request.getEmployeeId(), request.getStartTime(), endTime)) {
+			throw new BookingConflictException(HOLD_CONFLICT_MESSAGE);
+		}
+
+		Instant now = Instant.now();
+		SlotHold hold = SlotHold.builder()
+			.id(UUID.randomUUID().toString())
+			.firmId(firmId)
+			.employeeId(request.getEmployeeId())
+			.appointmentTypeId(appointmentType.getId())
+			.startTime(request.getStartTime())
+			.endTime(endTime)
+			.expiresAt(now.plus(duration))
+			.build();
+
+		boolean[] added = new boolean[1];
+		employeeHolds.compute(hold.getEmployeeId(), (employeeId, current) -> {
+			List<SlotHold> next = new ArrayList<>();
+			if (current != null) {
+				for (SlotHold other : current) {
+					if (other.isExpired(now)) {
+						continue;
+					}
+					if (other.overlaps(hold.getStartTime(), hold.getEndTime())) {
+						return current;
+					}
+					next.add(other);
+				}
+			}
+			next.add(hold);
+			added[0] = true;
+			return List.copyOf(next);
+		});
+		if (!added[0]) {
+			throw new BookingConflictException(HOLD_CONFLICT_MESSAGE);
+		}
+
+		holds.put(hold.getId(), new HeldSlot(hold, wheel.schedule(hold.getId(), ticks(duration))));
+		return SlotHoldResponseDTO.fromModel(hold);
+	}
+
+	/**
+	 * Retrieves an unexpired hold of the current user's firm.
+	 *
+	 * @param id {@link String} ID of the hold
+	 * @return {@link SlotHold} hold
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the hold does not exist, has expired or belongs to another firm.
+	 */
+	@Override
+	public SlotHold getHold(String id) {
+		HeldSlot held = id != null ? holds.get(id) : null;
+		if (held == null || held.getHold().isExpired(Instant.now())
+			|| !held.getHold().getFirmId().equals(userService.getAuthUserFirm().getId())) {
+			throw new InvalidStateException("Slot hold with ID " + id + " does not exist.");
+		}
+		return held.getHold();
+	}
+
+	/**
+	 * Releases a hold of the current user's firm. Within a transaction, the hold is released
+	 * once the transaction commits, so it stays in place if the transaction rolls back.
+	 *
+	 * @param id {@link String} ID of the hold
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the hold does not exist, has expired or belongs to another firm.
+	 */
+	@Override
+	public void releaseHold(String id) {
+		SlotHold hold = getHold(id);
+		TransactionUtils.afterCommit(() -> remove(hold.getId()));
+	}
+
+	/**
+	 * Returns whether an unexpired hold of the employee overlaps the given time range.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param startTime  {@link Instant} start of the range, inclusive
+	 * @param endTime    {@link Instant} end of the range, exclusive
+	 * @return {@code true} if the range is held
+	 */
+	@Override
+	public boolean isHeld(Long employeeId, Instant startTime, Instant endTime) {
+		List<SlotHold> current = employeeHolds.get(employeeId);
+		if (current == null) {
+			return false;
+		}
+		Instant now = Instant.now();
+		return current.stream().anyMatch(hold -> !hold.isExpired(now) && hold.overlaps(startTime, endTime));
+	}
+
+	/**
+	 * Retrieves the unexpired holds of the given employees overlapping a time range.
+	 *
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param from        {@link Instant} start of the range, inclusive
+	 * @param to          {@link Instant} end of the range, exclusive
+	 * @return {@link List} of {@link SlotHold}
+	 */
+	@Override
+	public List<SlotHold> findHolds(Collection<Long> employeeIds, Instant from, Instant to) {
+		Instant now = Instant.now();
+		List<SlotHold> found = new ArrayList<>();
+		for (Long employeeId : employeeIds) {
+			for (SlotHold hold : employeeHolds.getOrDefault(employeeId, List.of())) {
+				if (!hold.isExpired(now) && hold.overlaps(from, to)) {
+					found.add(hold);
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Advances the timing wheel by one tick and drops the holds expiring at it.
+	 */
+	@Scheduled(fixedRateString = "${appointments.holds.tick-duration:PT1S}")
+	public void tick() {
+		List<String> expired = new ArrayList<>();
+		wheel.advance(expired::add);
+		expired.forEach(this::remove);
+		if (!expired.isEmpty()) {
+			log.debug("Dropped {} expired slot holds", expired.size());
+		}
+	}
+
+	/**
+	 * Returns the number of holds in memory, including expired ones not dropped yet.
+	 *
+	 * @return number of holds
+	 */
+	int size() {
+		return holds.size();
+	}
+
+	private long ticks(Duration duration) {
+		return (duration.toMillis() + tickDuration.toMillis() - 1) / tickDuration.toMillis();
+	}
+
+	private void remove(String id) {
+		HeldSlot held = holds.remove(id);
+		if (held == null) {
+			return;
+		}
+		held.getTimeout().cancel();
+		employeeHolds.computeIfPresent(held.getHold().getEmployeeId(), (employeeId, current) -> {
+			List<SlotHold> next = current.stream().filter(hold -> !hold.getId().equals(id)).toList();
+			return next.isEmpty() ? null : next;
+		});
+	}
+
+	/**
+	 * Hold together with its entry in the timing wheel.
+	 */
+	@Getter
+	@AllArgsConstructor
+	private static class HeldSlot {
+		private final SlotHold hold;
+		private final TimingWheel.Timeout<String> timeout;
+	}
+}
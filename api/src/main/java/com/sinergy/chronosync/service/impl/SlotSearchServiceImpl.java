@@ -0,0 +1,337 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.AppointmentFilterBuilder;
+import com.sinergy.chronosync.builder.UserFilterBuilder;
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.dto.request.SlotSearchRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentOccurrenceDTO;
+import com.sinergy.chronosync.dto.response.AvailableSlotDTO;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointment.SlotHold;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AppointmentSeriesService;
+import com.sinergy.chronosync.service.ResourceService;
+import com.sinergy.chronosync.service.SlotHoldService;
+import com.sinergy.chronosync.service.SlotSearchService;
+import com.sinergy.chronosync.service.UserService;
+import com.sinergy.chronosync.service.WorkingHoursService;
+import com.sinergy.chronosync.util.SlotBitmap;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Service implementation for searching free appointment slots.
+ *
+ * <p>The employees, their bookings and their recurring series in the searched window are read
+ * with one query each; slots held by bookings in progress are taken from the {@link SlotHoldService}.
+ * The occupancy of every employee is then built as a {@link SlotBitmap} with one bit per
+ * five-minute slot, starting from the employee's availability materialized by the
+ * {@link WorkingHoursService}, and scanned for free ranges as long as the appointment type. Only
+ * employees qualified for the appointment type, as told by the {@link QualificationIndex}, are
+ * searched. Employees are searched in parallel on a dedicated fork-join pool.
+ * When the appointment type requires resources, the slots in which a required kind has no free
+ * resource are materialized once by the {@link ResourceService} and added to the occupancy of
+ * every employee.</p>
+ *
+ * <p>Results are ranked by start time. Slots starting at the same time are ordered by the
+ * booked time of the employee in the window, least booked first, so that suggestions spread
+ * the load across employees.</p>
+ */
+@Service
+public class SlotSearchServiceImpl implements SlotSearchService {
+
+	/**
+	 * Longest window that can be searched at once.
+	 */
+	static final int MAX_DAYS = 31;
+
+	private static final long SLOT_SECONDS = SlotBitmap.SLOT_MINUTES * 60L;
+
+	private final AppointmentRepository appointmentRepository;
+	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final UserRepository userRepository;
+	private final UserService userService;
+	private final AppointmentSeriesService appointmentSeriesService;
+	private final SlotHoldService slotHoldService;
+	private final WorkingHoursService workingHoursService;
+	private final ResourceService resourceService;
+	private final QualificationIndex qualificationIndex;
+	private final int stepMinutes;
+	private final int defaultDays;
+	private final ForkJoinPool pool;
+
+	/**
+	 * Creates the service.
+	 *
+	 * @param appointmentRepository     {@link AppointmentRepository} to read bookings from
+	 * @param appointmentTypeRepository {@link AppointmentTypeRepository} to read the appointment type from
+	 * @param userRepository            {@link UserRepository} to read employees from
+	 * @param userService               {@link UserService} resolving the current user's firm
+	 * @param appointmentSeriesService  {@link AppointmentSeriesService} expanding recurring series
+	 * @param slotHoldService           {@link SlotHoldService} providing held slots
+	 * @param workingHoursService       {@link WorkingHoursService} providing the working time of employees
+	 * @param resourceService           {@link ResourceService} providing the occupancy of resources
+	 * @param qualificationIndex        {@link QualificationIndex} filtering employees by qualification
+	 * @param stepMinutes               alignment of offered start times in minutes, a multiple of five
+	 * @param defaultDays               number of days searched when the request does not specify it
+	 * @param parallelism               number of threads searching employees in parallel
+	 */
+	public SlotSearchServiceImpl(
+		AppointmentRepository appointmentRepository,
+		AppointmentTypeRepository appointmentTypeRepository,
+		UserRepository userRepository,
+		UserService userService,
+		AppointmentSeriesService appointmentSeriesService,
+		SlotHoldService slotHoldService,
+		WorkingHoursService workingHoursService,
+		ResourceService resourceService,
+		QualificationIndex qualificationIndex,
+		@Value("${slots.step-minutes:15}") int stepMinutes,
+		@Value("${slots.default-days:7}") int defaultDays,
+		@Value("${slots.search-parallelism:4}") int parallelism
+	) {
+		if (stepMinutes <= 0 || stepMinutes % SlotBitmap.SLOT_MINUTES != 0) {
+			throw new IllegalArgumentException("Slot step must be a positive multiple of " + SlotBitmap.SLOT_MINUTES + " minutes.");
+		}
+		this.appointmentRepository = appointmentRepository;
+		this.appointmentTypeRepository = appointmentTypeRepository;
+		this.userRepository = userRepository;
+		this.userService = userService;
+		this.appointmentSeriesService = appointmentSeriesService;
+		this.slotHoldService = slotHoldService;
+		this.workingHoursService = workingHoursService;
+		this.resourceService = resourceService;
+		this.qualificationIndex = qualificationIndex;
+		this.stepMinutes = stepMinutes;
+		this.defaultDays = defaultDays;
+		this.pool = new ForkJoinPool(parallelism);
+	}
+
+	/**
+	 * Searches the free slots of an appointment type across the employees of the current user's firm.
+	 *
+	 * <p>The window starts at the requested time, but not in the past, rounded up to the slot step.
+	 * A slot is free when it lies within the working time of the employee and does not overlap a booked appointment
+	 * or a held slot of the employee, and one resource of every kind required by the appointment type is free.</p>
+	 *
+	 * @param request     {@link SlotSearchRequestDTO} appointment type, time window and employees to search
+	 * @param pageRequest {@link PageRequest} pagination information
+	 * @return {@link Page} of {@link AvailableSlotDTO} ordered by start time
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the appointment type is missing or not found, or the window is too long.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Page<AvailableSlotDTO> findAvailableSlots(SlotSearchRequestDTO request, PageRequest pageRequest) {
+		if (request.getAppointmentTypeId() == null) {
+			throw new InvalidStateException("Appointment type is required.");
+		}
+		int days = request.getDays() != null ? request.getDays() : defaultDays;
+		if (days <= 0 || days > MAX_DAYS) {
+			throw new InvalidStateException("Number of days must be between 1 and " + MAX_DAYS + ".");
+		}
+
+		Firm firm = userService.getAuthUserFirm();
+
+		AppointmentType appointmentType = appointmentTypeRepository.findById(request.getAppointmentTypeId())
+			.filter(type -> type.getFirm().getId().equals(firm.getId()))
+			.orElseThrow(() -> new InvalidStateException(
+				"Appointment type with ID " + request.getAppointmentTypeId() + " does not exist."
+			));
+
+		Duration duration = Duration.ofMinutes(appointmentType.getDurationMinutes());
+		if (duration.isNegative() || duration.isZero() || duration.compareTo(Appointment.MAX_DURATION) > 0) {
+			throw new InvalidStateException("Appointment type duration is not supported.");
+		}
+
+		Instant from = windowStart(request.getFrom());
+		Instant to = from.plus(Duration.ofDays(days));
+
+		List<Long> employeeIds = qualificationIndex.filter(
+			firm.getId(), appointmentType.getId(), findEmployeeIds(firm, request.getEmployeeIds())
+		);
+		if (employeeIds.isEmpty()) {
+			return Page.empty(pageRequest);
+		}
+
+		Map<Long, List<int[]>> bookedSlots = findBookedSlots(firm, employeeIds, from, to);
+		Map<Long, SlotBitmap> availability = workingHoursService.getAvailability(firm.getId(), employeeIds, from, to);
+		Set<String> resourceKinds = appointmentType.getResourceKinds();
+		SlotBitmap resources = resourceKinds == null || resourceKinds.isEmpty()
+			? null
+			: resourceService.getOccupancy(firm.getId(), resourceKinds, from, to);
+		int length = (int) ((duration.getSeconds() + SLOT_SECONDS - 1) / SLOT_SECONDS);
+		int step = stepMinutes / SlotBitmap.SLOT_MINUTES;
+
+		List<EmployeeSlots> results = pool.submit(() -> employeeIds.parallelStream()
+			.map(employeeId -> search(employeeId, availability.get(employeeId), bookedSlots.getOrDefault(employeeId, List.of()), resources, length, step))
+			.toList()
+		).join();
+
+		return rank(results, from, duration, pageRequest);
+	}
+
+	/**
+	 * Shuts the search pool down.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * Builds the occupancy of one employee and collects the starts of its free ranges. The booked
+	 * time of the employee is counted before the occupancy of resources is added.
+	 */
+	private EmployeeSlots search(Long employeeId, SlotBitmap availability, List<int[]> booked, SlotBitmap resources,
+		int length, int step) {
+		SlotBitmap occupancy = new SlotBitmap(availability);
+		for (int[] range : booked) {
+			occupancy.occupy(range[0], range[1]);
+		}
+		int bookedCount = occupancy.countOccupied() - availability.countOccupied();
+		if (resources != null) {
+			occupancy.or(resources);
+		}
+
+		int[] starts = new int[occupancy.size() / step + 1];
+		int[] count = new int[1];
+		occupancy.forEachFreeRange(length, step, start -> starts[count[0]++] = start);
+
+		return new EmployeeSlots(employeeId, bookedCount, Arrays.copyOf(starts, count[0]));
+	}
+
+	/**
+	 * Orders the slots of all employees by start time and then by the employee's booked time,
+	 * and returns the requested page. Slots are sorted as {@code long} keys combining the start
+	 * slot and the rank of the employee, so no intermediate objects are created.
+	 */
+	private Page<AvailableSlotDTO> rank(List<EmployeeSlots> results, Instant from, Duration duration, PageRequest pageRequest) {
+		List<EmployeeSlots> employees = new ArrayList<>(results);
+		employees.sort(Comparator.comparingInt(EmployeeSlots::getBookedSlots).thenComparing(EmployeeSlots::getEmployeeId));
+
+		int total = 0;
+		for (EmployeeSlots employee : employees) {
+			total += employee.getStarts().length;
+		}
+
+		long[] keys = new long[total];
+		int index = 0;
+		for (int rank = 0; rank < employees.size(); rank++) {
+			for (int start : employees.get(rank).getStarts()) {
+				keys[index++] = (long) start << 32 | rank;
+			}
+		}
+		Arrays.sort(keys);
+
+		long offset = Math.min(pageRequest.getOffset(), total);
+		int end = (int) Math.min(offset + pageRequest.getPageSize(), total);
+		List<AvailableSlotDTO> content = new ArrayList<>(end - (int) offset);
+		for (int i = (int) offset; i < end; i++) {
+			Instant startTime = from.plusSeconds((keys[i] >>> 32) * SLOT_SECONDS);
+			content.add(AvailableSlotDTO.builder()
+				.employeeId(employees.get((int) keys[i]).getEmployeeId())
+				.startTime(startTime)
+				.endTime(startTime.plus(duration))
+				.build());
+		}
+
+		return new PageImpl<>(content, pageRequest, total);
+	}
+
+	/**
+	 * Returns the IDs of the firm's employees, restricted to the requested ones if any.
+	 */
+	private List<Long> findEmployeeIds(Firm firm, List<Long> requestedIds) {
+		return userRepository
+			.findAll(UserFilterBuilder.builder().firmId(firm.getId()).build().toSpecification())
+			.stream()
+			.map(User::getId)
+			.filter(id -> requestedIds == null || requestedIds.isEmpty() || requestedIds.contains(id))
+			.sorted()
+			.toList();
+	}
+
+	/**
+	 * Reads the booked appointments of all employees in the window with a single query, adds the
+	 * occurrences of their recurring series and their held slots, and converts all of them to slot
+	 * ranges, rounded outwards to whole slots.
+	 */
+	private Map<Long, List<int[]>> findBookedSlots(Firm firm, List<Long> employeeIds, Instant from, Instant to) {
+		AppointmentFilterBuilder filterBuilder = AppointmentFilterBuilder.builder()
+			.firmId(firm.getId())
+			.employeeIds(employeeIds)
+			.status(AppointmentStatus.BOOKED)
+			.from(from)
+			.to(to)
+			.build();
+
+		Map<Long, List<int[]>> bookedSlots = new HashMap<>();
+		for (Appointment appointment : appointmentRepository.findAll(filterBuilder.toSpecification())) {
+			bookedSlots
+				.computeIfAbsent(appointment.getEmployee().getId(), id -> new ArrayList<>())
+				.add(new int[]{slotFloor(from, appointment.getStartTime()), slotCeil(from, appointment.getEndTime())});
+		}
+		for (AppointmentOccurrenceDTO occurrence : appointmentSeriesService.findOccurrences(firm.getId(), employeeIds, from, to)) {
+			bookedSlots
+				.computeIfAbsent(occurrence.getEmployeeId(), id -> new ArrayList<>())
+				.add(new int[]{slotFloor(from, occurrence.getStartTime()), slotCeil(from, occurrence.getEndTime())});
+		}
+		for (SlotHold hold : slotHoldService.findHolds(employeeIds, from, to)) {
+			bookedSlots
+				.computeIfAbsent(hold.getEmployeeId(), id -> new ArrayList<>())
+				.add(new int[]{slotFloor(from, hold.getStartTime()), slotCeil(from, hold.getEndTime())});
+		}
+		return bookedSlots;
+	}
+
+	/**
+	 * Returns the start of the search window, not in the past and aligned to the slot step.
+	 */
+	private Instant windowStart(Instant requested) {
+		Instant now = Instant.now();
+		Instant start = requested != null && requested.isAfter(now) ? requested : now;
+		long stepSeconds = stepMinutes * 60L;
+		return Instant.ofEpochSecond(Math.ceilDiv(start.getEpochSecond(), stepSeconds) * stepSeconds);
+	}
+
+	private static int slotFloor(Instant from, Instant time) {
+		return (int) Math.floorDiv(Duration.between(from, time).getSeconds(), SLOT_SECONDS);
+	}
+
+	private static int slotCeil(Instant from, Instant time) {
+		return (int) Math.ceilDiv(Duration.between(from, time).getSeconds(), SLOT_SECONDS);
+	}
+
+	/**
+	 * Free range starts of one employee, with the number of slots booked in the window.
+	 */
+	@Getter
+	@AllArgsConstructor
+	private static class EmployeeSlots {
+
+		private final Long employeeId;
+		private final int bookedSlots;
+		private final int[] starts;
+	}
+}
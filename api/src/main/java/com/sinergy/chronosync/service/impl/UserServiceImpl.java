@@ -1,12 +1,26 @@
 package com.sinergy.chronosync.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sinergy.chronosync.builder.UserFilterBuilder;
 import com.sinergy.chronosync.dto.request.UserRequestDTO;
+import com.sinergy.chronosync.event.EmployeeChangedEvent;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.firm.Firm;
 import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.AuditService;
 import com.sinergy.chronosync.service.UserService;
+import com.sinergy.chronosync.util.MergePatchUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
 
 /**
  * User service implementation.
@@ -15,8 +29,19 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
+	private static final Map<String, Class<?>> PATCHABLE_FIELDS = Map.of(
+		"firstName", String.class,
+		"lastName", String.class,
+		"identificationNumber", String.class,
+		"address", String.class,
+		"phone", String.class,
+		"email", String.class
+	);
+
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final AuditService auditService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * Creates new user.
@@ -25,13 +50,91 @@ public class UserServiceImpl implements UserService {
 	 * @return {@link User} user create response
 	 */
 	@Override
+	@Transactional
 	public User create(UserRequestDTO request) {
 		User user = request.toModel(false);
 		user.setPassword(passwordEncoder.encode(request.getPassword()));
 
 		User createdUser = userRepository.save(user);
 		createdUser.setPassword(null);
+		auditService.publish(AuditAction.CREATE, User.class, createdUser.getId());
 
 		return createdUser;
 	}
+
+	/**
+	 * Partially updates an existing user using a JSON Merge Patch document.
+	 *
+	 * <p>Only personal data can be patched. Username, password, role and account state
+	 * are managed by dedicated operations. The update is executed as a single statement
+	 * restricted to the current user's firm that writes only the changed columns. Changed names are published as an
+	 * {@link EmployeeChangedEvent}, since calendar views show them.</p>
+	 *
+	 * @param id    {@link Long} ID of the user to patch
+	 * @param patch {@link JsonNode} merge patch document containing only the changed fields
+	 * @throws InvalidStateException if the patch is invalid
+	 * @throws UserNotFoundException if the current user cannot be found or the user does not exist
+	 *                               within the current user's firm
+	 */
+	@Override
+	@Transactional
+	public void patch(Long id, JsonNode patch) {
+		Map<String, Object> changes = MergePatchUtils.toChanges(patch, PATCHABLE_FIELDS);
+		validatePatch(changes);
+
+		if (changes.isEmpty()) {
+			return;
+		}
+
+		UserFilterBuilder filterBuilder = UserFilterBuilder.builder()
+			.firmId(getAuthUserFirm().getId())
+			.build();
+
+		if (userRepository.patch(id, changes, filterBuilder.toSpecification()) == 0) {
+			throw new UserNotFoundException("User with ID " + id + " does not exist.");
+		}
+		if (changes.containsKey("firstName") || changes.containsKey("lastName")) {
+			eventPublisher.publishEvent(new EmployeeChangedEvent(id));
+		}
+		auditService.publish(AuditAction.UPDATE, User.class, id);
+	}
+
+	/**
+	 * Returns the firm of the currently authenticated user.
+	 *
+	 * <p>The firm is not loaded, the returned reference only carries its ID unless it is read.</p>
+	 *
+	 * @return {@link Firm} firm of the current user
+	 * @throws UserNotFoundException if the user is not found
+	 * @throws InvalidStateException if the user is not associated with a firm
+	 */
+	@Override
+	public Firm getAuthUserFirm() {
+		UserFilterBuilder filterBuilder = UserFilterBuilder.builder()
+			.username(SecurityContextHolder.getContext().getAuthentication().getName())
+			.build();
+
+		User user = userRepository.findOne(filterBuilder.toSpecification())
+			.orElseThrow(() -> new UserNotFoundException("User not found"));
+
+		Firm firm = user.getFirm();
+		if (firm == null) {
+			throw new InvalidStateException("User is not associated with any firm.");
+		}
+
+		return firm;
+	}
+
+	private void validatePatch(Map<String, Object> changes) {
+		for (String field : new String[] {"firstName", "lastName"}) {
+			if (changes.containsKey(field)
+				&& (changes.get(field) == null || ((String) changes.get(field)).isBlank())) {
+				throw new InvalidStateException("Field '" + field + "' cannot be empty.");
+			}
+		}
+
+		if (changes.get("email") instanceof String email && !email.contains("@")) {
+			throw new InvalidStateException("Invalid email address.");
+		}
+	}
 }
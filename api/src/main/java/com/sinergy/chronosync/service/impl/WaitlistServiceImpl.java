@@ -0,0 +1,522 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.UserFilterBuilder;
+import com.sinergy.chronosync.builder.WaitlistEntryFilterBuilder;
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.config.WaitlistIndex;
+import com.sinergy.chronosync.dto.request.SlotHoldRequestDTO;
+import com.sinergy.chronosync.dto.request.WaitlistEntryRequestDTO;
+import com.sinergy.chronosync.dto.response.SlotHoldResponseDTO;
+import com.sinergy.chronosync.dto.response.WaitlistEntryResponseDTO;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.customer.Customer;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.waitlist.WaitlistEntry;
+import com.sinergy.chronosync.model.waitlist.WaitlistEntryStatus;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.CustomerRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.repository.WaitlistEntryRepository;
+import com.sinergy.chronosync.service.AuditService;
+import com.sinergy.chronosync.service.SlotHoldService;
+import com.sinergy.chronosync.service.UserService;
+import com.sinergy.chronosync.service.WaitlistService;
+import com.sinergy.chronosync.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Service implementation for the waitlist of customers waiting for a free slot.
+ *
+ * <p>Customers wait for a slot of an appointment type within a time window, optionally with a
+ * preferred employee. The waiting entries of every firm are kept in the {@link WaitlistIndex},
+ * which finds the best entry accepting a slot in logarithmic time.</p>
+ *
+ * <p>Cancelled appointments are queued once the cancellation commits and backfilled in batches
+ * by a scheduled task, so cancelling stays as fast as before and a burst of cancellations, e.g.
+ * an employee's whole day, is matched with one query for the batch. The freed slot is held for
+ * the best entry through the {@link SlotHoldService} and the entry is marked as offered in the
+ * same transaction. If the slot cannot be held, e.g. because it was booked again in the meantime,
+ * the entry keeps its place. The hold is confirmed like any other hold, which marks the entry
+ * as booked.</p>
+ *
+ * <p>Offers whose hold expired unconfirmed are found in the database by a scheduled task, so
+ * they expire whichever instance made them. The entry is put back on the waitlist with its
+ * original place and the slot is offered to the next entry accepting it. The change is a
+ * conditional update, so an offer is expired only once across instances.</p>
+ */
+@Slf4j
+@Service
+public class WaitlistServiceImpl implements WaitlistService {
+
+	/**
+	 * Longest allowed window of an entry.
+	 */
+	static final Duration MAX_WINDOW = Duration.ofDays(92);
+
+	private final WaitlistEntryRepository entryRepository;
+	private final AppointmentRepository appointmentRepository;
+	private final AppointmentTypeRepository appointmentTypeRepository;
+	private final CustomerRepository customerRepository;
+	private final UserRepository userRepository;
+	private final UserService userService;
+	private final AuditService auditService;
+	private final SlotHoldService slotHoldService;
+	private final WaitlistIndex waitlistIndex;
+	private final QualificationIndex qualificationIndex;
+	private final TransactionTemplate transaction;
+	private final Duration offerDuration;
+	private final int batchSize;
+	private final Queue<Long> cancelled = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Creates the service.
+	 *
+	 * @param entryRepository           {@link WaitlistEntryRepository} to store waitlist entries in
+	 * @param appointmentRepository     {@link AppointmentRepository} to read cancelled appointments from
+	 * @param appointmentTypeRepository {@link AppointmentTypeRepository} to read appointment types from
+	 * @param customerRepository        {@link CustomerRepository} to read customers from
+	 * @param userRepository            {@link UserRepository} to read employees from
+	 * @param userService               {@link UserService} resolving the current user's firm
+	 * @param auditService              {@link AuditService} recording changed entries
+	 * @param slotHoldService           {@link SlotHoldService} holding offered slots
+	 * @param waitlistIndex             {@link WaitlistIndex} of waiting entries
+	 * @param qualificationIndex        {@link QualificationIndex} checking the qualifications of preferred employees
+	 * @param transactionManager        {@link PlatformTransactionManager} for offering slots one by one
+	 * @param offerDuration             how long an offered slot stays held
+	 * @param batchSize                 largest number of cancelled appointments read with one query
+	 */
+	public WaitlistServiceImpl(
+		WaitlistEntryRepository entryRepository,
+		AppointmentRepository appointmentRepository,
+		AppointmentTypeRepository appointmentTypeRepository,
+		CustomerRepository customerRepository,
+		UserRepository userRepository,
+		UserService userService,
+		AuditService auditService,
+		SlotHoldService slotHoldService,
+		WaitlistIndex waitlistIndex,
+		QualificationIndex qualificationIndex,
+		PlatformTransactionManager transactionManager,
+		@Value("${waitlist.offer-duration:PT30M}") Duration offerDuration,
+		@Value("${waitlist.backfill-batch-size:500}") int batchSize
+	) {
+		this.entryRepository = entryRepository;
+		this.appointmentRepository = appointmentRepository;
+		this.appointmentTypeRepository = appointmentTypeRepository;
+		this.customerRepository = customerRepository;
+		this.userRepository = userRepository;
+		this.userService = userService;
+		this.auditService = auditService;
+		this.slotHoldService = slotHoldService;
+		this.waitlistIndex = waitlistIndex;
+		this.qualificationIndex = qualificationIndex;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.offerDuration = offerDuration;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Retrieves the waitlist entries of the current user's firm.
+	 *
+	 * @param filter {@link WaitlistEntryRequestDTO} appointment type and customer to filter by
+	 * @return {@link List} of {@link WaitlistEntryResponseDTO} in the order they are offered slots
+	 * @throws UserNotFoundException if the user is not found.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<WaitlistEntryResponseDTO> getEntries(WaitlistEntryRequestDTO filter) {
+		WaitlistEntryFilterBuilder filterBuilder = WaitlistEntryFilterBuilder.builder()
+			.firmId(userService.getAuthUserFirm().getId())
+			.appointmentTypeId(filter.getAppointmentTypeId())
+			.customerId(filter.getCustomerId())
+			.build();
+		return entryRepository.findAll(filterBuilder.toSpecification(), Sort.by(Sort.Order.desc("priority"), Sort.Order.asc("id")))
+			.stream()
+			.map(WaitlistEntryResponseDTO::fromModel)
+			.toList();
+	}
+
+	/**
+	 * Adds a customer of the current user's firm to the waitlist. The entry is queued once the
+	 * transaction commits.
+	 *
+	 * @param request {@link WaitlistEntryRequestDTO} appointment type, customer, window and priority
+	 * @return {@link WaitlistEntryResponseDTO} created entry
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the request is incomplete, references an appointment type,
+	 *                               customer or employee outside the current user's firm, prefers
+	 *                               an employee not qualified for the appointment type, or its
+	 *                               window or priority is invalid.
+	 */
+	@Override
+	@Transactional
+	public WaitlistEntryResponseDTO addEntry(WaitlistEntryRequestDTO request) {
+		if (request.getAppointmentTypeId() == null || request.getCustomerId() == null) {
+			throw new InvalidStateException("Appointment type and customer are required.");
+		}
+		validateWindow(request.getWindowStart(), request.getWindowEnd());
+		int priority = request.getPriority() != null ? request.getPriority() : 0;
+		if (priority < 0 || priority > WaitlistEntry.MAX_PRIORITY) {
+			throw new InvalidStateException("Priority must be between 0 and " + WaitlistEntry.MAX_PRIORITY + ".");
+		}
+
+		Firm firm = userService.getAuthUserFirm();
+		AppointmentType appointmentType = appointmentTypeRepository.findById(request.getAppointmentTypeId())
+			.filter(type -> type.getFirm().getId().equals(firm.getId()))
+			.orElseThrow(() -> new InvalidStateException(
+				"Appointment type with ID " + request.getAppointmentTypeId() + " does not exist."
+			));
+		if (appointmentType.getCapacity() != null && appointmentType.getCapacity() > 1) {
+			throw new InvalidStateException("Customers sign up to group sessions separately.");
+		}
+		if (Duration.between(request.getWindowStart(), request.getWindowEnd())
+			.compareTo(Duration.ofMinutes(appointmentType.getDurationMinutes())) < 0) {
+			throw new InvalidStateException("Waitlist window is shorter than the appointment type.");
+		}
+
+		Customer customer = customerRepository.findById(request.getCustomerId())
+			.filter(c -> c.getFirm().getId().equals(firm.getId()))
+			.orElseThrow(() -> new InvalidStateException("Customer with ID " + request.getCustomerId() + " does not exist."));
+
+		User employee = null;
+		if (request.getEmployeeId() != null) {
+			if (!userRepository.exists(UserFilterBuilder.builder().id(request.getEmployeeId()).firmId(firm.getId()).build().toSpecification())) {
+				throw new InvalidStateException("Employee with ID " + request.getEmployeeId() + " does not exist.");
+			}
+			if (!qualificationIndex.isQualified(firm.getId(), appointmentType.getId(), request.getEmployeeId())) {
+				throw new InvalidStateException("Employee with ID " + request.getEmployeeId() + " is not qualified for the appointment type.");
+			}
+			employee = userRepository.getReferenceById(request.getEmployeeId());
+		}
+
+		WaitlistEntry entry = entryRepository.save(WaitlistEntry.builder()
+			.firm(firm)
+			.appointmentType(appointmentType)
+			.customer(customer)
+			.employee(employee)
+			.windowStart(request.getWindowStart())
+			.windowEnd(request.getWindowEnd())
+			.priority(priority)
+			.status(WaitlistEntryStatus.WAITING)
+			.build());
+
+		TransactionUtils.afterCommit(() -> waitlistIndex.added(entry, appointmentType.getDurationMinutes()));
+		auditService.publish(AuditAction.CREATE, WaitlistEntry.class, entry.getId());
+
+		return WaitlistEntryResponseDTO.fromModel(entry);
+	}
+
+	/**
+	 * Puts an offered entry of the current user's firm back on the waitlist with its original
+	 * place. The hold of the offered slot is left to expire.
+	 *
+	 * @param id {@link Long} ID of the entry
+	 * @return {@link WaitlistEntryResponseDTO} waiting entry
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the entry does not exist or is not offered a slot.
+	 */
+	@Override
+	@Transactional
+	public WaitlistEntryResponseDTO requeueEntry(Long id) {
+		WaitlistEntry entry = findEntry(id, WaitlistEntryStatus.OFFERED);
+		entry.setStatus(WaitlistEntryStatus.WAITING);
+		entry.setHoldId(null);
+		entry.setOfferEmployee(null);
+		entry.setOfferStartTime(null);
+		entry.setOfferExpiresAt(null);
+		WaitlistEntry saved = entryRepository.save(entry);
+
+		int durationMinutes = saved.getAppointmentType().getDurationMinutes();
+		TransactionUtils.afterCommit(() -> waitlistIndex.added(saved, durationMinutes));
+		auditService.publish(AuditAction.UPDATE, WaitlistEntry.class, saved.getId());
+
+		return WaitlistEntryResponseDTO.fromModel(saved);
+	}
+
+	/**
+	 * Removes an entry of the current user's firm from the waitlist.
+	 *
+	 * @param id {@link Long} ID of the entry
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the entry does not exist.
+	 */
+	@Override
+	@Transactional
+	public void deleteEntry(Long id) {
+		WaitlistEntry entry = findEntry(id, null);
+		entryRepository.delete(entry);
+
+		Long firmId = entry.getFirm().getId();
+		TransactionUtils.afterCommit(() -> waitlistIndex.removed(firmId, id));
+		auditService.publish(AuditAction.DELETE, WaitlistEntry.class, id);
+	}
+
+	/**
+	 * Queues the slot of a cancelled appointment for the next backfill once the cancellation
+	 * commits. Nothing is read or written here.
+	 *
+	 * @param appointmentId {@link Long} ID of the cancelled appointment
+	 */
+	@Override
+	public void appointmentCancelled(Long appointmentId) {
+		TransactionUtils.afterCommit(() -> cancelled.add(appointmentId));
+	}
+
+	/**
+	 * Marks the entry offered a hold as booked, if any.
+	 *
+	 * @param holdId {@link String} ID of the confirmed hold
+	 */
+	@Override
+	@Transactional
+	public void holdConfirmed(String holdId) {
+		entryRepository.findOne(WaitlistEntryFilterBuilder.builder()
+			.holdId(holdId)
+			.status(WaitlistEntryStatus.OFFERED)
+			.build()
+			.toSpecification()
+		).ifPresent(entry -> {
+			entry.setStatus(WaitlistEntryStatus.BOOKED);
+			auditService.publish(AuditAction.UPDATE, WaitlistEntry.class, entry.getId());
+		});
+	}
+
+	/**
+	 * Puts the entries whose offered hold expired unconfirmed back on the waitlist with their
+	 * original place, and offers each slot still ahead to the next entry accepting it.
+	 *
+	 * @return number of expired offers
+	 */
+	@Scheduled(fixedDelayString = "${waitlist.expire-interval:PT1M}")
+	public int expireOffers() {
+		Instant now = Instant.now();
+		List<Long> ids = entryRepository.findAll(WaitlistEntryFilterBuilder.builder()
+				.status(WaitlistEntryStatus.OFFERED)
+				.offerExpiresBefore(now)
+				.build()
+				.toSpecification()
+			).stream()
+			.map(WaitlistEntry::getId)
+			.toList();
+
+		int expired = 0;
+		for (Long id : ids) {
+			try {
+				WaitlistEntry entry = transaction.execute(status -> expireOffer(id, now));
+				if (entry == null) {
+					continue;
+				}
+				expired++;
+				if (entry.getOfferStartTime().isAfter(now)) {
+					offer(entry.getFirm().getId(), entry.getAppointmentType().getId(), entry.getOfferEmployee(), entry.getOfferStartTime(), id);
+				}
+			} catch (RuntimeException e) {
+				log.error("Failed to expire the offer of waitlist entry {}", id, e);
+			}
+		}
+		if (expired > 0) {
+			log.debug("Expired {} unconfirmed waitlist offers", expired);
+		}
+		return expired;
+	}
+
+	/**
+	 * Offers the slots of the queued cancelled appointments to the waitlist, reading them in
+	 * batches. Slots are offered in the order they start.
+	 *
+	 * @return number of offered slots
+	 */
+	@Scheduled(fixedDelayString = "${waitlist.backfill-interval:PT1S}")
+	public int backfill() {
+		int offered = 0;
+		List<Long> batch = new ArrayList<>();
+		for (Long id = cancelled.poll(); id != null; id = cancelled.poll()) {
+			batch.add(id);
+			if (batch.size() == batchSize) {
+				offered += backfill(batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			offered += backfill(batch);
+		}
+		if (offered > 0) {
+			log.debug("Offered {} freed slots to waitlisted customers", offered);
+		}
+		return offered;
+	}
+
+	private int backfill(List<Long> appointmentIds) {
+		Instant now = Instant.now();
+		List<Appointment> freed = appointmentRepository.findAllById(appointmentIds).stream()
+			.filter(appointment -> appointment.getStatus() == AppointmentStatus.CANCELLED && appointment.getStartTime().isAfter(now))
+			.sorted(Comparator.comparing(Appointment::getStartTime))
+			.toList();
+
+		int offered = 0;
+		for (Appointment appointment : freed) {
+			try {
+				if (offer(appointment.getFirm().getId(), appointment.getAppointmentType().getId(),
+					appointment.getEmployee(), appointment.getStartTime(), null)) {
+					offered++;
+				}
+			} catch (RuntimeException e) {
+				log.error("Failed to offer the slot of cancelled appointment {}", appointment.getId(), e);
+			}
+		}
+		return offered;
+	}
+
+	/**
+	 * Offers the slot to the best entry accepting it. Entries that stopped waiting since they
+	 * were queued are skipped, and so is the given entry, whose offer of the slot expired. Taken
+	 * entries are put back into the index unless the offer committed or they stopped waiting.
+	 */
+	private boolean offer(Long firmId, Long appointmentTypeId, User employee, Instant startTime, Long skippedId) {
+		WaitlistIndex.Queued skipped = null;
+		try {
+			while (true) {
+				WaitlistIndex.Queued queued = waitlistIndex.poll(firmId, appointmentTypeId, employee.getId(), startTime);
+				if (queued == null) {
+					return false;
+				}
+				if (queued.getId().equals(skippedId)) {
+					skipped = queued;
+					continue;
+				}
+				boolean settled = false;
+				try {
+					Boolean offered = transaction.execute(status -> offerEntry(firmId, appointmentTypeId, employee, startTime, queued.getId()));
+					settled = true;
+					if (Boolean.TRUE.equals(offered)) {
+						return true;
+					}
+				} catch (BookingConflictException | InvalidStateException e) {
+					log.debug("Slot of employee {} at {} cannot be offered: {}", employee.getId(), startTime, e.getMessage());
+					return false;
+				} finally {
+					if (!settled) {
+						waitlistIndex.restore(firmId, queued);
+					}
+				}
+			}
+		} finally {
+			if (skipped != null) {
+				waitlistIndex.restore(firmId, skipped);
+			}
+		}
+	}
+
+	private boolean offerEntry(Long firmId, Long appointmentTypeId, User employee, Instant startTime, Long entryId) {
+		WaitlistEntry entry = entryRepository.findOne(WaitlistEntryFilterBuilder.builder()
+			.id(entryId)
+			.status(WaitlistEntryStatus.WAITING)
+			.build()
+			.toSpecification()
+		).orElse(null);
+		if (entry == null) {
+			return false;
+		}
+
+		SlotHoldResponseDTO hold = slotHoldService.holdSlot(firmId, SlotHoldRequestDTO.builder()
+			.employeeId(employee.getId())
+			.appointmentTypeId(appointmentTypeId)
+			.startTime(startTime)
+			.build(), offerDuration);
+
+		entry.setStatus(WaitlistEntryStatus.OFFERED);
+		entry.setHoldId(hold.getId());
+		entry.setOfferEmployee(employee);
+		entry.setOfferStartTime(hold.getStartTime());
+		entry.setOfferExpiresAt(hold.getExpiresAt());
+		auditService.publish(AuditAction.UPDATE, WaitlistEntry.class, entry.getId());
+		return true;
+	}
+
+	/**
+	 * Puts the entry back on the waitlist if its offer is still the expired one. The update
+	 * bypasses the loaded entry, which keeps the expired offer for offering the slot again.
+	 *
+	 * @return {@link WaitlistEntry} entry with its expired offer, {@code null} if it was already expired or confirmed
+	 */
+	private WaitlistEntry expireOffer(Long id, Instant now) {
+		Specification<WaitlistEntry> expired = WaitlistEntryFilterBuilder.builder()
+			.id(id)
+			.status(WaitlistEntryStatus.OFFERED)
+			.offerExpiresBefore(now)
+			.build()
+			.toSpecification();
+		WaitlistEntry entry = entryRepository.findOne(expired).orElse(null);
+		if (entry == null) {
+			return null;
+		}
+
+		Map<String, Object> changes = new HashMap<>();
+		changes.put("status", WaitlistEntryStatus.WAITING);
+		changes.put("holdId", null);
+		changes.put("offerEmployee", null);
+		changes.put("offerStartTime", null);
+		changes.put("offerExpiresAt", null);
+		if (entryRepository.patch(id, changes, expired) == 0) {
+			return null;
+		}
+
+		int durationMinutes = entry.getAppointmentType().getDurationMinutes();
+		TransactionUtils.afterCommit(() -> waitlistIndex.added(entry, durationMinutes));
+		auditService.publish(AuditAction.UPDATE, WaitlistEntry.class, id);
+		return entry;
+	}
+
+	private WaitlistEntry findEntry(Long id, WaitlistEntryStatus status) {
+		return entryRepository.findOne(WaitlistEntryFilterBuilder.builder()
+			.id(id)
+			.firmId(userService.getAuthUserFirm().getId())
+			.status(status)
+			.build()
+			.toSpecification()
+		).orElseThrow(() -> new InvalidStateException(
+			(status == WaitlistEntryStatus.OFFERED ? "Offered waitlist entry" : "Waitlist entry") + " with ID " + id + " does not exist."
+		));
+	}
+
+	private static void validateWindow(Instant windowStart, Instant windowEnd) {
+		if (windowStart == null || windowEnd == null) {
+			throw new InvalidStateException("Waitlist window start and end are required.");
+		}
+		if (!windowStart.isBefore(windowEnd)) {
+			throw new InvalidStateException("Waitlist window start must be before its end.");
+		}
+		if (!windowEnd.isAfter(Instant.now())) {
+			throw new InvalidStateException("Waitlist window has already ended.");
+		}
+		if (Duration.between(windowStart, windowEnd).compareTo(MAX_WINDOW) > 0) {
+			throw new InvalidStateException("Waitlist window cannot be longer than " + MAX_WINDOW.toDays() + " days.");
+		}
+	}
+}
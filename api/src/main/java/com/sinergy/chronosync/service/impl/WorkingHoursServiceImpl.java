@@ -0,0 +1,731 @@
+package com.sinergy.chronosync.service.impl;
+
+import com.sinergy.chronosync.builder.FirmClosureFilterBuilder;
+import com.sinergy.chronosync.builder.UserFilterBuilder;
+import com.sinergy.chronosync.builder.WorkingHoursOverrideFilterBuilder;
+import com.sinergy.chronosync.builder.WorkingHoursTemplateFilterBuilder;
+import com.sinergy.chronosync.config.ClosedDayCalendar;
+import com.sinergy.chronosync.dto.request.FirmClosureRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursOverrideRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRangeRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingTimeRangeDTO;
+import com.sinergy.chronosync.dto.response.FirmClosureResponseDTO;
+import com.sinergy.chronosync.dto.response.WorkingHoursResponseDTO;
+import com.sinergy.chronosync.dto.response.WorkingIntervalDTO;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.firm.FirmClosure;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.workingHours.WorkingHoursOverride;
+import com.sinergy.chronosync.model.workingHours.WorkingHoursTemplate;
+import com.sinergy.chronosync.repository.FirmClosureRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.repository.WorkingHoursOverrideRepository;
+import com.sinergy.chronosync.repository.WorkingHoursTemplateRepository;
+import com.sinergy.chronosync.service.AuditService;
+import com.sinergy.chronosync.service.UserService;
+import com.sinergy.chronosync.service.WorkingHoursService;
+import com.sinergy.chronosync.util.SlotBitmap;
+import com.sinergy.chronosync.util.TransactionUtils;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Service implementation for managing working hours of employees and closures of firms.
+ *
+ * <p>Weekly working hours are stored as one bitmap of five-minute slots per employee, see
+ * {@link WorkingHoursTemplate}, and single dates can be overridden with a day bitmap. Employees
+ * without working hours of their own work the default working hours. Nobody works on the
+ * days of a {@link FirmClosure}, which are looked up in the {@link ClosedDayCalendar}. All working
+ * hours are in the configured time zone.</p>
+ *
+ * <p>The working time of an employee in a calendar week, after overrides, is resolved into a
+ * week bitmap and cached per employee and week. Availability for a time range is materialized
+ * from the cached weeks in one pass over the days of the range, skipping closed days; weeks
+ * missing from the cache are resolved for all requested employees with one query each for
+ * working hours and overrides. Edits invalidate the affected weeks when their transaction
+ * commits. Other instances pick edits up once their cached weeks expire.</p>
+ */
+@Service
+public class WorkingHoursServiceImpl implements WorkingHoursService {
+
+	/**
+	 * Longest time range whose working time can be retrieved at once.
+	 */
+	static final Duration MAX_RANGE = Duration.ofDays(92);
+
+	private static final int SLOTS_PER_DAY = WorkingHoursTemplate.SLOTS_PER_DAY;
+	private static final int SLOTS_PER_WEEK = WorkingHoursTemplate.SLOTS_PER_WEEK;
+	private static final long SLOT_SECONDS = SlotBitmap.SLOT_MINUTES * 60L;
+
+	private final WorkingHoursTemplateRepository templateRepository;
+	private final WorkingHoursOverrideRepository overrideRepository;
+	private final FirmClosureRepository closureRepository;
+	private final UserRepository userRepository;
+	private final UserService userService;
+	private final AuditService auditService;
+	private final ClosedDayCalendar closedDays;
+	private final ZoneId timeZone;
+	private final SlotBitmap defaultWeek;
+	private final boolean enforceOnBooking;
+	private final Duration cacheTtl;
+	private final Map<WeekKey, CachedWeek> weeks;
+	private long generation;
+
+	/**
+	 * Creates the service.
+	 *
+	 * @param templateRepository {@link WorkingHoursTemplateRepository} to read weekly working hours from
+	 * @param overrideRepository {@link WorkingHoursOverrideRepository} to read overrides from
+	 * @param closureRepository  {@link FirmClosureRepository} to read firm closures from
+	 * @param userRepository     {@link UserRepository} to read employees from
+	 * @param userService        {@link UserService} resolving the current user's firm
+	 * @param auditService       {@link AuditService} recording edits
+	 * @param closedDays         {@link ClosedDayCalendar} of the days firms are closed on
+	 * @param timeZone           time zone of all working hours
+	 * @param defaultStart       start of the default working hours, e.g. {@code 08:00}
+	 * @param defaultEnd         end of the default working hours, e.g. {@code 16:00}
+	 * @param defaultDays        days of the week with default working hours
+	 * @param enforceOnBooking   whether bookings outside the working time are rejected
+	 * @param cacheMaxWeeks      maximum number of cached employee weeks
+	 * @param cacheTtl           time after which cached weeks are resolved again
+	 */
+	public WorkingHoursServiceImpl(
+		WorkingHoursTemplateRepository templateRepository,
+		WorkingHoursOverrideRepository overrideRepository,
+		FirmClosureRepository closureRepository,
+		UserRepository userRepository,
+		UserService userService,
+		AuditService auditService,
+		ClosedDayCalendar closedDays,
+		@Value("${working-hours.time-zone:UTC}") ZoneId timeZone,
+		@Value("${working-hours.default-start:08:00}") String defaultStart,
+		@Value("${working-hours.default-end:16:00}") String defaultEnd,
+		@Value("${working-hours.default-days:MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY}") List<DayOfWeek> defaultDays,
+		@Value("${working-hours.enforce-on-booking:true}") boolean enforceOnBooking,
+		@Value("${working-hours.cache.max-weeks:20000}") int cacheMaxWeeks,
+		@Value("${working-hours.cache.ttl:PT5M}") Duration cacheTtl
+	) {
+		this.templateRepository = templateRepository;
+		this.overrideRepository = overrideRepository;
+		this.closureRepository = closureRepository;
+		this.userRepository = userRepository;
+		this.userService = userService;
+		this.auditService = auditService;
+		this.closedDays = closedDays;
+		this.timeZone = timeZone;
+		this.enforceOnBooking = enforceOnBooking;
+		this.cacheTtl = cacheTtl;
+
+		WorkingTimeRangeDTO defaultRange = new WorkingTimeRangeDTO(LocalTime.parse(defaultStart), LocalTime.parse(defaultEnd));
+		this.defaultWeek = new SlotBitmap(SLOTS_PER_WEEK);
+		for (DayOfWeek day : defaultDays) {
+			fill(defaultWeek, dayOffset(day), List.of(defaultRange));
+		}
+
+		this.weeks = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<WeekKey, CachedWeek> eldest) {
+				return size() > cacheMaxWeeks;
+			}
+		};
+	}
+
+	/**
+	 * Retrieves the weekly working hours of an employee of the current user's firm.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @return {@link WorkingHoursResponseDTO} weekly working hours, or the default working hours
+	 * if the employee has none of their own
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the employee does not exist in the current user's firm.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public WorkingHoursResponseDTO getWorkingHours(Long employeeId) {
+		User employee = findEmployee(userService.getAuthUserFirm(), employeeId);
+
+		Optional<WorkingHoursTemplate> template = findTemplate(employee.getId());
+		SlotBitmap week = template
+			.map(current -> SlotBitmap.fromByteArray(current.getSlots(), SLOTS_PER_WEEK))
+			.orElse(defaultWeek);
+
+		return toResponse(employee.getId(), template.isEmpty(), week);
+	}
+
+	/**
+	 * Replaces the weekly working hours of an employee of the current user's firm.
+	 *
+	 * @param request {@link WorkingHoursRequestDTO} employee and working time per day of the week
+	 * @return {@link WorkingHoursResponseDTO} updated weekly working hours
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the request is incomplete, a time range is invalid or the
+	 *                               employee does not exist in the current user's firm.
+	 */
+	@Override
+	@Transactional
+	public WorkingHoursResponseDTO updateWorkingHours(WorkingHoursRequestDTO request) {
+		if (request.getDays() == null) {
+			throw new InvalidStateException("Working hours are required.");
+		}
+		User employee = findEmployee(userService.getAuthUserFirm(), request.getEmployeeId());
+
+		SlotBitmap week = new SlotBitmap(SLOTS_PER_WEEK);
+		request.getDays().forEach((day, ranges) -> {
+			if (day == null) {
+				throw new InvalidStateException("Day of the week is required.");
+			}
+			fill(week, dayOffset(day), ranges);
+		});
+
+		WorkingHoursTemplate template = findTemplate(employee.getId())
+			.orElseGet(() -> WorkingHoursTemplate.builder().employee(employee).build());
+		boolean created = template.getId() == null;
+		template.setSlots(week.toByteArray());
+		template = templateRepository.save(template);
+
+		invalidateAfterCommit(key -> key.employeeId == employee.getId());
+		auditService.publish(created ? AuditAction.CREATE : AuditAction.UPDATE, WorkingHoursTemplate.class, template.getId());
+
+		return toResponse(employee.getId(), false, week);
+	}
+
+	/**
+	 * Sets the working hours of an employee of the current user's firm on a single date,
+	 * replacing an existing override of the date.
+	 *
+	 * @param request {@link WorkingHoursOverrideRequestDTO} employee, date and working time
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the request is incomplete, a time range is invalid or the
+	 *                               employee does not exist in the current user's firm.
+	 */
+	@Override
+	@Transactional
+	public void setOverride(WorkingHoursOverrideRequestDTO request) {
+		if (request.getDate() == null) {
+			throw new InvalidStateException("Date is required.");
+		}
+		User employee = findEmployee(userService.getAuthUserFirm(), request.getEmployeeId());
+
+		SlotBitmap day = new SlotBitmap(SLOTS_PER_DAY);
+		fill(day, 0, request.getRanges());
+
+		WorkingHoursOverride override = overrideRepository
+			.findOne(overrideFilter(employee.getId(), request.getDate()))
+			.orElseGet(() -> WorkingHoursOverride.builder().employee(employee).workDate(request.getDate()).build());
+		boolean created = override.getId() == null;
+		override.setSlots(day.toByteArray());
+		override = overrideRepository.save(override);
+
+		LocalDate monday = monday(request.getDate());
+		invalidateAfterCommit(key -> key.employeeId == employee.getId() && key.monday.equals(monday));
+		auditService.publish(created ? AuditAction.CREATE : AuditAction.UPDATE, WorkingHoursOverride.class, override.getId());
+	}
+
+	/**
+	 * Removes the working hours of an employee of the current user's firm on a single date.
+	 *
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param date       {@link LocalDate} date of the override
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the employee or the override does not exist.
+	 */
+	@Override
+	@Transactional
+	public void removeOverride(Long employeeId, LocalDate date) {
+		if (date == null) {
+			throw new InvalidStateException("Date is required.");
+		}
+		User employee = findEmployee(userService.getAuthUserFirm(), employeeId);
+
+		WorkingHoursOverride override = overrideRepository
+			.findOne(overrideFilter(employee.getId(), date))
+			.orElseThrow(() -> new InvalidStateException("Working hours of employee with ID " + employeeId + " on " + date + " do not exist."));
+		overrideRepository.delete(override);
+
+		LocalDate monday = monday(date);
+		invalidateAfterCommit(key -> key.employeeId == employee.getId() && key.monday.equals(monday));
+		auditService.publish(AuditAction.DELETE, WorkingHoursOverride.class, override.getId());
+	}
+
+	/**
+	 * Retrieves the closures of the current user's firm that have not ended yet.
+	 *
+	 * @return {@link List} of {@link FirmClosureResponseDTO} ordered by start date
+	 * @throws UserNotFoundException if the user is not found.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<FirmClosureResponseDTO> getClosures() {
+		FirmClosureFilterBuilder filterBuilder = FirmClosureFilterBuilder.builder()
+			.firmId(userService.getAuthUserFirm().getId())
+			.from(LocalDate.now(timeZone))
+			.build();
+
+		return closureRepository
+			.findAll(filterBuilder.toSpecification(), Sort.by("startDate", "id"))
+			.stream()
+			.map(FirmClosureResponseDTO::fromModel)
+			.toList();
+	}
+
+	/**
+	 * Closes the current user's firm on whole days.
+	 *
+	 * @param request {@link FirmClosureRequestDTO} days of the closure
+	 * @return {@link FirmClosureResponseDTO} created closure
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the dates are missing or inverted.
+	 */
+	@Override
+	@Transactional
+	public FirmClosureResponseDTO createClosure(FirmClosureRequestDTO request) {
+		if (request.getStartDate() == null || request.getEndDate() == null) {
+			throw new InvalidStateException("Closure start and end date are required.");
+		}
+		if (request.getEndDate().isBefore(request.getStartDate())) {
+			throw new InvalidStateException("Closure start date must not be after its end date.");
+		}
+
+		FirmClosure closure = closureRepository.save(FirmClosure.builder()
+			.firm(userService.getAuthUserFirm())
+			.startDate(request.getStartDate())
+			.endDate(request.getEndDate())
+			.description(request.getDescription())
+			.build());
+
+		TransactionUtils.afterCommit(() -> closedDays.closed(closure.getFirm().getId(), closure.getStartDate(), closure.getEndDate()));
+		auditService.publish(AuditAction.CREATE, FirmClosure.class, closure.getId());
+
+		return FirmClosureResponseDTO.fromModel(closure);
+	}
+
+	/**
+	 * Deletes a closure of the current user's firm.
+	 *
+	 * @param id {@link Long} ID of the closure
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the closure does not exist.
+	 */
+	@Override
+	@Transactional
+	public void deleteClosure(Long id) {
+		FirmClosureFilterBuilder filterBuilder = FirmClosureFilterBuilder.builder()
+			.id(id)
+			.firmId(userService.getAuthUserFirm().getId())
+			.build();
+
+		FirmClosure closure = closureRepository.findOne(filterBuilder.toSpecification())
+			.orElseThrow(() -> new InvalidStateException("Closure with ID " + id + " does not exist."));
+		closureRepository.delete(closure);
+
+		TransactionUtils.afterCommit(() -> closedDays.reopened(closure.getFirm().getId(), closure.getStartDate(), closure.getEndDate()));
+		auditService.publish(AuditAction.DELETE, FirmClosure.class, id);
+	}
+
+	/**
+	 * Retrieves the intervals in which employees of the current user's firm work within a time range.
+	 *
+	 * <p>The range is widened to whole five-minute slots for materialization; returned intervals
+	 * are clipped to the requested range.</p>
+	 *
+	 * @param request {@link WorkingHoursRangeRequestDTO} time range and employees
+	 * @return {@link List} of {@link WorkingIntervalDTO} ordered by employee and start time
+	 * @throws UserNotFoundException if the user is not found.
+	 * @throws InvalidStateException if the time range is missing, inverted or too long.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<WorkingIntervalDTO> getWorkingIntervals(WorkingHoursRangeRequestDTO request) {
+		if (request.getFrom() == null || request.getTo() == null) {
+			throw new InvalidStateException("Time range start and end are required.");
+		}
+		if (!request.getFrom().isBefore(request.getTo())) {
+			throw new InvalidStateException("Time range start must be before its end.");
+		}
+		if (Duration.between(request.getFrom(), request.getTo()).compareTo(MAX_RANGE) > 0) {
+			throw new InvalidStateException("Time range cannot be longer than " + MAX_RANGE.toDays() + " days.");
+		}
+
+		Firm firm = userService.getAuthUserFirm();
+		List<Long> employeeIds = userRepository
+			.findAll(UserFilterBuilder.builder().firmId(firm.getId()).build().toSpecification())
+			.stream()
+			.map(User::getId)
+			.filter(id -> request.getEmployeeIds() == null || request.getEmployeeIds().isEmpty() || request.getEmployeeIds().contains(id))
+			.sorted()
+			.toList();
+
+		Instant from = slotStart(request.getFrom());
+		Instant to = slotEnd(request.getTo());
+		Map<Long, SlotBitmap> availability = getAvailability(firm.getId(), employeeIds, from, to);
+
+		List<WorkingIntervalDTO> intervals = new ArrayList<>();
+		for (Long employeeId : employeeIds) {
+			SlotBitmap bitmap = availability.get(employeeId);
+			for (int start = bitmap.nextFree(0); start < bitmap.size(); start = bitmap.nextFree(start)) {
+				int end = bitmap.nextOccupied(start);
+				intervals.add(WorkingIntervalDTO.builder()
+					.employeeId(employeeId)
+					.startTime(max(from.plusSeconds(start * SLOT_SECONDS), request.getFrom()))
+					.endTime(min(from.plusSeconds(end * SLOT_SECONDS), request.getTo()))
+					.build());
+				start = end;
+			}
+		}
+		return intervals;
+	}
+
+	/**
+	 * Materializes the availability of employees of a firm within a time range.
+	 *
+	 * <p>Every day of the range on which the firm is open is copied from the cached week of the
+	 * employee, converting its working slots from local time to the range, which keeps days shortened or lengthened by
+	 * daylight saving time changes correct.</p>
+	 *
+	 * @param firmId      {@link Long} ID of the firm the employees belong to
+	 * @param employeeIds {@link Collection} of employee IDs
+	 * @param from        {@link Instant} start of the time range
+	 * @param to          {@link Instant} end of the time range
+	 * @return {@link Map} of employee ID to {@link SlotBitmap}, in which working slots are free
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Long, SlotBitmap> getAvailability(Long firmId, Collection<Long> employeeIds, Instant from, Instant to) {
+		LocalDate firstDate = from.atZone(timeZone).toLocalDate();
+		LocalDate lastDate = to.atZone(timeZone).toLocalDate();
+		Map<Long, Map<LocalDate, SlotBitmap>> employeeWeeks = findWeeks(employeeIds, monday(firstDate), monday(lastDate));
+		List<LocalDate> openDates = new ArrayList<>();
+		for (LocalDate date = firstDate; !date.isAfter(lastDate); date = date.plusDays(1)) {
+			if (!closedDays.isClosed(firmId, date)) {
+				openDates.add(date);
+			}
+		}
+
+		int size = (int) (Duration.between(from, to).getSeconds() / SLOT_SECONDS);
+		Map<Long, SlotBitmap> availability = new HashMap<>();
+		for (Long employeeId : employeeIds) {
+			SlotBitmap bitmap = new SlotBitmap(size);
+			bitmap.occupy(0, size);
+
+			Map<LocalDate, SlotBitmap> weeksOfEmployee = employeeWeeks.get(employeeId);
+			for (LocalDate date : openDates) {
+				SlotBitmap week = weeksOfEmployee.get(monday(date));
+				LocalDateTime midnight = date.atStartOfDay();
+				int offset = dayOffset(date.getDayOfWeek());
+				int dayEnd = offset + SLOTS_PER_DAY;
+
+				for (int start = week.nextOccupied(offset); start < dayEnd; start = week.nextOccupied(start)) {
+					int end = Math.min(week.nextFree(start), dayEnd);
+					Instant open = midnight.plusMinutes((long) (start - offset) * SlotBitmap.SLOT_MINUTES).atZone(timeZone).toInstant();
+					Instant close = midnight.plusMinutes((long) (end - offset) * SlotBitmap.SLOT_MINUTES).atZone(timeZone).toInstant();
+					bitmap.release(slotCeil(from, open), slotFloor(from, close));
+					start = end;
+				}
+			}
+			availability.put(employeeId, bitmap);
+		}
+		return availability;
+	}
+
+	/**
+	 * Checks that a booking of an employee lies within the employee's working time.
+	 *
+	 * @param firmId     {@link Long} ID of the firm the employee belongs to
+	 * @param employeeId {@link Long} ID of the employee
+	 * @param startTime  {@link Instant} start of the booking
+	 * @param endTime    {@link Instant} end of the booking
+	 * @throws InvalidStateException if the check is enabled and the employee does not work
+	 *                               during the whole booking.
+	 */
+	@Override
+	public void validateWorkingTime(Long firmId, Long employeeId, Instant startTime, Instant endTime) {
+		if (!enforceOnBooking) {
+			return;
+		}
+		SlotBitmap bitmap = getAvailability(firmId, List.of(employeeId), slotStart(startTime), slotEnd(endTime)).get(employeeId);
+		if (!bitmap.isFree(0, bitmap.size())) {
+			throw new InvalidStateException("Employee does not work at the requested time.");
+		}
+	}
+
+	/**
+	 * Returns the number of cached employee weeks.
+	 *
+	 * @return number of cached weeks
+	 */
+	public int cacheSize() {
+		synchronized (weeks) {
+			return weeks.size();
+		}
+	}
+
+	/**
+	 * Returns the resolved weeks of the employees from the cache. Employees with a week missing
+	 * or expired are resolved again with one query each for working hours and overrides.
+	 * Resolved weeks are cached unless an edit invalidated cached weeks in the meantime, since
+	 * they might have been read before the edit.
+	 */
+	private Map<Long, Map<LocalDate, SlotBitmap>> findWeeks(
+		Collection<Long> employeeIds,
+		LocalDate firstMonday,
+		LocalDate lastMonday
+	) {
+		Map<Long, Map<LocalDate, SlotBitmap>> result = new HashMap<>();
+		List<Long> missing = new ArrayList<>();
+		long loadGeneration;
+
+		Instant now = Instant.now();
+		synchronized (weeks) {
+			loadGeneration = generation;
+			for (Long employeeId : employeeIds) {
+				Map<LocalDate, SlotBitmap> cached = new HashMap<>();
+				for (LocalDate monday = firstMonday; !monday.isAfter(lastMonday); monday = monday.plusWeeks(1)) {
+					CachedWeek week = weeks.get(new WeekKey(employeeId, monday));
+					if (week == null || week.getLoadedAt().plus(cacheTtl).isBefore(now)) {
+						missing.add(employeeId);
+						cached = null;
+						break;
+					}
+					cached.put(monday, week.getSlots());
+				}
+				if (cached != null) {
+					result.put(employeeId, cached);
+				}
+			}
+		}
+		if (missing.isEmpty()) {
+			return result;
+		}
+
+		LocalDate lastDate = lastMonday.plusDays(6);
+		Map<Long, SlotBitmap> templates = new HashMap<>();
+		for (WorkingHoursTemplate template : templateRepository.findAll(
+			WorkingHoursTemplateFilterBuilder.builder().employeeIds(missing).build().toSpecification()
+		)) {
+			templates.put(template.getEmployee().getId(), SlotBitmap.fromByteArray(template.getSlots(), SLOTS_PER_WEEK));
+		}
+
+		Map<Long, Map<LocalDate, SlotBitmap>> overrides = new HashMap<>();
+		for (WorkingHoursOverride override : overrideRepository.findAll(
+			WorkingHoursOverrideFilterBuilder.builder().employeeIds(missing).from(firstMonday).to(lastDate).build().toSpecification()
+		)) {
+			overrides
+				.computeIfAbsent(override.getEmployee().getId(), id -> new HashMap<>())
+				.put(override.getWorkDate(), SlotBitmap.fromByteArray(override.getSlots(), SLOTS_PER_DAY));
+		}
+
+		Map<WeekKey, CachedWeek> resolved = new HashMap<>();
+		for (Long employeeId : missing) {
+			Map<LocalDate, SlotBitmap> employeeWeeks = new HashMap<>();
+			for (LocalDate monday = firstMonday; !monday.isAfter(lastMonday); monday = monday.plusWeeks(1)) {
+				SlotBitmap week = resolveWeek(
+					monday,
+					templates.getOrDefault(employeeId, defaultWeek),
+					overrides.getOrDefault(employeeId, Map.of())
+				);
+				employeeWeeks.put(monday, week);
+				resolved.put(new WeekKey(employeeId, monday), new CachedWeek(week, now));
+			}
+			result.put(employeeId, employeeWeeks);
+		}
+
+		synchronized (weeks) {
+			if (generation == loadGeneration) {
+				weeks.putAll(resolved);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Resolves the working time of a week: overridden days are taken from the override and all
+	 * other days from the weekly working hours.
+	 */
+	private SlotBitmap resolveWeek(LocalDate monday, SlotBitmap template, Map<LocalDate, SlotBitmap> overrides) {
+		SlotBitmap week = new SlotBitmap(SLOTS_PER_WEEK);
+		for (int day = 0; day < 7; day++) {
+			SlotBitmap override = overrides.get(monday.plusDays(day));
+			if (override != null) {
+				copy(override, 0, week, day * SLOTS_PER_DAY);
+			} else {
+				copy(template, day * SLOTS_PER_DAY, week, day * SLOTS_PER_DAY);
+			}
+		}
+		return week;
+	}
+
+	/**
+	 * Copies the working slots of one day. Working slots are the set bits of the bitmaps.
+	 */
+	private static void copy(SlotBitmap source, int sourceOffset, SlotBitmap target, int targetOffset) {
+		int dayEnd = sourceOffset + SLOTS_PER_DAY;
+		for (int start = source.nextOccupied(sourceOffset); start < dayEnd; start = source.nextOccupied(start)) {
+			int end = Math.min(source.nextFree(start), dayEnd);
+			target.occupy(start - sourceOffset + targetOffset, end - sourceOffset + targetOffset);
+			start = end;
+		}
+	}
+
+	/**
+	 * Sets the bits of the working time ranges of one day, starting at {@code offset}.
+	 */
+	private static void fill(SlotBitmap bitmap, int offset, List<WorkingTimeRangeDTO> ranges) {
+		if (ranges == null) {
+			return;
+		}
+		for (WorkingTimeRangeDTO range : ranges) {
+			if (range == null || range.getStartTime() == null || range.getEndTime() == null) {
+				throw new InvalidStateException("Working time range start and end are required.");
+			}
+			int start = range.getStartTime().toSecondOfDay();
+			int end = range.getEndTime().equals(LocalTime.MIDNIGHT) ? 86400 : range.getEndTime().toSecondOfDay();
+			if (start % SLOT_SECONDS != 0 || end % SLOT_SECONDS != 0) {
+				throw new InvalidStateException("Working time must be a multiple of " + SlotBitmap.SLOT_MINUTES + " minutes.");
+			}
+			if (start >= end) {
+				throw new InvalidStateException("Working time range start must be before its end.");
+			}
+			bitmap.occupy(offset + (int) (start / SLOT_SECONDS), offset + (int) (end / SLOT_SECONDS));
+		}
+	}
+
+	private WorkingHoursResponseDTO toResponse(Long employeeId, boolean defaultHours, SlotBitmap week) {
+		Map<DayOfWeek, List<WorkingTimeRangeDTO>> days = new EnumMap<>(DayOfWeek.class);
+		for (DayOfWeek day : DayOfWeek.values()) {
+			int offset = dayOffset(day);
+			int dayEnd = offset + SLOTS_PER_DAY;
+
+			List<WorkingTimeRangeDTO> ranges = new ArrayList<>();
+			for (int start = week.nextOccupied(offset); start < dayEnd; start = week.nextOccupied(start)) {
+				int end = Math.min(week.nextFree(start), dayEnd);
+				ranges.add(new WorkingTimeRangeDTO(
+					LocalTime.ofSecondOfDay((start - offset) * SLOT_SECONDS),
+					LocalTime.MIDNIGHT.plusSeconds((end - offset) * SLOT_SECONDS)
+				));
+				start = end;
+			}
+			days.put(day, ranges);
+		}
+
+		return WorkingHoursResponseDTO.builder()
+			.employeeId(employeeId)
+			.defaultHours(defaultHours)
+			.days(days)
+			.build();
+	}
+
+	private User findEmployee(Firm firm, Long employeeId) {
+		if (employeeId == null) {
+			throw new InvalidStateException("Employee is required.");
+		}
+		return userRepository
+			.findOne(UserFilterBuilder.builder().id(employeeId).firmId(firm.getId()).build().toSpecification())
+			.orElseThrow(() -> new InvalidStateException("Employee with ID " + employeeId + " does not exist."));
+	}
+
+	private Optional<WorkingHoursTemplate> findTemplate(Long employeeId) {
+		return templateRepository.findOne(
+			WorkingHoursTemplateFilterBuilder.builder().employeeIds(List.of(employeeId)).build().toSpecification()
+		);
+	}
+
+	private static Specification<WorkingHoursOverride> overrideFilter(Long employeeId, LocalDate date) {
+		return WorkingHoursOverrideFilterBuilder.builder()
+			.employeeIds(List.of(employeeId))
+			.from(date)
+			.to(date)
+			.build()
+			.toSpecification();
+	}
+
+	/**
+	 * Drops cached weeks once the edit commits, so that weeks are never resolved from the
+	 * state before the edit after it is visible.
+	 */
+	private void invalidateAfterCommit(Predicate<WeekKey> filter) {
+		TransactionUtils.afterCommit(() -> invalidate(filter));
+	}
+
+	private void invalidate(Predicate<WeekKey> filter) {
+		synchronized (weeks) {
+			generation++;
+			weeks.keySet().removeIf(filter);
+		}
+	}
+
+	private static LocalDate monday(LocalDate date) {
+		return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+	}
+
+	private static int dayOffset(DayOfWeek day) {
+		return (day.getValue() - 1) * SLOTS_PER_DAY;
+	}
+
+	private static Instant slotStart(Instant time) {
+		return Instant.ofEpochSecond(Math.floorDiv(time.getEpochSecond(), SLOT_SECONDS) * SLOT_SECONDS);
+	}
+
+	private static Instant slotEnd(Instant time) {
+		long seconds = time.getNano() > 0 ? time.getEpochSecond() + 1 : time.getEpochSecond();
+		return Instant.ofEpochSecond(Math.ceilDiv(seconds, SLOT_SECONDS) * SLOT_SECONDS);
+	}
+
+	private static Instant min(Instant first, Instant second) {
+		return first.isBefore(second) ? first : second;
+	}
+
+	private static Instant max(Instant first, Instant second) {
+		return first.isAfter(second) ? first : second;
+	}
+
+	private static int slotFloor(Instant from, Instant time) {
+		return (int) Math.floorDiv(Duration.between(from, time).getSeconds(), SLOT_SECONDS);
+	}
+
+	private static int slotCeil(Instant from, Instant time) {
+		return (int) Math.ceilDiv(Duration.between(from, time).getSeconds(), SLOT_SECONDS);
+	}
+
+	/**
+	 * Cache key of the resolved working time of an employee in the week starting on {@code monday}.
+	 */
+	@EqualsAndHashCode
+	@AllArgsConstructor
+	private static final class WeekKey {
+
+		private final long employeeId;
+		private final LocalDate monday;
+	}
+
+	/**
+	 * Resolved working time of a week, with the time it was read.
+	 */
+	@Getter
+	@AllArgsConstructor
+	private static final class CachedWeek {
+
+		private final SlotBitmap slots;
+		private final Instant loadedAt;
+	}
+}
@@ -0,0 +1,352 @@
+package com.sinergy.chronosync.util;
+
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.audit.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, memory-mapped journal of audit log entries.
+ *
+ * <p>The journal is a directory of preallocated segment files. Every entry is stored as a
+ * fixed-size record of {@value #RECORD_SIZE} bytes, so appending only reserves the next slot
+ * with an atomic increment and copies the fields into the mapped memory. The first field of a
+ * record is a marker that is published last, which lets readers in other threads recognise
+ * records that are completely written. A lock is only taken when a segment is full and the
+ * next one has to be created.</p>
+ *
+ * <p>Written records live in the page cache and survive a crash of the application. Segments
+ * are forced to disk when they are sealed and when the journal is closed. The journal always
+ * continues in a new segment after a restart, so older segments are never written again.</p>
+ *
+ * <p>Record layout (little endian):</p>
+ * <pre>
+ *   0  int   commit marker
+ *   4  byte  action ordinal (new actions must be appended to {@link AuditAction})
+ *   5  byte  entity type length (-1 if absent)
+ *   6  short username length (-1 if absent)
+ *   8  long  occurred at (microseconds since the epoch)
+ *  16  long  entity ID ({@link Long#MIN_VALUE} if absent)
+ *  24  64 bytes entity type (UTF-8)
+ *  88  168 bytes username (UTF-8)
+ * </pre>
+ */
+@Slf4j
+public class AuditJournal implements Closeable {
+
+	public static final int RECORD_SIZE = 256;
+
+	static final int COMMITTED = 0x31445541;
+
+	private static final int ACTION_OFFSET = 4;
+	private static final int ENTITY_TYPE_LENGTH_OFFSET = 5;
+	private static final int USERNAME_LENGTH_OFFSET = 6;
+	private static final int OCCURRED_AT_OFFSET = 8;
+	private static final int ENTITY_ID_OFFSET = 16;
+	private static final int ENTITY_TYPE_OFFSET = 24;
+	private static final int ENTITY_TYPE_MAX_LENGTH = 64;
+	private static final int USERNAME_OFFSET = 88;
+	private static final int USERNAME_MAX_LENGTH = 168;
+	private static final long NO_ENTITY_ID = Long.MIN_VALUE;
+
+	private static final String SEGMENT_PREFIX = "audit-";
+	private static final String SEGMENT_SUFFIX = ".journal";
+	private static final Duration DEFAULT_SEAL_GRACE = Duration.ofSeconds(1);
+
+	private static final VarHandle MARKER =
+		MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+	private final Path directory;
+	private final int segmentCapacity;
+	private final long sealGraceNanos;
+
+	private volatile Segment current;
+	private volatile long rolledAt;
+
+	/**
+	 * Opens the journal in the given directory and starts a new segment.
+	 *
+	 * @param directory   {@link Path} directory holding the segment files
+	 * @param segmentSize size of a segment file in bytes, at most 1 GiB
+	 */
+	public AuditJournal(Path directory, long segmentSize) {
+		this(directory, segmentSize, DEFAULT_SEAL_GRACE);
+	}
+
+	/**
+	 * Opens the journal in the given directory and starts a new segment.
+	 *
+	 * @param directory   {@link Path} directory holding the segment files
+	 * @param segmentSize size of a segment file in bytes, at most 1 GiB
+	 * @param sealGrace   {@link Duration} after a rollover until the previous segment is sealed
+	 */
+	public AuditJournal(Path directory, long segmentSize, Duration sealGrace) {
+		if (segmentSize < RECORD_SIZE || segmentSize > (1L << 30)) {
+			throw new IllegalArgumentException("Audit journal segment size must be between 256 B and 1 GiB.");
+		}
+
+		this.directory = directory;
+		this.segmentCapacity = (int) (segmentSize / RECORD_SIZE * RECORD_SIZE);
+		this.sealGraceNanos = sealGrace.toNanos();
+
+		try {
+			Files.createDirectories(directory);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot create audit journal directory " + directory, e);
+		}
+
+		List<Long> segments = segmentIndexes(directory);
+		this.current = openSegment(segments.isEmpty() ? 0 : segments.getLast() + 1);
+		this.rolledAt = System.nanoTime();
+	}
+
+	/**
+	 * Appends the entry to the journal.
+	 *
+	 * <p>Safe to call from any number of threads. Usernames and entity types that do not fit
+	 * into their fields are truncated.</p>
+	 *
+	 * @param entry {@link AuditLog} entry to append
+	 */
+	public void append(AuditLog entry) {
+		while (true) {
+			Segment segment = current;
+			long slot = segment.reserved.getAndAdd(RECORD_SIZE);
+
+			if (slot + RECORD_SIZE <= segmentCapacity) {
+				write(segment.buffer, (int) slot, entry);
+				return;
+			}
+			roll(segment);
+		}
+	}
+
+	/**
+	 * Returns the index of the segment that is currently appended to.
+	 *
+	 * @return current segment index
+	 */
+	public long currentSegmentIndex() {
+		return current.index;
+	}
+
+	/**
+	 * Returns whether the given segment will not receive any more records.
+	 *
+	 * <p>A segment is sealed once a newer segment exists and appends that reserved a slot in it
+	 * just before the rollover have had time to complete.</p>
+	 *
+	 * @param index segment index
+	 * @return {@code true} if the segment is sealed
+	 */
+	public boolean isSealed(long index) {
+		long currentIndex = current.index;
+		return index < currentIndex - 1
+			|| index == currentIndex - 1 && System.nanoTime() - rolledAt >= sealGraceNanos;
+	}
+
+	/**
+	 * Returns the directory holding the segment files.
+	 *
+	 * @return {@link Path} journal directory
+	 */
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/**
+	 * Forces the current segment to disk.
+	 */
+	@Override
+	public void close() {
+		current.close();
+	}
+
+	/**
+	 * Returns the path of the segment file with the given index.
+	 *
+	 * @param directory {@link Path} journal directory
+	 * @param index     segment index
+	 * @return {@link Path} segment file
+	 */
+	public static Path segmentPath(Path directory, long index) {
+		return directory.resolve(SEGMENT_PREFIX + String.format("%020d", index) + SEGMENT_SUFFIX);
+	}
+
+	/**
+	 * Lists the indexes of all segment files in the directory in ascending order.
+	 *
+	 * @param directory {@link Path} journal directory
+	 * @return {@link List} of segment indexes
+	 */
+	public static List<Long> segmentIndexes(Path directory) {
+		if (!Files.isDirectory(directory)) {
+			return List.of();
+		}
+
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.map(path -> path.getFileName().toString())
+				.filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+				.map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+				.sorted()
+				.toList();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot list audit journal directory " + directory, e);
+		}
+	}
+
+	/**
+	 * Reads up to {@code max} committed records of a segment, starting at the given offset.
+	 *
+	 * <p>Reading stops at the first record that is not committed yet. If {@code skipUncommitted}
+	 * is set, such records are skipped instead, which is used for sealed segments where an
+	 * uncommitted record can only be left over from a crash.</p>
+	 *
+	 * @param buffer          {@link ByteBuffer} mapped segment
+	 * @param offset          offset of the first record to read
+	 * @param max             maximum number of records to read
+	 * @param skipUncommitted whether uncommitted records are skipped
+	 * @param out             {@link List} receiving the read entries
+	 * @return offset after the last consumed record
+	 */
+	public static int read(ByteBuffer buffer, int offset, int max, boolean skipUncommitted, List<AuditLog> out) {
+		int read = 0;
+		while (read < max && offset + RECORD_SIZE <= buffer.capacity()) {
+			if ((int) MARKER.getAcquire(buffer, offset) != COMMITTED) {
+				if (!skipUncommitted) {
+					break;
+				}
+			} else {
+				out.add(decode(buffer, offset));
+				read++;
+			}
+			offset += RECORD_SIZE;
+		}
+		return offset;
+	}
+
+	private synchronized void roll(Segment full) {
+		if (current != full) {
+			return;
+		}
+
+		Segment next = openSegment(full.index + 1);
+		current = next;
+		rolledAt = System.nanoTime();
+		full.close();
+	}
+
+	private Segment openSegment(long index) {
+		Path path = segmentPath(directory, index);
+		try (FileChannel channel = FileChannel.open(
+			path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE
+		)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentCapacity);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			log.debug("Opened audit journal segment {}.", path);
+			return new Segment(index, buffer);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot create audit journal segment " + path, e);
+		}
+	}
+
+	private static void write(ByteBuffer buffer, int offset, AuditLog entry) {
+		byte[] entityType = encode(entry.getEntityType(), ENTITY_TYPE_MAX_LENGTH);
+		byte[] username = encode(entry.getUsername(), USERNAME_MAX_LENGTH);
+		Instant occurredAt = entry.getOccurredAt() != null ? entry.getOccurredAt() : Instant.now();
+
+		buffer.put(offset + ACTION_OFFSET, (byte) entry.getAction().ordinal());
+		buffer.put(offset + ENTITY_TYPE_LENGTH_OFFSET, (byte) (entityType == null ? -1 : entityType.length));
+		buffer.putShort(offset + USERNAME_LENGTH_OFFSET, (short) (username == null ? -1 : username.length));
+		buffer.putLong(offset + OCCURRED_AT_OFFSET, ChronoUnit.MICROS.between(Instant.EPOCH, occurredAt));
+		buffer.putLong(offset + ENTITY_ID_OFFSET, entry.getEntityId() != null ? entry.getEntityId() : NO_ENTITY_ID);
+		if (entityType != null) {
+			buffer.put(offset + ENTITY_TYPE_OFFSET, entityType);
+		}
+		if (username != null) {
+			buffer.put(offset + USERNAME_OFFSET, username);
+		}
+
+		MARKER.setRelease(buffer, offset, COMMITTED);
+	}
+
+	private static AuditLog decode(ByteBuffer buffer, int offset) {
+		long entityId = buffer.getLong(offset + ENTITY_ID_OFFSET);
+
+		return AuditLog.builder()
+			.action(AuditAction.values()[buffer.get(offset + ACTION_OFFSET)])
+			.occurredAt(Instant.EPOCH.plus(buffer.getLong(offset + OCCURRED_AT_OFFSET), ChronoUnit.MICROS))
+			.entityId(entityId == NO_ENTITY_ID ? null : entityId)
+			.entityType(decodeString(buffer, offset + ENTITY_TYPE_OFFSET, buffer.get(offset + ENTITY_TYPE_LENGTH_OFFSET)))
+			.username(decodeString(buffer, offset + USERNAME_OFFSET, buffer.getShort(offset + USERNAME_LENGTH_OFFSET)))
+			.build();
+	}
+
+	private static String decodeString(ByteBuffer buffer, int offset, int length) {
+		if (length < 0) {
+			return null;
+		}
+
+		byte[] bytes = new byte[length];
+		buffer.get(offset, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Encodes the value as UTF-8, truncated to the maximum length on a character boundary.
+	 */
+	private static byte[] encode(String value, int maxLength) {
+		if (value == null) {
+			return null;
+		}
+
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length <= maxLength) {
+			return bytes;
+		}
+
+		int length = maxLength;
+		while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+			length--;
+		}
+		byte[] truncated = new byte[length];
+		System.arraycopy(bytes, 0, truncated, 0, length);
+		return truncated;
+	}
+
+	private static final class Segment {
+
+		private final long index;
+		private final MappedByteBuffer buffer;
+		private final AtomicLong reserved = new AtomicLong();
+
+		private Segment(long index, MappedByteBuffer buffer) {
+			this.index = index;
+			this.buffer = buffer;
+		}
+
+		private void close() {
+			buffer.force();
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.sinergy.chronosync.util;
+
+import com.sinergy.chronosync.model.audit.AuditLog;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Sequential reader of an {@link AuditJournal}.
+ *
+ * <p>Tracks a position, given as segment index and byte offset, and reads committed records
+ * from it onwards. Reading stops at the first record of the active segment that is not
+ * committed yet, and continues with the next segment once a segment is sealed and read
+ * completely. Instances are not thread-safe.</p>
+ */
+public class AuditJournalReader {
+
+	private final AuditJournal journal;
+
+	@Getter
+	private long segment;
+
+	@Getter
+	private int offset;
+
+	private MappedByteBuffer mappedSegment;
+
+	public AuditJournalReader(AuditJournal journal, long segment, int offset) {
+		this.journal = journal;
+		seek(segment, offset);
+	}
+
+	/**
+	 * Moves the reader to the given position.
+	 *
+	 * @param segment segment index
+	 * @param offset  byte offset within the segment
+	 */
+	public void seek(long segment, int offset) {
+		this.segment = segment;
+		this.offset = offset;
+		this.mappedSegment = null;
+	}
+
+	/**
+	 * Reads up to {@code max} records from the current position and advances past them.
+	 *
+	 * @param max maximum number of records to read
+	 * @param out {@link List} receiving the read entries
+	 * @return number of read records
+	 */
+	public int read(int max, List<AuditLog> out) {
+		int read = 0;
+
+		while (read < max) {
+			if (mappedSegment == null && !mapSegment()) {
+				break;
+			}
+
+			boolean sealed = journal.isSealed(segment);
+			int before = out.size();
+			offset = AuditJournal.read(mappedSegment, offset, max - read, sealed, out);
+			read += out.size() - before;
+
+			if (!sealed || offset + AuditJournal.RECORD_SIZE <= mappedSegment.capacity()) {
+				break;
+			}
+			seek(segment + 1, 0);
+		}
+
+		return read;
+	}
+
+	/**
+	 * Maps the segment at the current position, skipping ahead to the next existing segment
+	 * if it was deleted.
+	 */
+	private boolean mapSegment() {
+		Path path = AuditJournal.segmentPath(journal.getDirectory(), segment);
+
+		if (!Files.exists(path)) {
+			Long next = AuditJournal.segmentIndexes(journal.getDirectory()).stream()
+				.filter(index -> index > segment)
+				.findFirst()
+				.orElse(null);
+			if (next == null) {
+				return false;
+			}
+			seek(next, 0);
+			path = AuditJournal.segmentPath(journal.getDirectory(), segment);
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			mappedSegment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			mappedSegment.order(ByteOrder.LITTLE_ENDIAN);
+			return true;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot read audit journal segment " + path, e);
+		}
+	}
+}
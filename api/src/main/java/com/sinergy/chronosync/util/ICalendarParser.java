@@ -0,0 +1,160 @@
+package com.sinergy.chronosync.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Minimal parser of iCalendar (RFC 5545) files containing all-day events, e.g. public holidays.
+ *
+ * <p>Reads the {@code UID}, {@code SUMMARY}, {@code DTSTART}, {@code DTEND} and {@code RRULE}
+ * properties of {@code VEVENT} components and ignores everything else, including time zones:
+ * date-times are truncated to their date. Cancelled events are skipped. Folded lines are
+ * unfolded and escaped text is unescaped.</p>
+ */
+public final class ICalendarParser {
+
+	private ICalendarParser() {
+	}
+
+	/**
+	 * All-day event of a calendar.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Event {
+
+		private final String uid;
+		private final String summary;
+		private final LocalDate startDate;
+		/**
+		 * Last day of the event, inclusive.
+		 */
+		private final LocalDate endDate;
+		/**
+		 * Recurrence rule of the event, or {@code null} if it occurs once.
+		 */
+		private final String recurrenceRule;
+	}
+
+	/**
+	 * Parses the events of an iCalendar file.
+	 *
+	 * @param content {@link String} content of the file
+	 * @return {@link List} of {@link Event} in the order of the file
+	 * @throws IllegalArgumentException if the content is not a calendar or an event is malformed
+	 */
+	public static List<Event> parse(String content) {
+		List<String> lines = unfold(content);
+		if (lines.isEmpty() || !lines.get(0).equalsIgnoreCase("BEGIN:VCALENDAR")) {
+			throw new IllegalArgumentException("Content is not an iCalendar file.");
+		}
+
+		List<Event> events = new ArrayList<>();
+		EventBuilder event = null;
+		for (String line : lines) {
+			int colon = line.indexOf(':');
+			if (colon < 0) {
+				throw new IllegalArgumentException("Malformed iCalendar line: " + line);
+			}
+			String[] nameParameters = line.substring(0, colon).split(";");
+			String name = nameParameters[0].toUpperCase(Locale.ROOT);
+			String value = line.substring(colon + 1);
+
+			if (name.equals("BEGIN") && value.equalsIgnoreCase("VEVENT")) {
+				event = new EventBuilder();
+			} else if (name.equals("END") && value.equalsIgnoreCase("VEVENT") && event != null) {
+				if (!event.cancelled) {
+					events.add(event.build());
+				}
+				event = null;
+			} else if (event != null) {
+				switch (name) {
+					case "UID" -> event.uid = value;
+					case "SUMMARY" -> event.summary = unescape(value);
+					case "DTSTART" -> event.startDate = parseDate(value);
+					case "DTEND" -> event.endDate = parseDate(value);
+					case "RRULE" -> event.recurrenceRule = value;
+					case "STATUS" -> event.cancelled = value.equalsIgnoreCase("CANCELLED");
+					default -> {
+						// Other properties are not needed for closed days.
+					}
+				}
+			}
+		}
+		if (event != null) {
+			throw new IllegalArgumentException("Unterminated iCalendar event.");
+		}
+		return events;
+	}
+
+	private static List<String> unfold(String content) {
+		List<String> lines = new ArrayList<>();
+		if (content == null) {
+			return lines;
+		}
+		for (String line : content.split("\r?\n")) {
+			if (!line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t') && !lines.isEmpty()) {
+				lines.set(lines.size() - 1, lines.get(lines.size() - 1) + line.substring(1));
+			} else if (!line.isBlank()) {
+				lines.add(line.strip());
+			}
+		}
+		return lines;
+	}
+
+	private static LocalDate parseDate(String value) {
+		if (value.length() < 8) {
+			throw new IllegalArgumentException("Malformed iCalendar date: " + value);
+		}
+		try {
+			return LocalDate.parse(value.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+		} catch (DateTimeParseException e) {
+			throw new IllegalArgumentException("Malformed iCalendar date: " + value, e);
+		}
+	}
+
+	private static String unescape(String value) {
+		StringBuilder text = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '\\' && i + 1 < value.length()) {
+				char next = value.charAt(++i);
+				text.append(next == 'n' || next == 'N' ? '\n' : next);
+			} else {
+				text.append(c);
+			}
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Collects the properties of an event until its end.
+	 */
+	private static final class EventBuilder {
+
+		private String uid;
+		private String summary;
+		private LocalDate startDate;
+		private LocalDate endDate;
+		private String recurrenceRule;
+		private boolean cancelled;
+
+		/**
+		 * {@code DTEND} of all-day events is exclusive, an event without it lasts one day.
+		 */
+		private Event build() {
+			if (startDate == null) {
+				throw new IllegalArgumentException("iCalendar event " + uid + " has no start.");
+			}
+			LocalDate lastDate = endDate == null || !endDate.isAfter(startDate) ? startDate : endDate.minusDays(1);
+			return new Event(uid, summary, startDate, lastDate, recurrenceRule);
+		}
+	}
+}
@@ -0,0 +1,258 @@
+package com.sinergy.chronosync.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe index of time intervals grouped by key, e.g. the bookings of each employee.
+ *
+ * <p>The intervals of a key are kept as sorted primitive arrays of start, end and ID, plus the
+ * running maximum of the ends, so an overlap check is a single binary search. An entry takes
+ * 32 bytes. Arrays are copied on write and published as an immutable snapshot, so reads never
+ * block; writes to the same key are serialized by the underlying map.</p>
+ *
+ * <p>Times are plain {@code long} values, the caller chooses the unit. Intervals are half-open,
+ * {@code [start, end)}, and may overlap each other.</p>
+ */
+public class IntervalIndex {
+
+	private static final Intervals EMPTY = new Intervals(new long[0], new long[0], new long[0], new long[0]);
+
+	private final Map<Long, Intervals> intervals = new ConcurrentHashMap<>();
+
+	/**
+	 * Adds an interval. An interval with the same ID already indexed under the key is replaced.
+	 *
+	 * @param key   key the interval belongs to
+	 * @param id    ID of the interval
+	 * @param start start of the interval, inclusive
+	 * @param end   end of the interval, exclusive
+	 */
+	public void add(long key, long id, long start, long end) {
+		intervals.compute(key, (k, current) -> {
+			Intervals base = current == null ? EMPTY : current.without(id);
+			return base.with(id, start, end);
+		});
+	}
+
+	/**
+	 * Removes the interval with the given ID from the key.
+	 *
+	 * @param key key the interval belongs to
+	 * @param id  ID of the interval
+	 * @return {@code true} if the interval was indexed
+	 */
+	public boolean remove(long key, long id) {
+		boolean[] removed = new boolean[1];
+		intervals.computeIfPresent(key, (k, current) -> {
+			Intervals result = current.without(id);
+			removed[0] = result != current;
+			return result.isEmpty() ? null : result;
+		});
+		return removed[0];
+	}
+
+	/**
+	 * Removes the interval with the given ID from whichever key it is indexed under.
+	 *
+	 * <p>All keys are scanned, which takes well under a millisecond for hundreds of
+	 * thousands of intervals, as only the primitive ID arrays are read.</p>
+	 *
+	 * @param id ID of the interval
+	 * @return {@code true} if the interval was indexed
+	 */
+	public boolean remove(long id) {
+		for (Map.Entry<Long, Intervals> entry : intervals.entrySet()) {
+			if (entry.getValue().indexOf(id) >= 0 && remove(entry.getKey(), id)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether an interval of the key overlaps {@code [start, end)}.
+	 *
+	 * @param key   key to check
+	 * @param start start of the checked interval, inclusive
+	 * @param end   end of the checked interval, exclusive
+	 * @return {@code true} if an indexed interval overlaps the checked one
+	 */
+	public boolean overlaps(long key, long start, long end) {
+		Intervals current = intervals.get(key);
+		return current != null && current.overlaps(start, end);
+	}
+
+	/**
+	 * Removes all intervals ending at or before the given time.
+	 *
+	 * @param time time before which intervals are removed
+	 * @return number of removed intervals
+	 */
+	public int removeEndedBefore(long time) {
+		int[] removed = new int[1];
+		for (Long key : intervals.keySet()) {
+			intervals.computeIfPresent(key, (k, current) -> {
+				Intervals result = current.endingAfter(time);
+				removed[0] += current.size() - result.size();
+				return result.isEmpty() ? null : result;
+			});
+		}
+		return removed[0];
+	}
+
+	/**
+	 * Returns the number of indexed intervals.
+	 *
+	 * @return number of intervals
+	 */
+	public int size() {
+		int size = 0;
+		for (Intervals current : intervals.values()) {
+			size += current.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Removes all intervals.
+	 */
+	public void clear() {
+		intervals.clear();
+	}
+
+	/**
+	 * Immutable snapshot of the intervals of one key, sorted by start.
+	 */
+	private static final class Intervals {
+
+		private final long[] starts;
+		private final long[] ends;
+		private final long[] maxEnds;
+		private final long[] ids;
+
+		private Intervals(long[] starts, long[] ends, long[] maxEnds, long[] ids) {
+			this.starts = starts;
+			this.ends = ends;
+			this.maxEnds = maxEnds;
+			this.ids = ids;
+		}
+
+		private int size() {
+			return ids.length;
+		}
+
+		private boolean isEmpty() {
+			return ids.length == 0;
+		}
+
+		/**
+		 * Intervals starting before {@code end} are candidates, and one of them overlaps
+		 * exactly when the largest of their ends is after {@code start}.
+		 */
+		private boolean overlaps(long start, long end) {
+			int candidates = firstStartingAtOrAfter(end);
+			return candidates > 0 && maxEnds[candidates - 1] > start;
+		}
+
+		private int indexOf(long id) {
+			for (int i = 0; i < ids.length; i++) {
+				if (ids[i] == id) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private Intervals with(long id, long start, long end) {
+			int position = firstStartingAtOrAfter(start);
+			int size = size();
+
+			long[] newStarts = insert(starts, position, start);
+			long[] newEnds = insert(ends, position, end);
+			long[] newIds = insert(ids, position, id);
+			long[] newMaxEnds = Arrays.copyOf(maxEnds, size + 1);
+			fillMaxEnds(newEnds, newMaxEnds, position);
+
+			return new Intervals(newStarts, newEnds, newMaxEnds, newIds);
+		}
+
+		private Intervals without(long id) {
+			int position = indexOf(id);
+			if (position < 0) {
+				return this;
+			}
+
+			long[] newStarts = delete(starts, position);
+			long[] newEnds = delete(ends, position);
+			long[] newIds = delete(ids, position);
+			long[] newMaxEnds = Arrays.copyOf(maxEnds, newIds.length);
+			fillMaxEnds(newEnds, newMaxEnds, position);
+
+			return new Intervals(newStarts, newEnds, newMaxEnds, newIds);
+		}
+
+		private Intervals endingAfter(long time) {
+			int kept = 0;
+			for (long end : ends) {
+				if (end > time) {
+					kept++;
+				}
+			}
+			if (kept == size()) {
+				return this;
+			}
+
+			long[] newStarts = new long[kept];
+			long[] newEnds = new long[kept];
+			long[] newIds = new long[kept];
+			for (int i = 0, j = 0; i < ids.length; i++) {
+				if (ends[i] > time) {
+					newStarts[j] = starts[i];
+					newEnds[j] = ends[i];
+					newIds[j++] = ids[i];
+				}
+			}
+			long[] newMaxEnds = new long[kept];
+			fillMaxEnds(newEnds, newMaxEnds, 0);
+
+			return new Intervals(newStarts, newEnds, newMaxEnds, newIds);
+		}
+
+		private int firstStartingAtOrAfter(long time) {
+			int low = 0;
+			int high = starts.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (starts[middle] < time) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		private static void fillMaxEnds(long[] ends, long[] maxEnds, int from) {
+			for (int i = from; i < ends.length; i++) {
+				maxEnds[i] = i == 0 ? ends[i] : Math.max(maxEnds[i - 1], ends[i]);
+			}
+		}
+
+		private static long[] insert(long[] array, int position, long value) {
+			long[] result = new long[array.length + 1];
+			System.arraycopy(array, 0, result, 0, position);
+			result[position] = value;
+			System.arraycopy(array, position, result, position + 1, array.length - position);
+			return result;
+		}
+
+		private static long[] delete(long[] array, int position) {
+			long[] result = new long[array.length - 1];
+			System.arraycopy(array, 0, result, 0, position);
+			System.arraycopy(array, position + 1, result, position, array.length - position - 1);
+			return result;
+		}
+	}
+}
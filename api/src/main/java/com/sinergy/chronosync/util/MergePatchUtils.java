@@ -0,0 +1,71 @@
+package com.sinergy.chronosync.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinergy.chronosync.exception.InvalidStateException;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Utility class for working with JSON Merge Patch documents (RFC 7396).
+ */
+public class MergePatchUtils {
+
+	public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	/**
+	 * Converts a merge patch document into a map of attribute changes.
+	 *
+	 * <p>Only attributes listed in {@code patchableFields} are accepted. Each value is
+	 * converted to the declared attribute type, and explicit {@code null} values are kept,
+	 * since in merge patch semantics they mean "remove" (set to {@code null}).</p>
+	 *
+	 * @param patch           {@link JsonNode} merge patch document
+	 * @param patchableFields {@link Map} of patchable attribute names to their types
+	 * @return {@link Map} of attribute names to converted values, in document order
+	 * @throws InvalidStateException if the document is not an object, contains an unknown
+	 *                               attribute or a value of the wrong type
+	 */
+	public static Map<String, Object> toChanges(JsonNode patch, Map<String, Class<?>> patchableFields) {
+		if (patch == null || !patch.isObject()) {
+			throw new InvalidStateException("Merge patch document must be a JSON object.");
+		}
+
+		Map<String, Object> changes = new LinkedHashMap<>();
+		Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> field = fields.next();
+			Class<?> type = patchableFields.get(field.getKey());
+
+			if (type == null) {
+				throw new InvalidStateException("Field '" + field.getKey() + "' cannot be patched.");
+			}
+
+			changes.put(field.getKey(), toValue(field.getKey(), field.getValue(), type));
+		}
+
+		return changes;
+	}
+
+	private static Object toValue(String name, JsonNode value, Class<?> type) {
+		if (value.isNull()) {
+			return null;
+		}
+
+		if (value.isContainerNode()) {
+			throw new InvalidStateException("Invalid value for field '" + name + "'.");
+		}
+
+		try {
+			return OBJECT_MAPPER.treeToValue(value, type);
+		} catch (JsonProcessingException | IllegalArgumentException e) {
+			throw new InvalidStateException("Invalid value for field '" + name + "'.");
+		}
+	}
+}
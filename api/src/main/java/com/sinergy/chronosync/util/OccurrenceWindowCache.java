@@ -0,0 +1,98 @@
+package com.sinergy.chronosync.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded in-process cache of expanded occurrence windows.
+ *
+ * <p>Windows are grouped by owner, e.g. a recurring series, and tagged with the owner's revision.
+ * A lookup with a newer revision misses, so an edited owner is never answered from windows
+ * expanded before the edit, even if they were stored after the owner was invalidated. The
+ * least recently used owners are evicted once {@code maxOwners} is exceeded.</p>
+ */
+public class OccurrenceWindowCache {
+
+	private final Map<Long, Entry> entries;
+	private final int maxWindowsPerOwner;
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param maxOwners          maximum number of owners kept
+	 * @param maxWindowsPerOwner maximum number of windows kept per owner
+	 */
+	public OccurrenceWindowCache(int maxOwners, int maxWindowsPerOwner) {
+		this.maxWindowsPerOwner = maxWindowsPerOwner;
+		this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+				return size() > maxOwners;
+			}
+		});
+	}
+
+	/**
+	 * Returns the cached occurrences of a window.
+	 *
+	 * @param owner    ID of the owner
+	 * @param revision current revision of the owner
+	 * @param window   index of the window
+	 * @return cached occurrences, or {@code null} if the window is not cached for the revision
+	 */
+	public long[] get(long owner, int revision, long window) {
+		Entry entry = entries.get(owner);
+		return entry != null && entry.revision == revision ? entry.windows.get(window) : null;
+	}
+
+	/**
+	 * Stores the occurrences of a window. Windows of an older revision than the cached one are ignored.
+	 *
+	 * @param owner       ID of the owner
+	 * @param revision    revision of the owner the window was expanded from
+	 * @param window      index of the window
+	 * @param occurrences expanded occurrences
+	 */
+	public void put(long owner, int revision, long window, long[] occurrences) {
+		Entry entry = entries.compute(owner, (key, current) ->
+			current == null || current.revision < revision ? new Entry(revision) : current
+		);
+		if (entry.revision != revision) {
+			return;
+		}
+		if (entry.windows.size() >= maxWindowsPerOwner) {
+			entry.windows.clear();
+		}
+		entry.windows.put(window, occurrences);
+	}
+
+	/**
+	 * Removes all windows of the owner.
+	 *
+	 * @param owner ID of the owner
+	 */
+	public void invalidate(long owner) {
+		entries.remove(owner);
+	}
+
+	/**
+	 * Returns the number of cached owners.
+	 *
+	 * @return number of owners
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	private static final class Entry {
+
+		private final int revision;
+		private final Map<Long, long[]> windows = new ConcurrentHashMap<>();
+
+		private Entry(int revision) {
+			this.revision = revision;
+		}
+	}
+}
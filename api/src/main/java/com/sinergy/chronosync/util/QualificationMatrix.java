@@ -0,0 +1,256 @@
+package com.sinergy.chronosync.util;
+
+import java.util.*;
+
+/**
+ * Immutable matrix of the employees qualified to perform appointment types.
+ *
+ * <p>Every employee is given a column index the first time it is qualified for a type, and every
+ * appointment type with qualifications is a row of bits, one per column, packed into
+ * {@code long} words. Finding the employees among a set of candidates that can perform one or
+ * several types builds the bitset of the candidates and ANDs it with the rows word by word, so
+ * the cost depends on the number of employees divided by 64 rather than on the number of
+ * qualifications.</p>
+ *
+ * <p>Appointment types without a row are not restricted and can be performed by every employee.
+ * A restricted type keeps its row when its last qualification is removed, so an empty row means
+ * that no employee can perform it. Changes return a new matrix that shares the unchanged rows with this one, so a matrix can be
+ * read by any number of threads while changes are made.</p>
+ */
+public class QualificationMatrix {
+
+	/**
+	 * Matrix without qualifications, in which no appointment type is restricted.
+	 */
+	public static final QualificationMatrix EMPTY = new QualificationMatrix(new long[0], Map.of(), Map.of());
+
+	private final long[] employeeIds;
+	private final Map<Long, Integer> columns;
+	private final Map<Long, long[]> rows;
+
+	private QualificationMatrix(long[] employeeIds, Map<Long, Integer> columns, Map<Long, long[]> rows) {
+		this.employeeIds = employeeIds;
+		this.columns = columns;
+		this.rows = rows;
+	}
+
+	/**
+	 * Builds a matrix from qualifications.
+	 *
+	 * @param qualifications {@link Collection} of {@code {appointmentTypeId, employeeId}} pairs
+	 * @return {@link QualificationMatrix} with the qualifications
+	 */
+	public static QualificationMatrix of(Collection<long[]> qualifications) {
+		return of(qualifications, List.of());
+	}
+
+	/**
+	 * Builds a matrix from qualifications, restricting the given appointment types as well even
+	 * if no employee is qualified for them.
+	 *
+	 * @param qualifications    {@link Collection} of {@code {appointmentTypeId, employeeId}} pairs
+	 * @param restrictedTypeIds {@link Collection} of IDs of further restricted appointment types
+	 * @return {@link QualificationMatrix} with the qualifications
+	 */
+	public static QualificationMatrix of(Collection<long[]> qualifications, Collection<Long> restrictedTypeIds) {
+		Map<Long, Integer> columns = new HashMap<>();
+		long[] employeeIds = new long[qualifications.size()];
+		for (long[] qualification : qualifications) {
+			if (!columns.containsKey(qualification[1])) {
+				employeeIds[columns.size()] = qualification[1];
+				columns.put(qualification[1], columns.size());
+			}
+		}
+
+		Map<Long, long[]> rows = new HashMap<>();
+		int words = words(columns.size());
+		for (Long appointmentTypeId : restrictedTypeIds) {
+			rows.put(appointmentTypeId, new long[words]);
+		}
+		for (long[] qualification : qualifications) {
+			set(rows.computeIfAbsent(qualification[0], id -> new long[words]), columns.get(qualification[1]));
+		}
+		return new QualificationMatrix(Arrays.copyOf(employeeIds, columns.size()), columns, rows);
+	}
+
+	/**
+	 * Returns a matrix in which the employee is qualified for the appointment type as well.
+	 *
+	 * @param appointmentTypeId ID of the appointment type
+	 * @param employeeId        ID of the employee
+	 * @return {@link QualificationMatrix} with the qualification, this matrix if it already has it
+	 */
+	public QualificationMatrix with(long appointmentTypeId, long employeeId) {
+		long[] ids = employeeIds;
+		Map<Long, Integer> cols = columns;
+		Integer column = columns.get(employeeId);
+		if (column == null) {
+			column = ids.length;
+			ids = Arrays.copyOf(ids, column + 1);
+			ids[column] = employeeId;
+			cols = new HashMap<>(columns);
+			cols.put(employeeId, column);
+		}
+
+		long[] row = rows.get(appointmentTypeId);
+		if (row != null && isSet(row, column)) {
+			return this;
+		}
+		long[] updated = row == null ? new long[words(column + 1)] : Arrays.copyOf(row, Math.max(row.length, words(column + 1)));
+		set(updated, column);
+
+		Map<Long, long[]> updatedRows = new HashMap<>(rows);
+		updatedRows.put(appointmentTypeId, updated);
+		return new QualificationMatrix(ids, cols, updatedRows);
+	}
+
+	/**
+	 * Returns a matrix in which the employee is no longer qualified for the appointment type.
+	 * A type whose last qualification is removed stays restricted, so no employee can perform it.
+	 *
+	 * @param appointmentTypeId ID of the appointment type
+	 * @param employeeId        ID of the employee
+	 * @return {@link QualificationMatrix} without the qualification, this matrix if it does not have it
+	 */
+	public QualificationMatrix without(long appointmentTypeId, long employeeId) {
+		Integer column = columns.get(employeeId);
+		long[] row = rows.get(appointmentTypeId);
+		if (column == null || row == null || !isSet(row, column)) {
+			return this;
+		}
+		long[] updated = row.clone();
+		updated[column >>> 6] &= ~(1L << column);
+
+		Map<Long, long[]> updatedRows = new HashMap<>(rows);
+		updatedRows.put(appointmentTypeId, updated);
+		return new QualificationMatrix(employeeIds, columns, updatedRows);
+	}
+
+	/**
+	 * Returns a matrix in which the appointment type is restricted, keeping its qualifications.
+	 *
+	 * @param appointmentTypeId ID of the appointment type
+	 * @return {@link QualificationMatrix} restricting the type, this matrix if it already does
+	 */
+	public QualificationMatrix restricted(long appointmentTypeId) {
+		if (rows.containsKey(appointmentTypeId)) {
+			return this;
+		}
+		Map<Long, long[]> updatedRows = new HashMap<>(rows);
+		updatedRows.put(appointmentTypeId, new long[0]);
+		return new QualificationMatrix(employeeIds, columns, updatedRows);
+	}
+
+	/**
+	 * Returns a matrix in which the appointment type is no longer restricted, provided no
+	 * employee is qualified for it.
+	 *
+	 * @param appointmentTypeId ID of the appointment type
+	 * @return {@link QualificationMatrix} without the empty row of the type, this matrix if the type has qualifications or no row
+	 */
+	public QualificationMatrix unrestricted(long appointmentTypeId) {
+		long[] row = rows.get(appointmentTypeId);
+		if (row == null || Arrays.stream(row).anyMatch(word -> word != 0)) {
+			return this;
+		}
+		Map<Long, long[]> updatedRows = new HashMap<>(rows);
+		updatedRows.remove(appointmentTypeId);
+		return new QualificationMatrix(employeeIds, columns, updatedRows);
+	}
+
+	/**
+	 * Returns whether only qualified employees can perform the appointment type.
+	 *
+	 * @param appointmentTypeId ID of the appointment type
+	 * @return {@code true} if the type has a row, even if no employee is qualified for it
+	 */
+	public boolean isRestricted(long appointmentTypeId) {
+		return rows.containsKey(appointmentTypeId);
+	}
+
+	/**
+	 * Returns whether the employee can perform the appointment type.
+	 *
+	 * @param appointmentTypeId ID of the appointment type
+	 * @param employeeId        ID of the employee
+	 * @return {@code true} if the type is not restricted or the employee is qualified for it
+	 */
+	public boolean isQualified(long appointmentTypeId, long employeeId) {
+		long[] row = rows.get(appointmentTypeId);
+		if (row == null) {
+			return true;
+		}
+		Integer column = columns.get(employeeId);
+		return column != null && isSet(row, column);
+	}
+
+	/**
+	 * Returns the candidates that can perform all the appointment types.
+	 *
+	 * @param appointmentTypeIds {@link Collection} of appointment type IDs
+	 * @param employeeIds        {@link Collection} of candidate employee IDs
+	 * @return {@link List} of qualified employee IDs in ascending order, without duplicates
+	 */
+	public List<Long> filter(Collection<Long> appointmentTypeIds, Collection<Long> employeeIds) {
+		long[] qualified = null;
+		for (Long appointmentTypeId : appointmentTypeIds) {
+			long[] row = rows.get(appointmentTypeId);
+			if (row != null) {
+				qualified = qualified == null ? row.clone() : and(qualified, row);
+			}
+		}
+		if (qualified == null) {
+			return employeeIds.stream().distinct().sorted().toList();
+		}
+
+		long[] candidates = new long[qualified.length];
+		for (Long employeeId : employeeIds) {
+			Integer column = columns.get(employeeId);
+			if (column != null && column < candidates.length * 64) {
+				set(candidates, column);
+			}
+		}
+		qualified = and(qualified, candidates);
+
+		List<Long> result = new ArrayList<>();
+		for (int word = 0; word < qualified.length; word++) {
+			for (long bits = qualified[word]; bits != 0; bits &= bits - 1) {
+				result.add(this.employeeIds[word * 64 + Long.numberOfTrailingZeros(bits)]);
+			}
+		}
+		result.sort(null);
+		return result;
+	}
+
+	/**
+	 * Returns the number of employees with a column.
+	 *
+	 * @return number of columns
+	 */
+	public int columns() {
+		return employeeIds.length;
+	}
+
+	/**
+	 * ANDs the words of {@code other} into {@code bits}, which is truncated to the shorter length.
+	 */
+	private static long[] and(long[] bits, long[] other) {
+		long[] result = bits.length <= other.length ? bits : Arrays.copyOf(bits, other.length);
+		for (int i = 0; i < result.length; i++) {
+			result[i] &= other[i];
+		}
+		return result;
+	}
+
+	private static boolean isSet(long[] bits, int column) {
+		return (column >>> 6) < bits.length && (bits[column >>> 6] & (1L << column)) != 0;
+	}
+
+	private static void set(long[] bits, int column) {
+		bits[column >>> 6] |= 1L << column;
+	}
+
+	private static int words(int columns) {
+		return (columns + 63) >>> 6;
+	}
+}
@@ -0,0 +1,343 @@
+package com.sinergy.chronosync.util;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * Subset of the iCalendar (RFC 5545) recurrence rule.
+ *
+ * <p>Supports {@code FREQ} of {@code DAILY}, {@code WEEKLY}, {@code MONTHLY} and {@code YEARLY} with
+ * {@code INTERVAL}, {@code COUNT}, {@code UNTIL} and, for weekly rules, {@code BYDAY},
+ * e.g. {@code FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH;UNTIL=20250630T000000Z}. Monthly rules repeat
+ * on the day of month of the first occurrence and skip months without that day; yearly rules
+ * likewise repeat on its month and day and skip years without it, e.g. February 29.</p>
+ *
+ * <p>Occurrences are produced lazily by an iterator, in the time zone of the first occurrence,
+ * so a series keeps its local time across daylight saving changes. For rules without
+ * {@code COUNT}, iteration can start at any point in time without walking the earlier
+ * occurrences. Instances are immutable.</p>
+ */
+public class RecurrenceRule {
+
+	/**
+	 * Supported recurrence frequencies.
+	 */
+	public enum Frequency {
+		DAILY,
+		WEEKLY,
+		MONTHLY,
+		YEARLY
+	}
+
+	private static final Map<String, DayOfWeek> DAYS = Map.of(
+		"MO", DayOfWeek.MONDAY,
+		"TU", DayOfWeek.TUESDAY,
+		"WE", DayOfWeek.WEDNESDAY,
+		"TH", DayOfWeek.THURSDAY,
+		"FR", DayOfWeek.FRIDAY,
+		"SA", DayOfWeek.SATURDAY,
+		"SU", DayOfWeek.SUNDAY
+	);
+
+	private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+	private final Frequency frequency;
+	private final int interval;
+	private final Integer count;
+	private final Instant until;
+	private final SortedSet<DayOfWeek> byDay;
+
+	private RecurrenceRule(Frequency frequency, int interval, Integer count, Instant until, SortedSet<DayOfWeek> byDay) {
+		this.frequency = frequency;
+		this.interval = interval;
+		this.count = count;
+		this.until = until;
+		this.byDay = byDay;
+	}
+
+	/**
+	 * Parses a recurrence rule, e.g. {@code FREQ=WEEKLY;BYDAY=MO,WE;COUNT=20}.
+	 *
+	 * @param rule {@link String} rule to parse, optionally prefixed with {@code RRULE:}
+	 * @return parsed {@link RecurrenceRule}
+	 * @throws IllegalArgumentException if the rule is malformed or uses unsupported parts
+	 */
+	public static RecurrenceRule parse(String rule) {
+		if (rule == null || rule.isBlank()) {
+			throw new IllegalArgumentException("Recurrence rule is empty.");
+		}
+		String value = rule.strip();
+		if (value.regionMatches(true, 0, "RRULE:", 0, 6)) {
+			value = value.substring(6);
+		}
+
+		Frequency frequency = null;
+		int interval = 1;
+		Integer count = null;
+		Instant until = null;
+		SortedSet<DayOfWeek> byDay = new TreeSet<>();
+
+		for (String part : value.split(";")) {
+			String[] nameValue = part.split("=", 2);
+			if (nameValue.length != 2 || nameValue[1].isEmpty()) {
+				throw new IllegalArgumentException("Malformed recurrence rule part: " + part);
+			}
+			String partValue = nameValue[1].toUpperCase(Locale.ROOT);
+			try {
+				switch (nameValue[0].toUpperCase(Locale.ROOT)) {
+					case "FREQ" -> frequency = Frequency.valueOf(partValue);
+					case "INTERVAL" -> interval = Integer.parseInt(partValue);
+					case "COUNT" -> count = Integer.parseInt(partValue);
+					case "UNTIL" -> until = parseUntil(partValue);
+					case "BYDAY" -> {
+						for (String day : partValue.split(",")) {
+							DayOfWeek dayOfWeek = DAYS.get(day);
+							if (dayOfWeek == null) {
+								throw new IllegalArgumentException("Unsupported day in recurrence rule: " + day);
+							}
+							byDay.add(dayOfWeek);
+						}
+					}
+					default -> throw new IllegalArgumentException("Unsupported recurrence rule part: " + nameValue[0]);
+				}
+			} catch (NumberFormatException | DateTimeParseException e) {
+				throw new IllegalArgumentException("Malformed recurrence rule part: " + part, e);
+			}
+		}
+
+		if (frequency == null) {
+			throw new IllegalArgumentException("Recurrence rule frequency is required.");
+		}
+		if (interval < 1 || (count != null && count < 1)) {
+			throw new IllegalArgumentException("Recurrence rule interval and count must be positive.");
+		}
+		if (count != null && until != null) {
+			throw new IllegalArgumentException("Recurrence rule cannot have both count and until.");
+		}
+		if (!byDay.isEmpty() && frequency != Frequency.WEEKLY) {
+			throw new IllegalArgumentException("Days are only supported for weekly recurrence rules.");
+		}
+		return new RecurrenceRule(frequency, interval, count, until, Collections.unmodifiableSortedSet(byDay));
+	}
+
+	/**
+	 * Returns whether the rule has a last occurrence.
+	 *
+	 * @return {@code true} if the rule has a count or an end
+	 */
+	public boolean isBounded() {
+		return count != null || until != null;
+	}
+
+	/**
+	 * Returns whether the first occurrence matches the rule, i.e. falls on one of its days.
+	 *
+	 * @param start {@link ZonedDateTime} first occurrence
+	 * @return {@code true} if the rule can start at the given time
+	 */
+	public boolean matchesStart(ZonedDateTime start) {
+		return byDay.isEmpty() || byDay.contains(start.getDayOfWeek());
+	}
+
+	/**
+	 * Returns the occurrences of the series starting at {@code start}, in ascending order.
+	 *
+	 * @param start {@link ZonedDateTime} first occurrence
+	 * @return lazy {@link Iterator} of occurrence starts
+	 */
+	public Iterator<ZonedDateTime> iterator(ZonedDateTime start) {
+		return new OccurrenceIterator(start, 0);
+	}
+
+	/**
+	 * Returns the occurrences of the series starting at {@code start} that start at or
+	 * after {@code from}, in ascending order.
+	 *
+	 * <p>Without a count, iteration jumps directly to the period containing {@code from}.
+	 * With a count, the earlier occurrences have to be counted, so they are walked.</p>
+	 *
+	 * @param start {@link ZonedDateTime} first occurrence
+	 * @param from  {@link Instant} earliest start of the returned occurrences
+	 * @return lazy {@link Iterator} of occurrence starts
+	 */
+	public Iterator<ZonedDateTime> iterator(ZonedDateTime start, Instant from) {
+		long period = count == null ? Math.max(periodsBetween(start, from) - 1, 0) : 0;
+		OccurrenceIterator iterator = new OccurrenceIterator(start, period);
+		return new Iterator<>() {
+
+			private ZonedDateTime next = advance();
+
+			private ZonedDateTime advance() {
+				while (iterator.hasNext()) {
+					ZonedDateTime occurrence = iterator.next();
+					if (!occurrence.toInstant().isBefore(from)) {
+						return occurrence;
+					}
+				}
+				return null;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public ZonedDateTime next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				ZonedDateTime result = next;
+				next = advance();
+				return result;
+			}
+		};
+	}
+
+	/**
+	 * Returns the rule in its canonical form.
+	 *
+	 * @return {@link String} rule, e.g. {@code FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,WE}
+	 */
+	@Override
+	public String toString() {
+		StringBuilder rule = new StringBuilder("FREQ=").append(frequency).append(";INTERVAL=").append(interval);
+		if (!byDay.isEmpty()) {
+			StringJoiner days = new StringJoiner(",", ";BYDAY=", "");
+			byDay.forEach(day -> days.add(day.name().substring(0, 2)));
+			rule.append(days);
+		}
+		if (count != null) {
+			rule.append(";COUNT=").append(count);
+		}
+		if (until != null) {
+			rule.append(";UNTIL=").append(UNTIL_FORMAT.format(until.atOffset(ZoneOffset.UTC)));
+		}
+		return rule.toString();
+	}
+
+	private static Instant parseUntil(String value) {
+		if (value.length() == 8) {
+			return LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE).plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+		}
+		return LocalDateTime.parse(value, UNTIL_FORMAT).toInstant(ZoneOffset.UTC);
+	}
+
+	/**
+	 * Number of whole periods of the rule between the first occurrence and the given time.
+	 */
+	private long periodsBetween(ZonedDateTime start, Instant time) {
+		LocalDate date = time.atZone(start.getZone()).toLocalDate();
+		long units = switch (frequency) {
+			case DAILY -> ChronoUnit.DAYS.between(start.toLocalDate(), date);
+			case WEEKLY -> ChronoUnit.WEEKS.between(weekStart(start.toLocalDate()), weekStart(date));
+			case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(date));
+			case YEARLY -> (long) date.getYear() - start.getYear();
+		};
+		return Math.floorDiv(units, interval);
+	}
+
+	private static LocalDate weekStart(LocalDate date) {
+		return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+	}
+
+	/**
+	 * Walks the candidates of the rule period by period, stopping at the count or end.
+	 */
+	private final class OccurrenceIterator implements Iterator<ZonedDateTime> {
+
+		private final ZonedDateTime start;
+		private final List<DayOfWeek> days;
+		private long period;
+		private int dayIndex;
+		private int produced;
+		private ZonedDateTime next;
+
+		private OccurrenceIterator(ZonedDateTime start, long period) {
+			this.start = start;
+			this.days = byDay.isEmpty() ? List.of(start.getDayOfWeek()) : List.copyOf(byDay);
+			this.period = period;
+			this.next = advance();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public ZonedDateTime next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			ZonedDateTime result = next;
+			next = advance();
+			return result;
+		}
+
+		private ZonedDateTime advance() {
+			if (count != null && produced >= count) {
+				return null;
+			}
+			while (true) {
+				ZonedDateTime candidate = candidate();
+				if (candidate == null) {
+					continue;
+				}
+				if (until != null && candidate.toInstant().isAfter(until)) {
+					return null;
+				}
+				if (candidate.isBefore(start)) {
+					continue;
+				}
+				produced++;
+				return candidate;
+			}
+		}
+
+		/**
+		 * Returns the next candidate and moves on, or {@code null} if the current one does not exist.
+		 */
+		private ZonedDateTime candidate() {
+			long units = period * interval;
+			return switch (frequency) {
+				case DAILY -> {
+					period++;
+					yield start.plusDays(units);
+				}
+				case WEEKLY -> {
+					LocalDate date = weekStart(start.toLocalDate()).plusWeeks(units).with(TemporalAdjusters.nextOrSame(days.get(dayIndex)));
+					if (++dayIndex == days.size()) {
+						dayIndex = 0;
+						period++;
+					}
+					yield ZonedDateTime.of(date, start.toLocalTime(), start.getZone());
+				}
+				case MONTHLY -> {
+					period++;
+					YearMonth month = YearMonth.from(start).plusMonths(units);
+					yield month.isValidDay(start.getDayOfMonth())
+						? ZonedDateTime.of(month.atDay(start.getDayOfMonth()), start.toLocalTime(), start.getZone())
+						: null;
+				}
+				case YEARLY -> {
+					period++;
+					YearMonth month = YearMonth.from(start).plusYears(units);
+					yield month.isValidDay(start.getDayOfMonth())
+						? ZonedDateTime.of(month.atDay(start.getDayOfMonth()), start.toLocalTime(), start.getZone())
+						: null;
+				}
+			};
+		}
+	}
+}
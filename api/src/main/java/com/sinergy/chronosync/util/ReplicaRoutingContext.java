@@ -0,0 +1,39 @@
+package com.sinergy.chronosync.util;
+
+/**
+ * Holds the client on whose behalf the current thread accesses the database.
+ *
+ * <p>The client key (the username) is used by the read replica routing to keep a client
+ * on the primary database for a short time after it wrote something, so it always reads
+ * its own writes. The key is set by the JWT authentication filter, or by the login when
+ * the client is not authenticated yet, and cleared at the end of every request.</p>
+ */
+public class ReplicaRoutingContext {
+
+	private static final ThreadLocal<String> CLIENT = new ThreadLocal<>();
+
+	/**
+	 * Sets the client for the current thread.
+	 *
+	 * @param client {@link String} client key, usually the username
+	 */
+	public static void setClient(String client) {
+		CLIENT.set(client);
+	}
+
+	/**
+	 * Returns the client of the current thread.
+	 *
+	 * @return {@link String} client key, or {@code null} if not set
+	 */
+	public static String getClient() {
+		return CLIENT.get();
+	}
+
+	/**
+	 * Clears the client of the current thread.
+	 */
+	public static void clear() {
+		CLIENT.remove();
+	}
+}
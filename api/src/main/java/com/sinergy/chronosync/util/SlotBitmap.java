@@ -0,0 +1,265 @@
+package com.sinergy.chronosync.util;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Compact occupancy bitmap of consecutive time slots.
+ *
+ * <p>Each slot is represented by one bit, set when the slot is occupied. With five-minute
+ * slots a week fits into 32 longs. Range updates and free-run scanning work on whole
+ * 64-bit words, using {@link Long#numberOfTrailingZeros(long)} to jump over runs of
+ * occupied or free slots instead of testing slots one by one. Instances are not thread-safe.</p>
+ */
+public class SlotBitmap {
+
+	/**
+	 * Length of one slot in minutes.
+	 */
+	public static final int SLOT_MINUTES = 5;
+
+	private static final long ALL = -1L;
+
+	private final long[] words;
+	private final int size;
+
+	/**
+	 * Creates a bitmap of the given number of slots, all of them free.
+	 *
+	 * @param size number of slots
+	 */
+	public SlotBitmap(int size) {
+		this.size = size;
+		this.words = new long[(size + 63) >>> 6];
+	}
+
+	/**
+	 * Creates a copy of the given bitmap.
+	 *
+	 * @param other {@link SlotBitmap} to copy
+	 */
+	public SlotBitmap(SlotBitmap other) {
+		this.size = other.size;
+		this.words = other.words.clone();
+	}
+
+	/**
+	 * Creates a bitmap from its byte encoding, see {@link #toByteArray()}. Missing bytes are
+	 * read as free slots and bytes beyond the size are ignored.
+	 *
+	 * @param bytes byte encoding of the bitmap
+	 * @param size  number of slots
+	 * @return {@link SlotBitmap} with the encoded slots occupied
+	 */
+	public static SlotBitmap fromByteArray(byte[] bytes, int size) {
+		SlotBitmap bitmap = new SlotBitmap(size);
+		int length = Math.min(bytes.length, (size + 7) >>> 3);
+		for (int i = 0; i < length; i++) {
+			bitmap.words[i >>> 3] |= (bytes[i] & 0xFFL) << ((i & 7) << 3);
+		}
+		if ((size & 63) != 0 && bitmap.words.length > 0) {
+			bitmap.words[bitmap.words.length - 1] &= ALL >>> -size;
+		}
+		return bitmap;
+	}
+
+	/**
+	 * Returns the byte encoding of the bitmap, e.g. for storage in a database column.
+	 * Slot {@code i} is bit {@code i % 8} of byte {@code i / 8}, as in {@link java.util.BitSet#toByteArray()},
+	 * but the array always has {@code (size + 7) / 8} bytes.
+	 *
+	 * @return byte encoding of the bitmap
+	 */
+	public byte[] toByteArray() {
+		byte[] bytes = new byte[(size + 7) >>> 3];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) (words[i >>> 3] >>> ((i & 7) << 3));
+		}
+		return bytes;
+	}
+
+	/**
+	 * Returns the number of slots.
+	 *
+	 * @return number of slots
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Marks the slots {@code [from, to)} as occupied. The range is clamped to the bitmap.
+	 *
+	 * @param from first slot, inclusive
+	 * @param to   last slot, exclusive
+	 */
+	public void occupy(int from, int to) {
+		update(from, to, true);
+	}
+
+	/**
+	 * Marks the slots {@code [from, to)} as free. The range is clamped to the bitmap.
+	 *
+	 * @param from first slot, inclusive
+	 * @param to   last slot, exclusive
+	 */
+	public void release(int from, int to) {
+		update(from, to, false);
+	}
+
+	/**
+	 * Returns whether the slot is occupied.
+	 *
+	 * @param slot slot index
+	 * @return {@code true} if the slot is occupied
+	 */
+	public boolean isOccupied(int slot) {
+		return (words[slot >>> 6] & (1L << slot)) != 0;
+	}
+
+	/**
+	 * Returns whether all slots {@code [from, to)} are free.
+	 *
+	 * @param from first slot, inclusive
+	 * @param to   last slot, exclusive
+	 * @return {@code true} if the range lies within the bitmap and none of its slots is occupied
+	 */
+	public boolean isFree(int from, int to) {
+		return from >= 0 && to <= size && nextOccupied(from) >= to;
+	}
+
+	/**
+	 * Keeps only the slots occupied in both bitmaps, e.g. to find the slots in which every
+	 * one of several interchangeable resources is occupied.
+	 *
+	 * @param other {@link SlotBitmap} of the same size
+	 */
+	public void and(SlotBitmap other) {
+		checkSize(other);
+		for (int i = 0; i < words.length; i++) {
+			words[i] &= other.words[i];
+		}
+	}
+
+	/**
+	 * Marks the slots occupied in the other bitmap as occupied in this one as well.
+	 *
+	 * @param other {@link SlotBitmap} of the same size
+	 */
+	public void or(SlotBitmap other) {
+		checkSize(other);
+		for (int i = 0; i < words.length; i++) {
+			words[i] |= other.words[i];
+		}
+	}
+
+	/**
+	 * Returns the number of occupied slots.
+	 *
+	 * @return number of occupied slots
+	 */
+	public int countOccupied() {
+		int count = 0;
+		for (long word : words) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the index of the first occupied slot at or after {@code from},
+	 * or {@link #size()} if there is none.
+	 *
+	 * @param from slot to start from
+	 * @return index of the next occupied slot
+	 */
+	public int nextOccupied(int from) {
+		return next(from, 0L);
+	}
+
+	/**
+	 * Returns the index of the first free slot at or after {@code from},
+	 * or {@link #size()} if there is none.
+	 *
+	 * @param from slot to start from
+	 * @return index of the next free slot
+	 */
+	public int nextFree(int from) {
+		return next(from, ALL);
+	}
+
+	/**
+	 * Passes the start of every free range of {@code length} slots to the consumer, in ascending order.
+	 *
+	 * <p>Only starts that are a multiple of {@code step} are considered, so that offered slots
+	 * are aligned, e.g. to quarter hours.</p>
+	 *
+	 * @param length   number of consecutive free slots required
+	 * @param step     alignment of the start slots
+	 * @param consumer {@link IntConsumer} receiving the start slots
+	 */
+	public void forEachFreeRange(int length, int step, IntConsumer consumer) {
+		int runStart = nextFree(0);
+		while (runStart < size) {
+			int runEnd = nextOccupied(runStart);
+
+			int start = (runStart + step - 1) / step * step;
+			for (; start + length <= runEnd; start += step) {
+				consumer.accept(start);
+			}
+
+			runStart = nextFree(runEnd);
+		}
+	}
+
+	/**
+	 * Finds the next slot whose bit differs from the bits of {@code skipped}, i.e. the next
+	 * occupied slot when skipping free words ({@code 0}) and vice versa.
+	 */
+	private int next(int from, long skipped) {
+		if (from >= size) {
+			return size;
+		}
+
+		int wordIndex = from >>> 6;
+		long word = (words[wordIndex] ^ skipped) & (ALL << from);
+
+		while (word == 0) {
+			if (++wordIndex == words.length) {
+				return size;
+			}
+			word = words[wordIndex] ^ skipped;
+		}
+
+		return Math.min((wordIndex << 6) + Long.numberOfTrailingZeros(word), size);
+	}
+
+	private void checkSize(SlotBitmap other) {
+		if (other.size != size) {
+			throw new IllegalArgumentException("Bitmaps must have the same size.");
+		}
+	}
+
+	private void update(int from, int to, boolean occupied) {
+		from = Math.max(from, 0);
+		to = Math.min(to, size);
+		if (from >= to) {
+			return;
+		}
+
+		int firstWord = from >>> 6;
+		int lastWord = (to - 1) >>> 6;
+		long firstMask = ALL << from;
+		long lastMask = ALL >>> -to;
+
+		for (int i = firstWord; i <= lastWord; i++) {
+			long mask = ALL;
+			if (i == firstWord) {
+				mask &= firstMask;
+			}
+			if (i == lastWord) {
+				mask &= lastMask;
+			}
+			words[i] = occupied ? words[i] | mask : words[i] & ~mask;
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.sinergy.chronosync.util;
+
+import java.sql.SQLException;
+
+/**
+ * Utility class for inspecting SQL states of database errors.
+ */
+public class SqlStateUtils {
+
+	/**
+	 * PostgreSQL SQL state of an exclusion constraint violation.
+	 */
+	public static final String EXCLUSION_VIOLATION = "23P01";
+
+	/**
+	 * SQL state of a unique constraint violation, shared by PostgreSQL and H2.
+	 */
+	public static final String UNIQUE_VIOLATION = "23505";
+
+	/**
+	 * PostgreSQL SQL state of a detected deadlock.
+	 */
+	public static final String DEADLOCK_DETECTED = "40P01";
+
+	/**
+	 * PostgreSQL SQL state of a lock not acquired within {@code lock_timeout}.
+	 */
+	public static final String LOCK_NOT_AVAILABLE = "55P03";
+
+	private SqlStateUtils() {
+	}
+
+	/**
+	 * Returns whether the exception was caused by an {@link SQLException} with the given SQL state.
+	 *
+	 * @param exception {@link Throwable} exception to inspect, including its causes
+	 * @param sqlState  {@link String} SQL state to look for
+	 * @return {@code true} if any {@link SQLException} in the cause chain has the SQL state
+	 */
+	public static boolean hasSqlState(Throwable exception, String sqlState) {
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof SQLException sqlException && sqlState.equals(sqlException.getSQLState())) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
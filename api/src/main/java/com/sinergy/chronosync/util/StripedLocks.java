@@ -0,0 +1,122 @@
+package com.sinergy.chronosync.util;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed-size array of locks shared by an unbounded number of keys.
+ *
+ * <p>Each key is hashed to one stripe, so the memory used does not grow with the number of keys
+ * and locks never have to be created or removed. Keys sharing a stripe are serialized with each
+ * other, which is harmless as long as the number of stripes is well above the number of threads.</p>
+ *
+ * <p>Several keys are locked by acquiring their distinct stripes in ascending order, so two threads
+ * locking overlapping sets of keys cannot deadlock.</p>
+ */
+public class StripedLocks {
+
+	private final ReentrantLock[] stripes;
+	private final int mask;
+
+	/**
+	 * Creates the locks.
+	 *
+	 * @param stripes number of stripes, rounded up to a power of two
+	 */
+	public StripedLocks(int stripes) {
+		if (stripes < 1 || stripes > 1 << 16) {
+			throw new IllegalArgumentException("Number of stripes must be between 1 and 65536.");
+		}
+		int size = Integer.highestOneBit(stripes - 1) << 1;
+		this.stripes = new ReentrantLock[Math.max(size, 1)];
+		this.mask = this.stripes.length - 1;
+		for (int i = 0; i < this.stripes.length; i++) {
+			this.stripes[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * Returns the number of stripes.
+	 *
+	 * @return number of stripes
+	 */
+	public int size() {
+		return stripes.length;
+	}
+
+	/**
+	 * Returns the sorted, distinct stripes of the given keys.
+	 *
+	 * @param keys keys to lock
+	 * @return stripe indexes in acquisition order
+	 */
+	public int[] stripesOf(long... keys) {
+		int[] indexes = new int[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			indexes[i] = stripeOf(keys[i]);
+		}
+		return Arrays.stream(indexes).sorted().distinct().toArray();
+	}
+
+	/**
+	 * Acquires the given stripes in order, waiting at most the given time for all of them.
+	 * Either all stripes are locked by the current thread on return, or none is.
+	 *
+	 * @param stripes stripe indexes returned by {@link #stripesOf(long...)}
+	 * @param timeout maximum time to wait
+	 * @param unit    unit of the timeout
+	 * @return {@code true} if all stripes were locked
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public boolean tryLock(int[] stripes, long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		for (int i = 0; i < stripes.length; i++) {
+			boolean locked;
+			try {
+				locked = this.stripes[stripes[i]].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				unlock(stripes, i);
+				throw e;
+			}
+			if (!locked) {
+				unlock(stripes, i);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Releases stripes locked by {@link #tryLock(int[], long, TimeUnit)}.
+	 *
+	 * @param stripes stripe indexes that were locked
+	 */
+	public void unlock(int[] stripes) {
+		unlock(stripes, stripes.length);
+	}
+
+	/**
+	 * Returns whether the stripe of the key is held by any thread.
+	 *
+	 * @param key key to check
+	 * @return {@code true} if the stripe is locked
+	 */
+	public boolean isLocked(long key) {
+		return stripes[stripeOf(key)].isLocked();
+	}
+
+	private void unlock(int[] stripes, int count) {
+		for (int i = count - 1; i >= 0; i--) {
+			this.stripes[stripes[i]].unlock();
+		}
+	}
+
+	/**
+	 * Spreads the key over the stripes, so sequential IDs do not cluster.
+	 */
+	private int stripeOf(long key) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32)) & mask;
+	}
+}
@@ -0,0 +1,133 @@
+package com.sinergy.chronosync.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel expiring items after a number of ticks.
+ *
+ * <p>Items are placed into one of a fixed number of buckets, by the tick they expire at modulo the
+ * number of buckets, together with the number of full turns of the wheel left before they expire.
+ * Scheduling and cancelling take constant time and each tick only visits one bucket, no matter how
+ * many items are scheduled, so expiry does not need a timer or a scan per item.</p>
+ *
+ * <p>The wheel does not keep time itself: the owner calls {@link #advance(Consumer)} once per tick.
+ * Cancelled items are dropped lazily when their bucket is visited.</p>
+ *
+ * @param <T> type of the scheduled items
+ */
+public class TimingWheel<T> {
+
+	private final List<Timeout<T>>[] buckets;
+	private long tick;
+	private int size;
+
+	/**
+	 * Creates an empty wheel.
+	 *
+	 * @param wheelSize number of buckets; items expiring more ticks ahead stay in the wheel for several turns
+	 */
+	@SuppressWarnings("unchecked")
+	public TimingWheel(int wheelSize) {
+		if (wheelSize < 1) {
+			throw new IllegalArgumentException("Wheel size must be positive.");
+		}
+		buckets = new List[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			buckets[i] = new ArrayList<>();
+		}
+	}
+
+	/**
+	 * Schedules an item to expire after the given number of ticks.
+	 *
+	 * @param item  item to expire
+	 * @param ticks number of ticks until the item expires, at least one
+	 * @return {@link Timeout} handle to cancel the expiry with
+	 */
+	public synchronized Timeout<T> schedule(T item, long ticks) {
+		long delay = Math.max(ticks, 1);
+		long deadline = tick + delay;
+		Timeout<T> timeout = new Timeout<>(this, item, (delay - 1) / buckets.length);
+		buckets[(int) Math.floorMod(deadline, (long) buckets.length)].add(timeout);
+		size++;
+		return timeout;
+	}
+
+	/**
+	 * Moves the wheel forward by one tick and passes the items expiring at it to the consumer.
+	 *
+	 * @param expired {@link Consumer} receiving the expired items, called while the wheel is locked
+	 * @return number of expired items
+	 */
+	public synchronized int advance(Consumer<T> expired) {
+		tick++;
+		List<Timeout<T>> bucket = buckets[(int) Math.floorMod(tick, (long) buckets.length)];
+		int count = 0;
+		int kept = 0;
+		for (Timeout<T> timeout : bucket) {
+			if (timeout.cancelled) {
+				continue;
+			}
+			if (timeout.remainingRounds > 0) {
+				timeout.remainingRounds--;
+				bucket.set(kept++, timeout);
+				continue;
+			}
+			timeout.expired = true;
+			size--;
+			count++;
+			expired.accept(timeout.item);
+		}
+		bucket.subList(kept, bucket.size()).clear();
+		return count;
+	}
+
+	/**
+	 * Returns the number of scheduled items that are neither expired nor cancelled.
+	 *
+	 * @return number of pending items
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	private synchronized boolean cancel(Timeout<T> timeout) {
+		if (timeout.cancelled || timeout.expired) {
+			return false;
+		}
+		timeout.cancelled = true;
+		size--;
+		return true;
+	}
+
+	/**
+	 * Handle of a scheduled item.
+	 *
+	 * @param <T> type of the scheduled item
+	 */
+	public static final class Timeout<T> {
+
+		private final TimingWheel<T> wheel;
+		private final T item;
+		private long remainingRounds;
+		private boolean cancelled;
+		private boolean expired;
+
+		private Timeout(TimingWheel<T> wheel, T item, long remainingRounds) {
+			this.wheel = wheel;
+			this.item = item;
+			this.remainingRounds = remainingRounds;
+		}
+
+		/**
+		 * Cancels the expiry of the item.
+		 *
+		 * @return {@code true} if the item was pending, {@code false} if it already expired or was cancelled
+		 */
+		public boolean cancel() {
+			return wheel.cancel(this);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.sinergy.chronosync.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility class for running code at transaction boundaries.
+ */
+public class TransactionUtils {
+
+	private TransactionUtils() {
+	}
+
+	/**
+	 * Runs an action once the current transaction commits, or immediately when no transaction
+	 * synchronization is active. The action is not run if the transaction rolls back.
+	 *
+	 * @param action {@link Runnable} action to run
+	 */
+	public static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.sinergy.chronosync.util;
+
+import lombok.AllArgsConstructor;
+
+import java.util.*;
+
+/**
+ * Priority queue of entries with time windows, answering which best ranked entry has a window
+ * containing a given point, e.g. the first waitlisted customer who accepts a freed slot.
+ *
+ * <p>The queue is a segment tree over the points {@code [0, 2^32)}, with nodes created on demand.
+ * An entry is stored in the sorted sets of the at most {@code 2 * 32} nodes that exactly cover its
+ * window, so the nodes on the path from the leaf of a point to the root hold precisely the entries
+ * containing the point. Finding the best of them reads the first element of at most 33 sets, and
+ * adding or removing an entry touches as many sets as the entry is stored in, all in logarithmic
+ * time regardless of how many entries are queued.</p>
+ *
+ * <p>Entries are ordered by ascending rank, then by ascending ID. Points are plain {@code long}
+ * values, the caller chooses the unit. Windows are closed, {@code [from, to]}. The queue is not
+ * thread-safe.</p>
+ */
+public class WindowQueue {
+
+	/**
+	 * Number of bits of the points, the queue covers {@code [0, 2^BITS)}.
+	 */
+	static final int BITS = 32;
+
+	private static final long LIMIT = 1L << BITS;
+	private static final Comparator<Entry> ORDER = Comparator.comparingLong((Entry entry) -> entry.rank)
+		.thenComparingLong(entry -> entry.id);
+
+	private final Map<Long, TreeSet<Entry>> nodes = new HashMap<>();
+	private final Map<Long, Entry> entries = new HashMap<>();
+
+	/**
+	 * Adds an entry. An entry with the same ID is replaced.
+	 *
+	 * @param id   ID of the entry
+	 * @param rank rank of the entry, lower ranks are returned first
+	 * @param from first point of the window
+	 * @param to   last point of the window, inclusive
+	 * @throws IllegalArgumentException if the window is empty or out of range.
+	 */
+	public void add(long id, long rank, long from, long to) {
+		if (from < 0 || to >= LIMIT || from > to) {
+			throw new IllegalArgumentException("Window [" + from + ", " + to + "] is empty or out of range.");
+		}
+		remove(id);
+		Entry entry = new Entry(id, rank, from, to);
+		entries.put(id, entry);
+		insert(1, 0, LIMIT - 1, entry);
+	}
+
+	/**
+	 * Removes the entry with the given ID.
+	 *
+	 * @param id ID of the entry
+	 * @return {@code true} if the entry was queued
+	 */
+	public boolean remove(long id) {
+		Entry entry = entries.remove(id);
+		if (entry == null) {
+			return false;
+		}
+		delete(1, 0, LIMIT - 1, entry);
+		return true;
+	}
+
+	/**
+	 * Returns the best ranked entry whose window contains the point.
+	 *
+	 * @param point point the window has to contain
+	 * @return ID of the entry, empty if no window contains the point
+	 */
+	public OptionalLong peek(long point) {
+		if (point < 0 || point >= LIMIT) {
+			return OptionalLong.empty();
+		}
+		Entry best = null;
+		for (long node = LIMIT + point; node >= 1; node >>= 1) {
+			TreeSet<Entry> set = nodes.get(node);
+			if (set != null && (best == null || ORDER.compare(set.first(), best) < 0)) {
+				best = set.first();
+			}
+		}
+		return best == null ? OptionalLong.empty() : OptionalLong.of(best.id);
+	}
+
+	/**
+	 * Removes and returns the best ranked entry whose window contains the point.
+	 *
+	 * @param point point the window has to contain
+	 * @return ID of the removed entry, empty if no window contains the point
+	 */
+	public OptionalLong poll(long point) {
+		OptionalLong best = peek(point);
+		best.ifPresent(this::remove);
+		return best;
+	}
+
+	/**
+	 * Returns the number of queued entries.
+	 *
+	 * @return number of entries
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	private void insert(long node, long lo, long hi, Entry entry) {
+		if (entry.from <= lo && hi <= entry.to) {
+			nodes.computeIfAbsent(node, n -> new TreeSet<>(ORDER)).add(entry);
+			return;
+		}
+		long mid = lo + (hi - lo) / 2;
+		if (entry.from <= mid) {
+			insert(2 * node, lo, mid, entry);
+		}
+		if (entry.to > mid) {
+			insert(2 * node + 1, mid + 1, hi, entry);
+		}
+	}
+
+	private void delete(long node, long lo, long hi, Entry entry) {
+		if (entry.from <= lo && hi <= entry.to) {
+			TreeSet<Entry> set = nodes.get(node);
+			if (set != null && set.remove(entry) && set.isEmpty()) {
+				nodes.remove(node);
+			}
+			return;
+		}
+		long mid = lo + (hi - lo) / 2;
+		if (entry.from <= mid) {
+			delete(2 * node, lo, mid, entry);
+		}
+		if (entry.to > mid) {
+			delete(2 * node + 1, mid + 1, hi, entry);
+		}
+	}
+
+	/**
+	 * Queued entry with its rank and window.
+	 */
+	@AllArgsConstructor
+	private static final class Entry {
+
+		private final long id;
+		private final long rank;
+		private final long from;
+		private final long to;
+	}
+}
@@ -0,0 +1,47 @@
+-- Bookable resources of firms (rooms, devices) and their reservations by appointments.
+
+create table resources (
+	id bigint generated by default as identity,
+	firm_id bigint not null,
+	name varchar(255) not null,
+	kind varchar(64) not null,
+	created_at timestamp(6) with time zone,
+	modified_at timestamp(6) with time zone,
+	primary key (id),
+	constraint fk_resources_firm foreign key (firm_id) references firms (id)
+);
+
+-- ResourceFilterBuilder: firmId + kinds
+create index if not exists ix_resources_firm_id_kind on resources (firm_id, kind);
+
+-- Comma-separated kinds of resources required by appointments of a type, see ResourceKindsConverter.
+alter table appointment_types add column resource_kinds varchar(255);
+
+create table appointment_resources (
+	id bigint generated by default as identity,
+	appointment_id bigint not null,
+	resource_id bigint not null,
+	start_time timestamp(6) with time zone not null,
+	end_time timestamp(6) with time zone not null,
+	created_at timestamp(6) with time zone,
+	modified_at timestamp(6) with time zone,
+	primary key (id),
+	-- Keep in sync with Appointment.MAX_DURATION, range queries rely on it.
+	constraint ck_appointment_resources_time_range check (end_time > start_time and end_time - start_time <= interval '24 hours'),
+	constraint fk_appointment_resources_appointment foreign key (appointment_id) references appointments (id),
+	constraint fk_appointment_resources_resource foreign key (resource_id) references resources (id),
+	-- Reservations of cancelled appointments are deleted, so all rows are active.
+	constraint ex_appointment_resources_resource_overlap exclude using gist (
+		resource_id with =,
+		tstzrange(start_time, end_time, '[)') with &&
+	)
+);
+
+-- AppointmentResourceFilterBuilder
+--   resourceIds + time range -> ix_appointment_resources_resource_id_start_time
+--   appointmentId            -> ix_appointment_resources_appointment_id
+create index if not exists ix_appointment_resources_resource_id_start_time
+	on appointment_resources (resource_id, start_time);
+
+create index if not exists ix_appointment_resources_appointment_id
+	on appointment_resources (appointment_id);
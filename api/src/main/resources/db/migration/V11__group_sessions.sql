@@ -0,0 +1,23 @@
+-- Group sessions: appointment types with a capacity, seat counters and attendees.
+
+-- Keep in sync with AppointmentType.MAX_CAPACITY. A missing capacity means one.
+alter table appointment_types add column capacity integer;
+alter table appointment_types add constraint ck_appointment_types_capacity check (capacity between 1 and 1000);
+
+-- Seats left of group sessions, null for other appointments. Taken and returned with
+-- conditional updates, see AppointmentSeatRepositoryImpl.
+alter table appointments add column seats_left integer;
+alter table appointments add constraint ck_appointments_seats_left check (seats_left >= 0);
+
+create table appointment_attendees (
+	id bigint generated by default as identity,
+	appointment_id bigint not null,
+	customer_id bigint not null,
+	created_at timestamp(6) with time zone,
+	modified_at timestamp(6) with time zone,
+	primary key (id),
+	constraint fk_appointment_attendees_appointment foreign key (appointment_id) references appointments (id),
+	constraint fk_appointment_attendees_customer foreign key (customer_id) references customers (id),
+	-- AppointmentAttendeeFilterBuilder: appointmentId (+ customerId) is answered by this index.
+	constraint uq_appointment_attendees_appointment_customer unique (appointment_id, customer_id)
+);
@@ -0,0 +1,36 @@
+-- Waitlist of customers waiting for a free slot of an appointment type within a time window.
+
+create table waitlist_entries (
+	id bigint generated by default as identity,
+	firm_id bigint not null,
+	appointment_type_id bigint not null,
+	customer_id bigint not null,
+	employee_id bigint,
+	window_start timestamp(6) with time zone not null,
+	window_end timestamp(6) with time zone not null,
+	-- Keep in sync with WaitlistEntry.MAX_PRIORITY.
+	priority integer not null default 0 check (priority between 0 and 100),
+	status varchar(32) not null check (status in ('WAITING', 'OFFERED', 'BOOKED')),
+	hold_id varchar(36),
+	offer_employee_id bigint,
+	offer_start_time timestamp(6) with time zone,
+	offer_expires_at timestamp(6) with time zone,
+	created_at timestamp(6) with time zone,
+	modified_at timestamp(6) with time zone,
+	primary key (id),
+	constraint ck_waitlist_entries_window check (window_end > window_start),
+	constraint fk_waitlist_entries_firm foreign key (firm_id) references firms (id),
+	constraint fk_waitlist_entries_appointment_type foreign key (appointment_type_id) references appointment_types (id),
+	constraint fk_waitlist_entries_customer foreign key (customer_id) references customers (id),
+	constraint fk_waitlist_entries_employee foreign key (employee_id) references users (id),
+	constraint fk_waitlist_entries_offer_employee foreign key (offer_employee_id) references users (id)
+);
+
+-- WaitlistEntryFilterBuilder
+--   firmId + status + windowEndAfter -> ix_waitlist_entries_firm_id_status_window_end (loading a firm's queue)
+--   holdId                           -> ix_waitlist_entries_hold_id (confirming an offered hold)
+create index if not exists ix_waitlist_entries_firm_id_status_window_end
+	on waitlist_entries (firm_id, status, window_end);
+
+create index if not exists ix_waitlist_entries_hold_id
+	on waitlist_entries (hold_id) where hold_id is not null;
@@ -0,0 +1,19 @@
+-- Qualifications of employees to perform appointment types.
+
+create table employee_qualifications (
+	id bigint generated by default as identity,
+	firm_id bigint not null,
+	employee_id bigint not null,
+	appointment_type_id bigint not null,
+	created_at timestamp(6) with time zone,
+	modified_at timestamp(6) with time zone,
+	primary key (id),
+	constraint fk_employee_qualifications_firm foreign key (firm_id) references firms (id),
+	constraint fk_employee_qualifications_employee foreign key (employee_id) references users (id),
+	constraint fk_employee_qualifications_appointment_type foreign key (appointment_type_id) references appointment_types (id),
+	constraint uk_employee_qualifications_employee_type unique (employee_id, appointment_type_id)
+);
+
+-- EmployeeQualificationFilterBuilder: firmId, compiled into the qualification matrix of the firm
+create index if not exists ix_employee_qualifications_firm_id
+	on employee_qualifications (firm_id);
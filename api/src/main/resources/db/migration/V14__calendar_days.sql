@@ -0,0 +1,14 @@
+-- Calendar projection: the appointments of an employee starting on a day, derived from the
+-- appointments table and read by calendar views with a range scan of the primary key.
+-- Rows can be rebuilt from scratch at any time, so they carry no foreign keys.
+
+create table calendar_days (
+	firm_id bigint not null,
+	calendar_day date not null,
+	employee_id bigint not null,
+	first_name varchar(255),
+	last_name varchar(255),
+	entries bytea not null,
+	projected_at timestamp(6) with time zone not null,
+	primary key (firm_id, calendar_day, employee_id)
+);
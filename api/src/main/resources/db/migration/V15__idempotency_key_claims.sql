@@ -0,0 +1,4 @@
+-- Keys are claimed with a pending row (no response yet) before the request runs, so a retry
+-- reaching another instance while the original request is in progress is rejected.
+
+alter table idempotency_keys alter column response_status drop not null;
@@ -0,0 +1,8 @@
+-- Appointment types stay restricted to qualified employees once their last qualification is
+-- revoked, so a type nobody is qualified for is not open to every employee again.
+
+alter table appointment_types add column qualification_required boolean not null default false;
+
+update appointment_types
+set qualification_required = true
+where id in (select appointment_type_id from employee_qualifications);
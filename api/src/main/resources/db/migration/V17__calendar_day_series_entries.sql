@@ -0,0 +1,5 @@
+-- Calendar day entries also hold the occurrences of recurring series, which adds the series ID
+-- and the original start time to every stored entry. Rows in the previous format cannot be
+-- read anymore, so they are dropped; the projection is rebuilt on startup when the table is empty.
+
+delete from calendar_days;
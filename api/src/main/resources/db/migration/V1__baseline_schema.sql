@@ -0,0 +1,49 @@
+-- Baseline schema, equivalent to what hibernate.ddl-auto=update produced.
+-- Existing databases are baselined at this version and skip this script.
+
+create table firms (
+	id bigint generated by default as identity,
+	name varchar(255),
+	primary key (id)
+);
+
+create table users (
+	id bigint generated by default as identity,
+	first_name varchar(255),
+	last_name varchar(255),
+	identification_number varchar(255),
+	address varchar(255),
+	phone varchar(255),
+	email varchar(255),
+	username varchar(255),
+	password varchar(255),
+	role smallint check (role between 0 and 2),
+	is_locked boolean,
+	is_enabled boolean,
+	firm_id bigint,
+	primary key (id),
+	constraint fk_users_firm foreign key (firm_id) references firms (id)
+);
+
+create table appointment_types (
+	id bigint generated by default as identity,
+	name varchar(255),
+	duration_minutes integer,
+	price float(53),
+	color_code varchar(255),
+	currency varchar(255) check (currency in ('EUR', 'CHF', 'GBP', 'BAM', 'USD')),
+	firm_id bigint,
+	primary key (id),
+	constraint fk_appointment_types_firm foreign key (firm_id) references firms (id)
+);
+
+create sequence tokens_seq start with 1 increment by 50;
+
+create table tokens (
+	id integer not null,
+	jwt_string varchar(255),
+	user_id bigint,
+	primary key (id),
+	constraint uk_tokens_jwt_string unique (jwt_string),
+	constraint fk_tokens_user foreign key (user_id) references users (id)
+);
@@ -0,0 +1,19 @@
+-- Indexes for the access paths used by the filter builders.
+--
+-- UserFilterBuilder
+--   id                  -> primary key
+--   username            -> ix_users_username (JWT filter, login, current user lookup)
+--   names, email, etc.  -> substring (LIKE '%...%') search, not indexable by btree
+-- TokenFilterBuilder
+--   jwtString           -> uk_tokens_jwt_string (unique constraint index)
+--   user                -> ix_tokens_user_id (token lookup on login)
+-- AppointmentTypeFilterBuilder
+--   firmId (+ name)     -> ix_appointment_types_firm_id_name (per-firm list)
+
+create index if not exists ix_users_username on users (username);
+
+create index if not exists ix_users_firm_id on users (firm_id);
+
+create index if not exists ix_tokens_user_id on tokens (user_id);
+
+create index if not exists ix_appointment_types_firm_id_name on appointment_types (firm_id, name);
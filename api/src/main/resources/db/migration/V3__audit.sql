@@ -0,0 +1,27 @@
+-- Creation and modification timestamps for all entities extending BaseEntity.
+-- Rows that existed before this migration keep null timestamps.
+
+alter table firms add column if not exists created_at timestamp(6) with time zone;
+alter table firms add column if not exists modified_at timestamp(6) with time zone;
+
+alter table users add column if not exists created_at timestamp(6) with time zone;
+alter table users add column if not exists modified_at timestamp(6) with time zone;
+
+alter table appointment_types add column if not exists created_at timestamp(6) with time zone;
+alter table appointment_types add column if not exists modified_at timestamp(6) with time zone;
+
+-- Append-only audit log, written in batches by the background audit writer.
+
+create table audit_log (
+	id bigint generated by default as identity,
+	occurred_at timestamp(6) with time zone not null,
+	username varchar(255),
+	action varchar(32) not null,
+	entity_type varchar(64),
+	entity_id bigint,
+	primary key (id)
+);
+
+create index if not exists ix_audit_log_occurred_at on audit_log (occurred_at);
+
+create index if not exists ix_audit_log_entity on audit_log (entity_type, entity_id);
@@ -0,0 +1,47 @@
+-- Customers and appointments.
+
+create table customers (
+	id bigint generated by default as identity,
+	first_name varchar(255),
+	last_name varchar(255),
+	identification_number varchar(255),
+	address varchar(255),
+	phone varchar(255),
+	email varchar(255),
+	firm_id bigint,
+	created_at timestamp(6) with time zone,
+	modified_at timestamp(6) with time zone,
+	primary key (id),
+	constraint fk_customers_firm foreign key (firm_id) references firms (id)
+);
+
+create index if not exists ix_customers_firm_id on customers (firm_id);
+
+create table appointments (
+	id bigint generated by default as identity,
+	start_time timestamp(6) with time zone not null,
+	end_time timestamp(6) with time zone not null,
+	status varchar(32) not null check (status in ('BOOKED', 'CANCELLED')),
+	firm_id bigint not null,
+	employee_id bigint not null,
+	appointment_type_id bigint not null,
+	customer_id bigint,
+	created_at timestamp(6) with time zone,
+	modified_at timestamp(6) with time zone,
+	primary key (id),
+	-- Keep in sync with Appointment.MAX_DURATION, range queries rely on it.
+	constraint ck_appointments_time_range check (end_time > start_time and end_time - start_time <= interval '24 hours'),
+	constraint fk_appointments_firm foreign key (firm_id) references firms (id),
+	constraint fk_appointments_employee foreign key (employee_id) references users (id),
+	constraint fk_appointments_appointment_type foreign key (appointment_type_id) references appointment_types (id),
+	constraint fk_appointments_customer foreign key (customer_id) references customers (id)
+);
+
+-- AppointmentFilterBuilder
+--   firmId + employeeIds + time range -> ix_appointments_firm_id_employee_id_start_time
+--     (start_time is bounded on both sides, see Appointment.MAX_DURATION)
+--   customer history                  -> ix_appointments_customer_id
+create index if not exists ix_appointments_firm_id_employee_id_start_time
+	on appointments (firm_id, employee_id, start_time);
+
+create index if not exists ix_appointments_customer_id on appointments (customer_id);
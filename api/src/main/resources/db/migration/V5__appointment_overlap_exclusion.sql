@@ -0,0 +1,13 @@
+-- Prevents overlapping booked appointments of the same employee.
+-- The exclusion constraint is checked by the database on every insert and update, so
+-- concurrent bookings cannot both succeed, regardless of isolation level or locking.
+-- Violations are reported with SQLSTATE 23P01 (exclusion_violation).
+
+create extension if not exists btree_gist;
+
+alter table appointments
+	add constraint ex_appointments_employee_overlap
+	exclude using gist (
+		employee_id with =,
+		tstzrange(start_time, end_time, '[)') with &&
+	) where (status = 'BOOKED');
@@ -0,0 +1,41 @@
+-- Recurring appointment series, stored as a recurrence rule plus overrides of single occurrences.
+
+create table appointment_series (
+	id bigint generated by default as identity,
+	start_time timestamp(6) with time zone not null,
+	until_time timestamp(6) with time zone,
+	time_zone varchar(64) not null,
+	duration_minutes integer not null,
+	recurrence_rule varchar(255) not null,
+	status varchar(32) not null check (status in ('BOOKED', 'CANCELLED')),
+	revision integer not null,
+	firm_id bigint not null,
+	employee_id bigint not null,
+	appointment_type_id bigint not null,
+	customer_id bigint,
+	created_at timestamp(6) with time zone,
+	modified_at timestamp(6) with time zone,
+	primary key (id),
+	-- Keep in sync with Appointment.MAX_DURATION.
+	constraint ck_appointment_series_duration check (duration_minutes > 0 and duration_minutes <= 1440),
+	constraint fk_appointment_series_firm foreign key (firm_id) references firms (id),
+	constraint fk_appointment_series_employee foreign key (employee_id) references users (id),
+	constraint fk_appointment_series_appointment_type foreign key (appointment_type_id) references appointment_types (id),
+	constraint fk_appointment_series_customer foreign key (customer_id) references customers (id)
+);
+
+-- AppointmentSeriesFilterBuilder: firmId + employeeIds + series active in a time range
+create index if not exists ix_appointment_series_firm_id_employee_id
+	on appointment_series (firm_id, employee_id);
+
+create table appointment_series_overrides (
+	id bigint generated by default as identity,
+	series_id bigint not null,
+	original_start_time timestamp(6) with time zone not null,
+	start_time timestamp(6) with time zone,
+	created_at timestamp(6) with time zone,
+	modified_at timestamp(6) with time zone,
+	primary key (id),
+	constraint fk_appointment_series_overrides_series foreign key (series_id) references appointment_series (id),
+	constraint uk_appointment_series_overrides_occurrence unique (series_id, original_start_time)
+);
@@ -0,0 +1,18 @@
+-- Responses of create requests made with an Idempotency-Key header, replayed on retries.
+
+create table idempotency_keys (
+	id bigint generated by default as identity,
+	username varchar(255) not null,
+	idempotency_key varchar(255) not null,
+	request_hash varchar(64) not null,
+	response_status integer not null,
+	content_type varchar(255),
+	response_body bytea,
+	created_at timestamp(6) with time zone not null,
+	expires_at timestamp(6) with time zone not null,
+	primary key (id),
+	constraint uk_idempotency_keys_username_idempotency_key unique (username, idempotency_key)
+);
+
+-- IdempotencyRecordFilterBuilder: expired keys are purged periodically
+create index if not exists ix_idempotency_keys_expires_at on idempotency_keys (expires_at);
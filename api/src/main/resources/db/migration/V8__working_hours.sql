@@ -0,0 +1,42 @@
+-- Working hours of employees: a weekly bitmap per employee, date-specific overrides and firm closures.
+
+create table working_hours_templates (
+	id bigint generated by default as identity,
+	employee_id bigint not null,
+	slots bytea not null,
+	created_at timestamp(6) with time zone,
+	modified_at timestamp(6) with time zone,
+	primary key (id),
+	constraint fk_working_hours_templates_employee foreign key (employee_id) references users (id),
+	constraint uk_working_hours_templates_employee unique (employee_id)
+);
+
+create table working_hours_overrides (
+	id bigint generated by default as identity,
+	employee_id bigint not null,
+	work_date date not null,
+	slots bytea not null,
+	created_at timestamp(6) with time zone,
+	modified_at timestamp(6) with time zone,
+	primary key (id),
+	constraint fk_working_hours_overrides_employee foreign key (employee_id) references users (id),
+	-- WorkingHoursOverrideFilterBuilder: employeeIds + date range
+	constraint uk_working_hours_overrides_employee_work_date unique (employee_id, work_date)
+);
+
+create table firm_closures (
+	id bigint generated by default as identity,
+	firm_id bigint not null,
+	start_date date not null,
+	end_date date not null,
+	description varchar(255),
+	created_at timestamp(6) with time zone,
+	modified_at timestamp(6) with time zone,
+	primary key (id),
+	constraint fk_firm_closures_firm foreign key (firm_id) references firms (id),
+	constraint ck_firm_closures_dates check (end_date >= start_date)
+);
+
+-- FirmClosureFilterBuilder: firmId + closures ending on or after a date
+create index if not exists ix_firm_closures_firm_id_end_date
+	on firm_closures (firm_id, end_date);
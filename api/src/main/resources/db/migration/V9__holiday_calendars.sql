@@ -0,0 +1,7 @@
+-- Firm closures imported from holiday calendars are tagged with the name of the calendar.
+
+alter table firm_closures add column calendar varchar(64);
+
+-- FirmClosureFilterBuilder: firmId + calendar when re-importing or deleting a calendar
+create index if not exists ix_firm_closures_firm_id_calendar
+	on firm_closures (firm_id, calendar);
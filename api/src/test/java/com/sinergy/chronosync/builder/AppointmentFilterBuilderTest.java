@@ -0,0 +1,107 @@
+package com.sinergy.chronosync.builder;
+
+import com.sinergy.chronosync.model.appointment.Appointment;
+import jakarta.persistence.criteria.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link AppointmentFilterBuilder}.
+ *
+ * <p>Verifies that the firm, employee and time range criteria are converted into the
+ * predicates of a {@link Specification}, including the lower bound on the start time
+ * derived from {@link Appointment#MAX_DURATION}.</p>
+ */
+class AppointmentFilterBuilderTest {
+
+	@Mock
+	private Root<Appointment> root;
+
+	@Mock
+	private CriteriaQuery<?> query;
+
+	@Mock
+	private CriteriaBuilder criteriaBuilder;
+
+	@Mock
+	private Predicate predicate;
+
+	@Mock
+	private Path<Object> firmPath;
+
+	@Mock
+	private Path<Object> employeePath;
+
+	@Mock
+	private Path<Long> idPath;
+
+	@Mock
+	private Path<Instant> startTimePath;
+
+	@Mock
+	private Path<Instant> endTimePath;
+
+	private AutoCloseable mocks;
+
+	@BeforeEach
+	void setUp() {
+		mocks = MockitoAnnotations.openMocks(this);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		mocks.close();
+	}
+
+	/**
+	 * Verifies that the {@link AppointmentFilterBuilder#toSpecification()} method builds
+	 * the overlap predicates for the time range and restricts firm and employees.
+	 */
+	@Test
+	void toSpecificationTest() {
+		Instant from = Instant.parse("2024-10-07T00:00:00Z");
+		Instant to = Instant.parse("2024-10-14T00:00:00Z");
+		List<Long> employeeIds = List.of(2L, 3L);
+
+		AppointmentFilterBuilder filterBuilder = AppointmentFilterBuilder.builder()
+			.firmId(1L)
+			.employeeIds(employeeIds)
+			.from(from)
+			.to(to)
+			.build();
+
+		when(root.get("firm")).thenReturn(firmPath);
+		when(root.get("employee")).thenReturn(employeePath);
+		when(firmPath.<Long>get("id")).thenReturn(idPath);
+		when(employeePath.<Long>get("id")).thenReturn(idPath);
+		when(root.<Instant>get("startTime")).thenReturn(startTimePath);
+		when(root.<Instant>get("endTime")).thenReturn(endTimePath);
+		when(idPath.in(employeeIds)).thenReturn(predicate);
+		when(criteriaBuilder.and(any(Predicate[].class))).thenReturn(predicate);
+
+		Specification<Appointment> specification = filterBuilder.toSpecification();
+
+		assertNotNull(specification);
+
+		specification.toPredicate(root, query, criteriaBuilder);
+
+		verify(criteriaBuilder).equal(idPath, 1L);
+		verify(idPath).in(employeeIds);
+		verify(criteriaBuilder).greaterThan(endTimePath, from);
+		verify(criteriaBuilder).greaterThanOrEqualTo(startTimePath, from.minus(Appointment.MAX_DURATION));
+		verify(criteriaBuilder).lessThan(startTimePath, to);
+		verify(criteriaBuilder).and(any(Predicate[].class));
+	}
+}
@@ -133,7 +133,7 @@ public class UserFilterBuilderTest {
 		when(criteriaBuilder.like(addressPath, "%" + address + "%")).thenReturn(predicate);
 		when(criteriaBuilder.like(phonePath, "%" + phone + "%")).thenReturn(predicate);
 		when(criteriaBuilder.like(emailPath, "%" + email + "%")).thenReturn(predicate);
-		when(criteriaBuilder.like(usernamePath, "%" + username + "%")).thenReturn(predicate);
+		when(criteriaBuilder.equal(usernamePath, username)).thenReturn(predicate);
 		when(criteriaBuilder.equal(rolePath, role.name())).thenReturn(predicate);
 
 		when(criteriaBuilder.and(any(Predicate[].class))).thenReturn(predicate);
@@ -150,7 +150,7 @@ public class UserFilterBuilderTest {
 		verify(criteriaBuilder).like(addressPath, "%" + address + "%");
 		verify(criteriaBuilder).like(phonePath, "%" + phone + "%");
 		verify(criteriaBuilder).like(emailPath, "%" + email + "%");
-		verify(criteriaBuilder).like(usernamePath, "%" + username + "%");
+		verify(criteriaBuilder).equal(usernamePath, username);
 		verify(criteriaBuilder).equal(rolePath, role.name());
 		verify(criteriaBuilder).and(any(Predicate[].class));
 	}
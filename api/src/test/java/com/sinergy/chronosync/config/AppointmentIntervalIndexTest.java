@@ -0,0 +1,137 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentIntervalRepository.BookedIntervalHandler;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link AppointmentIntervalIndex}.
+ */
+class AppointmentIntervalIndexTest {
+
+	private static final Instant START = Instant.parse("2099-01-05T09:00:00Z");
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+
+	@InjectMocks
+	private AppointmentIntervalIndex intervalIndex;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		when(appointmentRepository.exists(Mockito.<Specification<Appointment>>any())).thenReturn(true);
+	}
+
+	/**
+	 * Tests that booked appointments are loaded on warm-up, with the firm of each employee.
+	 */
+	@Test
+	void warmUpTest() {
+		doAnswer(invocation -> {
+			BookedIntervalHandler handler = invocation.getArgument(1);
+			handler.handle(10L, 1L, 2L, START, START.plusSeconds(1800));
+			return null;
+		}).when(appointmentRepository).forEachBookedInterval(any(), any());
+
+		assertThat(intervalIndex.isReady()).isFalse();
+		intervalIndex.warmUp();
+
+		assertThat(intervalIndex.isReady()).isTrue();
+		assertThat(intervalIndex.hasConflict(2L, START.plusSeconds(1799), START.plusSeconds(3600))).isTrue();
+		assertThat(intervalIndex.hasConflict(2L, START.plusSeconds(1800), START.plusSeconds(3600))).isFalse();
+		assertThat(intervalIndex.belongsToOtherFirm(2L, 1L)).isFalse();
+		assertThat(intervalIndex.belongsToOtherFirm(2L, 9L)).isTrue();
+	}
+
+	/**
+	 * Tests that appointments are rounded outwards to whole minutes, and that registered
+	 * appointments are indexed and removed again outside a transaction.
+	 */
+	@Test
+	void registerAndUnregisterTest() {
+		Firm firm = new Firm();
+		firm.setId(1L);
+		User employee = new User();
+		employee.setId(2L);
+		Appointment appointment = Appointment.builder()
+			.firm(firm)
+			.employee(employee)
+			.startTime(START.plusSeconds(30))
+			.endTime(START.plusSeconds(1830))
+			.build();
+		appointment.setId(10L);
+
+		intervalIndex.register(appointment);
+
+		assertThat(intervalIndex.hasConflict(2L, START.minusSeconds(60), START.plusSeconds(1))).isTrue();
+		assertThat(intervalIndex.hasConflict(2L, START.plusSeconds(1859), START.plusSeconds(3600))).isTrue();
+		assertThat(intervalIndex.hasConflict(2L, START.plusSeconds(1860), START.plusSeconds(3600))).isFalse();
+
+		intervalIndex.unregister(10L);
+
+		assertThat(intervalIndex.hasConflict(2L, START, START.plusSeconds(1800))).isFalse();
+	}
+
+	/**
+	 * Tests that a conflict found in the index is confirmed with a query, so a booking cancelled
+	 * by another instance does not block its slot, and that a free employee needs no query.
+	 */
+	@Test
+	void staleConflictTest() {
+		doAnswer(invocation -> {
+			BookedIntervalHandler handler = invocation.getArgument(1);
+			handler.handle(10L, 1L, 2L, START, START.plusSeconds(1800));
+			return null;
+		}).when(appointmentRepository).forEachBookedInterval(any(), any());
+		intervalIndex.warmUp();
+		when(appointmentRepository.exists(Mockito.<Specification<Appointment>>any())).thenReturn(false);
+
+		assertThat(intervalIndex.hasConflict(2L, START, START.plusSeconds(1800))).isFalse();
+		assertThat(intervalIndex.hasConflict(2L, START.plusSeconds(1800), START.plusSeconds(3600))).isFalse();
+
+		verify(appointmentRepository, times(1)).exists(Mockito.<Specification<Appointment>>any());
+	}
+
+	/**
+	 * Tests that reloading replaces the indexed appointments with the booked ones, picking up
+	 * the changes made by other instances.
+	 */
+	@Test
+	void reloadTest() {
+		doAnswer(invocation -> {
+			BookedIntervalHandler handler = invocation.getArgument(1);
+			handler.handle(10L, 1L, 2L, START, START.plusSeconds(1800));
+			return null;
+		}).when(appointmentRepository).forEachBookedInterval(any(), any());
+		intervalIndex.warmUp();
+
+		doAnswer(invocation -> {
+			BookedIntervalHandler handler = invocation.getArgument(1);
+			handler.handle(11L, 1L, 3L, START, START.plusSeconds(1800));
+			return null;
+		}).when(appointmentRepository).forEachBookedInterval(any(), any());
+		intervalIndex.reload();
+
+		assertThat(intervalIndex.hasConflict(3L, START, START.plusSeconds(1800))).isTrue();
+		assertThat(intervalIndex.hasConflict(2L, START, START.plusSeconds(1800))).isFalse();
+	}
+}
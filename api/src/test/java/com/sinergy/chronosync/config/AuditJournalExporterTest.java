@@ -0,0 +1,117 @@
+package com.sinergy.chronosync.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.audit.AuditJournalExportTarget;
+import com.sinergy.chronosync.model.audit.AuditLog;
+import com.sinergy.chronosync.repository.AuditLogRepository;
+import com.sinergy.chronosync.util.AuditJournal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AuditJournalExporter}.
+ */
+class AuditJournalExporterTest {
+
+	@Mock
+	private AuditLogRepository auditLogRepository;
+
+	@TempDir
+	private Path directory;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests that journal entries are appended to a daily NDJSON file and that a new exporter
+	 * continues from the stored checkpoint.
+	 */
+	@Test
+	void ndjsonExportResumesFromCheckpointTest() throws IOException {
+		Path exportDirectory = directory.resolve("export");
+		Path ndjsonFile = exportDirectory.resolve("audit-2024-10-01.ndjson");
+
+		try (AuditJournal journal = new AuditJournal(directory.resolve("journal"), 64 * 1024)) {
+			journal.append(entry(AuditAction.LOGIN, Instant.parse("2024-10-01T08:00:00Z")));
+			exporter(journal, AuditJournalExportTarget.NDJSON, exportDirectory).export();
+
+			assertThat(Files.readAllLines(ndjsonFile)).containsExactly(
+				"{\"occurredAt\":\"2024-10-01T08:00:00Z\",\"username\":\"jdoe\",\"action\":\"LOGIN\","
+					+ "\"entityType\":\"User\",\"entityId\":1}"
+			);
+
+			journal.append(entry(AuditAction.LOGOUT, Instant.parse("2024-10-01T16:00:00Z")));
+			exporter(journal, AuditJournalExportTarget.NDJSON, exportDirectory).export();
+
+			assertThat(Files.readAllLines(ndjsonFile)).hasSize(2);
+			assertThat(Files.readAllLines(ndjsonFile).get(1)).contains("\"action\":\"LOGOUT\"");
+		}
+	}
+
+	/**
+	 * Tests that a failed database export is retried on the next run and that segments are deleted
+	 * once they are sealed and exported.
+	 */
+	@Test
+	void databaseExportRetriedAndSegmentsDeletedTest() {
+		List<AuditLog> inserted = new ArrayList<>();
+		when(auditLogRepository.insertBatch(anyList()))
+			.thenThrow(new DataAccessResourceFailureException("db down"))
+			.thenAnswer(invocation -> {
+				List<AuditLog> batch = invocation.getArgument(0);
+				inserted.addAll(batch);
+				return batch.size();
+			});
+
+		Path journalDirectory = directory.resolve("journal");
+		try (AuditJournal journal = new AuditJournal(journalDirectory, 2 * AuditJournal.RECORD_SIZE, Duration.ZERO)) {
+			long firstSegment = journal.currentSegmentIndex();
+			for (int i = 0; i < 5; i++) {
+				journal.append(entry(AuditAction.UPDATE, Instant.now()));
+			}
+
+			AuditJournalExporter exporter = exporter(journal, AuditJournalExportTarget.DATABASE, null);
+			exporter.export();
+			assertThat(inserted).isEmpty();
+
+			exporter.export();
+			assertThat(inserted).hasSize(5);
+			assertThat(AuditJournal.segmentIndexes(journalDirectory)).containsExactly(firstSegment + 2);
+		}
+	}
+
+	private AuditJournalExporter exporter(AuditJournal journal, AuditJournalExportTarget target, Path exportDirectory) {
+		return new AuditJournalExporter(
+			journal, target, auditLogRepository, new ObjectMapper(), exportDirectory, 100, true
+		);
+	}
+
+	private static AuditLog entry(AuditAction action, Instant occurredAt) {
+		return AuditLog.builder()
+			.action(action)
+			.username("jdoe")
+			.entityType("User")
+			.entityId(1L)
+			.occurredAt(occurredAt)
+			.build();
+	}
+}
@@ -0,0 +1,130 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link BookingLockCoordinator}.
+ */
+class BookingLockCoordinatorTest {
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+
+	private BookingLockCoordinator lockCoordinator;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		lockCoordinator = new BookingLockCoordinator(appointmentRepository, 1024, true, Duration.ofMillis(50));
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			completeTransaction();
+		}
+	}
+
+	/**
+	 * Tests that an employee stays locked until the transaction completes, and that advisory
+	 * locks are taken once per employee in ascending key order.
+	 */
+	@Test
+	void lockTest() {
+		TransactionSynchronizationManager.initSynchronization();
+		lockCoordinator.lock(BookingLockCoordinator.Scope.EMPLOYEE, List.of(7L, 3L, 7L));
+
+		ArgumentCaptor<long[]> keys = ArgumentCaptor.forClass(long[].class);
+		verify(appointmentRepository, times(1)).lockTransactionScoped(keys.capture(), eq(Duration.ofMillis(50)));
+		assertThat(keys.getValue()).hasSize(2).isSorted();
+		assertThat(keys.getValue()[0] & 0xFFFFFFFFL).isEqualTo(3L);
+		assertThat(lockCoordinator.isLocked(BookingLockCoordinator.Scope.EMPLOYEE, 7L)).isTrue();
+
+		completeTransaction();
+		assertThat(lockCoordinator.isLocked(BookingLockCoordinator.Scope.EMPLOYEE, 7L)).isFalse();
+	}
+
+	/**
+	 * Tests that another transaction cannot lock the same employee and gives up after the timeout.
+	 */
+	@Test
+	void lockTimeoutTest() throws Exception {
+		TransactionSynchronizationManager.initSynchronization();
+		lockCoordinator.lock(BookingLockCoordinator.Scope.EMPLOYEE, List.of(3L));
+
+		Throwable failure = CompletableFuture.supplyAsync(() -> {
+			TransactionSynchronizationManager.initSynchronization();
+			try {
+				lockCoordinator.lock(BookingLockCoordinator.Scope.EMPLOYEE, List.of(3L));
+				return null;
+			} catch (RuntimeException e) {
+				return e;
+			} finally {
+				completeTransaction();
+			}
+		}).get();
+
+		assertThat(failure).isInstanceOf(BookingConflictException.class);
+		verify(appointmentRepository, times(1)).lockTransactionScoped(any(), any());
+	}
+
+	/**
+	 * Tests that an advisory lock not acquired within the timeout is reported as a conflict,
+	 * and that the local lock is released with the transaction.
+	 */
+	@Test
+	void advisoryLockTimeoutTest() {
+		doThrow(new CannotAcquireLockException("lock timeout", new SQLException("canceling statement due to lock timeout", "55P03")))
+			.when(appointmentRepository).lockTransactionScoped(any(), any());
+		TransactionSynchronizationManager.initSynchronization();
+
+		assertThrows(
+			BookingConflictException.class,
+			() -> lockCoordinator.lock(BookingLockCoordinator.Scope.EMPLOYEE, List.of(3L))
+		);
+
+		completeTransaction();
+		assertThat(lockCoordinator.isLocked(BookingLockCoordinator.Scope.EMPLOYEE, 3L)).isFalse();
+	}
+
+	/**
+	 * Tests that advisory locks are skipped when disabled and that locks require a transaction.
+	 */
+	@Test
+	void lockWithoutAdvisoryLocksTest() {
+		BookingLockCoordinator localOnly = new BookingLockCoordinator(appointmentRepository, 16, false, Duration.ofMillis(50));
+
+		assertThrows(IllegalStateException.class, () -> localOnly.lock(BookingLockCoordinator.Scope.EMPLOYEE, List.of(3L)));
+
+		TransactionSynchronizationManager.initSynchronization();
+		localOnly.lock(BookingLockCoordinator.Scope.EMPLOYEE, List.of(3L));
+
+		verify(appointmentRepository, never()).lockTransactionScoped(any(), any());
+	}
+
+	private static void completeTransaction() {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+	}
+}
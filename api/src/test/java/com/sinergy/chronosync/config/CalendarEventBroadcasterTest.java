@@ -0,0 +1,198 @@
+package com.sinergy.chronosync.config;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.sinergy.chronosync.dto.response.CalendarEventDTO;
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CalendarEventBroadcaster}.
+ */
+class CalendarEventBroadcasterTest {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private CalendarEventBroadcaster broadcaster;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		broadcaster = new CalendarEventBroadcaster(
+			JsonMapper.builder().findAndAddModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(),
+			meterRegistry, 2, Duration.ofMinutes(30)
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		broadcaster.shutdown();
+	}
+
+	/**
+	 * Tests that events reach the subscribers of their firm only, serialized as JSON.
+	 */
+	@Test
+	void publishTest() throws Exception {
+		RecordingEmitter subscriber = new RecordingEmitter();
+		RecordingEmitter otherFirmSubscriber = new RecordingEmitter();
+		broadcaster.register(1L, subscriber);
+		broadcaster.register(2L, otherFirmSubscriber);
+
+		broadcaster.publish(1L, "appointment", Map.of("appointmentId", 10));
+
+		assertThat(subscriber.next()).isEqualTo(":subscribed\n\n");
+		assertThat(subscriber.next()).isEqualTo("event:appointment\ndata:{\"appointmentId\":10}\n\n");
+		assertThat(otherFirmSubscriber.next()).isEqualTo(":subscribed\n\n");
+		assertThat(otherFirmSubscriber.events).isEmpty();
+		assertThat(broadcaster.size()).isEqualTo(2);
+		assertThat(meterRegistry.get("calendar.events.subscribers").gauge().value()).isEqualTo(2);
+	}
+
+	/**
+	 * Tests that a change of an occurrence of a series reaches the subscribers of its firm as an
+	 * appointment event identifying the series and the occurrence.
+	 */
+	@Test
+	void publishSeriesChangeTest() throws Exception {
+		RecordingEmitter subscriber = new RecordingEmitter();
+		broadcaster.register(1L, subscriber);
+		Instant startTime = Instant.parse("2024-10-07T09:00:00Z");
+
+		broadcaster.publish(1L, "appointment", CalendarEventDTO.fromEvent(AppointmentChangedEvent.builder()
+			.firmId(1L)
+			.change(AppointmentChangedEvent.Change.MOVED)
+			.employeeId(2L)
+			.startTime(startTime.plusSeconds(3600))
+			.endTime(startTime.plusSeconds(5400))
+			.previousEmployeeId(2L)
+			.previousStartTime(startTime)
+			.seriesId(20L)
+			.originalStartTime(startTime)
+			.build()));
+
+		assertThat(subscriber.next()).isEqualTo(":subscribed\n\n");
+		assertThat(subscriber.next())
+			.startsWith("event:appointment\ndata:{\"change\":\"MOVED\",\"appointmentId\":null,")
+			.contains("\"startTime\":\"2024-10-07T10:00:00Z\"")
+			.endsWith("\"seriesId\":20,\"originalStartTime\":\"2024-10-07T09:00:00Z\"}\n\n");
+	}
+
+	/**
+	 * Tests that a subscriber whose buffer fills up is evicted without holding up the others.
+	 */
+	@Test
+	void slowSubscriberTest() throws Exception {
+		RecordingEmitter slowSubscriber = new RecordingEmitter();
+		slowSubscriber.stuck = new CountDownLatch(1);
+		RecordingEmitter subscriber = new RecordingEmitter();
+		broadcaster.register(1L, slowSubscriber);
+		broadcaster.register(1L, subscriber);
+		assertThat(slowSubscriber.next()).isEqualTo(":subscribed\n\n");
+		assertThat(subscriber.next()).isEqualTo(":subscribed\n\n");
+
+		for (int i = 0; i < 3; i++) {
+			broadcaster.publish(1L, "appointment", Map.of("appointmentId", i));
+			assertThat(subscriber.next()).isEqualTo("event:appointment\ndata:{\"appointmentId\":" + i + "}\n\n");
+		}
+
+		assertThat(slowSubscriber.completed.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(subscriber.completed.getCount()).isEqualTo(1);
+		assertThat(broadcaster.size()).isEqualTo(1);
+		assertThat(meterRegistry.counter("calendar.events.evicted").count()).isEqualTo(1);
+		slowSubscriber.stuck.countDown();
+	}
+
+	/**
+	 * Tests that subscribers are removed once their stream completes, and that failed writes
+	 * remove them as well.
+	 */
+	@Test
+	void removeTest() throws Exception {
+		RecordingEmitter completed = new RecordingEmitter();
+		RecordingEmitter broken = new RecordingEmitter();
+		broken.broken = true;
+		broadcaster.register(1L, completed);
+		broadcaster.register(1L, broken);
+		assertThat(completed.next()).isEqualTo(":subscribed\n\n");
+		awaitSize(1);
+
+		completed.onCompletion.run();
+		broadcaster.heartbeat();
+
+		assertThat(broadcaster.size()).isZero();
+		assertThat(completed.events.poll(100, TimeUnit.MILLISECONDS)).isNull();
+	}
+
+	/**
+	 * Emitter recording the events written to it. Unlike {@link SseEmitter#send(Set)}, its
+	 * writes hold no monitor, so a write blocked on {@link #stuck} does not hold up completion.
+	 */
+	private static final class RecordingEmitter extends SseEmitter {
+
+		private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+		private final CountDownLatch completed = new CountDownLatch(1);
+		private CountDownLatch stuck;
+		private boolean broken;
+		private Runnable onCompletion;
+
+		@Override
+		@SuppressWarnings("NonSynchronizedMethodOverridesSynchronizedMethod")
+		public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+			if (broken) {
+				throw new IOException("Broken pipe");
+			}
+			StringBuilder text = new StringBuilder();
+			items.forEach(data -> text.append(data.getData()));
+			events.add(text.toString());
+			if (stuck != null) {
+				try {
+					stuck.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException(e);
+				}
+			}
+		}
+
+		@Override
+		@SuppressWarnings("NonSynchronizedMethodOverridesSynchronizedMethod")
+		public void complete() {
+			completed.countDown();
+		}
+
+		@Override
+		public void onCompletion(Runnable callback) {
+			onCompletion = callback;
+			super.onCompletion(callback);
+		}
+
+		private String next() throws InterruptedException {
+			return events.poll(1, TimeUnit.SECONDS);
+		}
+	}
+
+	private void awaitSize(int size) throws InterruptedException {
+		for (int i = 0; i < 100 && broadcaster.size() != size; i++) {
+			Thread.sleep(10);
+		}
+		assertThat(broadcaster.size()).isEqualTo(size);
+	}
+}
@@ -0,0 +1,51 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.service.CalendarProjectionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CalendarProjectionEndpoint}.
+ */
+class CalendarProjectionEndpointTest {
+
+	@Mock
+	private CalendarProjectionService calendarProjectionService;
+
+	private CalendarProjectionEndpoint calendarProjectionEndpoint;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		calendarProjectionEndpoint = new CalendarProjectionEndpoint(calendarProjectionService);
+	}
+
+	/**
+	 * Tests the {@link CalendarProjectionEndpoint#state()} method.
+	 */
+	@Test
+	void stateTest() {
+		when(calendarProjectionService.getPending()).thenReturn(3);
+		when(calendarProjectionService.getLag()).thenReturn(Duration.ofMillis(1500));
+
+		assertThat(calendarProjectionEndpoint.state()).containsEntry("pending", 3).containsEntry("lagMillis", 1500L);
+	}
+
+	/**
+	 * Tests the {@link CalendarProjectionEndpoint#rebuild()} method.
+	 */
+	@Test
+	void rebuildTest() {
+		when(calendarProjectionService.rebuild()).thenReturn(42);
+
+		assertThat(calendarProjectionEndpoint.rebuild()).containsEntry("days", 42);
+		verify(calendarProjectionService, times(1)).rebuild();
+	}
+}
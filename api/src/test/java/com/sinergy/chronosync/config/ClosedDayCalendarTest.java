@@ -0,0 +1,85 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.model.firm.FirmClosure;
+import com.sinergy.chronosync.repository.FirmClosureRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ClosedDayCalendar}.
+ */
+class ClosedDayCalendarTest {
+
+	@Mock
+	private FirmClosureRepository closureRepository;
+
+	private ClosedDayCalendar closedDayCalendar;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		closedDayCalendar = new ClosedDayCalendar(closureRepository, Duration.ofMinutes(5));
+	}
+
+	/**
+	 * Tests that a year is compiled once from closures overlapping it, including closures
+	 * spanning the turn of the year.
+	 */
+	@Test
+	void isClosedTest() {
+		when(closureRepository.findAll(Mockito.<Specification<FirmClosure>>any())).thenReturn(List.of(
+			closure("2023-12-31", "2024-01-02"),
+			closure("2024-05-01", "2024-05-02"),
+			closure("2024-12-31", "2025-01-01")
+		));
+
+		assertThat(closedDayCalendar.isClosed(1L, LocalDate.parse("2024-01-02"))).isTrue();
+		assertThat(closedDayCalendar.isClosed(1L, LocalDate.parse("2024-01-03"))).isFalse();
+		assertThat(closedDayCalendar.isClosed(1L, LocalDate.parse("2024-05-02"))).isTrue();
+		assertThat(closedDayCalendar.getClosedDays(1L, 2024)).containsExactly(
+			LocalDate.parse("2024-01-01"), LocalDate.parse("2024-01-02"), LocalDate.parse("2024-05-01"),
+			LocalDate.parse("2024-05-02"), LocalDate.parse("2024-12-31"));
+
+		verify(closureRepository, times(1)).findAll(Mockito.<Specification<FirmClosure>>any());
+		assertThat(closedDayCalendar.size()).isEqualTo(1);
+	}
+
+	/**
+	 * Tests that new closures are added to compiled years in place, and that reopened days
+	 * recompile the affected years only.
+	 */
+	@Test
+	void closedAndReopenedTest() {
+		assertThat(closedDayCalendar.isClosed(1L, LocalDate.parse("2024-10-14"))).isFalse();
+		assertThat(closedDayCalendar.isClosed(1L, LocalDate.parse("2025-10-14"))).isFalse();
+		assertThat(closedDayCalendar.isClosed(2L, LocalDate.parse("2024-10-14"))).isFalse();
+
+		closedDayCalendar.closed(1L, LocalDate.parse("2024-10-14"), LocalDate.parse("2024-10-15"));
+
+		assertThat(closedDayCalendar.isClosed(1L, LocalDate.parse("2024-10-15"))).isTrue();
+		assertThat(closedDayCalendar.isClosed(1L, LocalDate.parse("2024-10-16"))).isFalse();
+		assertThat(closedDayCalendar.isClosed(2L, LocalDate.parse("2024-10-15"))).isFalse();
+		verify(closureRepository, times(3)).findAll(Mockito.<Specification<FirmClosure>>any());
+
+		closedDayCalendar.reopened(1L, LocalDate.parse("2024-10-14"), LocalDate.parse("2024-10-15"));
+
+		assertThat(closedDayCalendar.size()).isEqualTo(2);
+		assertThat(closedDayCalendar.isClosed(1L, LocalDate.parse("2024-10-15"))).isFalse();
+		verify(closureRepository, times(4)).findAll(Mockito.<Specification<FirmClosure>>any());
+	}
+
+	private static FirmClosure closure(String startDate, String endDate) {
+		return FirmClosure.builder().startDate(LocalDate.parse(startDate)).endDate(LocalDate.parse(endDate)).build();
+	}
+}
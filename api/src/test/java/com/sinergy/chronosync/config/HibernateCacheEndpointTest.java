@@ -0,0 +1,73 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.dto.response.CacheRegionStatisticsDTO;
+import com.sinergy.chronosync.model.firm.Firm;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link HibernateCacheEndpoint}.
+ */
+class HibernateCacheEndpointTest {
+
+	@Mock
+	private EntityManagerFactory entityManagerFactory;
+
+	@Mock
+	private SessionFactory sessionFactory;
+
+	@Mock
+	private Statistics statistics;
+
+	@Mock
+	private CacheRegionStatistics firmRegionStatistics;
+
+	private HibernateCacheEndpoint hibernateCacheEndpoint;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		hibernateCacheEndpoint = new HibernateCacheEndpoint(entityManagerFactory);
+
+		when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+		when(sessionFactory.getStatistics()).thenReturn(statistics);
+	}
+
+	/**
+	 * Tests the {@link HibernateCacheEndpoint#cacheStatistics()} method.
+	 * Verifies that region statistics are reported and unknown regions are skipped.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void cacheStatisticsTest() {
+		when(statistics.isStatisticsEnabled()).thenReturn(true);
+		when(statistics.getCacheRegionStatistics(anyString())).thenReturn(null);
+		when(statistics.getCacheRegionStatistics(Firm.class.getName())).thenReturn(firmRegionStatistics);
+		when(firmRegionStatistics.getHitCount()).thenReturn(10L);
+		when(firmRegionStatistics.getMissCount()).thenReturn(2L);
+		when(firmRegionStatistics.getPutCount()).thenReturn(2L);
+		when(statistics.getQueryCacheHitCount()).thenReturn(5L);
+
+		Map<String, Object> result = hibernateCacheEndpoint.cacheStatistics();
+
+		List<CacheRegionStatisticsDTO> regions = (List<CacheRegionStatisticsDTO>) result.get("regions");
+		assertThat(result.get("statisticsEnabled")).isEqualTo(true);
+		assertThat(regions).hasSize(1);
+		assertThat(regions.getFirst().getRegionName()).isEqualTo(Firm.class.getName());
+		assertThat(regions.getFirst().getHitCount()).isEqualTo(10L);
+		assertThat(result.get("queryCacheHitCount")).isEqualTo(5L);
+	}
+}
@@ -0,0 +1,163 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.idempotency.IdempotencyRecord;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.user.UserRole;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.FirmRepository;
+import com.sinergy.chronosync.repository.IdempotencyRecordRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for {@link IdempotencyFilter} on the appointment type create endpoint.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyFilterTest {
+
+	private static final String BODY = "{\"name\": \"Consultation\", \"durationMinutes\": 30, \"price\": 50.0, \"currency\": \"EUR\"}";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private FirmRepository firmRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private AppointmentTypeRepository appointmentTypeRepository;
+
+	@Autowired
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		Firm firm = firmRepository.save(new Firm("Idempotency test firm " + UUID.randomUUID()));
+
+		user = new User();
+		user.setFirstName("John");
+		user.setLastName("Doe");
+		user.setUsername("admin-" + UUID.randomUUID());
+		user.setPassword("password");
+		user.setRole(UserRole.ADMINISTRATOR);
+		user.setIsEnabled(true);
+		user.setIsLocked(false);
+		user.setFirm(firm);
+		user = userRepository.save(user);
+	}
+
+	/**
+	 * Tests that a retry with the same key returns the original response without creating another row.
+	 */
+	@Test
+	void replayTest() throws Exception {
+		long before = appointmentTypeRepository.count();
+		String key = UUID.randomUUID().toString();
+
+		MvcResult first = mockMvc.perform(create(key, BODY))
+			.andExpect(status().isCreated())
+			.andExpect(header().doesNotExist(IdempotencyFilter.IDEMPOTENT_REPLAY_HEADER))
+			.andReturn();
+		MvcResult retry = mockMvc.perform(create(key, BODY))
+			.andExpect(status().isCreated())
+			.andExpect(header().string(IdempotencyFilter.IDEMPOTENT_REPLAY_HEADER, "true"))
+			.andReturn();
+
+		assertThat(retry.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+		assertThat(retry.getResponse().getContentType()).isEqualTo(first.getResponse().getContentType());
+		assertThat(appointmentTypeRepository.count()).isEqualTo(before + 1);
+		assertThat(idempotencyRecordRepository.findAll())
+			.anyMatch(record -> record.getIdempotencyKey().equals(key) && record.getUsername().equals(user.getUsername()));
+	}
+
+	/**
+	 * Tests that a key cannot be reused for a different request, and that requests without a key are not affected.
+	 */
+	@Test
+	void differentRequestTest() throws Exception {
+		long before = appointmentTypeRepository.count();
+		String key = UUID.randomUUID().toString();
+
+		mockMvc.perform(create(key, BODY)).andExpect(status().isCreated());
+		mockMvc.perform(create(key, BODY.replace("Consultation", "Checkup"))).andExpect(status().isUnprocessableEntity());
+		mockMvc.perform(create(null, BODY)).andExpect(status().isCreated());
+		mockMvc.perform(create(null, BODY)).andExpect(status().isCreated());
+
+		assertThat(appointmentTypeRepository.count()).isEqualTo(before + 3);
+	}
+
+	/**
+	 * Tests that a key reserved by a request still running on another instance is rejected, without
+	 * running the request, and that the key can be used once that reservation has expired.
+	 */
+	@Test
+	void reservedElsewhereTest() throws Exception {
+		long before = appointmentTypeRepository.count();
+		String key = UUID.randomUUID().toString();
+		Instant now = Instant.now();
+		IdempotencyRecord reservation = idempotencyRecordRepository.save(IdempotencyRecord.builder()
+			.username(user.getUsername())
+			.idempotencyKey(key)
+			.requestHash("hash")
+			.createdAt(now)
+			.expiresAt(now.plusSeconds(60))
+			.build());
+
+		mockMvc.perform(create(key, BODY)).andExpect(status().isConflict());
+		assertThat(appointmentTypeRepository.count()).isEqualTo(before);
+
+		reservation.setExpiresAt(now.minusSeconds(1));
+		idempotencyRecordRepository.save(reservation);
+
+		mockMvc.perform(create(key, BODY)).andExpect(status().isCreated());
+		mockMvc.perform(create(key, BODY))
+			.andExpect(status().isCreated())
+			.andExpect(header().string(IdempotencyFilter.IDEMPOTENT_REPLAY_HEADER, "true"));
+		assertThat(appointmentTypeRepository.count()).isEqualTo(before + 1);
+	}
+
+	/**
+	 * Tests that overly long keys are rejected before the request is processed.
+	 */
+	@Test
+	void invalidKeyTest() throws Exception {
+		long before = appointmentTypeRepository.count();
+
+		mockMvc.perform(create("k".repeat(256), BODY)).andExpect(status().isBadRequest());
+
+		assertThat(appointmentTypeRepository.count()).isEqualTo(before);
+	}
+
+	private MockHttpServletRequestBuilder create(String key, String body) {
+		MockHttpServletRequestBuilder request = post("/api/v1/appointment-type/create")
+			.with(user(user))
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(body);
+		return key != null ? request.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key) : request;
+	}
+}
@@ -0,0 +1,158 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.model.idempotency.IdempotencyRecord;
+import com.sinergy.chronosync.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link IdempotencyStore}.
+ */
+class IdempotencyStoreTest {
+
+	@Mock
+	private IdempotencyRecordRepository idempotencyRecordRepository;
+
+	private IdempotencyStore idempotencyStore;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		idempotencyStore = new IdempotencyStore(idempotencyRecordRepository, Duration.ofHours(1), Duration.ofMinutes(5), 2, true);
+		when(idempotencyRecordRepository.save(any())).thenAnswer(invocation -> {
+			IdempotencyRecord record = invocation.getArgument(0);
+			record.setId(1L);
+			return record;
+		});
+	}
+
+	/**
+	 * Tests that a key can be reserved once at a time, that it is reserved with a pending row,
+	 * and that a completed response is stored in memory and in that row and served from memory.
+	 */
+	@Test
+	void completeTest() {
+		assertThat(idempotencyStore.reserve("jdoe", "key", "hash")).isTrue();
+		assertThat(idempotencyStore.reserve("jdoe", "key", "hash")).isFalse();
+		assertThat(idempotencyStore.reserve("other", "key", "hash")).isTrue();
+
+		ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+		verify(idempotencyRecordRepository, times(2)).save(captor.capture());
+		assertThat(captor.getAllValues().get(0).isPending()).isTrue();
+		assertThat(captor.getAllValues().get(0).getExpiresAt()).isBefore(Instant.now().plus(Duration.ofMinutes(6)));
+
+		idempotencyStore.complete("jdoe", "key", "hash", 201, "application/json", new byte[]{1, 2});
+
+		verify(idempotencyRecordRepository, times(3)).save(captor.capture());
+		IdempotencyRecord completed = captor.getValue();
+		assertThat(completed.getId()).isEqualTo(1L);
+		assertThat(completed.getResponseStatus()).isEqualTo(201);
+		assertThat(completed.getExpiresAt()).isAfter(Instant.now().plus(Duration.ofMinutes(59)));
+
+		IdempotencyStore.StoredResponse stored = idempotencyStore.find("jdoe", "key");
+		assertThat(stored.getBody()).containsExactly(1, 2);
+		verify(idempotencyRecordRepository, never()).findOne(Mockito.<Specification<IdempotencyRecord>>any());
+	}
+
+	/**
+	 * Tests that a key reserved by another instance is not reserved again, unless its reservation
+	 * has expired, and that a released reservation is deleted.
+	 */
+	@Test
+	void reserveTakenTest() {
+		doThrow(new DataIntegrityViolationException("duplicate key")).when(idempotencyRecordRepository).save(any());
+
+		assertThat(idempotencyStore.reserve("jdoe", "key", "hash")).isFalse();
+		assertThat(idempotencyStore.reserve("jdoe", "key", "hash")).isFalse();
+		verify(idempotencyRecordRepository, times(2)).save(any());
+
+		when(idempotencyRecordRepository.delete(Mockito.<Specification<IdempotencyRecord>>any())).thenReturn(1L);
+		doAnswer(invocation -> {
+			IdempotencyRecord record = invocation.getArgument(0);
+			record.setId(2L);
+			return record;
+		}).when(idempotencyRecordRepository).save(any());
+
+		assertThat(idempotencyStore.reserve("jdoe", "expired", "hash")).isTrue();
+		idempotencyStore.release("jdoe", "expired");
+
+		verify(idempotencyRecordRepository, times(1)).deleteById(2L);
+		assertThat(idempotencyStore.reserve("jdoe", "expired", "hash")).isTrue();
+	}
+
+	/**
+	 * Tests that responses evicted from memory, or stored before a restart, are read from the database,
+	 * and that expired ones are ignored.
+	 */
+	@Test
+	void findPersistedTest() {
+		when(idempotencyRecordRepository.findOne(Mockito.<Specification<IdempotencyRecord>>any())).thenReturn(Optional.of(
+			IdempotencyRecord.builder()
+				.requestHash("hash")
+				.responseStatus(201)
+				.expiresAt(Instant.now().plusSeconds(60))
+				.build()
+		));
+		assertThat(idempotencyStore.find("jdoe", "key").getStatus()).isEqualTo(201);
+		assertThat(idempotencyStore.find("jdoe", "key").getStatus()).isEqualTo(201);
+		verify(idempotencyRecordRepository, times(1)).findOne(Mockito.<Specification<IdempotencyRecord>>any());
+
+		when(idempotencyRecordRepository.findOne(Mockito.<Specification<IdempotencyRecord>>any())).thenReturn(Optional.of(
+			IdempotencyRecord.builder()
+				.requestHash("hash")
+				.responseStatus(201)
+				.expiresAt(Instant.now().minusSeconds(1))
+				.build()
+		));
+		assertThat(idempotencyStore.find("jdoe", "expired")).isNull();
+	}
+
+	/**
+	 * Tests that a response stored concurrently by another instance does not fail the request,
+	 * and that the key is released either way.
+	 */
+	@Test
+	void completeDuplicateTest() {
+		idempotencyStore.reserve("jdoe", "key", "hash");
+		doThrow(new DataIntegrityViolationException("duplicate key")).when(idempotencyRecordRepository).save(any());
+		idempotencyStore.complete("jdoe", "key", "hash", 201, null, new byte[0]);
+
+		assertThat(idempotencyStore.find("jdoe", "key")).isNotNull();
+		when(idempotencyRecordRepository.delete(Mockito.<Specification<IdempotencyRecord>>any())).thenReturn(0L);
+		assertThat(idempotencyStore.reserve("jdoe", "key", "hash")).isFalse();
+	}
+
+	/**
+	 * Tests that nothing is read from or written to the database when persistence is disabled.
+	 */
+	@Test
+	void memoryOnlyTest() {
+		IdempotencyStore memoryOnly = new IdempotencyStore(idempotencyRecordRepository, Duration.ofHours(1), Duration.ofMinutes(5), 1, false);
+		assertThat(memoryOnly.reserve("jdoe", "first", "hash")).isTrue();
+		assertThat(memoryOnly.reserve("jdoe", "first", "hash")).isFalse();
+		memoryOnly.complete("jdoe", "first", "hash", 201, null, new byte[0]);
+		assertThat(memoryOnly.reserve("jdoe", "first", "hash")).isTrue();
+		memoryOnly.release("jdoe", "first");
+		memoryOnly.complete("jdoe", "second", "hash", 201, null, new byte[0]);
+
+		assertThat(memoryOnly.find("jdoe", "first")).isNull();
+		assertThat(memoryOnly.find("jdoe", "second")).isNotNull();
+
+		memoryOnly.purge();
+		verifyNoInteractions(idempotencyRecordRepository);
+	}
+}
@@ -19,6 +19,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -43,6 +44,9 @@ class JwtAuthenticationFilterConfigTest {
 	@Mock
 	private TokenRepository tokenRepository;
 
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
 	@Mock
 	private HttpServletRequest request;
 
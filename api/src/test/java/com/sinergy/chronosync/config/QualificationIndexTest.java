@@ -0,0 +1,108 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.user.EmployeeQualification;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.EmployeeQualificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link QualificationIndex}.
+ */
+class QualificationIndexTest {
+
+	@Mock
+	private EmployeeQualificationRepository qualificationRepository;
+
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+
+	private QualificationIndex qualificationIndex;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		qualificationIndex = new QualificationIndex(qualificationRepository, appointmentTypeRepository, Duration.ofMinutes(5));
+	}
+
+	/**
+	 * Tests that the matrix of a firm is compiled once and serves later lookups, and that types
+	 * requiring a qualification are restricted even if nobody is qualified for them.
+	 */
+	@Test
+	void isQualifiedTest() {
+		when(qualificationRepository.findAll(Mockito.<Specification<EmployeeQualification>>any())).thenReturn(List.of(
+			qualification(4L, 2L), qualification(4L, 3L)
+		));
+		AppointmentType restrictedType = new AppointmentType();
+		restrictedType.setId(8L);
+		when(appointmentTypeRepository.findAll(Mockito.<Specification<AppointmentType>>any())).thenReturn(List.of(restrictedType));
+
+		assertThat(qualificationIndex.isQualified(1L, 4L, 2L)).isTrue();
+		assertThat(qualificationIndex.isQualified(1L, 4L, 5L)).isFalse();
+		assertThat(qualificationIndex.isQualified(1L, 6L, 5L)).isTrue();
+		assertThat(qualificationIndex.isQualified(1L, 8L, 2L)).isFalse();
+		assertThat(qualificationIndex.filter(1L, 4L, List.of(5L, 3L, 2L))).containsExactly(2L, 3L);
+
+		verify(qualificationRepository, times(1)).findAll(Mockito.<Specification<EmployeeQualification>>any());
+		assertThat(qualificationIndex.size()).isEqualTo(1);
+	}
+
+	/**
+	 * Tests that committed changes update compiled matrices in place without another query, and
+	 * that revoking the last qualification leaves the type restricted until the restriction is lifted.
+	 */
+	@Test
+	void grantedAndRevokedTest() {
+		assertThat(qualificationIndex.isQualified(1L, 4L, 5L)).isTrue();
+
+		qualificationIndex.granted(1L, 4L, 2L);
+		qualificationIndex.granted(7L, 4L, 2L);
+
+		assertThat(qualificationIndex.isQualified(1L, 4L, 5L)).isFalse();
+		assertThat(qualificationIndex.size()).isEqualTo(1);
+
+		qualificationIndex.revoked(1L, 4L, 2L);
+
+		assertThat(qualificationIndex.isQualified(1L, 4L, 2L)).isFalse();
+		assertThat(qualificationIndex.filter(1L, 4L, List.of(2L, 5L))).isEmpty();
+
+		qualificationIndex.requirementChanged(1L, 4L, false);
+
+		assertThat(qualificationIndex.isQualified(1L, 4L, 5L)).isTrue();
+		verify(qualificationRepository, times(1)).findAll(Mockito.<Specification<EmployeeQualification>>any());
+	}
+
+	/**
+	 * Tests that expired matrices are compiled again.
+	 */
+	@Test
+	void expiredTest() {
+		qualificationIndex = new QualificationIndex(qualificationRepository, appointmentTypeRepository, Duration.ZERO.minusSeconds(1));
+
+		qualificationIndex.isQualified(1L, 4L, 2L);
+		qualificationIndex.isQualified(1L, 4L, 2L);
+
+		verify(qualificationRepository, times(2)).findAll(Mockito.<Specification<EmployeeQualification>>any());
+	}
+
+	private EmployeeQualification qualification(Long appointmentTypeId, Long employeeId) {
+		User employee = new User();
+		employee.setId(employeeId);
+		AppointmentType appointmentType = new AppointmentType();
+		appointmentType.setId(appointmentTypeId);
+		return EmployeeQualification.builder().employee(employee).appointmentType(appointmentType).build();
+	}
+}
@@ -0,0 +1,116 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.util.ReplicaRoutingContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for {@link ReplicaRoutingDataSource}.
+ *
+ * <p>Two in-memory H2 databases stand in for the primary and the replica. Each test checks
+ * which database a connection is obtained from, based on the transaction read-only flag,
+ * the replica lag and the read-your-writes window of the current client.</p>
+ */
+class ReplicaRoutingDataSourceTest {
+
+	private static final String PRIMARY_URL = "jdbc:h2:mem:routing_primary";
+	private static final String REPLICA_URL = "jdbc:h2:mem:routing_replica";
+
+	private ReadYourWritesTracker readYourWritesTracker;
+	private ReplicaLagMonitor replicaLagMonitor;
+	private ReplicaRoutingDataSource routingDataSource;
+
+	@BeforeEach
+	void setUp() {
+		DataSource primary = new DriverManagerDataSource(PRIMARY_URL);
+		DataSource replica = new DriverManagerDataSource(REPLICA_URL);
+
+		readYourWritesTracker = new ReadYourWritesTracker(
+			Duration.ofSeconds(10),
+			Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneOffset.UTC)
+		);
+		replicaLagMonitor = new ReplicaLagMonitor(replica, "SELECT 0", Duration.ofSeconds(5));
+		replicaLagMonitor.checkLag();
+		routingDataSource = new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor, readYourWritesTracker);
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		ReplicaRoutingContext.clear();
+	}
+
+	/**
+	 * Work outside read-only transactions goes to the primary.
+	 */
+	@Test
+	void readWriteTransactionUsesPrimaryTest() throws SQLException {
+		assertEquals(PRIMARY_URL, connectionUrl());
+	}
+
+	/**
+	 * Read-only transactions go to the replica.
+	 */
+	@Test
+	void readOnlyTransactionUsesReplicaTest() throws SQLException {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertEquals(REPLICA_URL, connectionUrl());
+	}
+
+	/**
+	 * A client that wrote recently reads from the primary, other clients still use the replica.
+	 */
+	@Test
+	void recentWriteKeepsClientOnPrimaryTest() throws SQLException {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		readYourWritesTracker.recordWrite("jdoe");
+
+		ReplicaRoutingContext.setClient("jdoe");
+		assertEquals(PRIMARY_URL, connectionUrl());
+
+		ReplicaRoutingContext.setClient("asmith");
+		assertEquals(REPLICA_URL, connectionUrl());
+	}
+
+	/**
+	 * A replica lagging behind the tolerance is bypassed.
+	 */
+	@Test
+	void laggingReplicaIsBypassedTest() throws SQLException {
+		ReplicaLagMonitor laggingMonitor = new ReplicaLagMonitor(
+			new DriverManagerDataSource(REPLICA_URL),
+			"SELECT 30",
+			Duration.ofSeconds(5)
+		);
+		laggingMonitor.checkLag();
+		routingDataSource = new ReplicaRoutingDataSource(
+			new DriverManagerDataSource(PRIMARY_URL),
+			new DriverManagerDataSource(REPLICA_URL),
+			laggingMonitor,
+			readYourWritesTracker
+		);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertEquals(PRIMARY_URL, connectionUrl());
+	}
+
+	private String connectionUrl() throws SQLException {
+		try (Connection connection = routingDataSource.getConnection()) {
+			return connection.getMetaData().getURL();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.sinergy.chronosync.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SessionSeatCounter}.
+ */
+class SessionSeatCounterTest {
+
+	/**
+	 * Tests that concurrent signups take exactly the seats left and no more.
+	 */
+	@Test
+	void tryTakeConcurrentTest() throws Exception {
+		SessionSeatCounter counter = new SessionSeatCounter(Duration.ofMinutes(1), 100);
+
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		List<Future<SessionSeatCounter.Seat>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < 500; i++) {
+				futures.add(executor.submit(() -> counter.tryTake(1L, 50)));
+			}
+			int taken = 0;
+			for (Future<SessionSeatCounter.Seat> future : futures) {
+				if (future.get() != null) {
+					taken++;
+				}
+			}
+			assertThat(taken).isEqualTo(50);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Tests that released and returned seats can be taken again, and that a seat released after
+	 * its counter was dropped does not change the new counter.
+	 */
+	@Test
+	void releaseTest() {
+		SessionSeatCounter counter = new SessionSeatCounter(Duration.ofMinutes(1), 100);
+
+		SessionSeatCounter.Seat seat = counter.tryTake(1L, 1);
+		assertThat(seat).isNotNull();
+		assertThat(counter.tryTake(1L, 1)).isNull();
+
+		seat.release();
+		SessionSeatCounter.Seat again = counter.tryTake(1L, 1);
+		assertThat(again).isNotNull();
+
+		counter.evict(1L);
+		again.release();
+		assertThat(counter.tryTake(1L, 0)).isNull();
+
+		counter.returned(1L);
+		assertThat(counter.tryTake(1L, 0)).isNotNull();
+	}
+
+	/**
+	 * Tests that an exhausted counter is seeded again from the database once it is older than
+	 * the refresh interval, but not when the database has no seats left either.
+	 */
+	@Test
+	void refreshTest() {
+		SessionSeatCounter counter = new SessionSeatCounter(Duration.ZERO, 100);
+
+		assertThat(counter.tryTake(1L, 1)).isNotNull();
+		assertThat(counter.tryTake(1L, 0)).isNull();
+		assertThat(counter.tryTake(1L, 2)).isNotNull();
+		assertThat(counter.tryTake(1L, 2)).isNotNull();
+		assertThat(counter.size()).isEqualTo(1);
+	}
+
+	/**
+	 * Tests that the counters are dropped once too many sessions are counted.
+	 */
+	@Test
+	void maxSessionsTest() {
+		SessionSeatCounter counter = new SessionSeatCounter(Duration.ofMinutes(1), 2);
+
+		counter.tryTake(1L, 5);
+		counter.tryTake(2L, 5);
+		counter.tryTake(3L, 5);
+
+		assertThat(counter.size()).isEqualTo(1);
+	}
+}
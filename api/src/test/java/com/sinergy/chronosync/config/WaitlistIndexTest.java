@@ -0,0 +1,138 @@
+package com.sinergy.chronosync.config;
+
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.waitlist.WaitlistEntry;
+import com.sinergy.chronosync.model.waitlist.WaitlistEntryStatus;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.WaitlistEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link WaitlistIndex}.
+ */
+class WaitlistIndexTest {
+
+	private static final Instant START = Instant.parse("2099-01-05T09:00:00Z");
+
+	@Mock
+	private WaitlistEntryRepository entryRepository;
+
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+
+	private WaitlistIndex waitlistIndex;
+
+	private AppointmentType appointmentType;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		waitlistIndex = new WaitlistIndex(entryRepository, appointmentTypeRepository, Duration.ofMinutes(5));
+
+		appointmentType = AppointmentType.builder().durationMinutes(30).build();
+		appointmentType.setId(4L);
+		when(appointmentTypeRepository.findAll(Mockito.<Specification<AppointmentType>>any()))
+			.thenReturn(List.of(appointmentType));
+	}
+
+	/**
+	 * Tests that a firm's entries are loaded once, that the slot has to fit the window, and that
+	 * entries are offered by priority, then by age, with preferred employees competing with any employee.
+	 */
+	@Test
+	void pollTest() {
+		when(entryRepository.findAll(Mockito.<Specification<WaitlistEntry>>any())).thenReturn(List.of(
+			entry(10L, null, 0, START, START.plus(1, ChronoUnit.HOURS)),
+			entry(11L, 2L, 0, START, START.plus(1, ChronoUnit.HOURS)),
+			entry(12L, 3L, 5, START, START.plus(1, ChronoUnit.HOURS))
+		));
+
+		assertThat(waitlistIndex.poll(1L, 4L, 2L, START.plus(31, ChronoUnit.MINUTES))).isNull();
+		assertThat(waitlistIndex.poll(1L, 5L, 2L, START)).isNull();
+		assertThat(waitlistIndex.poll(1L, 4L, 2L, START.plus(30, ChronoUnit.MINUTES)).getId()).isEqualTo(10L);
+		assertThat(waitlistIndex.poll(1L, 4L, 2L, START).getId()).isEqualTo(11L);
+		assertThat(waitlistIndex.poll(1L, 4L, 2L, START)).isNull();
+		assertThat(waitlistIndex.poll(1L, 4L, 3L, START).getId()).isEqualTo(12L);
+
+		verify(entryRepository, times(1)).findAll(Mockito.<Specification<WaitlistEntry>>any());
+		assertThat(waitlistIndex.size(1L)).isZero();
+	}
+
+	/**
+	 * Tests that committed changes update loaded firms only, and that restored entries keep their place.
+	 */
+	@Test
+	void addedAndRemovedTest() {
+		when(entryRepository.findAll(Mockito.<Specification<WaitlistEntry>>any())).thenReturn(List.of());
+		WaitlistEntry entry = entry(10L, null, 0, START, START.plus(1, ChronoUnit.HOURS));
+		waitlistIndex.added(entry, 30);
+		assertThat(waitlistIndex.size(1L)).isZero();
+
+		assertThat(waitlistIndex.poll(1L, 4L, 2L, START)).isNull();
+		waitlistIndex.added(entry, 30);
+		waitlistIndex.added(entry(11L, null, 0, START, START.plus(1, ChronoUnit.HOURS)), 30);
+		waitlistIndex.added(entry(12L, null, 0, START, START.plus(20, ChronoUnit.MINUTES)), 30);
+		assertThat(waitlistIndex.size(1L)).isEqualTo(2);
+
+		WaitlistIndex.Queued queued = waitlistIndex.poll(1L, 4L, 2L, START);
+		assertThat(queued.getId()).isEqualTo(10L);
+		waitlistIndex.restore(1L, queued);
+		waitlistIndex.removed(1L, 11L);
+
+		assertThat(waitlistIndex.poll(1L, 4L, 2L, START).getId()).isEqualTo(10L);
+		assertThat(waitlistIndex.poll(1L, 4L, 2L, START)).isNull();
+	}
+
+	/**
+	 * Tests that expired queues are loaded again, picking up entries changed by other instances.
+	 */
+	@Test
+	void reloadTest() {
+		waitlistIndex = new WaitlistIndex(entryRepository, appointmentTypeRepository, Duration.ZERO);
+		when(entryRepository.findAll(Mockito.<Specification<WaitlistEntry>>any()))
+			.thenReturn(List.of(entry(10L, null, 0, START, START.plus(1, ChronoUnit.HOURS))))
+			.thenReturn(List.of(entry(11L, null, 0, START, START.plus(1, ChronoUnit.HOURS))));
+
+		waitlistIndex.added(entry(12L, null, 0, START, START.plus(1, ChronoUnit.HOURS)), 30);
+		assertThat(waitlistIndex.poll(1L, 4L, 2L, START).getId()).isEqualTo(10L);
+		assertThat(waitlistIndex.poll(1L, 4L, 2L, START).getId()).isEqualTo(11L);
+		assertThat(waitlistIndex.size(1L)).isZero();
+		verify(entryRepository, times(2)).findAll(Mockito.<Specification<WaitlistEntry>>any());
+	}
+
+	private WaitlistEntry entry(Long id, Long employeeId, int priority, Instant windowStart, Instant windowEnd) {
+		Firm firm = new Firm();
+		firm.setId(1L);
+		User employee = null;
+		if (employeeId != null) {
+			employee = new User();
+			employee.setId(employeeId);
+		}
+		WaitlistEntry entry = WaitlistEntry.builder()
+			.firm(firm)
+			.appointmentType(appointmentType)
+			.employee(employee)
+			.windowStart(windowStart)
+			.windowEnd(windowEnd)
+			.priority(priority)
+			.status(WaitlistEntryStatus.WAITING)
+			.build();
+		entry.setId(id);
+		return entry;
+	}
+}
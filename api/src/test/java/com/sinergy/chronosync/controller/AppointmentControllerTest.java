@@ -0,0 +1,179 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.AppointmentRangeRequestDTO;
+import com.sinergy.chronosync.dto.request.AppointmentRequestDTO;
+import com.sinergy.chronosync.dto.request.SlotAvailabilityRequestDTO;
+import com.sinergy.chronosync.dto.request.SlotHoldRequestDTO;
+import com.sinergy.chronosync.dto.request.SlotSearchRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentResponseDTO;
+import com.sinergy.chronosync.dto.response.AvailableSlotDTO;
+import com.sinergy.chronosync.dto.response.CalendarViewDTO;
+import com.sinergy.chronosync.dto.response.SlotHoldResponseDTO;
+import com.sinergy.chronosync.service.AppointmentService;
+import com.sinergy.chronosync.service.SlotHoldService;
+import com.sinergy.chronosync.service.SlotSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentController}.
+ */
+class AppointmentControllerTest {
+
+	@Mock
+	private AppointmentService appointmentService;
+
+	@Mock
+	private SlotSearchService slotSearchService;
+
+	@Mock
+	private SlotHoldService slotHoldService;
+
+	@InjectMocks
+	private AppointmentController appointmentController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#getAppointments(AppointmentRangeRequestDTO)} method.
+	 * Verifies that the appointments returned by the service are passed through.
+	 */
+	@Test
+	void getAppointmentsTest() {
+		AppointmentRangeRequestDTO request = AppointmentRangeRequestDTO.builder()
+			.from(Instant.parse("2024-10-07T00:00:00Z"))
+			.to(Instant.parse("2024-10-14T00:00:00Z"))
+			.build();
+		AppointmentResponseDTO appointment = AppointmentResponseDTO.builder().id(1L).build();
+
+		when(appointmentService.getAppointments(request)).thenReturn(List.of(appointment));
+
+		ResponseEntity<List<AppointmentResponseDTO>> response = appointmentController.getAppointments(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).containsExactly(appointment);
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#getCalendar(AppointmentRangeRequestDTO)} method.
+	 * Verifies that the calendar view returned by the service is passed through.
+	 */
+	@Test
+	void getCalendarTest() {
+		AppointmentRangeRequestDTO request = AppointmentRangeRequestDTO.builder()
+			.from(Instant.parse("2024-10-07T00:00:00Z"))
+			.to(Instant.parse("2024-10-14T00:00:00Z"))
+			.build();
+		CalendarViewDTO calendar = CalendarViewDTO.builder().ids(new long[]{1L}).build();
+
+		when(appointmentService.getCalendar(request)).thenReturn(calendar);
+
+		ResponseEntity<CalendarViewDTO> response = appointmentController.getCalendar(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(calendar);
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#findAvailableSlots(SlotSearchRequestDTO)} method.
+	 * Verifies that the pagination of the request is passed to the service.
+	 */
+	@Test
+	void findAvailableSlotsTest() {
+		SlotSearchRequestDTO request = new SlotSearchRequestDTO();
+		request.setAppointmentTypeId(1L);
+		request.setPage(2);
+		request.setPageSize(20);
+		Page<AvailableSlotDTO> slots = new PageImpl<>(List.of(AvailableSlotDTO.builder().employeeId(1L).build()));
+
+		when(slotSearchService.findAvailableSlots(request, PageRequest.of(2, 20))).thenReturn(slots);
+
+		ResponseEntity<Page<AvailableSlotDTO>> response = appointmentController.findAvailableSlots(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(slots);
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#isEmployeeAvailable(SlotAvailabilityRequestDTO)} method.
+	 * Verifies that the availability returned by the service is passed through.
+	 */
+	@Test
+	void isEmployeeAvailableTest() {
+		SlotAvailabilityRequestDTO request = SlotAvailabilityRequestDTO.builder().employeeId(1L).build();
+
+		when(appointmentService.isEmployeeAvailable(request)).thenReturn(true);
+
+		ResponseEntity<Boolean> response = appointmentController.isEmployeeAvailable(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isTrue();
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#createAppointment(AppointmentRequestDTO)} method.
+	 * Verifies that the booked appointment is returned with HTTP status 201.
+	 */
+	@Test
+	void createAppointmentTest() {
+		AppointmentRequestDTO request = AppointmentRequestDTO.builder().employeeId(1L).build();
+		AppointmentResponseDTO appointment = AppointmentResponseDTO.builder().id(1L).build();
+
+		when(appointmentService.createAppointment(request)).thenReturn(appointment);
+
+		ResponseEntity<AppointmentResponseDTO> response = appointmentController.createAppointment(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(response.getBody()).isEqualTo(appointment);
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#cancelAppointment(Long)} method.
+	 * Verifies that the service is called and HTTP status 204 is returned.
+	 */
+	@Test
+	void cancelAppointmentTest() {
+		ResponseEntity<Void> response = appointmentController.cancelAppointment(1L);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		verify(appointmentService, times(1)).cancelAppointment(1L);
+	}
+
+	/**
+	 * Tests the {@link AppointmentController#holdSlot(SlotHoldRequestDTO)} method.
+	 * Verifies that the hold is returned with HTTP status 201.
+	 */
+	@Test
+	void holdSlotTest() {
+		SlotHoldRequestDTO request = SlotHoldRequestDTO.builder()
+			.employeeId(1L)
+			.appointmentTypeId(2L)
+			.startTime(Instant.parse("2024-10-07T09:00:00Z"))
+			.build();
+		SlotHoldResponseDTO hold = SlotHoldResponseDTO.builder().id("hold").build();
+
+		when(slotHoldService.holdSlot(request)).thenReturn(hold);
+
+		ResponseEntity<SlotHoldResponseDTO> response = appointmentController.holdSlot(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(response.getBody()).isEqualTo(hold);
+	}
+}
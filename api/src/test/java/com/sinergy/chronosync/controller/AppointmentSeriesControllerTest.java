@@ -0,0 +1,94 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.AppointmentOccurrenceRequestDTO;
+import com.sinergy.chronosync.dto.request.AppointmentSeriesRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentOccurrenceDTO;
+import com.sinergy.chronosync.dto.response.AppointmentSeriesResponseDTO;
+import com.sinergy.chronosync.service.AppointmentSeriesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentSeriesController}.
+ */
+class AppointmentSeriesControllerTest {
+
+	@Mock
+	private AppointmentSeriesService appointmentSeriesService;
+
+	@InjectMocks
+	private AppointmentSeriesController appointmentSeriesController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the {@link AppointmentSeriesController#createSeries(AppointmentSeriesRequestDTO)} method.
+	 * Verifies that the booked series is returned with HTTP status 201.
+	 */
+	@Test
+	void createSeriesTest() {
+		AppointmentSeriesRequestDTO request = AppointmentSeriesRequestDTO.builder()
+			.employeeId(1L)
+			.recurrenceRule("FREQ=WEEKLY;BYDAY=MO")
+			.build();
+		AppointmentSeriesResponseDTO series = AppointmentSeriesResponseDTO.builder().id(1L).build();
+
+		when(appointmentSeriesService.createSeries(request)).thenReturn(series);
+
+		ResponseEntity<AppointmentSeriesResponseDTO> response = appointmentSeriesController.createSeries(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(response.getBody()).isEqualTo(series);
+	}
+
+	/**
+	 * Tests the {@link AppointmentSeriesController#cancelOccurrence(AppointmentOccurrenceRequestDTO)} method.
+	 * Verifies that the service is called and HTTP status 204 is returned.
+	 */
+	@Test
+	void cancelOccurrenceTest() {
+		AppointmentOccurrenceRequestDTO request = AppointmentOccurrenceRequestDTO.builder()
+			.seriesId(1L)
+			.originalStartTime(Instant.parse("2024-10-07T09:00:00Z"))
+			.build();
+
+		ResponseEntity<Void> response = appointmentSeriesController.cancelOccurrence(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		verify(appointmentSeriesService, times(1)).cancelOccurrence(request);
+	}
+
+	/**
+	 * Tests the {@link AppointmentSeriesController#rescheduleOccurrence(AppointmentOccurrenceRequestDTO)} method.
+	 * Verifies that the moved occurrence is returned.
+	 */
+	@Test
+	void rescheduleOccurrenceTest() {
+		AppointmentOccurrenceRequestDTO request = AppointmentOccurrenceRequestDTO.builder()
+			.seriesId(1L)
+			.originalStartTime(Instant.parse("2024-10-07T09:00:00Z"))
+			.startTime(Instant.parse("2024-10-08T09:00:00Z"))
+			.build();
+		AppointmentOccurrenceDTO occurrence = AppointmentOccurrenceDTO.builder().seriesId(1L).build();
+
+		when(appointmentSeriesService.rescheduleOccurrence(request)).thenReturn(occurrence);
+
+		ResponseEntity<AppointmentOccurrenceDTO> response = appointmentSeriesController.rescheduleOccurrence(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(occurrence);
+	}
+}
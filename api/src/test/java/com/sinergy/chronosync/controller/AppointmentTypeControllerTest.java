@@ -1,5 +1,7 @@
 package com.sinergy.chronosync.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sinergy.chronosync.dto.request.AppointmentTypeRequestDTO;
 import com.sinergy.chronosync.dto.request.BasePaginationRequest;
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
@@ -111,6 +113,24 @@ class AppointmentTypeControllerTest {
 		verify(appointmentTypeService, times(1)).updateAppointmentType(requestDTO);
 	}
 
+	/**
+	 * Tests the {@link AppointmentTypeController#patchAppointmentType(Long, JsonNode)} method.
+	 * Verifies that the service is called with the patch document and the response status is 204 (No Content).
+	 */
+	@Test
+	void patchAppointmentTypeTest() throws Exception {
+		Long id = 1L;
+		JsonNode patch = new ObjectMapper().readTree("{\"colorCode\": \"#000000\"}");
+
+		doNothing().when(appointmentTypeService).patchAppointmentType(id, patch);
+
+		ResponseEntity<Void> response = appointmentTypeController.patchAppointmentType(id, patch);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+		verify(appointmentTypeService, times(1)).patchAppointmentType(id, patch);
+	}
+
 	/**
 	 * Tests the {@link AppointmentTypeController#deleteAppointmentType(Long)} method.
 	 * Verifies that the service is called with the correct ID and the response status is 204 (No Content).
@@ -0,0 +1,42 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.service.CalendarEventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CalendarEventController}.
+ */
+class CalendarEventControllerTest {
+
+	@Mock
+	private CalendarEventService calendarEventService;
+
+	@InjectMocks
+	private CalendarEventController calendarEventController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the {@link CalendarEventController#subscribe()} method.
+	 * Verifies that the stream of the service is returned.
+	 */
+	@Test
+	void subscribeTest() {
+		SseEmitter emitter = new SseEmitter();
+		when(calendarEventService.subscribe()).thenReturn(emitter);
+
+		assertThat(calendarEventController.subscribe()).isSameAs(emitter);
+		verify(calendarEventService, times(1)).subscribe();
+	}
+}
@@ -0,0 +1,395 @@
+package com.sinergy.chronosync.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.sinergy.chronosync.builder.UserFilterBuilder;
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.model.Token;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.user.UserRole;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.FirmRepository;
+import com.sinergy.chronosync.repository.TokenRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.CalendarProjectionService;
+import com.sinergy.chronosync.util.JwtUtils;
+import com.sinergy.chronosync.util.SqlStatementCounter;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests asserting the exact number of SQL statements executed per endpoint.
+ *
+ * <p>Runs the application against an in-memory H2 database and records statements with
+ * {@link SqlStatementCounter}. A changed count usually means an association started to be
+ * loaded eagerly or a use case started to issue additional queries.</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EndpointStatementCountTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private FirmRepository firmRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private AppointmentTypeRepository appointmentTypeRepository;
+
+	@Autowired
+	private AppointmentRepository appointmentRepository;
+
+	@Autowired
+	private TokenRepository tokenRepository;
+
+	@Autowired
+	private JwtUtils jwtUtils;
+
+	@Autowired
+	private QualificationIndex qualificationIndex;
+
+	@Autowired
+	private CalendarProjectionService calendarProjectionService;
+
+	private User user;
+	private AppointmentType appointmentType;
+	private Appointment appointment;
+
+	@BeforeEach
+	void setUp() {
+		tokenRepository.deleteAll();
+		appointmentRepository.deleteAll();
+		appointmentTypeRepository.deleteAll();
+		userRepository.deleteAll();
+		firmRepository.deleteAll();
+
+		Firm firm = firmRepository.save(new Firm("Test firm"));
+
+		user = new User();
+		user.setFirstName("John");
+		user.setLastName("Doe");
+		user.setUsername("jdoe");
+		user.setPassword("password");
+		user.setRole(UserRole.ADMINISTRATOR);
+		user.setIsEnabled(true);
+		user.setIsLocked(false);
+		user.setFirm(firm);
+		user = userRepository.save(user);
+
+		appointmentType = appointmentTypeRepository.save(AppointmentType.builder()
+			.name("Consultation")
+			.durationMinutes(30)
+			.price(50.0)
+			.currency(Currency.EUR)
+			.colorCode("#FFFFFF")
+			.firm(firm)
+			.build());
+
+		appointment = appointmentRepository.save(Appointment.builder()
+			.firm(firm)
+			.employee(user)
+			.appointmentType(appointmentType)
+			.startTime(Instant.parse("2024-10-07T09:00:00Z"))
+			.endTime(Instant.parse("2024-10-07T09:30:00Z"))
+			.status(AppointmentStatus.BOOKED)
+			.build());
+
+		// Qualification matrices are compiled once per firm and served from memory afterwards.
+		qualificationIndex.matrix(firm.getId());
+		// Calendar views are read from the projection, rebuilt here from the appointment above
+		// once the changes queued by earlier tests are drained.
+		calendarProjectionService.project();
+		calendarProjectionService.rebuild();
+		SqlStatementCounter.reset();
+	}
+
+	/**
+	 * Listing appointment types loads the current user and the page, without selecting the firm.
+	 */
+	@Test
+	void getAppointmentTypesStatementCountTest() throws Exception {
+		mockMvc.perform(post("/api/v1/appointment-type/get")
+				.with(user(user))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"page\": 0, \"pageSize\": 10}"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content[0].firm.id").value(user.getFirm().getId()));
+
+		assertStatementCount(2);
+	}
+
+	/**
+	 * Repeated list reads are served from the query cache, so only the current user is loaded.
+	 */
+	@Test
+	void getAppointmentTypesQueryCacheStatementCountTest() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			SqlStatementCounter.reset();
+			mockMvc.perform(post("/api/v1/appointment-type/get")
+					.with(user(user))
+					.contentType(MediaType.APPLICATION_JSON)
+					.content("{\"page\": 0, \"pageSize\": 10}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].name").value("Consultation"));
+		}
+
+		assertStatementCount(1);
+	}
+
+	/**
+	 * A request authenticated with a JWT additionally loads the user and the token in the filter.
+	 */
+	@Test
+	void getAppointmentTypesWithJwtStatementCountTest() throws Exception {
+		String jwt = jwtUtils.generateJWTString(user);
+		tokenRepository.save(Token.builder().user(user).jwtString(jwt).build());
+		SqlStatementCounter.reset();
+
+		mockMvc.perform(post("/api/v1/appointment-type/get")
+				.header("Authorization", "Bearer " + jwt)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"page\": 0, \"pageSize\": 10}"))
+			.andExpect(status().isOk());
+
+		assertStatementCount(4);
+	}
+
+	/**
+	 * Creating an appointment type loads the current user and inserts the row.
+	 */
+	@Test
+	void createAppointmentTypeStatementCountTest() throws Exception {
+		mockMvc.perform(post("/api/v1/appointment-type/create")
+				.with(user(user))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\": \"Checkup\", \"durationMinutes\": 15, \"price\": 20.0, \"currency\": \"EUR\"}"))
+			.andExpect(status().isCreated());
+
+		assertStatementCount(2);
+	}
+
+	/**
+	 * Patching an appointment type loads the current user and executes a single update.
+	 */
+	@Test
+	void patchAppointmentTypeStatementCountTest() throws Exception {
+		mockMvc.perform(patch("/api/v1/appointment-type")
+				.param("id", appointmentType.getId().toString())
+				.with(user(user))
+				.contentType("application/merge-patch+json")
+				.content("{\"colorCode\": \"#00FF00\"}"))
+			.andExpect(status().isNoContent());
+
+		assertStatementCount(2);
+	}
+
+	/**
+	 * Patching a user loads the current user and executes a single update.
+	 */
+	@Test
+	void patchUserStatementCountTest() throws Exception {
+		mockMvc.perform(patch("/api/v1/user")
+				.param("id", user.getId().toString())
+				.with(user(user))
+				.contentType("application/merge-patch+json")
+				.content("{\"phone\": \"555-1234\"}"))
+			.andExpect(status().isNoContent());
+
+		assertStatementCount(2);
+	}
+
+	/**
+	 * Patching a user of another firm updates no row and is rejected as if the user did not exist.
+	 */
+	@Test
+	void patchOtherFirmUserTest() throws Exception {
+		User otherFirmUser = new User();
+		otherFirmUser.setFirstName("Jane");
+		otherFirmUser.setLastName("Roe");
+		otherFirmUser.setUsername("jroe");
+		otherFirmUser.setPassword("password");
+		otherFirmUser.setRole(UserRole.MANAGER);
+		otherFirmUser.setIsEnabled(true);
+		otherFirmUser.setIsLocked(false);
+		otherFirmUser.setFirm(firmRepository.save(new Firm("Other firm")));
+		otherFirmUser = userRepository.save(otherFirmUser);
+
+		mockMvc.perform(patch("/api/v1/user")
+				.param("id", otherFirmUser.getId().toString())
+				.with(user(user))
+				.contentType("application/merge-patch+json")
+				.content("{\"lastName\": \"Doe\"}"))
+			.andExpect(status().isNotFound())
+			.andExpect(content().string("User with ID " + otherFirmUser.getId() + " does not exist."));
+
+		assertEquals("Roe", userRepository.findById(otherFirmUser.getId()).orElseThrow().getLastName());
+	}
+
+	/**
+	 * A calendar week loads the current user and all appointments in one statement,
+	 * without selecting employees or appointment types.
+	 */
+	@Test
+	void getAppointmentsStatementCountTest() throws Exception {
+		mockMvc.perform(post("/api/v1/appointment/get")
+				.with(user(user))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"from\": \"2024-10-07T00:00:00Z\", \"to\": \"2024-10-14T00:00:00Z\", "
+					+ "\"employeeIds\": [" + user.getId() + "]}"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].id").value(appointment.getId()))
+			.andExpect(jsonPath("$[0].appointmentTypeId").value(appointmentType.getId()));
+
+		assertStatementCount(2);
+	}
+
+	/**
+	 * A calendar view loads the current user and reads the projected days of the range, which
+	 * carry the names of employees and types, in one statement.
+	 */
+	@Test
+	void getCalendarStatementCountTest() throws Exception {
+		mockMvc.perform(post("/api/v1/appointment/calendar")
+				.with(user(user))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"from\": \"2024-10-07T00:00:00Z\", \"to\": \"2024-10-14T00:00:00Z\"}"))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+			.andExpect(jsonPath("$.employees[0].lastName").value("Doe"))
+			.andExpect(jsonPath("$.types[0].name").value("Consultation"))
+			.andExpect(jsonPath("$.ids[0]").value(appointment.getId()))
+			.andExpect(jsonPath("$.startMinutes[0]").value(540))
+			.andExpect(jsonPath("$.durationMinutes[0]").value(30));
+
+		assertStatementCount(2);
+	}
+
+	/**
+	 * A calendar view requested with {@code Accept: application/cbor} is encoded as CBOR.
+	 */
+	@Test
+	void getCalendarCborTest() throws Exception {
+		byte[] body = mockMvc.perform(post("/api/v1/appointment/calendar")
+				.with(user(user))
+				.accept(MediaType.APPLICATION_CBOR)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"from\": \"2024-10-07T00:00:00Z\", \"to\": \"2024-10-14T00:00:00Z\"}"))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+			.andReturn()
+			.getResponse()
+			.getContentAsByteArray();
+
+		JsonNode calendar = new CBORMapper().readTree(body);
+		assertEquals("2024-10-07T00:00:00Z", calendar.get("from").asText());
+		assertEquals(appointment.getId(), calendar.get("ids").get(0).asLong());
+		assertEquals(540, calendar.get("startMinutes").get(0).asInt());
+	}
+
+	/**
+	 * A committed booking is shown by calendar views once projected. Projecting it reads the
+	 * appointments and the recurring series of the booked day in one statement each and replaces
+	 * the row of the day.
+	 */
+	@Test
+	void projectBookingStatementCountTest() throws Exception {
+		mockMvc.perform(post("/api/v1/appointment/create")
+				.with(user(user))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"employeeId\": " + user.getId() + ", \"appointmentTypeId\": " + appointmentType.getId()
+					+ ", \"startTime\": \"2024-10-07T10:00:00Z\"}"))
+			.andExpect(status().isCreated());
+
+		SqlStatementCounter.reset();
+		assertEquals(1, calendarProjectionService.project());
+		assertStatementCount(2);
+
+		mockMvc.perform(post("/api/v1/appointment/calendar")
+				.with(user(user))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"from\": \"2024-10-07T00:00:00Z\", \"to\": \"2024-10-14T00:00:00Z\"}"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.ids.length()").value(2))
+			.andExpect(jsonPath("$.startMinutes[1]").value(600));
+	}
+
+	/**
+	 * Booking loads the current user, the employee and the appointment type, resolves the
+	 * employee's working week from working hours, overrides and closures (cached afterwards),
+	 * looks up the employee's recurring series overlapping the slot, and inserts the row.
+	 */
+	@Test
+	void createAppointmentStatementCountTest() throws Exception {
+		mockMvc.perform(post("/api/v1/appointment/create")
+				.with(user(user))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"employeeId\": " + user.getId() + ", \"appointmentTypeId\": " + appointmentType.getId()
+					+ ", \"startTime\": \"2024-10-07T10:00:00Z\"}"))
+			.andExpect(status().isCreated())
+			.andExpect(jsonPath("$.endTime").value("2024-10-07T10:30:00Z"));
+
+		assertStatementCount(8);
+	}
+
+	/**
+	 * Cancelling loads the current user, executes a single update and deletes the resource
+	 * reservations of the appointment with a single statement.
+	 */
+	@Test
+	void cancelAppointmentStatementCountTest() throws Exception {
+		mockMvc.perform(put("/api/v1/appointment/cancel")
+				.param("id", appointment.getId().toString())
+				.with(user(user)))
+			.andExpect(status().isNoContent());
+
+		assertStatementCount(3);
+	}
+
+	/**
+	 * Fetching the firm explicitly through the filter builder loads it in the same statement.
+	 */
+	@Test
+	void findUserWithFirmStatementCountTest() {
+		User foundUser = userRepository
+			.findOne(UserFilterBuilder.builder().username("jdoe").fetchFirm(true).build().toSpecification())
+			.orElseThrow();
+
+		assertTrue(Hibernate.isInitialized(foundUser.getFirm()));
+		assertEquals("Test firm", foundUser.getFirm().getName());
+		assertStatementCount(1);
+	}
+
+	private void assertStatementCount(int expected) {
+		assertEquals(expected, SqlStatementCounter.statements().size(), String.join("\n", SqlStatementCounter.statements()));
+	}
+}
@@ -0,0 +1,63 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.GroupSessionSignupRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentAttendeeDTO;
+import com.sinergy.chronosync.service.GroupSessionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link GroupSessionController}.
+ */
+class GroupSessionControllerTest {
+
+	@Mock
+	private GroupSessionService groupSessionService;
+
+	@InjectMocks
+	private GroupSessionController groupSessionController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the {@link GroupSessionController#signUp(GroupSessionSignupRequestDTO)} method.
+	 * Verifies that the signup is returned with HTTP status 201.
+	 */
+	@Test
+	void signUpTest() {
+		GroupSessionSignupRequestDTO request = GroupSessionSignupRequestDTO.builder().appointmentId(1L).customerId(2L).build();
+		AppointmentAttendeeDTO attendee = AppointmentAttendeeDTO.builder().id(3L).appointmentId(1L).customerId(2L).build();
+
+		when(groupSessionService.signUp(request)).thenReturn(attendee);
+
+		ResponseEntity<AppointmentAttendeeDTO> response = groupSessionController.signUp(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(response.getBody()).isEqualTo(attendee);
+	}
+
+	/**
+	 * Tests the {@link GroupSessionController#cancelSignup(GroupSessionSignupRequestDTO)} method.
+	 * Verifies that the service is called and HTTP status 204 is returned.
+	 */
+	@Test
+	void cancelSignupTest() {
+		GroupSessionSignupRequestDTO request = GroupSessionSignupRequestDTO.builder().appointmentId(1L).customerId(2L).build();
+
+		ResponseEntity<Void> response = groupSessionController.cancelSignup(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		verify(groupSessionService, times(1)).cancelSignup(request);
+	}
+}
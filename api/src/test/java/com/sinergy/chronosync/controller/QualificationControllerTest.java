@@ -0,0 +1,83 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.EmployeeQualificationRequestDTO;
+import com.sinergy.chronosync.dto.response.EmployeeQualificationResponseDTO;
+import com.sinergy.chronosync.service.QualificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link QualificationController}.
+ */
+class QualificationControllerTest {
+
+	@Mock
+	private QualificationService qualificationService;
+
+	@InjectMocks
+	private QualificationController qualificationController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the {@link QualificationController#getQualifications(EmployeeQualificationRequestDTO)} method.
+	 * Verifies that the qualifications are returned with HTTP status 200.
+	 */
+	@Test
+	void getQualificationsTest() {
+		EmployeeQualificationRequestDTO request = EmployeeQualificationRequestDTO.builder().employeeId(2L).build();
+		List<EmployeeQualificationResponseDTO> qualifications = List.of(
+			EmployeeQualificationResponseDTO.builder().id(9L).employeeId(2L).appointmentTypeId(4L).build()
+		);
+
+		when(qualificationService.getQualifications(request)).thenReturn(qualifications);
+
+		ResponseEntity<List<EmployeeQualificationResponseDTO>> response = qualificationController.getQualifications(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(qualifications);
+	}
+
+	/**
+	 * Tests the {@link QualificationController#grantQualification(EmployeeQualificationRequestDTO)} method.
+	 * Verifies that the created qualification is returned with HTTP status 201.
+	 */
+	@Test
+	void grantQualificationTest() {
+		EmployeeQualificationRequestDTO request = EmployeeQualificationRequestDTO.builder().employeeId(2L).appointmentTypeId(4L).build();
+		EmployeeQualificationResponseDTO qualification = EmployeeQualificationResponseDTO.builder()
+			.id(9L).employeeId(2L).appointmentTypeId(4L).build();
+
+		when(qualificationService.grantQualification(request)).thenReturn(qualification);
+
+		ResponseEntity<EmployeeQualificationResponseDTO> response = qualificationController.grantQualification(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(response.getBody()).isEqualTo(qualification);
+	}
+
+	/**
+	 * Tests the {@link QualificationController#revokeQualification(Long)} method.
+	 * Verifies that the service is called and HTTP status 204 is returned.
+	 */
+	@Test
+	void revokeQualificationTest() {
+		ResponseEntity<Void> response = qualificationController.revokeQualification(9L);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		verify(qualificationService, times(1)).revokeQualification(9L);
+	}
+}
@@ -0,0 +1,77 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.AbsenceRescheduleRequestDTO;
+import com.sinergy.chronosync.dto.response.RescheduleMoveDTO;
+import com.sinergy.chronosync.dto.response.ReschedulePlanDTO;
+import com.sinergy.chronosync.service.RescheduleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link RescheduleController}.
+ */
+class RescheduleControllerTest {
+
+	@Mock
+	private RescheduleService rescheduleService;
+
+	@InjectMocks
+	private RescheduleController rescheduleController;
+
+	private AbsenceRescheduleRequestDTO request;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		request = AbsenceRescheduleRequestDTO.builder()
+			.employeeId(1L)
+			.from(Instant.parse("2099-01-05T09:00:00Z"))
+			.to(Instant.parse("2099-01-05T17:00:00Z"))
+			.build();
+	}
+
+	/**
+	 * Tests the {@link RescheduleController#planAbsence(AbsenceRescheduleRequestDTO)} method.
+	 * Verifies that the plan is returned with HTTP status 200 and nothing is applied.
+	 */
+	@Test
+	void planAbsenceTest() {
+		ReschedulePlanDTO plan = ReschedulePlanDTO.builder()
+			.moves(List.of(RescheduleMoveDTO.builder().appointmentId(2L).fromEmployeeId(1L).toEmployeeId(3L).build()))
+			.unplaced(List.of())
+			.build();
+		when(rescheduleService.planAbsence(request)).thenReturn(plan);
+
+		ResponseEntity<ReschedulePlanDTO> response = rescheduleController.planAbsence(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(plan);
+		verify(rescheduleService, never()).rescheduleAbsence(any());
+	}
+
+	/**
+	 * Tests the {@link RescheduleController#rescheduleAbsence(AbsenceRescheduleRequestDTO)} method.
+	 * Verifies that the applied plan is returned with HTTP status 200.
+	 */
+	@Test
+	void rescheduleAbsenceTest() {
+		ReschedulePlanDTO plan = ReschedulePlanDTO.builder().moves(List.of()).unplaced(List.of()).applied(true).build();
+		when(rescheduleService.rescheduleAbsence(request)).thenReturn(plan);
+
+		ResponseEntity<ReschedulePlanDTO> response = rescheduleController.rescheduleAbsence(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(plan);
+	}
+}
@@ -0,0 +1,88 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.ResourceRequestDTO;
+import com.sinergy.chronosync.dto.request.ResourceReservationRangeRequestDTO;
+import com.sinergy.chronosync.dto.response.ResourceReservationDTO;
+import com.sinergy.chronosync.dto.response.ResourceResponseDTO;
+import com.sinergy.chronosync.service.ResourceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ResourceController}.
+ */
+class ResourceControllerTest {
+
+	@Mock
+	private ResourceService resourceService;
+
+	@InjectMocks
+	private ResourceController resourceController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the {@link ResourceController#createResource(ResourceRequestDTO)} method.
+	 * Verifies that the created resource is returned with HTTP status 201.
+	 */
+	@Test
+	void createResourceTest() {
+		ResourceRequestDTO request = ResourceRequestDTO.builder().name("Room 1").kind("room").build();
+		ResourceResponseDTO resource = ResourceResponseDTO.builder().id(1L).name("Room 1").kind("room").build();
+
+		when(resourceService.createResource(request)).thenReturn(resource);
+
+		ResponseEntity<ResourceResponseDTO> response = resourceController.createResource(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(response.getBody()).isEqualTo(resource);
+	}
+
+	/**
+	 * Tests the {@link ResourceController#deleteResource(Long)} method.
+	 * Verifies that the service is called and HTTP status 204 is returned.
+	 */
+	@Test
+	void deleteResourceTest() {
+		ResponseEntity<Void> response = resourceController.deleteResource(1L);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		verify(resourceService, times(1)).deleteResource(1L);
+	}
+
+	/**
+	 * Tests the {@link ResourceController#getReservations(ResourceReservationRangeRequestDTO)} method.
+	 * Verifies that the reservations of the range are returned.
+	 */
+	@Test
+	void getReservationsTest() {
+		ResourceReservationRangeRequestDTO request = ResourceReservationRangeRequestDTO.builder()
+			.from(Instant.parse("2024-10-07T00:00:00Z"))
+			.to(Instant.parse("2024-10-14T00:00:00Z"))
+			.build();
+		List<ResourceReservationDTO> reservations = List.of(
+			ResourceReservationDTO.builder().resourceId(1L).appointmentId(10L).build()
+		);
+
+		when(resourceService.getReservations(request)).thenReturn(reservations);
+
+		ResponseEntity<List<ResourceReservationDTO>> response = resourceController.getReservations(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(reservations);
+	}
+}
@@ -1,5 +1,7 @@
 package com.sinergy.chronosync.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sinergy.chronosync.dto.request.UserRequestDTO;
 import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.service.UserService;
@@ -56,4 +58,19 @@ class UserControllerTest {
 
 		verify(userService, times(1)).create(any(UserRequestDTO.class));
 	}
+
+	/**
+	 * Tests the {@link UserController#patch(Long, JsonNode)} method.
+	 * Verifies that the patch service is called and the response status is 204 (No Content).
+	 */
+	@Test
+	void patchUserTest() throws Exception {
+		JsonNode patch = new ObjectMapper().readTree("{\"email\": \"john.doe@example.com\"}");
+
+		ResponseEntity<Void> result = userController.patch(1L, patch);
+
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+
+		verify(userService, times(1)).patch(1L, patch);
+	}
 }
@@ -0,0 +1,69 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.WaitlistEntryRequestDTO;
+import com.sinergy.chronosync.dto.response.WaitlistEntryResponseDTO;
+import com.sinergy.chronosync.model.waitlist.WaitlistEntryStatus;
+import com.sinergy.chronosync.service.WaitlistService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link WaitlistController}.
+ */
+class WaitlistControllerTest {
+
+	@Mock
+	private WaitlistService waitlistService;
+
+	@InjectMocks
+	private WaitlistController waitlistController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the {@link WaitlistController#addEntry(WaitlistEntryRequestDTO)} method.
+	 * Verifies that the entry is returned with HTTP status 201.
+	 */
+	@Test
+	void addEntryTest() {
+		WaitlistEntryRequestDTO request = WaitlistEntryRequestDTO.builder()
+			.appointmentTypeId(1L)
+			.customerId(2L)
+			.windowStart(Instant.parse("2099-01-05T09:00:00Z"))
+			.windowEnd(Instant.parse("2099-01-05T17:00:00Z"))
+			.build();
+		WaitlistEntryResponseDTO entry = WaitlistEntryResponseDTO.builder().id(3L).status(WaitlistEntryStatus.WAITING).build();
+
+		when(waitlistService.addEntry(request)).thenReturn(entry);
+
+		ResponseEntity<WaitlistEntryResponseDTO> response = waitlistController.addEntry(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(response.getBody()).isEqualTo(entry);
+	}
+
+	/**
+	 * Tests the {@link WaitlistController#deleteEntry(Long)} method.
+	 * Verifies that the service is called and HTTP status 204 is returned.
+	 */
+	@Test
+	void deleteEntryTest() {
+		ResponseEntity<Void> response = waitlistController.deleteEntry(3L);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		verify(waitlistService, times(1)).deleteEntry(3L);
+	}
+}
@@ -0,0 +1,125 @@
+package com.sinergy.chronosync.controller;
+
+import com.sinergy.chronosync.dto.request.FirmClosureRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursOverrideRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRequestDTO;
+import com.sinergy.chronosync.dto.response.FirmClosureResponseDTO;
+import com.sinergy.chronosync.dto.response.WorkingHoursResponseDTO;
+import com.sinergy.chronosync.service.HolidayCalendarService;
+import com.sinergy.chronosync.service.WorkingHoursService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link WorkingHoursController}.
+ */
+class WorkingHoursControllerTest {
+
+	@Mock
+	private WorkingHoursService workingHoursService;
+
+	@Mock
+	private HolidayCalendarService holidayCalendarService;
+
+	@InjectMocks
+	private WorkingHoursController workingHoursController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the {@link WorkingHoursController#updateWorkingHours(WorkingHoursRequestDTO)} method.
+	 * Verifies that the updated working hours are returned with HTTP status 200.
+	 */
+	@Test
+	void updateWorkingHoursTest() {
+		WorkingHoursRequestDTO request = WorkingHoursRequestDTO.builder().employeeId(1L).days(Map.of()).build();
+		WorkingHoursResponseDTO workingHours = WorkingHoursResponseDTO.builder().employeeId(1L).days(Map.of()).build();
+
+		when(workingHoursService.updateWorkingHours(request)).thenReturn(workingHours);
+
+		ResponseEntity<WorkingHoursResponseDTO> response = workingHoursController.updateWorkingHours(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(workingHours);
+	}
+
+	/**
+	 * Tests the {@link WorkingHoursController#setOverride(WorkingHoursOverrideRequestDTO)} method.
+	 * Verifies that the service is called and HTTP status 204 is returned.
+	 */
+	@Test
+	void setOverrideTest() {
+		WorkingHoursOverrideRequestDTO request = WorkingHoursOverrideRequestDTO.builder()
+			.employeeId(1L)
+			.date(LocalDate.parse("2024-10-07"))
+			.build();
+
+		ResponseEntity<Void> response = workingHoursController.setOverride(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		verify(workingHoursService, times(1)).setOverride(request);
+	}
+
+	/**
+	 * Tests the {@link WorkingHoursController#createClosure(FirmClosureRequestDTO)} method.
+	 * Verifies that the created closure is returned with HTTP status 201.
+	 */
+	@Test
+	void createClosureTest() {
+		FirmClosureRequestDTO request = FirmClosureRequestDTO.builder()
+			.startDate(LocalDate.parse("2024-12-24"))
+			.endDate(LocalDate.parse("2024-12-26"))
+			.build();
+		FirmClosureResponseDTO closure = FirmClosureResponseDTO.builder().id(1L).build();
+
+		when(workingHoursService.createClosure(request)).thenReturn(closure);
+
+		ResponseEntity<FirmClosureResponseDTO> response = workingHoursController.createClosure(request);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(response.getBody()).isEqualTo(closure);
+	}
+
+	/**
+	 * Tests the {@link WorkingHoursController#importHolidayCalendar(String, String)} method.
+	 * Verifies that the closures of the imported calendar are returned with HTTP status 200.
+	 */
+	@Test
+	void importHolidayCalendarTest() {
+		List<FirmClosureResponseDTO> closures = List.of(FirmClosureResponseDTO.builder().id(1L).calendar("public").build());
+
+		when(holidayCalendarService.importCalendar("public", "BEGIN:VCALENDAR")).thenReturn(closures);
+
+		ResponseEntity<List<FirmClosureResponseDTO>> response = workingHoursController.importHolidayCalendar("public", "BEGIN:VCALENDAR");
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).isEqualTo(closures);
+	}
+
+	/**
+	 * Tests the {@link WorkingHoursController#deleteHolidayCalendar(String)} method.
+	 * Verifies that the service is called and HTTP status 204 is returned.
+	 */
+	@Test
+	void deleteHolidayCalendarTest() {
+		ResponseEntity<Void> response = workingHoursController.deleteHolidayCalendar("public");
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+		verify(holidayCalendarService, times(1)).deleteCalendar("public");
+	}
+}
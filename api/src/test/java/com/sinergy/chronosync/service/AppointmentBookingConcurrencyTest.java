@@ -0,0 +1,440 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.BookingLockCoordinator;
+import com.sinergy.chronosync.dto.request.AppointmentRequestDTO;
+import com.sinergy.chronosync.dto.request.GroupSessionSignupRequestDTO;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import com.sinergy.chronosync.model.customer.Customer;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.resource.Resource;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.user.UserRole;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.CustomerRepository;
+import com.sinergy.chronosync.repository.FirmRepository;
+import com.sinergy.chronosync.repository.ResourceRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Stress test for double-booking prevention against a real PostgreSQL database.
+ *
+ * <p>Fires thousands of parallel bookings at a few employees, most of them overlapping each
+ * other, and asserts that every attempt either succeeds or fails with a booking conflict and
+ * that no overlapping booked appointments end up in the database. Likewise fires many more
+ * parallel signups at a group session than it has seats and asserts that it is not oversold, and
+ * books more employees at once than there are rooms and asserts that every room is used. Finally
+ * holds the advisory lock of an employee and asserts that a booking gives up after the timeout.</p>
+ *
+ * <p>Runs only when {@code CHRONOSYNC_TEST_POSTGRES_URL} points to a PostgreSQL database,
+ * e.g. {@code jdbc:postgresql://localhost:5432/chronosync_test}. The schema is migrated with
+ * Flyway; credentials are taken from {@code CHRONOSYNC_TEST_POSTGRES_USERNAME} and
+ * {@code CHRONOSYNC_TEST_POSTGRES_PASSWORD}.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "CHRONOSYNC_TEST_POSTGRES_URL", matches = ".+")
+class AppointmentBookingConcurrencyTest {
+
+	private static final int EMPLOYEES = 3;
+	private static final int ATTEMPTS = 3000;
+	private static final int THREADS = 32;
+	private static final int CAPACITY = 20;
+	private static final int SIGNUPS = 300;
+	private static final int ROOMS = 2;
+	private static final int SLOTS = 16;
+
+	@Autowired
+	private AppointmentService appointmentService;
+
+	@Autowired
+	private GroupSessionService groupSessionService;
+
+	@Autowired
+	private FirmRepository firmRepository;
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private AppointmentTypeRepository appointmentTypeRepository;
+
+	@Autowired
+	private ResourceRepository resourceRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> System.getenv("CHRONOSYNC_TEST_POSTGRES_URL"));
+		registry.add("spring.datasource.username", () -> env("CHRONOSYNC_TEST_POSTGRES_USERNAME", "postgres"));
+		registry.add("spring.datasource.password", () -> env("CHRONOSYNC_TEST_POSTGRES_PASSWORD", ""));
+		registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+		registry.add("spring.datasource.hikari.maximum-pool-size", () -> THREADS);
+		registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+		registry.add("spring.flyway.enabled", () -> true);
+		registry.add("appointments.locking.advisory-locks", () -> true);
+	}
+
+	/**
+	 * Books random 30 minute slots within two hours for a few employees from many threads,
+	 * so that most attempts conflict, and checks that no overlap was committed.
+	 */
+	@Test
+	void parallelConflictingBookingsTest() throws Exception {
+		Firm firm = firmRepository.save(new Firm("Stress test firm " + UUID.randomUUID()));
+		String username = "manager-" + UUID.randomUUID();
+		createUser(firm, username, UserRole.MANAGER);
+
+		List<Long> employeeIds = new ArrayList<>();
+		for (int i = 0; i < EMPLOYEES; i++) {
+			employeeIds.add(createUser(firm, "employee-" + UUID.randomUUID(), UserRole.EMPLOYEE).getId());
+		}
+
+		AppointmentType appointmentType = appointmentTypeRepository.save(AppointmentType.builder()
+			.name("Consultation")
+			.durationMinutes(30)
+			.price(50.0)
+			.currency(Currency.EUR)
+			.firm(firm)
+			.build());
+
+		Instant dayStart = Instant.parse("2030-01-07T08:00:00Z");
+		AtomicInteger booked = new AtomicInteger();
+		AtomicInteger conflicts = new AtomicInteger();
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+				futures.add(executor.submit(() -> {
+					SecurityContextHolder.getContext().setAuthentication(
+						new UsernamePasswordAuthenticationToken(username, null, List.of())
+					);
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					try {
+						appointmentService.createAppointment(AppointmentRequestDTO.builder()
+							.employeeId(employeeIds.get(random.nextInt(EMPLOYEES)))
+							.appointmentTypeId(appointmentType.getId())
+							.startTime(dayStart.plus(random.nextInt(24) * 5L, ChronoUnit.MINUTES))
+							.build());
+						booked.incrementAndGet();
+					} catch (BookingConflictException e) {
+						conflicts.incrementAndGet();
+					} finally {
+						SecurityContextHolder.clearContext();
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		Integer overlaps = jdbcTemplate.queryForObject(
+			"""
+				select count(*) from appointments a
+				join appointments b on a.employee_id = b.employee_id and a.id < b.id
+				where a.firm_id = ? and a.status = 'BOOKED' and b.status = 'BOOKED'
+				and tstzrange(a.start_time, a.end_time, '[)') && tstzrange(b.start_time, b.end_time, '[)')
+				""",
+			Integer.class,
+			firm.getId()
+		);
+		Integer stored = jdbcTemplate.queryForObject(
+			"select count(*) from appointments where firm_id = ?", Integer.class, firm.getId()
+		);
+
+		assertThat(booked.get() + conflicts.get()).isEqualTo(ATTEMPTS);
+		assertThat(booked.get()).isPositive().isLessThanOrEqualTo(EMPLOYEES * 4);
+		assertThat(stored).isEqualTo(booked.get());
+		assertThat(overlaps).isZero();
+	}
+
+	/**
+	 * Signs many customers up to a group session from many threads and checks that exactly its
+	 * capacity is taken, both in attendees and in the seats left.
+	 */
+	@Test
+	void parallelGroupSessionSignupsTest() throws Exception {
+		Firm firm = firmRepository.save(new Firm("Stress test firm " + UUID.randomUUID()));
+		String username = "manager-" + UUID.randomUUID();
+		createUser(firm, username, UserRole.MANAGER);
+		User employee = createUser(firm, "employee-" + UUID.randomUUID(), UserRole.EMPLOYEE);
+
+		AppointmentType appointmentType = appointmentTypeRepository.save(AppointmentType.builder()
+			.name("Workshop")
+			.durationMinutes(60)
+			.price(20.0)
+			.currency(Currency.EUR)
+			.capacity(CAPACITY)
+			.firm(firm)
+			.build());
+
+		List<Long> customerIds = new ArrayList<>();
+		for (int i = 0; i < SIGNUPS; i++) {
+			Customer customer = new Customer();
+			customer.setFirm(firm);
+			customerIds.add(customerRepository.save(customer).getId());
+		}
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(username, null, List.of()));
+		Long sessionId;
+		try {
+			sessionId = appointmentService.createAppointment(AppointmentRequestDTO.builder()
+				.employeeId(employee.getId())
+				.appointmentTypeId(appointmentType.getId())
+				.startTime(Instant.parse("2030-01-08T10:00:00Z"))
+				.build()).getId();
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+
+		AtomicInteger signedUp = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (Long customerId : customerIds) {
+				futures.add(executor.submit(() -> {
+					SecurityContextHolder.getContext().setAuthentication(
+						new UsernamePasswordAuthenticationToken(username, null, List.of())
+					);
+					try {
+						groupSessionService.signUp(GroupSessionSignupRequestDTO.builder()
+							.appointmentId(sessionId)
+							.customerId(customerId)
+							.build());
+						signedUp.incrementAndGet();
+					} catch (BookingConflictException e) {
+						rejected.incrementAndGet();
+					} finally {
+						SecurityContextHolder.clearContext();
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		Integer attendees = jdbcTemplate.queryForObject(
+			"select count(*) from appointment_attendees where appointment_id = ?", Integer.class, sessionId
+		);
+		Integer seatsLeft = jdbcTemplate.queryForObject(
+			"select seats_left from appointments where id = ?", Integer.class, sessionId
+		);
+
+		assertThat(signedUp.get()).isEqualTo(CAPACITY);
+		assertThat(rejected.get()).isEqualTo(SIGNUPS - CAPACITY);
+		assertThat(attendees).isEqualTo(CAPACITY);
+		assertThat(seatsLeft).isZero();
+	}
+
+	/**
+	 * Books one more employee than there are rooms into every slot of a day from many threads,
+	 * with an appointment type requiring a room, and checks that every room is booked in every
+	 * slot, so concurrent bookings did not all choose the same free room.
+	 */
+	@Test
+	void parallelResourceBookingsTest() throws Exception {
+		Firm firm = firmRepository.save(new Firm("Stress test firm " + UUID.randomUUID()));
+		String username = "manager-" + UUID.randomUUID();
+		createUser(firm, username, UserRole.MANAGER);
+
+		List<Long> employeeIds = new ArrayList<>();
+		for (int i = 0; i <= ROOMS; i++) {
+			employeeIds.add(createUser(firm, "employee-" + UUID.randomUUID(), UserRole.EMPLOYEE).getId());
+		}
+		for (int i = 0; i < ROOMS; i++) {
+			resourceRepository.save(Resource.builder().firm(firm).name("Room " + i).kind("room").build());
+		}
+
+		AppointmentType appointmentType = appointmentTypeRepository.save(AppointmentType.builder()
+			.name("Treatment")
+			.durationMinutes(30)
+			.price(50.0)
+			.currency(Currency.EUR)
+			.resourceKinds(Set.of("room"))
+			.firm(firm)
+			.build());
+
+		Instant dayStart = Instant.parse("2030-01-09T08:00:00Z");
+		AtomicInteger booked = new AtomicInteger();
+		AtomicInteger conflicts = new AtomicInteger();
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int slot = 0; slot < SLOTS; slot++) {
+				Instant startTime = dayStart.plus(slot * 30L, ChronoUnit.MINUTES);
+				for (Long employeeId : employeeIds) {
+					futures.add(executor.submit(() -> {
+						SecurityContextHolder.getContext().setAuthentication(
+							new UsernamePasswordAuthenticationToken(username, null, List.of())
+						);
+						try {
+							appointmentService.createAppointment(AppointmentRequestDTO.builder()
+								.employeeId(employeeId)
+								.appointmentTypeId(appointmentType.getId())
+								.startTime(startTime)
+								.build());
+							booked.incrementAndGet();
+						} catch (BookingConflictException e) {
+							conflicts.incrementAndGet();
+						} finally {
+							SecurityContextHolder.clearContext();
+						}
+					}));
+				}
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		Integer fullSlots = jdbcTemplate.queryForObject(
+			"""
+				select count(*) from (
+					select ar.start_time from appointment_resources ar
+					join resources r on r.id = ar.resource_id
+					where r.firm_id = ?
+					group by ar.start_time
+					having count(distinct ar.resource_id) = ?
+				) full_slots
+				""",
+			Integer.class,
+			firm.getId(),
+			ROOMS
+		);
+
+		assertThat(booked.get()).isEqualTo(ROOMS * SLOTS);
+		assertThat(conflicts.get()).isEqualTo(SLOTS);
+		assertThat(fullSlots).isEqualTo(SLOTS);
+	}
+
+	/**
+	 * Holds the advisory lock of an employee in another transaction, as a stuck booking on another
+	 * instance would, and checks that a booking of the employee gives up after the lock timeout
+	 * with a conflict instead of waiting for it.
+	 */
+	@Test
+	void advisoryLockTimeoutTest() throws Exception {
+		Firm firm = firmRepository.save(new Firm("Stress test firm " + UUID.randomUUID()));
+		String username = "manager-" + UUID.randomUUID();
+		createUser(firm, username, UserRole.MANAGER);
+		User employee = createUser(firm, "employee-" + UUID.randomUUID(), UserRole.EMPLOYEE);
+		AppointmentType appointmentType = appointmentTypeRepository.save(AppointmentType.builder()
+			.name("Consultation")
+			.durationMinutes(30)
+			.price(50.0)
+			.currency(Currency.EUR)
+			.firm(firm)
+			.build());
+
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> holder = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				jdbcTemplate.query(
+					"select pg_advisory_xact_lock(?)",
+					resultSet -> null,
+					BookingLockCoordinator.Scope.EMPLOYEE.getNamespace() << 48 | employee.getId()
+				);
+				locked.countDown();
+				try {
+					release.await(30, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}));
+			assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+			SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(username, null, List.of()));
+			long started = System.nanoTime();
+			try {
+				assertThatThrownBy(() -> appointmentService.createAppointment(AppointmentRequestDTO.builder()
+					.employeeId(employee.getId())
+					.appointmentTypeId(appointmentType.getId())
+					.startTime(Instant.parse("2030-01-07T08:00:00Z"))
+					.build())).isInstanceOf(BookingConflictException.class);
+			} finally {
+				SecurityContextHolder.clearContext();
+				release.countDown();
+			}
+			assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(20));
+			holder.get();
+		} finally {
+			executor.shutdown();
+		}
+
+		Integer stored = jdbcTemplate.queryForObject(
+			"select count(*) from appointments where firm_id = ?", Integer.class, firm.getId()
+		);
+		assertThat(stored).isZero();
+	}
+
+	private User createUser(Firm firm, String username, UserRole role) {
+		User user = new User();
+		user.setFirstName("Test");
+		user.setLastName("User");
+		user.setUsername(username);
+		user.setPassword("password");
+		user.setRole(role);
+		user.setIsEnabled(true);
+		user.setIsLocked(false);
+		user.setFirm(firm);
+		return userRepository.save(user);
+	}
+
+	private static String env(String name, String defaultValue) {
+		String value = System.getenv(name);
+		return value != null ? value : defaultValue;
+	}
+}
@@ -0,0 +1,454 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.BookingLockCoordinator;
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.dto.request.AppointmentOccurrenceRequestDTO;
+import com.sinergy.chronosync.dto.request.AppointmentSeriesRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentOccurrenceDTO;
+import com.sinergy.chronosync.dto.response.AppointmentSeriesResponseDTO;
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentSeries;
+import com.sinergy.chronosync.model.appointment.AppointmentSeriesOverride;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointment.SlotHold;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.*;
+import com.sinergy.chronosync.repository.EmployeeQualificationRepository;
+import com.sinergy.chronosync.service.impl.AppointmentSeriesServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentSeriesServiceImpl}.
+ */
+class AppointmentSeriesServiceTest {
+
+	private static final Instant MONDAY = Instant.parse("2024-10-07T09:00:00Z");
+
+	@Mock
+	private AppointmentSeriesRepository seriesRepository;
+
+	@Mock
+	private AppointmentSeriesOverrideRepository overrideRepository;
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+
+	@Mock
+	private CustomerRepository customerRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private AuditService auditService;
+
+	@Mock
+	private BookingLockCoordinator lockCoordinator;
+
+	@Mock
+	private WorkingHoursService workingHoursService;
+
+	@Mock
+	private SlotHoldService slotHoldService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private AppointmentSeriesServiceImpl appointmentSeriesService;
+
+	private Firm firm;
+
+	private User employee;
+
+	private AppointmentType appointmentType;
+
+	@Mock
+	private EmployeeQualificationRepository qualificationRepository;
+
+	private QualificationIndex qualificationIndex;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+
+		qualificationIndex = new QualificationIndex(qualificationRepository, appointmentTypeRepository, Duration.ofMinutes(5));
+		appointmentSeriesService = new AppointmentSeriesServiceImpl(
+			seriesRepository, overrideRepository, appointmentRepository, appointmentTypeRepository,
+			customerRepository, userRepository, userService, auditService, lockCoordinator, qualificationIndex,
+			workingHoursService, slotHoldService, eventPublisher, Duration.ofDays(365), 100, 64
+		);
+
+		firm = new Firm();
+		firm.setId(1L);
+		when(userService.getAuthUserFirm()).thenReturn(firm);
+
+		employee = new User();
+		employee.setId(2L);
+		employee.setFirm(firm);
+
+		appointmentType = AppointmentType.builder().durationMinutes(30).firm(firm).build();
+		appointmentType.setId(4L);
+	}
+
+	/**
+	 * Tests that a series is stored as a single row with the canonical rule and the end of its last
+	 * occurrence, which moves by an hour in UTC as the series keeps its local time across the DST change.
+	 */
+	@Test
+	void createSeriesTest() {
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(employee));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointmentType));
+		when(seriesRepository.save(any(AppointmentSeries.class))).thenAnswer(invocation -> {
+			AppointmentSeries saved = invocation.getArgument(0);
+			saved.setId(10L);
+			return saved;
+		});
+
+		AppointmentSeriesResponseDTO response = appointmentSeriesService.createSeries(getRequest("FREQ=WEEKLY;BYDAY=MO;COUNT=10"));
+
+		assertThat(response.getId()).isEqualTo(10L);
+		assertThat(response.getRecurrenceRule()).isEqualTo("FREQ=WEEKLY;INTERVAL=1;BYDAY=MO;COUNT=10");
+		assertThat(response.getUntilTime()).isEqualTo(MONDAY.plus(63, ChronoUnit.DAYS).plus(90, ChronoUnit.MINUTES));
+		verify(seriesRepository, times(1)).save(any(AppointmentSeries.class));
+		verify(lockCoordinator, times(1)).lock(BookingLockCoordinator.Scope.EMPLOYEE, List.of(2L));
+		verify(auditService, times(1)).publish(AuditAction.CREATE, AppointmentSeries.class, 10L);
+
+		List<AppointmentChangedEvent> events = publishedEvents(10);
+		assertThat(events).extracting(AppointmentChangedEvent::getChange).containsOnly(AppointmentChangedEvent.Change.BOOKED);
+		assertThat(events).extracting(AppointmentChangedEvent::getSeriesId).containsOnly(10L);
+		assertThat(events.getFirst().getOriginalStartTime()).isEqualTo(MONDAY);
+		assertThat(events.getFirst().getEndTime()).isEqualTo(MONDAY.plus(30, ChronoUnit.MINUTES));
+	}
+
+	/**
+	 * Tests that cancelling a series publishes the cancellation of every occurrence up to the
+	 * conflict horizon.
+	 */
+	@Test
+	void cancelSeriesTest() {
+		AppointmentSeries series = getSeries();
+		when(seriesRepository.findOne(Mockito.<Specification<AppointmentSeries>>any())).thenReturn(Optional.of(series));
+
+		appointmentSeriesService.cancelSeries(10L);
+
+		assertThat(series.getStatus()).isEqualTo(AppointmentStatus.CANCELLED);
+		ArgumentCaptor<AppointmentChangedEvent> captor = ArgumentCaptor.forClass(AppointmentChangedEvent.class);
+		verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+		assertThat(captor.getAllValues()).extracting(AppointmentChangedEvent::getChange)
+			.containsOnly(AppointmentChangedEvent.Change.CANCELLED);
+		assertThat(captor.getAllValues().getFirst().getStartTime()).isEqualTo(MONDAY);
+		assertThat(captor.getAllValues().getLast().getStartTime()).isBefore(Instant.now().plus(365, ChronoUnit.DAYS));
+		verify(auditService, times(1)).publish(AuditAction.CANCEL, AppointmentSeries.class, 10L);
+	}
+
+	/**
+	 * Tests that a series overlapping a booked appointment of the employee is rejected.
+	 */
+	@Test
+	void createSeriesConflictTest() {
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(employee));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointmentType));
+		Instant booked = MONDAY.plus(7, ChronoUnit.DAYS).plus(15, ChronoUnit.MINUTES);
+		when(appointmentRepository.findAll(Mockito.<Specification<Appointment>>any())).thenReturn(List.of(
+			Appointment.builder().startTime(booked).endTime(booked.plus(1, ChronoUnit.HOURS)).build()
+		));
+
+		BookingConflictException exception = assertThrows(
+			BookingConflictException.class,
+			() -> appointmentSeriesService.createSeries(getRequest("FREQ=WEEKLY;BYDAY=MO"))
+		);
+
+		assertThat(exception.getMessage()).contains(MONDAY.plus(7, ChronoUnit.DAYS).toString());
+		verify(seriesRepository, never()).save(any());
+	}
+
+	/**
+	 * Tests that a series with an occurrence outside the working time of the employee is rejected
+	 * before the employee is locked.
+	 */
+	@Test
+	void createSeriesWorkingTimeTest() {
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(employee));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointmentType));
+		Instant closed = MONDAY.plus(14, ChronoUnit.DAYS);
+		doThrow(new InvalidStateException("Employee does not work at the requested time."))
+			.when(workingHoursService).validateWorkingTime(1L, 2L, closed, closed.plus(30, ChronoUnit.MINUTES));
+
+		InvalidStateException exception = assertThrows(
+			InvalidStateException.class,
+			() -> appointmentSeriesService.createSeries(getRequest("FREQ=WEEKLY;BYDAY=MO;COUNT=10"))
+		);
+
+		assertThat(exception.getMessage()).contains(closed.toString());
+		verify(workingHoursService, times(3)).validateWorkingTime(eq(1L), eq(2L), any(), any());
+		verify(lockCoordinator, never()).lock(any(), any());
+		verify(seriesRepository, never()).save(any());
+	}
+
+	/**
+	 * Tests that a series overlapping a slot held by a customer is rejected.
+	 */
+	@Test
+	void createSeriesHeldSlotTest() {
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(employee));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointmentType));
+		Instant held = MONDAY.plus(14, ChronoUnit.DAYS).plus(15, ChronoUnit.MINUTES);
+		when(slotHoldService.findHolds(eq(List.of(2L)), any(), any())).thenReturn(List.of(SlotHold.builder()
+			.employeeId(2L)
+			.startTime(held)
+			.endTime(held.plus(30, ChronoUnit.MINUTES))
+			.build()));
+
+		BookingConflictException exception = assertThrows(
+			BookingConflictException.class,
+			() -> appointmentSeriesService.createSeries(getRequest("FREQ=WEEKLY;BYDAY=MO;COUNT=10"))
+		);
+
+		assertThat(exception.getMessage()).contains(MONDAY.plus(14, ChronoUnit.DAYS).toString());
+		verify(seriesRepository, never()).save(any());
+	}
+
+	/**
+	 * Tests that appointment types requiring resources or seats are not booked as series, since
+	 * occurrences reserve neither.
+	 */
+	@Test
+	void createSeriesUnsupportedTypeTest() {
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(employee));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointmentType));
+
+		appointmentType.setResourceKinds(Set.of("ROOM"));
+		assertThrows(InvalidStateException.class, () -> appointmentSeriesService.createSeries(getRequest("FREQ=WEEKLY;BYDAY=MO")));
+		appointmentType.setResourceKinds(null);
+		appointmentType.setCapacity(5);
+		assertThrows(InvalidStateException.class, () -> appointmentSeriesService.createSeries(getRequest("FREQ=WEEKLY;BYDAY=MO")));
+
+		verify(lockCoordinator, never()).lock(any(), any());
+		verify(seriesRepository, never()).save(any());
+	}
+
+	/**
+	 * Tests that invalid rules and first occurrences not matching the rule are rejected.
+	 */
+	@Test
+	void createSeriesInvalidRuleTest() {
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(employee));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointmentType));
+
+		assertThrows(InvalidStateException.class, () -> appointmentSeriesService.createSeries(getRequest("FREQ=HOURLY")));
+		assertThrows(InvalidStateException.class, () -> appointmentSeriesService.createSeries(getRequest("FREQ=WEEKLY;BYDAY=TU")));
+
+		verify(seriesRepository, never()).save(any());
+	}
+
+	/**
+	 * Tests that occurrences are expanded into the requested window with cancelled and moved
+	 * occurrences applied, and that expanded windows are served from the cache afterwards.
+	 */
+	@Test
+	void findOccurrencesTest() {
+		AppointmentSeries series = getSeries();
+		Instant cancelled = MONDAY.plus(7, ChronoUnit.DAYS);
+		Instant moved = MONDAY.plus(14, ChronoUnit.DAYS);
+		when(seriesRepository.findAll(Mockito.<Specification<AppointmentSeries>>any())).thenReturn(List.of(series));
+		when(overrideRepository.findAll(Mockito.<Specification<AppointmentSeriesOverride>>any())).thenReturn(List.of(
+			AppointmentSeriesOverride.builder().series(series).originalStartTime(cancelled).build(),
+			AppointmentSeriesOverride.builder().series(series).originalStartTime(moved).startTime(moved.plus(1, ChronoUnit.DAYS)).build()
+		));
+
+		Instant from = MONDAY.minus(1, ChronoUnit.DAYS);
+		Instant to = MONDAY.plus(22, ChronoUnit.DAYS);
+		List<AppointmentOccurrenceDTO> occurrences = appointmentSeriesService.findOccurrences(1L, List.of(2L), from, to);
+		List<AppointmentOccurrenceDTO> cached = appointmentSeriesService.findOccurrences(1L, List.of(2L), from, to);
+
+		assertThat(occurrences).extracting(AppointmentOccurrenceDTO::getStartTime).containsExactly(
+			MONDAY, moved.plus(1, ChronoUnit.DAYS), MONDAY.plus(21, ChronoUnit.DAYS)
+		);
+		assertThat(occurrences.get(1).getOriginalStartTime()).isEqualTo(moved);
+		assertThat(occurrences.get(1).getEndTime()).isEqualTo(moved.plus(1, ChronoUnit.DAYS).plus(30, ChronoUnit.MINUTES));
+		assertThat(cached).isEqualTo(occurrences);
+		verify(overrideRepository, times(1)).findAll(Mockito.<Specification<AppointmentSeriesOverride>>any());
+	}
+
+	/**
+	 * Tests that cancelling an occurrence stores an override and invalidates the cached windows.
+	 */
+	@Test
+	void cancelOccurrenceTest() {
+		AppointmentSeries series = getSeries();
+		when(seriesRepository.findAll(Mockito.<Specification<AppointmentSeries>>any())).thenReturn(List.of(series));
+		when(seriesRepository.findOne(Mockito.<Specification<AppointmentSeries>>any())).thenReturn(Optional.of(series));
+		when(overrideRepository.findOne(Mockito.<Specification<AppointmentSeriesOverride>>any())).thenReturn(Optional.empty());
+
+		Instant occurrence = MONDAY.plus(7, ChronoUnit.DAYS);
+		assertThat(appointmentSeriesService.hasConflict(1L, 2L, occurrence, occurrence.plus(1, ChronoUnit.HOURS))).isTrue();
+
+		appointmentSeriesService.cancelOccurrence(AppointmentOccurrenceRequestDTO.builder()
+			.seriesId(10L)
+			.originalStartTime(occurrence)
+			.build());
+
+		ArgumentCaptor<AppointmentSeriesOverride> captor = ArgumentCaptor.forClass(AppointmentSeriesOverride.class);
+		verify(overrideRepository, times(1)).save(captor.capture());
+		assertThat(captor.getValue().isCancelled()).isTrue();
+		assertThat(series.getRevision()).isEqualTo(1);
+		AppointmentChangedEvent event = publishedEvents(1).getFirst();
+		assertThat(event.getChange()).isEqualTo(AppointmentChangedEvent.Change.CANCELLED);
+		assertThat(event.getStartTime()).isEqualTo(occurrence);
+		assertThat(event.getOriginalStartTime()).isEqualTo(occurrence);
+		assertThat(event.getAppointmentId()).isNull();
+
+		when(overrideRepository.findAll(Mockito.<Specification<AppointmentSeriesOverride>>any())).thenReturn(List.of(captor.getValue()));
+		assertThat(appointmentSeriesService.hasConflict(1L, 2L, occurrence, occurrence.plus(1, ChronoUnit.HOURS))).isFalse();
+	}
+
+	/**
+	 * Tests that only occurrences given by the rule can be cancelled.
+	 */
+	@Test
+	void cancelOccurrenceNotFoundTest() {
+		when(seriesRepository.findOne(Mockito.<Specification<AppointmentSeries>>any())).thenReturn(Optional.of(getSeries()));
+		when(overrideRepository.findOne(Mockito.<Specification<AppointmentSeriesOverride>>any())).thenReturn(Optional.empty());
+
+		assertThrows(
+			InvalidStateException.class,
+			() -> appointmentSeriesService.cancelOccurrence(AppointmentOccurrenceRequestDTO.builder()
+				.seriesId(10L)
+				.originalStartTime(MONDAY.plus(8, ChronoUnit.DAYS))
+				.build())
+		);
+
+		verify(overrideRepository, never()).save(any());
+	}
+
+	/**
+	 * Tests that an occurrence cannot be moved outside the working time of the employee.
+	 */
+	@Test
+	void rescheduleOccurrenceWorkingTimeTest() {
+		AppointmentSeries series = getSeries();
+		when(seriesRepository.findOne(Mockito.<Specification<AppointmentSeries>>any())).thenReturn(Optional.of(series));
+		when(overrideRepository.findOne(Mockito.<Specification<AppointmentSeriesOverride>>any())).thenReturn(Optional.empty());
+		Instant night = MONDAY.plus(7, ChronoUnit.DAYS).plus(12, ChronoUnit.HOURS);
+		doThrow(new InvalidStateException("Employee does not work at the requested time."))
+			.when(workingHoursService).validateWorkingTime(1L, 2L, night, night.plus(30, ChronoUnit.MINUTES));
+
+		assertThrows(
+			InvalidStateException.class,
+			() -> appointmentSeriesService.rescheduleOccurrence(AppointmentOccurrenceRequestDTO.builder()
+				.seriesId(10L)
+				.originalStartTime(MONDAY.plus(7, ChronoUnit.DAYS))
+				.startTime(night)
+				.build())
+		);
+
+		verify(lockCoordinator, never()).lock(any(), any());
+		verify(overrideRepository, never()).save(any());
+	}
+
+	/**
+	 * Tests that an occurrence can be moved to a free time but not onto another occurrence of the series.
+	 */
+	@Test
+	void rescheduleOccurrenceTest() {
+		AppointmentSeries series = getSeries();
+		when(seriesRepository.findAll(Mockito.<Specification<AppointmentSeries>>any())).thenReturn(List.of(series));
+		when(seriesRepository.findOne(Mockito.<Specification<AppointmentSeries>>any())).thenReturn(Optional.of(series));
+		when(overrideRepository.findOne(Mockito.<Specification<AppointmentSeriesOverride>>any())).thenReturn(Optional.empty());
+
+		Instant occurrence = MONDAY.plus(7, ChronoUnit.DAYS);
+		assertThrows(
+			BookingConflictException.class,
+			() -> appointmentSeriesService.rescheduleOccurrence(AppointmentOccurrenceRequestDTO.builder()
+				.seriesId(10L)
+				.originalStartTime(occurrence)
+				.startTime(MONDAY.plus(14, ChronoUnit.DAYS))
+				.build())
+		);
+
+		AppointmentOccurrenceDTO moved = appointmentSeriesService.rescheduleOccurrence(AppointmentOccurrenceRequestDTO.builder()
+			.seriesId(10L)
+			.originalStartTime(occurrence)
+			.startTime(occurrence.plus(15, ChronoUnit.MINUTES))
+			.build());
+
+		assertThat(moved.getStartTime()).isEqualTo(occurrence.plus(15, ChronoUnit.MINUTES));
+		assertThat(moved.getOriginalStartTime()).isEqualTo(occurrence);
+		verify(overrideRepository, times(1)).save(any());
+		verify(auditService, times(1)).publish(AuditAction.UPDATE, AppointmentSeries.class, 10L);
+		AppointmentChangedEvent event = publishedEvents(1).getFirst();
+		assertThat(event.getChange()).isEqualTo(AppointmentChangedEvent.Change.MOVED);
+		assertThat(event.getStartTime()).isEqualTo(occurrence.plus(15, ChronoUnit.MINUTES));
+		assertThat(event.getPreviousStartTime()).isEqualTo(occurrence);
+		assertThat(event.getPreviousEmployeeId()).isEqualTo(2L);
+		assertThat(event.getSeriesId()).isEqualTo(10L);
+	}
+
+	private List<AppointmentChangedEvent> publishedEvents(int times) {
+		ArgumentCaptor<AppointmentChangedEvent> captor = ArgumentCaptor.forClass(AppointmentChangedEvent.class);
+		verify(eventPublisher, times(times)).publishEvent(captor.capture());
+		return captor.getAllValues();
+	}
+
+	private AppointmentSeriesRequestDTO getRequest(String recurrenceRule) {
+		return AppointmentSeriesRequestDTO.builder()
+			.employeeId(2L)
+			.appointmentTypeId(4L)
+			.startTime(MONDAY)
+			.timeZone("Europe/Sarajevo")
+			.recurrenceRule(recurrenceRule)
+			.build();
+	}
+
+	/**
+	 * Gets mock endless weekly series on Mondays 9:00 - 9:30 UTC.
+	 * @return {@link AppointmentSeries}
+	 */
+	private AppointmentSeries getSeries() {
+		AppointmentSeries series = AppointmentSeries.builder()
+			.firm(firm)
+			.employee(employee)
+			.appointmentType(appointmentType)
+			.startTime(MONDAY)
+			.timeZone("UTC")
+			.durationMinutes(30)
+			.recurrenceRule("FREQ=WEEKLY;INTERVAL=1;BYDAY=MO")
+			.status(AppointmentStatus.BOOKED)
+			.revision(0)
+			.build();
+		series.setId(10L);
+		return series;
+	}
+}
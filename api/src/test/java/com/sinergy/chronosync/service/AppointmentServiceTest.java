@@ -0,0 +1,729 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.AppointmentIntervalIndex;
+import com.sinergy.chronosync.config.BookingLockCoordinator;
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.dto.request.AppointmentRangeRequestDTO;
+import com.sinergy.chronosync.dto.request.AppointmentRequestDTO;
+import com.sinergy.chronosync.dto.request.SlotAvailabilityRequestDTO;
+import com.sinergy.chronosync.dto.request.SlotHoldConfirmRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentResponseDTO;
+import com.sinergy.chronosync.dto.response.CalendarEmployeeDTO;
+import com.sinergy.chronosync.dto.response.CalendarTypeDTO;
+import com.sinergy.chronosync.dto.response.CalendarViewDTO;
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointment.SlotHold;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.calendar.CalendarDay;
+import com.sinergy.chronosync.model.calendar.CalendarDayEntry;
+import com.sinergy.chronosync.model.calendar.CalendarDayId;
+import com.sinergy.chronosync.model.customer.Customer;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.CustomerRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.impl.AppointmentServiceImpl;
+import com.sinergy.chronosync.util.SqlStateUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AppointmentServiceImpl}.
+ */
+class AppointmentServiceTest {
+
+	private static final Instant MONDAY = Instant.parse("2024-10-07T00:00:00Z");
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+
+	@Mock
+	private CustomerRepository customerRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private AuditService auditService;
+
+	@Mock
+	private AppointmentIntervalIndex intervalIndex;
+
+	@Mock
+	private AppointmentSeriesService appointmentSeriesService;
+
+	@Mock
+	private BookingLockCoordinator lockCoordinator;
+
+	@Mock
+	private SlotHoldService slotHoldService;
+
+	@Mock
+	private WorkingHoursService workingHoursService;
+
+	@Mock
+	private ResourceService resourceService;
+
+	@Mock
+	private WaitlistService waitlistService;
+
+	@Mock
+	private QualificationIndex qualificationIndex;
+
+	@Mock
+	private CalendarProjectionService calendarProjectionService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private AppointmentServiceImpl appointmentService;
+
+	private Firm firm;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+
+		firm = new Firm();
+		firm.setId(1L);
+		when(userService.getAuthUserFirm()).thenReturn(firm);
+		when(qualificationIndex.isQualified(any(), any(), any())).thenReturn(true);
+	}
+
+	/**
+	 * Tests that appointments of a week are read with a single query and mapped to responses.
+	 */
+	@Test
+	void getAppointmentsTest() {
+		Appointment appointment = getAppointment();
+		when(appointmentRepository.findAll(Mockito.<Specification<Appointment>>any(), any(Sort.class)))
+			.thenReturn(List.of(appointment));
+
+		List<AppointmentResponseDTO> result = appointmentService.getAppointments(AppointmentRangeRequestDTO.builder()
+			.from(MONDAY)
+			.to(MONDAY.plus(7, ChronoUnit.DAYS))
+			.employeeIds(List.of(2L, 3L))
+			.build());
+
+		assertThat(result).hasSize(1);
+		assertThat(result.getFirst().getEmployeeId()).isEqualTo(2L);
+		assertThat(result.getFirst().getAppointmentTypeId()).isEqualTo(4L);
+		assertThat(result.getFirst().getEndTime()).isEqualTo(MONDAY.plus(9, ChronoUnit.HOURS).plus(30, ChronoUnit.MINUTES));
+
+		verify(appointmentRepository, times(1))
+			.findAll(Mockito.<Specification<Appointment>>any(), eq(Sort.by("startTime", "id")));
+	}
+
+	/**
+	 * Tests that the calendar view is read from the projected days, lists every employee and type
+	 * once and encodes appointments as minute offsets from the start of the range. Appointments
+	 * of the day before the range are read but left out unless they overlap it.
+	 */
+	@Test
+	void getCalendarTest() {
+		LocalDate monday = LocalDate.of(2024, 10, 7);
+		when(calendarProjectionService.getDays(1L, null, monday.minusDays(1), monday.plusDays(6))).thenReturn(List.of(
+			getMockCalendarDay(monday.minusDays(1), 2L, "Ana", "Horvat",
+				getMockCalendarDayEntry(9L, 1380, 30, 4L, "Consultation", "#FFFFFF", AppointmentStatus.BOOKED)),
+			getMockCalendarDay(monday, 2L, "Ana", "Horvat",
+				getMockCalendarDayEntry(10L, 540, 30, 4L, "Consultation", "#FFFFFF", AppointmentStatus.BOOKED)),
+			getMockCalendarDay(monday, 3L, "Ivo", "Kovac",
+				getMockCalendarDayEntry(11L, 540, 60, 4L, "Consultation", "#FFFFFF", AppointmentStatus.CANCELLED)),
+			getMockCalendarDay(monday.plusDays(1), 2L, "Ana", "Horvat",
+				getMockCalendarDayEntry(12L, 0, 45, 5L, "Therapy", "#000000", AppointmentStatus.BOOKED))
+		));
+
+		CalendarViewDTO result = appointmentService.getCalendar(AppointmentRangeRequestDTO.builder()
+			.from(MONDAY)
+			.to(MONDAY.plus(7, ChronoUnit.DAYS))
+			.build());
+
+		assertThat(result.getEmployees()).extracting(CalendarEmployeeDTO::getId).containsExactly(2L, 3L);
+		assertThat(result.getTypes()).extracting(CalendarTypeDTO::getName).containsExactly("Consultation", "Therapy");
+		assertThat(result.getStatuses()).containsExactly(AppointmentStatus.BOOKED, AppointmentStatus.CANCELLED);
+		assertThat(result.getIds()).containsExactly(10L, 11L, 12L);
+		assertThat(result.getEmployeeIndexes()).containsExactly(0, 1, 0);
+		assertThat(result.getStartMinutes()).containsExactly(540, 540, 1440);
+		assertThat(result.getDurationMinutes()).containsExactly(30, 60, 45);
+		assertThat(result.getTypeIndexes()).containsExactly(0, 0, 1);
+		assertThat(result.getStatusIndexes()).containsExactly(0, 1, 0);
+		verifyNoInteractions(appointmentRepository);
+	}
+
+	/**
+	 * Tests that the calendar view lists projected occurrences of a series within the week with
+	 * their series and original start time next to the appointments.
+	 */
+	@Test
+	void getCalendarOccurrenceTest() {
+		LocalDate monday = LocalDate.of(2024, 10, 7);
+		CalendarDayEntry occurrence = getMockCalendarDayEntry(0L, 480, 60, 5L, "Therapy", "#000000", AppointmentStatus.BOOKED);
+		occurrence.setSeriesId(20L);
+		occurrence.setOriginalStartTime(MONDAY.minus(1, ChronoUnit.DAYS).plus(8, ChronoUnit.HOURS));
+		when(calendarProjectionService.getDays(any(), any(), any(), any())).thenReturn(List.of(
+			getMockCalendarDay(monday, 2L, "Ana", "Horvat",
+				occurrence,
+				getMockCalendarDayEntry(10L, 540, 30, 4L, "Consultation", "#FFFFFF", AppointmentStatus.BOOKED))
+		));
+
+		CalendarViewDTO result = appointmentService.getCalendar(AppointmentRangeRequestDTO.builder()
+			.from(MONDAY)
+			.to(MONDAY.plus(7, ChronoUnit.DAYS))
+			.build());
+
+		assertThat(result.getIds()).containsExactly(0L, 10L);
+		assertThat(result.getStartMinutes()).containsExactly(480, 540);
+		assertThat(result.getSeriesIds()).containsExactly(20L, 0L);
+		assertThat(result.getOriginalStartMinutes()).containsExactly(-960, 0);
+		assertThat(result.getTypes()).extracting(CalendarTypeDTO::getName).containsExactly("Therapy", "Consultation");
+	}
+
+	/**
+	 * Tests that the calendar view filters projected appointments by status.
+	 */
+	@Test
+	void getCalendarStatusTest() {
+		LocalDate monday = LocalDate.of(2024, 10, 7);
+		when(calendarProjectionService.getDays(any(), any(), any(), any())).thenReturn(List.of(
+			getMockCalendarDay(monday, 2L, "Ana", "Horvat",
+				getMockCalendarDayEntry(10L, 540, 30, 4L, "Consultation", "#FFFFFF", AppointmentStatus.CANCELLED),
+				getMockCalendarDayEntry(11L, 600, 30, 4L, "Consultation", "#FFFFFF", AppointmentStatus.BOOKED))
+		));
+
+		CalendarViewDTO result = appointmentService.getCalendar(AppointmentRangeRequestDTO.builder()
+			.from(MONDAY)
+			.to(MONDAY.plus(1, ChronoUnit.DAYS))
+			.status(AppointmentStatus.BOOKED)
+			.build());
+
+		assertThat(result.getIds()).containsExactly(11L);
+		assertThat(result.getStatuses()).containsExactly(AppointmentStatus.BOOKED);
+	}
+
+	/**
+	 * Tests that missing, inverted and too long time ranges are rejected.
+	 */
+	@Test
+	void getAppointmentsInvalidRangeTest() {
+		assertThrows(
+			InvalidStateException.class,
+			() -> appointmentService.getAppointments(AppointmentRangeRequestDTO.builder().from(MONDAY).build())
+		);
+		assertThrows(
+			InvalidStateException.class,
+			() -> appointmentService.getAppointments(AppointmentRangeRequestDTO.builder()
+				.from(MONDAY)
+				.to(MONDAY)
+				.build())
+		);
+		assertThrows(
+			InvalidStateException.class,
+			() -> appointmentService.getAppointments(AppointmentRangeRequestDTO.builder()
+				.from(MONDAY)
+				.to(MONDAY.plus(60, ChronoUnit.DAYS))
+				.build())
+		);
+
+		verify(appointmentRepository, never()).findAll(Mockito.<Specification<Appointment>>any(), any(Sort.class));
+	}
+
+	/**
+	 * Tests that a booked appointment ends after the duration of its appointment type,
+	 * and that the employee is locked before the conflict check.
+	 */
+	@Test
+	void createAppointmentTest() {
+		Appointment appointment = getAppointment();
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(appointment.getEmployee()));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointment.getAppointmentType()));
+		when(appointmentRepository.saveAndFlush(any(Appointment.class))).thenAnswer(invocation -> {
+			Appointment saved = invocation.getArgument(0);
+			saved.setId(10L);
+			return saved;
+		});
+
+		AppointmentResponseDTO response = appointmentService.createAppointment(AppointmentRequestDTO.builder()
+			.employeeId(2L)
+			.appointmentTypeId(4L)
+			.startTime(appointment.getStartTime())
+			.build());
+
+		ArgumentCaptor<Appointment> captor = ArgumentCaptor.forClass(Appointment.class);
+		verify(appointmentRepository, times(1)).saveAndFlush(captor.capture());
+
+		assertThat(captor.getValue().getFirm()).isSameAs(firm);
+		assertThat(captor.getValue().getStatus()).isEqualTo(AppointmentStatus.BOOKED);
+		assertThat(response.getId()).isEqualTo(10L);
+		assertThat(response.getEndTime()).isEqualTo(appointment.getEndTime());
+		verify(intervalIndex, times(1)).register(captor.getValue());
+		verify(eventPublisher, times(1)).publishEvent(any(AppointmentChangedEvent.class));
+		verify(auditService, times(1)).publish(AuditAction.CREATE, Appointment.class, 10L);
+
+		InOrder inOrder = inOrder(lockCoordinator, intervalIndex, appointmentRepository);
+		inOrder.verify(lockCoordinator).lock(Map.of(
+			BookingLockCoordinator.Scope.EMPLOYEE, List.of(2L),
+			BookingLockCoordinator.Scope.RESOURCE, List.of()
+		));
+		inOrder.verify(intervalIndex).hasConflict(2L, appointment.getStartTime(), appointment.getEndTime());
+		inOrder.verify(appointmentRepository).saveAndFlush(any(Appointment.class));
+	}
+
+	/**
+	 * Tests that the candidate resources of the appointment type are locked together with the
+	 * employee, allocated under the locks and reserved after the appointment is inserted.
+	 */
+	@Test
+	void createAppointmentWithResourcesTest() {
+		Appointment appointment = getAppointment();
+		appointment.getAppointmentType().setResourceKinds(Set.of("room"));
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(appointment.getEmployee()));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointment.getAppointmentType()));
+		when(resourceService.findCandidateResources(1L, Set.of("room"), null)).thenReturn(List.of(7L, 8L));
+		when(resourceService.allocateResources(1L, Set.of("room"), null, appointment.getStartTime(), appointment.getEndTime()))
+			.thenReturn(List.of(8L));
+		when(appointmentRepository.saveAndFlush(any(Appointment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		AppointmentResponseDTO response = appointmentService.createAppointment(AppointmentRequestDTO.builder()
+			.employeeId(2L)
+			.appointmentTypeId(4L)
+			.startTime(appointment.getStartTime())
+			.build());
+
+		assertThat(response.getResourceIds()).containsExactly(8L);
+		InOrder inOrder = inOrder(resourceService, lockCoordinator, appointmentRepository);
+		inOrder.verify(lockCoordinator).lock(Map.of(
+			BookingLockCoordinator.Scope.EMPLOYEE, List.of(2L),
+			BookingLockCoordinator.Scope.RESOURCE, List.of(7L, 8L)
+		));
+		inOrder.verify(resourceService).allocateResources(any(), any(), any(), any(), any());
+		inOrder.verify(appointmentRepository).saveAndFlush(any(Appointment.class));
+		inOrder.verify(resourceService).reserveResources(any(Appointment.class), eq(List.of(8L)));
+	}
+
+	/**
+	 * Tests that appointments of a type with a capacity are booked as group sessions with all
+	 * seats left, and that a customer cannot be named for them.
+	 */
+	@Test
+	void createGroupSessionTest() {
+		Appointment appointment = getAppointment();
+		appointment.getAppointmentType().setCapacity(12);
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(appointment.getEmployee()));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointment.getAppointmentType()));
+		when(appointmentRepository.saveAndFlush(any(Appointment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		AppointmentResponseDTO response = appointmentService.createAppointment(AppointmentRequestDTO.builder()
+			.employeeId(2L)
+			.appointmentTypeId(4L)
+			.startTime(appointment.getStartTime())
+			.build());
+
+		assertThat(response.getSeatsLeft()).isEqualTo(12);
+
+		Customer customer = new Customer();
+		customer.setFirm(firm);
+		when(customerRepository.findById(6L)).thenReturn(Optional.of(customer));
+		assertThrows(
+			InvalidStateException.class,
+			() -> appointmentService.createAppointment(AppointmentRequestDTO.builder()
+				.employeeId(2L)
+				.appointmentTypeId(4L)
+				.customerId(6L)
+				.startTime(appointment.getStartTime())
+				.build())
+		);
+		verify(appointmentRepository, times(1)).saveAndFlush(any(Appointment.class));
+	}
+
+	/**
+	 * Tests that a conflict found in the interval index is reported without writing to the database.
+	 */
+	@Test
+	void createAppointmentIndexConflictTest() {
+		Appointment appointment = getAppointment();
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(appointment.getEmployee()));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointment.getAppointmentType()));
+		when(intervalIndex.hasConflict(2L, appointment.getStartTime(), appointment.getEndTime())).thenReturn(true);
+
+		assertThrows(
+			BookingConflictException.class,
+			() -> appointmentService.createAppointment(AppointmentRequestDTO.builder()
+				.employeeId(2L)
+				.appointmentTypeId(4L)
+				.startTime(appointment.getStartTime())
+				.build())
+		);
+
+		verify(appointmentRepository, never()).saveAndFlush(any());
+	}
+
+	/**
+	 * Tests that availability is answered from the loaded interval index without a query.
+	 */
+	@Test
+	void isEmployeeAvailableTest() {
+		SlotAvailabilityRequestDTO request = SlotAvailabilityRequestDTO.builder()
+			.employeeId(2L)
+			.startTime(MONDAY)
+			.endTime(MONDAY.plus(1, ChronoUnit.HOURS))
+			.build();
+		when(intervalIndex.isReady()).thenReturn(true);
+		when(intervalIndex.hasConflict(2L, request.getStartTime(), request.getEndTime())).thenReturn(true, false);
+
+		assertThat(appointmentService.isEmployeeAvailable(request)).isFalse();
+		assertThat(appointmentService.isEmployeeAvailable(request)).isTrue();
+
+		when(intervalIndex.belongsToOtherFirm(2L, 1L)).thenReturn(true);
+		assertThrows(InvalidStateException.class, () -> appointmentService.isEmployeeAvailable(request));
+
+		verify(appointmentRepository, never()).exists(Mockito.<Specification<Appointment>>any());
+	}
+
+	/**
+	 * Tests that availability is queried from the database until the interval index is loaded.
+	 */
+	@Test
+	void isEmployeeAvailableBeforeIndexIsReadyTest() {
+		when(intervalIndex.isReady()).thenReturn(false);
+		when(appointmentRepository.exists(Mockito.<Specification<Appointment>>any())).thenReturn(true);
+
+		assertThat(appointmentService.isEmployeeAvailable(SlotAvailabilityRequestDTO.builder()
+			.employeeId(2L)
+			.startTime(MONDAY)
+			.endTime(MONDAY.plus(1, ChronoUnit.HOURS))
+			.build())).isFalse();
+
+		verify(intervalIndex, never()).hasConflict(any(), any(), any());
+	}
+
+	/**
+	 * Tests that a slot held by another booking in progress cannot be booked.
+	 */
+	@Test
+	void createAppointmentHeldTest() {
+		Appointment appointment = getAppointment();
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(appointment.getEmployee()));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointment.getAppointmentType()));
+		when(slotHoldService.isHeld(2L, appointment.getStartTime(), appointment.getEndTime())).thenReturn(true);
+
+		assertThrows(
+			BookingConflictException.class,
+			() -> appointmentService.createAppointment(AppointmentRequestDTO.builder()
+				.employeeId(2L)
+				.appointmentTypeId(4L)
+				.startTime(appointment.getStartTime())
+				.build())
+		);
+
+		verify(appointmentRepository, never()).saveAndFlush(any());
+	}
+
+	/**
+	 * Tests that a booking outside the employee's working time is rejected before the employee is locked.
+	 */
+	@Test
+	void createAppointmentOutsideWorkingTimeTest() {
+		Appointment appointment = getAppointment();
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(appointment.getEmployee()));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointment.getAppointmentType()));
+		doThrow(new InvalidStateException("Employee does not work at the requested time."))
+			.when(workingHoursService).validateWorkingTime(1L, 2L, appointment.getStartTime(), appointment.getEndTime());
+
+		assertThrows(
+			InvalidStateException.class,
+			() -> appointmentService.createAppointment(AppointmentRequestDTO.builder()
+				.employeeId(2L)
+				.appointmentTypeId(4L)
+				.startTime(appointment.getStartTime())
+				.build())
+		);
+
+		verify(lockCoordinator, never()).lock(anyMap());
+		verify(appointmentRepository, never()).saveAndFlush(any());
+	}
+
+	/**
+	 * Tests that a confirmed hold is booked with the held time and released afterwards.
+	 */
+	@Test
+	void confirmHoldTest() {
+		Appointment appointment = getAppointment();
+		SlotHold hold = getHold(appointment);
+		when(slotHoldService.getHold("hold")).thenReturn(hold);
+		when(userRepository.getReferenceById(2L)).thenReturn(appointment.getEmployee());
+		when(appointmentTypeRepository.getReferenceById(4L)).thenReturn(appointment.getAppointmentType());
+		when(appointmentRepository.saveAndFlush(any(Appointment.class))).thenAnswer(invocation -> {
+			Appointment saved = invocation.getArgument(0);
+			saved.setId(10L);
+			return saved;
+		});
+
+		AppointmentResponseDTO response = appointmentService.confirmHold(
+			SlotHoldConfirmRequestDTO.builder().holdId("hold").build()
+		);
+
+		assertThat(response.getStartTime()).isEqualTo(hold.getStartTime());
+		assertThat(response.getEndTime()).isEqualTo(hold.getEndTime());
+		verify(slotHoldService, never()).isHeld(any(), any(), any());
+
+		InOrder inOrder = inOrder(lockCoordinator, appointmentRepository, slotHoldService);
+		inOrder.verify(lockCoordinator).lock(Map.of(
+			BookingLockCoordinator.Scope.EMPLOYEE, List.of(2L),
+			BookingLockCoordinator.Scope.RESOURCE, List.of()
+		));
+		inOrder.verify(appointmentRepository).saveAndFlush(any(Appointment.class));
+		inOrder.verify(slotHoldService).releaseHold("hold");
+		verify(waitlistService, times(1)).holdConfirmed("hold");
+	}
+
+	/**
+	 * Tests that a hold whose slot was booked in the meantime is not booked again and stays in place.
+	 */
+	@Test
+	void confirmHoldConflictTest() {
+		Appointment appointment = getAppointment();
+		when(slotHoldService.getHold("hold")).thenReturn(getHold(appointment));
+		when(appointmentTypeRepository.getReferenceById(4L)).thenReturn(appointment.getAppointmentType());
+		when(intervalIndex.hasConflict(2L, appointment.getStartTime(), appointment.getEndTime())).thenReturn(true);
+
+		assertThrows(
+			BookingConflictException.class,
+			() -> appointmentService.confirmHold(SlotHoldConfirmRequestDTO.builder().holdId("hold").build())
+		);
+
+		verify(appointmentRepository, never()).saveAndFlush(any());
+		verify(slotHoldService, never()).releaseHold(any());
+	}
+
+	/**
+	 * Tests that an appointment type of another firm cannot be booked.
+	 */
+	@Test
+	void createAppointmentForeignAppointmentTypeTest() {
+		Appointment appointment = getAppointment();
+		Firm otherFirm = new Firm();
+		otherFirm.setId(99L);
+		appointment.getAppointmentType().setFirm(otherFirm);
+
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(appointment.getEmployee()));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointment.getAppointmentType()));
+
+		assertThrows(
+			InvalidStateException.class,
+			() -> appointmentService.createAppointment(AppointmentRequestDTO.builder()
+				.employeeId(2L)
+				.appointmentTypeId(4L)
+				.startTime(MONDAY)
+				.build())
+		);
+
+		verify(appointmentRepository, never()).saveAndFlush(any());
+	}
+
+	/**
+	 * Tests that an employee who is not qualified for a restricted appointment type cannot be booked for it.
+	 */
+	@Test
+	void createAppointmentUnqualifiedTest() {
+		Appointment appointment = getAppointment();
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(appointment.getEmployee()));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointment.getAppointmentType()));
+		when(qualificationIndex.isQualified(1L, 4L, 2L)).thenReturn(false);
+
+		assertThrows(
+			InvalidStateException.class,
+			() -> appointmentService.createAppointment(AppointmentRequestDTO.builder()
+				.employeeId(2L)
+				.appointmentTypeId(4L)
+				.startTime(MONDAY)
+				.build())
+		);
+		verify(lockCoordinator, never()).lock(any());
+		verify(appointmentRepository, never()).saveAndFlush(any(Appointment.class));
+	}
+
+	/**
+	 * Tests that an exclusion constraint violation is reported as a booking conflict.
+	 */
+	@Test
+	void createAppointmentConflictTest() {
+		Appointment appointment = getAppointment();
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(appointment.getEmployee()));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointment.getAppointmentType()));
+		when(appointmentRepository.saveAndFlush(any(Appointment.class))).thenThrow(new DataIntegrityViolationException(
+			"could not execute statement",
+			new SQLException("conflicting key value violates exclusion constraint", SqlStateUtils.EXCLUSION_VIOLATION)
+		));
+
+		assertThrows(
+			BookingConflictException.class,
+			() -> appointmentService.createAppointment(AppointmentRequestDTO.builder()
+				.employeeId(2L)
+				.appointmentTypeId(4L)
+				.startTime(MONDAY)
+				.build())
+		);
+
+		verify(auditService, never()).publish(any(), any(), any());
+	}
+
+	/**
+	 * Tests that a deadlock between concurrent overlapping bookings is reported as a booking conflict.
+	 */
+	@Test
+	void createAppointmentDeadlockTest() {
+		Appointment appointment = getAppointment();
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(appointment.getEmployee()));
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointment.getAppointmentType()));
+		when(appointmentRepository.saveAndFlush(any(Appointment.class))).thenThrow(new CannotAcquireLockException(
+			"could not execute statement",
+			new SQLException("deadlock detected", SqlStateUtils.DEADLOCK_DETECTED)
+		));
+
+		assertThrows(
+			BookingConflictException.class,
+			() -> appointmentService.createAppointment(AppointmentRequestDTO.builder()
+				.employeeId(2L)
+				.appointmentTypeId(4L)
+				.startTime(MONDAY)
+				.build())
+		);
+	}
+
+	/**
+	 * Tests that cancelling changes the status with a single scoped update and offers the slot to the waitlist.
+	 */
+	@Test
+	void cancelAppointmentTest() {
+		when(appointmentRepository.patch(eq(10L), eq(Map.of("status", AppointmentStatus.CANCELLED)), any()))
+			.thenReturn(1);
+
+		appointmentService.cancelAppointment(10L);
+
+		verify(resourceService, times(1)).releaseResources(10L);
+		verify(intervalIndex, times(1)).unregister(10L);
+		verify(waitlistService, times(1)).appointmentCancelled(10L);
+		verify(eventPublisher, times(1)).publishEvent(argThat((Object event) -> event instanceof AppointmentChangedEvent changed
+			&& changed.getChange() == AppointmentChangedEvent.Change.CANCELLED
+			&& changed.getFirmId().equals(1L) && changed.getAppointmentId().equals(10L)));
+		verify(auditService, times(1)).publish(AuditAction.CANCEL, Appointment.class, 10L);
+	}
+
+	/**
+	 * Tests that cancelling an appointment that is not booked fails.
+	 */
+	@Test
+	void cancelAppointmentNotFoundTest() {
+		when(appointmentRepository.patch(any(), any(), any())).thenReturn(0);
+
+		assertThrows(InvalidStateException.class, () -> appointmentService.cancelAppointment(10L));
+
+		verify(auditService, never()).publish(any(), any(), any());
+	}
+
+	/**
+	 * Gets mock appointment on Monday 9:00 - 9:30.
+	 * @return {@link Appointment}
+	 */
+	private SlotHold getHold(Appointment appointment) {
+		return SlotHold.builder()
+			.id("hold")
+			.firmId(firm.getId())
+			.employeeId(2L)
+			.appointmentTypeId(4L)
+			.startTime(appointment.getStartTime())
+			.endTime(appointment.getEndTime())
+			.expiresAt(Instant.now().plus(5, ChronoUnit.MINUTES))
+			.build();
+	}
+
+	private Appointment getAppointment() {
+		User employee = new User();
+		employee.setId(2L);
+		employee.setFirm(firm);
+
+		AppointmentType appointmentType = AppointmentType.builder().durationMinutes(30).firm(firm).build();
+		appointmentType.setId(4L);
+
+		Instant startTime = MONDAY.plus(9, ChronoUnit.HOURS);
+		return Appointment.builder()
+			.firm(firm)
+			.employee(employee)
+			.appointmentType(appointmentType)
+			.startTime(startTime)
+			.endTime(startTime.plus(30, ChronoUnit.MINUTES))
+			.status(AppointmentStatus.BOOKED)
+			.build();
+	}
+
+	/**
+	 * Gets mock projected day of an employee of the firm.
+	 */
+	private CalendarDay getMockCalendarDay(LocalDate day, Long employeeId, String firstName, String lastName,
+		CalendarDayEntry... entries) {
+		return CalendarDay.builder()
+			.id(new CalendarDayId(1L, day, employeeId))
+			.firstName(firstName)
+			.lastName(lastName)
+			.entries(List.of(entries))
+			.projectedAt(MONDAY)
+			.build();
+	}
+
+	/**
+	 * Gets mock projected appointment.
+	 */
+	private CalendarDayEntry getMockCalendarDayEntry(long id, int startMinute, int durationMinutes, long appointmentTypeId,
+		String typeName, String colorCode, AppointmentStatus status) {
+		return CalendarDayEntry.builder()
+			.id(id)
+			.startMinute(startMinute)
+			.durationMinutes(durationMinutes)
+			.appointmentTypeId(appointmentTypeId)
+			.typeName(typeName)
+			.colorCode(colorCode)
+			.status(status)
+			.build();
+	}
+}
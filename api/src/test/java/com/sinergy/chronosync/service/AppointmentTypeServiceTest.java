@@ -1,9 +1,13 @@
 package com.sinergy.chronosync.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinergy.chronosync.config.QualificationIndex;
 import com.sinergy.chronosync.dto.request.AppointmentTypeRequestDTO;
+import com.sinergy.chronosync.event.AppointmentTypeChangedEvent;
 import com.sinergy.chronosync.exception.InvalidStateException;
 import com.sinergy.chronosync.exception.UserNotFoundException;
 import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.audit.AuditAction;
 import com.sinergy.chronosync.model.firm.Firm;
 import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.repository.AppointmentTypeRepository;
@@ -15,6 +19,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -24,6 +29,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -46,6 +52,15 @@ class AppointmentTypeServiceTest {
 	@Mock
 	private Authentication authentication;
 
+	@Mock
+	private AuditService auditService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private QualificationIndex qualificationIndex;
+
 	@InjectMocks
 	private AppointmentTypeServiceImpl appointmentTypeService;
 
@@ -137,6 +152,8 @@ class AppointmentTypeServiceTest {
 
 		verify(userRepository, times(1)).findOne(Mockito.<Specification<User>>any());
 		verify(appointmentTypeRepository, times(1)).save(Mockito.any(AppointmentType.class));
+		verify(auditService, times(1))
+			.publish(AuditAction.CREATE, AppointmentType.class, mockAppointmentType.getId());
 	}
 
 	/**
@@ -146,11 +163,13 @@ class AppointmentTypeServiceTest {
 	void deleteAppointmentTypeTest() {
 		Long appointmentTypeId = 1L;
 
-		when(appointmentTypeRepository.existsById(appointmentTypeId)).thenReturn(true);
+		when(appointmentTypeRepository.findById(appointmentTypeId)).thenReturn(Optional.of(getAppointmentType()));
 
 		appointmentTypeService.deleteAppointmentType(appointmentTypeId);
 
 		verify(appointmentTypeRepository, times(1)).deleteById(appointmentTypeId);
+		verify(eventPublisher, times(1)).publishEvent(argThat((Object event) -> event instanceof AppointmentTypeChangedEvent changed
+			&& changed.getChange() == AppointmentTypeChangedEvent.Change.DELETED && changed.getFirmId().equals(1L)));
 	}
 
 	/**
@@ -160,7 +179,7 @@ class AppointmentTypeServiceTest {
 	void deleteAppointmentTypeInvalidIdStateExceptionTest() {
 		Long appointmentTypeId = 1L;
 
-		when(appointmentTypeRepository.existsById(appointmentTypeId)).thenReturn(false);
+		when(appointmentTypeRepository.findById(appointmentTypeId)).thenReturn(Optional.empty());
 
 		InvalidStateException thrownException = assertThrows(
 			InvalidStateException.class,
@@ -207,6 +226,92 @@ class AppointmentTypeServiceTest {
 		verify(appointmentTypeRepository, times(1)).save(Mockito.any(AppointmentType.class));
 	}
 
+	/**
+	 * Tests the patchAppointmentType method with a valid merge patch document.
+	 */
+	@Test
+	void patchAppointmentTypeTest() throws Exception {
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(getUser()));
+		when(appointmentTypeRepository.patch(
+			eq(1L),
+			eq(Map.of("colorCode", "#00FF00")),
+			Mockito.<Specification<AppointmentType>>any()
+		)).thenReturn(1);
+
+		appointmentTypeService.patchAppointmentType(1L, new ObjectMapper().readTree("{\"colorCode\": \"#00FF00\"}"));
+
+		verify(appointmentTypeRepository, never()).findById(any());
+		verify(appointmentTypeRepository, never()).save(any());
+		verify(appointmentTypeRepository, times(1)).patch(
+			eq(1L),
+			eq(Map.of("colorCode", "#00FF00")),
+			Mockito.<Specification<AppointmentType>>any()
+		);
+	}
+
+	/**
+	 * Tests that lifting the qualification requirement of a type is applied to the qualification index.
+	 */
+	@Test
+	void patchQualificationRequiredTest() throws Exception {
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(getUser()));
+		when(appointmentTypeRepository.patch(eq(1L), any(), Mockito.<Specification<AppointmentType>>any()))
+			.thenReturn(1);
+
+		appointmentTypeService.patchAppointmentType(1L, new ObjectMapper().readTree("{\"qualificationRequired\": false}"));
+
+		verify(appointmentTypeRepository, times(1)).patch(
+			eq(1L),
+			eq(Map.of("qualificationRequired", false)),
+			Mockito.<Specification<AppointmentType>>any()
+		);
+		verify(qualificationIndex, times(1)).requirementChanged(any(), eq(1L), eq(false));
+	}
+
+	/**
+	 * Tests the patchAppointmentType method when the appointment type is not in the user's firm.
+	 */
+	@Test
+	void patchAppointmentTypeNotFoundTest() throws Exception {
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(getUser()));
+		when(appointmentTypeRepository.patch(eq(1L), any(), Mockito.<Specification<AppointmentType>>any()))
+			.thenReturn(0);
+
+		InvalidStateException thrownException = assertThrows(
+			InvalidStateException.class,
+			() -> appointmentTypeService.patchAppointmentType(1L, new ObjectMapper().readTree("{\"price\": 50}"))
+		);
+
+		assertEquals("Appointment type with ID 1 does not exist.", thrownException.getMessage());
+	}
+
+	/**
+	 * Tests the patchAppointmentType method with invalid field values.
+	 */
+	@Test
+	void patchAppointmentTypeInvalidValueTest() {
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		assertThrows(
+			InvalidStateException.class,
+			() -> appointmentTypeService.patchAppointmentType(1L, objectMapper.readTree("{\"durationMinutes\": 0}"))
+		);
+		assertThrows(
+			InvalidStateException.class,
+			() -> appointmentTypeService.patchAppointmentType(1L, objectMapper.readTree("{\"colorCode\": \"green\"}"))
+		);
+		assertThrows(
+			InvalidStateException.class,
+			() -> appointmentTypeService.patchAppointmentType(1L, objectMapper.readTree("{\"name\": null}"))
+		);
+		assertThrows(
+			InvalidStateException.class,
+			() -> appointmentTypeService.patchAppointmentType(1L, objectMapper.readTree("{\"capacity\": 0}"))
+		);
+
+		verify(appointmentTypeRepository, never()).patch(any(), any(), any());
+	}
+
 	/**
 	 * Gets mock user.
 	 * @return {@link User} mocked user class
@@ -0,0 +1,154 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.audit.AuditDurabilityMode;
+import com.sinergy.chronosync.model.audit.AuditLog;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AuditLogRepository;
+import com.sinergy.chronosync.service.impl.AuditServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AuditServiceImpl}.
+ */
+class AuditServiceTest {
+
+	@Mock
+	private AuditLogRepository auditLogRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		meterRegistry = new SimpleMeterRegistry();
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken("jdoe", null, List.of())
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	/**
+	 * Tests that buffered entries are written in a single batch by the background writer,
+	 * carrying the name of the authenticated user.
+	 */
+	@Test
+	void asyncEntriesWrittenInBatchTest() {
+		AuditServiceImpl auditService = auditService(AuditDurabilityMode.ASYNC, 10);
+		List<List<AuditLog>> batches = new ArrayList<>();
+		when(auditLogRepository.insertBatch(anyList())).thenAnswer(invocation -> {
+			List<AuditLog> batch = invocation.getArgument(0);
+			batches.add(List.copyOf(batch));
+			return batch.size();
+		});
+
+		auditService.publish(AuditAction.CREATE, User.class, 1L);
+		auditService.publish(AuditAction.UPDATE, User.class, 1L);
+		auditService.publish(AuditAction.DELETE, User.class, 1L);
+
+		verifyNoInteractions(auditLogRepository);
+
+		auditService.start();
+		auditService.stop();
+
+		assertThat(batches).hasSize(1);
+		assertThat(batches.getFirst())
+			.extracting(AuditLog::getAction)
+			.containsExactly(AuditAction.CREATE, AuditAction.UPDATE, AuditAction.DELETE);
+		assertThat(batches.getFirst())
+			.allSatisfy(entry -> {
+				assertThat(entry.getUsername()).isEqualTo("jdoe");
+				assertThat(entry.getEntityType()).isEqualTo("User");
+				assertThat(entry.getOccurredAt()).isNotNull();
+			});
+		assertThat(meterRegistry.counter("audit.events.written").count()).isEqualTo(3);
+	}
+
+	/**
+	 * Tests that entries are dropped and counted when the buffer is full in asynchronous mode.
+	 */
+	@Test
+	void asyncOverflowDropsEntriesTest() {
+		AuditServiceImpl auditService = auditService(AuditDurabilityMode.ASYNC, 2);
+
+		for (int i = 0; i < 5; i++) {
+			auditService.publish(AuditAction.UPDATE, User.class, (long) i);
+		}
+
+		assertThat(meterRegistry.counter("audit.events.published").count()).isEqualTo(5);
+		assertThat(meterRegistry.counter("audit.events.dropped", "reason", "overflow").count()).isEqualTo(3);
+		assertThat(meterRegistry.get("audit.buffer.size").gauge().value()).isEqualTo(2);
+	}
+
+	/**
+	 * Tests that entries are written on the publishing thread in synchronous mode.
+	 */
+	@Test
+	void syncEntryWrittenImmediatelyTest() {
+		AuditServiceImpl auditService = auditService(AuditDurabilityMode.SYNC, 2);
+
+		auditService.publish(AuditAction.LOGIN, User.class, 1L);
+
+		verify(auditLogRepository, times(1)).insertBatch(anyList());
+	}
+
+	/**
+	 * Tests that a failed write is counted as dropped entries instead of being propagated.
+	 */
+	@Test
+	void syncWriteFailureCountedTest() {
+		AuditServiceImpl auditService = auditService(AuditDurabilityMode.SYNC, 2);
+		when(auditLogRepository.insertBatch(anyList())).thenThrow(new IllegalStateException("db down"));
+
+		auditService.publish(AuditAction.LOGIN, User.class, 1L);
+
+		assertThat(meterRegistry.counter("audit.events.dropped", "reason", "write_failure").count()).isEqualTo(1);
+	}
+
+	/**
+	 * Tests that entries published within a transaction are recorded only after commit.
+	 */
+	@Test
+	void entryDeferredUntilCommitTest() {
+		AuditServiceImpl auditService = auditService(AuditDurabilityMode.SYNC, 2);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			auditService.publish(AuditAction.DELETE, User.class, 1L);
+			verifyNoInteractions(auditLogRepository);
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		verify(auditLogRepository, times(1)).insertBatch(anyList());
+	}
+
+	private AuditServiceImpl auditService(AuditDurabilityMode mode, int capacity) {
+		return new AuditServiceImpl(
+			auditLogRepository, meterRegistry, mode, capacity, 100, Duration.ofMillis(50), Duration.ofMillis(10)
+		);
+	}
+}
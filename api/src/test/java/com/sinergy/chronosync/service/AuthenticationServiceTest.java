@@ -5,6 +5,7 @@ import com.sinergy.chronosync.builder.UserFilterBuilder;
 import com.sinergy.chronosync.dto.request.LoginRequestDTO;
 import com.sinergy.chronosync.dto.response.AuthenticationResponse;
 import com.sinergy.chronosync.model.Token;
+import com.sinergy.chronosync.model.audit.AuditLog;
 import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.repository.TokenRepository;
 import com.sinergy.chronosync.repository.UserRepository;
@@ -46,6 +47,9 @@ class AuthenticationServiceTest {
 	@Mock
 	private JwtUtils jwtUtils;
 
+	@Mock
+	private AuditService auditService;
+
 	@InjectMocks
 	private AuthenticationServiceImpl authenticationService;
 
@@ -80,6 +84,7 @@ class AuthenticationServiceTest {
 		verify(userRepository, times(1)).findOne(Mockito.<Specification<User>>any());
 		verify(jwtUtils, times(1)).generateJWTString(user);
 		verify(tokenRepository, times(1)).save(any(Token.class));
+		verify(auditService, times(1)).publish(any(AuditLog.class));
 	}
 
 	/**
@@ -0,0 +1,122 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.CalendarEventBroadcaster;
+import com.sinergy.chronosync.dto.response.CalendarEventDTO;
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import com.sinergy.chronosync.event.AppointmentTypeChangedEvent;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.service.impl.CalendarEventServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CalendarEventServiceImpl}.
+ */
+class CalendarEventServiceTest {
+
+	private static final Instant MONDAY = Instant.parse("2024-10-07T00:00:00Z");
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private CalendarEventBroadcaster broadcaster;
+
+	@InjectMocks
+	private CalendarEventServiceImpl calendarEventService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+
+		Firm firm = new Firm();
+		firm.setId(1L);
+		when(userService.getAuthUserFirm()).thenReturn(firm);
+	}
+
+	/**
+	 * Tests that subscriptions are made to the current user's firm.
+	 */
+	@Test
+	void subscribeTest() {
+		SseEmitter emitter = new SseEmitter();
+		when(broadcaster.subscribe(1L)).thenReturn(emitter);
+
+		assertThat(calendarEventService.subscribe()).isSameAs(emitter);
+	}
+
+	/**
+	 * Tests that appointment changes are published to the firm of the appointment.
+	 */
+	@Test
+	void appointmentChangedTest() {
+		calendarEventService.appointmentChanged(AppointmentChangedEvent.builder()
+			.firmId(2L)
+			.appointmentId(10L)
+			.change(AppointmentChangedEvent.Change.MOVED)
+			.employeeId(3L)
+			.startTime(MONDAY)
+			.endTime(MONDAY.plusSeconds(1800))
+			.previousEmployeeId(4L)
+			.previousStartTime(MONDAY.plusSeconds(3600))
+			.build());
+
+		ArgumentCaptor<CalendarEventDTO> captor = ArgumentCaptor.forClass(CalendarEventDTO.class);
+		verify(broadcaster, times(1)).publish(eq(2L), eq("appointment"), captor.capture());
+		assertThat(captor.getValue().getChange()).isEqualTo("MOVED");
+		assertThat(captor.getValue().getAppointmentId()).isEqualTo(10L);
+		assertThat(captor.getValue().getEmployeeId()).isEqualTo(3L);
+		assertThat(captor.getValue().getPreviousEmployeeId()).isEqualTo(4L);
+		assertThat(captor.getValue().getPreviousStartTime()).isEqualTo(MONDAY.plusSeconds(3600));
+	}
+
+	/**
+	 * Tests that changes of occurrences of a series are published as appointment events with the
+	 * series and the original start time of the occurrence.
+	 */
+	@Test
+	void occurrenceChangedTest() {
+		calendarEventService.appointmentChanged(AppointmentChangedEvent.builder()
+			.firmId(2L)
+			.change(AppointmentChangedEvent.Change.CANCELLED)
+			.employeeId(3L)
+			.startTime(MONDAY)
+			.endTime(MONDAY.plusSeconds(1800))
+			.seriesId(20L)
+			.originalStartTime(MONDAY)
+			.build());
+
+		ArgumentCaptor<CalendarEventDTO> captor = ArgumentCaptor.forClass(CalendarEventDTO.class);
+		verify(broadcaster, times(1)).publish(eq(2L), eq("appointment"), captor.capture());
+		assertThat(captor.getValue().getChange()).isEqualTo("CANCELLED");
+		assertThat(captor.getValue().getAppointmentId()).isNull();
+		assertThat(captor.getValue().getSeriesId()).isEqualTo(20L);
+		assertThat(captor.getValue().getOriginalStartTime()).isEqualTo(MONDAY);
+		assertThat(captor.getValue().getEmployeeId()).isEqualTo(3L);
+	}
+
+	/**
+	 * Tests that appointment type changes are published to the firm of the appointment type.
+	 */
+	@Test
+	void appointmentTypeChangedTest() {
+		calendarEventService.appointmentTypeChanged(
+			new AppointmentTypeChangedEvent(2L, 4L, AppointmentTypeChangedEvent.Change.DELETED));
+
+		ArgumentCaptor<CalendarEventDTO> captor = ArgumentCaptor.forClass(CalendarEventDTO.class);
+		verify(broadcaster, times(1)).publish(eq(2L), eq("appointment-type"), captor.capture());
+		assertThat(captor.getValue().getChange()).isEqualTo("DELETED");
+		assertThat(captor.getValue().getAppointmentTypeId()).isEqualTo(4L);
+	}
+}
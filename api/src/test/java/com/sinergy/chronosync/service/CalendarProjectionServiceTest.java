@@ -0,0 +1,482 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.dto.response.AppointmentOccurrenceDTO;
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import com.sinergy.chronosync.event.AppointmentTypeChangedEvent;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.calendar.CalendarDay;
+import com.sinergy.chronosync.model.calendar.CalendarDayEntry;
+import com.sinergy.chronosync.model.calendar.CalendarDayId;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentCalendarRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.CalendarDayRepository;
+import com.sinergy.chronosync.repository.FirmRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.impl.CalendarProjectionServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CalendarProjectionServiceImpl}.
+ */
+class CalendarProjectionServiceTest {
+
+	private static final Instant MONDAY = Instant.parse("2024-10-07T00:00:00Z");
+	private static final LocalDate MONDAY_DATE = LocalDate.of(2024, 10, 7);
+
+	@Mock
+	private CalendarDayRepository calendarDayRepository;
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+
+	@Mock
+	private AppointmentSeriesService appointmentSeriesService;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+
+	@Mock
+	private FirmRepository firmRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private CalendarProjectionServiceImpl calendarProjectionService;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		meterRegistry = new SimpleMeterRegistry();
+		calendarProjectionService = service(false);
+	}
+
+	/**
+	 * Tests that a booking replaces the row of its day with the appointments starting on it,
+	 * read with one query.
+	 */
+	@Test
+	void projectBookingTest() {
+		givenAppointments(
+			appointment(10L, 2L, MONDAY.minus(30, ChronoUnit.MINUTES), 60),
+			appointment(11L, 2L, MONDAY.plus(9, ChronoUnit.HOURS), 30)
+		);
+		when(calendarDayRepository.insertDays(anyList())).thenReturn(1);
+		calendarProjectionService.appointmentChanged(booked(11L, 2L, MONDAY.plus(9, ChronoUnit.HOURS)));
+
+		assertThat(calendarProjectionService.getPending()).isEqualTo(1);
+		assertThat(calendarProjectionService.project()).isEqualTo(1);
+
+		assertThat(calendarProjectionService.getPending()).isZero();
+		verify(appointmentRepository, times(1)).forEachCalendarEntry(Mockito.<Specification<Appointment>>any(), any());
+		verify(calendarDayRepository, times(1)).deleteDays(Set.of(new CalendarDayId(1L, MONDAY_DATE, 2L)));
+
+		List<CalendarDay> days = insertedDays(1).getFirst();
+		assertThat(days).hasSize(1);
+		assertThat(days.getFirst().getId()).isEqualTo(new CalendarDayId(1L, MONDAY_DATE, 2L));
+		assertThat(days.getFirst().getLastName()).isEqualTo("Horvat");
+		assertThat(days.getFirst().getEntries()).extracting(CalendarDayEntry::getId).containsExactly(11L);
+		assertThat(days.getFirst().getEntries().getFirst().getStartMinute()).isEqualTo(540);
+		assertThat(days.getFirst().getEntries().getFirst().getDurationMinutes()).isEqualTo(30);
+		assertThat(meterRegistry.counter("calendar.projection.changes.projected").count()).isEqualTo(1);
+		assertThat(meterRegistry.counter("calendar.projection.days.written").count()).isEqualTo(1);
+	}
+
+	/**
+	 * Tests that a move replaces the days before and after it, and that days left without
+	 * appointments are only deleted.
+	 */
+	@Test
+	void projectMoveTest() {
+		calendarProjectionService.appointmentChanged(AppointmentChangedEvent.builder()
+			.firmId(1L)
+			.appointmentId(10L)
+			.change(AppointmentChangedEvent.Change.MOVED)
+			.employeeId(2L)
+			.startTime(MONDAY.plus(1, ChronoUnit.DAYS))
+			.endTime(MONDAY.plus(1, ChronoUnit.DAYS).plus(30, ChronoUnit.MINUTES))
+			.previousEmployeeId(3L)
+			.previousStartTime(MONDAY.plus(9, ChronoUnit.HOURS))
+			.build());
+
+		calendarProjectionService.project();
+
+		verify(appointmentRepository, times(2)).forEachCalendarEntry(Mockito.<Specification<Appointment>>any(), any());
+		verify(calendarDayRepository, times(1)).deleteDays(argThat((Collection<CalendarDayId> ids) -> ids.size() == 2
+			&& ids.contains(new CalendarDayId(1L, MONDAY_DATE.plusDays(1), 2L))
+			&& ids.contains(new CalendarDayId(1L, MONDAY_DATE, 3L))));
+		verify(calendarDayRepository, never()).insertDays(anyList());
+	}
+
+	/**
+	 * Tests that the firms of the touched days are locked shared and the touched firm days
+	 * exclusively across instances, in key order, before their appointments are read.
+	 */
+	@Test
+	void projectLockedTest() {
+		calendarProjectionService = service(true);
+		calendarProjectionService.appointmentChanged(booked(10L, 2L, MONDAY.plus(1, ChronoUnit.DAYS)));
+		calendarProjectionService.appointmentChanged(booked(11L, 3L, MONDAY.plus(9, ChronoUnit.HOURS)));
+		calendarProjectionService.appointmentChanged(booked(12L, 4L, MONDAY.plus(10, ChronoUnit.HOURS)));
+
+		calendarProjectionService.project();
+
+		InOrder inOrder = inOrder(appointmentRepository);
+		inOrder.verify(appointmentRepository, times(1)).lockSharedTransactionScoped(argThat(keys ->
+			keys.length == 1 && keys[0] == (4L << 48 | 1L)), eq(Duration.ofSeconds(5)));
+		inOrder.verify(appointmentRepository, times(1)).lockTransactionScoped(argThat(keys ->
+			keys.length == 2 && keys[0] < keys[1] && keys[0] >>> 48 == 3), eq(Duration.ofSeconds(5)));
+		inOrder.verify(appointmentRepository, times(2)).forEachCalendarEntry(Mockito.<Specification<Appointment>>any(), any());
+	}
+
+	/**
+	 * Tests that on startup an empty projection is rebuilt, and that otherwise the days of changed
+	 * appointments are projected again if their row is missing or older than the change.
+	 */
+	@Test
+	void warmUpTest() {
+		givenFirm();
+		when(calendarDayRepository.count()).thenReturn(0L);
+		calendarProjectionService.warmUp();
+		verify(calendarDayRepository, times(1)).deleteFirmDays(1L);
+
+		Instant modifiedAt = Instant.now().minus(1, ChronoUnit.HOURS);
+		Appointment fresh = appointment(10L, 2L, MONDAY.plus(9, ChronoUnit.HOURS), 30);
+		Appointment missing = appointment(11L, 2L, MONDAY.plus(1, ChronoUnit.DAYS), 30);
+		Appointment stale = appointment(12L, 3L, MONDAY.plus(10, ChronoUnit.HOURS), 30);
+		for (Appointment appointment : List.of(fresh, missing, stale)) {
+			Firm firm = new Firm();
+			firm.setId(1L);
+			appointment.setFirm(firm);
+			appointment.setModifiedAt(modifiedAt);
+		}
+		when(appointmentRepository.findAll(Mockito.<Specification<Appointment>>any())).thenReturn(List.of(fresh, missing, stale));
+		when(calendarDayRepository.findAll(Mockito.<Specification<CalendarDay>>any())).thenReturn(List.of(
+			CalendarDay.builder().id(new CalendarDayId(1L, MONDAY_DATE, 2L)).projectedAt(modifiedAt.plusSeconds(1)).build(),
+			CalendarDay.builder().id(new CalendarDayId(1L, MONDAY_DATE, 3L)).projectedAt(modifiedAt.minusSeconds(1)).build()
+		));
+		when(calendarDayRepository.count()).thenReturn(3L);
+
+		calendarProjectionService.warmUp();
+
+		verify(calendarDayRepository, times(1)).deleteFirmDays(1L);
+		verify(calendarDayRepository, times(1)).deleteDays(Set.of(
+			new CalendarDayId(1L, MONDAY_DATE.plusDays(1), 2L),
+			new CalendarDayId(1L, MONDAY_DATE, 3L)
+		));
+	}
+
+	/**
+	 * Tests that cancelled appointments are read to find their days.
+	 */
+	@Test
+	void projectCancellationTest() {
+		User employee = new User();
+		employee.setId(2L);
+		Firm firm = new Firm();
+		firm.setId(1L);
+		Appointment appointment = Appointment.builder()
+			.firm(firm)
+			.employee(employee)
+			.startTime(MONDAY.plus(9, ChronoUnit.HOURS))
+			.build();
+		when(appointmentRepository.findAllById(List.of(10L))).thenReturn(List.of(appointment));
+
+		calendarProjectionService.appointmentChanged(AppointmentChangedEvent.cancelled(1L, 10L));
+		calendarProjectionService.project();
+
+		verify(appointmentRepository, times(1)).findAllById(List.of(10L));
+		verify(calendarDayRepository, times(1)).deleteDays(Set.of(new CalendarDayId(1L, MONDAY_DATE, 2L)));
+	}
+
+	/**
+	 * Tests that queued changes are projected in batches of the configured size.
+	 */
+	@Test
+	void projectBatchesTest() {
+		for (long id = 10; id < 15; id++) {
+			calendarProjectionService.appointmentChanged(booked(id, 2L, MONDAY.plus(id, ChronoUnit.HOURS)));
+		}
+
+		assertThat(calendarProjectionService.project()).isEqualTo(5);
+
+		verify(calendarDayRepository, times(3)).deleteDays(any());
+		verify(transactionManager, times(3)).commit(any());
+	}
+
+	/**
+	 * Tests that a failed batch is queued again and projected by the next run.
+	 */
+	@Test
+	void projectFailureTest() {
+		doThrow(new IllegalStateException("Database is down.")).doNothing().when(calendarDayRepository).deleteDays(any());
+		calendarProjectionService.appointmentChanged(booked(10L, 2L, MONDAY.plus(9, ChronoUnit.HOURS)));
+
+		assertThat(calendarProjectionService.project()).isZero();
+		assertThat(calendarProjectionService.getPending()).isEqualTo(1);
+		assertThat(meterRegistry.counter("calendar.projection.failures").count()).isEqualTo(1);
+
+		assertThat(calendarProjectionService.project()).isEqualTo(1);
+		assertThat(calendarProjectionService.getPending()).isZero();
+	}
+
+	/**
+	 * Tests that only updated appointment types are queued and that their days are found from
+	 * their appointments.
+	 */
+	@Test
+	void appointmentTypeChangedTest() {
+		calendarProjectionService.appointmentTypeChanged(
+			new AppointmentTypeChangedEvent(1L, 4L, AppointmentTypeChangedEvent.Change.CREATED));
+		assertThat(calendarProjectionService.getPending()).isZero();
+
+		givenAppointments(appointment(10L, 2L, MONDAY.plus(9, ChronoUnit.HOURS), 30));
+		calendarProjectionService.appointmentTypeChanged(
+			new AppointmentTypeChangedEvent(1L, 4L, AppointmentTypeChangedEvent.Change.UPDATED));
+		assertThat(calendarProjectionService.getPending()).isEqualTo(1);
+
+		calendarProjectionService.project();
+
+		verify(calendarDayRepository, times(1)).deleteDays(Set.of(new CalendarDayId(1L, MONDAY_DATE, 2L)));
+		assertThat(insertedDays(1).getFirst()).hasSize(1);
+	}
+
+	/**
+	 * Tests that a rebuild deletes the rows of every firm and inserts the days of all appointments
+	 * one day at a time.
+	 */
+	@Test
+	void rebuildTest() {
+		givenFirm();
+		givenAppointments(
+			appointment(10L, 2L, MONDAY.plus(9, ChronoUnit.HOURS), 30),
+			appointment(11L, 3L, MONDAY.plus(10, ChronoUnit.HOURS), 30),
+			appointment(12L, 2L, MONDAY.plus(1, ChronoUnit.DAYS), 45)
+		);
+		when(calendarDayRepository.insertDays(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+		assertThat(calendarProjectionService.rebuild()).isEqualTo(3);
+
+		verify(calendarDayRepository, times(1)).deleteFirmDays(1L);
+		verify(transactionManager, times(1)).commit(any());
+		List<List<CalendarDay>> inserts = insertedDays(2);
+		assertThat(inserts.get(0)).extracting(day -> day.getId().getEmployeeId()).containsExactly(2L, 3L);
+		assertThat(inserts.get(1)).extracting(day -> day.getId().getDay()).containsExactly(MONDAY_DATE.plusDays(1));
+	}
+
+	/**
+	 * Tests that a rebuild locks each firm exclusively across instances before deleting its rows.
+	 */
+	@Test
+	void rebuildLockedTest() {
+		calendarProjectionService = service(true);
+		givenFirm();
+
+		calendarProjectionService.rebuild();
+
+		InOrder inOrder = inOrder(appointmentRepository, calendarDayRepository);
+		inOrder.verify(appointmentRepository, times(1)).lockTransactionScoped(new long[]{4L << 48 | 1L}, Duration.ofSeconds(5));
+		inOrder.verify(calendarDayRepository, times(1)).deleteFirmDays(1L);
+		verify(appointmentRepository, never()).lockSharedTransactionScoped(any(), any());
+	}
+
+	/**
+	 * Tests that a changed occurrence of a series replaces its day with the occurrences and the
+	 * appointments starting on it, in start order.
+	 */
+	@Test
+	void projectOccurrenceTest() {
+		givenAppointments(appointment(10L, 2L, MONDAY.plus(10, ChronoUnit.HOURS), 30));
+		givenOccurrences(occurrence(2L, MONDAY.plus(9, ChronoUnit.HOURS)), occurrence(3L, MONDAY.plus(9, ChronoUnit.HOURS)));
+		calendarProjectionService.appointmentChanged(AppointmentChangedEvent.builder()
+			.firmId(1L)
+			.change(AppointmentChangedEvent.Change.BOOKED)
+			.employeeId(2L)
+			.startTime(MONDAY.plus(9, ChronoUnit.HOURS))
+			.endTime(MONDAY.plus(10, ChronoUnit.HOURS))
+			.seriesId(5L)
+			.originalStartTime(MONDAY.plus(9, ChronoUnit.HOURS))
+			.build());
+
+		calendarProjectionService.project();
+
+		verify(appointmentSeriesService, times(1)).findOccurrences(
+			1L, Set.of(2L), MONDAY, MONDAY.plus(1, ChronoUnit.DAYS)
+		);
+		verify(calendarDayRepository, times(1)).deleteDays(Set.of(new CalendarDayId(1L, MONDAY_DATE, 2L)));
+		List<CalendarDay> days = insertedDays(1).getFirst();
+		assertThat(days).extracting(CalendarDay::getId).containsExactly(new CalendarDayId(1L, MONDAY_DATE, 2L));
+		assertThat(days.getFirst().getEntries()).extracting(CalendarDayEntry::getStartMinute).containsExactly(540, 600);
+		CalendarDayEntry entry = days.getFirst().getEntries().getFirst();
+		assertThat(entry.getSeriesId()).isEqualTo(5L);
+		assertThat(entry.getOriginalStartTime()).isEqualTo(MONDAY.plus(9, ChronoUnit.HOURS));
+		assertThat(entry.getTypeName()).isEqualTo("Therapy");
+		assertThat(entry.getDurationMinutes()).isEqualTo(60);
+	}
+
+	/**
+	 * Tests that a rebuild inserts the days with occurrences only in day order between the days
+	 * with appointments.
+	 */
+	@Test
+	void rebuildOccurrencesTest() {
+		givenFirm();
+		givenAppointments(
+			appointment(10L, 2L, MONDAY.plus(10, ChronoUnit.HOURS), 30),
+			appointment(11L, 2L, MONDAY.plus(2, ChronoUnit.DAYS), 30)
+		);
+		givenOccurrences(
+			occurrence(2L, MONDAY.plus(9, ChronoUnit.HOURS)),
+			occurrence(2L, MONDAY.plus(1, ChronoUnit.DAYS).plus(9, ChronoUnit.HOURS)),
+			occurrence(2L, MONDAY.plus(3, ChronoUnit.DAYS).plus(9, ChronoUnit.HOURS))
+		);
+		when(calendarDayRepository.insertDays(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+		assertThat(calendarProjectionService.rebuild()).isEqualTo(4);
+
+		List<List<CalendarDay>> inserts = insertedDays(4);
+		assertThat(inserts).extracting(days -> days.getFirst().getId().getDay())
+			.containsExactly(MONDAY_DATE, MONDAY_DATE.plusDays(1), MONDAY_DATE.plusDays(2), MONDAY_DATE.plusDays(3));
+		assertThat(inserts.getFirst().getFirst().getEntries()).extracting(CalendarDayEntry::getId).containsExactly(0L, 10L);
+	}
+
+	/**
+	 * Tests that the days the series horizon moves past are projected with their occurrences.
+	 */
+	@Test
+	void projectHorizonTest() {
+		givenFirm();
+		Instant start = Instant.now().plus(Duration.ofDays(360)).truncatedTo(ChronoUnit.DAYS);
+		givenOccurrences(occurrence(2L, start.plus(9, ChronoUnit.HOURS)));
+
+		calendarProjectionService.project();
+		calendarProjectionService.project();
+
+		verify(appointmentSeriesService, times(1)).findOccurrences(eq(1L), eq(List.of()), any(), any());
+		verify(calendarDayRepository, times(1)).deleteDays(Set.of(new CalendarDayId(1L, LocalDate.ofInstant(start, ZoneOffset.UTC), 2L)));
+		assertThat(insertedDays(1).getFirst().getFirst().getEntries()).extracting(CalendarDayEntry::getSeriesId).containsExactly(5L);
+	}
+
+	/**
+	 * Tests that the lag is the waiting time of the oldest queued change.
+	 */
+	@Test
+	void getLagTest() {
+		assertThat(calendarProjectionService.getLag()).isEqualTo(Duration.ZERO);
+
+		calendarProjectionService.appointmentChanged(booked(10L, 2L, MONDAY.plus(9, ChronoUnit.HOURS)));
+
+		assertThat(calendarProjectionService.getLag().isNegative()).isFalse();
+		assertThat(meterRegistry.get("calendar.projection.pending").gauge().value()).isEqualTo(1);
+	}
+
+	private CalendarProjectionServiceImpl service(boolean advisoryLocks) {
+		return new CalendarProjectionServiceImpl(
+			calendarDayRepository, appointmentRepository, appointmentSeriesService, userRepository, appointmentTypeRepository,
+			firmRepository, transactionManager, meterRegistry, 2, advisoryLocks, Duration.ofSeconds(5), Duration.ofDays(7),
+			Duration.ofDays(365)
+		);
+	}
+
+	private void givenFirm() {
+		Firm firm = new Firm();
+		firm.setId(1L);
+		when(firmRepository.findAll()).thenReturn(List.of(firm));
+	}
+
+	private void givenOccurrences(AppointmentOccurrenceDTO... occurrences) {
+		when(appointmentSeriesService.findOccurrences(any(), any(), any(), any())).thenReturn(List.of(occurrences));
+		User employee = new User();
+		employee.setId(2L);
+		employee.setLastName("Horvat");
+		AppointmentType type = AppointmentType.builder().name("Therapy").build();
+		type.setId(4L);
+		when(userRepository.findAllById(any())).thenReturn(List.of(employee));
+		when(appointmentTypeRepository.findAllById(any())).thenReturn(List.of(type));
+	}
+
+	private static AppointmentOccurrenceDTO occurrence(Long employeeId, Instant startTime) {
+		return AppointmentOccurrenceDTO.builder()
+			.seriesId(5L)
+			.employeeId(employeeId)
+			.appointmentTypeId(4L)
+			.originalStartTime(startTime)
+			.startTime(startTime)
+			.endTime(startTime.plus(60, ChronoUnit.MINUTES))
+			.build();
+	}
+
+	private void givenAppointments(Appointment... appointments) {
+		doAnswer(invocation -> {
+			AppointmentCalendarRepository.CalendarEntryHandler handler = invocation.getArgument(1);
+			for (Appointment appointment : appointments) {
+				handler.handle(appointment.getId(), 1L, appointment.getEmployee().getId(), "Ana", "Horvat",
+					4L, "Consultation", "#FFFFFF", appointment.getStartTime(), appointment.getEndTime(), AppointmentStatus.BOOKED);
+			}
+			return null;
+		}).when(appointmentRepository).forEachCalendarEntry(Mockito.<Specification<Appointment>>any(), any());
+	}
+
+	private List<List<CalendarDay>> insertedDays(int times) {
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<CalendarDay>> captor = ArgumentCaptor.forClass(List.class);
+		verify(calendarDayRepository, times(times)).insertDays(captor.capture());
+		return new ArrayList<>(captor.getAllValues());
+	}
+
+	private static Appointment appointment(Long id, Long employeeId, Instant startTime, int durationMinutes) {
+		User employee = new User();
+		employee.setId(employeeId);
+		Appointment appointment = Appointment.builder()
+			.employee(employee)
+			.startTime(startTime)
+			.endTime(startTime.plus(durationMinutes, ChronoUnit.MINUTES))
+			.build();
+		appointment.setId(id);
+		return appointment;
+	}
+
+	private static AppointmentChangedEvent booked(Long appointmentId, Long employeeId, Instant startTime) {
+		return AppointmentChangedEvent.builder()
+			.firmId(1L)
+			.appointmentId(appointmentId)
+			.change(AppointmentChangedEvent.Change.BOOKED)
+			.employeeId(employeeId)
+			.startTime(startTime)
+			.endTime(startTime.plus(30, ChronoUnit.MINUTES))
+			.build();
+	}
+}
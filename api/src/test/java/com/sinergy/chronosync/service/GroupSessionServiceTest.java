@@ -0,0 +1,199 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.SessionSeatCounter;
+import com.sinergy.chronosync.dto.request.GroupSessionSignupRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentAttendeeDTO;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentAttendee;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.customer.Customer;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.repository.AppointmentAttendeeRepository;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.CustomerRepository;
+import com.sinergy.chronosync.service.impl.GroupSessionServiceImpl;
+import com.sinergy.chronosync.util.SqlStateUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link GroupSessionServiceImpl}.
+ */
+class GroupSessionServiceTest {
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+
+	@Mock
+	private AppointmentAttendeeRepository attendeeRepository;
+
+	@Mock
+	private CustomerRepository customerRepository;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private AuditService auditService;
+
+	private SessionSeatCounter seatCounter;
+
+	private GroupSessionServiceImpl groupSessionService;
+
+	private Firm firm;
+
+	private Appointment session;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		seatCounter = new SessionSeatCounter(Duration.ofMinutes(1), 100);
+		groupSessionService = new GroupSessionServiceImpl(
+			appointmentRepository, attendeeRepository, customerRepository, userService, auditService, seatCounter
+		);
+
+		firm = new Firm();
+		firm.setId(1L);
+		when(userService.getAuthUserFirm()).thenReturn(firm);
+
+		session = Appointment.builder()
+			.firm(firm)
+			.startTime(Instant.parse("2024-10-07T09:00:00Z"))
+			.endTime(Instant.parse("2024-10-07T10:00:00Z"))
+			.status(AppointmentStatus.BOOKED)
+			.seatsLeft(1)
+			.build();
+		session.setId(10L);
+		when(appointmentRepository.findOne(Mockito.<Specification<Appointment>>any())).thenReturn(Optional.of(session));
+
+		Customer customer = new Customer();
+		customer.setId(5L);
+		customer.setFirm(firm);
+		when(customerRepository.findById(5L)).thenReturn(Optional.of(customer));
+
+		when(attendeeRepository.saveAndFlush(any(AppointmentAttendee.class))).thenAnswer(invocation -> {
+			AppointmentAttendee attendee = invocation.getArgument(0);
+			attendee.setId(20L);
+			return attendee;
+		});
+		when(appointmentRepository.takeSeat(10L)).thenReturn(true);
+	}
+
+	/**
+	 * Tests that a signup inserts the attendee before it takes the seat in the database, and that
+	 * a full session is then rejected in memory without touching the database.
+	 */
+	@Test
+	void signUpTest() {
+		AppointmentAttendeeDTO attendee = groupSessionService.signUp(getRequest());
+
+		assertThat(attendee.getId()).isEqualTo(20L);
+		assertThat(attendee.getAppointmentId()).isEqualTo(10L);
+		assertThat(attendee.getCustomerId()).isEqualTo(5L);
+		InOrder inOrder = inOrder(attendeeRepository, appointmentRepository);
+		inOrder.verify(attendeeRepository).saveAndFlush(any(AppointmentAttendee.class));
+		inOrder.verify(appointmentRepository).takeSeat(10L);
+		verify(auditService, times(1)).publish(AuditAction.CREATE, AppointmentAttendee.class, 20L);
+
+		assertThrows(BookingConflictException.class, () -> groupSessionService.signUp(getRequest()));
+		verify(attendeeRepository, times(1)).saveAndFlush(any(AppointmentAttendee.class));
+		verify(appointmentRepository, times(1)).takeSeat(10L);
+	}
+
+	/**
+	 * Tests that a signup rejected by the conditional update drops the counter of the session.
+	 */
+	@Test
+	void signUpFullInDatabaseTest() {
+		when(appointmentRepository.takeSeat(10L)).thenReturn(false);
+
+		assertThrows(BookingConflictException.class, () -> groupSessionService.signUp(getRequest()));
+
+		assertThat(seatCounter.size()).isZero();
+		verify(auditService, never()).publish(any(), any(), any());
+	}
+
+	/**
+	 * Tests that a second signup of the same customer is reported as a conflict, and that its seat
+	 * is given back when the transaction rolls back.
+	 */
+	@Test
+	void signUpDuplicateTest() {
+		session.setSeatsLeft(2);
+		when(attendeeRepository.saveAndFlush(any(AppointmentAttendee.class))).thenThrow(new DataIntegrityViolationException(
+			"could not execute statement",
+			new SQLException("duplicate key value violates unique constraint", SqlStateUtils.UNIQUE_VIOLATION)
+		));
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			assertThrows(BookingConflictException.class, () -> groupSessionService.signUp(getRequest()));
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(seatCounter.tryTake(10L, 0)).isNotNull();
+		assertThat(seatCounter.tryTake(10L, 0)).isNotNull();
+		verify(appointmentRepository, never()).takeSeat(any(Long.class));
+	}
+
+	/**
+	 * Tests that appointments which are not group sessions cannot be signed up to.
+	 */
+	@Test
+	void signUpNotGroupSessionTest() {
+		session.setSeatsLeft(null);
+
+		assertThrows(InvalidStateException.class, () -> groupSessionService.signUp(getRequest()));
+
+		verify(attendeeRepository, never()).saveAndFlush(any());
+	}
+
+	/**
+	 * Tests that cancelling a signup deletes the attendee and returns the seat.
+	 */
+	@Test
+	void cancelSignupTest() {
+		AppointmentAttendee attendee = AppointmentAttendee.builder().appointment(session).build();
+		attendee.setId(20L);
+		when(attendeeRepository.findOne(Mockito.<Specification<AppointmentAttendee>>any())).thenReturn(Optional.of(attendee));
+		when(attendeeRepository.delete(Mockito.<Specification<AppointmentAttendee>>any())).thenReturn(1L, 0L);
+		groupSessionService.signUp(getRequest());
+
+		groupSessionService.cancelSignup(getRequest());
+
+		verify(appointmentRepository, times(1)).returnSeat(10L);
+		verify(auditService, times(1)).publish(AuditAction.DELETE, AppointmentAttendee.class, 20L);
+		assertThat(seatCounter.tryTake(10L, 0)).isNotNull();
+
+		assertThrows(InvalidStateException.class, () -> groupSessionService.cancelSignup(getRequest()));
+		verify(appointmentRepository, times(1)).returnSeat(10L);
+	}
+
+	private GroupSessionSignupRequestDTO getRequest() {
+		return GroupSessionSignupRequestDTO.builder().appointmentId(10L).customerId(5L).build();
+	}
+}
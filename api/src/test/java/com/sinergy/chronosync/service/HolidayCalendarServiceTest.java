@@ -0,0 +1,177 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.ClosedDayCalendar;
+import com.sinergy.chronosync.dto.response.FirmClosureResponseDTO;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.firm.FirmClosure;
+import com.sinergy.chronosync.repository.FirmClosureRepository;
+import com.sinergy.chronosync.repository.FirmRepository;
+import com.sinergy.chronosync.service.impl.HolidayCalendarServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link HolidayCalendarServiceImpl}.
+ */
+class HolidayCalendarServiceTest {
+
+	private static final String CALENDAR = String.join("\r\n",
+		"BEGIN:VCALENDAR",
+		"BEGIN:VEVENT",
+		"UID:new-year",
+		"SUMMARY:New Year",
+		"DTSTART;VALUE=DATE:20200101",
+		"DTEND;VALUE=DATE:20200103",
+		"RRULE:FREQ=YEARLY",
+		"END:VEVENT",
+		"BEGIN:VEVENT",
+		"UID:anniversary",
+		"SUMMARY:Anniversary",
+		"DTSTART;VALUE=DATE:20240614",
+		"END:VEVENT",
+		"END:VCALENDAR");
+
+	@Mock
+	private FirmClosureRepository closureRepository;
+
+	@Mock
+	private FirmRepository firmRepository;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private AuditService auditService;
+
+	private ClosedDayCalendar closedDayCalendar;
+
+	private HolidayCalendarServiceImpl holidayCalendarService;
+
+	private Firm firm;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		closedDayCalendar = new ClosedDayCalendar(closureRepository, Duration.ofMinutes(5));
+		holidayCalendarService = new HolidayCalendarServiceImpl(
+			closureRepository, firmRepository, userService, auditService, closedDayCalendar, 1
+		);
+
+		firm = new Firm();
+		firm.setId(1L);
+		when(userService.getAuthUserFirm()).thenReturn(firm);
+
+		AtomicLong ids = new AtomicLong(100);
+		when(closureRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			List<FirmClosure> closures = new ArrayList<>(invocation.getArgument(0));
+			closures.forEach(closure -> closure.setId(ids.incrementAndGet()));
+			return closures;
+		});
+	}
+
+	/**
+	 * Tests that recurring holidays are expanded over the imported years, that closures
+	 * unchanged since the last import are kept and others replaced, and that the closed
+	 * days are updated.
+	 */
+	@Test
+	void importCalendarTest() {
+		int year = LocalDate.now(ZoneOffset.UTC).getYear();
+		FirmClosure unchanged = closure(1L, LocalDate.of(year, 1, 1), LocalDate.of(year, 1, 2), "New Year");
+		FirmClosure stale = closure(2L, LocalDate.of(year, 5, 1), LocalDate.of(year, 5, 1), "Labour Day");
+		when(closureRepository.findAll(Mockito.<Specification<FirmClosure>>any()))
+			.thenReturn(List.of())
+			.thenReturn(List.of(unchanged, stale));
+		assertThat(closedDayCalendar.isClosed(1L, LocalDate.of(year + 1, 1, 2))).isFalse();
+
+		List<FirmClosureResponseDTO> closures = holidayCalendarService.importCalendar("public", CALENDAR);
+
+		// New Year of the previous, current and next year plus the one-off anniversary.
+		assertThat(closures).extracting(FirmClosureResponseDTO::getStartDate).containsExactly(
+			LocalDate.of(2024, 6, 14), LocalDate.of(year - 1, 1, 1), LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1));
+		assertThat(closures).filteredOn(closure -> closure.getId() == 1L).hasSize(1);
+
+		verify(closureRepository, times(1)).deleteAll(List.of(stale));
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<FirmClosure>> captor = ArgumentCaptor.forClass(List.class);
+		verify(closureRepository, times(1)).saveAll(captor.capture());
+		assertThat(captor.getValue()).hasSize(3).allMatch(closure -> "public".equals(closure.getCalendar()));
+		verify(auditService, times(1)).publish(AuditAction.DELETE, FirmClosure.class, 2L);
+		verify(auditService, times(3)).publish(eq(AuditAction.CREATE), eq(FirmClosure.class), any());
+
+		assertThat(closedDayCalendar.isClosed(1L, LocalDate.of(year + 1, 1, 2))).isTrue();
+		assertThat(closedDayCalendar.isClosed(1L, LocalDate.of(year + 1, 1, 3))).isFalse();
+	}
+
+	/**
+	 * Tests that invalid names, unreadable files and unknown firms are rejected without changes.
+	 */
+	@Test
+	void importCalendarInvalidTest() {
+		assertThrows(InvalidStateException.class, () -> holidayCalendarService.importCalendar(" ", CALENDAR));
+		assertThrows(InvalidStateException.class, () -> holidayCalendarService.importCalendar("x".repeat(65), CALENDAR));
+		assertThrows(InvalidStateException.class, () -> holidayCalendarService.importCalendar("public", "not a calendar"));
+		assertThrows(InvalidStateException.class, () -> holidayCalendarService.importCalendar("public",
+			CALENDAR.replace("FREQ=YEARLY", "FREQ=SECONDLY")));
+		assertThrows(InvalidStateException.class, () -> holidayCalendarService.importCalendar("public",
+			CALENDAR.replace("FREQ=YEARLY", "FREQ=YEARLY;BYDAY=MO")));
+		when(firmRepository.findById(2L)).thenReturn(Optional.empty());
+		assertThrows(InvalidStateException.class, () -> holidayCalendarService.importCalendar(2L, "public", CALENDAR));
+
+		verify(closureRepository, never()).saveAll(anyList());
+		verify(closureRepository, never()).deleteAll(anyList());
+	}
+
+	/**
+	 * Tests that deleting a calendar removes its closures and reopens their days.
+	 */
+	@Test
+	void deleteCalendarTest() {
+		FirmClosure closure = closure(1L, LocalDate.parse("2024-12-25"), LocalDate.parse("2024-12-26"), "Christmas");
+		when(closureRepository.findAll(Mockito.<Specification<FirmClosure>>any()))
+			.thenReturn(List.of(closure))
+			.thenReturn(List.of(closure))
+			.thenReturn(List.of());
+		assertThat(holidayCalendarService.getClosedDays(2024)).containsExactly(
+			LocalDate.parse("2024-12-25"), LocalDate.parse("2024-12-26"));
+
+		holidayCalendarService.deleteCalendar("public");
+
+		verify(closureRepository, times(1)).deleteAll(List.of(closure));
+		assertThat(holidayCalendarService.getClosedDays(2024)).isEmpty();
+		assertThrows(InvalidStateException.class, () -> holidayCalendarService.deleteCalendar("public"));
+	}
+
+	private FirmClosure closure(Long id, LocalDate startDate, LocalDate endDate, String description) {
+		FirmClosure closure = FirmClosure.builder()
+			.firm(firm)
+			.startDate(startDate)
+			.endDate(endDate)
+			.description(description)
+			.calendar("public")
+			.build();
+		closure.setId(id);
+		return closure;
+	}
+}
@@ -2,6 +2,8 @@ package com.sinergy.chronosync.service;
 
 import com.sinergy.chronosync.builder.TokenFilterBuilder;
 import com.sinergy.chronosync.model.Token;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.repository.TokenRepository;
 import com.sinergy.chronosync.service.impl.LogoutServiceImpl;
 import jakarta.servlet.http.HttpServletRequest;
@@ -41,6 +43,9 @@ class LogoutServiceTest {
 	@Mock
 	private Authentication authentication;
 
+	@Mock
+	private AuditService auditService;
+
 	@InjectMocks
 	private LogoutServiceImpl logoutService;
 
@@ -56,7 +61,8 @@ class LogoutServiceTest {
 	@Test
 	void successfulLogoutTest() {
 		String validJwt = "Bearer jwt123";
-		Token token = new Token();
+		Token token = Token.builder().user(new User()).build();
+		token.getUser().setId(1L);
 
 		when(request.getHeader("Authorization")).thenReturn(validJwt);
 		when(tokenRepository.findOne(Mockito.<Specification<Token>>any()))
@@ -65,6 +71,7 @@ class LogoutServiceTest {
 		logoutService.logout(request, response, authentication);
 
 		verify(tokenRepository, times(1)).delete(token);
+		verify(auditService, times(1)).publish(AuditAction.LOGOUT, User.class, 1L);
 		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
 	}
 
@@ -0,0 +1,208 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.dto.request.EmployeeQualificationRequestDTO;
+import com.sinergy.chronosync.dto.response.EmployeeQualificationResponseDTO;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.EmployeeQualification;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.EmployeeQualificationRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.impl.QualificationServiceImpl;
+import com.sinergy.chronosync.util.SqlStateUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link QualificationServiceImpl}.
+ */
+class QualificationServiceTest {
+
+	@Mock
+	private EmployeeQualificationRepository qualificationRepository;
+
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private AuditService auditService;
+
+	private QualificationIndex qualificationIndex;
+
+	private QualificationServiceImpl qualificationService;
+
+	private Firm firm;
+
+	private AppointmentType appointmentType;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		qualificationIndex = new QualificationIndex(qualificationRepository, appointmentTypeRepository, Duration.ofMinutes(5));
+		qualificationService = new QualificationServiceImpl(
+			qualificationRepository, appointmentTypeRepository, userRepository, userService, auditService, qualificationIndex
+		);
+
+		firm = new Firm();
+		firm.setId(1L);
+		when(userService.getAuthUserFirm()).thenReturn(firm);
+
+		appointmentType = AppointmentType.builder().durationMinutes(30).firm(firm).build();
+		appointmentType.setId(4L);
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointmentType));
+		when(userRepository.exists(Mockito.<Specification<User>>any())).thenReturn(true);
+		when(userRepository.getReferenceById(any())).thenAnswer(invocation -> getEmployee(invocation.getArgument(0)));
+		when(qualificationRepository.saveAndFlush(any(EmployeeQualification.class))).thenAnswer(invocation -> {
+			EmployeeQualification qualification = invocation.getArgument(0);
+			qualification.setId(9L);
+			return qualification;
+		});
+	}
+
+	/**
+	 * Tests that the first qualification of a type restricts it to the qualified employee.
+	 */
+	@Test
+	void grantQualificationTest() {
+		assertThat(qualificationIndex.isQualified(1L, 4L, 3L)).isTrue();
+
+		EmployeeQualificationResponseDTO response = qualificationService.grantQualification(
+			EmployeeQualificationRequestDTO.builder().employeeId(2L).appointmentTypeId(4L).build()
+		);
+
+		assertThat(response.getId()).isEqualTo(9L);
+		assertThat(response.getEmployeeId()).isEqualTo(2L);
+		assertThat(response.getAppointmentTypeId()).isEqualTo(4L);
+		assertThat(qualificationIndex.isQualified(1L, 4L, 2L)).isTrue();
+		assertThat(qualificationIndex.isQualified(1L, 4L, 3L)).isFalse();
+		assertThat(appointmentType.isQualificationRequired()).isTrue();
+		verify(auditService).publish(AuditAction.CREATE, EmployeeQualification.class, 9L);
+	}
+
+	/**
+	 * Tests that qualifications for types or employees of other firms are rejected.
+	 */
+	@Test
+	void grantQualificationOtherFirmTest() {
+		Firm otherFirm = new Firm();
+		otherFirm.setId(2L);
+		appointmentType.setFirm(otherFirm);
+
+		assertThrows(InvalidStateException.class, () -> qualificationService.grantQualification(
+			EmployeeQualificationRequestDTO.builder().employeeId(2L).appointmentTypeId(4L).build()
+		));
+
+		appointmentType.setFirm(firm);
+		when(userRepository.exists(Mockito.<Specification<User>>any())).thenReturn(false);
+
+		assertThrows(InvalidStateException.class, () -> qualificationService.grantQualification(
+			EmployeeQualificationRequestDTO.builder().employeeId(2L).appointmentTypeId(4L).build()
+		));
+		verify(qualificationRepository, never()).saveAndFlush(any(EmployeeQualification.class));
+	}
+
+	/**
+	 * Tests that a duplicate qualification is reported as an invalid state.
+	 */
+	@Test
+	void grantQualificationDuplicateTest() {
+		when(qualificationRepository.saveAndFlush(any(EmployeeQualification.class))).thenThrow(new DataIntegrityViolationException(
+			"could not execute statement",
+			new SQLException("duplicate key value violates unique constraint", SqlStateUtils.UNIQUE_VIOLATION)
+		));
+
+		assertThrows(InvalidStateException.class, () -> qualificationService.grantQualification(
+			EmployeeQualificationRequestDTO.builder().employeeId(2L).appointmentTypeId(4L).build()
+		));
+		verify(auditService, never()).publish(any(), any(), any());
+	}
+
+	/**
+	 * Tests that revoking the last qualification of a type leaves it restricted, so no employee
+	 * can perform it.
+	 */
+	@Test
+	void revokeQualificationTest() {
+		qualificationIndex.matrix(1L);
+		qualificationIndex.granted(1L, 4L, 2L);
+		EmployeeQualification qualification = EmployeeQualification.builder()
+			.firm(firm)
+			.employee(getEmployee(2L))
+			.appointmentType(appointmentType)
+			.build();
+		qualification.setId(9L);
+		when(qualificationRepository.findOne(Mockito.<Specification<EmployeeQualification>>any())).thenReturn(Optional.of(qualification));
+
+		qualificationService.revokeQualification(9L);
+
+		verify(qualificationRepository).delete(qualification);
+		assertThat(qualificationIndex.isQualified(1L, 4L, 2L)).isFalse();
+		assertThat(qualificationIndex.isQualified(1L, 4L, 3L)).isFalse();
+		verify(auditService).publish(AuditAction.DELETE, EmployeeQualification.class, 9L);
+	}
+
+	/**
+	 * Tests that revoking a missing qualification is rejected.
+	 */
+	@Test
+	void revokeQualificationNotFoundTest() {
+		when(qualificationRepository.findOne(Mockito.<Specification<EmployeeQualification>>any())).thenReturn(Optional.empty());
+
+		assertThrows(InvalidStateException.class, () -> qualificationService.revokeQualification(9L));
+		verify(qualificationRepository, never()).delete(any(EmployeeQualification.class));
+	}
+
+	/**
+	 * Tests that qualifications are mapped to response DTOs.
+	 */
+	@Test
+	void getQualificationsTest() {
+		EmployeeQualification qualification = EmployeeQualification.builder()
+			.firm(firm)
+			.employee(getEmployee(2L))
+			.appointmentType(appointmentType)
+			.build();
+		qualification.setId(9L);
+		when(qualificationRepository.findAll(Mockito.<Specification<EmployeeQualification>>any(), any(Sort.class)))
+			.thenReturn(List.of(qualification));
+
+		List<EmployeeQualificationResponseDTO> response = qualificationService.getQualifications(
+			EmployeeQualificationRequestDTO.builder().employeeId(2L).build()
+		);
+
+		assertThat(response).extracting(EmployeeQualificationResponseDTO::getId).containsExactly(9L);
+	}
+
+	private User getEmployee(Long id) {
+		User employee = new User();
+		employee.setId(id);
+		employee.setFirm(firm);
+		return employee;
+	}
+}
@@ -0,0 +1,394 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.AppointmentIntervalIndex;
+import com.sinergy.chronosync.config.BookingLockCoordinator;
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.dto.request.AbsenceRescheduleRequestDTO;
+import com.sinergy.chronosync.dto.response.AppointmentOccurrenceDTO;
+import com.sinergy.chronosync.dto.response.RescheduleMoveDTO;
+import com.sinergy.chronosync.dto.response.ReschedulePlanDTO;
+import com.sinergy.chronosync.dto.response.UnplacedAppointmentDTO;
+import com.sinergy.chronosync.event.AppointmentChangedEvent;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.EmployeeQualificationRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.impl.RescheduleServiceImpl;
+import com.sinergy.chronosync.util.SlotBitmap;
+import com.sinergy.chronosync.util.SqlStateUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link RescheduleServiceImpl}.
+ */
+class RescheduleServiceTest {
+
+	private static final Instant MONDAY = Instant.parse("2099-01-05T00:00:00Z");
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private AuditService auditService;
+
+	@Mock
+	private AppointmentSeriesService appointmentSeriesService;
+
+	@Mock
+	private SlotHoldService slotHoldService;
+
+	@Mock
+	private WorkingHoursService workingHoursService;
+
+	@Mock
+	private AppointmentIntervalIndex intervalIndex;
+
+	@Mock
+	private BookingLockCoordinator lockCoordinator;
+
+	private RescheduleServiceImpl rescheduleService;
+
+	private Firm firm;
+
+	private Map<Long, User> employees;
+
+	private AppointmentType consultation;
+
+	private AppointmentType treatment;
+
+	private long nextId;
+
+	@Mock
+	private EmployeeQualificationRepository qualificationRepository;
+
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private QualificationIndex qualificationIndex;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		qualificationIndex = new QualificationIndex(qualificationRepository, appointmentTypeRepository, Duration.ofMinutes(5));
+		rescheduleService = new RescheduleServiceImpl(
+			appointmentRepository, userRepository, userService, auditService, appointmentSeriesService,
+			slotHoldService, workingHoursService, intervalIndex, lockCoordinator, qualificationIndex, eventPublisher, 15, 1
+		);
+
+		firm = new Firm();
+		firm.setId(1L);
+		when(userService.getAuthUserFirm()).thenReturn(firm);
+
+		employees = new HashMap<>();
+		consultation = AppointmentType.builder().durationMinutes(30).firm(firm).build();
+		consultation.setId(4L);
+		treatment = AppointmentType.builder().durationMinutes(30).firm(firm).resourceKinds(Set.of("room")).build();
+		treatment.setId(5L);
+		nextId = 100;
+
+		// Employees work around the clock, so only bookings occupy them.
+		when(workingHoursService.getAvailability(eq(1L), any(), any(Instant.class), any(Instant.class))).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(1);
+			int size = (int) Duration.between(invocation.<Instant>getArgument(2), invocation.<Instant>getArgument(3)).toMinutes()
+				/ SlotBitmap.SLOT_MINUTES;
+			Map<Long, SlotBitmap> availability = new HashMap<>();
+			ids.forEach(id -> availability.put(id, new SlotBitmap(size)));
+			return availability;
+		});
+		when(userRepository.getReferenceById(any())).thenAnswer(invocation -> employees.get(invocation.<Long>getArgument(0)));
+	}
+
+	/**
+	 * Tests that bookings go to the least booked colleague free at the same time, otherwise to the
+	 * earliest free time after their start, and that bookings with resources keep their time.
+	 */
+	@Test
+	void planAbsenceTest() {
+		List<Appointment> absent = givenDay();
+
+		ReschedulePlanDTO plan = rescheduleService.planAbsence(request(null));
+
+		assertThat(plan.isApplied()).isFalse();
+		assertThat(plan.getMoves()).extracting(RescheduleMoveDTO::getAppointmentId)
+			.containsExactly(absent.get(0).getId(), absent.get(1).getId(), absent.get(3).getId());
+		assertThat(plan.getMoves()).extracting(RescheduleMoveDTO::getToEmployeeId).containsExactly(3L, 2L, 2L);
+		assertThat(plan.getMoves()).extracting(RescheduleMoveDTO::getStartTime).containsExactly(
+			at(10, 0), at(11, 0), at(14, 0));
+		assertThat(plan.getMoves().get(2).getEndTime()).isEqualTo(at(15, 0));
+		assertThat(plan.getMoves().get(2).getOriginalStartTime()).isEqualTo(at(13, 0));
+		assertThat(plan.getUnplaced()).hasSize(1);
+		assertThat(plan.getUnplaced().get(0).getAppointmentId()).isEqualTo(absent.get(2).getId());
+		assertThat(plan.getUnplaced().get(0).getReason()).contains("resources");
+
+		assertThat(absent.get(0).getEmployee().getId()).isEqualTo(1L);
+		verify(appointmentRepository, times(1)).findAll(Mockito.<Specification<Appointment>>any());
+		verify(appointmentRepository, never()).saveAllAndFlush(anyList());
+		verify(lockCoordinator, never()).lock(any(), anyList());
+	}
+
+	/**
+	 * Tests that occurrences of series of the absent employee within the absence are reported as
+	 * unplaced, in start order with the bookings, and that other occurrences only occupy their time.
+	 */
+	@Test
+	void planAbsenceOccurrenceTest() {
+		List<Appointment> absent = givenDay();
+		when(appointmentSeriesService.findOccurrences(eq(1L), any(), any(), any())).thenReturn(List.of(
+			occurrence(1L, at(9, 0)),
+			occurrence(2L, at(11, 0)),
+			occurrence(1L, at(17, 0))
+		));
+
+		ReschedulePlanDTO plan = rescheduleService.planAbsence(request(null));
+
+		assertThat(plan.getUnplaced()).extracting(UnplacedAppointmentDTO::getStartTime).containsExactly(at(9, 0), at(12, 0));
+		UnplacedAppointmentDTO unplaced = plan.getUnplaced().get(0);
+		assertThat(unplaced.getAppointmentId()).isNull();
+		assertThat(unplaced.getSeriesId()).isEqualTo(20L);
+		assertThat(unplaced.getOriginalStartTime()).isEqualTo(at(9, 0));
+		assertThat(unplaced.getReason()).contains("recurring series");
+		assertThat(plan.getUnplaced().get(1).getAppointmentId()).isEqualTo(absent.get(2).getId());
+		assertThat(plan.getMoves()).extracting(RescheduleMoveDTO::getToEmployeeId).containsExactly(3L, 3L, 2L);
+	}
+
+	/**
+	 * Tests that without days to search, bookings only move to colleagues at the same time, and
+	 * that only the requested colleagues are considered.
+	 */
+	@Test
+	void planAbsenceSameTimeTest() {
+		List<Appointment> booked = new ArrayList<>(givenDay());
+
+		ReschedulePlanDTO plan = rescheduleService.planAbsence(request(0));
+		assertThat(plan.getMoves()).extracting(RescheduleMoveDTO::getToEmployeeId).containsExactly(3L, 2L);
+		assertThat(plan.getUnplaced()).hasSize(2);
+
+		AbsenceRescheduleRequestDTO request = request(0);
+		request.setEmployeeIds(List.of(2L));
+		booked.add(appointment(2L, consultation, at(10, 0), 30));
+		booked.add(appointment(2L, consultation, at(12, 0), 30));
+		booked.add(appointment(2L, consultation, at(13, 0), 60));
+		when(appointmentRepository.findAll(Mockito.<Specification<Appointment>>any())).thenReturn(booked);
+		plan = rescheduleService.planAbsence(request);
+		assertThat(plan.getMoves()).extracting(RescheduleMoveDTO::getToEmployeeId).containsExactly(2L);
+		assertThat(plan.getUnplaced()).hasSize(3);
+	}
+
+	/**
+	 * Tests that applying the plan locks the employees, updates the moved bookings in one flush,
+	 * refreshes the interval index and publishes the moves.
+	 */
+	@Test
+	void rescheduleAbsenceTest() {
+		List<Appointment> absent = givenDay();
+
+		ReschedulePlanDTO plan = rescheduleService.rescheduleAbsence(request(null));
+
+		assertThat(plan.isApplied()).isTrue();
+		verify(lockCoordinator, times(1)).lock(BookingLockCoordinator.Scope.EMPLOYEE, List.of(2L, 3L, 1L));
+		verify(appointmentRepository, times(1)).saveAllAndFlush(List.of(absent.get(0), absent.get(1), absent.get(3)));
+		assertThat(absent.get(0).getEmployee().getId()).isEqualTo(3L);
+		assertThat(absent.get(2).getEmployee().getId()).isEqualTo(1L);
+		assertThat(absent.get(3).getEmployee().getId()).isEqualTo(2L);
+		assertThat(absent.get(3).getStartTime()).isEqualTo(at(14, 0));
+		assertThat(absent.get(3).getEndTime()).isEqualTo(at(15, 0));
+		verify(intervalIndex, times(3)).register(any(Appointment.class));
+		verify(intervalIndex, times(1)).unregister(absent.get(3).getId());
+		verify(auditService, times(3)).publish(eq(AuditAction.UPDATE), eq(Appointment.class), any());
+
+		ArgumentCaptor<AppointmentChangedEvent> events = ArgumentCaptor.forClass(AppointmentChangedEvent.class);
+		verify(eventPublisher, times(3)).publishEvent(events.capture());
+		AppointmentChangedEvent moved = events.getAllValues().get(2);
+		assertThat(moved.getChange()).isEqualTo(AppointmentChangedEvent.Change.MOVED);
+		assertThat(moved.getEmployeeId()).isEqualTo(2L);
+		assertThat(moved.getStartTime()).isEqualTo(at(14, 0));
+		assertThat(moved.getPreviousEmployeeId()).isEqualTo(1L);
+		assertThat(moved.getPreviousStartTime()).isEqualTo(at(13, 0));
+	}
+
+	/**
+	 * Tests that a move rejected by the exclusion constraint fails the whole batch as a conflict.
+	 */
+	@Test
+	void rescheduleAbsenceConflictTest() {
+		givenDay();
+		when(appointmentRepository.saveAllAndFlush(anyList())).thenThrow(new DataIntegrityViolationException(
+			"could not execute statement",
+			new SQLException("conflicting key value violates exclusion constraint", SqlStateUtils.EXCLUSION_VIOLATION)
+		));
+
+		assertThrows(BookingConflictException.class, () -> rescheduleService.rescheduleAbsence(request(null)));
+		verify(intervalIndex, never()).register(any(Appointment.class));
+		verify(auditService, never()).publish(any(), any(), any());
+	}
+
+	/**
+	 * Tests that missing or unknown employees, invalid absences and out of range days are rejected.
+	 */
+	@Test
+	void planAbsenceInvalidTest() {
+		givenEmployees(3);
+
+		AbsenceRescheduleRequestDTO missing = request(null);
+		missing.setEmployeeId(null);
+		assertThrows(InvalidStateException.class, () -> rescheduleService.planAbsence(missing));
+
+		AbsenceRescheduleRequestDTO unknown = request(null);
+		unknown.setEmployeeId(9L);
+		assertThrows(InvalidStateException.class, () -> rescheduleService.planAbsence(unknown));
+
+		AbsenceRescheduleRequestDTO reversed = request(null);
+		reversed.setTo(reversed.getFrom());
+		assertThrows(InvalidStateException.class, () -> rescheduleService.planAbsence(reversed));
+
+		assertThrows(InvalidStateException.class, () -> rescheduleService.planAbsence(request(-1)));
+		assertThrows(InvalidStateException.class, () -> rescheduleService.planAbsence(request(32)));
+		verify(appointmentRepository, never()).findAll(Mockito.<Specification<Appointment>>any());
+	}
+
+	/**
+	 * Tests that a plan for 200 bookings across 20 colleagues is computed well within a second.
+	 */
+	@Test
+	void planAbsencePerformanceTest() {
+		givenEmployees(21);
+		List<Appointment> booked = new ArrayList<>();
+		Random random = new Random(42);
+		for (int day = 0; day < 5; day++) {
+			for (int slot = 0; slot < 40; slot++) {
+				Instant start = MONDAY.plus(day, ChronoUnit.DAYS).plus(7, ChronoUnit.HOURS).plus(slot * 15L, ChronoUnit.MINUTES);
+				booked.add(appointment(1L, consultation, start, 15));
+				for (long colleague = 2; colleague <= 21; colleague++) {
+					if (random.nextInt(3) > 0) {
+						booked.add(appointment(colleague, consultation, start, 15));
+					}
+				}
+			}
+		}
+		when(appointmentRepository.findAll(Mockito.<Specification<Appointment>>any())).thenReturn(booked);
+
+		AbsenceRescheduleRequestDTO request = AbsenceRescheduleRequestDTO.builder()
+			.employeeId(1L)
+			.from(MONDAY)
+			.to(MONDAY.plus(5, ChronoUnit.DAYS))
+			.days(7)
+			.build();
+		rescheduleService.planAbsence(request);
+
+		long started = System.nanoTime();
+		ReschedulePlanDTO plan = rescheduleService.planAbsence(request);
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+		assertThat(plan.getMoves().size() + plan.getUnplaced().size()).isEqualTo(200);
+		assertThat(plan.getUnplaced()).isEmpty();
+		assertThat(elapsed).isLessThan(Duration.ofMillis(500));
+	}
+
+	/**
+	 * Employee 1 is absent on Monday, with a consultation at 10:00, 11:00 and 13:00 to 14:00 and
+	 * a treatment requiring a room at 12:00. Employee 2 is booked at 10:00, 12:00 and 13:00 to
+	 * 14:00, employee 3 at 11:00, 12:00 and 13:00 to 14:30.
+	 */
+	private List<Appointment> givenDay() {
+		givenEmployees(3);
+		List<Appointment> absent = List.of(
+			appointment(1L, consultation, at(10, 0), 30),
+			appointment(1L, consultation, at(11, 0), 30),
+			appointment(1L, treatment, at(12, 0), 30),
+			appointment(1L, consultation, at(13, 0), 60)
+		);
+		List<Appointment> booked = new ArrayList<>(absent);
+		booked.add(appointment(2L, consultation, at(10, 0), 30));
+		booked.add(appointment(2L, consultation, at(12, 0), 30));
+		booked.add(appointment(2L, consultation, at(13, 0), 60));
+		booked.add(appointment(3L, consultation, at(11, 0), 30));
+		booked.add(appointment(3L, consultation, at(12, 0), 30));
+		booked.add(appointment(3L, consultation, at(13, 0), 90));
+		when(appointmentRepository.findAll(Mockito.<Specification<Appointment>>any())).thenReturn(booked);
+		return absent;
+	}
+
+	private void givenEmployees(int count) {
+		for (long id = 1; id <= count; id++) {
+			User employee = new User();
+			employee.setId(id);
+			employee.setFirm(firm);
+			employees.put(id, employee);
+		}
+		when(userRepository.findAll(Mockito.<Specification<User>>any())).thenReturn(new ArrayList<>(employees.values()));
+	}
+
+	private Appointment appointment(Long employeeId, AppointmentType appointmentType, Instant startTime, int minutes) {
+		Appointment appointment = Appointment.builder()
+			.firm(firm)
+			.employee(employees.get(employeeId))
+			.appointmentType(appointmentType)
+			.startTime(startTime)
+			.endTime(startTime.plus(minutes, ChronoUnit.MINUTES))
+			.status(AppointmentStatus.BOOKED)
+			.build();
+		appointment.setId(nextId++);
+		return appointment;
+	}
+
+	private static AppointmentOccurrenceDTO occurrence(Long employeeId, Instant startTime) {
+		return AppointmentOccurrenceDTO.builder()
+			.seriesId(20L)
+			.employeeId(employeeId)
+			.appointmentTypeId(4L)
+			.originalStartTime(startTime)
+			.startTime(startTime)
+			.endTime(startTime.plus(60, ChronoUnit.MINUTES))
+			.build();
+	}
+
+	private static AbsenceRescheduleRequestDTO request(Integer days) {
+		return AbsenceRescheduleRequestDTO.builder()
+			.employeeId(1L)
+			.from(at(9, 0))
+			.to(at(17, 0))
+			.days(days)
+			.build();
+	}
+
+	private static Instant at(int hour, int minute) {
+		return MONDAY.plus(hour, ChronoUnit.HOURS).plus(minute, ChronoUnit.MINUTES);
+	}
+}
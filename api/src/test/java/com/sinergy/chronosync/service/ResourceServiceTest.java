@@ -0,0 +1,224 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentResource;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.resource.Resource;
+import com.sinergy.chronosync.repository.AppointmentResourceRepository;
+import com.sinergy.chronosync.repository.ResourceRepository;
+import com.sinergy.chronosync.service.impl.ResourceServiceImpl;
+import com.sinergy.chronosync.util.SlotBitmap;
+import com.sinergy.chronosync.util.SqlStateUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ResourceServiceImpl}.
+ */
+class ResourceServiceTest {
+
+	private static final Instant MONDAY = Instant.parse("2024-10-07T00:00:00Z");
+
+	@Mock
+	private ResourceRepository resourceRepository;
+
+	@Mock
+	private AppointmentResourceRepository appointmentResourceRepository;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private AuditService auditService;
+
+	@InjectMocks
+	private ResourceServiceImpl resourceService;
+
+	private Firm firm;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+
+		firm = new Firm();
+		firm.setId(1L);
+		when(userService.getAuthUserFirm()).thenReturn(firm);
+		when(resourceRepository.findAll(Mockito.<Specification<Resource>>any(), any(Sort.class))).thenReturn(List.of(
+			getResource(1L, "room"), getResource(2L, "room"), getResource(3L, "laser")
+		));
+		when(resourceRepository.getReferenceById(any())).thenAnswer(invocation -> getResource(invocation.getArgument(0), "room"));
+	}
+
+	/**
+	 * Tests that a kind is occupied only where all of its resources are reserved, and that the
+	 * kinds are combined so that any occupied kind occupies the slot.
+	 */
+	@Test
+	void getOccupancyTest() {
+		// Both rooms are reserved from 09:00 to 09:30, only room 1 until 10:00; the laser from 12:00 to 12:05.
+		when(appointmentResourceRepository.findAll(Mockito.<Specification<AppointmentResource>>any())).thenReturn(List.of(
+			getReservation(1L, MONDAY.plusSeconds(9 * 3600), MONDAY.plusSeconds(10 * 3600)),
+			getReservation(2L, MONDAY.plusSeconds(9 * 3600), MONDAY.plusSeconds(9 * 3600 + 1800)),
+			getReservation(3L, MONDAY.plusSeconds(12 * 3600), MONDAY.plusSeconds(12 * 3600 + 300))
+		));
+
+		SlotBitmap occupancy = resourceService.getOccupancy(1L, List.of("room", "laser"), MONDAY, MONDAY.plusSeconds(86400));
+
+		assertThat(occupancy.size()).isEqualTo(288);
+		assertThat(occupancy.countOccupied()).isEqualTo(7);
+		assertThat(occupancy.isFree(108, 114)).isFalse();
+		assertThat(occupancy.isFree(114, 120)).isTrue();
+		assertThat(occupancy.isOccupied(144)).isTrue();
+		verify(appointmentResourceRepository, times(1)).findAll(Mockito.<Specification<AppointmentResource>>any());
+	}
+
+	/**
+	 * Tests that a required kind without resources occupies the whole range.
+	 */
+	@Test
+	void getOccupancyMissingKindTest() {
+		SlotBitmap occupancy = resourceService.getOccupancy(1L, List.of("chair"), MONDAY, MONDAY.plusSeconds(3600));
+
+		assertThat(occupancy.countOccupied()).isEqualTo(12);
+	}
+
+	/**
+	 * Tests that requested resources are kept and the remaining kinds get their first free resource.
+	 */
+	@Test
+	void allocateResourcesTest() {
+		when(appointmentResourceRepository.findAll(Mockito.<Specification<AppointmentResource>>any())).thenReturn(List.of(
+			getReservation(1L, MONDAY, MONDAY.plusSeconds(3600))
+		));
+
+		assertThat(resourceService.allocateResources(1L, Set.of("room", "laser"), List.of(3L), MONDAY, MONDAY.plusSeconds(1800)))
+			.containsExactly(2L, 3L);
+		assertThat(resourceService.allocateResources(1L, Set.of(), null, MONDAY, MONDAY.plusSeconds(1800))).isEmpty();
+	}
+
+	/**
+	 * Tests that every resource of a required kind is a candidate unless a resource of the kind
+	 * is requested, in which case only the requested one is.
+	 */
+	@Test
+	void findCandidateResourcesTest() {
+		assertThat(resourceService.findCandidateResources(1L, Set.of("room", "laser"), List.of(3L)))
+			.containsExactly(1L, 2L, 3L);
+		assertThat(resourceService.findCandidateResources(1L, Set.of("room", "laser"), List.of(2L)))
+			.containsExactly(2L, 3L);
+		assertThat(resourceService.findCandidateResources(1L, Set.of(), null)).isEmpty();
+		verify(resourceRepository, times(2)).findAll(Mockito.<Specification<Resource>>any(), any(Sort.class));
+	}
+
+	/**
+	 * Tests that unknown or duplicate requested resources are rejected and that a kind without a
+	 * free resource is reported as a conflict.
+	 */
+	@Test
+	void allocateResourcesInvalidTest() {
+		assertThrows(InvalidStateException.class, () -> resourceService.allocateResources(
+			1L, Set.of("room"), List.of(9L), MONDAY, MONDAY.plusSeconds(1800)));
+		assertThrows(InvalidStateException.class, () -> resourceService.allocateResources(
+			1L, Set.of("room"), List.of(1L, 2L), MONDAY, MONDAY.plusSeconds(1800)));
+
+		when(appointmentResourceRepository.findAll(Mockito.<Specification<AppointmentResource>>any())).thenReturn(List.of(
+			getReservation(1L, MONDAY, MONDAY.plusSeconds(3600)),
+			getReservation(2L, MONDAY, MONDAY.plusSeconds(3600))
+		));
+		assertThrows(BookingConflictException.class, () -> resourceService.allocateResources(
+			1L, Set.of("room"), null, MONDAY, MONDAY.plusSeconds(1800)));
+	}
+
+	/**
+	 * Tests that reservations are inserted with the time range of the appointment.
+	 */
+	@Test
+	void reserveResourcesTest() {
+		Appointment appointment = getAppointment();
+
+		resourceService.reserveResources(appointment, List.of(1L, 3L));
+
+		verify(appointmentResourceRepository, times(1)).saveAllAndFlush(argThat(reservations -> {
+			List<AppointmentResource> list = (List<AppointmentResource>) reservations;
+			return list.size() == 2 && list.stream().allMatch(reservation -> reservation.getAppointment() == appointment
+				&& reservation.getStartTime().equals(appointment.getStartTime())
+				&& reservation.getEndTime().equals(appointment.getEndTime()));
+		}));
+	}
+
+	/**
+	 * Tests that reservations overlapping existing ones are reported as conflicts, whether found
+	 * by the check or by the exclusion constraint.
+	 */
+	@Test
+	void reserveResourcesConflictTest() {
+		Appointment appointment = getAppointment();
+		when(appointmentResourceRepository.exists(Mockito.<Specification<AppointmentResource>>any())).thenReturn(true, false);
+		when(appointmentResourceRepository.saveAllAndFlush(anyList())).thenThrow(new DataIntegrityViolationException(
+			"could not execute statement",
+			new SQLException("conflicting key value violates exclusion constraint", SqlStateUtils.EXCLUSION_VIOLATION)
+		));
+
+		assertThrows(BookingConflictException.class, () -> resourceService.reserveResources(appointment, List.of(1L)));
+		verify(appointmentResourceRepository, never()).saveAllAndFlush(anyList());
+		assertThrows(BookingConflictException.class, () -> resourceService.reserveResources(appointment, List.of(1L)));
+	}
+
+	/**
+	 * Tests that a reserved resource cannot be deleted.
+	 */
+	@Test
+	void deleteResourceReservedTest() {
+		when(resourceRepository.findOne(Mockito.<Specification<Resource>>any())).thenReturn(Optional.of(getResource(1L, "room")));
+		when(appointmentResourceRepository.exists(Mockito.<Specification<AppointmentResource>>any())).thenReturn(true);
+
+		assertThrows(InvalidStateException.class, () -> resourceService.deleteResource(1L));
+
+		verify(resourceRepository, never()).delete(any(Resource.class));
+	}
+
+	private Resource getResource(Long id, String kind) {
+		Resource resource = Resource.builder().firm(firm).name(kind + " " + id).kind(kind).build();
+		resource.setId(id);
+		return resource;
+	}
+
+	private AppointmentResource getReservation(Long resourceId, Instant startTime, Instant endTime) {
+		return AppointmentResource.builder()
+			.resource(getResource(resourceId, "room"))
+			.startTime(startTime)
+			.endTime(endTime)
+			.build();
+	}
+
+	private Appointment getAppointment() {
+		Appointment appointment = Appointment.builder()
+			.firm(firm)
+			.startTime(MONDAY.plusSeconds(9 * 3600))
+			.endTime(MONDAY.plusSeconds(9 * 3600 + 1800))
+			.build();
+		appointment.setId(10L);
+		return appointment;
+	}
+}
@@ -0,0 +1,215 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.AppointmentIntervalIndex;
+import com.sinergy.chronosync.config.BookingLockCoordinator;
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.dto.request.SlotHoldRequestDTO;
+import com.sinergy.chronosync.dto.response.SlotHoldResponseDTO;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.EmployeeQualificationRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.service.impl.SlotHoldServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link SlotHoldServiceImpl}.
+ */
+class SlotHoldServiceTest {
+
+	private static final Instant START = Instant.parse("2099-01-05T09:00:00Z");
+
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private AppointmentIntervalIndex intervalIndex;
+
+	@Mock
+	private AppointmentSeriesService appointmentSeriesService;
+
+	@Mock
+	private BookingLockCoordinator lockCoordinator;
+
+	@Mock
+	private WorkingHoursService workingHoursService;
+
+	private SlotHoldServiceImpl slotHoldService;
+
+	@Mock
+	private EmployeeQualificationRepository qualificationRepository;
+
+	private QualificationIndex qualificationIndex;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+
+		qualificationIndex = new QualificationIndex(qualificationRepository, appointmentTypeRepository, Duration.ofMinutes(5));
+		slotHoldService = new SlotHoldServiceImpl(
+			appointmentTypeRepository, userRepository, userService, intervalIndex, appointmentSeriesService,
+			lockCoordinator, workingHoursService, qualificationIndex, Duration.ofMinutes(5), Duration.ofSeconds(1), 64
+		);
+
+		Firm firm = new Firm();
+		firm.setId(1L);
+		when(userService.getAuthUserFirm()).thenReturn(firm);
+		when(userRepository.exists(Mockito.<Specification<User>>any())).thenReturn(true);
+
+		AppointmentType appointmentType = AppointmentType.builder().durationMinutes(30).firm(firm).build();
+		appointmentType.setId(4L);
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointmentType));
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	/**
+	 * Tests that a held slot is reported as held, cannot be held twice, and does not block adjacent slots.
+	 */
+	@Test
+	void holdSlotTest() {
+		SlotHoldResponseDTO hold = slotHoldService.holdSlot(getRequest(START));
+
+		assertThat(hold.getEndTime()).isEqualTo(START.plus(30, ChronoUnit.MINUTES));
+		assertThat(hold.getExpiresAt()).isAfter(Instant.now());
+		assertThat(slotHoldService.isHeld(2L, START.plus(29, ChronoUnit.MINUTES), START.plus(1, ChronoUnit.HOURS))).isTrue();
+		assertThat(slotHoldService.isHeld(2L, START.plus(30, ChronoUnit.MINUTES), START.plus(1, ChronoUnit.HOURS))).isFalse();
+		assertThat(slotHoldService.isHeld(3L, START, START.plus(1, ChronoUnit.HOURS))).isFalse();
+		assertThat(slotHoldService.findHolds(List.of(2L, 3L), START, START.plus(1, ChronoUnit.HOURS)))
+			.extracting(held -> held.getId())
+			.containsExactly(hold.getId());
+
+		assertThrows(BookingConflictException.class, () -> slotHoldService.holdSlot(getRequest(START.plus(15, ChronoUnit.MINUTES))));
+		slotHoldService.holdSlot(getRequest(START.plus(30, ChronoUnit.MINUTES)));
+
+		verify(lockCoordinator, times(3)).lock(BookingLockCoordinator.Scope.EMPLOYEE, List.of(2L));
+	}
+
+	/**
+	 * Tests that booked slots cannot be held.
+	 */
+	@Test
+	void holdSlotBookedTest() {
+		when(intervalIndex.hasConflict(2L, START, START.plus(30, ChronoUnit.MINUTES))).thenReturn(true);
+
+		assertThrows(BookingConflictException.class, () -> slotHoldService.holdSlot(getRequest(START)));
+		assertThat(slotHoldService.isHeld(2L, START, START.plus(30, ChronoUnit.MINUTES))).isFalse();
+	}
+
+	/**
+	 * Tests that releasing within a transaction keeps the hold until the transaction commits.
+	 */
+	@Test
+	void releaseHoldTest() {
+		SlotHoldResponseDTO hold = slotHoldService.holdSlot(getRequest(START));
+
+		TransactionSynchronizationManager.initSynchronization();
+		slotHoldService.releaseHold(hold.getId());
+		assertThat(slotHoldService.isHeld(2L, START, START.plus(30, ChronoUnit.MINUTES))).isTrue();
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		assertThat(slotHoldService.isHeld(2L, START, START.plus(30, ChronoUnit.MINUTES))).isFalse();
+		assertThrows(InvalidStateException.class, () -> slotHoldService.getHold(hold.getId()));
+	}
+
+	/**
+	 * Tests that holds are dropped by the timing wheel once their duration has passed.
+	 */
+	@Test
+	void tickTest() {
+		SlotHoldServiceImpl shortHolds = new SlotHoldServiceImpl(
+			appointmentTypeRepository, userRepository, userService, intervalIndex, appointmentSeriesService,
+			lockCoordinator, workingHoursService, qualificationIndex, Duration.ofSeconds(3), Duration.ofSeconds(1), 2
+		);
+		SlotHoldResponseDTO hold = shortHolds.holdSlot(getRequest(START));
+
+		shortHolds.tick();
+		shortHolds.tick();
+		assertThat(shortHolds.getHold(hold.getId()).getId()).isEqualTo(hold.getId());
+
+		shortHolds.tick();
+		assertThrows(InvalidStateException.class, () -> shortHolds.getHold(hold.getId()));
+		assertThat(shortHolds.findHolds(List.of(2L), START, START.plus(1, ChronoUnit.HOURS))).isEmpty();
+	}
+
+	/**
+	 * Tests that a firm can hold a slot for a given time without a current user, and that the
+	 * hold is checked like any other.
+	 */
+	@Test
+	void holdSlotForFirmTest() {
+		SlotHoldServiceImpl shortTicks = new SlotHoldServiceImpl(
+			appointmentTypeRepository, userRepository, userService, intervalIndex, appointmentSeriesService,
+			lockCoordinator, workingHoursService, qualificationIndex, Duration.ofMinutes(5), Duration.ofSeconds(1), 2
+		);
+		SlotHoldResponseDTO hold = shortTicks.holdSlot(1L, getRequest(START), Duration.ofSeconds(4));
+
+		assertThat(hold.getExpiresAt()).isAfter(Instant.now().plusSeconds(3));
+		assertThrows(InvalidStateException.class, () -> shortTicks.holdSlot(99L, getRequest(START), Duration.ofSeconds(4)));
+		verify(userService, never()).getAuthUserFirm();
+		assertThrows(BookingConflictException.class, () -> shortTicks.holdSlot(getRequest(START)));
+
+		for (int tick = 0; tick < 3; tick++) {
+			shortTicks.tick();
+		}
+		assertThat(shortTicks.isHeld(2L, START, START.plus(30, ChronoUnit.MINUTES))).isTrue();
+		shortTicks.tick();
+		assertThat(shortTicks.isHeld(2L, START, START.plus(30, ChronoUnit.MINUTES))).isFalse();
+	}
+
+	/**
+	 * Tests that holds of another firm are not visible.
+	 */
+	@Test
+	void getHoldOtherFirmTest() {
+		SlotHoldResponseDTO hold = slotHoldService.holdSlot(getRequest(START));
+
+		Firm otherFirm = new Firm();
+		otherFirm.setId(99L);
+		when(userService.getAuthUserFirm()).thenReturn(otherFirm);
+
+		assertThrows(InvalidStateException.class, () -> slotHoldService.getHold(hold.getId()));
+		assertThrows(InvalidStateException.class, () -> slotHoldService.releaseHold(hold.getId()));
+	}
+
+	private SlotHoldRequestDTO getRequest(Instant startTime) {
+		return SlotHoldRequestDTO.builder()
+			.employeeId(2L)
+			.appointmentTypeId(4L)
+			.startTime(startTime)
+			.build();
+	}
+}
@@ -0,0 +1,251 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.ClosedDayCalendar;
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.dto.request.SlotSearchRequestDTO;
+import com.sinergy.chronosync.dto.response.AvailableSlotDTO;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointment.SlotHold;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.workingHours.WorkingHoursTemplate;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.EmployeeQualificationRepository;
+import com.sinergy.chronosync.repository.FirmClosureRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.repository.WorkingHoursOverrideRepository;
+import com.sinergy.chronosync.repository.WorkingHoursTemplateRepository;
+import com.sinergy.chronosync.service.impl.SlotSearchServiceImpl;
+import com.sinergy.chronosync.service.impl.WorkingHoursServiceImpl;
+import com.sinergy.chronosync.util.SlotBitmap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link SlotSearchServiceImpl}.
+ */
+class SlotSearchServiceTest {
+
+	private static final Instant MONDAY = Instant.parse("2099-01-05T00:00:00Z");
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private AppointmentSeriesService appointmentSeriesService;
+
+	@Mock
+	private SlotHoldService slotHoldService;
+
+	@Mock
+	private ResourceService resourceService;
+
+	@Mock
+	private WorkingHoursTemplateRepository templateRepository;
+
+	@Mock
+	private WorkingHoursOverrideRepository overrideRepository;
+
+	@Mock
+	private FirmClosureRepository closureRepository;
+
+	@Mock
+	private AuditService auditService;
+
+	private SlotSearchServiceImpl slotSearchService;
+
+	private Firm firm;
+
+	@Mock
+	private EmployeeQualificationRepository qualificationRepository;
+
+	private QualificationIndex qualificationIndex;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+
+		// Employees without working hours of their own work the default hours.
+		WorkingHoursService workingHoursService = new WorkingHoursServiceImpl(
+			templateRepository, overrideRepository, closureRepository, userRepository, userService, auditService,
+			new ClosedDayCalendar(closureRepository, Duration.ofMinutes(5)), ZoneId.of("UTC"), "08:00", "16:00", List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY), true, 1000, Duration.ofMinutes(5)
+		);
+		qualificationIndex = new QualificationIndex(qualificationRepository, appointmentTypeRepository, Duration.ofMinutes(5));
+		slotSearchService = new SlotSearchServiceImpl(
+			appointmentRepository, appointmentTypeRepository, userRepository, userService, appointmentSeriesService, slotHoldService,
+			workingHoursService, resourceService, qualificationIndex, 15, 7, 2
+		);
+
+		firm = new Firm();
+		firm.setId(1L);
+		when(userService.getAuthUserFirm()).thenReturn(firm);
+
+		AppointmentType appointmentType = new AppointmentType();
+		appointmentType.setId(4L);
+		appointmentType.setFirm(firm);
+		appointmentType.setDurationMinutes(60);
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointmentType));
+
+		when(userRepository.findAll(Mockito.<Specification<User>>any())).thenReturn(List.of(getUser(2L), getUser(3L)));
+	}
+
+	@AfterEach
+	void tearDown() {
+		slotSearchService.shutdown();
+	}
+
+	/**
+	 * Tests that slots within working hours are offered for all employees, earliest first,
+	 * preferring the less booked employee at the same start time, and that bookings are excluded.
+	 */
+	@Test
+	void findAvailableSlotsTest() {
+		// Employee 2 is booked 08:00-09:10, so its first free hour starts at 09:15.
+		when(appointmentRepository.findAll(Mockito.<Specification<Appointment>>any())).thenReturn(List.of(
+			getAppointment(2L, MONDAY.plusSeconds(8 * 3600), MONDAY.plusSeconds(9 * 3600 + 600))
+		));
+
+		Page<AvailableSlotDTO> page = slotSearchService.findAvailableSlots(getRequest(), PageRequest.of(0, 4));
+
+		// Per employee and working day: starts 08:00 to 15:00 every quarter hour, 29 in total.
+		// Employee 2 loses the starts from 08:00 to 09:00 on Monday, i.e. 5 of them.
+		assertThat(page.getTotalElements()).isEqualTo(29 * 4 - 5);
+		assertThat(page.getContent()).extracting(AvailableSlotDTO::getEmployeeId).containsExactly(3L, 3L, 3L, 3L);
+		assertThat(page.getContent().getFirst().getStartTime()).isEqualTo(MONDAY.plusSeconds(8 * 3600));
+		assertThat(page.getContent().getFirst().getEndTime()).isEqualTo(MONDAY.plusSeconds(9 * 3600));
+
+		Page<AvailableSlotDTO> next = slotSearchService.findAvailableSlots(getRequest(), PageRequest.of(2, 3));
+		assertThat(next.getContent()).extracting(AvailableSlotDTO::getEmployeeId).containsExactly(2L, 3L, 2L);
+		assertThat(next.getContent().getFirst().getStartTime()).isEqualTo(MONDAY.plusSeconds(9 * 3600 + 900));
+
+		verify(appointmentRepository, times(2)).findAll(Mockito.<Specification<Appointment>>any());
+		verifyNoInteractions(resourceService);
+	}
+
+	/**
+	 * Tests that slots held by bookings in progress are not offered.
+	 */
+	@Test
+	void findAvailableSlotsHeldTest() {
+		when(slotHoldService.findHolds(List.of(2L, 3L), MONDAY, MONDAY.plusSeconds(7 * 86400))).thenReturn(List.of(
+			SlotHold.builder().employeeId(3L).startTime(MONDAY.plusSeconds(8 * 3600)).endTime(MONDAY.plusSeconds(9 * 3600)).build()
+		));
+
+		Page<AvailableSlotDTO> page = slotSearchService.findAvailableSlots(getRequest(), PageRequest.of(0, 1));
+
+		// Employee 3 loses the starts from 08:00 to 08:45 on Monday.
+		assertThat(page.getTotalElements()).isEqualTo(29 * 4 - 4);
+		assertThat(page.getContent().getFirst().getEmployeeId()).isEqualTo(2L);
+	}
+
+	/**
+	 * Tests that slots in which a required kind of resource has no free resource are not offered
+	 * for any employee, without counting as booked time of the employees.
+	 */
+	@Test
+	void findAvailableSlotsResourcesTest() {
+		appointmentTypeRepository.findById(4L).orElseThrow().setResourceKinds(Set.of("room"));
+		SlotBitmap rooms = new SlotBitmap(7 * 288);
+		rooms.occupy(96, 108);
+		when(resourceService.getOccupancy(1L, Set.of("room"), MONDAY, MONDAY.plusSeconds(7 * 86400))).thenReturn(rooms);
+
+		Page<AvailableSlotDTO> page = slotSearchService.findAvailableSlots(getRequest(), PageRequest.of(0, 2));
+
+		// Both employees lose the starts from 08:00 to 08:45 on Monday.
+		assertThat(page.getTotalElements()).isEqualTo(29 * 4 - 8);
+		assertThat(page.getContent()).extracting(AvailableSlotDTO::getEmployeeId).containsExactly(2L, 3L);
+		assertThat(page.getContent().getFirst().getStartTime()).isEqualTo(MONDAY.plusSeconds(9 * 3600));
+	}
+
+	/**
+	 * Tests that slots are offered only within the working hours of employees with working hours of their own.
+	 */
+	@Test
+	void findAvailableSlotsWorkingHoursTest() {
+		// Employee 2 works on Mondays from 10:00 to 11:15 only.
+		SlotBitmap week = new SlotBitmap(WorkingHoursTemplate.SLOTS_PER_WEEK);
+		week.occupy(120, 135);
+		when(templateRepository.findAll(Mockito.<Specification<WorkingHoursTemplate>>any())).thenReturn(List.of(
+			WorkingHoursTemplate.builder().employee(getUser(2L)).slots(week.toByteArray()).build()
+		));
+
+		Page<AvailableSlotDTO> page = slotSearchService.findAvailableSlots(getRequest(), PageRequest.of(0, 100));
+
+		assertThat(page.getTotalElements()).isEqualTo(29 * 2 + 2);
+		assertThat(page.getContent())
+			.filteredOn(slot -> slot.getEmployeeId().equals(2L))
+			.extracting(AvailableSlotDTO::getStartTime)
+			.containsExactly(MONDAY.plusSeconds(10 * 3600), MONDAY.plusSeconds(10 * 3600 + 900));
+	}
+
+	/**
+	 * Tests that a missing appointment type and too long windows are rejected.
+	 */
+	@Test
+	void findAvailableSlotsInvalidRequestTest() {
+		SlotSearchRequestDTO request = getRequest();
+		request.setAppointmentTypeId(null);
+		assertThrows(InvalidStateException.class, () -> slotSearchService.findAvailableSlots(request, PageRequest.of(0, 10)));
+
+		SlotSearchRequestDTO tooLong = getRequest();
+		tooLong.setDays(60);
+		assertThrows(InvalidStateException.class, () -> slotSearchService.findAvailableSlots(tooLong, PageRequest.of(0, 10)));
+
+		verify(appointmentRepository, never()).findAll(Mockito.<Specification<Appointment>>any());
+	}
+
+	private SlotSearchRequestDTO getRequest() {
+		SlotSearchRequestDTO request = new SlotSearchRequestDTO();
+		request.setAppointmentTypeId(4L);
+		request.setFrom(MONDAY);
+		request.setDays(7);
+		return request;
+	}
+
+	private User getUser(Long id) {
+		User user = new User();
+		user.setId(id);
+		return user;
+	}
+
+	private Appointment getAppointment(Long employeeId, Instant startTime, Instant endTime) {
+		return Appointment.builder()
+			.employee(getUser(employeeId))
+			.startTime(startTime)
+			.endTime(endTime)
+			.status(AppointmentStatus.BOOKED)
+			.build();
+	}
+}
@@ -1,18 +1,37 @@
 package com.sinergy.chronosync.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sinergy.chronosync.dto.request.UserRequestDTO;
+import com.sinergy.chronosync.event.EmployeeChangedEvent;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.exception.UserNotFoundException;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.firm.Firm;
 import com.sinergy.chronosync.model.user.User;
 import com.sinergy.chronosync.repository.UserRepository;
 import com.sinergy.chronosync.service.impl.UserServiceImpl;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -26,6 +45,12 @@ class UserServiceTest {
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
+	@Mock
+	private AuditService auditService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private UserServiceImpl userService;
 
@@ -34,6 +59,11 @@ class UserServiceTest {
 		MockitoAnnotations.openMocks(this);
 	}
 
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
 	/**
 	 * Tests the {@link UserServiceImpl#create(UserRequestDTO)} method.
 	 * Verifies that a user is created successfully and that the correct methods are called
@@ -57,5 +87,95 @@ class UserServiceTest {
 
 		verify(userRepository, times(1)).save(any(User.class));
 		verify(passwordEncoder, times(1)).encode(request.getPassword());
+		verify(auditService, times(1)).publish(AuditAction.CREATE, User.class, user.getId());
+	}
+
+	/**
+	 * Tests the {@link UserServiceImpl#patch(Long, com.fasterxml.jackson.databind.JsonNode)} method.
+	 * Verifies that only the fields from the patch document are passed to the repository.
+	 */
+	@Test
+	void patchUserTest() throws Exception {
+		authenticate();
+		when(userRepository.patch(eq(1L), eq(Map.of("phone", "555-1234")), notNull())).thenReturn(1);
+
+		userService.patch(1L, new ObjectMapper().readTree("{\"phone\": \"555-1234\"}"));
+
+		verify(userRepository, times(1)).patch(eq(1L), eq(Map.of("phone", "555-1234")), notNull());
+		verify(userRepository, never()).save(any(User.class));
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	/**
+	 * Tests the {@link UserServiceImpl#patch(Long, com.fasterxml.jackson.databind.JsonNode)} method
+	 * with a changed name. Verifies that the change is published, since calendar views show names.
+	 */
+	@Test
+	void patchUserNameTest() throws Exception {
+		authenticate();
+		when(userRepository.patch(eq(1L), eq(Map.of("lastName", "Horvat")), notNull())).thenReturn(1);
+
+		userService.patch(1L, new ObjectMapper().readTree("{\"lastName\": \"Horvat\"}"));
+
+		verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+			event instanceof EmployeeChangedEvent changed && changed.getEmployeeId().equals(1L)));
+	}
+
+	/**
+	 * Tests the {@link UserServiceImpl#patch(Long, com.fasterxml.jackson.databind.JsonNode)} method
+	 * with a field that cannot be patched and with a user that does not exist.
+	 */
+	@Test
+	void patchUserInvalidTest() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		authenticate();
+		when(userRepository.patch(eq(2L), any(), notNull())).thenReturn(0);
+
+		assertThrows(
+			InvalidStateException.class,
+			() -> userService.patch(1L, objectMapper.readTree("{\"password\": \"secret\"}"))
+		);
+		assertThrows(
+			InvalidStateException.class,
+			() -> userService.patch(1L, objectMapper.readTree("{\"firstName\": \"\"}"))
+		);
+		assertThrows(
+			UserNotFoundException.class,
+			() -> userService.patch(2L, objectMapper.readTree("{\"address\": \"Main St 1\"}"))
+		);
+	}
+
+	/**
+	 * Tests the {@link UserServiceImpl#getAuthUserFirm()} method.
+	 * Verifies that the firm of the authenticated user is returned, and that a user
+	 * without a firm is rejected.
+	 */
+	@Test
+	void getAuthUserFirmTest() {
+		Firm firm = new Firm();
+		firm.setId(1L);
+		User user = new User();
+		user.setFirm(firm);
+
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken("jdoe", null, List.of())
+		);
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(user));
+		assertThat(userService.getAuthUserFirm()).isSameAs(firm);
+
+		user.setFirm(null);
+		assertThrows(InvalidStateException.class, () -> userService.getAuthUserFirm());
+	}
+
+	private void authenticate() {
+		Firm firm = new Firm();
+		firm.setId(1L);
+		User user = new User();
+		user.setFirm(firm);
+
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken("jdoe", null, List.of())
+		);
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(user));
 	}
 }
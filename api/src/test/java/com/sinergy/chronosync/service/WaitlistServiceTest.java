@@ -0,0 +1,371 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.QualificationIndex;
+import com.sinergy.chronosync.config.WaitlistIndex;
+import com.sinergy.chronosync.dto.request.SlotHoldRequestDTO;
+import com.sinergy.chronosync.dto.request.WaitlistEntryRequestDTO;
+import com.sinergy.chronosync.dto.response.SlotHoldResponseDTO;
+import com.sinergy.chronosync.dto.response.WaitlistEntryResponseDTO;
+import com.sinergy.chronosync.exception.BookingConflictException;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.appointment.Appointment;
+import com.sinergy.chronosync.model.appointment.AppointmentStatus;
+import com.sinergy.chronosync.model.appointmentType.AppointmentType;
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.customer.Customer;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.waitlist.WaitlistEntry;
+import com.sinergy.chronosync.model.waitlist.WaitlistEntryStatus;
+import com.sinergy.chronosync.repository.AppointmentRepository;
+import com.sinergy.chronosync.repository.AppointmentTypeRepository;
+import com.sinergy.chronosync.repository.CustomerRepository;
+import com.sinergy.chronosync.repository.EmployeeQualificationRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.repository.WaitlistEntryRepository;
+import com.sinergy.chronosync.service.impl.WaitlistServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link WaitlistServiceImpl}.
+ */
+class WaitlistServiceTest {
+
+	private static final Instant START = Instant.parse("2099-01-05T09:00:00Z");
+
+	@Mock
+	private WaitlistEntryRepository entryRepository;
+
+	@Mock
+	private AppointmentRepository appointmentRepository;
+
+	@Mock
+	private AppointmentTypeRepository appointmentTypeRepository;
+
+	@Mock
+	private CustomerRepository customerRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private AuditService auditService;
+
+	@Mock
+	private SlotHoldService slotHoldService;
+
+	@Mock
+	private WaitlistIndex waitlistIndex;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private WaitlistServiceImpl waitlistService;
+
+	private Firm firm;
+
+	private AppointmentType appointmentType;
+
+	@Mock
+	private EmployeeQualificationRepository qualificationRepository;
+
+	private QualificationIndex qualificationIndex;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		qualificationIndex = new QualificationIndex(qualificationRepository, appointmentTypeRepository, Duration.ofMinutes(5));
+		waitlistService = new WaitlistServiceImpl(
+			entryRepository, appointmentRepository, appointmentTypeRepository, customerRepository, userRepository,
+			userService, auditService, slotHoldService, waitlistIndex, qualificationIndex, transactionManager, Duration.ofMinutes(30), 2
+		);
+
+		firm = new Firm();
+		firm.setId(1L);
+		when(userService.getAuthUserFirm()).thenReturn(firm);
+
+		appointmentType = AppointmentType.builder().durationMinutes(30).firm(firm).build();
+		appointmentType.setId(4L);
+		when(appointmentTypeRepository.findById(4L)).thenReturn(Optional.of(appointmentType));
+
+		Customer customer = new Customer();
+		customer.setId(5L);
+		customer.setFirm(firm);
+		when(customerRepository.findById(5L)).thenReturn(Optional.of(customer));
+		when(entryRepository.save(any(WaitlistEntry.class))).thenAnswer(invocation -> {
+			WaitlistEntry entry = invocation.getArgument(0);
+			entry.setId(20L);
+			return entry;
+		});
+	}
+
+	/**
+	 * Tests that an entry is stored as waiting and queued in the index.
+	 */
+	@Test
+	void addEntryTest() {
+		WaitlistEntryResponseDTO response = waitlistService.addEntry(getRequest(START, START.plus(2, ChronoUnit.HOURS)));
+
+		assertThat(response.getId()).isEqualTo(20L);
+		assertThat(response.getStatus()).isEqualTo(WaitlistEntryStatus.WAITING);
+		assertThat(response.getPriority()).isZero();
+		assertThat(response.getEmployeeId()).isNull();
+		verify(waitlistIndex, times(1)).added(any(WaitlistEntry.class), eq(30));
+		verify(auditService, times(1)).publish(AuditAction.CREATE, WaitlistEntry.class, 20L);
+	}
+
+	/**
+	 * Tests that incomplete requests, invalid windows and priorities, and group session types are rejected.
+	 */
+	@Test
+	void addEntryInvalidTest() {
+		assertThrows(InvalidStateException.class, () -> waitlistService.addEntry(WaitlistEntryRequestDTO.builder().build()));
+		assertThrows(InvalidStateException.class, () -> waitlistService.addEntry(getRequest(START, START)));
+		assertThrows(InvalidStateException.class, () -> waitlistService.addEntry(
+			getRequest(Instant.now().minus(2, ChronoUnit.HOURS), Instant.now().minus(1, ChronoUnit.HOURS))));
+		assertThrows(InvalidStateException.class, () -> waitlistService.addEntry(getRequest(START, START.plus(93, ChronoUnit.DAYS))));
+		assertThrows(InvalidStateException.class, () -> waitlistService.addEntry(getRequest(START, START.plus(20, ChronoUnit.MINUTES))));
+
+		WaitlistEntryRequestDTO request = getRequest(START, START.plus(2, ChronoUnit.HOURS));
+		request.setPriority(WaitlistEntry.MAX_PRIORITY + 1);
+		assertThrows(InvalidStateException.class, () -> waitlistService.addEntry(request));
+
+		appointmentType.setCapacity(10);
+		assertThrows(InvalidStateException.class, () -> waitlistService.addEntry(getRequest(START, START.plus(2, ChronoUnit.HOURS))));
+
+		verify(entryRepository, never()).save(any(WaitlistEntry.class));
+		verifyNoInteractions(waitlistIndex);
+	}
+
+	/**
+	 * Tests that a burst of cancellations is read in batches, slots in the past are skipped, and
+	 * each freed slot is held for the best entry, which is marked as offered.
+	 */
+	@Test
+	void backfillTest() {
+		Appointment first = getCancelled(10L, START);
+		Appointment second = getCancelled(11L, START.plus(1, ChronoUnit.HOURS));
+		Appointment past = getCancelled(12L, Instant.now().minus(1, ChronoUnit.HOURS));
+		when(appointmentRepository.findAllById(List.of(11L, 10L))).thenReturn(List.of(second, first));
+		when(appointmentRepository.findAllById(List.of(12L))).thenReturn(List.of(past));
+
+		WaitlistEntry entry = getEntry(20L);
+		when(waitlistIndex.poll(1L, 4L, 2L, START)).thenReturn(queued(20L));
+		when(entryRepository.findOne(Mockito.<Specification<WaitlistEntry>>any())).thenReturn(Optional.of(entry));
+		when(slotHoldService.holdSlot(eq(1L), any(SlotHoldRequestDTO.class), eq(Duration.ofMinutes(30))))
+			.thenReturn(SlotHoldResponseDTO.builder()
+				.id("hold")
+				.employeeId(2L)
+				.startTime(START)
+				.expiresAt(Instant.now().plus(30, ChronoUnit.MINUTES))
+				.build());
+
+		waitlistService.appointmentCancelled(11L);
+		waitlistService.appointmentCancelled(10L);
+		waitlistService.appointmentCancelled(12L);
+
+		assertThat(waitlistService.backfill()).isEqualTo(1);
+		assertThat(entry.getStatus()).isEqualTo(WaitlistEntryStatus.OFFERED);
+		assertThat(entry.getHoldId()).isEqualTo("hold");
+		assertThat(entry.getOfferStartTime()).isEqualTo(START);
+		assertThat(entry.getOfferEmployee().getId()).isEqualTo(2L);
+		verify(waitlistIndex, times(1)).poll(1L, 4L, 2L, START.plus(1, ChronoUnit.HOURS));
+		verify(waitlistIndex, never()).poll(any(), any(), any(), eq(past.getStartTime()));
+		verify(auditService, times(1)).publish(AuditAction.UPDATE, WaitlistEntry.class, 20L);
+		verify(transactionManager, times(1)).commit(any());
+
+		assertThat(waitlistService.backfill()).isZero();
+	}
+
+	/**
+	 * Tests that an entry keeps its place if the slot cannot be held, and that entries no longer
+	 * waiting are skipped for the next one.
+	 */
+	@Test
+	void backfillNotOfferedTest() {
+		when(appointmentRepository.findAllById(List.of(10L))).thenReturn(List.of(getCancelled(10L, START)));
+		WaitlistIndex.Queued stale = queued(20L);
+		WaitlistIndex.Queued waiting = queued(21L);
+		when(waitlistIndex.poll(1L, 4L, 2L, START)).thenReturn(stale, waiting);
+		when(entryRepository.findOne(Mockito.<Specification<WaitlistEntry>>any()))
+			.thenReturn(Optional.empty())
+			.thenReturn(Optional.of(getEntry(21L)));
+		when(slotHoldService.holdSlot(eq(1L), any(SlotHoldRequestDTO.class), any()))
+			.thenThrow(new BookingConflictException("The requested time is not available."));
+
+		waitlistService.appointmentCancelled(10L);
+
+		assertThat(waitlistService.backfill()).isZero();
+		verify(waitlistIndex, times(1)).restore(1L, waiting);
+		verify(waitlistIndex, never()).restore(1L, stale);
+		verify(transactionManager, times(1)).rollback(any());
+		verifyNoInteractions(auditService);
+	}
+
+	/**
+	 * Tests that an entry taken from the index is put back when offering the slot fails unexpectedly.
+	 */
+	@Test
+	void backfillFailedTest() {
+		when(appointmentRepository.findAllById(List.of(10L))).thenReturn(List.of(getCancelled(10L, START)));
+		WaitlistIndex.Queued waiting = queued(20L);
+		when(waitlistIndex.poll(1L, 4L, 2L, START)).thenReturn(waiting);
+		when(entryRepository.findOne(Mockito.<Specification<WaitlistEntry>>any())).thenReturn(Optional.of(getEntry(20L)));
+		when(slotHoldService.holdSlot(eq(1L), any(SlotHoldRequestDTO.class), any()))
+			.thenThrow(new IllegalStateException("Connection reset"));
+
+		waitlistService.appointmentCancelled(10L);
+
+		assertThat(waitlistService.backfill()).isZero();
+		verify(waitlistIndex, times(1)).restore(1L, waiting);
+		verify(transactionManager, times(1)).rollback(any());
+	}
+
+	/**
+	 * Tests that an offer expired unconfirmed puts the entry back on the waitlist and offers the
+	 * slot to the next entry, skipping the expired one, and that offers expired elsewhere are left alone.
+	 */
+	@Test
+	void expireOffersTest() {
+		User employee = new User();
+		employee.setId(2L);
+		WaitlistEntry expired = getEntry(20L);
+		expired.setStatus(WaitlistEntryStatus.OFFERED);
+		expired.setHoldId("hold");
+		expired.setOfferEmployee(employee);
+		expired.setOfferStartTime(START);
+		expired.setOfferExpiresAt(Instant.now().minus(1, ChronoUnit.MINUTES));
+		WaitlistEntry next = getEntry(21L);
+		when(entryRepository.findAll(Mockito.<Specification<WaitlistEntry>>any())).thenReturn(List.of(expired));
+		when(entryRepository.findOne(Mockito.<Specification<WaitlistEntry>>any()))
+			.thenReturn(Optional.of(expired))
+			.thenReturn(Optional.of(next));
+		when(entryRepository.patch(eq(20L), anyMap(), any())).thenReturn(1, 0);
+		WaitlistIndex.Queued skipped = queued(20L);
+		when(waitlistIndex.poll(1L, 4L, 2L, START)).thenReturn(skipped, queued(21L));
+		when(slotHoldService.holdSlot(eq(1L), any(SlotHoldRequestDTO.class), eq(Duration.ofMinutes(30))))
+			.thenReturn(SlotHoldResponseDTO.builder()
+				.id("next-hold")
+				.employeeId(2L)
+				.startTime(START)
+				.expiresAt(Instant.now().plus(30, ChronoUnit.MINUTES))
+				.build());
+
+		assertThat(waitlistService.expireOffers()).isEqualTo(1);
+		verify(entryRepository, times(1)).patch(eq(20L), argThat(changes ->
+			changes.get("status") == WaitlistEntryStatus.WAITING && changes.get("holdId") == null), any());
+		verify(waitlistIndex, times(1)).added(expired, 30);
+		verify(waitlistIndex, times(1)).restore(1L, skipped);
+		assertThat(next.getStatus()).isEqualTo(WaitlistEntryStatus.OFFERED);
+		assertThat(next.getHoldId()).isEqualTo("next-hold");
+
+		when(entryRepository.findOne(Mockito.<Specification<WaitlistEntry>>any())).thenReturn(Optional.of(expired));
+		assertThat(waitlistService.expireOffers()).isZero();
+		verify(waitlistIndex, times(1)).added(expired, 30);
+		verify(slotHoldService, times(1)).holdSlot(eq(1L), any(SlotHoldRequestDTO.class), any());
+	}
+
+	/**
+	 * Tests that requeueing an offered entry clears the offer and queues it again, and that
+	 * confirming the offered hold marks the entry as booked.
+	 */
+	@Test
+	void requeueAndConfirmTest() {
+		WaitlistEntry entry = getEntry(20L);
+		entry.setStatus(WaitlistEntryStatus.OFFERED);
+		entry.setHoldId("hold");
+		when(entryRepository.findOne(Mockito.<Specification<WaitlistEntry>>any())).thenReturn(Optional.of(entry));
+
+		WaitlistEntryResponseDTO response = waitlistService.requeueEntry(20L);
+
+		assertThat(response.getStatus()).isEqualTo(WaitlistEntryStatus.WAITING);
+		assertThat(response.getHoldId()).isNull();
+		verify(waitlistIndex, times(1)).added(entry, 30);
+
+		entry.setStatus(WaitlistEntryStatus.OFFERED);
+		waitlistService.holdConfirmed("hold");
+		assertThat(entry.getStatus()).isEqualTo(WaitlistEntryStatus.BOOKED);
+		verify(auditService, times(2)).publish(AuditAction.UPDATE, WaitlistEntry.class, 20L);
+	}
+
+	/**
+	 * Tests that deleting an entry removes it from the index, and that missing entries are rejected.
+	 */
+	@Test
+	void deleteEntryTest() {
+		WaitlistEntry entry = getEntry(20L);
+		when(entryRepository.findOne(Mockito.<Specification<WaitlistEntry>>any()))
+			.thenReturn(Optional.of(entry))
+			.thenReturn(Optional.empty());
+
+		waitlistService.deleteEntry(20L);
+
+		verify(entryRepository, times(1)).delete(entry);
+		verify(waitlistIndex, times(1)).removed(1L, 20L);
+		verify(auditService, times(1)).publish(AuditAction.DELETE, WaitlistEntry.class, 20L);
+		assertThrows(InvalidStateException.class, () -> waitlistService.deleteEntry(20L));
+	}
+
+	private WaitlistEntryRequestDTO getRequest(Instant windowStart, Instant windowEnd) {
+		return WaitlistEntryRequestDTO.builder()
+			.appointmentTypeId(4L)
+			.customerId(5L)
+			.windowStart(windowStart)
+			.windowEnd(windowEnd)
+			.build();
+	}
+
+	private WaitlistEntry getEntry(Long id) {
+		Customer customer = new Customer();
+		customer.setId(5L);
+		WaitlistEntry entry = WaitlistEntry.builder()
+			.firm(firm)
+			.appointmentType(appointmentType)
+			.customer(customer)
+			.windowStart(START)
+			.windowEnd(START.plus(2, ChronoUnit.HOURS))
+			.status(WaitlistEntryStatus.WAITING)
+			.build();
+		entry.setId(id);
+		return entry;
+	}
+
+	private Appointment getCancelled(Long id, Instant startTime) {
+		User employee = new User();
+		employee.setId(2L);
+		Appointment appointment = Appointment.builder()
+			.firm(firm)
+			.employee(employee)
+			.appointmentType(appointmentType)
+			.startTime(startTime)
+			.endTime(startTime.plus(30, ChronoUnit.MINUTES))
+			.status(AppointmentStatus.CANCELLED)
+			.build();
+		appointment.setId(id);
+		return appointment;
+	}
+
+	private static WaitlistIndex.Queued queued(Long id) {
+		return new WaitlistIndex.Queued(id, 4L, null, 0, 0, 0);
+	}
+}
@@ -0,0 +1,283 @@
+package com.sinergy.chronosync.service;
+
+import com.sinergy.chronosync.config.ClosedDayCalendar;
+import com.sinergy.chronosync.dto.request.FirmClosureRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRangeRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingHoursRequestDTO;
+import com.sinergy.chronosync.dto.request.WorkingTimeRangeDTO;
+import com.sinergy.chronosync.dto.response.WorkingHoursResponseDTO;
+import com.sinergy.chronosync.dto.response.WorkingIntervalDTO;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.firm.Firm;
+import com.sinergy.chronosync.model.firm.FirmClosure;
+import com.sinergy.chronosync.model.user.User;
+import com.sinergy.chronosync.model.workingHours.WorkingHoursOverride;
+import com.sinergy.chronosync.model.workingHours.WorkingHoursTemplate;
+import com.sinergy.chronosync.repository.FirmClosureRepository;
+import com.sinergy.chronosync.repository.UserRepository;
+import com.sinergy.chronosync.repository.WorkingHoursOverrideRepository;
+import com.sinergy.chronosync.repository.WorkingHoursTemplateRepository;
+import com.sinergy.chronosync.service.impl.WorkingHoursServiceImpl;
+import com.sinergy.chronosync.util.SlotBitmap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link WorkingHoursServiceImpl}.
+ */
+class WorkingHoursServiceTest {
+
+	private static final Instant MONDAY = Instant.parse("2024-10-07T00:00:00Z");
+	private static final int SLOTS_PER_HOUR = 12;
+
+	@Mock
+	private WorkingHoursTemplateRepository templateRepository;
+
+	@Mock
+	private WorkingHoursOverrideRepository overrideRepository;
+
+	@Mock
+	private FirmClosureRepository closureRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private AuditService auditService;
+
+	private WorkingHoursServiceImpl workingHoursService;
+
+	private Firm firm;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		workingHoursService = createService(ZoneId.of("UTC"), true);
+
+		firm = new Firm();
+		firm.setId(1L);
+		when(userService.getAuthUserFirm()).thenReturn(firm);
+		when(userRepository.findOne(Mockito.<Specification<User>>any())).thenReturn(Optional.of(getUser(2L)));
+		when(userRepository.findAll(Mockito.<Specification<User>>any())).thenReturn(List.of(getUser(2L)));
+	}
+
+	/**
+	 * Tests that availability follows the weekly working hours, overrides and closures, and that
+	 * resolved weeks are served from the cache afterwards.
+	 */
+	@Test
+	void getAvailabilityTest() {
+		// Weekly hours 09:00-12:00 and 13:00-17:00 on Monday to Wednesday.
+		SlotBitmap week = new SlotBitmap(WorkingHoursTemplate.SLOTS_PER_WEEK);
+		for (int day = 0; day < 3; day++) {
+			week.occupy((day * 24 + 9) * SLOTS_PER_HOUR, (day * 24 + 12) * SLOTS_PER_HOUR);
+			week.occupy((day * 24 + 13) * SLOTS_PER_HOUR, (day * 24 + 17) * SLOTS_PER_HOUR);
+		}
+		when(templateRepository.findAll(Mockito.<Specification<WorkingHoursTemplate>>any())).thenReturn(List.of(
+			WorkingHoursTemplate.builder().employee(getUser(2L)).slots(week.toByteArray()).build()
+		));
+
+		// Tuesday only from 10:00 to 11:00.
+		SlotBitmap tuesday = new SlotBitmap(WorkingHoursTemplate.SLOTS_PER_DAY);
+		tuesday.occupy(10 * SLOTS_PER_HOUR, 11 * SLOTS_PER_HOUR);
+		when(overrideRepository.findAll(Mockito.<Specification<WorkingHoursOverride>>any())).thenReturn(List.of(
+			WorkingHoursOverride.builder().employee(getUser(2L)).workDate(LocalDate.parse("2024-10-08")).slots(tuesday.toByteArray()).build()
+		));
+
+		// Closed on Wednesday.
+		when(closureRepository.findAll(Mockito.<Specification<FirmClosure>>any())).thenReturn(List.of(
+			FirmClosure.builder().startDate(LocalDate.parse("2024-10-09")).endDate(LocalDate.parse("2024-10-09")).build()
+		));
+
+		for (int i = 0; i < 2; i++) {
+			Map<Long, SlotBitmap> availability = workingHoursService.getAvailability(1L, List.of(2L), MONDAY, MONDAY.plus(Duration.ofDays(3)));
+
+			SlotBitmap bitmap = availability.get(2L);
+			assertThat(bitmap.size()).isEqualTo(3 * 24 * SLOTS_PER_HOUR);
+			assertThat(bitmap.isFree(9 * SLOTS_PER_HOUR, 12 * SLOTS_PER_HOUR)).isTrue();
+			assertThat(bitmap.isOccupied(12 * SLOTS_PER_HOUR)).isTrue();
+			assertThat(bitmap.isFree(34 * SLOTS_PER_HOUR, 35 * SLOTS_PER_HOUR)).isTrue();
+			assertThat(bitmap.size() - bitmap.countOccupied()).isEqualTo(8 * SLOTS_PER_HOUR);
+		}
+
+		verify(templateRepository, times(1)).findAll(Mockito.<Specification<WorkingHoursTemplate>>any());
+		verify(overrideRepository, times(1)).findAll(Mockito.<Specification<WorkingHoursOverride>>any());
+		verify(closureRepository, times(1)).findAll(Mockito.<Specification<FirmClosure>>any());
+	}
+
+	/**
+	 * Tests that local working hours keep their local time across a daylight saving time change.
+	 */
+	@Test
+	void getAvailabilityDaylightSavingTest() {
+		WorkingHoursServiceImpl sarajevo = createService(ZoneId.of("Europe/Sarajevo"), true);
+		Instant friday = Instant.parse("2024-10-25T00:00:00Z");
+
+		SlotBitmap bitmap = sarajevo.getAvailability(1L, List.of(2L), friday, friday.plus(Duration.ofDays(4))).get(2L);
+
+		// 08:00 local is 06:00 UTC on Friday (UTC+2) and 07:00 UTC on Monday (UTC+1).
+		assertThat(bitmap.nextFree(0)).isEqualTo(6 * SLOTS_PER_HOUR);
+		assertThat(bitmap.nextOccupied(6 * SLOTS_PER_HOUR)).isEqualTo(14 * SLOTS_PER_HOUR);
+		assertThat(bitmap.nextFree(14 * SLOTS_PER_HOUR)).isEqualTo((3 * 24 + 7) * SLOTS_PER_HOUR);
+		assertThat(bitmap.nextOccupied((3 * 24 + 7) * SLOTS_PER_HOUR)).isEqualTo((3 * 24 + 15) * SLOTS_PER_HOUR);
+	}
+
+	/**
+	 * Tests that weekly working hours are stored as a week bitmap and that the cached weeks
+	 * of the employee are resolved again afterwards.
+	 */
+	@Test
+	void updateWorkingHoursTest() {
+		when(templateRepository.save(any(WorkingHoursTemplate.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		workingHoursService.getAvailability(1L, List.of(2L), MONDAY, MONDAY.plus(Duration.ofDays(1)));
+		assertThat(workingHoursService.cacheSize()).isEqualTo(1);
+
+		WorkingHoursResponseDTO response = workingHoursService.updateWorkingHours(WorkingHoursRequestDTO.builder()
+			.employeeId(2L)
+			.days(Map.of(
+				DayOfWeek.MONDAY, List.of(range("09:00", "12:30")),
+				DayOfWeek.SUNDAY, List.of(range("22:00", "00:00"))
+			))
+			.build());
+
+		ArgumentCaptor<WorkingHoursTemplate> captor = ArgumentCaptor.forClass(WorkingHoursTemplate.class);
+		verify(templateRepository).save(captor.capture());
+		SlotBitmap week = SlotBitmap.fromByteArray(captor.getValue().getSlots(), WorkingHoursTemplate.SLOTS_PER_WEEK);
+		assertThat(captor.getValue().getSlots()).hasSize(WorkingHoursTemplate.BYTES);
+		assertThat(week.countOccupied()).isEqualTo(42 + 24);
+		assertThat(week.isOccupied(WorkingHoursTemplate.SLOTS_PER_WEEK - 1)).isTrue();
+
+		assertThat(response.isDefaultHours()).isFalse();
+		assertThat(response.getDays().get(DayOfWeek.MONDAY)).containsExactly(range("09:00", "12:30"));
+		assertThat(response.getDays().get(DayOfWeek.SUNDAY)).containsExactly(range("22:00", "00:00"));
+		assertThat(response.getDays().get(DayOfWeek.TUESDAY)).isEmpty();
+		assertThat(workingHoursService.cacheSize()).isZero();
+	}
+
+	/**
+	 * Tests that time ranges not aligned to five minutes or inverted are rejected.
+	 */
+	@Test
+	void updateWorkingHoursInvalidRangeTest() {
+		assertThrows(InvalidStateException.class, () -> workingHoursService.updateWorkingHours(WorkingHoursRequestDTO.builder()
+			.employeeId(2L)
+			.days(Map.of(DayOfWeek.MONDAY, List.of(range("09:02", "12:00"))))
+			.build()));
+		assertThrows(InvalidStateException.class, () -> workingHoursService.updateWorkingHours(WorkingHoursRequestDTO.builder()
+			.employeeId(2L)
+			.days(Map.of(DayOfWeek.MONDAY, List.of(range("12:00", "09:00"))))
+			.build()));
+
+		verify(templateRepository, never()).save(any());
+	}
+
+	/**
+	 * Tests that bookings are checked against the working time only when the check is enabled.
+	 */
+	@Test
+	void validateWorkingTimeTest() {
+		assertDoesNotThrow(() -> workingHoursService.validateWorkingTime(
+			1L, 2L, MONDAY.plusSeconds(8 * 3600 + 60), MONDAY.plusSeconds(16 * 3600)
+		));
+		assertThrows(InvalidStateException.class, () -> workingHoursService.validateWorkingTime(
+			1L, 2L, MONDAY.plusSeconds(15 * 3600 + 45 * 60), MONDAY.plusSeconds(16 * 3600 + 60)
+		));
+
+		WorkingHoursServiceImpl disabled = createService(ZoneId.of("UTC"), false);
+		disabled.validateWorkingTime(1L, 2L, MONDAY, MONDAY.plusSeconds(3600));
+		verify(templateRepository, times(1)).findAll(Mockito.<Specification<WorkingHoursTemplate>>any());
+	}
+
+	/**
+	 * Tests that working intervals are clipped to the requested range.
+	 */
+	@Test
+	void getWorkingIntervalsTest() {
+		List<WorkingIntervalDTO> intervals = workingHoursService.getWorkingIntervals(WorkingHoursRangeRequestDTO.builder()
+			.from(MONDAY.plusSeconds(9 * 3600 + 2))
+			.to(MONDAY.plus(Duration.ofDays(2)))
+			.build());
+
+		assertThat(intervals).extracting(WorkingIntervalDTO::getStartTime).containsExactly(
+			MONDAY.plusSeconds(9 * 3600 + 2),
+			MONDAY.plusSeconds(32 * 3600)
+		);
+		assertThat(intervals).extracting(WorkingIntervalDTO::getEndTime).containsExactly(
+			MONDAY.plusSeconds(16 * 3600),
+			MONDAY.plusSeconds(40 * 3600)
+		);
+	}
+
+	/**
+	 * Tests that closures with inverted dates are rejected and that created closures are marked
+	 * closed without compiling the year again or dropping cached weeks.
+	 */
+	@Test
+	void createClosureTest() {
+		assertThrows(InvalidStateException.class, () -> workingHoursService.createClosure(FirmClosureRequestDTO.builder()
+			.startDate(LocalDate.parse("2024-10-09"))
+			.endDate(LocalDate.parse("2024-10-08"))
+			.build()));
+		verify(closureRepository, never()).save(any());
+
+		when(closureRepository.save(any(FirmClosure.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		workingHoursService.getAvailability(1L, List.of(2L), MONDAY, MONDAY.plus(Duration.ofDays(14)));
+		assertThat(workingHoursService.cacheSize()).isEqualTo(3);
+
+		workingHoursService.createClosure(FirmClosureRequestDTO.builder()
+			.startDate(LocalDate.parse("2024-10-14"))
+			.endDate(LocalDate.parse("2024-10-15"))
+			.description("Holiday")
+			.build());
+
+		SlotBitmap bitmap = workingHoursService.getAvailability(1L, List.of(2L), MONDAY, MONDAY.plus(Duration.ofDays(14))).get(2L);
+		assertThat(bitmap.isFree(8 * SLOTS_PER_HOUR, 16 * SLOTS_PER_HOUR)).isTrue();
+		assertThat(bitmap.isFree((7 * 24 + 8) * SLOTS_PER_HOUR, (7 * 24 + 9) * SLOTS_PER_HOUR)).isFalse();
+		assertThat(bitmap.isFree((8 * 24 + 8) * SLOTS_PER_HOUR, (8 * 24 + 9) * SLOTS_PER_HOUR)).isFalse();
+		assertThat(bitmap.isFree((9 * 24 + 8) * SLOTS_PER_HOUR, (9 * 24 + 16) * SLOTS_PER_HOUR)).isTrue();
+		assertThat(workingHoursService.cacheSize()).isEqualTo(3);
+		verify(closureRepository, times(1)).findAll(Mockito.<Specification<FirmClosure>>any());
+	}
+
+	private WorkingHoursServiceImpl createService(ZoneId timeZone, boolean enforceOnBooking) {
+		return new WorkingHoursServiceImpl(
+			templateRepository, overrideRepository, closureRepository, userRepository, userService, auditService,
+			new ClosedDayCalendar(closureRepository, Duration.ofMinutes(5)), timeZone, "08:00", "16:00", List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY,
+			DayOfWeek.FRIDAY), enforceOnBooking, 1000, Duration.ofMinutes(5)
+		);
+	}
+
+	private static WorkingTimeRangeDTO range(String startTime, String endTime) {
+		return new WorkingTimeRangeDTO(LocalTime.parse(startTime), LocalTime.parse(endTime));
+	}
+
+	private User getUser(Long id) {
+		User user = new User();
+		user.setId(id);
+		return user;
+	}
+}
@@ -0,0 +1,136 @@
+package com.sinergy.chronosync.util;
+
+import com.sinergy.chronosync.model.audit.AuditAction;
+import com.sinergy.chronosync.model.audit.AuditLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AuditJournal} and {@link AuditJournalReader}.
+ */
+class AuditJournalTest {
+
+	@TempDir
+	private Path directory;
+
+	/**
+	 * Tests that an appended entry is read back with all of its fields.
+	 */
+	@Test
+	void appendAndReadTest() {
+		Instant occurredAt = Instant.parse("2024-10-01T08:30:00.123456Z");
+
+		try (AuditJournal journal = new AuditJournal(directory, 64 * 1024)) {
+			journal.append(entry(AuditAction.CREATE, "jdoe", 42L, occurredAt));
+			journal.append(entry(AuditAction.LOGOUT, null, null, occurredAt));
+
+			List<AuditLog> entries = new ArrayList<>();
+			int read = new AuditJournalReader(journal, journal.currentSegmentIndex(), 0).read(10, entries);
+
+			assertThat(read).isEqualTo(2);
+			assertThat(entries.getFirst()).isEqualTo(entry(AuditAction.CREATE, "jdoe", 42L, occurredAt));
+			assertThat(entries.get(1)).isEqualTo(entry(AuditAction.LOGOUT, null, null, occurredAt));
+		}
+	}
+
+	/**
+	 * Tests that entries appended concurrently across several segments are all read exactly once,
+	 * and that the reader resumes from its position.
+	 */
+	@Test
+	void concurrentAppendWithRolloverTest() throws InterruptedException {
+		int threads = 8;
+		int entriesPerThread = 500;
+
+		try (AuditJournal journal = new AuditJournal(directory, 100 * AuditJournal.RECORD_SIZE, Duration.ZERO)) {
+			long firstSegment = journal.currentSegmentIndex();
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			for (int thread = 0; thread < threads; thread++) {
+				long userId = thread;
+				executor.submit(() -> {
+					for (int i = 0; i < entriesPerThread; i++) {
+						journal.append(entry(AuditAction.UPDATE, "user" + userId, (long) i, Instant.now()));
+					}
+				});
+			}
+			executor.shutdown();
+			assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+			AuditJournalReader reader = new AuditJournalReader(journal, firstSegment, 0);
+			List<AuditLog> entries = new ArrayList<>();
+			while (reader.read(333, entries) > 0) {
+				// keep reading in batches across segments
+			}
+
+			assertThat(entries).hasSize(threads * entriesPerThread);
+			assertThat(entries.stream().map(entry -> entry.getUsername() + ":" + entry.getEntityId()).distinct())
+				.hasSize(threads * entriesPerThread);
+			assertThat(journal.currentSegmentIndex() - firstSegment).isGreaterThanOrEqualTo(39);
+
+			journal.append(entry(AuditAction.DELETE, "jdoe", 1L, Instant.now()));
+			entries.clear();
+			assertThat(reader.read(10, entries)).isEqualTo(1);
+		}
+	}
+
+	/**
+	 * Tests that a reopened journal continues in a new segment after the existing ones.
+	 */
+	@Test
+	void reopenStartsNewSegmentTest() {
+		long firstSegment;
+		try (AuditJournal journal = new AuditJournal(directory, 64 * 1024)) {
+			firstSegment = journal.currentSegmentIndex();
+			journal.append(entry(AuditAction.LOGIN, "jdoe", 1L, Instant.now()));
+		}
+
+		try (AuditJournal journal = new AuditJournal(directory, 64 * 1024, Duration.ZERO)) {
+			assertThat(journal.currentSegmentIndex()).isEqualTo(firstSegment + 1);
+			journal.append(entry(AuditAction.LOGOUT, "jdoe", 1L, Instant.now()));
+
+			List<AuditLog> entries = new ArrayList<>();
+			new AuditJournalReader(journal, firstSegment, 0).read(10, entries);
+
+			assertThat(entries).extracting(AuditLog::getAction).containsExactly(AuditAction.LOGIN, AuditAction.LOGOUT);
+		}
+	}
+
+	/**
+	 * Tests that usernames longer than the record field are truncated on a character boundary.
+	 */
+	@Test
+	void longUsernameTruncatedTest() {
+		String username = "ž".repeat(100);
+
+		try (AuditJournal journal = new AuditJournal(directory, 64 * 1024)) {
+			journal.append(entry(AuditAction.LOGIN, username, 1L, Instant.now()));
+
+			List<AuditLog> entries = new ArrayList<>();
+			new AuditJournalReader(journal, journal.currentSegmentIndex(), 0).read(1, entries);
+
+			assertThat(entries.getFirst().getUsername()).isEqualTo("ž".repeat(84));
+		}
+	}
+
+	private static AuditLog entry(AuditAction action, String username, Long entityId, Instant occurredAt) {
+		return AuditLog.builder()
+			.action(action)
+			.username(username)
+			.entityType("User")
+			.entityId(entityId)
+			.occurredAt(occurredAt.truncatedTo(ChronoUnit.MICROS))
+			.build();
+	}
+}
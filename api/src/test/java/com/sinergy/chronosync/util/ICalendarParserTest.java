@@ -0,0 +1,70 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the {@link ICalendarParser} class.
+ */
+class ICalendarParserTest {
+
+	/**
+	 * Tests that all-day, multi-day, timed, recurring and cancelled events are read correctly.
+	 */
+	@Test
+	void parseTest() {
+		String content = String.join("\r\n",
+			"BEGIN:VCALENDAR",
+			"VERSION:2.0",
+			"PRODID:-//Test//Holidays//EN",
+			"BEGIN:VEVENT",
+			"UID:new-year",
+			"SUMMARY:New Year\\, day one",
+			"DTSTART;VALUE=DATE:20250101",
+			"DTEND;VALUE=DATE:20250103",
+			"RRULE:FREQ=YEARLY",
+			"END:VEVENT",
+			"BEGIN:VEVENT",
+			"UID:statehood",
+			"SUMMARY:Statehood",
+			"  Day",
+			"DTSTART;TZID=Europe/Sarajevo:20251125T000000",
+			"END:VEVENT",
+			"BEGIN:VEVENT",
+			"UID:cancelled",
+			"DTSTART;VALUE=DATE:20250501",
+			"STATUS:CANCELLED",
+			"END:VEVENT",
+			"END:VCALENDAR");
+
+		List<ICalendarParser.Event> events = ICalendarParser.parse(content);
+
+		assertThat(events).hasSize(2);
+		assertThat(events.get(0).getUid()).isEqualTo("new-year");
+		assertThat(events.get(0).getSummary()).isEqualTo("New Year, day one");
+		assertThat(events.get(0).getStartDate()).isEqualTo(LocalDate.of(2025, 1, 1));
+		assertThat(events.get(0).getEndDate()).isEqualTo(LocalDate.of(2025, 1, 2));
+		assertThat(events.get(0).getRecurrenceRule()).isEqualTo("FREQ=YEARLY");
+		assertThat(events.get(1).getSummary()).isEqualTo("Statehood Day");
+		assertThat(events.get(1).getStartDate()).isEqualTo(LocalDate.of(2025, 11, 25));
+		assertThat(events.get(1).getEndDate()).isEqualTo(LocalDate.of(2025, 11, 25));
+		assertThat(events.get(1).getRecurrenceRule()).isNull();
+	}
+
+	/**
+	 * Tests that content which is not a calendar or has malformed events is rejected.
+	 */
+	@Test
+	void parseInvalidTest() {
+		for (String content : List.of("", "hello", "BEGIN:VCALENDAR\nBEGIN:VEVENT\nDTSTART:2025\nEND:VEVENT",
+			"BEGIN:VCALENDAR\nBEGIN:VEVENT\nSUMMARY:No start\nEND:VEVENT", "BEGIN:VCALENDAR\nBEGIN:VEVENT",
+			"BEGIN:VCALENDAR\nno colon")) {
+			assertThrows(IllegalArgumentException.class, () -> ICalendarParser.parse(content), content);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Memory and latency benchmark of the {@link IntervalIndex} class.
+ *
+ * <p>Indexes 100 000 appointments of 50 employees and reports the retained heap per
+ * 10 000 appointments and the average overlap check time. Heap measurements need a
+ * quiet JVM, so the benchmark only runs on request:</p>
+ *
+ * <pre>mvn test -Dtest=IntervalIndexMemoryBenchmarkTest -Dbenchmark=true</pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IntervalIndexMemoryBenchmarkTest {
+
+	private static final int EMPLOYEES = 50;
+	private static final int APPOINTMENTS = 100_000;
+	private static final int CHECKS = 1_000_000;
+
+	/**
+	 * Measures the retained heap of the index and the overlap check latency.
+	 */
+	@Test
+	void memoryBenchmark() {
+		long before = usedHeap();
+
+		IntervalIndex index = new IntervalIndex();
+		long[] next = new long[EMPLOYEES];
+		for (int id = 0; id < APPOINTMENTS; id++) {
+			int employee = id % EMPLOYEES;
+			index.add(employee, id, next[employee], next[employee] + 30);
+			next[employee] += 45;
+		}
+
+		long bytes = usedHeap() - before;
+		System.out.printf("Interval index: %d appointments, %d bytes per 10k appointments%n",
+			index.size(), bytes * 10_000 / APPOINTMENTS);
+
+		Random random = new Random(1);
+		int conflicts = 0;
+		long started = System.nanoTime();
+		for (int i = 0; i < CHECKS; i++) {
+			long start = random.nextInt(APPOINTMENTS / EMPLOYEES * 45);
+			if (index.overlaps(random.nextInt(EMPLOYEES), start, start + 30)) {
+				conflicts++;
+			}
+		}
+		System.out.printf("Interval index: %d ns per overlap check%n", (System.nanoTime() - started) / CHECKS);
+
+		assertThat(conflicts).isPositive();
+		assertThat(index.size()).isEqualTo(APPOINTMENTS);
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,79 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link IntervalIndex} class.
+ */
+class IntervalIndexTest {
+
+	/**
+	 * Tests that half-open intervals overlap only when they share time, and only within the same key.
+	 */
+	@Test
+	void overlapsTest() {
+		IntervalIndex index = new IntervalIndex();
+		index.add(1, 10, 100, 130);
+		index.add(1, 11, 200, 230);
+
+		assertThat(index.overlaps(1, 70, 100)).isFalse();
+		assertThat(index.overlaps(1, 129, 140)).isTrue();
+		assertThat(index.overlaps(1, 130, 200)).isFalse();
+		assertThat(index.overlaps(1, 120, 210)).isTrue();
+		assertThat(index.overlaps(1, 230, 300)).isFalse();
+		assertThat(index.overlaps(2, 100, 130)).isFalse();
+	}
+
+	/**
+	 * Tests that a long interval is found even when shorter intervals start after it.
+	 */
+	@Test
+	void overlapsNestedTest() {
+		IntervalIndex index = new IntervalIndex();
+		index.add(1, 10, 0, 1000);
+		index.add(1, 11, 100, 110);
+
+		assertThat(index.overlaps(1, 500, 510)).isTrue();
+
+		index.remove(1, 10);
+		assertThat(index.overlaps(1, 500, 510)).isFalse();
+	}
+
+	/**
+	 * Tests that intervals are removed by ID, with or without the key, and re-adding an ID replaces it.
+	 */
+	@Test
+	void removeTest() {
+		IntervalIndex index = new IntervalIndex();
+		index.add(1, 10, 100, 130);
+		index.add(2, 11, 100, 130);
+		index.add(2, 11, 300, 330);
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.overlaps(2, 100, 130)).isFalse();
+
+		assertThat(index.remove(11)).isTrue();
+		assertThat(index.remove(11)).isFalse();
+		assertThat(index.remove(2, 10)).isFalse();
+		assertThat(index.remove(1, 10)).isTrue();
+		assertThat(index.size()).isZero();
+	}
+
+	/**
+	 * Tests that ended intervals are pruned and the remaining ones are still found.
+	 */
+	@Test
+	void removeEndedBeforeTest() {
+		IntervalIndex index = new IntervalIndex();
+		index.add(1, 10, 0, 1000);
+		index.add(1, 11, 100, 110);
+		index.add(1, 12, 1100, 1110);
+
+		assertThat(index.removeEndedBefore(1000)).isEqualTo(2);
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(index.overlaps(1, 500, 510)).isFalse();
+		assertThat(index.overlaps(1, 1105, 1200)).isTrue();
+	}
+}
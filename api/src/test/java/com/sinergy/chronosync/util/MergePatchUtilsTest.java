@@ -0,0 +1,72 @@
+package com.sinergy.chronosync.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sinergy.chronosync.exception.InvalidStateException;
+import com.sinergy.chronosync.model.appointmentType.Currency;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link MergePatchUtils} class.
+ *
+ * <p>Tests conversion of merge patch documents into attribute changes, including
+ * type conversion, explicit nulls and rejection of invalid documents.</p>
+ */
+class MergePatchUtilsTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private static final Map<String, Class<?>> PATCHABLE_FIELDS = Map.of(
+		"name", String.class,
+		"durationMinutes", Integer.class,
+		"currency", Currency.class
+	);
+
+	/**
+	 * Tests the {@link MergePatchUtils#toChanges(JsonNode, Map)} method with a valid document.
+	 *
+	 * <p>Verifies that only present fields are returned, converted to their declared types,
+	 * and that explicit nulls are preserved.</p>
+	 */
+	@Test
+	void toChangesTest() throws Exception {
+		JsonNode patch = OBJECT_MAPPER.readTree("{\"durationMinutes\": 45, \"currency\": \"EUR\", \"name\": null}");
+
+		Map<String, Object> changes = MergePatchUtils.toChanges(patch, PATCHABLE_FIELDS);
+
+		assertEquals(3, changes.size());
+		assertEquals(45, changes.get("durationMinutes"));
+		assertEquals(Currency.EUR, changes.get("currency"));
+		assertTrue(changes.containsKey("name"));
+		assertNull(changes.get("name"));
+	}
+
+	/**
+	 * Tests the {@link MergePatchUtils#toChanges(JsonNode, Map)} method with invalid documents.
+	 *
+	 * <p>Verifies that non-object documents, unknown fields and values of the wrong type are rejected.</p>
+	 */
+	@Test
+	void toChangesInvalidDocumentTest() throws Exception {
+		assertThrows(
+			InvalidStateException.class,
+			() -> MergePatchUtils.toChanges(OBJECT_MAPPER.readTree("[]"), PATCHABLE_FIELDS)
+		);
+		assertThrows(
+			InvalidStateException.class,
+			() -> MergePatchUtils.toChanges(OBJECT_MAPPER.readTree("{\"firm\": 1}"), PATCHABLE_FIELDS)
+		);
+		assertThrows(
+			InvalidStateException.class,
+			() -> MergePatchUtils.toChanges(OBJECT_MAPPER.readTree("{\"currency\": \"XYZ\"}"), PATCHABLE_FIELDS)
+		);
+		assertThrows(
+			InvalidStateException.class,
+			() -> MergePatchUtils.toChanges(OBJECT_MAPPER.readTree("{\"name\": {\"a\": 1}}"), PATCHABLE_FIELDS)
+		);
+	}
+}
@@ -0,0 +1,50 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link OccurrenceWindowCache} class.
+ */
+class OccurrenceWindowCacheTest {
+
+	/**
+	 * Tests that windows are only returned for the revision they were expanded from,
+	 * and that windows of an outdated revision are not stored.
+	 */
+	@Test
+	void revisionTest() {
+		OccurrenceWindowCache cache = new OccurrenceWindowCache(10, 10);
+		long[] occurrences = {100, 100};
+
+		cache.put(1, 0, 5, occurrences);
+		assertThat(cache.get(1, 0, 5)).isSameAs(occurrences);
+		assertThat(cache.get(1, 1, 5)).isNull();
+
+		cache.put(1, 1, 5, new long[0]);
+		cache.put(1, 0, 6, occurrences);
+		assertThat(cache.get(1, 1, 5)).isEmpty();
+		assertThat(cache.get(1, 0, 6)).isNull();
+		assertThat(cache.get(1, 1, 6)).isNull();
+
+		cache.invalidate(1);
+		assertThat(cache.get(1, 1, 5)).isNull();
+	}
+
+	/**
+	 * Tests that the least recently used owners are evicted.
+	 */
+	@Test
+	void evictionTest() {
+		OccurrenceWindowCache cache = new OccurrenceWindowCache(2, 10);
+		cache.put(1, 0, 0, new long[0]);
+		cache.put(2, 0, 0, new long[0]);
+		cache.get(1, 0, 0);
+		cache.put(3, 0, 0, new long[0]);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(1, 0, 0)).isNotNull();
+		assertThat(cache.get(2, 0, 0)).isNull();
+	}
+}
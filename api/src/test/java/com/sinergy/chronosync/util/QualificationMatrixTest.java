@@ -0,0 +1,102 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link QualificationMatrix}.
+ */
+class QualificationMatrixTest {
+
+	/**
+	 * Tests that only restricted types limit the employees, and that the rows of several types
+	 * are combined so that an employee must be qualified for all of them.
+	 */
+	@Test
+	void filterTest() {
+		QualificationMatrix matrix = QualificationMatrix.of(List.of(
+			new long[]{1, 10}, new long[]{1, 20}, new long[]{1, 30},
+			new long[]{2, 20}, new long[]{2, 40}
+		));
+
+		assertThat(matrix.isRestricted(1)).isTrue();
+		assertThat(matrix.isRestricted(3)).isFalse();
+		assertThat(matrix.isQualified(1, 10)).isTrue();
+		assertThat(matrix.isQualified(2, 10)).isFalse();
+		assertThat(matrix.isQualified(3, 99)).isTrue();
+		assertThat(matrix.filter(List.of(1L), List.of(50L, 30L, 10L, 40L))).containsExactly(10L, 30L);
+		assertThat(matrix.filter(List.of(1L, 2L), List.of(10L, 20L, 30L, 40L))).containsExactly(20L);
+		assertThat(matrix.filter(List.of(3L), List.of(50L, 10L, 50L))).containsExactly(10L, 50L);
+		assertThat(matrix.columns()).isEqualTo(4);
+	}
+
+	/**
+	 * Tests that changes return new matrices and leave the original unchanged.
+	 */
+	@Test
+	void withAndWithoutTest() {
+		QualificationMatrix matrix = QualificationMatrix.EMPTY.with(1, 10);
+		QualificationMatrix extended = matrix.with(1, 20).with(2, 20);
+
+		assertThat(matrix.isQualified(1, 20)).isFalse();
+		assertThat(extended.filter(List.of(1L), List.of(10L, 20L, 30L))).containsExactly(10L, 20L);
+		assertThat(extended.with(1, 10)).isSameAs(extended);
+		assertThat(extended.without(1, 30)).isSameAs(extended);
+
+		QualificationMatrix reduced = extended.without(1, 20);
+
+		assertThat(reduced.isQualified(1, 20)).isFalse();
+		assertThat(extended.isQualified(1, 20)).isTrue();
+		assertThat(reduced.isQualified(1, 10)).isTrue();
+		assertThat(QualificationMatrix.EMPTY.isRestricted(1)).isFalse();
+	}
+
+	/**
+	 * Tests that revoking the last qualification of a type leaves it restricted to nobody, unlike
+	 * a type that was never restricted, and that only such an empty restriction can be lifted.
+	 */
+	@Test
+	void revokeLastQualificationTest() {
+		QualificationMatrix revoked = QualificationMatrix.EMPTY.with(1, 10).with(2, 20).without(1, 10);
+
+		assertThat(revoked.isRestricted(1)).isTrue();
+		assertThat(revoked.isQualified(1, 10)).isFalse();
+		assertThat(revoked.filter(List.of(1L), List.of(10L, 20L))).isEmpty();
+		assertThat(revoked.isQualified(3, 10)).isTrue();
+		assertThat(revoked.filter(List.of(3L), List.of(20L, 10L))).containsExactly(10L, 20L);
+
+		QualificationMatrix compiled = QualificationMatrix.of(List.of(new long[]{2, 20}), List.of(1L));
+		assertThat(compiled.isRestricted(1)).isTrue();
+		assertThat(compiled.isQualified(1, 20)).isFalse();
+		assertThat(compiled.with(1, 20).isQualified(1, 20)).isTrue();
+
+		assertThat(revoked.unrestricted(2)).isSameAs(revoked);
+		assertThat(revoked.unrestricted(1).isQualified(1, 10)).isTrue();
+		assertThat(QualificationMatrix.EMPTY.restricted(1).isQualified(1, 10)).isFalse();
+	}
+
+	/**
+	 * Tests that rows spanning several words are combined, including rows of types whose
+	 * employees were given columns at different times.
+	 */
+	@Test
+	void filterManyEmployeesTest() {
+		List<long[]> qualifications = new ArrayList<>();
+		LongStream.range(0, 200).forEach(employeeId -> qualifications.add(new long[]{1, employeeId}));
+		LongStream.range(0, 200).filter(employeeId -> employeeId % 3 == 0).forEach(employeeId -> qualifications.add(new long[]{2, employeeId}));
+		QualificationMatrix matrix = QualificationMatrix.of(qualifications).with(2, 500).with(1, 500);
+
+		List<Long> candidates = LongStream.rangeClosed(120, 500).boxed().toList();
+
+		assertThat(matrix.filter(List.of(1L, 2L), candidates))
+			.hasSize(28)
+			.startsWith(120L, 123L)
+			.endsWith(198L, 500L);
+		assertThat(matrix.filter(List.of(1L), candidates)).hasSize(81);
+	}
+}
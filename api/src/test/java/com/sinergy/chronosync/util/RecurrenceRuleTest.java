@@ -0,0 +1,124 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the {@link RecurrenceRule} class.
+ */
+class RecurrenceRuleTest {
+
+	private static final ZoneId SARAJEVO = ZoneId.of("Europe/Sarajevo");
+
+	/**
+	 * Tests that weekly rules produce the given days of every other week, up to the count.
+	 */
+	@Test
+	void weeklyCountTest() {
+		RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=WEEKLY;INTERVAL=2;BYDAY=TH,MO;COUNT=5");
+		ZonedDateTime start = ZonedDateTime.of(2024, 10, 10, 9, 0, 0, 0, SARAJEVO);
+
+		assertThat(rule.toString()).isEqualTo("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH;COUNT=5");
+		assertThat(dates(rule.iterator(start))).containsExactly(
+			"2024-10-10", "2024-10-21", "2024-10-24", "2024-11-04", "2024-11-07"
+		);
+	}
+
+	/**
+	 * Tests that occurrences keep their local time across a daylight saving change.
+	 */
+	@Test
+	void daylightSavingTest() {
+		RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;UNTIL=20241105T000000Z");
+		ZonedDateTime start = ZonedDateTime.of(2024, 10, 21, 9, 0, 0, 0, SARAJEVO);
+
+		List<ZonedDateTime> occurrences = new ArrayList<>();
+		rule.iterator(start).forEachRemaining(occurrences::add);
+
+		assertThat(occurrences).hasSize(3);
+		assertThat(occurrences).allMatch(occurrence -> occurrence.toLocalTime().equals(LocalTime.of(9, 0)));
+		assertThat(occurrences.get(0).toInstant()).isEqualTo(Instant.parse("2024-10-21T07:00:00Z"));
+		assertThat(occurrences.get(2).toInstant()).isEqualTo(Instant.parse("2024-11-04T08:00:00Z"));
+	}
+
+	/**
+	 * Tests that monthly rules skip months without the day of month of the first occurrence.
+	 */
+	@Test
+	void monthlyTest() {
+		RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;COUNT=4");
+		ZonedDateTime start = ZonedDateTime.of(2024, 1, 31, 9, 0, 0, 0, SARAJEVO);
+
+		assertThat(dates(rule.iterator(start))).containsExactly("2024-01-31", "2024-03-31", "2024-05-31", "2024-07-31");
+	}
+
+	/**
+	 * Tests that yearly rules skip years without the day of the first occurrence.
+	 */
+	@Test
+	void yearlyTest() {
+		RecurrenceRule rule = RecurrenceRule.parse("FREQ=YEARLY;UNTIL=20330101");
+		ZonedDateTime start = ZonedDateTime.of(2024, 2, 29, 0, 0, 0, 0, SARAJEVO);
+
+		assertThat(dates(rule.iterator(start))).containsExactly("2024-02-29", "2028-02-29", "2032-02-29");
+		assertThat(dates(rule.iterator(start, Instant.parse("2025-01-01T00:00:00Z")))).containsExactly("2028-02-29", "2032-02-29");
+	}
+
+	/**
+	 * Tests that starting the iteration later yields the same occurrences as walking the whole
+	 * series, for rules with and without a count.
+	 */
+	@Test
+	void iteratorFromTest() {
+		ZonedDateTime start = ZonedDateTime.of(2024, 1, 31, 9, 0, 0, 0, SARAJEVO);
+		Instant from = Instant.parse("2026-03-04T12:00:00Z");
+
+		for (String value : List.of("FREQ=DAILY;INTERVAL=3", "FREQ=WEEKLY;INTERVAL=3;BYDAY=MO,WE,SU",
+			"FREQ=MONTHLY;INTERVAL=5", "FREQ=YEARLY;INTERVAL=2", "FREQ=WEEKLY;BYDAY=WE;COUNT=200")) {
+			RecurrenceRule rule = RecurrenceRule.parse(value);
+			ZonedDateTime ruleStart = rule.matchesStart(start) ? start : start.plusDays(5);
+
+			List<ZonedDateTime> expected = new ArrayList<>();
+			for (Iterator<ZonedDateTime> iterator = rule.iterator(ruleStart); iterator.hasNext() && expected.size() < 10; ) {
+				ZonedDateTime occurrence = iterator.next();
+				if (!occurrence.toInstant().isBefore(from)) {
+					expected.add(occurrence);
+				}
+			}
+
+			List<ZonedDateTime> actual = new ArrayList<>();
+			for (Iterator<ZonedDateTime> iterator = rule.iterator(ruleStart, from); iterator.hasNext() && actual.size() < 10; ) {
+				actual.add(iterator.next());
+			}
+
+			assertThat(actual).as(value).isNotEmpty().isEqualTo(expected);
+		}
+	}
+
+	/**
+	 * Tests that malformed and unsupported rules are rejected.
+	 */
+	@Test
+	void parseInvalidTest() {
+		for (String value : List.of("", "INTERVAL=2", "FREQ=HOURLY", "FREQ=DAILY;BYDAY=MO", "FREQ=WEEKLY;BYDAY=XX",
+			"FREQ=DAILY;COUNT=0", "FREQ=DAILY;COUNT=2;UNTIL=20250101", "FREQ=DAILY;BYMONTH=1", "FREQ")) {
+			assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse(value), value);
+		}
+	}
+
+	private static List<String> dates(Iterator<ZonedDateTime> iterator) {
+		List<String> dates = new ArrayList<>();
+		iterator.forEachRemaining(occurrence -> dates.add(occurrence.toLocalDate().toString()));
+		return dates;
+	}
+}
@@ -0,0 +1,133 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the {@link SlotBitmap} class.
+ */
+class SlotBitmapTest {
+
+	/**
+	 * Tests that occupying and releasing ranges spanning several words updates exactly the range.
+	 */
+	@Test
+	void occupyAndReleaseTest() {
+		SlotBitmap bitmap = new SlotBitmap(200);
+
+		bitmap.occupy(60, 140);
+		bitmap.release(64, 128);
+
+		assertThat(bitmap.countOccupied()).isEqualTo(16);
+		assertThat(bitmap.isOccupied(59)).isFalse();
+		assertThat(bitmap.isOccupied(60)).isTrue();
+		assertThat(bitmap.isOccupied(63)).isTrue();
+		assertThat(bitmap.isOccupied(64)).isFalse();
+		assertThat(bitmap.isOccupied(139)).isTrue();
+		assertThat(bitmap.isOccupied(140)).isFalse();
+		assertThat(bitmap.nextOccupied(64)).isEqualTo(128);
+		assertThat(bitmap.nextFree(128)).isEqualTo(140);
+		assertThat(bitmap.isFree(64, 128)).isTrue();
+		assertThat(bitmap.isFree(64, 129)).isFalse();
+	}
+
+	/**
+	 * Tests that ranges outside the bitmap are clamped and scans stop at its end.
+	 */
+	@Test
+	void boundsTest() {
+		SlotBitmap bitmap = new SlotBitmap(70);
+
+		bitmap.occupy(-10, 5);
+		bitmap.occupy(65, 100);
+
+		assertThat(bitmap.countOccupied()).isEqualTo(10);
+		assertThat(bitmap.nextOccupied(5)).isEqualTo(65);
+		assertThat(bitmap.nextFree(65)).isEqualTo(70);
+		assertThat(bitmap.isFree(60, 71)).isFalse();
+	}
+
+	/**
+	 * Tests that free ranges are found across word boundaries, only at aligned starts
+	 * and only when long enough.
+	 */
+	@Test
+	void forEachFreeRangeTest() {
+		SlotBitmap bitmap = new SlotBitmap(192);
+		bitmap.occupy(0, 192);
+		bitmap.release(58, 76);
+		bitmap.release(100, 105);
+
+		List<Integer> starts = new ArrayList<>();
+		bitmap.forEachFreeRange(6, 3, starts::add);
+
+		assertThat(starts).containsExactly(60, 63, 66, 69);
+	}
+
+	/**
+	 * Tests that a copy does not share state with the original bitmap.
+	 */
+	@Test
+	void copyTest() {
+		SlotBitmap bitmap = new SlotBitmap(64);
+		bitmap.occupy(0, 8);
+
+		SlotBitmap copy = new SlotBitmap(bitmap);
+		copy.occupy(8, 16);
+
+		assertThat(bitmap.countOccupied()).isEqualTo(8);
+		assertThat(copy.countOccupied()).isEqualTo(16);
+	}
+
+	/**
+	 * Tests that intersecting and merging bitmaps combines their occupied slots word by word.
+	 */
+	@Test
+	void andOrTest() {
+		SlotBitmap first = new SlotBitmap(130);
+		first.occupy(10, 100);
+		SlotBitmap second = new SlotBitmap(130);
+		second.occupy(60, 120);
+
+		SlotBitmap both = new SlotBitmap(first);
+		both.and(second);
+		SlotBitmap either = new SlotBitmap(first);
+		either.or(second);
+
+		assertThat(both.nextOccupied(0)).isEqualTo(60);
+		assertThat(both.nextFree(60)).isEqualTo(100);
+		assertThat(either.nextOccupied(0)).isEqualTo(10);
+		assertThat(either.nextFree(10)).isEqualTo(120);
+		assertThrows(IllegalArgumentException.class, () -> first.and(new SlotBitmap(64)));
+	}
+
+	/**
+	 * Tests that the byte encoding round-trips and ignores bits beyond the size.
+	 */
+	@Test
+	void byteArrayTest() {
+		SlotBitmap bitmap = new SlotBitmap(100);
+		bitmap.occupy(3, 9);
+		bitmap.occupy(62, 67);
+		bitmap.occupy(99, 100);
+
+		byte[] bytes = bitmap.toByteArray();
+		assertThat(bytes).hasSize(13);
+		assertThat(bytes[0]).isEqualTo((byte) 0b11111000);
+
+		SlotBitmap decoded = SlotBitmap.fromByteArray(bytes, 100);
+		assertThat(decoded.countOccupied()).isEqualTo(12);
+		assertThat(decoded.nextOccupied(10)).isEqualTo(62);
+		assertThat(decoded.nextFree(62)).isEqualTo(67);
+		assertThat(decoded.isOccupied(99)).isTrue();
+
+		SlotBitmap truncated = SlotBitmap.fromByteArray(new byte[]{-1, -1}, 12);
+		assertThat(truncated.countOccupied()).isEqualTo(12);
+		assertThat(SlotBitmap.fromByteArray(new byte[0], 12).countOccupied()).isZero();
+	}
+}
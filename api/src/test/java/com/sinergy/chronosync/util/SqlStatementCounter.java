@@ -0,0 +1,45 @@
+package com.sinergy.chronosync.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate statement inspector that records every SQL statement sent to the database.
+ *
+ * <p>Registered through {@code hibernate.session_factory.statement_inspector} in the test
+ * profile, it allows tests to assert the exact number of statements a use case executes.</p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+	private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Records the statement and returns it unchanged.
+	 *
+	 * @param sql {@link String} SQL statement about to be prepared
+	 * @return {@link String} the same SQL statement
+	 */
+	@Override
+	public String inspect(String sql) {
+		STATEMENTS.add(sql);
+		return sql;
+	}
+
+	/**
+	 * Clears all recorded statements.
+	 */
+	public static void reset() {
+		STATEMENTS.clear();
+	}
+
+	/**
+	 * Returns the statements recorded since the last reset.
+	 *
+	 * @return {@link List<String>} recorded statements in execution order
+	 */
+	public static List<String> statements() {
+		return List.copyOf(STATEMENTS);
+	}
+}
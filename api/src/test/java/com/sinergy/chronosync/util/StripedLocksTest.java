@@ -0,0 +1,93 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the {@link StripedLocks} class.
+ */
+class StripedLocksTest {
+
+	/**
+	 * Tests that the number of stripes is rounded up to a power of two.
+	 */
+	@Test
+	void sizeTest() {
+		assertThat(new StripedLocks(1).size()).isEqualTo(1);
+		assertThat(new StripedLocks(1000).size()).isEqualTo(1024);
+		assertThat(new StripedLocks(1024).size()).isEqualTo(1024);
+		assertThrows(IllegalArgumentException.class, () -> new StripedLocks(0));
+	}
+
+	/**
+	 * Tests that stripes of several keys are returned sorted and without duplicates,
+	 * and that sequential keys are spread over the stripes.
+	 */
+	@Test
+	void stripesOfTest() {
+		StripedLocks locks = new StripedLocks(64);
+
+		int[] stripes = locks.stripesOf(5, 3, 5, 1);
+		assertThat(stripes).isSorted().doesNotHaveDuplicates();
+		assertThat(stripes).hasSizeBetween(1, 3);
+		assertThat(LongStream.range(0, 64).mapToObj(key -> locks.stripesOf(key)[0]).distinct().count())
+			.isGreaterThan(32);
+	}
+
+	/**
+	 * Tests that a locked stripe cannot be taken by another thread until it is released,
+	 * while other stripes can.
+	 */
+	@Test
+	void tryLockTest() throws Exception {
+		StripedLocks locks = new StripedLocks(1024);
+		int[] first = locks.stripesOf(1);
+		int[] other = locks.stripesOf(LongStream.range(2, 100).filter(key -> locks.stripesOf(key)[0] != first[0]).findFirst().orElseThrow());
+
+		assertThat(locks.tryLock(first, 0, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(locks.isLocked(1)).isTrue();
+
+		assertThat(CompletableFuture.supplyAsync(() -> tryLockAndRelease(locks, first)).get()).isFalse();
+		assertThat(CompletableFuture.supplyAsync(() -> tryLockAndRelease(locks, other)).get()).isTrue();
+
+		locks.unlock(first);
+		assertThat(locks.isLocked(1)).isFalse();
+		assertThat(CompletableFuture.supplyAsync(() -> tryLockAndRelease(locks, first)).get()).isTrue();
+	}
+
+	/**
+	 * Tests that no stripe stays locked when only some of the requested stripes could be taken.
+	 */
+	@Test
+	void tryLockAllOrNothingTest() throws Exception {
+		StripedLocks locks = new StripedLocks(16);
+		int[] both = locks.stripesOf(LongStream.range(0, 100).toArray());
+		int[] last = {both[both.length - 1]};
+
+		assertThat(locks.tryLock(last, 0, TimeUnit.MILLISECONDS)).isTrue();
+		assertThat(CompletableFuture.supplyAsync(() -> tryLockAndRelease(locks, both)).get()).isFalse();
+		locks.unlock(last);
+
+		for (int stripe : both) {
+			assertThat(CompletableFuture.supplyAsync(() -> tryLockAndRelease(locks, new int[]{stripe})).get()).isTrue();
+		}
+	}
+
+	private static boolean tryLockAndRelease(StripedLocks locks, int[] stripes) {
+		try {
+			if (!locks.tryLock(stripes, 10, TimeUnit.MILLISECONDS)) {
+				return false;
+			}
+			locks.unlock(stripes);
+			return true;
+		} catch (InterruptedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
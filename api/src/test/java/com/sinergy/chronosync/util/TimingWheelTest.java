@@ -0,0 +1,62 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link TimingWheel} class.
+ */
+class TimingWheelTest {
+
+	/**
+	 * Tests that items expire exactly after their number of ticks, including items
+	 * scheduled further ahead than one turn of the wheel.
+	 */
+	@Test
+	void advanceTest() {
+		TimingWheel<String> wheel = new TimingWheel<>(4);
+		wheel.schedule("one", 1);
+		wheel.schedule("four", 4);
+		wheel.schedule("five", 5);
+		wheel.schedule("nine", 9);
+
+		List<List<String>> expired = new ArrayList<>();
+		for (int tick = 0; tick < 9; tick++) {
+			List<String> items = new ArrayList<>();
+			wheel.advance(items::add);
+			expired.add(items);
+		}
+
+		assertThat(expired.get(0)).containsExactly("one");
+		assertThat(expired.get(3)).containsExactly("four");
+		assertThat(expired.get(4)).containsExactly("five");
+		assertThat(expired.get(8)).containsExactly("nine");
+		assertThat(expired.stream().mapToInt(List::size).sum()).isEqualTo(4);
+		assertThat(wheel.size()).isZero();
+	}
+
+	/**
+	 * Tests that cancelled items do not expire and cannot be cancelled twice.
+	 */
+	@Test
+	void cancelTest() {
+		TimingWheel<String> wheel = new TimingWheel<>(8);
+		TimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 2);
+		TimingWheel.Timeout<String> kept = wheel.schedule("kept", 2);
+
+		assertThat(cancelled.cancel()).isTrue();
+		assertThat(cancelled.cancel()).isFalse();
+		assertThat(wheel.size()).isEqualTo(1);
+
+		List<String> expired = new ArrayList<>();
+		wheel.advance(expired::add);
+		wheel.advance(expired::add);
+
+		assertThat(expired).containsExactly("kept");
+		assertThat(kept.cancel()).isFalse();
+	}
+}
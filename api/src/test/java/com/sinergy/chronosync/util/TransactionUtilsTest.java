@@ -0,0 +1,44 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the {@link TransactionUtils} class.
+ */
+class TransactionUtilsTest {
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	/**
+	 * Tests the {@link TransactionUtils#afterCommit(Runnable)} method.
+	 *
+	 * <p>Verifies that the action runs immediately without a transaction, and only once the
+	 * transaction commits otherwise.</p>
+	 */
+	@Test
+	void testAfterCommit() {
+		AtomicInteger runs = new AtomicInteger();
+
+		TransactionUtils.afterCommit(runs::incrementAndGet);
+		assertEquals(1, runs.get());
+
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionUtils.afterCommit(runs::incrementAndGet);
+		assertEquals(1, runs.get());
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		assertEquals(2, runs.get());
+	}
+}
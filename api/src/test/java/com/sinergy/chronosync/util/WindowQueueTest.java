@@ -0,0 +1,88 @@
+package com.sinergy.chronosync.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the {@link WindowQueue} class.
+ */
+class WindowQueueTest {
+
+	/**
+	 * Tests that the best ranked window containing a point is returned, ties broken by ID,
+	 * and that closed windows contain both of their ends.
+	 */
+	@Test
+	void peekTest() {
+		WindowQueue queue = new WindowQueue();
+		queue.add(10, 0, 100, 200);
+		queue.add(11, -5, 150, 160);
+		queue.add(12, 0, 50, 120);
+
+		assertThat(queue.peek(49)).isEmpty();
+		assertThat(queue.peek(50)).hasValue(12);
+		assertThat(queue.peek(110)).hasValue(10);
+		assertThat(queue.peek(150)).hasValue(11);
+		assertThat(queue.peek(160)).hasValue(11);
+		assertThat(queue.peek(161)).hasValue(10);
+		assertThat(queue.peek(200)).hasValue(10);
+		assertThat(queue.peek(201)).isEmpty();
+		assertThat(queue.peek(-1)).isEmpty();
+	}
+
+	/**
+	 * Tests that polling removes the returned entry and that re-adding an ID replaces its window.
+	 */
+	@Test
+	void pollTest() {
+		WindowQueue queue = new WindowQueue();
+		queue.add(10, 0, 100, 200);
+		queue.add(11, 1, 100, 200);
+		queue.add(11, 1, 300, 400);
+
+		assertThat(queue.poll(150)).hasValue(10);
+		assertThat(queue.poll(150)).isEmpty();
+		assertThat(queue.poll(350)).hasValue(11);
+		assertThat(queue.size()).isZero();
+		assertThat(queue.remove(11)).isFalse();
+		assertThrows(IllegalArgumentException.class, () -> queue.add(12, 0, 200, 100));
+		assertThrows(IllegalArgumentException.class, () -> queue.add(12, 0, 0, 1L << WindowQueue.BITS));
+	}
+
+	/**
+	 * Tests random windows against a linear scan.
+	 */
+	@Test
+	void randomTest() {
+		WindowQueue queue = new WindowQueue();
+		List<long[]> windows = new ArrayList<>();
+		Random random = new Random(42);
+		for (int id = 0; id < 500; id++) {
+			long from = 29_000_000 + random.nextInt(10_000);
+			long[] window = {id, random.nextInt(10), from, from + random.nextInt(2_000)};
+			windows.add(window);
+			queue.add(window[0], window[1], window[2], window[3]);
+		}
+		for (int id = 0; id < 500; id += 3) {
+			queue.remove(id);
+		}
+		windows.removeIf(window -> window[0] % 3 == 0);
+
+		for (int i = 0; i < 1000; i++) {
+			long point = 29_000_000 + random.nextInt(12_000);
+			OptionalLong expected = windows.stream()
+				.filter(window -> window[2] <= point && point <= window[3])
+				.min((a, b) -> a[1] != b[1] ? Long.compare(a[1], b[1]) : Long.compare(a[0], b[0]))
+				.map(window -> OptionalLong.of(window[0]))
+				.orElse(OptionalLong.empty());
+			assertThat(queue.peek(point)).isEqualTo(expected);
+		}
+	}
+}